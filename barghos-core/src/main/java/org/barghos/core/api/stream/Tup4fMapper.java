@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.api.stream;
+
+import org.barghos.core.api.tuple4.Tup4fR;
+import org.barghos.core.api.tuple4.Tup4fRW;
+
+/**
+ * This is a functional interface for mapping a 4-dimensional float tuple to another one without allocating.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public interface Tup4fMapper
+{
+	/**
+	 * Maps the tuple t and writes the mapped components to result.
+	 * The tuples t and result are never the same instance.
+	 * 
+	 * @param t The tuple to map.
+	 * @param result The tuple receiving the mapped components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	void map(Tup4fR t, Tup4fRW result);
+}
\ No newline at end of file
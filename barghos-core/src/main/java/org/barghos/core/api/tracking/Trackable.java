@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.api.tracking;
+
+/**
+ * This interface grants access to the change tracking state of a mutable object.
+ * 
+ * <p>
+ * Every tracked modification increments the version and marks the object as dirty.
+ * A consumer can either compare versions or clear the dirty flag after processing the changes.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public interface Trackable
+{
+	/**
+	 * Returns the version of the object. The version is incremented on every tracked modification.
+	 * 
+	 * @return The version.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	long getVersion();
+	
+	/**
+	 * Returns true if the object was modified since the dirty flag was cleared the last time.
+	 * 
+	 * @return True if the object is dirty.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	boolean isDirty();
+	
+	/**
+	 * Clears the dirty flag. The version is not changed.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	void clearDirty();
+	
+	/**
+	 * Marks the object as modified, as if a tracked modification happened.
+	 * This is used after modifications that can not be tracked, like direct field accesses.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	void markDirty();
+}
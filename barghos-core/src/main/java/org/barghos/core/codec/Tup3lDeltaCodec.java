@@ -0,0 +1,631 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.codec;
+
+import java.nio.ByteBuffer;
+
+import org.barghos.core.api.tuple3.Tup3lR;
+import org.barghos.core.api.tuple3.Tup3lW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class provides a streaming delta codec for sequences of 3-dimensional long tuples.
+ * 
+ * <p>
+ * Every tuple is encoded as the componentwise difference to the previous tuple of the sequence.
+ * The differences are zig-zag encoded, so small positive and negative differences become small unsigned values.
+ * In the varint mode each difference is written as varint (see {@link VarInts}).
+ * In the block mode (frame of reference) a block of tuples is written component by component.
+ * For every component the smallest zig-zag value of the block is written as reference, followed by the bit width
+ * and the bit packed offsets of all values to the reference.
+ * 
+ * <p>
+ * The {@link Encoder} and the {@link Decoder} keep the previous tuple as state, so a sequence can be encoded
+ * and decoded in pieces and the modes can be mixed, as long as both sides use the same order of calls.
+ * Neither of them allocates per element.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class Tup3lDeltaCodec
+{
+	/**
+	 * The maximum number of bytes of a single tuple in the varint mode.
+	 */
+	public static final int MAX_BYTES_TUPLE = 3 * VarInts.MAX_BYTES_LONG;
+	
+	private Tup3lDeltaCodec() { }
+	
+	/**
+	 * Returns the maximum number of bytes of a block of count tuples in the block mode.
+	 * 
+	 * @param count The number of tuples in the block.
+	 * 
+	 * @return The maximum number of bytes.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int maxBlockBytes(int count)
+	{
+		return VarInts.MAX_BYTES_INT + 3 * (VarInts.MAX_BYTES_LONG + 1 + count * 8);
+	}
+	
+	/**
+	 * This class encodes a sequence of tuples into byte buffers.
+	 * 
+	 * <p>
+	 * If a buffer has not enough space, a {@link java.nio.BufferOverflowException} is thrown and the encoder
+	 * is left in an undefined state. Check the remaining space against {@link #MAX_BYTES_TUPLE}
+	 * or {@link #maxBlockBytes(int)} beforehand.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static final class Encoder
+	{
+		/**
+		 * The x component of the previous tuple.
+		 */
+		private long x;
+		
+		/**
+		 * The y component of the previous tuple.
+		 */
+		private long y;
+		
+		/**
+		 * The z component of the previous tuple.
+		 */
+		private long z;
+		
+		/**
+		 * Encodes the tuple as delta to the previous tuple into the buffer at its current position
+		 * and advances the position.
+		 * 
+		 * @param buffer The buffer to write to.
+		 * @param t The tuple to encode.
+		 * 
+		 * @return The buffer.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public ByteBuffer encode(ByteBuffer buffer, Tup3lR t)
+		{
+			if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+			{
+				if(buffer == null) throw new ArgumentNullException("buffer");
+				if(t == null) throw new ArgumentNullException("t");
+			}
+			
+			return encode(buffer, t.getX(), t.getY(), t.getZ());
+		}
+		
+		/**
+		 * Encodes the tuple as delta to the previous tuple into the buffer at its current position
+		 * and advances the position.
+		 * 
+		 * @param buffer The buffer to write to.
+		 * @param x The x component of the tuple to encode.
+		 * @param y The y component of the tuple to encode.
+		 * @param z The z component of the tuple to encode.
+		 * 
+		 * @return The buffer.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public ByteBuffer encode(ByteBuffer buffer, long x, long y, long z)
+		{
+			if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+			{
+				if(buffer == null) throw new ArgumentNullException("buffer");
+			}
+			
+			VarInts.putVarLong(buffer, VarInts.zigZag(x - this.x));
+			VarInts.putVarLong(buffer, VarInts.zigZag(y - this.y));
+			VarInts.putVarLong(buffer, VarInts.zigZag(z - this.z));
+			
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			
+			return buffer;
+		}
+		
+		/**
+		 * Encodes the tuples of the array t in the range of offset to offset + length in the varint mode
+		 * into the buffer at its current position and advances the position.
+		 * 
+		 * @param buffer The buffer to write to.
+		 * @param t The tuples to encode.
+		 * @param offset The index of the first tuple to encode.
+		 * @param length The number of tuples to encode.
+		 * 
+		 * @return The buffer.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public ByteBuffer encode(ByteBuffer buffer, Tup3lR[] t, int offset, int length)
+		{
+			if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+			{
+				if(buffer == null) throw new ArgumentNullException("buffer");
+				if(t == null) throw new ArgumentNullException("t");
+			}
+			
+			int end = offset + length;
+			
+			for(int i = offset; i < end; i++)
+			{
+				Tup3lR current = t[i];
+				encode(buffer, current.getX(), current.getY(), current.getZ());
+			}
+			
+			return buffer;
+		}
+		
+		/**
+		 * Encodes the tuples of the interleaved array (t1.x, t1.y, t1.z, t2.x, ...) in the range of from to to
+		 * in the varint mode into the buffer at its current position and advances the position.
+		 * 
+		 * @param buffer The buffer to write to.
+		 * @param v The interleaved components.
+		 * @param from The index of the first tuple.
+		 * @param to The index after the last tuple.
+		 * 
+		 * @return The buffer.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public ByteBuffer encode(ByteBuffer buffer, long[] v, int from, int to)
+		{
+			if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+			{
+				if(buffer == null) throw new ArgumentNullException("buffer");
+				if(v == null) throw new ArgumentNullException("v");
+			}
+			
+			for(int i = from; i < to; i++)
+				encode(buffer, v[i * 3 + 0], v[i * 3 + 1], v[i * 3 + 2]);
+			
+			return buffer;
+		}
+		
+		/**
+		 * Encodes the tuples of the interleaved array (t1.x, t1.y, t1.z, t2.x, ...) in the range of from to to
+		 * as one block in the bit packed frame of reference mode into the buffer at its current position
+		 * and advances the position. The block has to be decoded with {@link Decoder#decodeBlock(ByteBuffer, long[], int)}.
+		 * 
+		 * @param buffer The buffer to write to.
+		 * @param v The interleaved components.
+		 * @param from The index of the first tuple.
+		 * @param to The index after the last tuple.
+		 * 
+		 * @return The buffer.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public ByteBuffer encodeBlock(ByteBuffer buffer, long[] v, int from, int to)
+		{
+			if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+			{
+				if(buffer == null) throw new ArgumentNullException("buffer");
+				if(v == null) throw new ArgumentNullException("v");
+			}
+			
+			VarInts.putVarInt(buffer, to - from);
+			
+			if(to <= from) return buffer;
+			
+			for(int c = 0; c < 3; c++)
+			{
+				long prev = getPrevious(c);
+				long min = -1L;
+				long max = 0;
+				
+				for(int i = from; i < to; i++)
+				{
+					long value = v[i * 3 + c];
+					long zz = VarInts.zigZag(value - prev);
+					prev = value;
+					
+					if(Long.compareUnsigned(zz, min) < 0) min = zz;
+					if(Long.compareUnsigned(zz, max) > 0) max = zz;
+				}
+				
+				int width = 64 - Long.numberOfLeadingZeros(max - min);
+				
+				VarInts.putVarLong(buffer, min);
+				buffer.put((byte)width);
+				
+				long lowMask = width >= 32 ? 0xFFFFFFFFL : (1L << width) - 1;
+				long acc = 0;
+				int filled = 0;
+				
+				prev = getPrevious(c);
+				
+				if(width > 0)
+				{
+					for(int i = from; i < to; i++)
+					{
+						long current = v[i * 3 + c];
+						long value = VarInts.zigZag(current - prev) - min;
+						prev = current;
+						
+						int lowWidth = Math.min(width, 32);
+						
+						acc |= (value & 0xFFFFFFFFL & lowMask) << filled;
+						filled += lowWidth;
+						
+						while(filled >= 8)
+						{
+							buffer.put((byte)acc);
+							acc >>>= 8;
+							filled -= 8;
+						}
+						
+						if(width > 32)
+						{
+							acc |= (value >>> 32) << filled;
+							filled += width - 32;
+							
+							while(filled >= 8)
+							{
+								buffer.put((byte)acc);
+								acc >>>= 8;
+								filled -= 8;
+							}
+						}
+					}
+					
+					if(filled > 0) buffer.put((byte)acc);
+				}
+				
+				setPrevious(c, v[(to - 1) * 3 + c]);
+			}
+			
+			return buffer;
+		}
+		
+		/**
+		 * Resets the previous tuple to zero. The encoder has to be reset at the same point of the sequence
+		 * as its counterpart.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public void reset()
+		{
+			this.x = 0;
+			this.y = 0;
+			this.z = 0;
+		}
+		
+		/**
+		 * Returns the component of the previous tuple.
+		 * 
+		 * @param c The index of the component.
+		 * 
+		 * @return The component.
+		 */
+		private long getPrevious(int c)
+		{
+			switch(c)
+			{
+				case 0: return this.x;
+				case 1: return this.y;
+				case 2: return this.z;
+				default: throw new IndexOutOfBoundsException(Integer.toString(c));
+			}
+		}
+		
+		/**
+		 * Sets the component of the previous tuple.
+		 * 
+		 * @param c The index of the component.
+		 * @param value The new component.
+		 */
+		private void setPrevious(int c, long value)
+		{
+			switch(c)
+			{
+				case 0: this.x = value; break;
+				case 1: this.y = value; break;
+				case 2: this.z = value; break;
+				default: throw new IndexOutOfBoundsException(Integer.toString(c));
+			}
+		}
+		
+		@Override
+		public String toString()
+		{
+			return "tup3ldeltacodec.encoder(" + "x=" + this.x + ", " + "y=" + this.y + ", " + "z=" + this.z + ")";
+		}
+	}
+	
+	/**
+	 * This class decodes a sequence of tuples from byte buffers.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static final class Decoder
+	{
+		/**
+		 * The x component of the previous tuple.
+		 */
+		private long x;
+		
+		/**
+		 * The y component of the previous tuple.
+		 */
+		private long y;
+		
+		/**
+		 * The z component of the previous tuple.
+		 */
+		private long z;
+		
+		/**
+		 * Decodes the next tuple from the buffer at its current position into the tuple result
+		 * and advances the position.
+		 * 
+		 * @param <T> The type of the result tuple.
+		 * @param buffer The buffer to read from.
+		 * @param result The tuple receiving the decoded components.
+		 * 
+		 * @return The tuple result.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public <T extends Tup3lW> T decode(ByteBuffer buffer, T result)
+		{
+			if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+			{
+				if(buffer == null) throw new ArgumentNullException("buffer");
+				if(result == null) throw new ArgumentNullException("result");
+			}
+			
+			next(buffer);
+			
+			result.set(this.x, this.y, this.z);
+			
+			return result;
+		}
+		
+		/**
+		 * Decodes the next tuples from the buffer at its current position into the tuples of the array t
+		 * in the range of offset to offset + length and advances the position.
+		 * 
+		 * @param buffer The buffer to read from.
+		 * @param t The tuples receiving the decoded components.
+		 * @param offset The index of the first tuple to decode into.
+		 * @param length The number of tuples to decode.
+		 * 
+		 * @return The array t.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public Tup3lW[] decode(ByteBuffer buffer, Tup3lW[] t, int offset, int length)
+		{
+			if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+			{
+				if(buffer == null) throw new ArgumentNullException("buffer");
+				if(t == null) throw new ArgumentNullException("t");
+			}
+			
+			int end = offset + length;
+			
+			for(int i = offset; i < end; i++)
+			{
+				next(buffer);
+				
+				t[i].set(this.x, this.y, this.z);
+			}
+			
+			return t;
+		}
+		
+		/**
+		 * Decodes the next tuples from the buffer at its current position into the interleaved array
+		 * (t1.x, t1.y, t1.z, t2.x, ...) in the range of from to to and advances the position.
+		 * 
+		 * @param buffer The buffer to read from.
+		 * @param v The interleaved components.
+		 * @param from The index of the first tuple.
+		 * @param to The index after the last tuple.
+		 * 
+		 * @return The array v.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public long[] decode(ByteBuffer buffer, long[] v, int from, int to)
+		{
+			if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+			{
+				if(buffer == null) throw new ArgumentNullException("buffer");
+				if(v == null) throw new ArgumentNullException("v");
+			}
+			
+			for(int i = from; i < to; i++)
+			{
+				next(buffer);
+				
+				v[i * 3 + 0] = this.x;
+				v[i * 3 + 1] = this.y;
+				v[i * 3 + 2] = this.z;
+			}
+			
+			return v;
+		}
+		
+		/**
+		 * Decodes the next block written by {@link Encoder#encodeBlock(ByteBuffer, long[], int, int)} from the buffer
+		 * at its current position into the interleaved array (t1.x, t1.y, t1.z, t2.x, ...) starting at the tuple index from
+		 * and advances the position.
+		 * 
+		 * @param buffer The buffer to read from.
+		 * @param v The interleaved components.
+		 * @param from The index of the first tuple.
+		 * 
+		 * @return The number of decoded tuples.
+		 * 
+		 * @throws IndexOutOfBoundsException If the array is too small for the block.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public int decodeBlock(ByteBuffer buffer, long[] v, int from)
+		{
+			if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+			{
+				if(buffer == null) throw new ArgumentNullException("buffer");
+				if(v == null) throw new ArgumentNullException("v");
+			}
+			
+			int count = VarInts.getVarInt(buffer);
+			int to = from + count;
+			
+			if(count == 0) return 0;
+			
+			if(from < 0 || count < 0 || to * 3 > v.length) throw new IndexOutOfBoundsException("Block of " + count + " tuples does not fit at index " + from + ".");
+			
+			for(int c = 0; c < 3; c++)
+			{
+				long min = VarInts.getVarLong(buffer);
+				int width = buffer.get();
+				
+				long lowMask = width >= 32 ? 0xFFFFFFFFL : (1L << width) - 1;
+				long highMask = width == 64 ? 0xFFFFFFFFL : (1L << Math.max(width - 32, 0)) - 1;
+				long acc = 0;
+				int filled = 0;
+				
+				long prev = getPrevious(c);
+				
+				for(int i = from; i < to; i++)
+				{
+					long value = 0;
+					
+					if(width > 0)
+					{
+						int lowWidth = Math.min(width, 32);
+						
+						while(filled < lowWidth)
+						{
+							acc |= (long)(buffer.get() & 0xFF) << filled;
+							filled += 8;
+						}
+						
+						value = acc & lowMask;
+						acc >>>= lowWidth;
+						filled -= lowWidth;
+						
+						if(width > 32)
+						{
+							while(filled < width - 32)
+							{
+								acc |= (long)(buffer.get() & 0xFF) << filled;
+								filled += 8;
+							}
+							
+							value |= (acc & highMask) << 32;
+							acc >>>= width - 32;
+							filled -= width - 32;
+						}
+					}
+					
+					prev += VarInts.unZigZag(value + min);
+					v[i * 3 + c] = prev;
+				}
+				
+				setPrevious(c, prev);
+			}
+			
+			return count;
+		}
+		
+		/**
+		 * Decodes the next tuple in the varint mode into the previous tuple.
+		 * 
+		 * @param buffer The buffer to read from.
+		 */
+		private void next(ByteBuffer buffer)
+		{
+			this.x += VarInts.unZigZag(VarInts.getVarLong(buffer));
+			this.y += VarInts.unZigZag(VarInts.getVarLong(buffer));
+			this.z += VarInts.unZigZag(VarInts.getVarLong(buffer));
+		}
+		
+		/**
+		 * Resets the previous tuple to zero. The decoder has to be reset at the same point of the sequence
+		 * as its counterpart.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public void reset()
+		{
+			this.x = 0;
+			this.y = 0;
+			this.z = 0;
+		}
+		
+		/**
+		 * Returns the component of the previous tuple.
+		 * 
+		 * @param c The index of the component.
+		 * 
+		 * @return The component.
+		 */
+		private long getPrevious(int c)
+		{
+			switch(c)
+			{
+				case 0: return this.x;
+				case 1: return this.y;
+				case 2: return this.z;
+				default: throw new IndexOutOfBoundsException(Integer.toString(c));
+			}
+		}
+		
+		/**
+		 * Sets the component of the previous tuple.
+		 * 
+		 * @param c The index of the component.
+		 * @param value The new component.
+		 */
+		private void setPrevious(int c, long value)
+		{
+			switch(c)
+			{
+				case 0: this.x = value; break;
+				case 1: this.y = value; break;
+				case 2: this.z = value; break;
+				default: throw new IndexOutOfBoundsException(Integer.toString(c));
+			}
+		}
+		
+		@Override
+		public String toString()
+		{
+			return "tup3ldeltacodec.decoder(" + "x=" + this.x + ", " + "y=" + this.y + ", " + "z=" + this.z + ")";
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,8730 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+
+import org.barghos.core.api.tuple2.Tup2bR;
+import org.barghos.core.api.tuple2.Tup2bW;
+import org.barghos.core.api.tuple2.Tup2bigdR;
+import org.barghos.core.api.tuple2.Tup2bigdW;
+import org.barghos.core.api.tuple2.Tup2bigiR;
+import org.barghos.core.api.tuple2.Tup2bigiW;
+import org.barghos.core.api.tuple2.Tup2boR;
+import org.barghos.core.api.tuple2.Tup2boW;
+import org.barghos.core.api.tuple2.Tup2cR;
+import org.barghos.core.api.tuple2.Tup2cW;
+import org.barghos.core.api.tuple2.Tup2dR;
+import org.barghos.core.api.tuple2.Tup2dW;
+import org.barghos.core.api.tuple2.Tup2fR;
+import org.barghos.core.api.tuple2.Tup2fW;
+import org.barghos.core.api.tuple2.Tup2iR;
+import org.barghos.core.api.tuple2.Tup2iW;
+import org.barghos.core.api.tuple2.Tup2lR;
+import org.barghos.core.api.tuple2.Tup2lW;
+import org.barghos.core.api.tuple2.Tup2sR;
+import org.barghos.core.api.tuple2.Tup2sW;
+import org.barghos.core.api.tuple2.Tup2strR;
+import org.barghos.core.api.tuple2.Tup2strW;
+import org.barghos.core.api.tuple3.Tup3bR;
+import org.barghos.core.api.tuple3.Tup3bW;
+import org.barghos.core.api.tuple3.Tup3bigdR;
+import org.barghos.core.api.tuple3.Tup3bigdW;
+import org.barghos.core.api.tuple3.Tup3bigiR;
+import org.barghos.core.api.tuple3.Tup3bigiW;
+import org.barghos.core.api.tuple3.Tup3boR;
+import org.barghos.core.api.tuple3.Tup3boW;
+import org.barghos.core.api.tuple3.Tup3cR;
+import org.barghos.core.api.tuple3.Tup3cW;
+import org.barghos.core.api.tuple3.Tup3dR;
+import org.barghos.core.api.tuple3.Tup3dW;
+import org.barghos.core.api.tuple3.Tup3fR;
+import org.barghos.core.api.tuple3.Tup3fW;
+import org.barghos.core.api.tuple3.Tup3iR;
+import org.barghos.core.api.tuple3.Tup3iW;
+import org.barghos.core.api.tuple3.Tup3lR;
+import org.barghos.core.api.tuple3.Tup3lW;
+import org.barghos.core.api.tuple3.Tup3sR;
+import org.barghos.core.api.tuple3.Tup3sW;
+import org.barghos.core.api.tuple3.Tup3strR;
+import org.barghos.core.api.tuple3.Tup3strW;
+import org.barghos.core.api.tuple4.Tup4bR;
+import org.barghos.core.api.tuple4.Tup4bW;
+import org.barghos.core.api.tuple4.Tup4bigdR;
+import org.barghos.core.api.tuple4.Tup4bigdW;
+import org.barghos.core.api.tuple4.Tup4bigiR;
+import org.barghos.core.api.tuple4.Tup4bigiW;
+import org.barghos.core.api.tuple4.Tup4boR;
+import org.barghos.core.api.tuple4.Tup4boW;
+import org.barghos.core.api.tuple4.Tup4cR;
+import org.barghos.core.api.tuple4.Tup4cW;
+import org.barghos.core.api.tuple4.Tup4dR;
+import org.barghos.core.api.tuple4.Tup4dW;
+import org.barghos.core.api.tuple4.Tup4fR;
+import org.barghos.core.api.tuple4.Tup4fW;
+import org.barghos.core.api.tuple4.Tup4iR;
+import org.barghos.core.api.tuple4.Tup4iW;
+import org.barghos.core.api.tuple4.Tup4lR;
+import org.barghos.core.api.tuple4.Tup4lW;
+import org.barghos.core.api.tuple4.Tup4sR;
+import org.barghos.core.api.tuple4.Tup4sW;
+import org.barghos.core.api.tuple4.Tup4strR;
+import org.barghos.core.api.tuple4.Tup4strW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * Provides functions for writing tuples to and reading tuples from binary storage
+ * without going through the java serialization mechanism.
+ * 
+ * <p>
+ * All tuples are written componentwise in the order x, y, z, w without any header or type information.
+ * Tuples with primitive components use a fixed layout, so the byte size of a tuple is known in advance
+ * (see the <code>BYTES_*</code> constants). Booleans are stored as a single byte (0 or 1).
+ * Strings are stored as a length prefix (int) followed by the UTF-8 encoded bytes.
+ * Big integers are stored as a length prefix (int) followed by the two's complement bytes
+ * and big decimals as their unscaled value followed by the scale (int).
+ * A length prefix of -1 marks a null value.
+ * 
+ * <p>
+ * The {@link ByteBuffer} variants use the byte order of the buffer, while the {@link DataOutput} and
+ * {@link DataInput} variants always use big endian byte order as defined by these interfaces.
+ * The layout is otherwise identical.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class TupleCodec
+{
+	/**
+	 * The number of bytes a 2-dimensional byte tuple occupies.
+	 */
+	public static final int BYTES_TUP2B = 2;
+	
+	/**
+	 * The number of bytes a 2-dimensional short tuple occupies.
+	 */
+	public static final int BYTES_TUP2S = 4;
+	
+	/**
+	 * The number of bytes a 2-dimensional integer tuple occupies.
+	 */
+	public static final int BYTES_TUP2I = 8;
+	
+	/**
+	 * The number of bytes a 2-dimensional long tuple occupies.
+	 */
+	public static final int BYTES_TUP2L = 16;
+	
+	/**
+	 * The number of bytes a 2-dimensional float tuple occupies.
+	 */
+	public static final int BYTES_TUP2F = 8;
+	
+	/**
+	 * The number of bytes a 2-dimensional double tuple occupies.
+	 */
+	public static final int BYTES_TUP2D = 16;
+	
+	/**
+	 * The number of bytes a 2-dimensional char tuple occupies.
+	 */
+	public static final int BYTES_TUP2C = 4;
+	
+	/**
+	 * The number of bytes a 2-dimensional boolean tuple occupies.
+	 */
+	public static final int BYTES_TUP2BO = 2;
+	
+	/**
+	 * The number of bytes a 3-dimensional byte tuple occupies.
+	 */
+	public static final int BYTES_TUP3B = 3;
+	
+	/**
+	 * The number of bytes a 3-dimensional short tuple occupies.
+	 */
+	public static final int BYTES_TUP3S = 6;
+	
+	/**
+	 * The number of bytes a 3-dimensional integer tuple occupies.
+	 */
+	public static final int BYTES_TUP3I = 12;
+	
+	/**
+	 * The number of bytes a 3-dimensional long tuple occupies.
+	 */
+	public static final int BYTES_TUP3L = 24;
+	
+	/**
+	 * The number of bytes a 3-dimensional float tuple occupies.
+	 */
+	public static final int BYTES_TUP3F = 12;
+	
+	/**
+	 * The number of bytes a 3-dimensional double tuple occupies.
+	 */
+	public static final int BYTES_TUP3D = 24;
+	
+	/**
+	 * The number of bytes a 3-dimensional char tuple occupies.
+	 */
+	public static final int BYTES_TUP3C = 6;
+	
+	/**
+	 * The number of bytes a 3-dimensional boolean tuple occupies.
+	 */
+	public static final int BYTES_TUP3BO = 3;
+	
+	/**
+	 * The number of bytes a 4-dimensional byte tuple occupies.
+	 */
+	public static final int BYTES_TUP4B = 4;
+	
+	/**
+	 * The number of bytes a 4-dimensional short tuple occupies.
+	 */
+	public static final int BYTES_TUP4S = 8;
+	
+	/**
+	 * The number of bytes a 4-dimensional integer tuple occupies.
+	 */
+	public static final int BYTES_TUP4I = 16;
+	
+	/**
+	 * The number of bytes a 4-dimensional long tuple occupies.
+	 */
+	public static final int BYTES_TUP4L = 32;
+	
+	/**
+	 * The number of bytes a 4-dimensional float tuple occupies.
+	 */
+	public static final int BYTES_TUP4F = 16;
+	
+	/**
+	 * The number of bytes a 4-dimensional double tuple occupies.
+	 */
+	public static final int BYTES_TUP4D = 32;
+	
+	/**
+	 * The number of bytes a 4-dimensional char tuple occupies.
+	 */
+	public static final int BYTES_TUP4C = 8;
+	
+	/**
+	 * The number of bytes a 4-dimensional boolean tuple occupies.
+	 */
+	public static final int BYTES_TUP4BO = 4;
+	
+	/**
+	 * The maximum number of bytes allocated ahead of the data when reading a length prefixed value from an input.
+	 */
+	private static final int READ_CHUNK_SIZE = 8192;
+	
+	/**
+	 * This class contains only static methods and therefore it should not be possible to create
+	 * instances from it.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	private TupleCodec() { }
+	
+	/**
+	 * Writes the components of the 2-dimensional byte tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2b(ByteBuffer buffer, Tup2bR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(t.getX());
+		buffer.put(t.getY());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional byte tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2bW> T readTup2b(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		byte x = buffer.get();
+		byte y = buffer.get();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional byte tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2b(DataOutput out, Tup2bR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeByte(t.getX());
+		out.writeByte(t.getY());
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional byte tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2bW> T readTup2b(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		byte x = in.readByte();
+		byte y = in.readByte();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional byte tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2bArray(ByteBuffer buffer, Tup2bR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2bR current = t[i];
+			buffer.put(current.getX());
+			buffer.put(current.getY());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 2-dimensional byte tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2bW[] readTup2bArray(ByteBuffer buffer, Tup2bW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			byte x = buffer.get();
+			byte y = buffer.get();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional byte tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2bArray(DataOutput out, Tup2bR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2bR current = t[i];
+			out.writeByte(current.getX());
+			out.writeByte(current.getY());
+		}
+	}
+	
+	/**
+	 * Reads 2-dimensional byte tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2bW[] readTup2bArray(DataInput in, Tup2bW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			byte x = in.readByte();
+			byte y = in.readByte();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional short tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2s(ByteBuffer buffer, Tup2sR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putShort(t.getX());
+		buffer.putShort(t.getY());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional short tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2sW> T readTup2s(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		short x = buffer.getShort();
+		short y = buffer.getShort();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional short tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2s(DataOutput out, Tup2sR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeShort(t.getX());
+		out.writeShort(t.getY());
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional short tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2sW> T readTup2s(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		short x = in.readShort();
+		short y = in.readShort();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional short tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2sArray(ByteBuffer buffer, Tup2sR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2sR current = t[i];
+			buffer.putShort(current.getX());
+			buffer.putShort(current.getY());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 2-dimensional short tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2sW[] readTup2sArray(ByteBuffer buffer, Tup2sW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			short x = buffer.getShort();
+			short y = buffer.getShort();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional short tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2sArray(DataOutput out, Tup2sR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2sR current = t[i];
+			out.writeShort(current.getX());
+			out.writeShort(current.getY());
+		}
+	}
+	
+	/**
+	 * Reads 2-dimensional short tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2sW[] readTup2sArray(DataInput in, Tup2sW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			short x = in.readShort();
+			short y = in.readShort();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional integer tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2i(ByteBuffer buffer, Tup2iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putInt(t.getX());
+		buffer.putInt(t.getY());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional integer tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2iW> T readTup2i(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int x = buffer.getInt();
+		int y = buffer.getInt();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional integer tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2i(DataOutput out, Tup2iR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeInt(t.getX());
+		out.writeInt(t.getY());
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional integer tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2iW> T readTup2i(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int x = in.readInt();
+		int y = in.readInt();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional integer tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2iArray(ByteBuffer buffer, Tup2iR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2iR current = t[i];
+			buffer.putInt(current.getX());
+			buffer.putInt(current.getY());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 2-dimensional integer tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2iW[] readTup2iArray(ByteBuffer buffer, Tup2iW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			int x = buffer.getInt();
+			int y = buffer.getInt();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional integer tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2iArray(DataOutput out, Tup2iR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2iR current = t[i];
+			out.writeInt(current.getX());
+			out.writeInt(current.getY());
+		}
+	}
+	
+	/**
+	 * Reads 2-dimensional integer tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2iW[] readTup2iArray(DataInput in, Tup2iW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			int x = in.readInt();
+			int y = in.readInt();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional long tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2l(ByteBuffer buffer, Tup2lR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putLong(t.getX());
+		buffer.putLong(t.getY());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional long tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2lW> T readTup2l(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		long x = buffer.getLong();
+		long y = buffer.getLong();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional long tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2l(DataOutput out, Tup2lR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeLong(t.getX());
+		out.writeLong(t.getY());
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional long tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2lW> T readTup2l(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		long x = in.readLong();
+		long y = in.readLong();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional long tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2lArray(ByteBuffer buffer, Tup2lR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2lR current = t[i];
+			buffer.putLong(current.getX());
+			buffer.putLong(current.getY());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 2-dimensional long tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2lW[] readTup2lArray(ByteBuffer buffer, Tup2lW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			long x = buffer.getLong();
+			long y = buffer.getLong();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional long tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2lArray(DataOutput out, Tup2lR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2lR current = t[i];
+			out.writeLong(current.getX());
+			out.writeLong(current.getY());
+		}
+	}
+	
+	/**
+	 * Reads 2-dimensional long tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2lW[] readTup2lArray(DataInput in, Tup2lW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			long x = in.readLong();
+			long y = in.readLong();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional float tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2f(ByteBuffer buffer, Tup2fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putFloat(t.getX());
+		buffer.putFloat(t.getY());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional float tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2fW> T readTup2f(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		float x = buffer.getFloat();
+		float y = buffer.getFloat();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional float tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2f(DataOutput out, Tup2fR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeFloat(t.getX());
+		out.writeFloat(t.getY());
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional float tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2fW> T readTup2f(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		float x = in.readFloat();
+		float y = in.readFloat();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional float tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2fArray(ByteBuffer buffer, Tup2fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2fR current = t[i];
+			buffer.putFloat(current.getX());
+			buffer.putFloat(current.getY());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 2-dimensional float tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2fW[] readTup2fArray(ByteBuffer buffer, Tup2fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = buffer.getFloat();
+			float y = buffer.getFloat();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional float tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2fArray(DataOutput out, Tup2fR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2fR current = t[i];
+			out.writeFloat(current.getX());
+			out.writeFloat(current.getY());
+		}
+	}
+	
+	/**
+	 * Reads 2-dimensional float tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2fW[] readTup2fArray(DataInput in, Tup2fW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = in.readFloat();
+			float y = in.readFloat();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional double tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2d(ByteBuffer buffer, Tup2dR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putDouble(t.getX());
+		buffer.putDouble(t.getY());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional double tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2dW> T readTup2d(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		double x = buffer.getDouble();
+		double y = buffer.getDouble();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional double tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2d(DataOutput out, Tup2dR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeDouble(t.getX());
+		out.writeDouble(t.getY());
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional double tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2dW> T readTup2d(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		double x = in.readDouble();
+		double y = in.readDouble();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional double tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2dArray(ByteBuffer buffer, Tup2dR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2dR current = t[i];
+			buffer.putDouble(current.getX());
+			buffer.putDouble(current.getY());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 2-dimensional double tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2dW[] readTup2dArray(ByteBuffer buffer, Tup2dW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			double x = buffer.getDouble();
+			double y = buffer.getDouble();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional double tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2dArray(DataOutput out, Tup2dR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2dR current = t[i];
+			out.writeDouble(current.getX());
+			out.writeDouble(current.getY());
+		}
+	}
+	
+	/**
+	 * Reads 2-dimensional double tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2dW[] readTup2dArray(DataInput in, Tup2dW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			double x = in.readDouble();
+			double y = in.readDouble();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional char tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2c(ByteBuffer buffer, Tup2cR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putChar(t.getX());
+		buffer.putChar(t.getY());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional char tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2cW> T readTup2c(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		char x = buffer.getChar();
+		char y = buffer.getChar();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional char tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2c(DataOutput out, Tup2cR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeChar(t.getX());
+		out.writeChar(t.getY());
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional char tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2cW> T readTup2c(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		char x = in.readChar();
+		char y = in.readChar();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional char tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2cArray(ByteBuffer buffer, Tup2cR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2cR current = t[i];
+			buffer.putChar(current.getX());
+			buffer.putChar(current.getY());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 2-dimensional char tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2cW[] readTup2cArray(ByteBuffer buffer, Tup2cW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			char x = buffer.getChar();
+			char y = buffer.getChar();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional char tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2cArray(DataOutput out, Tup2cR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2cR current = t[i];
+			out.writeChar(current.getX());
+			out.writeChar(current.getY());
+		}
+	}
+	
+	/**
+	 * Reads 2-dimensional char tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2cW[] readTup2cArray(DataInput in, Tup2cW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			char x = in.readChar();
+			char y = in.readChar();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional boolean tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2bo(ByteBuffer buffer, Tup2boR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(t.getX() ? (byte)1 : (byte)0);
+		buffer.put(t.getY() ? (byte)1 : (byte)0);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional boolean tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2boW> T readTup2bo(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		boolean x = buffer.get() != 0;
+		boolean y = buffer.get() != 0;
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional boolean tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2bo(DataOutput out, Tup2boR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeBoolean(t.getX());
+		out.writeBoolean(t.getY());
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional boolean tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2boW> T readTup2bo(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		boolean x = in.readBoolean();
+		boolean y = in.readBoolean();
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional boolean tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2boArray(ByteBuffer buffer, Tup2boR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2boR current = t[i];
+			buffer.put(current.getX() ? (byte)1 : (byte)0);
+			buffer.put(current.getY() ? (byte)1 : (byte)0);
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 2-dimensional boolean tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2boW[] readTup2boArray(ByteBuffer buffer, Tup2boW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			boolean x = buffer.get() != 0;
+			boolean y = buffer.get() != 0;
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional boolean tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2boArray(DataOutput out, Tup2boR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2boR current = t[i];
+			out.writeBoolean(current.getX());
+			out.writeBoolean(current.getY());
+		}
+	}
+	
+	/**
+	 * Reads 2-dimensional boolean tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2boW[] readTup2boArray(DataInput in, Tup2boW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			boolean x = in.readBoolean();
+			boolean y = in.readBoolean();
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional string tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2str(ByteBuffer buffer, Tup2strR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		putString(buffer, t.getX());
+		putString(buffer, t.getY());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional string tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2strW> T readTup2str(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		String x = getString(buffer);
+		String y = getString(buffer);
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional string tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2str(DataOutput out, Tup2strR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		writeString(out, t.getX());
+		writeString(out, t.getY());
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional string tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2strW> T readTup2str(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		String x = readString(in);
+		String y = readString(in);
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional string tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2strArray(ByteBuffer buffer, Tup2strR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2strR current = t[i];
+			putString(buffer, current.getX());
+			putString(buffer, current.getY());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 2-dimensional string tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2strW[] readTup2strArray(ByteBuffer buffer, Tup2strW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			String x = getString(buffer);
+			String y = getString(buffer);
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional string tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2strArray(DataOutput out, Tup2strR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2strR current = t[i];
+			writeString(out, current.getX());
+			writeString(out, current.getY());
+		}
+	}
+	
+	/**
+	 * Reads 2-dimensional string tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2strW[] readTup2strArray(DataInput in, Tup2strW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			String x = readString(in);
+			String y = readString(in);
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional big integer tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2bigi(ByteBuffer buffer, Tup2bigiR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		putBigInteger(buffer, t.getX());
+		putBigInteger(buffer, t.getY());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional big integer tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2bigiW> T readTup2bigi(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		BigInteger x = getBigInteger(buffer);
+		BigInteger y = getBigInteger(buffer);
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional big integer tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2bigi(DataOutput out, Tup2bigiR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		writeBigInteger(out, t.getX());
+		writeBigInteger(out, t.getY());
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional big integer tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2bigiW> T readTup2bigi(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		BigInteger x = readBigInteger(in);
+		BigInteger y = readBigInteger(in);
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional big integer tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2bigiArray(ByteBuffer buffer, Tup2bigiR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2bigiR current = t[i];
+			putBigInteger(buffer, current.getX());
+			putBigInteger(buffer, current.getY());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 2-dimensional big integer tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2bigiW[] readTup2bigiArray(ByteBuffer buffer, Tup2bigiW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			BigInteger x = getBigInteger(buffer);
+			BigInteger y = getBigInteger(buffer);
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional big integer tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2bigiArray(DataOutput out, Tup2bigiR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2bigiR current = t[i];
+			writeBigInteger(out, current.getX());
+			writeBigInteger(out, current.getY());
+		}
+	}
+	
+	/**
+	 * Reads 2-dimensional big integer tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2bigiW[] readTup2bigiArray(DataInput in, Tup2bigiW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			BigInteger x = readBigInteger(in);
+			BigInteger y = readBigInteger(in);
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional big decimal tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2bigd(ByteBuffer buffer, Tup2bigdR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		putBigDecimal(buffer, t.getX());
+		putBigDecimal(buffer, t.getY());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional big decimal tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2bigdW> T readTup2bigd(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		BigDecimal x = getBigDecimal(buffer);
+		BigDecimal y = getBigDecimal(buffer);
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 2-dimensional big decimal tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2bigd(DataOutput out, Tup2bigdR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		writeBigDecimal(out, t.getX());
+		writeBigDecimal(out, t.getY());
+	}
+	
+	/**
+	 * Reads the components of a 2-dimensional big decimal tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2bigdW> T readTup2bigd(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		BigDecimal x = readBigDecimal(in);
+		BigDecimal y = readBigDecimal(in);
+		
+		t.set(x, y);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional big decimal tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup2bigdArray(ByteBuffer buffer, Tup2bigdR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2bigdR current = t[i];
+			putBigDecimal(buffer, current.getX());
+			putBigDecimal(buffer, current.getY());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 2-dimensional big decimal tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2bigdW[] readTup2bigdArray(ByteBuffer buffer, Tup2bigdW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			BigDecimal x = getBigDecimal(buffer);
+			BigDecimal y = getBigDecimal(buffer);
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 2-dimensional big decimal tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t2.x, t2.y, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup2bigdArray(DataOutput out, Tup2bigdR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2bigdR current = t[i];
+			writeBigDecimal(out, current.getX());
+			writeBigDecimal(out, current.getY());
+		}
+	}
+	
+	/**
+	 * Reads 2-dimensional big decimal tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2bigdW[] readTup2bigdArray(DataInput in, Tup2bigdW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			BigDecimal x = readBigDecimal(in);
+			BigDecimal y = readBigDecimal(in);
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional byte tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3b(ByteBuffer buffer, Tup3bR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(t.getX());
+		buffer.put(t.getY());
+		buffer.put(t.getZ());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional byte tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3bW> T readTup3b(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		byte x = buffer.get();
+		byte y = buffer.get();
+		byte z = buffer.get();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional byte tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3b(DataOutput out, Tup3bR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeByte(t.getX());
+		out.writeByte(t.getY());
+		out.writeByte(t.getZ());
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional byte tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3bW> T readTup3b(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		byte x = in.readByte();
+		byte y = in.readByte();
+		byte z = in.readByte();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional byte tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3bArray(ByteBuffer buffer, Tup3bR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3bR current = t[i];
+			buffer.put(current.getX());
+			buffer.put(current.getY());
+			buffer.put(current.getZ());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 3-dimensional byte tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3bW[] readTup3bArray(ByteBuffer buffer, Tup3bW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			byte x = buffer.get();
+			byte y = buffer.get();
+			byte z = buffer.get();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional byte tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3bArray(DataOutput out, Tup3bR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3bR current = t[i];
+			out.writeByte(current.getX());
+			out.writeByte(current.getY());
+			out.writeByte(current.getZ());
+		}
+	}
+	
+	/**
+	 * Reads 3-dimensional byte tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3bW[] readTup3bArray(DataInput in, Tup3bW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			byte x = in.readByte();
+			byte y = in.readByte();
+			byte z = in.readByte();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional short tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3s(ByteBuffer buffer, Tup3sR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putShort(t.getX());
+		buffer.putShort(t.getY());
+		buffer.putShort(t.getZ());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional short tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3sW> T readTup3s(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		short x = buffer.getShort();
+		short y = buffer.getShort();
+		short z = buffer.getShort();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional short tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3s(DataOutput out, Tup3sR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeShort(t.getX());
+		out.writeShort(t.getY());
+		out.writeShort(t.getZ());
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional short tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3sW> T readTup3s(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		short x = in.readShort();
+		short y = in.readShort();
+		short z = in.readShort();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional short tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3sArray(ByteBuffer buffer, Tup3sR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3sR current = t[i];
+			buffer.putShort(current.getX());
+			buffer.putShort(current.getY());
+			buffer.putShort(current.getZ());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 3-dimensional short tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3sW[] readTup3sArray(ByteBuffer buffer, Tup3sW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			short x = buffer.getShort();
+			short y = buffer.getShort();
+			short z = buffer.getShort();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional short tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3sArray(DataOutput out, Tup3sR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3sR current = t[i];
+			out.writeShort(current.getX());
+			out.writeShort(current.getY());
+			out.writeShort(current.getZ());
+		}
+	}
+	
+	/**
+	 * Reads 3-dimensional short tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3sW[] readTup3sArray(DataInput in, Tup3sW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			short x = in.readShort();
+			short y = in.readShort();
+			short z = in.readShort();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional integer tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3i(ByteBuffer buffer, Tup3iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putInt(t.getX());
+		buffer.putInt(t.getY());
+		buffer.putInt(t.getZ());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional integer tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3iW> T readTup3i(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int x = buffer.getInt();
+		int y = buffer.getInt();
+		int z = buffer.getInt();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional integer tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3i(DataOutput out, Tup3iR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeInt(t.getX());
+		out.writeInt(t.getY());
+		out.writeInt(t.getZ());
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional integer tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3iW> T readTup3i(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int x = in.readInt();
+		int y = in.readInt();
+		int z = in.readInt();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional integer tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3iArray(ByteBuffer buffer, Tup3iR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3iR current = t[i];
+			buffer.putInt(current.getX());
+			buffer.putInt(current.getY());
+			buffer.putInt(current.getZ());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 3-dimensional integer tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3iW[] readTup3iArray(ByteBuffer buffer, Tup3iW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			int x = buffer.getInt();
+			int y = buffer.getInt();
+			int z = buffer.getInt();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional integer tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3iArray(DataOutput out, Tup3iR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3iR current = t[i];
+			out.writeInt(current.getX());
+			out.writeInt(current.getY());
+			out.writeInt(current.getZ());
+		}
+	}
+	
+	/**
+	 * Reads 3-dimensional integer tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3iW[] readTup3iArray(DataInput in, Tup3iW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			int x = in.readInt();
+			int y = in.readInt();
+			int z = in.readInt();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional long tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3l(ByteBuffer buffer, Tup3lR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putLong(t.getX());
+		buffer.putLong(t.getY());
+		buffer.putLong(t.getZ());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional long tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3lW> T readTup3l(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		long x = buffer.getLong();
+		long y = buffer.getLong();
+		long z = buffer.getLong();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional long tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3l(DataOutput out, Tup3lR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeLong(t.getX());
+		out.writeLong(t.getY());
+		out.writeLong(t.getZ());
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional long tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3lW> T readTup3l(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		long x = in.readLong();
+		long y = in.readLong();
+		long z = in.readLong();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional long tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3lArray(ByteBuffer buffer, Tup3lR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3lR current = t[i];
+			buffer.putLong(current.getX());
+			buffer.putLong(current.getY());
+			buffer.putLong(current.getZ());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 3-dimensional long tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3lW[] readTup3lArray(ByteBuffer buffer, Tup3lW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			long x = buffer.getLong();
+			long y = buffer.getLong();
+			long z = buffer.getLong();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional long tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3lArray(DataOutput out, Tup3lR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3lR current = t[i];
+			out.writeLong(current.getX());
+			out.writeLong(current.getY());
+			out.writeLong(current.getZ());
+		}
+	}
+	
+	/**
+	 * Reads 3-dimensional long tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3lW[] readTup3lArray(DataInput in, Tup3lW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			long x = in.readLong();
+			long y = in.readLong();
+			long z = in.readLong();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional float tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3f(ByteBuffer buffer, Tup3fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putFloat(t.getX());
+		buffer.putFloat(t.getY());
+		buffer.putFloat(t.getZ());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional float tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3fW> T readTup3f(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		float x = buffer.getFloat();
+		float y = buffer.getFloat();
+		float z = buffer.getFloat();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional float tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3f(DataOutput out, Tup3fR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeFloat(t.getX());
+		out.writeFloat(t.getY());
+		out.writeFloat(t.getZ());
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional float tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3fW> T readTup3f(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		float x = in.readFloat();
+		float y = in.readFloat();
+		float z = in.readFloat();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional float tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3fArray(ByteBuffer buffer, Tup3fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3fR current = t[i];
+			buffer.putFloat(current.getX());
+			buffer.putFloat(current.getY());
+			buffer.putFloat(current.getZ());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 3-dimensional float tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3fW[] readTup3fArray(ByteBuffer buffer, Tup3fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = buffer.getFloat();
+			float y = buffer.getFloat();
+			float z = buffer.getFloat();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional float tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3fArray(DataOutput out, Tup3fR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3fR current = t[i];
+			out.writeFloat(current.getX());
+			out.writeFloat(current.getY());
+			out.writeFloat(current.getZ());
+		}
+	}
+	
+	/**
+	 * Reads 3-dimensional float tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3fW[] readTup3fArray(DataInput in, Tup3fW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = in.readFloat();
+			float y = in.readFloat();
+			float z = in.readFloat();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional double tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3d(ByteBuffer buffer, Tup3dR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putDouble(t.getX());
+		buffer.putDouble(t.getY());
+		buffer.putDouble(t.getZ());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional double tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T readTup3d(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		double x = buffer.getDouble();
+		double y = buffer.getDouble();
+		double z = buffer.getDouble();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional double tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3d(DataOutput out, Tup3dR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeDouble(t.getX());
+		out.writeDouble(t.getY());
+		out.writeDouble(t.getZ());
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional double tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T readTup3d(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		double x = in.readDouble();
+		double y = in.readDouble();
+		double z = in.readDouble();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional double tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3dArray(ByteBuffer buffer, Tup3dR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3dR current = t[i];
+			buffer.putDouble(current.getX());
+			buffer.putDouble(current.getY());
+			buffer.putDouble(current.getZ());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 3-dimensional double tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3dW[] readTup3dArray(ByteBuffer buffer, Tup3dW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			double x = buffer.getDouble();
+			double y = buffer.getDouble();
+			double z = buffer.getDouble();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional double tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3dArray(DataOutput out, Tup3dR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3dR current = t[i];
+			out.writeDouble(current.getX());
+			out.writeDouble(current.getY());
+			out.writeDouble(current.getZ());
+		}
+	}
+	
+	/**
+	 * Reads 3-dimensional double tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3dW[] readTup3dArray(DataInput in, Tup3dW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			double x = in.readDouble();
+			double y = in.readDouble();
+			double z = in.readDouble();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional char tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3c(ByteBuffer buffer, Tup3cR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putChar(t.getX());
+		buffer.putChar(t.getY());
+		buffer.putChar(t.getZ());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional char tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3cW> T readTup3c(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		char x = buffer.getChar();
+		char y = buffer.getChar();
+		char z = buffer.getChar();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional char tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3c(DataOutput out, Tup3cR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeChar(t.getX());
+		out.writeChar(t.getY());
+		out.writeChar(t.getZ());
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional char tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3cW> T readTup3c(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		char x = in.readChar();
+		char y = in.readChar();
+		char z = in.readChar();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional char tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3cArray(ByteBuffer buffer, Tup3cR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3cR current = t[i];
+			buffer.putChar(current.getX());
+			buffer.putChar(current.getY());
+			buffer.putChar(current.getZ());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 3-dimensional char tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3cW[] readTup3cArray(ByteBuffer buffer, Tup3cW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			char x = buffer.getChar();
+			char y = buffer.getChar();
+			char z = buffer.getChar();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional char tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3cArray(DataOutput out, Tup3cR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3cR current = t[i];
+			out.writeChar(current.getX());
+			out.writeChar(current.getY());
+			out.writeChar(current.getZ());
+		}
+	}
+	
+	/**
+	 * Reads 3-dimensional char tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3cW[] readTup3cArray(DataInput in, Tup3cW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			char x = in.readChar();
+			char y = in.readChar();
+			char z = in.readChar();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional boolean tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3bo(ByteBuffer buffer, Tup3boR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(t.getX() ? (byte)1 : (byte)0);
+		buffer.put(t.getY() ? (byte)1 : (byte)0);
+		buffer.put(t.getZ() ? (byte)1 : (byte)0);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional boolean tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3boW> T readTup3bo(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		boolean x = buffer.get() != 0;
+		boolean y = buffer.get() != 0;
+		boolean z = buffer.get() != 0;
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional boolean tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3bo(DataOutput out, Tup3boR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeBoolean(t.getX());
+		out.writeBoolean(t.getY());
+		out.writeBoolean(t.getZ());
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional boolean tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3boW> T readTup3bo(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		boolean x = in.readBoolean();
+		boolean y = in.readBoolean();
+		boolean z = in.readBoolean();
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional boolean tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3boArray(ByteBuffer buffer, Tup3boR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3boR current = t[i];
+			buffer.put(current.getX() ? (byte)1 : (byte)0);
+			buffer.put(current.getY() ? (byte)1 : (byte)0);
+			buffer.put(current.getZ() ? (byte)1 : (byte)0);
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 3-dimensional boolean tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3boW[] readTup3boArray(ByteBuffer buffer, Tup3boW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			boolean x = buffer.get() != 0;
+			boolean y = buffer.get() != 0;
+			boolean z = buffer.get() != 0;
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional boolean tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3boArray(DataOutput out, Tup3boR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3boR current = t[i];
+			out.writeBoolean(current.getX());
+			out.writeBoolean(current.getY());
+			out.writeBoolean(current.getZ());
+		}
+	}
+	
+	/**
+	 * Reads 3-dimensional boolean tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3boW[] readTup3boArray(DataInput in, Tup3boW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			boolean x = in.readBoolean();
+			boolean y = in.readBoolean();
+			boolean z = in.readBoolean();
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional string tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3str(ByteBuffer buffer, Tup3strR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		putString(buffer, t.getX());
+		putString(buffer, t.getY());
+		putString(buffer, t.getZ());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional string tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3strW> T readTup3str(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		String x = getString(buffer);
+		String y = getString(buffer);
+		String z = getString(buffer);
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional string tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3str(DataOutput out, Tup3strR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		writeString(out, t.getX());
+		writeString(out, t.getY());
+		writeString(out, t.getZ());
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional string tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3strW> T readTup3str(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		String x = readString(in);
+		String y = readString(in);
+		String z = readString(in);
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional string tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3strArray(ByteBuffer buffer, Tup3strR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3strR current = t[i];
+			putString(buffer, current.getX());
+			putString(buffer, current.getY());
+			putString(buffer, current.getZ());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 3-dimensional string tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3strW[] readTup3strArray(ByteBuffer buffer, Tup3strW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			String x = getString(buffer);
+			String y = getString(buffer);
+			String z = getString(buffer);
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional string tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3strArray(DataOutput out, Tup3strR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3strR current = t[i];
+			writeString(out, current.getX());
+			writeString(out, current.getY());
+			writeString(out, current.getZ());
+		}
+	}
+	
+	/**
+	 * Reads 3-dimensional string tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3strW[] readTup3strArray(DataInput in, Tup3strW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			String x = readString(in);
+			String y = readString(in);
+			String z = readString(in);
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional big integer tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3bigi(ByteBuffer buffer, Tup3bigiR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		putBigInteger(buffer, t.getX());
+		putBigInteger(buffer, t.getY());
+		putBigInteger(buffer, t.getZ());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional big integer tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3bigiW> T readTup3bigi(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		BigInteger x = getBigInteger(buffer);
+		BigInteger y = getBigInteger(buffer);
+		BigInteger z = getBigInteger(buffer);
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional big integer tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3bigi(DataOutput out, Tup3bigiR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		writeBigInteger(out, t.getX());
+		writeBigInteger(out, t.getY());
+		writeBigInteger(out, t.getZ());
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional big integer tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3bigiW> T readTup3bigi(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		BigInteger x = readBigInteger(in);
+		BigInteger y = readBigInteger(in);
+		BigInteger z = readBigInteger(in);
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional big integer tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3bigiArray(ByteBuffer buffer, Tup3bigiR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3bigiR current = t[i];
+			putBigInteger(buffer, current.getX());
+			putBigInteger(buffer, current.getY());
+			putBigInteger(buffer, current.getZ());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 3-dimensional big integer tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3bigiW[] readTup3bigiArray(ByteBuffer buffer, Tup3bigiW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			BigInteger x = getBigInteger(buffer);
+			BigInteger y = getBigInteger(buffer);
+			BigInteger z = getBigInteger(buffer);
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional big integer tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3bigiArray(DataOutput out, Tup3bigiR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3bigiR current = t[i];
+			writeBigInteger(out, current.getX());
+			writeBigInteger(out, current.getY());
+			writeBigInteger(out, current.getZ());
+		}
+	}
+	
+	/**
+	 * Reads 3-dimensional big integer tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3bigiW[] readTup3bigiArray(DataInput in, Tup3bigiW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			BigInteger x = readBigInteger(in);
+			BigInteger y = readBigInteger(in);
+			BigInteger z = readBigInteger(in);
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional big decimal tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3bigd(ByteBuffer buffer, Tup3bigdR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		putBigDecimal(buffer, t.getX());
+		putBigDecimal(buffer, t.getY());
+		putBigDecimal(buffer, t.getZ());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional big decimal tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3bigdW> T readTup3bigd(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		BigDecimal x = getBigDecimal(buffer);
+		BigDecimal y = getBigDecimal(buffer);
+		BigDecimal z = getBigDecimal(buffer);
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 3-dimensional big decimal tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3bigd(DataOutput out, Tup3bigdR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		writeBigDecimal(out, t.getX());
+		writeBigDecimal(out, t.getY());
+		writeBigDecimal(out, t.getZ());
+	}
+	
+	/**
+	 * Reads the components of a 3-dimensional big decimal tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3bigdW> T readTup3bigd(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		BigDecimal x = readBigDecimal(in);
+		BigDecimal y = readBigDecimal(in);
+		BigDecimal z = readBigDecimal(in);
+		
+		t.set(x, y, z);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional big decimal tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup3bigdArray(ByteBuffer buffer, Tup3bigdR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3bigdR current = t[i];
+			putBigDecimal(buffer, current.getX());
+			putBigDecimal(buffer, current.getY());
+			putBigDecimal(buffer, current.getZ());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 3-dimensional big decimal tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3bigdW[] readTup3bigdArray(ByteBuffer buffer, Tup3bigdW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			BigDecimal x = getBigDecimal(buffer);
+			BigDecimal y = getBigDecimal(buffer);
+			BigDecimal z = getBigDecimal(buffer);
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 3-dimensional big decimal tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup3bigdArray(DataOutput out, Tup3bigdR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3bigdR current = t[i];
+			writeBigDecimal(out, current.getX());
+			writeBigDecimal(out, current.getY());
+			writeBigDecimal(out, current.getZ());
+		}
+	}
+	
+	/**
+	 * Reads 3-dimensional big decimal tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3bigdW[] readTup3bigdArray(DataInput in, Tup3bigdW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			BigDecimal x = readBigDecimal(in);
+			BigDecimal y = readBigDecimal(in);
+			BigDecimal z = readBigDecimal(in);
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional byte tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4b(ByteBuffer buffer, Tup4bR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(t.getX());
+		buffer.put(t.getY());
+		buffer.put(t.getZ());
+		buffer.put(t.getW());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional byte tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4bW> T readTup4b(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		byte x = buffer.get();
+		byte y = buffer.get();
+		byte z = buffer.get();
+		byte w = buffer.get();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional byte tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4b(DataOutput out, Tup4bR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeByte(t.getX());
+		out.writeByte(t.getY());
+		out.writeByte(t.getZ());
+		out.writeByte(t.getW());
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional byte tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4bW> T readTup4b(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		byte x = in.readByte();
+		byte y = in.readByte();
+		byte z = in.readByte();
+		byte w = in.readByte();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional byte tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4bArray(ByteBuffer buffer, Tup4bR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4bR current = t[i];
+			buffer.put(current.getX());
+			buffer.put(current.getY());
+			buffer.put(current.getZ());
+			buffer.put(current.getW());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 4-dimensional byte tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4bW[] readTup4bArray(ByteBuffer buffer, Tup4bW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			byte x = buffer.get();
+			byte y = buffer.get();
+			byte z = buffer.get();
+			byte w = buffer.get();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional byte tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4bArray(DataOutput out, Tup4bR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4bR current = t[i];
+			out.writeByte(current.getX());
+			out.writeByte(current.getY());
+			out.writeByte(current.getZ());
+			out.writeByte(current.getW());
+		}
+	}
+	
+	/**
+	 * Reads 4-dimensional byte tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4bW[] readTup4bArray(DataInput in, Tup4bW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			byte x = in.readByte();
+			byte y = in.readByte();
+			byte z = in.readByte();
+			byte w = in.readByte();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional short tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4s(ByteBuffer buffer, Tup4sR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putShort(t.getX());
+		buffer.putShort(t.getY());
+		buffer.putShort(t.getZ());
+		buffer.putShort(t.getW());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional short tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4sW> T readTup4s(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		short x = buffer.getShort();
+		short y = buffer.getShort();
+		short z = buffer.getShort();
+		short w = buffer.getShort();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional short tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4s(DataOutput out, Tup4sR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeShort(t.getX());
+		out.writeShort(t.getY());
+		out.writeShort(t.getZ());
+		out.writeShort(t.getW());
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional short tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4sW> T readTup4s(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		short x = in.readShort();
+		short y = in.readShort();
+		short z = in.readShort();
+		short w = in.readShort();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional short tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4sArray(ByteBuffer buffer, Tup4sR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4sR current = t[i];
+			buffer.putShort(current.getX());
+			buffer.putShort(current.getY());
+			buffer.putShort(current.getZ());
+			buffer.putShort(current.getW());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 4-dimensional short tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4sW[] readTup4sArray(ByteBuffer buffer, Tup4sW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			short x = buffer.getShort();
+			short y = buffer.getShort();
+			short z = buffer.getShort();
+			short w = buffer.getShort();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional short tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4sArray(DataOutput out, Tup4sR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4sR current = t[i];
+			out.writeShort(current.getX());
+			out.writeShort(current.getY());
+			out.writeShort(current.getZ());
+			out.writeShort(current.getW());
+		}
+	}
+	
+	/**
+	 * Reads 4-dimensional short tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4sW[] readTup4sArray(DataInput in, Tup4sW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			short x = in.readShort();
+			short y = in.readShort();
+			short z = in.readShort();
+			short w = in.readShort();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional integer tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4i(ByteBuffer buffer, Tup4iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putInt(t.getX());
+		buffer.putInt(t.getY());
+		buffer.putInt(t.getZ());
+		buffer.putInt(t.getW());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional integer tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4iW> T readTup4i(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int x = buffer.getInt();
+		int y = buffer.getInt();
+		int z = buffer.getInt();
+		int w = buffer.getInt();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional integer tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4i(DataOutput out, Tup4iR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeInt(t.getX());
+		out.writeInt(t.getY());
+		out.writeInt(t.getZ());
+		out.writeInt(t.getW());
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional integer tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4iW> T readTup4i(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int x = in.readInt();
+		int y = in.readInt();
+		int z = in.readInt();
+		int w = in.readInt();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional integer tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4iArray(ByteBuffer buffer, Tup4iR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4iR current = t[i];
+			buffer.putInt(current.getX());
+			buffer.putInt(current.getY());
+			buffer.putInt(current.getZ());
+			buffer.putInt(current.getW());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 4-dimensional integer tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4iW[] readTup4iArray(ByteBuffer buffer, Tup4iW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			int x = buffer.getInt();
+			int y = buffer.getInt();
+			int z = buffer.getInt();
+			int w = buffer.getInt();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional integer tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4iArray(DataOutput out, Tup4iR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4iR current = t[i];
+			out.writeInt(current.getX());
+			out.writeInt(current.getY());
+			out.writeInt(current.getZ());
+			out.writeInt(current.getW());
+		}
+	}
+	
+	/**
+	 * Reads 4-dimensional integer tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4iW[] readTup4iArray(DataInput in, Tup4iW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			int x = in.readInt();
+			int y = in.readInt();
+			int z = in.readInt();
+			int w = in.readInt();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional long tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4l(ByteBuffer buffer, Tup4lR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putLong(t.getX());
+		buffer.putLong(t.getY());
+		buffer.putLong(t.getZ());
+		buffer.putLong(t.getW());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional long tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4lW> T readTup4l(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		long x = buffer.getLong();
+		long y = buffer.getLong();
+		long z = buffer.getLong();
+		long w = buffer.getLong();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional long tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4l(DataOutput out, Tup4lR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeLong(t.getX());
+		out.writeLong(t.getY());
+		out.writeLong(t.getZ());
+		out.writeLong(t.getW());
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional long tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4lW> T readTup4l(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		long x = in.readLong();
+		long y = in.readLong();
+		long z = in.readLong();
+		long w = in.readLong();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional long tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4lArray(ByteBuffer buffer, Tup4lR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4lR current = t[i];
+			buffer.putLong(current.getX());
+			buffer.putLong(current.getY());
+			buffer.putLong(current.getZ());
+			buffer.putLong(current.getW());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 4-dimensional long tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4lW[] readTup4lArray(ByteBuffer buffer, Tup4lW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			long x = buffer.getLong();
+			long y = buffer.getLong();
+			long z = buffer.getLong();
+			long w = buffer.getLong();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional long tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4lArray(DataOutput out, Tup4lR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4lR current = t[i];
+			out.writeLong(current.getX());
+			out.writeLong(current.getY());
+			out.writeLong(current.getZ());
+			out.writeLong(current.getW());
+		}
+	}
+	
+	/**
+	 * Reads 4-dimensional long tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4lW[] readTup4lArray(DataInput in, Tup4lW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			long x = in.readLong();
+			long y = in.readLong();
+			long z = in.readLong();
+			long w = in.readLong();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional float tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4f(ByteBuffer buffer, Tup4fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putFloat(t.getX());
+		buffer.putFloat(t.getY());
+		buffer.putFloat(t.getZ());
+		buffer.putFloat(t.getW());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional float tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4fW> T readTup4f(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		float x = buffer.getFloat();
+		float y = buffer.getFloat();
+		float z = buffer.getFloat();
+		float w = buffer.getFloat();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional float tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4f(DataOutput out, Tup4fR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeFloat(t.getX());
+		out.writeFloat(t.getY());
+		out.writeFloat(t.getZ());
+		out.writeFloat(t.getW());
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional float tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4fW> T readTup4f(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		float x = in.readFloat();
+		float y = in.readFloat();
+		float z = in.readFloat();
+		float w = in.readFloat();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional float tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4fArray(ByteBuffer buffer, Tup4fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4fR current = t[i];
+			buffer.putFloat(current.getX());
+			buffer.putFloat(current.getY());
+			buffer.putFloat(current.getZ());
+			buffer.putFloat(current.getW());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 4-dimensional float tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4fW[] readTup4fArray(ByteBuffer buffer, Tup4fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = buffer.getFloat();
+			float y = buffer.getFloat();
+			float z = buffer.getFloat();
+			float w = buffer.getFloat();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional float tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4fArray(DataOutput out, Tup4fR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4fR current = t[i];
+			out.writeFloat(current.getX());
+			out.writeFloat(current.getY());
+			out.writeFloat(current.getZ());
+			out.writeFloat(current.getW());
+		}
+	}
+	
+	/**
+	 * Reads 4-dimensional float tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4fW[] readTup4fArray(DataInput in, Tup4fW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = in.readFloat();
+			float y = in.readFloat();
+			float z = in.readFloat();
+			float w = in.readFloat();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional double tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4d(ByteBuffer buffer, Tup4dR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putDouble(t.getX());
+		buffer.putDouble(t.getY());
+		buffer.putDouble(t.getZ());
+		buffer.putDouble(t.getW());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional double tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4dW> T readTup4d(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		double x = buffer.getDouble();
+		double y = buffer.getDouble();
+		double z = buffer.getDouble();
+		double w = buffer.getDouble();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional double tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4d(DataOutput out, Tup4dR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeDouble(t.getX());
+		out.writeDouble(t.getY());
+		out.writeDouble(t.getZ());
+		out.writeDouble(t.getW());
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional double tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4dW> T readTup4d(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		double x = in.readDouble();
+		double y = in.readDouble();
+		double z = in.readDouble();
+		double w = in.readDouble();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional double tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4dArray(ByteBuffer buffer, Tup4dR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4dR current = t[i];
+			buffer.putDouble(current.getX());
+			buffer.putDouble(current.getY());
+			buffer.putDouble(current.getZ());
+			buffer.putDouble(current.getW());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 4-dimensional double tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4dW[] readTup4dArray(ByteBuffer buffer, Tup4dW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			double x = buffer.getDouble();
+			double y = buffer.getDouble();
+			double z = buffer.getDouble();
+			double w = buffer.getDouble();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional double tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4dArray(DataOutput out, Tup4dR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4dR current = t[i];
+			out.writeDouble(current.getX());
+			out.writeDouble(current.getY());
+			out.writeDouble(current.getZ());
+			out.writeDouble(current.getW());
+		}
+	}
+	
+	/**
+	 * Reads 4-dimensional double tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4dW[] readTup4dArray(DataInput in, Tup4dW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			double x = in.readDouble();
+			double y = in.readDouble();
+			double z = in.readDouble();
+			double w = in.readDouble();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional char tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4c(ByteBuffer buffer, Tup4cR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putChar(t.getX());
+		buffer.putChar(t.getY());
+		buffer.putChar(t.getZ());
+		buffer.putChar(t.getW());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional char tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4cW> T readTup4c(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		char x = buffer.getChar();
+		char y = buffer.getChar();
+		char z = buffer.getChar();
+		char w = buffer.getChar();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional char tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4c(DataOutput out, Tup4cR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeChar(t.getX());
+		out.writeChar(t.getY());
+		out.writeChar(t.getZ());
+		out.writeChar(t.getW());
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional char tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4cW> T readTup4c(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		char x = in.readChar();
+		char y = in.readChar();
+		char z = in.readChar();
+		char w = in.readChar();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional char tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4cArray(ByteBuffer buffer, Tup4cR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4cR current = t[i];
+			buffer.putChar(current.getX());
+			buffer.putChar(current.getY());
+			buffer.putChar(current.getZ());
+			buffer.putChar(current.getW());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 4-dimensional char tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4cW[] readTup4cArray(ByteBuffer buffer, Tup4cW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			char x = buffer.getChar();
+			char y = buffer.getChar();
+			char z = buffer.getChar();
+			char w = buffer.getChar();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional char tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4cArray(DataOutput out, Tup4cR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4cR current = t[i];
+			out.writeChar(current.getX());
+			out.writeChar(current.getY());
+			out.writeChar(current.getZ());
+			out.writeChar(current.getW());
+		}
+	}
+	
+	/**
+	 * Reads 4-dimensional char tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4cW[] readTup4cArray(DataInput in, Tup4cW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			char x = in.readChar();
+			char y = in.readChar();
+			char z = in.readChar();
+			char w = in.readChar();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional boolean tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4bo(ByteBuffer buffer, Tup4boR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(t.getX() ? (byte)1 : (byte)0);
+		buffer.put(t.getY() ? (byte)1 : (byte)0);
+		buffer.put(t.getZ() ? (byte)1 : (byte)0);
+		buffer.put(t.getW() ? (byte)1 : (byte)0);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional boolean tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4boW> T readTup4bo(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		boolean x = buffer.get() != 0;
+		boolean y = buffer.get() != 0;
+		boolean z = buffer.get() != 0;
+		boolean w = buffer.get() != 0;
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional boolean tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4bo(DataOutput out, Tup4boR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		out.writeBoolean(t.getX());
+		out.writeBoolean(t.getY());
+		out.writeBoolean(t.getZ());
+		out.writeBoolean(t.getW());
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional boolean tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4boW> T readTup4bo(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		boolean x = in.readBoolean();
+		boolean y = in.readBoolean();
+		boolean z = in.readBoolean();
+		boolean w = in.readBoolean();
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional boolean tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4boArray(ByteBuffer buffer, Tup4boR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4boR current = t[i];
+			buffer.put(current.getX() ? (byte)1 : (byte)0);
+			buffer.put(current.getY() ? (byte)1 : (byte)0);
+			buffer.put(current.getZ() ? (byte)1 : (byte)0);
+			buffer.put(current.getW() ? (byte)1 : (byte)0);
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 4-dimensional boolean tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4boW[] readTup4boArray(ByteBuffer buffer, Tup4boW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			boolean x = buffer.get() != 0;
+			boolean y = buffer.get() != 0;
+			boolean z = buffer.get() != 0;
+			boolean w = buffer.get() != 0;
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional boolean tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4boArray(DataOutput out, Tup4boR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4boR current = t[i];
+			out.writeBoolean(current.getX());
+			out.writeBoolean(current.getY());
+			out.writeBoolean(current.getZ());
+			out.writeBoolean(current.getW());
+		}
+	}
+	
+	/**
+	 * Reads 4-dimensional boolean tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4boW[] readTup4boArray(DataInput in, Tup4boW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			boolean x = in.readBoolean();
+			boolean y = in.readBoolean();
+			boolean z = in.readBoolean();
+			boolean w = in.readBoolean();
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional string tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4str(ByteBuffer buffer, Tup4strR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		putString(buffer, t.getX());
+		putString(buffer, t.getY());
+		putString(buffer, t.getZ());
+		putString(buffer, t.getW());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional string tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4strW> T readTup4str(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		String x = getString(buffer);
+		String y = getString(buffer);
+		String z = getString(buffer);
+		String w = getString(buffer);
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional string tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4str(DataOutput out, Tup4strR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		writeString(out, t.getX());
+		writeString(out, t.getY());
+		writeString(out, t.getZ());
+		writeString(out, t.getW());
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional string tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4strW> T readTup4str(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		String x = readString(in);
+		String y = readString(in);
+		String z = readString(in);
+		String w = readString(in);
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional string tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4strArray(ByteBuffer buffer, Tup4strR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4strR current = t[i];
+			putString(buffer, current.getX());
+			putString(buffer, current.getY());
+			putString(buffer, current.getZ());
+			putString(buffer, current.getW());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 4-dimensional string tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4strW[] readTup4strArray(ByteBuffer buffer, Tup4strW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			String x = getString(buffer);
+			String y = getString(buffer);
+			String z = getString(buffer);
+			String w = getString(buffer);
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional string tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4strArray(DataOutput out, Tup4strR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4strR current = t[i];
+			writeString(out, current.getX());
+			writeString(out, current.getY());
+			writeString(out, current.getZ());
+			writeString(out, current.getW());
+		}
+	}
+	
+	/**
+	 * Reads 4-dimensional string tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4strW[] readTup4strArray(DataInput in, Tup4strW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			String x = readString(in);
+			String y = readString(in);
+			String z = readString(in);
+			String w = readString(in);
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional big integer tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4bigi(ByteBuffer buffer, Tup4bigiR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		putBigInteger(buffer, t.getX());
+		putBigInteger(buffer, t.getY());
+		putBigInteger(buffer, t.getZ());
+		putBigInteger(buffer, t.getW());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional big integer tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4bigiW> T readTup4bigi(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		BigInteger x = getBigInteger(buffer);
+		BigInteger y = getBigInteger(buffer);
+		BigInteger z = getBigInteger(buffer);
+		BigInteger w = getBigInteger(buffer);
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional big integer tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4bigi(DataOutput out, Tup4bigiR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		writeBigInteger(out, t.getX());
+		writeBigInteger(out, t.getY());
+		writeBigInteger(out, t.getZ());
+		writeBigInteger(out, t.getW());
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional big integer tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4bigiW> T readTup4bigi(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		BigInteger x = readBigInteger(in);
+		BigInteger y = readBigInteger(in);
+		BigInteger z = readBigInteger(in);
+		BigInteger w = readBigInteger(in);
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional big integer tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4bigiArray(ByteBuffer buffer, Tup4bigiR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4bigiR current = t[i];
+			putBigInteger(buffer, current.getX());
+			putBigInteger(buffer, current.getY());
+			putBigInteger(buffer, current.getZ());
+			putBigInteger(buffer, current.getW());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 4-dimensional big integer tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4bigiW[] readTup4bigiArray(ByteBuffer buffer, Tup4bigiW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			BigInteger x = getBigInteger(buffer);
+			BigInteger y = getBigInteger(buffer);
+			BigInteger z = getBigInteger(buffer);
+			BigInteger w = getBigInteger(buffer);
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional big integer tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4bigiArray(DataOutput out, Tup4bigiR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4bigiR current = t[i];
+			writeBigInteger(out, current.getX());
+			writeBigInteger(out, current.getY());
+			writeBigInteger(out, current.getZ());
+			writeBigInteger(out, current.getW());
+		}
+	}
+	
+	/**
+	 * Reads 4-dimensional big integer tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4bigiW[] readTup4bigiArray(DataInput in, Tup4bigiW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			BigInteger x = readBigInteger(in);
+			BigInteger y = readBigInteger(in);
+			BigInteger z = readBigInteger(in);
+			BigInteger w = readBigInteger(in);
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional big decimal tuple to the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4bigd(ByteBuffer buffer, Tup4bigdR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		putBigDecimal(buffer, t.getX());
+		putBigDecimal(buffer, t.getY());
+		putBigDecimal(buffer, t.getZ());
+		putBigDecimal(buffer, t.getW());
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional big decimal tuple from the buffer at its current position
+	 * into the tuple t and advances the position.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param buffer The buffer the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4bigdW> T readTup4bigd(ByteBuffer buffer, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		BigDecimal x = getBigDecimal(buffer);
+		BigDecimal y = getBigDecimal(buffer);
+		BigDecimal z = getBigDecimal(buffer);
+		BigDecimal w = getBigDecimal(buffer);
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the components of the 4-dimensional big decimal tuple to the output.
+	 * 
+	 * @param out The output the tuple should be written to.
+	 * @param t The tuple to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4bigd(DataOutput out, Tup4bigdR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		writeBigDecimal(out, t.getX());
+		writeBigDecimal(out, t.getY());
+		writeBigDecimal(out, t.getZ());
+		writeBigDecimal(out, t.getW());
+	}
+	
+	/**
+	 * Reads the components of a 4-dimensional big decimal tuple from the input into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param in The input the tuple should be read from.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4bigdW> T readTup4bigd(DataInput in, T t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		BigDecimal x = readBigDecimal(in);
+		BigDecimal y = readBigDecimal(in);
+		BigDecimal z = readBigDecimal(in);
+		BigDecimal w = readBigDecimal(in);
+		
+		t.set(x, y, z, w);
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional big decimal tuples from the array t in the range of offset to offset + length
+	 * to the buffer at its current position and advances the position.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param buffer The buffer the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer writeTup4bigdArray(ByteBuffer buffer, Tup4bigdR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4bigdR current = t[i];
+			putBigDecimal(buffer, current.getX());
+			putBigDecimal(buffer, current.getY());
+			putBigDecimal(buffer, current.getZ());
+			putBigDecimal(buffer, current.getW());
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads 4-dimensional big decimal tuples from the buffer at its current position
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4bigdW[] readTup4bigdArray(ByteBuffer buffer, Tup4bigdW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			BigDecimal x = getBigDecimal(buffer);
+			BigDecimal y = getBigDecimal(buffer);
+			BigDecimal z = getBigDecimal(buffer);
+			BigDecimal w = getBigDecimal(buffer);
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Writes the 4-dimensional big decimal tuples from the array t in the range of offset to offset + length
+	 * to the output.
+	 * They are written tuplewise componentwise (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param out The output the tuples should be written to.
+	 * @param t The tuples to write.
+	 * @param offset The index of the first tuple to write.
+	 * @param length The number of tuples to write.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void writeTup4bigdArray(DataOutput out, Tup4bigdR[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(out == null) throw new ArgumentNullException("out");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4bigdR current = t[i];
+			writeBigDecimal(out, current.getX());
+			writeBigDecimal(out, current.getY());
+			writeBigDecimal(out, current.getZ());
+			writeBigDecimal(out, current.getW());
+		}
+	}
+	
+	/**
+	 * Reads 4-dimensional big decimal tuples from the input
+	 * into the tuples of the array t in the range of offset to offset + length.
+	 * 
+	 * @param in The input the tuples should be read from.
+	 * @param t The tuples the components are written to.
+	 * @param offset The index of the first tuple to read into.
+	 * @param length The number of tuples to read.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4bigdW[] readTup4bigdArray(DataInput in, Tup4bigdW[] t, int offset, int length) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(in == null) throw new ArgumentNullException("in");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			BigDecimal x = readBigDecimal(in);
+			BigDecimal y = readBigDecimal(in);
+			BigDecimal z = readBigDecimal(in);
+			BigDecimal w = readBigDecimal(in);
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Reads the given number of bytes of a length prefixed value from the buffer. The length is checked
+	 * against the remaining bytes before anything is allocated, so a corrupt prefix cannot request a huge array.
+	 * 
+	 * @param buffer The buffer the bytes should be read from.
+	 * @param length The number of bytes to read.
+	 * 
+	 * @return The bytes.
+	 * 
+	 * @throws BufferUnderflowException If the buffer has less than length bytes remaining.
+	 */
+	private static byte[] getBytes(ByteBuffer buffer, int length)
+	{
+		if(length > buffer.remaining()) throw new BufferUnderflowException();
+		
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		
+		return bytes;
+	}
+	
+	/**
+	 * Reads the given number of bytes of a length prefixed value from the input. As the input cannot tell
+	 * how many bytes are left, the array grows in chunks while the data arrives, so a corrupt prefix fails
+	 * at the end of the input instead of allocating the whole length up front.
+	 * 
+	 * @param in The input the bytes should be read from.
+	 * @param length The number of bytes to read.
+	 * 
+	 * @return The bytes.
+	 * 
+	 * @throws IOException If the input fails to read the data or ends before length bytes were read.
+	 */
+	private static byte[] readBytes(DataInput in, int length) throws IOException
+	{
+		byte[] bytes = new byte[Math.min(length, READ_CHUNK_SIZE)];
+		
+		int read = 0;
+		
+		while(read < length)
+		{
+			if(read == bytes.length) bytes = Arrays.copyOf(bytes, (int)Math.min(length, bytes.length * 2L));
+			
+			in.readFully(bytes, read, bytes.length - read);
+			read = bytes.length;
+		}
+		
+		return bytes;
+	}
+	
+	/**
+	 * Writes a string as length prefixed UTF-8 bytes to the buffer.
+	 * 
+	 * @param buffer The buffer the string should be written to.
+	 * @param value The string to write. Can be null.
+	 */
+	private static void putString(ByteBuffer buffer, String value)
+	{
+		if(value == null)
+		{
+			buffer.putInt(-1);
+			return;
+		}
+		
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		
+		buffer.putInt(bytes.length);
+		buffer.put(bytes);
+	}
+	
+	/**
+	 * Reads a string stored as length prefixed UTF-8 bytes from the buffer.
+	 * 
+	 * @param buffer The buffer the string should be read from.
+	 * 
+	 * @return The string or null.
+	 */
+	private static String getString(ByteBuffer buffer)
+	{
+		int length = buffer.getInt();
+		
+		if(length < 0) return null;
+		
+		byte[] bytes = getBytes(buffer, length);
+		
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Writes a string as length prefixed UTF-8 bytes to the output.
+	 * 
+	 * @param out The output the string should be written to.
+	 * @param value The string to write. Can be null.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 */
+	private static void writeString(DataOutput out, String value) throws IOException
+	{
+		if(value == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+		
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+	
+	/**
+	 * Reads a string stored as length prefixed UTF-8 bytes from the input.
+	 * 
+	 * @param in The input the string should be read from.
+	 * 
+	 * @return The string or null.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 */
+	private static String readString(DataInput in) throws IOException
+	{
+		int length = in.readInt();
+		
+		if(length < 0) return null;
+		
+		byte[] bytes = readBytes(in, length);
+		
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Writes a big integer as length prefixed two's complement bytes to the buffer.
+	 * 
+	 * @param buffer The buffer the value should be written to.
+	 * @param value The value to write. Can be null.
+	 */
+	private static void putBigInteger(ByteBuffer buffer, BigInteger value)
+	{
+		if(value == null)
+		{
+			buffer.putInt(-1);
+			return;
+		}
+		
+		byte[] bytes = value.toByteArray();
+		
+		buffer.putInt(bytes.length);
+		buffer.put(bytes);
+	}
+	
+	/**
+	 * Reads a big integer stored as length prefixed two's complement bytes from the buffer.
+	 * 
+	 * @param buffer The buffer the value should be read from.
+	 * 
+	 * @return The value or null.
+	 */
+	private static BigInteger getBigInteger(ByteBuffer buffer)
+	{
+		int length = buffer.getInt();
+		
+		if(length < 0) return null;
+		
+		byte[] bytes = getBytes(buffer, length);
+		
+		return new BigInteger(bytes);
+	}
+	
+	/**
+	 * Writes a big integer as length prefixed two's complement bytes to the output.
+	 * 
+	 * @param out The output the value should be written to.
+	 * @param value The value to write. Can be null.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 */
+	private static void writeBigInteger(DataOutput out, BigInteger value) throws IOException
+	{
+		if(value == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+		
+		byte[] bytes = value.toByteArray();
+		
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+	
+	/**
+	 * Reads a big integer stored as length prefixed two's complement bytes from the input.
+	 * 
+	 * @param in The input the value should be read from.
+	 * 
+	 * @return The value or null.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 */
+	private static BigInteger readBigInteger(DataInput in) throws IOException
+	{
+		int length = in.readInt();
+		
+		if(length < 0) return null;
+		
+		byte[] bytes = readBytes(in, length);
+		
+		return new BigInteger(bytes);
+	}
+	
+	/**
+	 * Writes a big decimal as its unscaled value followed by the scale to the buffer.
+	 * 
+	 * @param buffer The buffer the value should be written to.
+	 * @param value The value to write. Can be null.
+	 */
+	private static void putBigDecimal(ByteBuffer buffer, BigDecimal value)
+	{
+		if(value == null)
+		{
+			buffer.putInt(-1);
+			return;
+		}
+		
+		putBigInteger(buffer, value.unscaledValue());
+		buffer.putInt(value.scale());
+	}
+	
+	/**
+	 * Reads a big decimal stored as its unscaled value followed by the scale from the buffer.
+	 * 
+	 * @param buffer The buffer the value should be read from.
+	 * 
+	 * @return The value or null.
+	 */
+	private static BigDecimal getBigDecimal(ByteBuffer buffer)
+	{
+		BigInteger unscaled = getBigInteger(buffer);
+		
+		if(unscaled == null) return null;
+		
+		return new BigDecimal(unscaled, buffer.getInt());
+	}
+	
+	/**
+	 * Writes a big decimal as its unscaled value followed by the scale to the output.
+	 * 
+	 * @param out The output the value should be written to.
+	 * @param value The value to write. Can be null.
+	 * 
+	 * @throws IOException If the output fails to write the data.
+	 */
+	private static void writeBigDecimal(DataOutput out, BigDecimal value) throws IOException
+	{
+		if(value == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+		
+		writeBigInteger(out, value.unscaledValue());
+		out.writeInt(value.scale());
+	}
+	
+	/**
+	 * Reads a big decimal stored as its unscaled value followed by the scale from the input.
+	 * 
+	 * @param in The input the value should be read from.
+	 * 
+	 * @return The value or null.
+	 * 
+	 * @throws IOException If the input fails to read the data.
+	 */
+	private static BigDecimal readBigDecimal(DataInput in) throws IOException
+	{
+		BigInteger unscaled = readBigInteger(in);
+		
+		if(unscaled == null) return null;
+		
+		return new BigDecimal(unscaled, in.readInt());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,3663 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+
+import org.barghos.core.api.tuple2.Tup2fR;
+import org.barghos.core.api.tuple2.Tup2fW;
+import org.barghos.core.api.tuple3.Tup3fR;
+import org.barghos.core.api.tuple3.Tup3fW;
+import org.barghos.core.api.tuple4.Tup4fR;
+import org.barghos.core.api.tuple4.Tup4fW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class provides compact packings for float tuples like vertex normals, tangents and texture coordinates.
+ * 
+ * <p>
+ * The supported formats are half-floats (IEEE 754 binary16) and signed and unsigned normalized integers
+ * with 16 and 8 bits. Signed normalized values cover the range -1 to 1, unsigned normalized values the range 0 to 1.
+ * Values outside of the range are clamped. Packing rounds to the nearest representable value.
+ * 
+ * <p>
+ * The bulk methods either pack tuples into buffers and unpack them back into tuples,
+ * or convert whole float buffers to packed buffers and back. Byte buffers use their own byte order.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class TuplePacking
+{
+	private TuplePacking() { }
+	
+	/**
+	 * Converts the float to a half-float (IEEE 754 binary16) with rounding to nearest even.
+	 * Values too large for a half-float become infinity. NaN stays NaN.
+	 * 
+	 * @param value The float to convert.
+	 * 
+	 * @return The bits of the half-float.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static short toHalf(float value)
+	{
+		int bits = Float.floatToRawIntBits(value);
+		int sign = (bits >>> 16) & 0x8000;
+		int abs = bits & 0x7FFFFFFF;
+		
+		// infinity and NaN. NaN keeps the upper bits of its payload and is forced to stay NaN.
+		if(abs >= 0x7F800000) return (short)(sign | 0x7C00 | (abs > 0x7F800000 ? 0x0200 | ((abs >>> 13) & 0x03FF) : 0));
+		
+		// too large even after rounding.
+		if(abs >= 0x47800000) return (short)(sign | 0x7C00);
+		
+		// subnormal or zero as half-float.
+		if(abs < 0x38800000)
+		{
+			if(abs < 0x33000000) return (short)sign;
+			
+			int shift = 126 - (abs >>> 23);
+			int mantissa = (abs & 0x007FFFFF) | 0x00800000;
+			int result = mantissa >>> shift;
+			int remainder = mantissa & ((1 << shift) - 1);
+			int halfway = 1 << (shift - 1);
+			
+			if(remainder > halfway || (remainder == halfway && (result & 1) != 0)) result++;
+			
+			return (short)(sign | result);
+		}
+		
+		// normal. The exponent is rebiased from 127 to 15. A carry out of the mantissa correctly increments the exponent.
+		int result = (abs - 0x38000000) >>> 13;
+		int remainder = abs & 0x1FFF;
+		
+		if(remainder > 0x1000 || (remainder == 0x1000 && (result & 1) != 0)) result++;
+		
+		return (short)(sign | result);
+	}
+	
+	/**
+	 * Converts the half-float (IEEE 754 binary16) to a float. The conversion is exact.
+	 * 
+	 * @param half The bits of the half-float.
+	 * 
+	 * @return The float.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static float fromHalf(short half)
+	{
+		int bits = half & 0xFFFF;
+		int sign = (bits & 0x8000) << 16;
+		int exponent = (bits >>> 10) & 0x1F;
+		int mantissa = bits & 0x03FF;
+		
+		if(exponent == 0x1F) return Float.intBitsToFloat(sign | 0x7F800000 | (mantissa << 13));
+		
+		if(exponent == 0)
+		{
+			float value = mantissa * 0x1p-24f;
+			
+			return sign != 0 ? -value : value;
+		}
+		
+		return Float.intBitsToFloat(sign | ((exponent + 112) << 23) | (mantissa << 13));
+	}
+	
+	/**
+	 * Converts the float to a signed normalized 16-bit integer. The value is clamped to the range -1 to 1.
+	 * 
+	 * @param value The float to convert.
+	 * 
+	 * @return The signed normalized integer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static short toSnorm16(float value)
+	{
+		return (short)Math.round(Math.max(-1.0f, Math.min(1.0f, value)) * 32767.0f);
+	}
+	
+	/**
+	 * Converts the signed normalized 16-bit integer to a float in the range -1 to 1.
+	 * Both -32768 and -32767 map to -1.
+	 * 
+	 * @param value The signed normalized integer.
+	 * 
+	 * @return The float.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static float fromSnorm16(short value)
+	{
+		return Math.max(value / 32767.0f, -1.0f);
+	}
+	
+	/**
+	 * Converts the float to an unsigned normalized 16-bit integer. The value is clamped to the range 0 to 1.
+	 * 
+	 * @param value The float to convert.
+	 * 
+	 * @return The unsigned normalized integer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static short toUnorm16(float value)
+	{
+		return (short)Math.round(Math.max(0.0f, Math.min(1.0f, value)) * 65535.0f);
+	}
+	
+	/**
+	 * Converts the unsigned normalized 16-bit integer to a float in the range 0 to 1.
+	 * 
+	 * @param value The unsigned normalized integer.
+	 * 
+	 * @return The float.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static float fromUnorm16(short value)
+	{
+		return (value & 0xFFFF) / 65535.0f;
+	}
+	
+	/**
+	 * Converts the float to a signed normalized 8-bit integer. The value is clamped to the range -1 to 1.
+	 * 
+	 * @param value The float to convert.
+	 * 
+	 * @return The signed normalized integer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static byte toSnorm8(float value)
+	{
+		return (byte)Math.round(Math.max(-1.0f, Math.min(1.0f, value)) * 127.0f);
+	}
+	
+	/**
+	 * Converts the signed normalized 8-bit integer to a float in the range -1 to 1.
+	 * Both -128 and -127 map to -1.
+	 * 
+	 * @param value The signed normalized integer.
+	 * 
+	 * @return The float.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static float fromSnorm8(byte value)
+	{
+		return Math.max(value / 127.0f, -1.0f);
+	}
+	
+	/**
+	 * Converts the float to an unsigned normalized 8-bit integer. The value is clamped to the range 0 to 1.
+	 * 
+	 * @param value The float to convert.
+	 * 
+	 * @return The unsigned normalized integer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static byte toUnorm8(float value)
+	{
+		return (byte)Math.round(Math.max(0.0f, Math.min(1.0f, value)) * 255.0f);
+	}
+	
+	/**
+	 * Converts the unsigned normalized 8-bit integer to a float in the range 0 to 1.
+	 * 
+	 * @param value The unsigned normalized integer.
+	 * 
+	 * @return The float.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static float fromUnorm8(byte value)
+	{
+		return (value & 0xFF) / 255.0f;
+	}
+	
+	/**
+	 * Packs the components of the tuple as half-float (IEEE 754 binary16) and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup2fHalf(ShortBuffer buffer, Tup2fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toHalf(t.getX()));
+		buffer.put(toHalf(t.getY()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads half-float (IEEE 754 binary16) components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2fW> T unpackTup2fHalf(ShortBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromHalf(buffer.get());
+		float y = fromHalf(buffer.get());
+		
+		result.set(x, y);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as half-float (IEEE 754 binary16) and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup2fHalfArray(ShortBuffer buffer, Tup2fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2fR current = t[i];
+			buffer.put(toHalf(current.getX()));
+			buffer.put(toHalf(current.getY()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads half-float (IEEE 754 binary16) components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2fW[] unpackTup2fHalfArray(ShortBuffer buffer, Tup2fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromHalf(buffer.get());
+			float y = fromHalf(buffer.get());
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as half-float (IEEE 754 binary16) and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup3fHalf(ShortBuffer buffer, Tup3fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toHalf(t.getX()));
+		buffer.put(toHalf(t.getY()));
+		buffer.put(toHalf(t.getZ()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads half-float (IEEE 754 binary16) components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3fW> T unpackTup3fHalf(ShortBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromHalf(buffer.get());
+		float y = fromHalf(buffer.get());
+		float z = fromHalf(buffer.get());
+		
+		result.set(x, y, z);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as half-float (IEEE 754 binary16) and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup3fHalfArray(ShortBuffer buffer, Tup3fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3fR current = t[i];
+			buffer.put(toHalf(current.getX()));
+			buffer.put(toHalf(current.getY()));
+			buffer.put(toHalf(current.getZ()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads half-float (IEEE 754 binary16) components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3fW[] unpackTup3fHalfArray(ShortBuffer buffer, Tup3fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromHalf(buffer.get());
+			float y = fromHalf(buffer.get());
+			float z = fromHalf(buffer.get());
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as half-float (IEEE 754 binary16) and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup4fHalf(ShortBuffer buffer, Tup4fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toHalf(t.getX()));
+		buffer.put(toHalf(t.getY()));
+		buffer.put(toHalf(t.getZ()));
+		buffer.put(toHalf(t.getW()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads half-float (IEEE 754 binary16) components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4fW> T unpackTup4fHalf(ShortBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromHalf(buffer.get());
+		float y = fromHalf(buffer.get());
+		float z = fromHalf(buffer.get());
+		float w = fromHalf(buffer.get());
+		
+		result.set(x, y, z, w);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as half-float (IEEE 754 binary16) and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup4fHalfArray(ShortBuffer buffer, Tup4fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4fR current = t[i];
+			buffer.put(toHalf(current.getX()));
+			buffer.put(toHalf(current.getY()));
+			buffer.put(toHalf(current.getZ()));
+			buffer.put(toHalf(current.getW()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads half-float (IEEE 754 binary16) components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4fW[] unpackTup4fHalfArray(ShortBuffer buffer, Tup4fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromHalf(buffer.get());
+			float y = fromHalf(buffer.get());
+			float z = fromHalf(buffer.get());
+			float w = fromHalf(buffer.get());
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs all remaining floats of the source buffer as half-float (IEEE 754 binary16) into the destination buffer.
+	 * The positions of both buffers are advanced. The layout of the components is preserved,
+	 * so this works for interleaved tuples of any dimension.
+	 * 
+	 * @param src The buffer containing the floats to pack.
+	 * @param dst The buffer the packed components are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packHalf(FloatBuffer src, ShortBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining();
+		
+		for(int i = 0; i < count; i++)
+			dst.put(toHalf(src.get()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Unpacks all remaining half-float (IEEE 754 binary16) components of the source buffer into the destination buffer.
+	 * The positions of both buffers are advanced.
+	 * 
+	 * @param src The buffer containing the packed components.
+	 * @param dst The buffer the unpacked floats are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static FloatBuffer unpackHalf(ShortBuffer src, FloatBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining();
+		
+		for(int i = 0; i < count; i++)
+			dst.put(fromHalf(src.get()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Packs the components of the tuple as half-float (IEEE 754 binary16) and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup2fHalf(ByteBuffer buffer, Tup2fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putShort(toHalf(t.getX()));
+		buffer.putShort(toHalf(t.getY()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads half-float (IEEE 754 binary16) components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2fW> T unpackTup2fHalf(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromHalf(buffer.getShort());
+		float y = fromHalf(buffer.getShort());
+		
+		result.set(x, y);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as half-float (IEEE 754 binary16) and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup2fHalfArray(ByteBuffer buffer, Tup2fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2fR current = t[i];
+			buffer.putShort(toHalf(current.getX()));
+			buffer.putShort(toHalf(current.getY()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads half-float (IEEE 754 binary16) components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2fW[] unpackTup2fHalfArray(ByteBuffer buffer, Tup2fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromHalf(buffer.getShort());
+			float y = fromHalf(buffer.getShort());
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as half-float (IEEE 754 binary16) and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup3fHalf(ByteBuffer buffer, Tup3fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putShort(toHalf(t.getX()));
+		buffer.putShort(toHalf(t.getY()));
+		buffer.putShort(toHalf(t.getZ()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads half-float (IEEE 754 binary16) components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3fW> T unpackTup3fHalf(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromHalf(buffer.getShort());
+		float y = fromHalf(buffer.getShort());
+		float z = fromHalf(buffer.getShort());
+		
+		result.set(x, y, z);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as half-float (IEEE 754 binary16) and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup3fHalfArray(ByteBuffer buffer, Tup3fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3fR current = t[i];
+			buffer.putShort(toHalf(current.getX()));
+			buffer.putShort(toHalf(current.getY()));
+			buffer.putShort(toHalf(current.getZ()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads half-float (IEEE 754 binary16) components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3fW[] unpackTup3fHalfArray(ByteBuffer buffer, Tup3fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromHalf(buffer.getShort());
+			float y = fromHalf(buffer.getShort());
+			float z = fromHalf(buffer.getShort());
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as half-float (IEEE 754 binary16) and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup4fHalf(ByteBuffer buffer, Tup4fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putShort(toHalf(t.getX()));
+		buffer.putShort(toHalf(t.getY()));
+		buffer.putShort(toHalf(t.getZ()));
+		buffer.putShort(toHalf(t.getW()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads half-float (IEEE 754 binary16) components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4fW> T unpackTup4fHalf(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromHalf(buffer.getShort());
+		float y = fromHalf(buffer.getShort());
+		float z = fromHalf(buffer.getShort());
+		float w = fromHalf(buffer.getShort());
+		
+		result.set(x, y, z, w);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as half-float (IEEE 754 binary16) and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup4fHalfArray(ByteBuffer buffer, Tup4fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4fR current = t[i];
+			buffer.putShort(toHalf(current.getX()));
+			buffer.putShort(toHalf(current.getY()));
+			buffer.putShort(toHalf(current.getZ()));
+			buffer.putShort(toHalf(current.getW()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads half-float (IEEE 754 binary16) components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4fW[] unpackTup4fHalfArray(ByteBuffer buffer, Tup4fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromHalf(buffer.getShort());
+			float y = fromHalf(buffer.getShort());
+			float z = fromHalf(buffer.getShort());
+			float w = fromHalf(buffer.getShort());
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs all remaining floats of the source buffer as half-float (IEEE 754 binary16) into the destination buffer.
+	 * The positions of both buffers are advanced. The layout of the components is preserved,
+	 * so this works for interleaved tuples of any dimension.
+	 * 
+	 * @param src The buffer containing the floats to pack.
+	 * @param dst The buffer the packed components are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packHalf(FloatBuffer src, ByteBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining();
+		
+		for(int i = 0; i < count; i++)
+			dst.putShort(toHalf(src.get()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Unpacks all remaining half-float (IEEE 754 binary16) components of the source buffer into the destination buffer.
+	 * The positions of both buffers are advanced.
+	 * 
+	 * @param src The buffer containing the packed components.
+	 * @param dst The buffer the unpacked floats are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static FloatBuffer unpackHalf(ByteBuffer src, FloatBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining() / 2;
+		
+		for(int i = 0; i < count; i++)
+			dst.put(fromHalf(src.getShort()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Packs the components of the tuple as signed normalized 16-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup2fSnorm16(ShortBuffer buffer, Tup2fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toSnorm16(t.getX()));
+		buffer.put(toSnorm16(t.getY()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 16-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2fW> T unpackTup2fSnorm16(ShortBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromSnorm16(buffer.get());
+		float y = fromSnorm16(buffer.get());
+		
+		result.set(x, y);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as signed normalized 16-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup2fSnorm16Array(ShortBuffer buffer, Tup2fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2fR current = t[i];
+			buffer.put(toSnorm16(current.getX()));
+			buffer.put(toSnorm16(current.getY()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 16-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2fW[] unpackTup2fSnorm16Array(ShortBuffer buffer, Tup2fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromSnorm16(buffer.get());
+			float y = fromSnorm16(buffer.get());
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as signed normalized 16-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup3fSnorm16(ShortBuffer buffer, Tup3fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toSnorm16(t.getX()));
+		buffer.put(toSnorm16(t.getY()));
+		buffer.put(toSnorm16(t.getZ()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 16-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3fW> T unpackTup3fSnorm16(ShortBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromSnorm16(buffer.get());
+		float y = fromSnorm16(buffer.get());
+		float z = fromSnorm16(buffer.get());
+		
+		result.set(x, y, z);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as signed normalized 16-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup3fSnorm16Array(ShortBuffer buffer, Tup3fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3fR current = t[i];
+			buffer.put(toSnorm16(current.getX()));
+			buffer.put(toSnorm16(current.getY()));
+			buffer.put(toSnorm16(current.getZ()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 16-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3fW[] unpackTup3fSnorm16Array(ShortBuffer buffer, Tup3fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromSnorm16(buffer.get());
+			float y = fromSnorm16(buffer.get());
+			float z = fromSnorm16(buffer.get());
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as signed normalized 16-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup4fSnorm16(ShortBuffer buffer, Tup4fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toSnorm16(t.getX()));
+		buffer.put(toSnorm16(t.getY()));
+		buffer.put(toSnorm16(t.getZ()));
+		buffer.put(toSnorm16(t.getW()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 16-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4fW> T unpackTup4fSnorm16(ShortBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromSnorm16(buffer.get());
+		float y = fromSnorm16(buffer.get());
+		float z = fromSnorm16(buffer.get());
+		float w = fromSnorm16(buffer.get());
+		
+		result.set(x, y, z, w);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as signed normalized 16-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup4fSnorm16Array(ShortBuffer buffer, Tup4fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4fR current = t[i];
+			buffer.put(toSnorm16(current.getX()));
+			buffer.put(toSnorm16(current.getY()));
+			buffer.put(toSnorm16(current.getZ()));
+			buffer.put(toSnorm16(current.getW()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 16-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4fW[] unpackTup4fSnorm16Array(ShortBuffer buffer, Tup4fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromSnorm16(buffer.get());
+			float y = fromSnorm16(buffer.get());
+			float z = fromSnorm16(buffer.get());
+			float w = fromSnorm16(buffer.get());
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs all remaining floats of the source buffer as signed normalized 16-bit integer into the destination buffer.
+	 * The positions of both buffers are advanced. The layout of the components is preserved,
+	 * so this works for interleaved tuples of any dimension.
+	 * 
+	 * @param src The buffer containing the floats to pack.
+	 * @param dst The buffer the packed components are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packSnorm16(FloatBuffer src, ShortBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining();
+		
+		for(int i = 0; i < count; i++)
+			dst.put(toSnorm16(src.get()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Unpacks all remaining signed normalized 16-bit integer components of the source buffer into the destination buffer.
+	 * The positions of both buffers are advanced.
+	 * 
+	 * @param src The buffer containing the packed components.
+	 * @param dst The buffer the unpacked floats are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static FloatBuffer unpackSnorm16(ShortBuffer src, FloatBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining();
+		
+		for(int i = 0; i < count; i++)
+			dst.put(fromSnorm16(src.get()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Packs the components of the tuple as signed normalized 16-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup2fSnorm16(ByteBuffer buffer, Tup2fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putShort(toSnorm16(t.getX()));
+		buffer.putShort(toSnorm16(t.getY()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 16-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2fW> T unpackTup2fSnorm16(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromSnorm16(buffer.getShort());
+		float y = fromSnorm16(buffer.getShort());
+		
+		result.set(x, y);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as signed normalized 16-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup2fSnorm16Array(ByteBuffer buffer, Tup2fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2fR current = t[i];
+			buffer.putShort(toSnorm16(current.getX()));
+			buffer.putShort(toSnorm16(current.getY()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 16-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2fW[] unpackTup2fSnorm16Array(ByteBuffer buffer, Tup2fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromSnorm16(buffer.getShort());
+			float y = fromSnorm16(buffer.getShort());
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as signed normalized 16-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup3fSnorm16(ByteBuffer buffer, Tup3fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putShort(toSnorm16(t.getX()));
+		buffer.putShort(toSnorm16(t.getY()));
+		buffer.putShort(toSnorm16(t.getZ()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 16-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3fW> T unpackTup3fSnorm16(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromSnorm16(buffer.getShort());
+		float y = fromSnorm16(buffer.getShort());
+		float z = fromSnorm16(buffer.getShort());
+		
+		result.set(x, y, z);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as signed normalized 16-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup3fSnorm16Array(ByteBuffer buffer, Tup3fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3fR current = t[i];
+			buffer.putShort(toSnorm16(current.getX()));
+			buffer.putShort(toSnorm16(current.getY()));
+			buffer.putShort(toSnorm16(current.getZ()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 16-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3fW[] unpackTup3fSnorm16Array(ByteBuffer buffer, Tup3fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromSnorm16(buffer.getShort());
+			float y = fromSnorm16(buffer.getShort());
+			float z = fromSnorm16(buffer.getShort());
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as signed normalized 16-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup4fSnorm16(ByteBuffer buffer, Tup4fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putShort(toSnorm16(t.getX()));
+		buffer.putShort(toSnorm16(t.getY()));
+		buffer.putShort(toSnorm16(t.getZ()));
+		buffer.putShort(toSnorm16(t.getW()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 16-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4fW> T unpackTup4fSnorm16(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromSnorm16(buffer.getShort());
+		float y = fromSnorm16(buffer.getShort());
+		float z = fromSnorm16(buffer.getShort());
+		float w = fromSnorm16(buffer.getShort());
+		
+		result.set(x, y, z, w);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as signed normalized 16-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup4fSnorm16Array(ByteBuffer buffer, Tup4fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4fR current = t[i];
+			buffer.putShort(toSnorm16(current.getX()));
+			buffer.putShort(toSnorm16(current.getY()));
+			buffer.putShort(toSnorm16(current.getZ()));
+			buffer.putShort(toSnorm16(current.getW()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 16-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4fW[] unpackTup4fSnorm16Array(ByteBuffer buffer, Tup4fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromSnorm16(buffer.getShort());
+			float y = fromSnorm16(buffer.getShort());
+			float z = fromSnorm16(buffer.getShort());
+			float w = fromSnorm16(buffer.getShort());
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs all remaining floats of the source buffer as signed normalized 16-bit integer into the destination buffer.
+	 * The positions of both buffers are advanced. The layout of the components is preserved,
+	 * so this works for interleaved tuples of any dimension.
+	 * 
+	 * @param src The buffer containing the floats to pack.
+	 * @param dst The buffer the packed components are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packSnorm16(FloatBuffer src, ByteBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining();
+		
+		for(int i = 0; i < count; i++)
+			dst.putShort(toSnorm16(src.get()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Unpacks all remaining signed normalized 16-bit integer components of the source buffer into the destination buffer.
+	 * The positions of both buffers are advanced.
+	 * 
+	 * @param src The buffer containing the packed components.
+	 * @param dst The buffer the unpacked floats are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static FloatBuffer unpackSnorm16(ByteBuffer src, FloatBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining() / 2;
+		
+		for(int i = 0; i < count; i++)
+			dst.put(fromSnorm16(src.getShort()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Packs the components of the tuple as unsigned normalized 16-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup2fUnorm16(ShortBuffer buffer, Tup2fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toUnorm16(t.getX()));
+		buffer.put(toUnorm16(t.getY()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 16-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2fW> T unpackTup2fUnorm16(ShortBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromUnorm16(buffer.get());
+		float y = fromUnorm16(buffer.get());
+		
+		result.set(x, y);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as unsigned normalized 16-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup2fUnorm16Array(ShortBuffer buffer, Tup2fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2fR current = t[i];
+			buffer.put(toUnorm16(current.getX()));
+			buffer.put(toUnorm16(current.getY()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 16-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2fW[] unpackTup2fUnorm16Array(ShortBuffer buffer, Tup2fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromUnorm16(buffer.get());
+			float y = fromUnorm16(buffer.get());
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as unsigned normalized 16-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup3fUnorm16(ShortBuffer buffer, Tup3fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toUnorm16(t.getX()));
+		buffer.put(toUnorm16(t.getY()));
+		buffer.put(toUnorm16(t.getZ()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 16-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3fW> T unpackTup3fUnorm16(ShortBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromUnorm16(buffer.get());
+		float y = fromUnorm16(buffer.get());
+		float z = fromUnorm16(buffer.get());
+		
+		result.set(x, y, z);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as unsigned normalized 16-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup3fUnorm16Array(ShortBuffer buffer, Tup3fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3fR current = t[i];
+			buffer.put(toUnorm16(current.getX()));
+			buffer.put(toUnorm16(current.getY()));
+			buffer.put(toUnorm16(current.getZ()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 16-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3fW[] unpackTup3fUnorm16Array(ShortBuffer buffer, Tup3fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromUnorm16(buffer.get());
+			float y = fromUnorm16(buffer.get());
+			float z = fromUnorm16(buffer.get());
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as unsigned normalized 16-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup4fUnorm16(ShortBuffer buffer, Tup4fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toUnorm16(t.getX()));
+		buffer.put(toUnorm16(t.getY()));
+		buffer.put(toUnorm16(t.getZ()));
+		buffer.put(toUnorm16(t.getW()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 16-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4fW> T unpackTup4fUnorm16(ShortBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromUnorm16(buffer.get());
+		float y = fromUnorm16(buffer.get());
+		float z = fromUnorm16(buffer.get());
+		float w = fromUnorm16(buffer.get());
+		
+		result.set(x, y, z, w);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as unsigned normalized 16-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packTup4fUnorm16Array(ShortBuffer buffer, Tup4fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4fR current = t[i];
+			buffer.put(toUnorm16(current.getX()));
+			buffer.put(toUnorm16(current.getY()));
+			buffer.put(toUnorm16(current.getZ()));
+			buffer.put(toUnorm16(current.getW()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 16-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4fW[] unpackTup4fUnorm16Array(ShortBuffer buffer, Tup4fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromUnorm16(buffer.get());
+			float y = fromUnorm16(buffer.get());
+			float z = fromUnorm16(buffer.get());
+			float w = fromUnorm16(buffer.get());
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs all remaining floats of the source buffer as unsigned normalized 16-bit integer into the destination buffer.
+	 * The positions of both buffers are advanced. The layout of the components is preserved,
+	 * so this works for interleaved tuples of any dimension.
+	 * 
+	 * @param src The buffer containing the floats to pack.
+	 * @param dst The buffer the packed components are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ShortBuffer packUnorm16(FloatBuffer src, ShortBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining();
+		
+		for(int i = 0; i < count; i++)
+			dst.put(toUnorm16(src.get()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Unpacks all remaining unsigned normalized 16-bit integer components of the source buffer into the destination buffer.
+	 * The positions of both buffers are advanced.
+	 * 
+	 * @param src The buffer containing the packed components.
+	 * @param dst The buffer the unpacked floats are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static FloatBuffer unpackUnorm16(ShortBuffer src, FloatBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining();
+		
+		for(int i = 0; i < count; i++)
+			dst.put(fromUnorm16(src.get()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Packs the components of the tuple as unsigned normalized 16-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup2fUnorm16(ByteBuffer buffer, Tup2fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putShort(toUnorm16(t.getX()));
+		buffer.putShort(toUnorm16(t.getY()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 16-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2fW> T unpackTup2fUnorm16(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromUnorm16(buffer.getShort());
+		float y = fromUnorm16(buffer.getShort());
+		
+		result.set(x, y);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as unsigned normalized 16-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup2fUnorm16Array(ByteBuffer buffer, Tup2fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2fR current = t[i];
+			buffer.putShort(toUnorm16(current.getX()));
+			buffer.putShort(toUnorm16(current.getY()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 16-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2fW[] unpackTup2fUnorm16Array(ByteBuffer buffer, Tup2fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromUnorm16(buffer.getShort());
+			float y = fromUnorm16(buffer.getShort());
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as unsigned normalized 16-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup3fUnorm16(ByteBuffer buffer, Tup3fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putShort(toUnorm16(t.getX()));
+		buffer.putShort(toUnorm16(t.getY()));
+		buffer.putShort(toUnorm16(t.getZ()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 16-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3fW> T unpackTup3fUnorm16(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromUnorm16(buffer.getShort());
+		float y = fromUnorm16(buffer.getShort());
+		float z = fromUnorm16(buffer.getShort());
+		
+		result.set(x, y, z);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as unsigned normalized 16-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup3fUnorm16Array(ByteBuffer buffer, Tup3fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3fR current = t[i];
+			buffer.putShort(toUnorm16(current.getX()));
+			buffer.putShort(toUnorm16(current.getY()));
+			buffer.putShort(toUnorm16(current.getZ()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 16-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3fW[] unpackTup3fUnorm16Array(ByteBuffer buffer, Tup3fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromUnorm16(buffer.getShort());
+			float y = fromUnorm16(buffer.getShort());
+			float z = fromUnorm16(buffer.getShort());
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as unsigned normalized 16-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup4fUnorm16(ByteBuffer buffer, Tup4fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.putShort(toUnorm16(t.getX()));
+		buffer.putShort(toUnorm16(t.getY()));
+		buffer.putShort(toUnorm16(t.getZ()));
+		buffer.putShort(toUnorm16(t.getW()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 16-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4fW> T unpackTup4fUnorm16(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromUnorm16(buffer.getShort());
+		float y = fromUnorm16(buffer.getShort());
+		float z = fromUnorm16(buffer.getShort());
+		float w = fromUnorm16(buffer.getShort());
+		
+		result.set(x, y, z, w);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as unsigned normalized 16-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup4fUnorm16Array(ByteBuffer buffer, Tup4fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4fR current = t[i];
+			buffer.putShort(toUnorm16(current.getX()));
+			buffer.putShort(toUnorm16(current.getY()));
+			buffer.putShort(toUnorm16(current.getZ()));
+			buffer.putShort(toUnorm16(current.getW()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 16-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4fW[] unpackTup4fUnorm16Array(ByteBuffer buffer, Tup4fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromUnorm16(buffer.getShort());
+			float y = fromUnorm16(buffer.getShort());
+			float z = fromUnorm16(buffer.getShort());
+			float w = fromUnorm16(buffer.getShort());
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs all remaining floats of the source buffer as unsigned normalized 16-bit integer into the destination buffer.
+	 * The positions of both buffers are advanced. The layout of the components is preserved,
+	 * so this works for interleaved tuples of any dimension.
+	 * 
+	 * @param src The buffer containing the floats to pack.
+	 * @param dst The buffer the packed components are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packUnorm16(FloatBuffer src, ByteBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining();
+		
+		for(int i = 0; i < count; i++)
+			dst.putShort(toUnorm16(src.get()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Unpacks all remaining unsigned normalized 16-bit integer components of the source buffer into the destination buffer.
+	 * The positions of both buffers are advanced.
+	 * 
+	 * @param src The buffer containing the packed components.
+	 * @param dst The buffer the unpacked floats are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static FloatBuffer unpackUnorm16(ByteBuffer src, FloatBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining() / 2;
+		
+		for(int i = 0; i < count; i++)
+			dst.put(fromUnorm16(src.getShort()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Packs the components of the tuple as signed normalized 8-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup2fSnorm8(ByteBuffer buffer, Tup2fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toSnorm8(t.getX()));
+		buffer.put(toSnorm8(t.getY()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 8-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2fW> T unpackTup2fSnorm8(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromSnorm8(buffer.get());
+		float y = fromSnorm8(buffer.get());
+		
+		result.set(x, y);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as signed normalized 8-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup2fSnorm8Array(ByteBuffer buffer, Tup2fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2fR current = t[i];
+			buffer.put(toSnorm8(current.getX()));
+			buffer.put(toSnorm8(current.getY()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 8-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2fW[] unpackTup2fSnorm8Array(ByteBuffer buffer, Tup2fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromSnorm8(buffer.get());
+			float y = fromSnorm8(buffer.get());
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as signed normalized 8-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup3fSnorm8(ByteBuffer buffer, Tup3fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toSnorm8(t.getX()));
+		buffer.put(toSnorm8(t.getY()));
+		buffer.put(toSnorm8(t.getZ()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 8-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3fW> T unpackTup3fSnorm8(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromSnorm8(buffer.get());
+		float y = fromSnorm8(buffer.get());
+		float z = fromSnorm8(buffer.get());
+		
+		result.set(x, y, z);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as signed normalized 8-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup3fSnorm8Array(ByteBuffer buffer, Tup3fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3fR current = t[i];
+			buffer.put(toSnorm8(current.getX()));
+			buffer.put(toSnorm8(current.getY()));
+			buffer.put(toSnorm8(current.getZ()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 8-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3fW[] unpackTup3fSnorm8Array(ByteBuffer buffer, Tup3fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromSnorm8(buffer.get());
+			float y = fromSnorm8(buffer.get());
+			float z = fromSnorm8(buffer.get());
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as signed normalized 8-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup4fSnorm8(ByteBuffer buffer, Tup4fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toSnorm8(t.getX()));
+		buffer.put(toSnorm8(t.getY()));
+		buffer.put(toSnorm8(t.getZ()));
+		buffer.put(toSnorm8(t.getW()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 8-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4fW> T unpackTup4fSnorm8(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromSnorm8(buffer.get());
+		float y = fromSnorm8(buffer.get());
+		float z = fromSnorm8(buffer.get());
+		float w = fromSnorm8(buffer.get());
+		
+		result.set(x, y, z, w);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as signed normalized 8-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup4fSnorm8Array(ByteBuffer buffer, Tup4fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4fR current = t[i];
+			buffer.put(toSnorm8(current.getX()));
+			buffer.put(toSnorm8(current.getY()));
+			buffer.put(toSnorm8(current.getZ()));
+			buffer.put(toSnorm8(current.getW()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads signed normalized 8-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4fW[] unpackTup4fSnorm8Array(ByteBuffer buffer, Tup4fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromSnorm8(buffer.get());
+			float y = fromSnorm8(buffer.get());
+			float z = fromSnorm8(buffer.get());
+			float w = fromSnorm8(buffer.get());
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs all remaining floats of the source buffer as signed normalized 8-bit integer into the destination buffer.
+	 * The positions of both buffers are advanced. The layout of the components is preserved,
+	 * so this works for interleaved tuples of any dimension.
+	 * 
+	 * @param src The buffer containing the floats to pack.
+	 * @param dst The buffer the packed components are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packSnorm8(FloatBuffer src, ByteBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining();
+		
+		for(int i = 0; i < count; i++)
+			dst.put(toSnorm8(src.get()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Unpacks all remaining signed normalized 8-bit integer components of the source buffer into the destination buffer.
+	 * The positions of both buffers are advanced.
+	 * 
+	 * @param src The buffer containing the packed components.
+	 * @param dst The buffer the unpacked floats are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static FloatBuffer unpackSnorm8(ByteBuffer src, FloatBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining();
+		
+		for(int i = 0; i < count; i++)
+			dst.put(fromSnorm8(src.get()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Packs the components of the tuple as unsigned normalized 8-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup2fUnorm8(ByteBuffer buffer, Tup2fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toUnorm8(t.getX()));
+		buffer.put(toUnorm8(t.getY()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 8-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2fW> T unpackTup2fUnorm8(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromUnorm8(buffer.get());
+		float y = fromUnorm8(buffer.get());
+		
+		result.set(x, y);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as unsigned normalized 8-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup2fUnorm8Array(ByteBuffer buffer, Tup2fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup2fR current = t[i];
+			buffer.put(toUnorm8(current.getX()));
+			buffer.put(toUnorm8(current.getY()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 8-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2fW[] unpackTup2fUnorm8Array(ByteBuffer buffer, Tup2fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromUnorm8(buffer.get());
+			float y = fromUnorm8(buffer.get());
+			
+			t[i].set(x, y);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as unsigned normalized 8-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup3fUnorm8(ByteBuffer buffer, Tup3fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toUnorm8(t.getX()));
+		buffer.put(toUnorm8(t.getY()));
+		buffer.put(toUnorm8(t.getZ()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 8-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3fW> T unpackTup3fUnorm8(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromUnorm8(buffer.get());
+		float y = fromUnorm8(buffer.get());
+		float z = fromUnorm8(buffer.get());
+		
+		result.set(x, y, z);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as unsigned normalized 8-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup3fUnorm8Array(ByteBuffer buffer, Tup3fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup3fR current = t[i];
+			buffer.put(toUnorm8(current.getX()));
+			buffer.put(toUnorm8(current.getY()));
+			buffer.put(toUnorm8(current.getZ()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 8-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup3fW[] unpackTup3fUnorm8Array(ByteBuffer buffer, Tup3fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromUnorm8(buffer.get());
+			float y = fromUnorm8(buffer.get());
+			float z = fromUnorm8(buffer.get());
+			
+			t[i].set(x, y, z);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs the components of the tuple as unsigned normalized 8-bit integer and puts them into the buffer
+	 * at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuple to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup4fUnorm8(ByteBuffer buffer, Tup4fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		buffer.put(toUnorm8(t.getX()));
+		buffer.put(toUnorm8(t.getY()));
+		buffer.put(toUnorm8(t.getZ()));
+		buffer.put(toUnorm8(t.getW()));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 8-bit integer components from the buffer at its current position,
+	 * unpacks them into the tuple result and advances the position.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param buffer The buffer the packed components are read from.
+	 * @param result The tuple receiving the unpacked components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup4fW> T unpackTup4fUnorm8(ByteBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		float x = fromUnorm8(buffer.get());
+		float y = fromUnorm8(buffer.get());
+		float z = fromUnorm8(buffer.get());
+		float w = fromUnorm8(buffer.get());
+		
+		result.set(x, y, z, w);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the components of the tuples of the array t in the range of offset to offset + length
+	 * as unsigned normalized 8-bit integer and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are written to.
+	 * @param t The tuples to pack.
+	 * @param offset The index of the first tuple to pack.
+	 * @param length The number of tuples to pack.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packTup4fUnorm8Array(ByteBuffer buffer, Tup4fR[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			Tup4fR current = t[i];
+			buffer.put(toUnorm8(current.getX()));
+			buffer.put(toUnorm8(current.getY()));
+			buffer.put(toUnorm8(current.getZ()));
+			buffer.put(toUnorm8(current.getW()));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads unsigned normalized 8-bit integer components from the buffer at its current position, unpacks them
+	 * into the tuples of the array t in the range of offset to offset + length and advances the position.
+	 * 
+	 * @param buffer The buffer the packed components are read from.
+	 * @param t The tuples receiving the unpacked components.
+	 * @param offset The index of the first tuple to unpack into.
+	 * @param length The number of tuples to unpack.
+	 * 
+	 * @return The array t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4fW[] unpackTup4fUnorm8Array(ByteBuffer buffer, Tup4fW[] t, int offset, int length)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			float x = fromUnorm8(buffer.get());
+			float y = fromUnorm8(buffer.get());
+			float z = fromUnorm8(buffer.get());
+			float w = fromUnorm8(buffer.get());
+			
+			t[i].set(x, y, z, w);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Packs all remaining floats of the source buffer as unsigned normalized 8-bit integer into the destination buffer.
+	 * The positions of both buffers are advanced. The layout of the components is preserved,
+	 * so this works for interleaved tuples of any dimension.
+	 * 
+	 * @param src The buffer containing the floats to pack.
+	 * @param dst The buffer the packed components are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packUnorm8(FloatBuffer src, ByteBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining();
+		
+		for(int i = 0; i < count; i++)
+			dst.put(toUnorm8(src.get()));
+		
+		return dst;
+	}
+	
+	/**
+	 * Unpacks all remaining unsigned normalized 8-bit integer components of the source buffer into the destination buffer.
+	 * The positions of both buffers are advanced.
+	 * 
+	 * @param src The buffer containing the packed components.
+	 * @param dst The buffer the unpacked floats are written to.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static FloatBuffer unpackUnorm8(ByteBuffer src, FloatBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = src.remaining();
+		
+		for(int i = 0; i < count; i++)
+			dst.put(fromUnorm8(src.get()));
+		
+		return dst;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,413 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.codec;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import java.nio.CharBuffer;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+import org.barghos.core.util.FastFormat;
+
+/**
+ * This class formats interleaved tuple arrays as text with one tuple per line.
+ * 
+ * <p>
+ * Every line consists of the prefix, the components separated by the separator and a line feed,
+ * for example "v 1.0 2.0 3.0" for Wavefront OBJ vertices or "1.0,2.0,3.0" for CSV.
+ * The numbers are formatted by {@link FastFormat} into a reusable line buffer, so no strings are created per tuple.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class TupleTextFormat
+{
+	/**
+	 * The number of chars collected before they are written to a writer.
+	 */
+	private static final int WRITE_BUFFER_SIZE = 8192;
+	
+	/**
+	 * The number of components per tuple.
+	 */
+	private final int dimension;
+	
+	/**
+	 * The chars at the start of every line.
+	 */
+	private final char[] prefix;
+	
+	/**
+	 * The char between two components.
+	 */
+	private final char separator;
+	
+	/**
+	 * The number of fraction digits or -1 for the shortest representation.
+	 */
+	private final int fractionDigits;
+	
+	/**
+	 * Creates a new format.
+	 * 
+	 * @param dimension The number of components per tuple.
+	 * @param prefix The chars at the start of every line.
+	 * @param separator The char between two components.
+	 * @param fractionDigits The number of fraction digits between 0 and {@link FastFormat#MAX_FRACTION_DIGITS}
+	 * or -1 for the shortest representation.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public TupleTextFormat(int dimension, String prefix, char separator, int fractionDigits)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(prefix == null) throw new ArgumentNullException("prefix");
+		}
+		
+		if(dimension < 1) throw new IllegalArgumentException("dimension");
+		if(fractionDigits < -1 || fractionDigits > FastFormat.MAX_FRACTION_DIGITS) throw new IllegalArgumentException("fractionDigits");
+		
+		this.dimension = dimension;
+		this.prefix = prefix.toCharArray();
+		this.separator = separator;
+		this.fractionDigits = fractionDigits;
+	}
+	
+	/**
+	 * Returns a format for comma separated values with the shortest representation of the numbers.
+	 * 
+	 * @param dimension The number of components per tuple.
+	 * 
+	 * @return The new format.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static TupleTextFormat csv(int dimension)
+	{
+		return new TupleTextFormat(dimension, "", ',', -1);
+	}
+	
+	/**
+	 * Returns a format for Wavefront OBJ vertex lines ("v x y z") with the shortest representation of the numbers.
+	 * 
+	 * @return The new format.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static TupleTextFormat objVertices()
+	{
+		return new TupleTextFormat(3, "v ", ' ', -1);
+	}
+	
+	/**
+	 * Returns the number of components per tuple.
+	 * 
+	 * @return The number of components per tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getDimension()
+	{
+		return this.dimension;
+	}
+	
+	/**
+	 * Returns the chars at the start of every line.
+	 * 
+	 * @return The prefix.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public String getPrefix()
+	{
+		return new String(this.prefix);
+	}
+	
+	/**
+	 * Returns the char between two components.
+	 * 
+	 * @return The separator.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public char getSeparator()
+	{
+		return this.separator;
+	}
+	
+	/**
+	 * Returns the number of fraction digits or -1 for the shortest representation.
+	 * 
+	 * @return The number of fraction digits.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getFractionDigits()
+	{
+		return this.fractionDigits;
+	}
+	
+	/**
+	 * Returns the maximum number of chars of a single line.
+	 * 
+	 * @return The maximum line length.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getMaxLineLength()
+	{
+		return this.prefix.length + this.dimension * (FastFormat.MAX_CHARS + 1);
+	}
+	
+	/**
+	 * Formats the tuples stored interleaved in the array v from the tuple index from (inclusive) to the tuple index to (exclusive)
+	 * into the buffer dst. Only complete lines are written. If the buffer is full, the formatting stops and can be
+	 * continued at the returned index.
+	 * 
+	 * @param v The array containing the interleaved components.
+	 * @param from The index of the first tuple (inclusive).
+	 * @param to The index after the last tuple (exclusive).
+	 * @param dst The buffer receiving the text.
+	 * 
+	 * @return The index of the first tuple, that was not formatted.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int format(float[] v, int from, int to, CharBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		char[] line = new char[getMaxLineLength()];
+		
+		int i = from;
+		
+		for(; i < to; i++)
+		{
+			int length = formatLine(v, i * this.dimension, line, 0);
+			
+			if(length > dst.remaining()) break;
+			
+			dst.put(line, 0, length);
+		}
+		
+		return i;
+	}
+	
+	/**
+	 * Formats the tuples stored interleaved in the array v from the tuple index from (inclusive) to the tuple index to (exclusive)
+	 * into the buffer dst. Only complete lines are written. If the buffer is full, the formatting stops and can be
+	 * continued at the returned index.
+	 * 
+	 * @param v The array containing the interleaved components.
+	 * @param from The index of the first tuple (inclusive).
+	 * @param to The index after the last tuple (exclusive).
+	 * @param dst The buffer receiving the text.
+	 * 
+	 * @return The index of the first tuple, that was not formatted.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int format(double[] v, int from, int to, CharBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		char[] line = new char[getMaxLineLength()];
+		
+		int i = from;
+		
+		for(; i < to; i++)
+		{
+			int length = formatLine(v, i * this.dimension, line, 0);
+			
+			if(length > dst.remaining()) break;
+			
+			dst.put(line, 0, length);
+		}
+		
+		return i;
+	}
+	
+	/**
+	 * Writes the tuples stored interleaved in the array v from the tuple index from (inclusive) to the tuple index to (exclusive)
+	 * to the writer. The text is collected in a buffer and written in large blocks.
+	 * 
+	 * @param v The array containing the interleaved components.
+	 * @param from The index of the first tuple (inclusive).
+	 * @param to The index after the last tuple (exclusive).
+	 * @param writer The writer receiving the text.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void write(float[] v, int from, int to, Writer writer) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(writer == null) throw new ArgumentNullException("writer");
+		}
+		
+		int maxLineLength = getMaxLineLength();
+		char[] buffer = new char[WRITE_BUFFER_SIZE + maxLineLength];
+		int length = 0;
+		
+		for(int i = from; i < to; i++)
+		{
+			length = formatLine(v, i * this.dimension, buffer, length);
+			
+			if(length >= WRITE_BUFFER_SIZE)
+			{
+				writer.write(buffer, 0, length);
+				length = 0;
+			}
+		}
+		
+		writer.write(buffer, 0, length);
+	}
+	
+	/**
+	 * Writes the tuples stored interleaved in the array v from the tuple index from (inclusive) to the tuple index to (exclusive)
+	 * to the writer. The text is collected in a buffer and written in large blocks.
+	 * 
+	 * @param v The array containing the interleaved components.
+	 * @param from The index of the first tuple (inclusive).
+	 * @param to The index after the last tuple (exclusive).
+	 * @param writer The writer receiving the text.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void write(double[] v, int from, int to, Writer writer) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(writer == null) throw new ArgumentNullException("writer");
+		}
+		
+		int maxLineLength = getMaxLineLength();
+		char[] buffer = new char[WRITE_BUFFER_SIZE + maxLineLength];
+		int length = 0;
+		
+		for(int i = from; i < to; i++)
+		{
+			length = formatLine(v, i * this.dimension, buffer, length);
+			
+			if(length >= WRITE_BUFFER_SIZE)
+			{
+				writer.write(buffer, 0, length);
+				length = 0;
+			}
+		}
+		
+		writer.write(buffer, 0, length);
+	}
+	
+	/**
+	 * Formats a single line.
+	 * 
+	 * @param v The array containing the interleaved components.
+	 * @param index The index of the first component of the tuple.
+	 * @param dst The array receiving the chars.
+	 * @param offset The index of the first char in dst.
+	 * 
+	 * @return The index after the last written char.
+	 */
+	private int formatLine(float[] v, int index, char[] dst, int offset)
+	{
+		System.arraycopy(this.prefix, 0, dst, offset, this.prefix.length);
+		offset += this.prefix.length;
+		
+		for(int c = 0; c < this.dimension; c++)
+		{
+			if(c > 0) dst[offset++] = this.separator;
+			
+			if(this.fractionDigits < 0)
+			{
+				offset = FastFormat.format(v[index + c], dst, offset);
+			}
+			else
+			{
+				offset = FastFormat.formatFixed(v[index + c], this.fractionDigits, dst, offset);
+			}
+		}
+		
+		dst[offset++] = '\n';
+		
+		return offset;
+	}
+	
+	/**
+	 * Formats a single line.
+	 * 
+	 * @param v The array containing the interleaved components.
+	 * @param index The index of the first component of the tuple.
+	 * @param dst The array receiving the chars.
+	 * @param offset The index of the first char in dst.
+	 * 
+	 * @return The index after the last written char.
+	 */
+	private int formatLine(double[] v, int index, char[] dst, int offset)
+	{
+		System.arraycopy(this.prefix, 0, dst, offset, this.prefix.length);
+		offset += this.prefix.length;
+		
+		for(int c = 0; c < this.dimension; c++)
+		{
+			if(c > 0) dst[offset++] = this.separator;
+			
+			if(this.fractionDigits < 0)
+			{
+				offset = FastFormat.format(v[index + c], dst, offset);
+			}
+			else
+			{
+				offset = FastFormat.formatFixed(v[index + c], this.fractionDigits, dst, offset);
+			}
+		}
+		
+		dst[offset++] = '\n';
+		
+		return offset;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "tupletextformat(dimension=" + this.dimension + ", prefix=" + getPrefix() + ", separator=" + this.separator + ", fractionDigits=" + this.fractionDigits + ")";
+	}
+}
\ No newline at end of file
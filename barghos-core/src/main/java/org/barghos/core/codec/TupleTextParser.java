@@ -0,0 +1,1499 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.codec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.RecursiveAction;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class parses text with one tuple per line into float or double components.
+ * 
+ * <p>
+ * A line consists of optional blanks, the prefix and the components separated by the separator,
+ * for example "v 1.0 2.0 3.0" for Wavefront OBJ vertices or "1.0,2.0,3.0" for CSV.
+ * Blanks (spaces and tabs) are allowed around the separator. If the separator is a blank itself,
+ * any run of blanks separates two components. Components after the first {@link #getDimension()} components
+ * are ignored. Lines not starting with the prefix followed by a number, like comments, headers or other OBJ statements,
+ * are skipped. Lines may end with "\n" or "\r\n".
+ * 
+ * <p>
+ * The text is read from NIO buffers and channels as ASCII bytes and the numbers are parsed in place.
+ * Numbers with up to 18 significant digits and a small exponent are converted exactly with a few
+ * floating point operations. All other numbers are passed to {@link Double#parseDouble(String)} or
+ * {@link Float#parseFloat(String)}, so the results are always identical to these methods.
+ * 
+ * <p>
+ * Files are read in chunks of {@link #getChunkSize()} bytes. If the parser is parallel, the chunks are parsed
+ * by the common fork join pool and the results are concatenated in file order.
+ * 
+ * <p>
+ * Instances of this class are not thread-safe.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class TupleTextParser
+{
+	/**
+	 * The default number of bytes of a file parsed by a single task.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 22;
+	
+	/**
+	 * The smallest number of bytes of a file parsed by a single task.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static final int MIN_CHUNK_SIZE = 1 << 12;
+	
+	/**
+	 * The initial number of tuples of a block collecting the tuples of a chunk.
+	 */
+	private static final int BLOCK_SIZE = 64;
+	
+	/**
+	 * The initial size of the byte buffer used for reading from a channel.
+	 */
+	private static final int READ_BUFFER_SIZE = 1 << 16;
+	
+	/**
+	 * The size of the byte buffer used for searching the start of a chunk.
+	 */
+	private static final int SEARCH_BUFFER_SIZE = 1 << 10;
+	
+	/**
+	 * The maximum number of significant digits handled without a fallback. The mantissa of 18 digits always fits
+	 * into a long.
+	 */
+	private static final int MAX_DIGITS = 18;
+	
+	/**
+	 * The maximum exponent value that is accumulated.
+	 */
+	private static final int MAX_EXPONENT = 100000;
+	
+	/**
+	 * The exclusive upper bound of mantissas, that are exactly representable as double.
+	 */
+	private static final long MAX_DOUBLE_MANTISSA = 1L << 53;
+	
+	/**
+	 * The inclusive upper bound of mantissas, that are exactly representable as float.
+	 */
+	private static final long MAX_FLOAT_MANTISSA = 1L << 24;
+	
+	/**
+	 * The powers of ten, that are exactly representable as double.
+	 */
+	private static final double[] DOUBLE_POWERS = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	
+	/**
+	 * The powers of ten, that are exactly representable as float.
+	 */
+	private static final float[] FLOAT_POWERS = {
+		1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+	};
+	
+	/**
+	 * The number of components per tuple.
+	 */
+	private final int dimension;
+	
+	/**
+	 * The bytes at the start of every tuple line.
+	 */
+	private final byte[] prefix;
+	
+	/**
+	 * The char between two components.
+	 */
+	private final char separator;
+	
+	/**
+	 * The number of bytes of a file parsed by a single task.
+	 */
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+	
+	/**
+	 * True if files should be parsed in parallel.
+	 */
+	private boolean parallel;
+	
+	/**
+	 * Creates a new parser.
+	 * 
+	 * @param dimension The number of components per tuple.
+	 * @param prefix The chars at the start of every tuple line.
+	 * @param separator The char between two components. It must be an ASCII char.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public TupleTextParser(int dimension, String prefix, char separator)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(prefix == null) throw new ArgumentNullException("prefix");
+		}
+		
+		if(dimension < 1) throw new IllegalArgumentException("dimension");
+		if(separator > 127 || separator == '\n' || separator == '\r') throw new IllegalArgumentException("separator");
+		
+		this.dimension = dimension;
+		this.prefix = prefix.getBytes(StandardCharsets.UTF_8);
+		this.separator = separator;
+	}
+	
+	/**
+	 * Returns a parser for comma separated values.
+	 * 
+	 * @param dimension The number of components per tuple.
+	 * 
+	 * @return The new parser.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static TupleTextParser csv(int dimension)
+	{
+		return new TupleTextParser(dimension, "", ',');
+	}
+	
+	/**
+	 * Returns a parser for Wavefront OBJ vertex lines ("v x y z").
+	 * 
+	 * @return The new parser.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static TupleTextParser objVertices()
+	{
+		return new TupleTextParser(3, "v ", ' ');
+	}
+	
+	/**
+	 * Returns the number of components per tuple.
+	 * 
+	 * @return The number of components per tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getDimension()
+	{
+		return this.dimension;
+	}
+	
+	/**
+	 * Returns the chars at the start of every tuple line.
+	 * 
+	 * @return The prefix.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public String getPrefix()
+	{
+		return new String(this.prefix, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Returns the char between two components.
+	 * 
+	 * @return The separator.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public char getSeparator()
+	{
+		return this.separator;
+	}
+	
+	/**
+	 * Sets the number of bytes of a file parsed by a single task. This doesn't change the results.
+	 * 
+	 * @param chunkSize The number of bytes per task. Must be at least {@link #MIN_CHUNK_SIZE}.
+	 * 
+	 * @return The current parser.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public TupleTextParser setChunkSize(int chunkSize)
+	{
+		if(chunkSize < MIN_CHUNK_SIZE) throw new IllegalArgumentException("chunkSize");
+		
+		this.chunkSize = chunkSize;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the number of bytes of a file parsed by a single task.
+	 * 
+	 * @return The number of bytes per task.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getChunkSize()
+	{
+		return this.chunkSize;
+	}
+	
+	/**
+	 * Sets whether files should be parsed in parallel. This doesn't change the results.
+	 * 
+	 * @param parallel True if files should be parsed in parallel.
+	 * 
+	 * @return The current parser.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public TupleTextParser setParallel(boolean parallel)
+	{
+		this.parallel = parallel;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns true, if files are parsed in parallel.
+	 * 
+	 * @return True if files are parsed in parallel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean isParallel()
+	{
+		return this.parallel;
+	}
+	
+	/**
+	 * Parses the complete lines between the position and the limit of the buffer src into the arrays dst,
+	 * one array per component. The components of the i-th tuple are stored at the index offset + i.
+	 * The position of src is advanced to the first line, that was not parsed.
+	 * If the arrays are full, the parsing stops and can be continued after the tuples were consumed.
+	 * 
+	 * @param src The buffer containing the text.
+	 * @param dst The arrays receiving the components, one array per component.
+	 * @param offset The index of the first tuple in the arrays.
+	 * @param endOfInput True if src contains the end of the text, so the last line doesn't require a line feed.
+	 * 
+	 * @return The number of parsed tuples.
+	 * 
+	 * @throws NumberFormatException If a component is malformed.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int parse(ByteBuffer src, float[][] dst, int offset, boolean endOfInput)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		if(dst.length < this.dimension) throw new IllegalArgumentException("dst");
+		if(offset < 0) throw new IllegalArgumentException("offset");
+		
+		Target target = new FloatArraysTarget(dst, offset, this.dimension);
+		
+		parseLines(src, target, new Scanner(this.dimension), endOfInput, 0, Long.MAX_VALUE);
+		
+		return target.count;
+	}
+	
+	/**
+	 * Parses the complete lines between the position and the limit of the buffer src into the arrays dst,
+	 * one array per component. The components of the i-th tuple are stored at the index offset + i.
+	 * The position of src is advanced to the first line, that was not parsed.
+	 * If the arrays are full, the parsing stops and can be continued after the tuples were consumed.
+	 * 
+	 * @param src The buffer containing the text.
+	 * @param dst The arrays receiving the components, one array per component.
+	 * @param offset The index of the first tuple in the arrays.
+	 * @param endOfInput True if src contains the end of the text, so the last line doesn't require a line feed.
+	 * 
+	 * @return The number of parsed tuples.
+	 * 
+	 * @throws NumberFormatException If a component is malformed.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int parse(ByteBuffer src, double[][] dst, int offset, boolean endOfInput)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		if(dst.length < this.dimension) throw new IllegalArgumentException("dst");
+		if(offset < 0) throw new IllegalArgumentException("offset");
+		
+		Target target = new DoubleArraysTarget(dst, offset, this.dimension);
+		
+		parseLines(src, target, new Scanner(this.dimension), endOfInput, 0, Long.MAX_VALUE);
+		
+		return target.count;
+	}
+	
+	/**
+	 * Parses the complete lines between the position and the limit of the buffer src and puts the components
+	 * interleaved into the buffer dst. The position of src is advanced to the first line, that was not parsed.
+	 * If dst has no room for another tuple, the parsing stops and can be continued after the tuples were consumed.
+	 * 
+	 * @param src The buffer containing the text.
+	 * @param dst The buffer receiving the components.
+	 * @param endOfInput True if src contains the end of the text, so the last line doesn't require a line feed.
+	 * 
+	 * @return The number of parsed tuples.
+	 * 
+	 * @throws NumberFormatException If a component is malformed.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int parse(ByteBuffer src, FloatBuffer dst, boolean endOfInput)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		Target target = new FloatBufferTarget(dst, this.dimension);
+		
+		parseLines(src, target, new Scanner(this.dimension), endOfInput, 0, Long.MAX_VALUE);
+		
+		return target.count;
+	}
+	
+	/**
+	 * Reads the channel src up to its end and puts the components of all tuples interleaved into the buffer dst.
+	 * 
+	 * @param src The channel providing the text.
+	 * @param dst The buffer receiving the components.
+	 * 
+	 * @return The number of parsed tuples.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * @throws BufferOverflowException If dst has no room for all tuples.
+	 * @throws NumberFormatException If a component is malformed.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int parse(ReadableByteChannel src, FloatBuffer dst) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		Target target = new FloatBufferTarget(dst, this.dimension);
+		
+		if(parseStream(src, false, 0, Long.MAX_VALUE, target, new Scanner(this.dimension))) throw new BufferOverflowException();
+		
+		return target.count;
+	}
+	
+	/**
+	 * Parses the file and returns the components as float arrays, one array per component.
+	 * 
+	 * @param file The path of the file.
+	 * 
+	 * @return The arrays containing the components, one array per component.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * @throws NumberFormatException If a component is malformed.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float[][] parseFloats(Path file) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(file == null) throw new ArgumentNullException("file");
+		}
+		
+		Target[] blocks = parseFile(file, false);
+		
+		int count = 0;
+		for(Target block : blocks) if(block != null) count += block.count;
+		
+		float[][] result = new float[this.dimension][count];
+		
+		int offset = 0;
+		for(Target block : blocks)
+		{
+			if(block == null) continue;
+			
+			float[] data = ((FloatBlock)block).data;
+			
+			for(int i = 0; i < block.count; i++)
+			{
+				for(int c = 0; c < this.dimension; c++)
+				{
+					result[c][offset + i] = data[i * this.dimension + c];
+				}
+			}
+			
+			offset += block.count;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Parses the file and returns the components as double arrays, one array per component.
+	 * 
+	 * @param file The path of the file.
+	 * 
+	 * @return The arrays containing the components, one array per component.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * @throws NumberFormatException If a component is malformed.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public double[][] parseDoubles(Path file) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(file == null) throw new ArgumentNullException("file");
+		}
+		
+		Target[] blocks = parseFile(file, true);
+		
+		int count = 0;
+		for(Target block : blocks) if(block != null) count += block.count;
+		
+		double[][] result = new double[this.dimension][count];
+		
+		int offset = 0;
+		for(Target block : blocks)
+		{
+			if(block == null) continue;
+			
+			double[] data = ((DoubleBlock)block).data;
+			
+			for(int i = 0; i < block.count; i++)
+			{
+				for(int c = 0; c < this.dimension; c++)
+				{
+					result[c][offset + i] = data[i * this.dimension + c];
+				}
+			}
+			
+			offset += block.count;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Parses the file into one block per chunk. The blocks are created by the tasks parsing the chunks and
+	 * chunks without the start of a line have no block.
+	 * 
+	 * @param file The path of the file.
+	 * @param doubles True if the components should be parsed as doubles.
+	 * 
+	 * @return The blocks in file order. Elements may be null.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private Target[] parseFile(Path file, boolean doubles) throws IOException
+	{
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+		{
+			long size = channel.size();
+			long chunks = (size + this.chunkSize - 1) / this.chunkSize;
+			
+			if(!this.parallel || chunks < 2)
+			{
+				Target block = doubles ? new DoubleBlock(this.dimension) : new FloatBlock(this.dimension);
+				
+				parseStream(channel, true, 0, Long.MAX_VALUE, block, new Scanner(this.dimension));
+				
+				return new Target[] { block };
+			}
+			
+			if(chunks > Integer.MAX_VALUE) throw new IllegalStateException("The file has too many chunks.");
+			
+			Target[] blocks = new Target[(int)chunks];
+			
+			try
+			{
+				new ChunkTask(this, channel, size, doubles, blocks, 0, blocks.length).invoke();
+			}
+			catch(UncheckedIOException e)
+			{
+				throw e.getCause();
+			}
+			
+			return blocks;
+		}
+	}
+	
+	/**
+	 * Parses all lines starting in a chunk of the file. A line belongs to the chunk containing its first byte.
+	 * 
+	 * @param channel The channel of the file.
+	 * @param size The size of the file.
+	 * @param chunk The index of the chunk.
+	 * @param doubles True if the components should be parsed as doubles.
+	 * 
+	 * @return The block containing the tuples or null if no line starts in the chunk.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private Target parseChunk(FileChannel channel, long size, int chunk, boolean doubles) throws IOException
+	{
+		long start = (long)chunk * this.chunkSize;
+		long stop = Math.min(size, start + this.chunkSize);
+		
+		if(start > 0) start = findLineStart(channel, start - 1, stop);
+		
+		if(start >= stop) return null;
+		
+		Target block = doubles ? new DoubleBlock(this.dimension) : new FloatBlock(this.dimension);
+		
+		parseStream(channel, true, start, stop, block, new Scanner(this.dimension));
+		
+		return block;
+	}
+	
+	/**
+	 * Returns the position after the first line feed at or after the position from.
+	 * 
+	 * @param channel The channel of the file.
+	 * @param from The position to start the search at.
+	 * @param stop The position, where the search can stop.
+	 * 
+	 * @return The position after the line feed or stop if there is none before stop.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private static long findLineStart(FileChannel channel, long from, long stop) throws IOException
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(SEARCH_BUFFER_SIZE);
+		
+		long position = from;
+		
+		while(position < stop)
+		{
+			buffer.clear();
+			
+			int read = channel.read(buffer, position);
+			
+			if(read < 0) break;
+			
+			for(int i = 0; i < read; i++)
+			{
+				if(buffer.get(i) == '\n') return position + i + 1;
+			}
+			
+			position += read;
+		}
+		
+		return stop;
+	}
+	
+	/**
+	 * Reads a channel and parses all lines starting before the position stop.
+	 * 
+	 * @param channel The channel providing the text.
+	 * @param positional True if the channel is a file channel, that should be read from the position start
+	 * without changing its position.
+	 * @param start The position of the first line.
+	 * @param stop The position, where no further lines are started.
+	 * @param target The target of the tuples.
+	 * @param scanner The scanner used for parsing.
+	 * 
+	 * @return True if the parsing stopped because the target was full.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private boolean parseStream(ReadableByteChannel channel, boolean positional, long start, long stop, Target target, Scanner scanner) throws IOException
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+		
+		long base = start;
+		long position = start;
+		boolean endOfInput = false;
+		
+		while(true)
+		{
+			while(!endOfInput && buffer.hasRemaining())
+			{
+				int read = positional ? ((FileChannel)channel).read(buffer, position) : channel.read(buffer);
+				
+				if(read < 0) endOfInput = true;
+				else position += read;
+			}
+			
+			buffer.flip();
+			
+			if(parseLines(buffer, target, scanner, endOfInput, base, stop)) return true;
+			
+			if(endOfInput || base + buffer.position() >= stop) return false;
+			
+			if(buffer.position() == 0)
+			{
+				ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+				larger.put(buffer);
+				buffer = larger;
+			}
+			else
+			{
+				base += buffer.position();
+				buffer.compact();
+			}
+		}
+	}
+	
+	/**
+	 * Parses the complete lines between the position and the limit of a buffer, that start before the position stop.
+	 * The position of the buffer is advanced to the first line, that was not parsed.
+	 * 
+	 * @param src The buffer containing the text.
+	 * @param target The target of the tuples.
+	 * @param scanner The scanner used for parsing.
+	 * @param endOfInput True if the last line doesn't require a line feed.
+	 * @param base The position of the first byte of the buffer within the text.
+	 * @param stop The position, where no further lines are started.
+	 * 
+	 * @return True if the parsing stopped because the target was full.
+	 */
+	private boolean parseLines(ByteBuffer src, Target target, Scanner scanner, boolean endOfInput, long base, long stop)
+	{
+		int limit = src.limit();
+		int position = src.position();
+		boolean full = false;
+		
+		while(position < limit && base + position < stop)
+		{
+			int end = position;
+			while(end < limit && src.get(end) != '\n') end++;
+			
+			int next = end + 1;
+			
+			if(end == limit)
+			{
+				if(!endOfInput) break;
+				
+				next = limit;
+			}
+			
+			if(!parseLine(src, position, end, target, scanner, base))
+			{
+				full = true;
+				break;
+			}
+			
+			position = next;
+		}
+		
+		src.position(position);
+		
+		return full;
+	}
+	
+	/**
+	 * Parses a single line.
+	 * 
+	 * @param src The buffer containing the text.
+	 * @param from The index of the first byte of the line.
+	 * @param to The index of the line feed or the end of the text.
+	 * @param target The target of the tuples.
+	 * @param scanner The scanner used for parsing.
+	 * @param base The position of the first byte of the buffer within the text.
+	 * 
+	 * @return False if the line contains a tuple, but the target is full.
+	 */
+	private boolean parseLine(ByteBuffer src, int from, int to, Target target, Scanner scanner, long base)
+	{
+		if(to > from && src.get(to - 1) == '\r') to--;
+		
+		int i = skipBlanks(src, from, to);
+		
+		for(int k = 0; k < this.prefix.length; k++, i++)
+		{
+			if(i >= to || src.get(i) != this.prefix[k]) return true;
+		}
+		
+		i = skipBlanks(src, i, to);
+		
+		if(i >= to || !isNumberStart(src.get(i))) return true;
+		
+		if(target.isFull()) return false;
+		
+		boolean blankSeparator = isBlank(this.separator);
+		
+		for(int c = 0; c < this.dimension; c++)
+		{
+			if(c > 0)
+			{
+				i = skipBlanks(src, i, to);
+				
+				if(!blankSeparator)
+				{
+					if(i >= to || src.get(i) != this.separator) throw new NumberFormatException("Missing separator at byte " + (base + i));
+					
+					i = skipBlanks(src, i + 1, to);
+				}
+			}
+			
+			int end = i;
+			while(end < to && !isBlank(src.get(end)) && src.get(end) != this.separator) end++;
+			
+			if(end == i) throw new NumberFormatException("Missing component at byte " + (base + i));
+			
+			if(target.doubles)
+			{
+				scanner.doubles[c] = scanner.parseDouble(src, i, end, base);
+			}
+			else
+			{
+				scanner.floats[c] = scanner.parseFloat(src, i, end, base);
+			}
+			
+			i = end;
+		}
+		
+		target.put(scanner);
+		
+		return true;
+	}
+	
+	/**
+	 * Returns the index of the first byte, that is not a blank.
+	 * 
+	 * @param src The buffer containing the text.
+	 * @param from The index to start at.
+	 * @param to The index to stop at.
+	 * 
+	 * @return The index of the first byte, that is not a blank, or to.
+	 */
+	private static int skipBlanks(ByteBuffer src, int from, int to)
+	{
+		while(from < to && isBlank(src.get(from))) from++;
+		
+		return from;
+	}
+	
+	/**
+	 * Returns true, if the value is a space or a tab.
+	 * 
+	 * @param value The value.
+	 * 
+	 * @return True if the value is a blank.
+	 */
+	private static boolean isBlank(int value)
+	{
+		return value == ' ' || value == '\t';
+	}
+	
+	/**
+	 * Returns true, if a number can start with the byte.
+	 * 
+	 * @param value The byte.
+	 * 
+	 * @return True if a number can start with the byte.
+	 */
+	private static boolean isNumberStart(byte value)
+	{
+		return (value >= '0' && value <= '9') || value == '-' || value == '+' || value == '.' || value == 'N' || value == 'I';
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "tupletextparser(dimension=" + this.dimension + ", prefix=\"" + getPrefix() + "\", separator='" + this.separator + "', parallel=" + this.parallel + ")";
+	}
+	
+	/**
+	 * This class holds the state of parsing a single number.
+	 */
+	private static final class Scanner
+	{
+		/**
+		 * The components of the current float tuple.
+		 */
+		final float[] floats;
+		
+		/**
+		 * The components of the current double tuple.
+		 */
+		final double[] doubles;
+		
+		/**
+		 * The chars of a number passed to the fallback.
+		 */
+		private char[] chars = new char[32];
+		
+		/**
+		 * The significant digits of the scanned number.
+		 */
+		private long mantissa;
+		
+		/**
+		 * The decimal exponent of the scanned number.
+		 */
+		private int exponent;
+		
+		/**
+		 * True if the scanned number is negative.
+		 */
+		private boolean negative;
+		
+		/**
+		 * Creates a new scanner.
+		 * 
+		 * @param dimension The number of components per tuple.
+		 */
+		Scanner(int dimension)
+		{
+			this.floats = new float[dimension];
+			this.doubles = new double[dimension];
+		}
+		
+		/**
+		 * Parses a number as double.
+		 * 
+		 * @param src The buffer containing the text.
+		 * @param from The index of the first byte of the number.
+		 * @param to The index after the last byte of the number.
+		 * @param base The position of the first byte of the buffer within the text.
+		 * 
+		 * @return The number.
+		 */
+		double parseDouble(ByteBuffer src, int from, int to, long base)
+		{
+			if(scan(src, from, to))
+			{
+				long m = this.mantissa;
+				int e = this.exponent;
+				
+				if(m == 0) return this.negative ? -0.0 : 0.0;
+				
+				if(m < MAX_DOUBLE_MANTISSA && e >= -22 && e <= 22)
+				{
+					double d = e >= 0 ? m * DOUBLE_POWERS[e] : m / DOUBLE_POWERS[-e];
+					
+					return this.negative ? -d : d;
+				}
+			}
+			
+			String text = text(src, from, to);
+			
+			try
+			{
+				return Double.parseDouble(text);
+			}
+			catch(NumberFormatException e)
+			{
+				throw new NumberFormatException("Malformed number at byte " + (base + from) + ": " + text);
+			}
+		}
+		
+		/**
+		 * Parses a number as float.
+		 * 
+		 * @param src The buffer containing the text.
+		 * @param from The index of the first byte of the number.
+		 * @param to The index after the last byte of the number.
+		 * @param base The position of the first byte of the buffer within the text.
+		 * 
+		 * @return The number.
+		 */
+		float parseFloat(ByteBuffer src, int from, int to, long base)
+		{
+			if(scan(src, from, to))
+			{
+				long m = this.mantissa;
+				int e = this.exponent;
+				
+				if(m == 0) return this.negative ? -0.0f : 0.0f;
+				
+				if(m <= MAX_FLOAT_MANTISSA && e >= -10 && e <= 10)
+				{
+					float f = e >= 0 ? m * FLOAT_POWERS[e] : m / FLOAT_POWERS[-e];
+					
+					return this.negative ? -f : f;
+				}
+				
+				if(m < MAX_DOUBLE_MANTISSA && e >= -22 && e <= 22)
+				{
+					double d = e >= 0 ? m * DOUBLE_POWERS[e] : m / DOUBLE_POWERS[-e];
+					float f = (float)d;
+					
+					/*
+					 * d is the correctly rounded double. Rounding it again to float only differs from rounding the exact value,
+					 * if d lies exactly in the middle between two floats.
+					 */
+					if(f != d)
+					{
+						float g = d > f ? Math.nextUp(f) : Math.nextDown(f);
+						
+						if(Float.isInfinite(f) || Float.isInfinite(g) || ((double)f + (double)g) * 0.5 == d) f = Float.NaN;
+					}
+					
+					if(!Float.isNaN(f)) return this.negative ? -f : f;
+				}
+			}
+			
+			String text = text(src, from, to);
+			
+			try
+			{
+				return Float.parseFloat(text);
+			}
+			catch(NumberFormatException e)
+			{
+				throw new NumberFormatException("Malformed number at byte " + (base + from) + ": " + text);
+			}
+		}
+		
+		/**
+		 * Scans a plain decimal number with an optional exponent into the mantissa and the exponent.
+		 * 
+		 * @param src The buffer containing the text.
+		 * @param from The index of the first byte of the number.
+		 * @param to The index after the last byte of the number.
+		 * 
+		 * @return False if the number has another syntax or too many significant digits.
+		 */
+		private boolean scan(ByteBuffer src, int from, int to)
+		{
+			int i = from;
+			byte b = src.get(i);
+			
+			this.negative = b == '-';
+			if(b == '-' || b == '+') i++;
+			
+			long m = 0;
+			int e = 0;
+			int digits = 0;
+			boolean any = false;
+			
+			for(; i < to; i++)
+			{
+				int d = src.get(i) - '0';
+				
+				if(d < 0 || d > 9) break;
+				
+				any = true;
+				
+				if(m != 0 || d != 0)
+				{
+					if(digits == MAX_DIGITS) return false;
+					
+					m = m * 10 + d;
+					digits++;
+				}
+			}
+			
+			if(i < to && src.get(i) == '.')
+			{
+				for(i++; i < to; i++)
+				{
+					int d = src.get(i) - '0';
+					
+					if(d < 0 || d > 9) break;
+					
+					any = true;
+					e--;
+					
+					if(m != 0 || d != 0)
+					{
+						if(digits == MAX_DIGITS) return false;
+						
+						m = m * 10 + d;
+						digits++;
+					}
+				}
+			}
+			
+			if(!any) return false;
+			
+			if(i < to && (src.get(i) == 'e' || src.get(i) == 'E'))
+			{
+				i++;
+				
+				boolean negativeExponent = false;
+				
+				if(i < to && (src.get(i) == '-' || src.get(i) == '+'))
+				{
+					negativeExponent = src.get(i) == '-';
+					i++;
+				}
+				
+				int x = 0;
+				boolean anyExponent = false;
+				
+				for(; i < to; i++)
+				{
+					int d = src.get(i) - '0';
+					
+					if(d < 0 || d > 9) break;
+					
+					anyExponent = true;
+					
+					if(x < MAX_EXPONENT) x = x * 10 + d;
+				}
+				
+				if(!anyExponent) return false;
+				
+				e += negativeExponent ? -x : x;
+			}
+			
+			if(i != to) return false;
+			
+			this.mantissa = m;
+			this.exponent = e;
+			
+			return true;
+		}
+		
+		/**
+		 * Returns the text of a number for the fallback.
+		 * 
+		 * @param src The buffer containing the text.
+		 * @param from The index of the first byte of the number.
+		 * @param to The index after the last byte of the number.
+		 * 
+		 * @return The text.
+		 */
+		private String text(ByteBuffer src, int from, int to)
+		{
+			int length = to - from;
+			
+			if(this.chars.length < length) this.chars = new char[Math.max(length, this.chars.length * 2)];
+			
+			for(int i = 0; i < length; i++)
+			{
+				this.chars[i] = (char)(src.get(from + i) & 0xFF);
+			}
+			
+			return new String(this.chars, 0, length);
+		}
+	}
+	
+	/**
+	 * This class receives the parsed tuples.
+	 */
+	private static abstract class Target
+	{
+		/**
+		 * True if the components are parsed as doubles.
+		 */
+		final boolean doubles;
+		
+		/**
+		 * The number of received tuples.
+		 */
+		int count;
+		
+		/**
+		 * Creates a new target.
+		 * 
+		 * @param doubles True if the components are parsed as doubles.
+		 */
+		Target(boolean doubles)
+		{
+			this.doubles = doubles;
+		}
+		
+		/**
+		 * Returns true, if the target can't receive another tuple.
+		 * 
+		 * @return True if the target is full.
+		 */
+		abstract boolean isFull();
+		
+		/**
+		 * Receives the current tuple of the scanner.
+		 * 
+		 * @param scanner The scanner holding the components.
+		 */
+		abstract void put(Scanner scanner);
+	}
+	
+	/**
+	 * This target stores float tuples in one array per component.
+	 */
+	private static final class FloatArraysTarget extends Target
+	{
+		/**
+		 * The arrays receiving the components.
+		 */
+		private final float[][] dst;
+		
+		/**
+		 * The index of the first tuple in the arrays.
+		 */
+		private final int offset;
+		
+		/**
+		 * The number of tuples fitting into the arrays.
+		 */
+		private final int capacity;
+		
+		/**
+		 * Creates a new target.
+		 * 
+		 * @param dst The arrays receiving the components.
+		 * @param offset The index of the first tuple in the arrays.
+		 * @param dimension The number of components per tuple.
+		 */
+		FloatArraysTarget(float[][] dst, int offset, int dimension)
+		{
+			super(false);
+			
+			int capacity = Integer.MAX_VALUE;
+			for(int c = 0; c < dimension; c++) capacity = Math.min(capacity, dst[c].length - offset);
+			
+			this.dst = dst;
+			this.offset = offset;
+			this.capacity = Math.max(0, capacity);
+		}
+		
+		@Override
+		boolean isFull()
+		{
+			return this.count == this.capacity;
+		}
+		
+		@Override
+		void put(Scanner scanner)
+		{
+			for(int c = 0; c < scanner.floats.length; c++)
+			{
+				this.dst[c][this.offset + this.count] = scanner.floats[c];
+			}
+			
+			this.count++;
+		}
+	}
+	
+	/**
+	 * This target stores double tuples in one array per component.
+	 */
+	private static final class DoubleArraysTarget extends Target
+	{
+		/**
+		 * The arrays receiving the components.
+		 */
+		private final double[][] dst;
+		
+		/**
+		 * The index of the first tuple in the arrays.
+		 */
+		private final int offset;
+		
+		/**
+		 * The number of tuples fitting into the arrays.
+		 */
+		private final int capacity;
+		
+		/**
+		 * Creates a new target.
+		 * 
+		 * @param dst The arrays receiving the components.
+		 * @param offset The index of the first tuple in the arrays.
+		 * @param dimension The number of components per tuple.
+		 */
+		DoubleArraysTarget(double[][] dst, int offset, int dimension)
+		{
+			super(true);
+			
+			int capacity = Integer.MAX_VALUE;
+			for(int c = 0; c < dimension; c++) capacity = Math.min(capacity, dst[c].length - offset);
+			
+			this.dst = dst;
+			this.offset = offset;
+			this.capacity = Math.max(0, capacity);
+		}
+		
+		@Override
+		boolean isFull()
+		{
+			return this.count == this.capacity;
+		}
+		
+		@Override
+		void put(Scanner scanner)
+		{
+			for(int c = 0; c < scanner.doubles.length; c++)
+			{
+				this.dst[c][this.offset + this.count] = scanner.doubles[c];
+			}
+			
+			this.count++;
+		}
+	}
+	
+	/**
+	 * This target puts float tuples interleaved into a buffer.
+	 */
+	private static final class FloatBufferTarget extends Target
+	{
+		/**
+		 * The buffer receiving the components.
+		 */
+		private final FloatBuffer dst;
+		
+		/**
+		 * The number of components per tuple.
+		 */
+		private final int dimension;
+		
+		/**
+		 * Creates a new target.
+		 * 
+		 * @param dst The buffer receiving the components.
+		 * @param dimension The number of components per tuple.
+		 */
+		FloatBufferTarget(FloatBuffer dst, int dimension)
+		{
+			super(false);
+			
+			this.dst = dst;
+			this.dimension = dimension;
+		}
+		
+		@Override
+		boolean isFull()
+		{
+			return this.dst.remaining() < this.dimension;
+		}
+		
+		@Override
+		void put(Scanner scanner)
+		{
+			this.dst.put(scanner.floats);
+			
+			this.count++;
+		}
+	}
+	
+	/**
+	 * This target collects float tuples interleaved in a growing array.
+	 */
+	private static final class FloatBlock extends Target
+	{
+		/**
+		 * The interleaved components.
+		 */
+		float[] data;
+		
+		/**
+		 * Creates a new block.
+		 * 
+		 * @param dimension The number of components per tuple.
+		 */
+		FloatBlock(int dimension)
+		{
+			super(false);
+			
+			this.data = new float[dimension * BLOCK_SIZE];
+		}
+		
+		@Override
+		boolean isFull()
+		{
+			return false;
+		}
+		
+		@Override
+		void put(Scanner scanner)
+		{
+			int dimension = scanner.floats.length;
+			int index = this.count * dimension;
+			
+			if(index + dimension > this.data.length)
+			{
+				float[] larger = new float[this.data.length * 2];
+				System.arraycopy(this.data, 0, larger, 0, index);
+				this.data = larger;
+			}
+			
+			System.arraycopy(scanner.floats, 0, this.data, index, dimension);
+			
+			this.count++;
+		}
+	}
+	
+	/**
+	 * This target collects double tuples interleaved in a growing array.
+	 */
+	private static final class DoubleBlock extends Target
+	{
+		/**
+		 * The interleaved components.
+		 */
+		double[] data;
+		
+		/**
+		 * Creates a new block.
+		 * 
+		 * @param dimension The number of components per tuple.
+		 */
+		DoubleBlock(int dimension)
+		{
+			super(true);
+			
+			this.data = new double[dimension * BLOCK_SIZE];
+		}
+		
+		@Override
+		boolean isFull()
+		{
+			return false;
+		}
+		
+		@Override
+		void put(Scanner scanner)
+		{
+			int dimension = scanner.doubles.length;
+			int index = this.count * dimension;
+			
+			if(index + dimension > this.data.length)
+			{
+				double[] larger = new double[this.data.length * 2];
+				System.arraycopy(this.data, 0, larger, 0, index);
+				this.data = larger;
+			}
+			
+			System.arraycopy(scanner.doubles, 0, this.data, index, dimension);
+			
+			this.count++;
+		}
+	}
+	
+	/**
+	 * This task parses a range of chunks of a file in parallel.
+	 */
+	private static final class ChunkTask extends RecursiveAction
+	{
+		/**
+		 * The class version for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The parser.
+		 */
+		private final TupleTextParser parser;
+		
+		/**
+		 * The channel of the file.
+		 */
+		private final FileChannel channel;
+		
+		/**
+		 * The size of the file.
+		 */
+		private final long size;
+		
+		/**
+		 * True if the components should be parsed as doubles.
+		 */
+		private final boolean doubles;
+		
+		/**
+		 * The blocks receiving the tuples, one block per chunk.
+		 */
+		private final Target[] blocks;
+		
+		/**
+		 * The first chunk (inclusive).
+		 */
+		private final int fromChunk;
+		
+		/**
+		 * The last chunk (exclusive).
+		 */
+		private final int toChunk;
+		
+		/**
+		 * Creates a new task.
+		 * 
+		 * @param parser The parser.
+		 * @param channel The channel of the file.
+		 * @param size The size of the file.
+		 * @param doubles True if the components should be parsed as doubles.
+		 * @param blocks The blocks receiving the tuples, one block per chunk.
+		 * @param fromChunk The first chunk (inclusive).
+		 * @param toChunk The last chunk (exclusive).
+		 */
+		ChunkTask(TupleTextParser parser, FileChannel channel, long size, boolean doubles, Target[] blocks, int fromChunk, int toChunk)
+		{
+			this.parser = parser;
+			this.channel = channel;
+			this.size = size;
+			this.doubles = doubles;
+			this.blocks = blocks;
+			this.fromChunk = fromChunk;
+			this.toChunk = toChunk;
+		}
+		
+		@Override
+		protected void compute()
+		{
+			if(this.toChunk - this.fromChunk > 1)
+			{
+				int mid = (this.fromChunk + this.toChunk) >>> 1;
+				
+				invokeAll(new ChunkTask(this.parser, this.channel, this.size, this.doubles, this.blocks, this.fromChunk, mid),
+						new ChunkTask(this.parser, this.channel, this.size, this.doubles, this.blocks, mid, this.toChunk));
+				
+				return;
+			}
+			
+			try
+			{
+				this.blocks[this.fromChunk] = this.parser.parseChunk(this.channel, this.size, this.fromChunk, this.doubles);
+			}
+			catch(IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class provides zig-zag encoding and variable length encoding (varint) of integers.
+ * 
+ * <p>
+ * A varint stores seven bits per byte starting with the lowest bits. The highest bit of a byte
+ * is set if another byte follows. Small unsigned values therefore take less bytes.
+ * Zig-zag encoding maps signed values to unsigned values, so that values close to zero
+ * (positive and negative) become small: 0, -1, 1, -2, 2 are mapped to 0, 1, 2, 3, 4.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class VarInts
+{
+	/**
+	 * The maximum number of bytes of an int varint.
+	 */
+	public static final int MAX_BYTES_INT = 5;
+	
+	/**
+	 * The maximum number of bytes of a long varint.
+	 */
+	public static final int MAX_BYTES_LONG = 10;
+	
+	private VarInts() { }
+	
+	/**
+	 * Maps the signed value to an unsigned value with small magnitudes resulting in small values.
+	 * 
+	 * @param value The signed value.
+	 * 
+	 * @return The zig-zag encoded value.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int zigZag(int value)
+	{
+		return (value << 1) ^ (value >> 31);
+	}
+	
+	/**
+	 * Maps the signed value to an unsigned value with small magnitudes resulting in small values.
+	 * 
+	 * @param value The signed value.
+	 * 
+	 * @return The zig-zag encoded value.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long zigZag(long value)
+	{
+		return (value << 1) ^ (value >> 63);
+	}
+	
+	/**
+	 * Reverts the zig-zag encoding of the value.
+	 * 
+	 * @param value The zig-zag encoded value.
+	 * 
+	 * @return The signed value.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int unZigZag(int value)
+	{
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
+	/**
+	 * Reverts the zig-zag encoding of the value.
+	 * 
+	 * @param value The zig-zag encoded value.
+	 * 
+	 * @return The signed value.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long unZigZag(long value)
+	{
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
+	/**
+	 * Writes the value as unsigned varint to the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer.
+	 * @param value The value interpreted as unsigned.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer putVarInt(ByteBuffer buffer, int value)
+	{
+		while((value & ~0x7F) != 0)
+		{
+			buffer.put((byte)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		
+		buffer.put((byte)value);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Writes the value as unsigned varint to the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer.
+	 * @param value The value interpreted as unsigned.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer putVarLong(ByteBuffer buffer, long value)
+	{
+		while((value & ~0x7FL) != 0)
+		{
+			buffer.put((byte)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		
+		buffer.put((byte)value);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads an unsigned varint from the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer.
+	 * 
+	 * @return The value.
+	 * 
+	 * @throws IllegalStateException If the varint is longer than {@link #MAX_BYTES_INT} bytes.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int getVarInt(ByteBuffer buffer)
+	{
+		int value = 0;
+		
+		for(int shift = 0; shift < 35; shift += 7)
+		{
+			byte b = buffer.get();
+			
+			value |= (b & 0x7F) << shift;
+			
+			if(b >= 0) return value;
+		}
+		
+		throw new IllegalStateException("Malformed varint.");
+	}
+	
+	/**
+	 * Reads an unsigned varint from the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer.
+	 * 
+	 * @return The value.
+	 * 
+	 * @throws IllegalStateException If the varint is longer than {@link #MAX_BYTES_LONG} bytes.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long getVarLong(ByteBuffer buffer)
+	{
+		long value = 0;
+		
+		for(int shift = 0; shift < 70; shift += 7)
+		{
+			byte b = buffer.get();
+			
+			value |= (long)(b & 0x7F) << shift;
+			
+			if(b >= 0) return value;
+		}
+		
+		throw new IllegalStateException("Malformed varint.");
+	}
+}
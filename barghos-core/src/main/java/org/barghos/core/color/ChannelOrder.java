@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.color;
+
+/**
+ * This enum describes the order of the four 8-bit channels of a color packed into a 32-bit pixel.
+ * 
+ * <p>
+ * The name lists the channels from the most significant to the least significant byte of the int, so
+ * {@link #RGBA} is 0xRRGGBBAA and {@link #ARGB} is 0xAARRGGBB like the int pixels of java.awt images.
+ * Stored in a byte array or a byte buffer, the channels appear in the named order.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public enum ChannelOrder
+{
+	/**
+	 * The channels red, green, blue and alpha (0xRRGGBBAA).
+	 * 
+	 * @since 1.0.0.0
+	 */
+	RGBA(24, 16, 8, 0),
+	
+	/**
+	 * The channels alpha, red, green and blue (0xAARRGGBB).
+	 * 
+	 * @since 1.0.0.0
+	 */
+	ARGB(16, 8, 0, 24),
+	
+	/**
+	 * The channels blue, green, red and alpha (0xBBGGRRAA).
+	 * 
+	 * @since 1.0.0.0
+	 */
+	BGRA(8, 16, 24, 0),
+	
+	/**
+	 * The channels alpha, blue, green and red (0xAABBGGRR).
+	 * 
+	 * @since 1.0.0.0
+	 */
+	ABGR(0, 8, 16, 24);
+	
+	/**
+	 * The bit position of the red channel.
+	 */
+	private final int shiftR;
+	
+	/**
+	 * The bit position of the green channel.
+	 */
+	private final int shiftG;
+	
+	/**
+	 * The bit position of the blue channel.
+	 */
+	private final int shiftB;
+	
+	/**
+	 * The bit position of the alpha channel.
+	 */
+	private final int shiftA;
+	
+	/**
+	 * Creates a new channel order.
+	 * 
+	 * @param shiftR The bit position of the red channel.
+	 * @param shiftG The bit position of the green channel.
+	 * @param shiftB The bit position of the blue channel.
+	 * @param shiftA The bit position of the alpha channel.
+	 */
+	private ChannelOrder(int shiftR, int shiftG, int shiftB, int shiftA)
+	{
+		this.shiftR = shiftR;
+		this.shiftG = shiftG;
+		this.shiftB = shiftB;
+		this.shiftA = shiftA;
+	}
+	
+	/**
+	 * Packs the channels in colorrange (0 - 255) into a pixel. Only the lowest 8 bits of every channel are used.
+	 * 
+	 * @param r The red channel.
+	 * @param g The green channel.
+	 * @param b The blue channel.
+	 * @param a The alpha channel.
+	 * 
+	 * @return The pixel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int pack(int r, int g, int b, int a)
+	{
+		return ((r & 0xFF) << this.shiftR) | ((g & 0xFF) << this.shiftG) | ((b & 0xFF) << this.shiftB) | ((a & 0xFF) << this.shiftA);
+	}
+	
+	/**
+	 * Returns the red channel of the pixel in colorrange (0 - 255).
+	 * 
+	 * @param pixel The pixel.
+	 * 
+	 * @return The red channel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getR(int pixel)
+	{
+		return (pixel >>> this.shiftR) & 0xFF;
+	}
+	
+	/**
+	 * Returns the green channel of the pixel in colorrange (0 - 255).
+	 * 
+	 * @param pixel The pixel.
+	 * 
+	 * @return The green channel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getG(int pixel)
+	{
+		return (pixel >>> this.shiftG) & 0xFF;
+	}
+	
+	/**
+	 * Returns the blue channel of the pixel in colorrange (0 - 255).
+	 * 
+	 * @param pixel The pixel.
+	 * 
+	 * @return The blue channel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getB(int pixel)
+	{
+		return (pixel >>> this.shiftB) & 0xFF;
+	}
+	
+	/**
+	 * Returns the alpha channel of the pixel in colorrange (0 - 255).
+	 * 
+	 * @param pixel The pixel.
+	 * 
+	 * @return The alpha channel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getA(int pixel)
+	{
+		return (pixel >>> this.shiftA) & 0xFF;
+	}
+	
+	/**
+	 * Converts the pixel from this channel order to another channel order.
+	 * 
+	 * @param pixel The pixel in this channel order.
+	 * @param order The channel order of the result.
+	 * 
+	 * @return The pixel in the other channel order.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int convert(int pixel, ChannelOrder order)
+	{
+		if(order == this) return pixel;
+		
+		return order.pack(getR(pixel), getG(pixel), getB(pixel), getA(pixel));
+	}
+}
\ No newline at end of file
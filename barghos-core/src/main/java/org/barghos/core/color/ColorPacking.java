@@ -0,0 +1,676 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.color;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import org.barghos.core.api.color.LDRColor4R;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class packs low dynamic range colors into 32-bit pixels with 8 bits per channel and unpacks them.
+ * 
+ * <p>
+ * The layout of a pixel is given by a {@link ChannelOrder}. Packing clamps every channel to the range 0 to 1
+ * and rounds it to the nearest of the 256 steps, like {@link LDRColor4R#getR()}. Unpacking uses a table of the
+ * 256 possible unit values, so packing an unpacked pixel always gives the same pixel again.
+ * 
+ * <p>
+ * Int buffers hold one pixel per int. Byte buffers hold four bytes per pixel in the named channel order,
+ * independent of the byte order of the buffer. The bulk methods convert colors or float buffers with four
+ * interleaved channels per color and advance the positions of the buffers. They work on the backing arrays
+ * if both buffers have one, and move whole pixels as single ints otherwise.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class ColorPacking
+{
+	/**
+	 * The unit values of the 256 channel values.
+	 */
+	private static final float[] UNITY = new float[256];
+	
+	static
+	{
+		for(int i = 0; i < 256; i++) UNITY[i] = i / 255.0f;
+	}
+	
+	private ColorPacking() { }
+	
+	/**
+	 * Converts a channel in unitspace (0 - 1) to colorrange (0 - 255). The value is clamped and rounded to nearest.
+	 * 
+	 * @param unity The channel in unitspace.
+	 * 
+	 * @return The channel in colorrange.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int toChannel(float unity)
+	{
+		if(!(unity > 0.0f)) return 0;
+		if(unity >= 1.0f) return 255;
+		
+		return (int)(unity * 255.0f + 0.5f);
+	}
+	
+	/**
+	 * Converts a channel in colorrange (0 - 255) to unitspace (0 - 1). Only the lowest 8 bits are used.
+	 * 
+	 * @param channel The channel in colorrange.
+	 * 
+	 * @return The channel in unitspace.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static float fromChannel(int channel)
+	{
+		return UNITY[channel & 0xFF];
+	}
+	
+	/**
+	 * Packs the channels in unitspace (0 - 1) into a pixel of the channel order.
+	 * 
+	 * @param r The red channel.
+	 * @param g The green channel.
+	 * @param b The blue channel.
+	 * @param a The alpha channel.
+	 * @param order The channel order of the pixel.
+	 * 
+	 * @return The pixel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int pack(float r, float g, float b, float a, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		return order.pack(toChannel(r), toChannel(g), toChannel(b), toChannel(a));
+	}
+	
+	/**
+	 * Packs the color into a pixel of the channel order.
+	 * 
+	 * @param c The color to pack.
+	 * @param order The channel order of the pixel.
+	 * 
+	 * @return The pixel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int pack(LDRColor4R c, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(c == null) throw new ArgumentNullException("c");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		return order.pack(toChannel(c.getUnityR()), toChannel(c.getUnityG()), toChannel(c.getUnityB()), toChannel(c.getUnityA()));
+	}
+	
+	/**
+	 * Unpacks the pixel of the channel order into the color result.
+	 * 
+	 * @param <T> The type of the result color.
+	 * @param pixel The pixel.
+	 * @param order The channel order of the pixel.
+	 * @param result The color receiving the unpacked channels.
+	 * 
+	 * @return The color result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends LDRColor4> T unpack(int pixel, ChannelOrder order, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(order == null) throw new ArgumentNullException("order");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		result.set(UNITY[order.getR(pixel)], UNITY[order.getG(pixel)], UNITY[order.getB(pixel)], UNITY[order.getA(pixel)]);
+		
+		return result;
+	}
+	
+	/**
+	 * Packs the color into a pixel of the channel order and puts it into the buffer at its current position
+	 * and advances the position.
+	 * 
+	 * @param buffer The buffer the pixel is written to.
+	 * @param c The color to pack.
+	 * @param order The channel order of the pixel.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static IntBuffer packLDRColor4(IntBuffer buffer, LDRColor4R c, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(c == null) throw new ArgumentNullException("c");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		buffer.put(pack(c, order));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads a pixel of the channel order from the buffer at its current position, unpacks it into the color result
+	 * and advances the position.
+	 * 
+	 * @param <T> The type of the result color.
+	 * @param buffer The buffer the pixel is read from.
+	 * @param result The color receiving the unpacked channels.
+	 * @param order The channel order of the pixel.
+	 * 
+	 * @return The color result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends LDRColor4> T unpackLDRColor4(IntBuffer buffer, T result, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		return unpack(buffer.get(), order, result);
+	}
+	
+	/**
+	 * Packs the colors of the array c in the range of offset to offset + length into pixels of the channel order
+	 * and puts them into the buffer at its current position and advances the position.
+	 * 
+	 * @param buffer The buffer the pixels are written to.
+	 * @param c The colors to pack.
+	 * @param offset The index of the first color to pack.
+	 * @param length The number of colors to pack.
+	 * @param order The channel order of the pixels.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static IntBuffer packLDRColor4Array(IntBuffer buffer, LDRColor4R[] c, int offset, int length, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(c == null) throw new ArgumentNullException("c");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			buffer.put(pack(c[i], order));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads pixels of the channel order from the buffer at its current position, unpacks them into the colors
+	 * of the array c in the range of offset to offset + length and advances the position.
+	 * Elements of the array, that are null, are replaced by new colors.
+	 * 
+	 * @param buffer The buffer the pixels are read from.
+	 * @param c The colors receiving the unpacked channels.
+	 * @param offset The index of the first color to unpack into.
+	 * @param length The number of colors to unpack.
+	 * @param order The channel order of the pixels.
+	 * 
+	 * @return The array c.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static LDRColor4[] unpackLDRColor4Array(IntBuffer buffer, LDRColor4[] c, int offset, int length, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(c == null) throw new ArgumentNullException("c");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			if(c[i] == null) c[i] = new LDRColor4();
+			
+			unpack(buffer.get(), order, c[i]);
+		}
+		
+		return c;
+	}
+	
+	/**
+	 * Packs the color into a pixel of the channel order and puts it into the buffer at its current position
+	 * and advances the position.
+	 * The channels are stored in the named order regardless of the byte order of the buffer.
+	 * 
+	 * @param buffer The buffer the pixel is written to.
+	 * @param c The color to pack.
+	 * @param order The channel order of the pixel.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packLDRColor4(ByteBuffer buffer, LDRColor4R c, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(c == null) throw new ArgumentNullException("c");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		putPixel(buffer, pack(c, order));
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads a pixel of the channel order from the buffer at its current position, unpacks it into the color result
+	 * and advances the position.
+	 * The channels are stored in the named order regardless of the byte order of the buffer.
+	 * 
+	 * @param <T> The type of the result color.
+	 * @param buffer The buffer the pixel is read from.
+	 * @param result The color receiving the unpacked channels.
+	 * @param order The channel order of the pixel.
+	 * 
+	 * @return The color result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends LDRColor4> T unpackLDRColor4(ByteBuffer buffer, T result, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		return unpack(getPixel(buffer), order, result);
+	}
+	
+	/**
+	 * Packs the colors of the array c in the range of offset to offset + length into pixels of the channel order
+	 * and puts them into the buffer at its current position and advances the position.
+	 * The channels are stored in the named order regardless of the byte order of the buffer.
+	 * 
+	 * @param buffer The buffer the pixels are written to.
+	 * @param c The colors to pack.
+	 * @param offset The index of the first color to pack.
+	 * @param length The number of colors to pack.
+	 * @param order The channel order of the pixels.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer packLDRColor4Array(ByteBuffer buffer, LDRColor4R[] c, int offset, int length, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(c == null) throw new ArgumentNullException("c");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			putPixel(buffer, pack(c[i], order));
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads pixels of the channel order from the buffer at its current position, unpacks them into the colors
+	 * of the array c in the range of offset to offset + length and advances the position.
+	 * Elements of the array, that are null, are replaced by new colors.
+	 * The channels are stored in the named order regardless of the byte order of the buffer.
+	 * 
+	 * @param buffer The buffer the pixels are read from.
+	 * @param c The colors receiving the unpacked channels.
+	 * @param offset The index of the first color to unpack into.
+	 * @param length The number of colors to unpack.
+	 * @param order The channel order of the pixels.
+	 * 
+	 * @return The array c.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static LDRColor4[] unpackLDRColor4Array(ByteBuffer buffer, LDRColor4[] c, int offset, int length, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(c == null) throw new ArgumentNullException("c");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		int end = offset + length;
+		
+		for(int i = offset; i < end; i++)
+		{
+			if(c[i] == null) c[i] = new LDRColor4();
+			
+			unpack(getPixel(buffer), order, c[i]);
+		}
+		
+		return c;
+	}
+	
+	/**
+	 * Packs all remaining floats of the source buffer with four interleaved channels (r, g, b, a) per color
+	 * into pixels of the channel order and puts them into the destination buffer.
+	 * The positions of both buffers are advanced.
+	 * 
+	 * @param src The buffer containing the channels in unitspace.
+	 * @param dst The buffer the pixels are written to.
+	 * @param order The channel order of the pixels.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static IntBuffer pack(FloatBuffer src, IntBuffer dst, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		int count = src.remaining() / 4;
+		
+		if(src.hasArray() && dst.hasArray() && !dst.isReadOnly() && dst.remaining() >= count)
+		{
+			float[] s = src.array();
+			int[] d = dst.array();
+			int si = src.arrayOffset() + src.position();
+			int di = dst.arrayOffset() + dst.position();
+			
+			for(int i = 0; i < count; i++, si += 4)
+			{
+				d[di + i] = order.pack(toChannel(s[si]), toChannel(s[si + 1]), toChannel(s[si + 2]), toChannel(s[si + 3]));
+			}
+			
+			src.position(src.position() + count * 4);
+			dst.position(dst.position() + count);
+			
+			return dst;
+		}
+		
+		for(int i = 0; i < count; i++)
+		{
+			float r = src.get();
+			float g = src.get();
+			float b = src.get();
+			float a = src.get();
+			
+			dst.put(order.pack(toChannel(r), toChannel(g), toChannel(b), toChannel(a)));
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Unpacks all remaining pixels of the channel order of the source buffer into four interleaved channels
+	 * (r, g, b, a) in unitspace per color and puts them into the destination buffer.
+	 * The positions of both buffers are advanced.
+	 * 
+	 * @param src The buffer containing the pixels.
+	 * @param dst The buffer the channels are written to.
+	 * @param order The channel order of the pixels.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static FloatBuffer unpack(IntBuffer src, FloatBuffer dst, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		int count = src.remaining();
+		
+		if(src.hasArray() && dst.hasArray() && !dst.isReadOnly() && dst.remaining() >= count * 4)
+		{
+			int[] s = src.array();
+			float[] d = dst.array();
+			int si = src.arrayOffset() + src.position();
+			int di = dst.arrayOffset() + dst.position();
+			
+			for(int i = 0; i < count; i++, di += 4)
+			{
+				int pixel = s[si + i];
+				
+				d[di] = UNITY[order.getR(pixel)];
+				d[di + 1] = UNITY[order.getG(pixel)];
+				d[di + 2] = UNITY[order.getB(pixel)];
+				d[di + 3] = UNITY[order.getA(pixel)];
+			}
+			
+			src.position(src.position() + count);
+			dst.position(dst.position() + count * 4);
+			
+			return dst;
+		}
+		
+		for(int i = 0; i < count; i++)
+		{
+			int pixel = src.get();
+			
+			dst.put(UNITY[order.getR(pixel)]);
+			dst.put(UNITY[order.getG(pixel)]);
+			dst.put(UNITY[order.getB(pixel)]);
+			dst.put(UNITY[order.getA(pixel)]);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Packs all remaining floats of the source buffer with four interleaved channels (r, g, b, a) per color
+	 * into pixels of the channel order and puts them into the destination buffer.
+	 * The positions of both buffers are advanced. The channels are stored in the named order regardless of
+	 * the byte order of the buffer. Every pixel is written with a single int access.
+	 * 
+	 * @param src The buffer containing the channels in unitspace.
+	 * @param dst The buffer the pixels are written to.
+	 * @param order The channel order of the pixels.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static ByteBuffer pack(FloatBuffer src, ByteBuffer dst, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		int count = src.remaining() / 4;
+		boolean swap = dst.order() == ByteOrder.LITTLE_ENDIAN;
+		
+		for(int i = 0; i < count; i++)
+		{
+			float r = src.get();
+			float g = src.get();
+			float b = src.get();
+			float a = src.get();
+			
+			int pixel = order.pack(toChannel(r), toChannel(g), toChannel(b), toChannel(a));
+			
+			dst.putInt(swap ? Integer.reverseBytes(pixel) : pixel);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Unpacks all remaining pixels of the channel order of the source buffer into four interleaved channels
+	 * (r, g, b, a) in unitspace per color and puts them into the destination buffer.
+	 * The positions of both buffers are advanced. The channels are read in the named order regardless of
+	 * the byte order of the buffer. Every pixel is read with a single int access.
+	 * 
+	 * @param src The buffer containing the pixels.
+	 * @param dst The buffer the channels are written to.
+	 * @param order The channel order of the pixels.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static FloatBuffer unpack(ByteBuffer src, FloatBuffer dst, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		int count = src.remaining() / 4;
+		boolean swap = src.order() == ByteOrder.LITTLE_ENDIAN;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int pixel = src.getInt();
+			
+			if(swap) pixel = Integer.reverseBytes(pixel);
+			
+			dst.put(UNITY[order.getR(pixel)]);
+			dst.put(UNITY[order.getG(pixel)]);
+			dst.put(UNITY[order.getB(pixel)]);
+			dst.put(UNITY[order.getA(pixel)]);
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Converts all remaining pixels of the source buffer from one channel order to another and puts them
+	 * into the destination buffer. The positions of both buffers are advanced. The buffers may be the same.
+	 * 
+	 * @param src The buffer containing the pixels.
+	 * @param dst The buffer the converted pixels are written to.
+	 * @param from The channel order of the source pixels.
+	 * @param to The channel order of the destination pixels.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static IntBuffer convert(IntBuffer src, IntBuffer dst, ChannelOrder from, ChannelOrder to)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+			if(from == null) throw new ArgumentNullException("from");
+			if(to == null) throw new ArgumentNullException("to");
+		}
+		
+		if(src == dst)
+		{
+			int position = src.position();
+			
+			for(int i = position; i < src.limit(); i++) src.put(i, from.convert(src.get(i), to));
+			
+			src.position(src.limit());
+			
+			return dst;
+		}
+		
+		int count = src.remaining();
+		
+		for(int i = 0; i < count; i++)
+		{
+			dst.put(from.convert(src.get(), to));
+		}
+		
+		return dst;
+	}
+	
+	/**
+	 * Reads a pixel with the channels in the named order from the byte buffer and advances the position.
+	 * 
+	 * @param buffer The buffer.
+	 * 
+	 * @return The pixel.
+	 */
+	private static int getPixel(ByteBuffer buffer)
+	{
+		int pixel = buffer.getInt();
+		
+		return buffer.order() == ByteOrder.LITTLE_ENDIAN ? Integer.reverseBytes(pixel) : pixel;
+	}
+	
+	/**
+	 * Writes a pixel with the channels in the named order into the byte buffer and advances the position.
+	 * 
+	 * @param buffer The buffer.
+	 * @param pixel The pixel.
+	 */
+	private static void putPixel(ByteBuffer buffer, int pixel)
+	{
+		buffer.putInt(buffer.order() == ByteOrder.LITTLE_ENDIAN ? Integer.reverseBytes(pixel) : pixel);
+	}
+}
\ No newline at end of file
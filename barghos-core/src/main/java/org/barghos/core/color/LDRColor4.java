@@ -22,10 +22,13 @@
 
 package org.barghos.core.color;
 
+import java.io.IOException;
+
 import org.barghos.core.api.color.LDRColor4R;
 import org.barghos.core.api.tuple4.Tup4fR;
 import org.barghos.core.api.tuple4.Tup4iR;
 import org.barghos.core.util.ArgumentNullException;
+import org.barghos.core.util.FastFormat;
 import org.barghos.core.Barghos;
 
 /**
@@ -502,6 +505,109 @@ public class LDRColor4 implements LDRColor4R
 		return Math.round(this.a * 255);
 	}
 	
+	/**
+	 * Converts the color components from the sRGB transfer function to linear light in place. The alpha component is not converted.
+	 * The conversion uses the tables of {@link SRGB#toLinear(float)}. The result stays in the range 0.0 to 1.0.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public LDRColor4 toLinear()
+	{
+		this.r = SRGB.toLinear(this.r);
+		this.g = SRGB.toLinear(this.g);
+		this.b = SRGB.toLinear(this.b);
+		
+		return this;
+	}
+	
+	/**
+	 * Converts the color components from linear light to the sRGB transfer function in place. The alpha component is not converted.
+	 * The conversion uses the tables of {@link SRGB#toSRGB(float)}. The result stays in the range 0.0 to 1.0.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public LDRColor4 toSRGB()
+	{
+		this.r = SRGB.toSRGB(this.r);
+		this.g = SRGB.toSRGB(this.g);
+		this.b = SRGB.toSRGB(this.b);
+		
+		return this;
+	}
+	
+	/**
+	 * Appends the string representation of the color to the string builder. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param sb The string builder to append to.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public StringBuilder appendTo(StringBuilder sb)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		sb.append("ldrcolor4(r=");
+		FastFormat.append(sb, getUnityR());
+		sb.append(", g=");
+		FastFormat.append(sb, getUnityG());
+		sb.append(", b=");
+		FastFormat.append(sb, getUnityB());
+		sb.append(", a=");
+		FastFormat.append(sb, getUnityA());
+		sb.append(')');
+		
+		return sb;
+	}
+	
+	/**
+	 * Appends the string representation of the color to the appendable. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable to append to.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <A extends Appendable> A appendTo(A a) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		a.append("ldrcolor4(r=");
+		FastFormat.append(a, getUnityR());
+		a.append(", g=");
+		FastFormat.append(a, getUnityG());
+		a.append(", b=");
+		FastFormat.append(a, getUnityB());
+		a.append(", a=");
+		FastFormat.append(a, getUnityA());
+		a.append(')');
+		
+		return a;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return appendTo(new StringBuilder()).toString();
+	}
+	
 	/**
 	 * Clamps the float value to unit space from 0.0 to 1.0.
 	 * 
@@ -0,0 +1,637 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.color;
+
+import java.io.IOException;
+
+import org.barghos.core.api.color.LDRColor3R;
+import org.barghos.core.api.tuple3.Tup3fR;
+import org.barghos.core.api.tuple3.Tup3iR;
+import org.barghos.core.util.ArgumentNullException;
+import org.barghos.core.util.FastFormat;
+import org.barghos.core.Barghos;
+
+/**
+ * This class is an implementation of an LDRColor3 that stores all components with 8 bits each in a single int.
+ * 
+ * <p>
+ * The components are kept in colorrange (0 - 255) in the layout 0x00RRGGBB. Setters clamp and quantize the value
+ * once, getters only shift. An instance needs a quarter of the memory of an {@link LDRColor3} and is copied
+ * as a single int by {@link #set(PackedLDRColor3)}.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class PackedLDRColor3 implements LDRColor3R
+{
+	/**
+	 * The components in colorrange in the layout 0x00RRGGBB.
+	 */
+	private int packed;
+	
+	/**
+	 * This is the default constructor.
+	 * It is commonly used by a pool.
+	 * It sets all components to 0 what is equal to black color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3() { }
+	
+	/**
+	 * This constructor adepts the components from the color c.
+	 * 
+	 * @param c The color to adept the components from.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3(PackedLDRColor3 c)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(c == null) throw new ArgumentNullException("c");
+		}
+		
+		set(c);
+	}
+	
+	/**
+	 * This constructor adepts the components from the tuple t.
+	 * The values of t are interpreted as in unitspace (0.0 - 1.0) and are clamped to these limit.
+	 * 
+	 * @param t The tuple to adept the components from in unitspace.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3(Tup3fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		set(t);
+	}
+	
+	/**
+	 * This constructor adepts the components from the tuple t.
+	 * The values of t are interpreted as in colorspace (0 - 255) and are clamped to these limit.
+	 * 
+	 * @param t The tuple to adept the components from in colorspace.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3(Tup3iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		set(t);
+	}
+	
+	/**
+	 * This constructor sets the components to scalar.
+	 * The scalar is interpreted as in unitspace (0.0 - 1.0) and are clamped to these limit.
+	 * 
+	 * @param scalar A value that the components are set to.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3(float scalar)
+	{
+		set(scalar);
+	}
+	
+	/**
+	 * This constructor sets the components to scalar.
+	 * The scalar is interpreted as in colorspace (0 - 255) and are clamped to these limit.
+	 * 
+	 * @param scalar A value that the components are set to.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3(int scalar)
+	{
+		set(scalar);
+	}
+	
+	/**
+	 * This constructor sets the components to r, g and b.
+	 * r, g and b are interpreted as in unitspace (0.0 - 1.0) and are clamped to these limit.
+	 * 
+	 * @param r The red component in unitspace.
+	 * @param g The green component in unitspace.
+	 * @param b The blue component in unitspace.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3(float r, float g, float b)
+	{
+		set(r, g, b);
+	}
+	
+	/**
+	 * This constructor sets the components to r, g and b.
+	 * r, g and b are interpreted as in colorspace (0 - 255) and are clamped to these limit.
+	 * 
+	 * @param r The red component in colorspace.
+	 * @param g The green component in colorspace.
+	 * @param b The blue component in colorspace.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3(int r, int g, int b)
+	{
+		set(r, g, b);
+	}
+	
+	/**
+	 * This constructor adepts the components from the pixel of the channel order. The alpha channel is ignored.
+	 * 
+	 * @param pixel The pixel.
+	 * @param order The channel order of the pixel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3(int pixel, ChannelOrder order)
+	{
+		setPacked(pixel, order);
+	}
+	
+	/**
+	 * Sets the red component to x.
+	 * x is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param x The red component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 setX(float x)
+	{
+		return setUnityR(x);
+	}
+	
+	/**
+	 * Sets the green component to y.
+	 * y is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param y The green component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 setY(float y)
+	{
+		return setUnityG(y);
+	}
+	
+	/**
+	 * Sets the blue component to z.
+	 * z is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param z The blue component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 setZ(float z)
+	{
+		return setUnityB(z);
+	}
+	
+	/**
+	 * Sets the red component to r.
+	 * r is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param r The red component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 setUnityR(float r)
+	{
+		return setR(ColorPacking.toChannel(r));
+	}
+	
+	/**
+	 * Sets the green component to g.
+	 * g is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param g The green component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 setUnityG(float g)
+	{
+		return setG(ColorPacking.toChannel(g));
+	}
+	
+	/**
+	 * Sets the blue component to b.
+	 * b is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param b The blue component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 setUnityB(float b)
+	{
+		return setB(ColorPacking.toChannel(b));
+	}
+	
+	/**
+	 * Sets the red component to r.
+	 * r is interpreted as in colorspace (0 - 255) and is clamped to these limits.
+	 * 
+	 * @param r The red component in colorspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 setR(int r)
+	{
+		this.packed = (this.packed & ~(0xFF << 16)) | (clamp(r) << 16);
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the green component to g.
+	 * g is interpreted as in colorspace (0 - 255) and is clamped to these limits.
+	 * 
+	 * @param g The green component in colorspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 setG(int g)
+	{
+		this.packed = (this.packed & ~(0xFF << 8)) | (clamp(g) << 8);
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the blue component to b.
+	 * b is interpreted as in colorspace (0 - 255) and is clamped to these limits.
+	 * 
+	 * @param b The blue component in colorspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 setB(int b)
+	{
+		this.packed = (this.packed & ~(0xFF)) | (clamp(b));
+		
+		return this;
+	}
+	
+	/**
+	 * Adepts the components from the color c. This is a single int copy.
+	 * 
+	 * @param c The color to adept the components from.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 set(PackedLDRColor3 c)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(c == null) throw new ArgumentNullException("c");
+		}
+		
+		this.packed = c.packed;
+		
+		return this;
+	}
+	
+	/**
+	 * Adepts the components from tuple t.
+	 * The components are interpreted as in unitspace (0.0 - 1.0) and are clamped to these limits.
+	 * 
+	 * @param t The tuple to adept the components from in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 set(Tup3fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return set(t.getX(), t.getY(), t.getZ());
+	}
+	
+	/**
+	 * Adepts the components from tuple t.
+	 * The components are interpreted as in colorspace (0 - 255) and are clamped to these limits.
+	 * 
+	 * @param t The tuple to adept the components from in colorspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 set(Tup3iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return set(t.getX(), t.getY(), t.getZ());
+	}
+	
+	/**
+	 * Sets all components to scalar.
+	 * The value of scalar is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param scalar The value all components should be set to in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 set(float scalar)
+	{
+		return set(ColorPacking.toChannel(scalar));
+	}
+	
+	/**
+	 * Sets all components to scalar.
+	 * The value of scalar is interpreted as in colorspace (0 - 255) and is clamped to these limits.
+	 * 
+	 * @param scalar The value all components should be set to in colorspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 set(int scalar)
+	{
+		this.packed = clamp(scalar) * 0x010101;
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the components to r, g and b.
+	 * The components are interpreted as in unitspace (0.0 - 1.0) and are clamped to these limits.
+	 *
+	 * @param r The red component in unitspace.
+	 * @param g The green component in unitspace.
+	 * @param b The blue component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 set(float r, float g, float b)
+	{
+		this.packed = (ColorPacking.toChannel(r) << 16) | (ColorPacking.toChannel(g) << 8) | (ColorPacking.toChannel(b));
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the components to r, g and b.
+	 * The components are interpreted as in colorspace (0 - 255) and are clamped to these limits.
+	 *
+	 * @param r The red component in colorspace.
+	 * @param g The green component in colorspace.
+	 * @param b The blue component in colorspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 set(int r, int g, int b)
+	{
+		this.packed = (clamp(r) << 16) | (clamp(g) << 8) | (clamp(b));
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the components in the layout 0x00RRGGBB.
+	 * 
+	 * @return The packed components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getPacked()
+	{
+		return this.packed;
+	}
+	
+	/**
+	 * Sets the components from an int in the layout 0x00RRGGBB. The highest 8 bits are ignored.
+	 * 
+	 * @param packed The packed components.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 setPacked(int packed)
+	{
+		this.packed = packed & 0xFFFFFF;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the components as a pixel of the channel order. The alpha channel is set to 255.
+	 * 
+	 * @param order The channel order of the pixel.
+	 * 
+	 * @return The pixel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getPacked(ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		return ChannelOrder.ARGB.convert(this.packed | 0xFF000000, order);
+	}
+	
+	/**
+	 * Sets the components from a pixel of the channel order. The alpha channel is ignored.
+	 * 
+	 * @param pixel The pixel.
+	 * @param order The channel order of the pixel.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor3 setPacked(int pixel, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		this.packed = order.convert(pixel, ChannelOrder.ARGB) & 0xFFFFFF;
+		
+		return this;
+	}
+	
+	@Override
+	public float getUnityR()
+	{
+		return ColorPacking.fromChannel(getR());
+	}
+	
+	@Override
+	public float getUnityG()
+	{
+		return ColorPacking.fromChannel(getG());
+	}
+	
+	@Override
+	public float getUnityB()
+	{
+		return ColorPacking.fromChannel(getB());
+	}
+	
+	@Override
+	public int getR()
+	{
+		return (this.packed >>> 16) & 0xFF;
+	}
+	
+	@Override
+	public int getG()
+	{
+		return (this.packed >>> 8) & 0xFF;
+	}
+	
+	@Override
+	public int getB()
+	{
+		return this.packed & 0xFF;
+	}
+	
+	/**
+	 * Appends the string representation of the color to the string builder. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param sb The string builder to append to.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public StringBuilder appendTo(StringBuilder sb)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		sb.append("packedldrcolor3(r=");
+		FastFormat.append(sb, getUnityR());
+		sb.append(", g=");
+		FastFormat.append(sb, getUnityG());
+		sb.append(", b=");
+		FastFormat.append(sb, getUnityB());
+		sb.append(')');
+		
+		return sb;
+	}
+	
+	/**
+	 * Appends the string representation of the color to the appendable. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable to append to.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <A extends Appendable> A appendTo(A a) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		a.append("packedldrcolor3(r=");
+		FastFormat.append(a, getUnityR());
+		a.append(", g=");
+		FastFormat.append(a, getUnityG());
+		a.append(", b=");
+		FastFormat.append(a, getUnityB());
+		a.append(')');
+		
+		return a;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return appendTo(new StringBuilder()).toString();
+	}
+	
+	/**
+	 * Clamps the int value to colorrange from 0 to 255.
+	 * 
+	 * @param value The value to be clamped.
+	 * 
+	 * @return The clamped value.
+	 */
+	private static int clamp(int value)
+	{
+		return value > 255 ? 255 : value < 0 ? 0 : value;
+	}
+}
\ No newline at end of file
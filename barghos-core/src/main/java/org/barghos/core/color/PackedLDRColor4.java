@@ -0,0 +1,704 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.color;
+
+import java.io.IOException;
+
+import org.barghos.core.api.color.LDRColor4R;
+import org.barghos.core.api.tuple4.Tup4fR;
+import org.barghos.core.api.tuple4.Tup4iR;
+import org.barghos.core.util.ArgumentNullException;
+import org.barghos.core.util.FastFormat;
+import org.barghos.core.Barghos;
+
+/**
+ * This class is an implementation of an LDRColor4 that stores all components with 8 bits each in a single int.
+ * 
+ * <p>
+ * The components are kept in colorrange (0 - 255) in the layout 0xRRGGBBAA. Setters clamp and quantize the value
+ * once, getters only shift. An instance needs a quarter of the memory of an {@link LDRColor4} and is copied
+ * as a single int by {@link #set(PackedLDRColor4)}.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class PackedLDRColor4 implements LDRColor4R
+{
+	/**
+	 * The components in colorrange in the layout 0xRRGGBBAA.
+	 */
+	private int packed;
+	
+	/**
+	 * This is the default constructor.
+	 * It is commonly used by a pool.
+	 * It sets all components to 0 what is equal to transparent black color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4() { }
+	
+	/**
+	 * This constructor adepts the components from the color c.
+	 * 
+	 * @param c The color to adept the components from.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4(PackedLDRColor4 c)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(c == null) throw new ArgumentNullException("c");
+		}
+		
+		set(c);
+	}
+	
+	/**
+	 * This constructor adepts the components from the tuple t.
+	 * The values of t are interpreted as in unitspace (0.0 - 1.0) and are clamped to these limit.
+	 * 
+	 * @param t The tuple to adept the components from in unitspace.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4(Tup4fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		set(t);
+	}
+	
+	/**
+	 * This constructor adepts the components from the tuple t.
+	 * The values of t are interpreted as in colorspace (0 - 255) and are clamped to these limit.
+	 * 
+	 * @param t The tuple to adept the components from in colorspace.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4(Tup4iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		set(t);
+	}
+	
+	/**
+	 * This constructor sets the components to scalar.
+	 * The scalar is interpreted as in unitspace (0.0 - 1.0) and are clamped to these limit.
+	 * 
+	 * @param scalar A value that the components are set to.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4(float scalar)
+	{
+		set(scalar);
+	}
+	
+	/**
+	 * This constructor sets the components to scalar.
+	 * The scalar is interpreted as in colorspace (0 - 255) and are clamped to these limit.
+	 * 
+	 * @param scalar A value that the components are set to.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4(int scalar)
+	{
+		set(scalar);
+	}
+	
+	/**
+	 * This constructor sets the components to r, g, b and a.
+	 * r, g, b and a are interpreted as in unitspace (0.0 - 1.0) and are clamped to these limit.
+	 * 
+	 * @param r The red component in unitspace.
+	 * @param g The green component in unitspace.
+	 * @param b The blue component in unitspace.
+	 * @param a The alpha component in unitspace.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4(float r, float g, float b, float a)
+	{
+		set(r, g, b, a);
+	}
+	
+	/**
+	 * This constructor sets the components to r, g, b and a.
+	 * r, g, b and a are interpreted as in colorspace (0 - 255) and are clamped to these limit.
+	 * 
+	 * @param r The red component in colorspace.
+	 * @param g The green component in colorspace.
+	 * @param b The blue component in colorspace.
+	 * @param a The alpha component in colorspace.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4(int r, int g, int b, int a)
+	{
+		set(r, g, b, a);
+	}
+	
+	/**
+	 * This constructor adepts the components from the pixel of the channel order.
+	 * 
+	 * @param pixel The pixel.
+	 * @param order The channel order of the pixel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4(int pixel, ChannelOrder order)
+	{
+		setPacked(pixel, order);
+	}
+	
+	/**
+	 * Sets the red component to x.
+	 * x is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param x The red component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 setX(float x)
+	{
+		return setUnityR(x);
+	}
+	
+	/**
+	 * Sets the green component to y.
+	 * y is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param y The green component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 setY(float y)
+	{
+		return setUnityG(y);
+	}
+	
+	/**
+	 * Sets the blue component to z.
+	 * z is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param z The blue component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 setZ(float z)
+	{
+		return setUnityB(z);
+	}
+	
+	/**
+	 * Sets the alpha component to w.
+	 * w is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param w The alpha component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 setW(float w)
+	{
+		return setUnityA(w);
+	}
+	
+	/**
+	 * Sets the red component to r.
+	 * r is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param r The red component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 setUnityR(float r)
+	{
+		return setR(ColorPacking.toChannel(r));
+	}
+	
+	/**
+	 * Sets the green component to g.
+	 * g is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param g The green component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 setUnityG(float g)
+	{
+		return setG(ColorPacking.toChannel(g));
+	}
+	
+	/**
+	 * Sets the blue component to b.
+	 * b is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param b The blue component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 setUnityB(float b)
+	{
+		return setB(ColorPacking.toChannel(b));
+	}
+	
+	/**
+	 * Sets the alpha component to a.
+	 * a is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param a The alpha component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 setUnityA(float a)
+	{
+		return setA(ColorPacking.toChannel(a));
+	}
+	
+	/**
+	 * Sets the red component to r.
+	 * r is interpreted as in colorspace (0 - 255) and is clamped to these limits.
+	 * 
+	 * @param r The red component in colorspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 setR(int r)
+	{
+		this.packed = (this.packed & ~(0xFF << 24)) | (clamp(r) << 24);
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the green component to g.
+	 * g is interpreted as in colorspace (0 - 255) and is clamped to these limits.
+	 * 
+	 * @param g The green component in colorspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 setG(int g)
+	{
+		this.packed = (this.packed & ~(0xFF << 16)) | (clamp(g) << 16);
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the blue component to b.
+	 * b is interpreted as in colorspace (0 - 255) and is clamped to these limits.
+	 * 
+	 * @param b The blue component in colorspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 setB(int b)
+	{
+		this.packed = (this.packed & ~(0xFF << 8)) | (clamp(b) << 8);
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the alpha component to a.
+	 * a is interpreted as in colorspace (0 - 255) and is clamped to these limits.
+	 * 
+	 * @param a The alpha component in colorspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 setA(int a)
+	{
+		this.packed = (this.packed & ~(0xFF)) | (clamp(a));
+		
+		return this;
+	}
+	
+	/**
+	 * Adepts the components from the color c. This is a single int copy.
+	 * 
+	 * @param c The color to adept the components from.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 set(PackedLDRColor4 c)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(c == null) throw new ArgumentNullException("c");
+		}
+		
+		this.packed = c.packed;
+		
+		return this;
+	}
+	
+	/**
+	 * Adepts the components from tuple t.
+	 * The components are interpreted as in unitspace (0.0 - 1.0) and are clamped to these limits.
+	 * 
+	 * @param t The tuple to adept the components from in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 set(Tup4fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return set(t.getX(), t.getY(), t.getZ(), t.getW());
+	}
+	
+	/**
+	 * Adepts the components from tuple t.
+	 * The components are interpreted as in colorspace (0 - 255) and are clamped to these limits.
+	 * 
+	 * @param t The tuple to adept the components from in colorspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 set(Tup4iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return set(t.getX(), t.getY(), t.getZ(), t.getW());
+	}
+	
+	/**
+	 * Sets all components to scalar.
+	 * The value of scalar is interpreted as in unitspace (0.0 - 1.0) and is clamped to these limits.
+	 * 
+	 * @param scalar The value all components should be set to in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 set(float scalar)
+	{
+		return set(ColorPacking.toChannel(scalar));
+	}
+	
+	/**
+	 * Sets all components to scalar.
+	 * The value of scalar is interpreted as in colorspace (0 - 255) and is clamped to these limits.
+	 * 
+	 * @param scalar The value all components should be set to in colorspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 set(int scalar)
+	{
+		this.packed = clamp(scalar) * 0x01010101;
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the components to r, g, b and a.
+	 * The components are interpreted as in unitspace (0.0 - 1.0) and are clamped to these limits.
+	 *
+	 * @param r The red component in unitspace.
+	 * @param g The green component in unitspace.
+	 * @param b The blue component in unitspace.
+	 * @param a The alpha component in unitspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 set(float r, float g, float b, float a)
+	{
+		this.packed = (ColorPacking.toChannel(r) << 24) | (ColorPacking.toChannel(g) << 16) | (ColorPacking.toChannel(b) << 8) | (ColorPacking.toChannel(a));
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the components to r, g, b and a.
+	 * The components are interpreted as in colorspace (0 - 255) and are clamped to these limits.
+	 *
+	 * @param r The red component in colorspace.
+	 * @param g The green component in colorspace.
+	 * @param b The blue component in colorspace.
+	 * @param a The alpha component in colorspace.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 set(int r, int g, int b, int a)
+	{
+		this.packed = (clamp(r) << 24) | (clamp(g) << 16) | (clamp(b) << 8) | (clamp(a));
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the components in the layout 0xRRGGBBAA.
+	 * 
+	 * @return The packed components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getPacked()
+	{
+		return this.packed;
+	}
+	
+	/**
+	 * Sets the components from an int in the layout 0xRRGGBBAA.
+	 * 
+	 * @param packed The packed components.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 setPacked(int packed)
+	{
+		this.packed = packed;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the components as a pixel of the channel order.
+	 * 
+	 * @param order The channel order of the pixel.
+	 * 
+	 * @return The pixel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getPacked(ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		return ChannelOrder.RGBA.convert(this.packed, order);
+	}
+	
+	/**
+	 * Sets the components from a pixel of the channel order.
+	 * 
+	 * @param pixel The pixel.
+	 * @param order The channel order of the pixel.
+	 * 
+	 * @return The current color.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedLDRColor4 setPacked(int pixel, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		this.packed = order.convert(pixel, ChannelOrder.RGBA);
+		
+		return this;
+	}
+	
+	@Override
+	public float getUnityR()
+	{
+		return ColorPacking.fromChannel(getR());
+	}
+	
+	@Override
+	public float getUnityG()
+	{
+		return ColorPacking.fromChannel(getG());
+	}
+	
+	@Override
+	public float getUnityB()
+	{
+		return ColorPacking.fromChannel(getB());
+	}
+	
+	@Override
+	public float getUnityA()
+	{
+		return ColorPacking.fromChannel(getA());
+	}
+	
+	@Override
+	public int getR()
+	{
+		return this.packed >>> 24;
+	}
+	
+	@Override
+	public int getG()
+	{
+		return (this.packed >>> 16) & 0xFF;
+	}
+	
+	@Override
+	public int getB()
+	{
+		return (this.packed >>> 8) & 0xFF;
+	}
+	
+	@Override
+	public int getA()
+	{
+		return this.packed & 0xFF;
+	}
+	
+	/**
+	 * Appends the string representation of the color to the string builder. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param sb The string builder to append to.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public StringBuilder appendTo(StringBuilder sb)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		sb.append("packedldrcolor4(r=");
+		FastFormat.append(sb, getUnityR());
+		sb.append(", g=");
+		FastFormat.append(sb, getUnityG());
+		sb.append(", b=");
+		FastFormat.append(sb, getUnityB());
+		sb.append(", a=");
+		FastFormat.append(sb, getUnityA());
+		sb.append(')');
+		
+		return sb;
+	}
+	
+	/**
+	 * Appends the string representation of the color to the appendable. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable to append to.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <A extends Appendable> A appendTo(A a) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		a.append("packedldrcolor4(r=");
+		FastFormat.append(a, getUnityR());
+		a.append(", g=");
+		FastFormat.append(a, getUnityG());
+		a.append(", b=");
+		FastFormat.append(a, getUnityB());
+		a.append(", a=");
+		FastFormat.append(a, getUnityA());
+		a.append(')');
+		
+		return a;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return appendTo(new StringBuilder()).toString();
+	}
+	
+	/**
+	 * Clamps the int value to colorrange from 0 to 255.
+	 * 
+	 * @param value The value to be clamped.
+	 * 
+	 * @return The clamped value.
+	 */
+	private static int clamp(int value)
+	{
+		return value > 255 ? 255 : value < 0 ? 0 : value;
+	}
+}
\ No newline at end of file
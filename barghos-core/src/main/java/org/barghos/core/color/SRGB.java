@@ -0,0 +1,522 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.color;
+
+import java.nio.BufferOverflowException;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.concurrent.RecursiveAction;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class converts color components between the sRGB transfer function and linear light.
+ * 
+ * <p>
+ * The exact conversions follow the piecewise definition of IEC 61966-2-1 and use {@link Math#pow(double, double)}.
+ * The fast conversions use tables built from the exact conversions once:
+ * <ul>
+ * <li>8-bit sRGB channels are decoded by a table with 256 entries.</li>
+ * <li>Components in the range 0 to 1 are converted by linear interpolation in tables with {@value #STEPS} steps.
+ * Decoding is accurate to about 1e-7 and encoding to about 2e-5. Components outside this range fall back to the
+ * exact conversions, so HDR colors are supported.</li>
+ * <li>Linear components are encoded to 8-bit sRGB channels by the interpolation followed by a correction against
+ * the exact rounding thresholds. The result is always equal to rounding the exact conversion.</li>
+ * </ul>
+ * 
+ * <p>
+ * The alpha channel is never converted. The bulk conversions work on absolute positions of the buffers and split
+ * large buffers into ranges of {@value #PARALLEL_THRESHOLD} colors that are converted in parallel.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class SRGB
+{
+	/**
+	 * The number of steps of the interpolation tables.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static final int STEPS = 4096;
+	
+	/**
+	 * The number of colors from which on bulk conversions are split into ranges converted in parallel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 14;
+	
+	/**
+	 * The linear components of the 256 sRGB channel values.
+	 */
+	private static final float[] DECODE = new float[256];
+	
+	/**
+	 * The linear components at the sRGB components i / {@link #STEPS}.
+	 */
+	private static final float[] TO_LINEAR = new float[STEPS + 1];
+	
+	/**
+	 * The sRGB components at the linear components i / {@link #STEPS}.
+	 */
+	private static final float[] TO_SRGB = new float[STEPS + 1];
+	
+	/**
+	 * The smallest linear components that are encoded to the sRGB channel values. The first entry is never used.
+	 */
+	private static final double[] THRESHOLDS = new double[256];
+	
+	static
+	{
+		for(int i = 0; i < 256; i++)
+		{
+			DECODE[i] = (float)toLinearExact(i / 255.0);
+			THRESHOLDS[i] = toLinearExact((i - 0.5) / 255.0);
+		}
+		
+		for(int i = 0; i <= STEPS; i++)
+		{
+			TO_LINEAR[i] = (float)toLinearExact((double)i / STEPS);
+			TO_SRGB[i] = (float)toSRGBExact((double)i / STEPS);
+		}
+	}
+	
+	private SRGB() { }
+	
+	/**
+	 * Converts an sRGB component to linear light with the exact formula.
+	 * 
+	 * @param srgb The sRGB component.
+	 * 
+	 * @return The linear component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static double toLinearExact(double srgb)
+	{
+		if(srgb <= 0.04045) return srgb / 12.92;
+		
+		return Math.pow((srgb + 0.055) / 1.055, 2.4);
+	}
+	
+	/**
+	 * Converts a linear component to sRGB with the exact formula.
+	 * 
+	 * @param linear The linear component.
+	 * 
+	 * @return The sRGB component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static double toSRGBExact(double linear)
+	{
+		if(linear <= 0.0031308) return linear * 12.92;
+		
+		return 1.055 * Math.pow(linear, 1.0 / 2.4) - 0.055;
+	}
+	
+	/**
+	 * Converts an sRGB component to linear light. Components in the range 0 to 1 are interpolated from a table.
+	 * 
+	 * @param srgb The sRGB component.
+	 * 
+	 * @return The linear component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static float toLinear(float srgb)
+	{
+		if(srgb >= 0.0f && srgb <= 1.0f) return interpolate(TO_LINEAR, srgb);
+		
+		return (float)toLinearExact(srgb);
+	}
+	
+	/**
+	 * Converts a linear component to sRGB. Components in the range 0 to 1 are interpolated from a table.
+	 * 
+	 * @param linear The linear component.
+	 * 
+	 * @return The sRGB component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static float toSRGB(float linear)
+	{
+		if(linear >= 0.0f && linear <= 1.0f) return interpolate(TO_SRGB, linear);
+		
+		return (float)toSRGBExact(linear);
+	}
+	
+	/**
+	 * Decodes an sRGB channel in colorrange (0 - 255) to a linear component in unitspace (0 - 1).
+	 * Only the lowest 8 bits are used.
+	 * 
+	 * @param channel The sRGB channel.
+	 * 
+	 * @return The linear component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static float decode(int channel)
+	{
+		return DECODE[channel & 0xFF];
+	}
+	
+	/**
+	 * Encodes a linear component in unitspace (0 - 1) to an sRGB channel in colorrange (0 - 255).
+	 * The component is clamped and the result is the exact conversion rounded to nearest.
+	 * 
+	 * @param linear The linear component.
+	 * 
+	 * @return The sRGB channel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int encode(float linear)
+	{
+		if(!(linear > 0.0f)) return 0;
+		if(linear >= 1.0f) return 255;
+		
+		int channel = (int)(interpolate(TO_SRGB, linear) * 255.0f + 0.5f);
+		
+		if(linear < THRESHOLDS[channel]) return channel - 1;
+		if(channel < 255 && linear >= THRESHOLDS[channel + 1]) return channel + 1;
+		
+		return channel;
+	}
+	
+	/**
+	 * Decodes all remaining sRGB pixels of the channel order of the source buffer into four interleaved linear
+	 * components (r, g, b, a) per color and puts them into the destination buffer. The alpha channel is not
+	 * converted. The positions of both buffers are advanced. Large buffers are converted in parallel.
+	 * 
+	 * @param src The buffer containing the pixels.
+	 * @param dst The buffer the linear components are written to.
+	 * @param order The channel order of the pixels.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @throws BufferOverflowException If the destination buffer has less space remaining than needed.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static FloatBuffer decode(IntBuffer src, FloatBuffer dst, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		int count = src.remaining();
+		int srcBase = src.position();
+		int dstBase = dst.position();
+		
+		if(dst.remaining() < count * 4) throw new BufferOverflowException();
+		
+		run((from, to) ->
+		{
+			for(int i = from; i < to; i++)
+			{
+				int pixel = src.get(srcBase + i);
+				int d = dstBase + i * 4;
+				
+				dst.put(d, DECODE[order.getR(pixel)]);
+				dst.put(d + 1, DECODE[order.getG(pixel)]);
+				dst.put(d + 2, DECODE[order.getB(pixel)]);
+				dst.put(d + 3, ColorPacking.fromChannel(order.getA(pixel)));
+			}
+		}, count);
+		
+		src.position(srcBase + count);
+		dst.position(dstBase + count * 4);
+		
+		return dst;
+	}
+	
+	/**
+	 * Encodes all remaining floats of the source buffer with four interleaved linear components (r, g, b, a) per
+	 * color into sRGB pixels of the channel order and puts them into the destination buffer. The alpha channel is
+	 * not converted. The positions of both buffers are advanced. Large buffers are converted in parallel.
+	 * 
+	 * @param src The buffer containing the linear components.
+	 * @param dst The buffer the pixels are written to.
+	 * @param order The channel order of the pixels.
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @throws BufferOverflowException If the destination buffer has less space remaining than needed.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static IntBuffer encode(FloatBuffer src, IntBuffer dst, ChannelOrder order)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		int count = src.remaining() / 4;
+		int srcBase = src.position();
+		int dstBase = dst.position();
+		
+		if(dst.remaining() < count) throw new BufferOverflowException();
+		
+		run((from, to) ->
+		{
+			for(int i = from; i < to; i++)
+			{
+				int s = srcBase + i * 4;
+				
+				dst.put(dstBase + i, order.pack(encode(src.get(s)), encode(src.get(s + 1)), encode(src.get(s + 2)), ColorPacking.toChannel(src.get(s + 3))));
+			}
+		}, count);
+		
+		src.position(srcBase + count * 4);
+		dst.position(dstBase + count);
+		
+		return dst;
+	}
+	
+	/**
+	 * Converts all remaining floats of the source buffer from sRGB to linear light and puts them into the destination buffer.
+	 * The buffer contains colors with the given number of interleaved components. With four components the fourth
+	 * component is alpha and is copied unchanged. The positions of both buffers are advanced by the number of
+	 * converted floats. The buffers may be the same. Large buffers are converted in parallel.
+	 * 
+	 * @param src The buffer containing the colors.
+	 * @param dst The buffer the converted colors are written to.
+	 * @param components The number of components per color (3 or 4).
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @throws BufferOverflowException If the destination buffer has less space remaining than needed.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static FloatBuffer toLinear(FloatBuffer src, FloatBuffer dst, int components)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		if(components != 3 && components != 4) throw new IllegalArgumentException("components");
+		
+		int count = src.remaining() / components;
+		int srcBase = src.position();
+		int dstBase = dst.position();
+		
+		if(dst != src && dst.remaining() < count * components) throw new BufferOverflowException();
+		
+		run((from, to) ->
+		{
+			for(int i = from; i < to; i++)
+			{
+				int s = srcBase + i * components;
+				int d = dstBase + i * components;
+				
+				dst.put(d, toLinear(src.get(s)));
+				dst.put(d + 1, toLinear(src.get(s + 1)));
+				dst.put(d + 2, toLinear(src.get(s + 2)));
+				
+				if(components == 4) dst.put(d + 3, src.get(s + 3));
+			}
+		}, count);
+		
+		src.position(srcBase + count * components);
+		
+		if(dst != src) dst.position(dstBase + count * components);
+		
+		return dst;
+	}
+	
+	/**
+	 * Converts all remaining floats of the source buffer from linear light to sRGB and puts them into the destination buffer.
+	 * The buffer contains colors with the given number of interleaved components. With four components the fourth
+	 * component is alpha and is copied unchanged. The positions of both buffers are advanced by the number of
+	 * converted floats. The buffers may be the same. Large buffers are converted in parallel.
+	 * 
+	 * @param src The buffer containing the colors.
+	 * @param dst The buffer the converted colors are written to.
+	 * @param components The number of components per color (3 or 4).
+	 * 
+	 * @return The destination buffer.
+	 * 
+	 * @throws BufferOverflowException If the destination buffer has less space remaining than needed.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static FloatBuffer toSRGB(FloatBuffer src, FloatBuffer dst, int components)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		if(components != 3 && components != 4) throw new IllegalArgumentException("components");
+		
+		int count = src.remaining() / components;
+		int srcBase = src.position();
+		int dstBase = dst.position();
+		
+		if(dst != src && dst.remaining() < count * components) throw new BufferOverflowException();
+		
+		run((from, to) ->
+		{
+			for(int i = from; i < to; i++)
+			{
+				int s = srcBase + i * components;
+				int d = dstBase + i * components;
+				
+				dst.put(d, toSRGB(src.get(s)));
+				dst.put(d + 1, toSRGB(src.get(s + 1)));
+				dst.put(d + 2, toSRGB(src.get(s + 2)));
+				
+				if(components == 4) dst.put(d + 3, src.get(s + 3));
+			}
+		}, count);
+		
+		src.position(srcBase + count * components);
+		
+		if(dst != src) dst.position(dstBase + count * components);
+		
+		return dst;
+	}
+	
+	/**
+	 * Interpolates the table at the value in the range 0 to 1.
+	 * 
+	 * @param table The table with {@link #STEPS} + 1 entries.
+	 * @param value The value.
+	 * 
+	 * @return The interpolated entry.
+	 */
+	private static float interpolate(float[] table, float value)
+	{
+		float position = value * STEPS;
+		int index = (int)position;
+		
+		if(index >= STEPS) return table[STEPS];
+		
+		float a = table[index];
+		
+		return a + (position - index) * (table[index + 1] - a);
+	}
+	
+	/**
+	 * Converts the colors from 0 (inclusive) to count (exclusive) and splits them into parallel ranges
+	 * if there are enough colors.
+	 * 
+	 * @param range The conversion of a range of colors.
+	 * @param count The number of colors.
+	 */
+	private static void run(Range range, int count)
+	{
+		if(count >= 2 * PARALLEL_THRESHOLD)
+		{
+			new ConvertTask(range, 0, count).invoke();
+		}
+		else
+		{
+			range.convert(0, count);
+		}
+	}
+	
+	/**
+	 * The conversion of a range of colors.
+	 */
+	private interface Range
+	{
+		/**
+		 * Converts the colors in the range.
+		 * 
+		 * @param from The first color (inclusive).
+		 * @param to The last color (exclusive).
+		 */
+		void convert(int from, int to);
+	}
+	
+	/**
+	 * This task converts a range of colors in parallel.
+	 */
+	private static final class ConvertTask extends RecursiveAction
+	{
+		/**
+		 * The class version for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The conversion of a range of colors.
+		 */
+		private final Range range;
+		
+		/**
+		 * The first color (inclusive).
+		 */
+		private final int from;
+		
+		/**
+		 * The last color (exclusive).
+		 */
+		private final int to;
+		
+		/**
+		 * Creates a new task.
+		 * 
+		 * @param range The conversion of a range of colors.
+		 * @param from The first color (inclusive).
+		 * @param to The last color (exclusive).
+		 */
+		ConvertTask(Range range, int from, int to)
+		{
+			this.range = range;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute()
+		{
+			if(this.to - this.from > PARALLEL_THRESHOLD)
+			{
+				int mid = (this.from + this.to) >>> 1;
+				
+				invokeAll(new ConvertTask(this.range, this.from, mid), new ConvertTask(this.range, mid, this.to));
+				
+				return;
+			}
+			
+			this.range.convert(this.from, this.to);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,566 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.random;
+
+import java.nio.FloatBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveAction;
+
+import org.barghos.core.api.tuple3.Tup3fR;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class fills storages of 3-dimensional float tuples with random samples of a {@link Distribution}.
+ * 
+ * <p>
+ * The samples of a fill operation are divided into chunks of {@link #CHUNK_SIZE} samples. Every chunk is generated
+ * by its own {@link SplittableRandom}, that is seeded from the seed of the generator, the number of the fill operation
+ * and the index of the chunk. Therefore the results only depend on the seed and the sequence of fill operations,
+ * and are the same whether the chunks are generated sequentially or in parallel by the common fork join pool.
+ * Apart from one generator and one scratch array per chunk, no objects are allocated.
+ * 
+ * <p>
+ * Instances of this class are not thread-safe.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class Tup3fRandom
+{
+	/**
+	 * The number of samples generated by a single random number generator.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static final int CHUNK_SIZE = 4096;
+	
+	/**
+	 * The constant 2 * pi.
+	 */
+	private static final double TWO_PI = 2.0 * Math.PI;
+	
+	/**
+	 * The seed of the generator.
+	 */
+	private long seed;
+	
+	/**
+	 * The number of fill operations since the seed was set.
+	 */
+	private long operation;
+	
+	/**
+	 * True if fill operations should run in parallel.
+	 */
+	private boolean parallel;
+	
+	/**
+	 * Creates a new instance with the given seed.
+	 * 
+	 * @param seed The seed.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Tup3fRandom(long seed)
+	{
+		this.seed = seed;
+	}
+	
+	/**
+	 * Sets the seed and restarts the sequence of fill operations.
+	 * 
+	 * @param seed The seed.
+	 * 
+	 * @return The current generator.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Tup3fRandom setSeed(long seed)
+	{
+		this.seed = seed;
+		this.operation = 0;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the seed.
+	 * 
+	 * @return The seed.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public long getSeed()
+	{
+		return this.seed;
+	}
+	
+	/**
+	 * Sets whether fill operations should run in parallel. This doesn't change the results.
+	 * 
+	 * @param parallel True if fill operations should run in parallel.
+	 * 
+	 * @return The current generator.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Tup3fRandom setParallel(boolean parallel)
+	{
+		this.parallel = parallel;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns true, if fill operations run in parallel.
+	 * 
+	 * @return True if fill operations run in parallel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean isParallel()
+	{
+		return this.parallel;
+	}
+	
+	/**
+	 * Fills the array v from the tuple index from (inclusive) to the tuple index to (exclusive) with interleaved samples.
+	 * 
+	 * @param distribution The distribution of the samples.
+	 * @param v The array receiving the interleaved components.
+	 * @param from The index of the first sample (inclusive).
+	 * @param to The index after the last sample (exclusive).
+	 * 
+	 * @return The array v.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float[] fill(Distribution distribution, float[] v, int from, int to)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+		}
+		
+		fill(distribution, to - from, (i, t) -> {
+			int j = (from + i) * 3;
+			
+			v[j] = t[0];
+			v[j + 1] = t[1];
+			v[j + 2] = t[2];
+		});
+		
+		return v;
+	}
+	
+	/**
+	 * Fills the component arrays from the index from (inclusive) to the index to (exclusive) with samples.
+	 * 
+	 * @param distribution The distribution of the samples.
+	 * @param x The array receiving the x components.
+	 * @param y The array receiving the y components.
+	 * @param z The array receiving the z components.
+	 * @param from The index of the first sample (inclusive).
+	 * @param to The index after the last sample (exclusive).
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void fill(Distribution distribution, float[] x, float[] y, float[] z, int from, int to)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(x == null) throw new ArgumentNullException("x");
+			if(y == null) throw new ArgumentNullException("y");
+			if(z == null) throw new ArgumentNullException("z");
+		}
+		
+		fill(distribution, to - from, (i, t) -> {
+			x[from + i] = t[0];
+			y[from + i] = t[1];
+			z[from + i] = t[2];
+		});
+	}
+	
+	/**
+	 * Fills the buffer from its position (inclusive) to its limit (exclusive) with interleaved samples.
+	 * The position of the buffer is not changed.
+	 * 
+	 * @param distribution The distribution of the samples.
+	 * @param buffer The buffer receiving the interleaved components.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public FloatBuffer fill(Distribution distribution, FloatBuffer buffer)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+		}
+		
+		int from = buffer.position();
+		
+		fill(distribution, buffer.remaining() / 3, (i, t) -> {
+			int j = from + i * 3;
+			
+			buffer.put(j, t[0]);
+			buffer.put(j + 1, t[1]);
+			buffer.put(j + 2, t[2]);
+		});
+		
+		return buffer;
+	}
+	
+	/**
+	 * Generates the samples of a fill operation and passes them to the target.
+	 * 
+	 * @param distribution The distribution of the samples.
+	 * @param count The number of samples.
+	 * @param target The target of the samples.
+	 */
+	private void fill(Distribution distribution, int count, Target target)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(distribution == null) throw new ArgumentNullException("distribution");
+		}
+		
+		long operationSeed = mix(this.seed + mix(this.operation++));
+		
+		int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		
+		if(this.parallel && chunks > 1)
+		{
+			new FillTask(distribution, target, operationSeed, count, 0, chunks).invoke();
+		}
+		else
+		{
+			fillChunks(distribution, target, operationSeed, count, 0, chunks);
+		}
+	}
+	
+	/**
+	 * Generates the samples of a range of chunks and passes them to the target.
+	 * 
+	 * @param distribution The distribution of the samples.
+	 * @param target The target of the samples.
+	 * @param operationSeed The seed of the fill operation.
+	 * @param count The number of samples of the fill operation.
+	 * @param fromChunk The first chunk (inclusive).
+	 * @param toChunk The last chunk (exclusive).
+	 */
+	private static void fillChunks(Distribution distribution, Target target, long operationSeed, int count, int fromChunk, int toChunk)
+	{
+		float[] t = new float[4];
+		
+		for(int chunk = fromChunk; chunk < toChunk; chunk++)
+		{
+			SplittableRandom random = new SplittableRandom(mix(operationSeed + chunk * 0x9E3779B97F4A7C15L));
+			
+			t[3] = Float.NaN;
+			
+			int end = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+			
+			for(int i = chunk * CHUNK_SIZE; i < end; i++)
+			{
+				distribution.sample(random, t);
+				target.set(i, t);
+			}
+		}
+	}
+	
+	/**
+	 * Mixes the bits of the value. This is the finalizer of SplitMix64.
+	 * 
+	 * @param value The value.
+	 * 
+	 * @return The mixed value.
+	 */
+	private static long mix(long value)
+	{
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+		
+		return value ^ (value >>> 31);
+	}
+	
+	/**
+	 * Returns a distribution, whose components are uniformly distributed between min and max.
+	 * 
+	 * @param min The minimum of the components.
+	 * @param max The maximum of the components.
+	 * 
+	 * @return The distribution.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Distribution uniform(float min, float max)
+	{
+		double range = (double)max - min;
+		
+		return (random, result) -> {
+			result[0] = (float)(min + random.nextDouble() * range);
+			result[1] = (float)(min + random.nextDouble() * range);
+			result[2] = (float)(min + random.nextDouble() * range);
+		};
+	}
+	
+	/**
+	 * Returns a distribution of points uniformly distributed within the axis aligned box between min and max.
+	 * The components of min and max are copied.
+	 * 
+	 * @param min The minimum corner of the box.
+	 * @param max The maximum corner of the box.
+	 * 
+	 * @return The distribution.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Distribution box(Tup3fR min, Tup3fR max)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(min == null) throw new ArgumentNullException("min");
+			if(max == null) throw new ArgumentNullException("max");
+		}
+		
+		double minX = min.getX(), rangeX = (double)max.getX() - min.getX();
+		double minY = min.getY(), rangeY = (double)max.getY() - min.getY();
+		double minZ = min.getZ(), rangeZ = (double)max.getZ() - min.getZ();
+		
+		return (random, result) -> {
+			result[0] = (float)(minX + random.nextDouble() * rangeX);
+			result[1] = (float)(minY + random.nextDouble() * rangeY);
+			result[2] = (float)(minZ + random.nextDouble() * rangeZ);
+		};
+	}
+	
+	/**
+	 * Returns a distribution of points uniformly distributed on the surface of a sphere around the origin.
+	 * 
+	 * @param radius The radius of the sphere.
+	 * 
+	 * @return The distribution.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Distribution sphere(float radius)
+	{
+		return (random, result) -> direction(random, result, radius);
+	}
+	
+	/**
+	 * Returns a distribution of points uniformly distributed within a ball around the origin.
+	 * 
+	 * @param radius The radius of the ball.
+	 * 
+	 * @return The distribution.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Distribution ball(float radius)
+	{
+		return (random, result) -> direction(random, result, Math.cbrt(random.nextDouble()) * radius);
+	}
+	
+	/**
+	 * Returns a distribution, whose components are independently normal distributed.
+	 * Every pair of normal values drawn with the Box-Muller transform is used completely,
+	 * the value left over by the z component is used by the z component of the next sample.
+	 * 
+	 * @param mean The mean of the components.
+	 * @param stddev The standard deviation of the components.
+	 * 
+	 * @return The distribution.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Distribution gaussian(float mean, float stddev)
+	{
+		return (random, result) -> {
+			double r = Math.sqrt(-2.0 * Math.log(1.0 - random.nextDouble())) * stddev;
+			double angle = random.nextDouble() * TWO_PI;
+			
+			result[0] = (float)(mean + Math.cos(angle) * r);
+			result[1] = (float)(mean + Math.sin(angle) * r);
+			
+			if(result.length > 3 && !Float.isNaN(result[3]))
+			{
+				result[2] = result[3];
+				result[3] = Float.NaN;
+			}
+			else
+			{
+				r = Math.sqrt(-2.0 * Math.log(1.0 - random.nextDouble())) * stddev;
+				angle = random.nextDouble() * TWO_PI;
+				
+				result[2] = (float)(mean + Math.cos(angle) * r);
+				
+				if(result.length > 3) result[3] = (float)(mean + Math.sin(angle) * r);
+			}
+		};
+	}
+	
+	/**
+	 * Writes a uniformly distributed direction scaled by the length to result.
+	 * 
+	 * @param random The random number generator.
+	 * @param result The array receiving the components.
+	 * @param length The length of the direction.
+	 */
+	private static void direction(SplittableRandom random, float[] result, double length)
+	{
+		double z = random.nextDouble() * 2.0 - 1.0;
+		double angle = random.nextDouble() * TWO_PI;
+		double r = Math.sqrt(1.0 - z * z) * length;
+		
+		result[0] = (float)(Math.cos(angle) * r);
+		result[1] = (float)(Math.sin(angle) * r);
+		result[2] = (float)(z * length);
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "tup3frandom(seed=" + this.seed + ", parallel=" + this.parallel + ")";
+	}
+	
+	/**
+	 * This interface represents a distribution of 3-dimensional float tuples.
+	 * 
+	 * @author picatrix1899
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@FunctionalInterface
+	public static interface Distribution
+	{
+		/**
+		 * Generates a single sample and writes its components to result.
+		 * 
+		 * @param random The random number generator to use.
+		 * @param result The array receiving the 3 components of the sample. A fill operation passes an array with a fourth entry,
+		 * that keeps its value between the samples of a chunk and is NaN at the start of a chunk,
+		 * so a distribution can carry a value over to the next sample.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		void sample(SplittableRandom random, float[] result);
+	}
+	
+	/**
+	 * This interface represents the storage, that receives the samples of a fill operation.
+	 */
+	@FunctionalInterface
+	private static interface Target
+	{
+		/**
+		 * Stores a sample.
+		 * 
+		 * @param index The index of the sample within the fill operation.
+		 * @param t The components of the sample.
+		 */
+		void set(int index, float[] t);
+	}
+	
+	/**
+	 * This task generates a range of chunks in parallel.
+	 */
+	private static final class FillTask extends RecursiveAction
+	{
+		/**
+		 * The class version for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The distribution of the samples.
+		 */
+		private final Distribution distribution;
+		
+		/**
+		 * The target of the samples.
+		 */
+		private final Target target;
+		
+		/**
+		 * The seed of the fill operation.
+		 */
+		private final long operationSeed;
+		
+		/**
+		 * The number of samples of the fill operation.
+		 */
+		private final int count;
+		
+		/**
+		 * The first chunk (inclusive).
+		 */
+		private final int fromChunk;
+		
+		/**
+		 * The last chunk (exclusive).
+		 */
+		private final int toChunk;
+		
+		/**
+		 * Creates a new task.
+		 * 
+		 * @param distribution The distribution of the samples.
+		 * @param target The target of the samples.
+		 * @param operationSeed The seed of the fill operation.
+		 * @param count The number of samples of the fill operation.
+		 * @param fromChunk The first chunk (inclusive).
+		 * @param toChunk The last chunk (exclusive).
+		 */
+		FillTask(Distribution distribution, Target target, long operationSeed, int count, int fromChunk, int toChunk)
+		{
+			this.distribution = distribution;
+			this.target = target;
+			this.operationSeed = operationSeed;
+			this.count = count;
+			this.fromChunk = fromChunk;
+			this.toChunk = toChunk;
+		}
+		
+		@Override
+		protected void compute()
+		{
+			if(this.toChunk - this.fromChunk > 1)
+			{
+				int mid = (this.fromChunk + this.toChunk) >>> 1;
+				
+				invokeAll(new FillTask(this.distribution, this.target, this.operationSeed, this.count, this.fromChunk, mid),
+						new FillTask(this.distribution, this.target, this.operationSeed, this.count, mid, this.toChunk));
+				
+				return;
+			}
+			
+			fillChunks(this.distribution, this.target, this.operationSeed, this.count, this.fromChunk, this.toChunk);
+		}
+	}
+}
\ No newline at end of file
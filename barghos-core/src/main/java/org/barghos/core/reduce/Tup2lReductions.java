@@ -0,0 +1,1092 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.reduce;
+
+import java.nio.LongBuffer;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+import org.barghos.core.api.tuple2.Tup2dW;
+import org.barghos.core.api.tuple2.Tup2lR;
+import org.barghos.core.api.tuple2.Tup2lW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class provides parallel reductions over collections of 2-dimensional long tuples.
+ * 
+ * <p>
+ * The tuples can be given as interleaved array, as list or as buffer.
+ * Large inputs are split across the common fork join pool. Every task accumulates into its own
+ * accumulator, which are merged afterwards, so the tasks never contend for shared state.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class Tup2lReductions
+{
+	/**
+	 * The number of tuples below which a reduction is not split any further.
+	 */
+	private static final int PARALLEL_THRESHOLD = 16384;
+	
+	/**
+	 * Flag for accumulating the minimum and maximum.
+	 */
+	private static final int BOUNDS = 1;
+	
+	/**
+	 * Flag for accumulating the sum.
+	 */
+	private static final int SUM = 2;
+	
+	/**
+	 * Flag for accumulating the mean and the sum of squared deviations.
+	 */
+	private static final int MOMENTS = 4;
+	
+	private Tup2lReductions() { }
+	
+	/**
+	 * Calculates the componentwise minimum of the tuples in the interleaved array and writes it to result.
+	 * If there are no tuples, all components are set to Long.MAX_VALUE.
+	 * 
+	 * @param v The interleaved components (t1.x, t1.y, t2.x, ...).
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param result The tuple receiving the minimum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2lW> T min(long[] v, int from, int to, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ArraySource(v), from, to, BOUNDS);
+		
+		result.set(acc.min[0], acc.min[1]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise maximum of the tuples in the interleaved array and writes it to result.
+	 * If there are no tuples, all components are set to Long.MIN_VALUE.
+	 * 
+	 * @param v The interleaved components (t1.x, t1.y, t2.x, ...).
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param result The tuple receiving the maximum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2lW> T max(long[] v, int from, int to, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ArraySource(v), from, to, BOUNDS);
+		
+		result.set(acc.max[0], acc.max[1]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the axis aligned bounding box of the tuples in the interleaved array in a single pass
+	 * and writes the componentwise minimum to min and the componentwise maximum to max.
+	 * If there are no tuples, min is set to Long.MAX_VALUE and max is set to Long.MIN_VALUE.
+	 * 
+	 * @param v The interleaved components (t1.x, t1.y, t2.x, ...).
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param min The tuple receiving the minimum.
+	 * @param max The tuple receiving the maximum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple min.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2lW> T bounds(long[] v, int from, int to, T min, Tup2lW max)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(min == null) throw new ArgumentNullException("min");
+			if(max == null) throw new ArgumentNullException("max");
+		}
+		
+		Accumulator acc = reduce(new ArraySource(v), from, to, BOUNDS);
+		
+		min.set(acc.min[0], acc.min[1]);
+		max.set(acc.max[0], acc.max[1]);
+		
+		return min;
+	}
+	
+	/**
+	 * Calculates the componentwise sum of the tuples in the interleaved array and writes it to result.
+	 * The sum wraps around on overflow.
+	 * 
+	 * @param v The interleaved components (t1.x, t1.y, t2.x, ...).
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param result The tuple receiving the sum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2lW> T sum(long[] v, int from, int to, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ArraySource(v), from, to, SUM);
+		
+		result.set(acc.sum[0], acc.sum[1]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise mean (centroid) of the tuples in the interleaved array and writes it to result.
+	 * If there are no tuples, all components are set to NaN.
+	 * 
+	 * @param v The interleaved components (t1.x, t1.y, t2.x, ...).
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param result The tuple receiving the mean.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2dW> T mean(long[] v, int from, int to, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ArraySource(v), from, to, MOMENTS);
+		
+		if(acc.count == 0)
+		{
+			result.set(Double.NaN);
+			return result;
+		}
+		
+		result.set(acc.mean[0], acc.mean[1]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise population variance of the tuples in the interleaved array and writes it to result.
+	 * The variance is calculated with a numerically stable single pass algorithm.
+	 * If there are no tuples, all components are set to NaN.
+	 * 
+	 * @param v The interleaved components (t1.x, t1.y, t2.x, ...).
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param result The tuple receiving the variance.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2dW> T variance(long[] v, int from, int to, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ArraySource(v), from, to, MOMENTS);
+		
+		if(acc.count == 0)
+		{
+			result.set(Double.NaN);
+			return result;
+		}
+		
+		result.set((acc.m2[0] / acc.count), (acc.m2[1] / acc.count));
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise minimum of the tuples in the list and writes it to result.
+	 * If there are no tuples, all components are set to Long.MAX_VALUE.
+	 * 
+	 * @param list The tuples.
+	 * @param result The tuple receiving the minimum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2lW> T min(List<? extends Tup2lR> list, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ListSource(list), 0, list.size(), BOUNDS);
+		
+		result.set(acc.min[0], acc.min[1]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise maximum of the tuples in the list and writes it to result.
+	 * If there are no tuples, all components are set to Long.MIN_VALUE.
+	 * 
+	 * @param list The tuples.
+	 * @param result The tuple receiving the maximum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2lW> T max(List<? extends Tup2lR> list, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ListSource(list), 0, list.size(), BOUNDS);
+		
+		result.set(acc.max[0], acc.max[1]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the axis aligned bounding box of the tuples in the list in a single pass
+	 * and writes the componentwise minimum to min and the componentwise maximum to max.
+	 * If there are no tuples, min is set to Long.MAX_VALUE and max is set to Long.MIN_VALUE.
+	 * 
+	 * @param list The tuples.
+	 * @param min The tuple receiving the minimum.
+	 * @param max The tuple receiving the maximum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple min.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2lW> T bounds(List<? extends Tup2lR> list, T min, Tup2lW max)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+			if(min == null) throw new ArgumentNullException("min");
+			if(max == null) throw new ArgumentNullException("max");
+		}
+		
+		Accumulator acc = reduce(new ListSource(list), 0, list.size(), BOUNDS);
+		
+		min.set(acc.min[0], acc.min[1]);
+		max.set(acc.max[0], acc.max[1]);
+		
+		return min;
+	}
+	
+	/**
+	 * Calculates the componentwise sum of the tuples in the list and writes it to result.
+	 * The sum wraps around on overflow.
+	 * 
+	 * @param list The tuples.
+	 * @param result The tuple receiving the sum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2lW> T sum(List<? extends Tup2lR> list, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ListSource(list), 0, list.size(), SUM);
+		
+		result.set(acc.sum[0], acc.sum[1]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise mean (centroid) of the tuples in the list and writes it to result.
+	 * If there are no tuples, all components are set to NaN.
+	 * 
+	 * @param list The tuples.
+	 * @param result The tuple receiving the mean.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2dW> T mean(List<? extends Tup2lR> list, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ListSource(list), 0, list.size(), MOMENTS);
+		
+		if(acc.count == 0)
+		{
+			result.set(Double.NaN);
+			return result;
+		}
+		
+		result.set(acc.mean[0], acc.mean[1]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise population variance of the tuples in the list and writes it to result.
+	 * The variance is calculated with a numerically stable single pass algorithm.
+	 * If there are no tuples, all components are set to NaN.
+	 * 
+	 * @param list The tuples.
+	 * @param result The tuple receiving the variance.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2dW> T variance(List<? extends Tup2lR> list, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ListSource(list), 0, list.size(), MOMENTS);
+		
+		if(acc.count == 0)
+		{
+			result.set(Double.NaN);
+			return result;
+		}
+		
+		result.set((acc.m2[0] / acc.count), (acc.m2[1] / acc.count));
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise minimum of the tuples in the buffer and writes it to result.
+	 * If there are no tuples, all components are set to Long.MAX_VALUE.
+	 * 
+	 * @param buffer The buffer containing the interleaved components (t1.x, t1.y, t2.x, ...) between its position and its limit.
+	 *        The position of the buffer is not changed.
+	 * @param result The tuple receiving the minimum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2lW> T min(LongBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new BufferSource(buffer), 0, buffer.remaining() / 2, BOUNDS);
+		
+		result.set(acc.min[0], acc.min[1]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise maximum of the tuples in the buffer and writes it to result.
+	 * If there are no tuples, all components are set to Long.MIN_VALUE.
+	 * 
+	 * @param buffer The buffer containing the interleaved components (t1.x, t1.y, t2.x, ...) between its position and its limit.
+	 *        The position of the buffer is not changed.
+	 * @param result The tuple receiving the maximum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2lW> T max(LongBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new BufferSource(buffer), 0, buffer.remaining() / 2, BOUNDS);
+		
+		result.set(acc.max[0], acc.max[1]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the axis aligned bounding box of the tuples in the buffer in a single pass
+	 * and writes the componentwise minimum to min and the componentwise maximum to max.
+	 * If there are no tuples, min is set to Long.MAX_VALUE and max is set to Long.MIN_VALUE.
+	 * 
+	 * @param buffer The buffer containing the interleaved components (t1.x, t1.y, t2.x, ...) between its position and its limit.
+	 *        The position of the buffer is not changed.
+	 * @param min The tuple receiving the minimum.
+	 * @param max The tuple receiving the maximum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple min.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2lW> T bounds(LongBuffer buffer, T min, Tup2lW max)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(min == null) throw new ArgumentNullException("min");
+			if(max == null) throw new ArgumentNullException("max");
+		}
+		
+		Accumulator acc = reduce(new BufferSource(buffer), 0, buffer.remaining() / 2, BOUNDS);
+		
+		min.set(acc.min[0], acc.min[1]);
+		max.set(acc.max[0], acc.max[1]);
+		
+		return min;
+	}
+	
+	/**
+	 * Calculates the componentwise sum of the tuples in the buffer and writes it to result.
+	 * The sum wraps around on overflow.
+	 * 
+	 * @param buffer The buffer containing the interleaved components (t1.x, t1.y, t2.x, ...) between its position and its limit.
+	 *        The position of the buffer is not changed.
+	 * @param result The tuple receiving the sum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2lW> T sum(LongBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new BufferSource(buffer), 0, buffer.remaining() / 2, SUM);
+		
+		result.set(acc.sum[0], acc.sum[1]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise mean (centroid) of the tuples in the buffer and writes it to result.
+	 * If there are no tuples, all components are set to NaN.
+	 * 
+	 * @param buffer The buffer containing the interleaved components (t1.x, t1.y, t2.x, ...) between its position and its limit.
+	 *        The position of the buffer is not changed.
+	 * @param result The tuple receiving the mean.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2dW> T mean(LongBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new BufferSource(buffer), 0, buffer.remaining() / 2, MOMENTS);
+		
+		if(acc.count == 0)
+		{
+			result.set(Double.NaN);
+			return result;
+		}
+		
+		result.set(acc.mean[0], acc.mean[1]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise population variance of the tuples in the buffer and writes it to result.
+	 * The variance is calculated with a numerically stable single pass algorithm.
+	 * If there are no tuples, all components are set to NaN.
+	 * 
+	 * @param buffer The buffer containing the interleaved components (t1.x, t1.y, t2.x, ...) between its position and its limit.
+	 *        The position of the buffer is not changed.
+	 * @param result The tuple receiving the variance.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2dW> T variance(LongBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new BufferSource(buffer), 0, buffer.remaining() / 2, MOMENTS);
+		
+		if(acc.count == 0)
+		{
+			result.set(Double.NaN);
+			return result;
+		}
+		
+		result.set((acc.m2[0] / acc.count), (acc.m2[1] / acc.count));
+		
+		return result;
+	}
+	
+	/**
+	 * Runs the reduction over the range of the source. Small ranges are reduced on the calling thread.
+	 * 
+	 * @param source The tuple source.
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param op The flags of the values to accumulate.
+	 * 
+	 * @return The accumulator containing the result.
+	 */
+	private static Accumulator reduce(Source source, int from, int to, int op)
+	{
+		if(to - from <= PARALLEL_THRESHOLD)
+		{
+			Accumulator acc = new Accumulator();
+			source.accumulate(acc, from, to, op);
+			return acc;
+		}
+		
+		return new ReduceTask(source, from, to, op).invoke();
+	}
+	
+	/**
+	 * The per task accumulator.
+	 */
+	private static final class Accumulator
+	{
+		/**
+		 * The number of accumulated tuples.
+		 */
+		long count;
+		
+		/**
+		 * The componentwise minimum.
+		 */
+		final long[] min = { Long.MAX_VALUE, Long.MAX_VALUE };
+		
+		/**
+		 * The componentwise maximum.
+		 */
+		final long[] max = { Long.MIN_VALUE, Long.MIN_VALUE };
+		
+		/**
+		 * The componentwise sum.
+		 */
+		final long[] sum = new long[2];
+		
+		/**
+		 * The componentwise mean.
+		 */
+		final double[] mean = new double[2];
+		
+		/**
+		 * The componentwise sum of squared deviations from the mean.
+		 */
+		final double[] m2 = new double[2];
+		
+		/**
+		 * Merges the other accumulator into this one.
+		 * 
+		 * @param other The other accumulator.
+		 * 
+		 * @return This accumulator.
+		 */
+		Accumulator merge(Accumulator other)
+		{
+			long count = this.count + other.count;
+			
+			for(int i = 0; i < 2; i++)
+			{
+				this.min[i] = Math.min(this.min[i], other.min[i]);
+				this.max[i] = Math.max(this.max[i], other.max[i]);
+				this.sum[i] += other.sum[i];
+				
+				if(count > 0)
+				{
+					double delta = other.mean[i] - this.mean[i];
+					
+					this.mean[i] += delta * other.count / count;
+					this.m2[i] += other.m2[i] + delta * delta * ((double)this.count * other.count / count);
+				}
+			}
+			
+			this.count = count;
+			
+			return this;
+		}
+	}
+	
+	/**
+	 * This class is the base for the tuple sources of a reduction.
+	 */
+	private static abstract class Source
+	{
+		/**
+		 * Accumulates the tuples in the range into the accumulator.
+		 * 
+		 * @param acc The accumulator.
+		 * @param from The index of the first tuple.
+		 * @param to The index after the last tuple.
+		 * @param op The flags of the values to accumulate.
+		 */
+		abstract void accumulate(Accumulator acc, int from, int to, int op);
+	}
+	
+	/**
+	 * A source over an interleaved array.
+	 */
+	private static final class ArraySource extends Source
+	{
+		/**
+		 * The interleaved components.
+		 */
+		private final long[] v;
+		
+		/**
+		 * Creates a new source.
+		 * 
+		 * @param v The interleaved components.
+		 */
+		ArraySource(long[] v)
+		{
+			this.v = v;
+		}
+		
+		@Override
+		void accumulate(Accumulator acc, int from, int to, int op)
+		{
+			long[] v = this.v;
+			
+			if((op & BOUNDS) != 0)
+			{
+				long minX = acc.min[0], maxX = acc.max[0];
+				long minY = acc.min[1], maxY = acc.max[1];
+				
+				for(int i = from; i < to; i++)
+				{
+					long x = v[i * 2 + 0];
+					long y = v[i * 2 + 1];
+					
+					if(x < minX) minX = x;
+					if(x > maxX) maxX = x;
+					if(y < minY) minY = y;
+					if(y > maxY) maxY = y;
+				}
+				
+				acc.min[0] = minX; acc.max[0] = maxX;
+				acc.min[1] = minY; acc.max[1] = maxY;
+			}
+			
+			if((op & SUM) != 0)
+			{
+				long sumX = acc.sum[0], sumY = acc.sum[1];
+				
+				for(int i = from; i < to; i++)
+				{
+					sumX += v[i * 2 + 0];
+					sumY += v[i * 2 + 1];
+				}
+				
+				acc.sum[0] = sumX;
+				acc.sum[1] = sumY;
+			}
+			
+			if((op & MOMENTS) != 0)
+			{
+				long count = acc.count;
+				double meanX = acc.mean[0], m2X = acc.m2[0];
+				double meanY = acc.mean[1], m2Y = acc.m2[1];
+				
+				for(int i = from; i < to; i++)
+				{
+					count++;
+					
+					double x = v[i * 2 + 0];
+					double dX = x - meanX;
+					meanX += dX / count;
+					m2X += dX * (x - meanX);
+					
+					double y = v[i * 2 + 1];
+					double dY = y - meanY;
+					meanY += dY / count;
+					m2Y += dY * (y - meanY);
+				}
+				
+				acc.mean[0] = meanX; acc.m2[0] = m2X;
+				acc.mean[1] = meanY; acc.m2[1] = m2Y;
+			}
+			
+			acc.count += to - from;
+		}
+	}
+	
+	/**
+	 * A source over a list of tuples.
+	 */
+	private static final class ListSource extends Source
+	{
+		/**
+		 * The tuples.
+		 */
+		private final List<? extends Tup2lR> list;
+		
+		/**
+		 * Creates a new source.
+		 * 
+		 * @param list The tuples.
+		 */
+		ListSource(List<? extends Tup2lR> list)
+		{
+			this.list = list;
+		}
+		
+		@Override
+		void accumulate(Accumulator acc, int from, int to, int op)
+		{
+			List<? extends Tup2lR> list = this.list;
+			
+			if((op & BOUNDS) != 0)
+			{
+				long minX = acc.min[0], maxX = acc.max[0];
+				long minY = acc.min[1], maxY = acc.max[1];
+				
+				for(int i = from; i < to; i++)
+				{
+					Tup2lR t = list.get(i);
+					long x = t.getX();
+					long y = t.getY();
+					
+					if(x < minX) minX = x;
+					if(x > maxX) maxX = x;
+					if(y < minY) minY = y;
+					if(y > maxY) maxY = y;
+				}
+				
+				acc.min[0] = minX; acc.max[0] = maxX;
+				acc.min[1] = minY; acc.max[1] = maxY;
+			}
+			
+			if((op & SUM) != 0)
+			{
+				long sumX = acc.sum[0], sumY = acc.sum[1];
+				
+				for(int i = from; i < to; i++)
+				{
+					Tup2lR t = list.get(i);
+					sumX += t.getX();
+					sumY += t.getY();
+				}
+				
+				acc.sum[0] = sumX;
+				acc.sum[1] = sumY;
+			}
+			
+			if((op & MOMENTS) != 0)
+			{
+				long count = acc.count;
+				double meanX = acc.mean[0], m2X = acc.m2[0];
+				double meanY = acc.mean[1], m2Y = acc.m2[1];
+				
+				for(int i = from; i < to; i++)
+				{
+					Tup2lR t = list.get(i);
+					count++;
+					
+					double x = t.getX();
+					double dX = x - meanX;
+					meanX += dX / count;
+					m2X += dX * (x - meanX);
+					
+					double y = t.getY();
+					double dY = y - meanY;
+					meanY += dY / count;
+					m2Y += dY * (y - meanY);
+				}
+				
+				acc.mean[0] = meanX; acc.m2[0] = m2X;
+				acc.mean[1] = meanY; acc.m2[1] = m2Y;
+			}
+			
+			acc.count += to - from;
+		}
+	}
+	
+	/**
+	 * A source over an interleaved buffer using absolute accesses.
+	 */
+	private static final class BufferSource extends Source
+	{
+		/**
+		 * The buffer.
+		 */
+		private final LongBuffer buffer;
+		
+		/**
+		 * The position of the first component in the buffer.
+		 */
+		private final int base;
+		
+		/**
+		 * Creates a new source.
+		 * 
+		 * @param buffer The buffer.
+		 */
+		BufferSource(LongBuffer buffer)
+		{
+			this.buffer = buffer;
+			this.base = buffer.position();
+		}
+		
+		@Override
+		void accumulate(Accumulator acc, int from, int to, int op)
+		{
+			LongBuffer buffer = this.buffer;
+			int base = this.base;
+			
+			if((op & BOUNDS) != 0)
+			{
+				long minX = acc.min[0], maxX = acc.max[0];
+				long minY = acc.min[1], maxY = acc.max[1];
+				
+				for(int i = from; i < to; i++)
+				{
+					long x = buffer.get(base + i * 2 + 0);
+					long y = buffer.get(base + i * 2 + 1);
+					
+					if(x < minX) minX = x;
+					if(x > maxX) maxX = x;
+					if(y < minY) minY = y;
+					if(y > maxY) maxY = y;
+				}
+				
+				acc.min[0] = minX; acc.max[0] = maxX;
+				acc.min[1] = minY; acc.max[1] = maxY;
+			}
+			
+			if((op & SUM) != 0)
+			{
+				long sumX = acc.sum[0], sumY = acc.sum[1];
+				
+				for(int i = from; i < to; i++)
+				{
+					sumX += buffer.get(base + i * 2 + 0);
+					sumY += buffer.get(base + i * 2 + 1);
+				}
+				
+				acc.sum[0] = sumX;
+				acc.sum[1] = sumY;
+			}
+			
+			if((op & MOMENTS) != 0)
+			{
+				long count = acc.count;
+				double meanX = acc.mean[0], m2X = acc.m2[0];
+				double meanY = acc.mean[1], m2Y = acc.m2[1];
+				
+				for(int i = from; i < to; i++)
+				{
+					count++;
+					
+					double x = buffer.get(base + i * 2 + 0);
+					double dX = x - meanX;
+					meanX += dX / count;
+					m2X += dX * (x - meanX);
+					
+					double y = buffer.get(base + i * 2 + 1);
+					double dY = y - meanY;
+					meanY += dY / count;
+					m2Y += dY * (y - meanY);
+				}
+				
+				acc.mean[0] = meanX; acc.m2[0] = m2X;
+				acc.mean[1] = meanY; acc.m2[1] = m2Y;
+			}
+			
+			acc.count += to - from;
+		}
+	}
+	
+	/**
+	 * This task reduces a range of a source by splitting it in halves.
+	 */
+	private static final class ReduceTask extends RecursiveTask<Accumulator>
+	{
+		/**
+		 * The class version for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The tuple source.
+		 */
+		private final Source source;
+		
+		/**
+		 * The index of the first tuple.
+		 */
+		private final int from;
+		
+		/**
+		 * The index after the last tuple.
+		 */
+		private final int to;
+		
+		/**
+		 * The flags of the values to accumulate.
+		 */
+		private final int op;
+		
+		/**
+		 * Creates a new task.
+		 * 
+		 * @param source The tuple source.
+		 * @param from The index of the first tuple.
+		 * @param to The index after the last tuple.
+		 * @param op The flags of the values to accumulate.
+		 */
+		ReduceTask(Source source, int from, int to, int op)
+		{
+			this.source = source;
+			this.from = from;
+			this.to = to;
+			this.op = op;
+		}
+		
+		@Override
+		protected Accumulator compute()
+		{
+			if(this.to - this.from <= PARALLEL_THRESHOLD)
+			{
+				Accumulator acc = new Accumulator();
+				this.source.accumulate(acc, this.from, this.to, this.op);
+				return acc;
+			}
+			
+			int mid = (this.from + this.to) >>> 1;
+			
+			ReduceTask left = new ReduceTask(this.source, this.from, mid, this.op);
+			ReduceTask right = new ReduceTask(this.source, mid, this.to, this.op);
+			
+			left.fork();
+			Accumulator rightResult = right.compute();
+			
+			return left.join().merge(rightResult);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,1572 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.reduce;
+
+import java.nio.DoubleBuffer;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+import org.barghos.core.api.tuple3.Tup3dR;
+import org.barghos.core.api.tuple3.Tup3dW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class provides parallel reductions over collections of 3-dimensional double tuples.
+ * 
+ * <p>
+ * The tuples can be given as interleaved array, as list or as buffer.
+ * Large inputs are split across the common fork join pool. Every task accumulates into its own
+ * accumulator, which are merged afterwards, so the tasks never contend for shared state.
+ * 
+ * <p>
+ * Besides the plain sum, the sum can be calculated with Neumaier's compensated summation or with pairwise summation.
+ * Both are far more accurate for large inputs. The inputs are always split at the same indices, no matter how many
+ * threads take part, so all results are deterministic and identical to a sequential run.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class Tup3dReductions
+{
+	/**
+	 * The number of tuples below which a reduction is not split any further.
+	 */
+	private static final int PARALLEL_THRESHOLD = 16384;
+	
+	/**
+	 * Flag for accumulating the minimum and maximum.
+	 */
+	private static final int BOUNDS = 1;
+	
+	/**
+	 * Flag for accumulating the sum.
+	 */
+	private static final int SUM = 2;
+	
+	/**
+	 * Flag for accumulating the mean and the sum of squared deviations.
+	 */
+	private static final int MOMENTS = 4;
+	
+	/**
+	 * Flag for accumulating the sum with Neumaier's compensated summation.
+	 */
+	private static final int COMPENSATED_SUM = 8;
+	
+	/**
+	 * Flag for accumulating the sum with pairwise summation.
+	 */
+	private static final int PAIRWISE_SUM = 16;
+	
+	/**
+	 * The number of tuples summed up naively at the leaves of the pairwise summation.
+	 */
+	private static final int PAIRWISE_BLOCK = 128;
+	
+	/**
+	 * The maximum recursion depth of the pairwise summation. Halving an int range below {@link #PAIRWISE_BLOCK}
+	 * takes less than 32 steps.
+	 */
+	private static final int PAIRWISE_DEPTH = 32;
+	
+	private Tup3dReductions() { }
+	
+	/**
+	 * Calculates the componentwise minimum of the tuples in the interleaved array and writes it to result.
+	 * If there are no tuples, all components are set to Double.POSITIVE_INFINITY.
+	 * 
+	 * @param v The interleaved components (t1.x, t1.y, t1.z, t2.x, ...).
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param result The tuple receiving the minimum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T min(double[] v, int from, int to, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ArraySource(v), from, to, BOUNDS);
+		
+		result.set(acc.min[0], acc.min[1], acc.min[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise maximum of the tuples in the interleaved array and writes it to result.
+	 * If there are no tuples, all components are set to Double.NEGATIVE_INFINITY.
+	 * 
+	 * @param v The interleaved components (t1.x, t1.y, t1.z, t2.x, ...).
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param result The tuple receiving the maximum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T max(double[] v, int from, int to, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ArraySource(v), from, to, BOUNDS);
+		
+		result.set(acc.max[0], acc.max[1], acc.max[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the axis aligned bounding box of the tuples in the interleaved array in a single pass
+	 * and writes the componentwise minimum to min and the componentwise maximum to max.
+	 * If there are no tuples, min is set to Double.POSITIVE_INFINITY and max is set to Double.NEGATIVE_INFINITY.
+	 * 
+	 * @param v The interleaved components (t1.x, t1.y, t1.z, t2.x, ...).
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param min The tuple receiving the minimum.
+	 * @param max The tuple receiving the maximum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple min.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T bounds(double[] v, int from, int to, T min, Tup3dW max)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(min == null) throw new ArgumentNullException("min");
+			if(max == null) throw new ArgumentNullException("max");
+		}
+		
+		Accumulator acc = reduce(new ArraySource(v), from, to, BOUNDS);
+		
+		min.set(acc.min[0], acc.min[1], acc.min[2]);
+		max.set(acc.max[0], acc.max[1], acc.max[2]);
+		
+		return min;
+	}
+	
+	/**
+	 * Calculates the componentwise sum of the tuples in the interleaved array and writes it to result.
+	 *
+	 * 
+	 * @param v The interleaved components (t1.x, t1.y, t1.z, t2.x, ...).
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param result The tuple receiving the sum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T sum(double[] v, int from, int to, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ArraySource(v), from, to, SUM);
+		
+		result.set(acc.sum[0], acc.sum[1], acc.sum[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise sum of the tuples in the interleaved array and writes it to result.
+	 * The sum is calculated with Neumaier's compensated summation.
+	 * 
+	 * @param v The interleaved components (t1.x, t1.y, t1.z, t2.x, ...).
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param result The tuple receiving the sum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T compensatedSum(double[] v, int from, int to, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ArraySource(v), from, to, COMPENSATED_SUM);
+		
+		result.set(total(acc.sum[0], acc.compensation[0]), total(acc.sum[1], acc.compensation[1]), total(acc.sum[2], acc.compensation[2]));
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise sum of the tuples in the interleaved array and writes it to result.
+	 * The sum is calculated with pairwise summation.
+	 * 
+	 * @param v The interleaved components (t1.x, t1.y, t1.z, t2.x, ...).
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param result The tuple receiving the sum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T pairwiseSum(double[] v, int from, int to, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ArraySource(v), from, to, PAIRWISE_SUM);
+		
+		result.set(acc.sum[0], acc.sum[1], acc.sum[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise mean (centroid) of the tuples in the interleaved array and writes it to result.
+	 * If there are no tuples, all components are set to NaN.
+	 * 
+	 * @param v The interleaved components (t1.x, t1.y, t1.z, t2.x, ...).
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param result The tuple receiving the mean.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T mean(double[] v, int from, int to, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ArraySource(v), from, to, MOMENTS);
+		
+		if(acc.count == 0)
+		{
+			result.set(Double.NaN);
+			return result;
+		}
+		
+		result.set(acc.mean[0], acc.mean[1], acc.mean[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise population variance of the tuples in the interleaved array and writes it to result.
+	 * The variance is calculated with a numerically stable single pass algorithm.
+	 * If there are no tuples, all components are set to NaN.
+	 * 
+	 * @param v The interleaved components (t1.x, t1.y, t1.z, t2.x, ...).
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param result The tuple receiving the variance.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T variance(double[] v, int from, int to, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ArraySource(v), from, to, MOMENTS);
+		
+		if(acc.count == 0)
+		{
+			result.set(Double.NaN);
+			return result;
+		}
+		
+		result.set((acc.m2[0] / acc.count), (acc.m2[1] / acc.count), (acc.m2[2] / acc.count));
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise minimum of the tuples in the list and writes it to result.
+	 * If there are no tuples, all components are set to Double.POSITIVE_INFINITY.
+	 * 
+	 * @param list The tuples.
+	 * @param result The tuple receiving the minimum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T min(List<? extends Tup3dR> list, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ListSource(list), 0, list.size(), BOUNDS);
+		
+		result.set(acc.min[0], acc.min[1], acc.min[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise maximum of the tuples in the list and writes it to result.
+	 * If there are no tuples, all components are set to Double.NEGATIVE_INFINITY.
+	 * 
+	 * @param list The tuples.
+	 * @param result The tuple receiving the maximum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T max(List<? extends Tup3dR> list, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ListSource(list), 0, list.size(), BOUNDS);
+		
+		result.set(acc.max[0], acc.max[1], acc.max[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the axis aligned bounding box of the tuples in the list in a single pass
+	 * and writes the componentwise minimum to min and the componentwise maximum to max.
+	 * If there are no tuples, min is set to Double.POSITIVE_INFINITY and max is set to Double.NEGATIVE_INFINITY.
+	 * 
+	 * @param list The tuples.
+	 * @param min The tuple receiving the minimum.
+	 * @param max The tuple receiving the maximum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple min.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T bounds(List<? extends Tup3dR> list, T min, Tup3dW max)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+			if(min == null) throw new ArgumentNullException("min");
+			if(max == null) throw new ArgumentNullException("max");
+		}
+		
+		Accumulator acc = reduce(new ListSource(list), 0, list.size(), BOUNDS);
+		
+		min.set(acc.min[0], acc.min[1], acc.min[2]);
+		max.set(acc.max[0], acc.max[1], acc.max[2]);
+		
+		return min;
+	}
+	
+	/**
+	 * Calculates the componentwise sum of the tuples in the list and writes it to result.
+	 *
+	 * 
+	 * @param list The tuples.
+	 * @param result The tuple receiving the sum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T sum(List<? extends Tup3dR> list, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ListSource(list), 0, list.size(), SUM);
+		
+		result.set(acc.sum[0], acc.sum[1], acc.sum[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise sum of the tuples in the list and writes it to result.
+	 * The sum is calculated with Neumaier's compensated summation.
+	 * 
+	 * @param list The tuples.
+	 * @param result The tuple receiving the sum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T compensatedSum(List<? extends Tup3dR> list, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ListSource(list), 0, list.size(), COMPENSATED_SUM);
+		
+		result.set(total(acc.sum[0], acc.compensation[0]), total(acc.sum[1], acc.compensation[1]), total(acc.sum[2], acc.compensation[2]));
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise sum of the tuples in the list and writes it to result.
+	 * The sum is calculated with pairwise summation.
+	 * 
+	 * @param list The tuples.
+	 * @param result The tuple receiving the sum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T pairwiseSum(List<? extends Tup3dR> list, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ListSource(list), 0, list.size(), PAIRWISE_SUM);
+		
+		result.set(acc.sum[0], acc.sum[1], acc.sum[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise mean (centroid) of the tuples in the list and writes it to result.
+	 * If there are no tuples, all components are set to NaN.
+	 * 
+	 * @param list The tuples.
+	 * @param result The tuple receiving the mean.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T mean(List<? extends Tup3dR> list, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ListSource(list), 0, list.size(), MOMENTS);
+		
+		if(acc.count == 0)
+		{
+			result.set(Double.NaN);
+			return result;
+		}
+		
+		result.set(acc.mean[0], acc.mean[1], acc.mean[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise population variance of the tuples in the list and writes it to result.
+	 * The variance is calculated with a numerically stable single pass algorithm.
+	 * If there are no tuples, all components are set to NaN.
+	 * 
+	 * @param list The tuples.
+	 * @param result The tuple receiving the variance.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T variance(List<? extends Tup3dR> list, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new ListSource(list), 0, list.size(), MOMENTS);
+		
+		if(acc.count == 0)
+		{
+			result.set(Double.NaN);
+			return result;
+		}
+		
+		result.set((acc.m2[0] / acc.count), (acc.m2[1] / acc.count), (acc.m2[2] / acc.count));
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise minimum of the tuples in the buffer and writes it to result.
+	 * If there are no tuples, all components are set to Double.POSITIVE_INFINITY.
+	 * 
+	 * @param buffer The buffer containing the interleaved components (t1.x, t1.y, t1.z, t2.x, ...) between its position and its limit.
+	 *        The position of the buffer is not changed.
+	 * @param result The tuple receiving the minimum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T min(DoubleBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new BufferSource(buffer), 0, buffer.remaining() / 3, BOUNDS);
+		
+		result.set(acc.min[0], acc.min[1], acc.min[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise maximum of the tuples in the buffer and writes it to result.
+	 * If there are no tuples, all components are set to Double.NEGATIVE_INFINITY.
+	 * 
+	 * @param buffer The buffer containing the interleaved components (t1.x, t1.y, t1.z, t2.x, ...) between its position and its limit.
+	 *        The position of the buffer is not changed.
+	 * @param result The tuple receiving the maximum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T max(DoubleBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new BufferSource(buffer), 0, buffer.remaining() / 3, BOUNDS);
+		
+		result.set(acc.max[0], acc.max[1], acc.max[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the axis aligned bounding box of the tuples in the buffer in a single pass
+	 * and writes the componentwise minimum to min and the componentwise maximum to max.
+	 * If there are no tuples, min is set to Double.POSITIVE_INFINITY and max is set to Double.NEGATIVE_INFINITY.
+	 * 
+	 * @param buffer The buffer containing the interleaved components (t1.x, t1.y, t1.z, t2.x, ...) between its position and its limit.
+	 *        The position of the buffer is not changed.
+	 * @param min The tuple receiving the minimum.
+	 * @param max The tuple receiving the maximum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple min.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T bounds(DoubleBuffer buffer, T min, Tup3dW max)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(min == null) throw new ArgumentNullException("min");
+			if(max == null) throw new ArgumentNullException("max");
+		}
+		
+		Accumulator acc = reduce(new BufferSource(buffer), 0, buffer.remaining() / 3, BOUNDS);
+		
+		min.set(acc.min[0], acc.min[1], acc.min[2]);
+		max.set(acc.max[0], acc.max[1], acc.max[2]);
+		
+		return min;
+	}
+	
+	/**
+	 * Calculates the componentwise sum of the tuples in the buffer and writes it to result.
+	 *
+	 * 
+	 * @param buffer The buffer containing the interleaved components (t1.x, t1.y, t1.z, t2.x, ...) between its position and its limit.
+	 *        The position of the buffer is not changed.
+	 * @param result The tuple receiving the sum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T sum(DoubleBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new BufferSource(buffer), 0, buffer.remaining() / 3, SUM);
+		
+		result.set(acc.sum[0], acc.sum[1], acc.sum[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise sum of the tuples in the buffer and writes it to result.
+	 * The sum is calculated with Neumaier's compensated summation.
+	 * 
+	 * @param buffer The buffer containing the interleaved components (t1.x, t1.y, t1.z, t2.x, ...) between its position and its limit.
+	 *        The position of the buffer is not changed.
+	 * @param result The tuple receiving the sum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T compensatedSum(DoubleBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new BufferSource(buffer), 0, buffer.remaining() / 3, COMPENSATED_SUM);
+		
+		result.set(total(acc.sum[0], acc.compensation[0]), total(acc.sum[1], acc.compensation[1]), total(acc.sum[2], acc.compensation[2]));
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise sum of the tuples in the buffer and writes it to result.
+	 * The sum is calculated with pairwise summation.
+	 * 
+	 * @param buffer The buffer containing the interleaved components (t1.x, t1.y, t1.z, t2.x, ...) between its position and its limit.
+	 *        The position of the buffer is not changed.
+	 * @param result The tuple receiving the sum.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T pairwiseSum(DoubleBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new BufferSource(buffer), 0, buffer.remaining() / 3, PAIRWISE_SUM);
+		
+		result.set(acc.sum[0], acc.sum[1], acc.sum[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise mean (centroid) of the tuples in the buffer and writes it to result.
+	 * If there are no tuples, all components are set to NaN.
+	 * 
+	 * @param buffer The buffer containing the interleaved components (t1.x, t1.y, t1.z, t2.x, ...) between its position and its limit.
+	 *        The position of the buffer is not changed.
+	 * @param result The tuple receiving the mean.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T mean(DoubleBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new BufferSource(buffer), 0, buffer.remaining() / 3, MOMENTS);
+		
+		if(acc.count == 0)
+		{
+			result.set(Double.NaN);
+			return result;
+		}
+		
+		result.set(acc.mean[0], acc.mean[1], acc.mean[2]);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise population variance of the tuples in the buffer and writes it to result.
+	 * The variance is calculated with a numerically stable single pass algorithm.
+	 * If there are no tuples, all components are set to NaN.
+	 * 
+	 * @param buffer The buffer containing the interleaved components (t1.x, t1.y, t1.z, t2.x, ...) between its position and its limit.
+	 *        The position of the buffer is not changed.
+	 * @param result The tuple receiving the variance.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3dW> T variance(DoubleBuffer buffer, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Accumulator acc = reduce(new BufferSource(buffer), 0, buffer.remaining() / 3, MOMENTS);
+		
+		if(acc.count == 0)
+		{
+			result.set(Double.NaN);
+			return result;
+		}
+		
+		result.set((acc.m2[0] / acc.count), (acc.m2[1] / acc.count), (acc.m2[2] / acc.count));
+		
+		return result;
+	}
+	
+	/**
+	 * Runs the reduction over the range of the source. Small ranges are reduced on the calling thread.
+	 * 
+	 * @param source The tuple source.
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * @param op The flags of the values to accumulate.
+	 * 
+	 * @return The accumulator containing the result.
+	 */
+	private static Accumulator reduce(Source source, int from, int to, int op)
+	{
+		if(to - from <= PARALLEL_THRESHOLD)
+		{
+			Accumulator acc = new Accumulator();
+			source.accumulate(acc, from, to, op);
+			return acc;
+		}
+		
+		return new ReduceTask(source, from, to, op).invoke();
+	}
+	
+	/**
+	 * Returns the compensated sum. The compensation is ignored, if the sum overflowed or contains NaN.
+	 * 
+	 * @param sum The sum.
+	 * @param compensation The accumulated rounding errors of the sum.
+	 * 
+	 * @return The compensated sum.
+	 */
+	private static double total(double sum, double compensation)
+	{
+		return Double.isFinite(sum) ? sum + compensation : sum;
+	}
+	
+	/**
+	 * The per task accumulator.
+	 */
+	private static final class Accumulator
+	{
+		/**
+		 * The number of accumulated tuples.
+		 */
+		long count;
+		
+		/**
+		 * The componentwise minimum.
+		 */
+		final double[] min = { Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY };
+		
+		/**
+		 * The componentwise maximum.
+		 */
+		final double[] max = { Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY };
+		
+		/**
+		 * The componentwise sum.
+		 */
+		final double[] sum = new double[3];
+		
+		/**
+		 * The componentwise accumulated rounding errors of the sum.
+		 */
+		final double[] compensation = new double[3];
+		
+		/**
+		 * The componentwise mean.
+		 */
+		final double[] mean = new double[3];
+		
+		/**
+		 * The componentwise sum of squared deviations from the mean.
+		 */
+		final double[] m2 = new double[3];
+		
+		/**
+		 * The scratch for the pairwise sum with three entries per recursion level.
+		 */
+		final double[] pairwise = new double[3 * (PAIRWISE_DEPTH + 1)];
+		
+		/**
+		 * Merges the other accumulator into this one.
+		 * 
+		 * @param other The other accumulator.
+		 * 
+		 * @return This accumulator.
+		 */
+		Accumulator merge(Accumulator other)
+		{
+			long count = this.count + other.count;
+			
+			for(int i = 0; i < 3; i++)
+			{
+				this.min[i] = Math.min(this.min[i], other.min[i]);
+				this.max[i] = Math.max(this.max[i], other.max[i]);
+				
+				double sum = this.sum[i] + other.sum[i];
+				
+				if(Math.abs(this.sum[i]) >= Math.abs(other.sum[i]))
+				{
+					this.compensation[i] += other.compensation[i] + ((this.sum[i] - sum) + other.sum[i]);
+				}
+				else
+				{
+					this.compensation[i] += other.compensation[i] + ((other.sum[i] - sum) + this.sum[i]);
+				}
+				
+				this.sum[i] = sum;
+				
+				if(count > 0)
+				{
+					double delta = other.mean[i] - this.mean[i];
+					
+					this.mean[i] += delta * other.count / count;
+					this.m2[i] += other.m2[i] + delta * delta * ((double)this.count * other.count / count);
+				}
+			}
+			
+			this.count = count;
+			
+			return this;
+		}
+	}
+	
+	/**
+	 * This class is the base for the tuple sources of a reduction.
+	 */
+	private static abstract class Source
+	{
+		/**
+		 * Accumulates the tuples in the range into the accumulator.
+		 * 
+		 * @param acc The accumulator.
+		 * @param from The index of the first tuple.
+		 * @param to The index after the last tuple.
+		 * @param op The flags of the values to accumulate.
+		 */
+		abstract void accumulate(Accumulator acc, int from, int to, int op);
+		
+		/**
+		 * Calculates the plain sum of the tuples in the range.
+		 * 
+		 * @param result The array receiving the componentwise sum.
+		 * @param offset The index of the x component of the sum in the array result.
+		 * @param from The index of the first tuple.
+		 * @param to The index after the last tuple.
+		 */
+		abstract void blockSum(double[] result, int offset, int from, int to);
+		
+		/**
+		 * Calculates the pairwise sum of the tuples in the range. The range is halved until it contains
+		 * at most {@link #PAIRWISE_BLOCK} tuples, which are summed up plainly. The sum of the left half is stored
+		 * at offset and the sum of the right half in the three entries after it, so one scratch array sized
+		 * to the recursion depth serves the whole recursion.
+		 * 
+		 * @param scratch The array receiving the componentwise sum.
+		 * @param offset The index of the x component of the sum in the array scratch.
+		 * @param from The index of the first tuple.
+		 * @param to The index after the last tuple.
+		 */
+		void pairwiseSum(double[] scratch, int offset, int from, int to)
+		{
+			if(to - from <= PAIRWISE_BLOCK)
+			{
+				blockSum(scratch, offset, from, to);
+				return;
+			}
+			
+			int mid = (from + to) >>> 1;
+			
+			pairwiseSum(scratch, offset, from, mid);
+			pairwiseSum(scratch, offset + 3, mid, to);
+			
+			scratch[offset + 0] += scratch[offset + 3];
+			scratch[offset + 1] += scratch[offset + 4];
+			scratch[offset + 2] += scratch[offset + 5];
+		}
+	}
+	
+	/**
+	 * A source over an interleaved array.
+	 */
+	private static final class ArraySource extends Source
+	{
+		/**
+		 * The interleaved components.
+		 */
+		private final double[] v;
+		
+		/**
+		 * Creates a new source.
+		 * 
+		 * @param v The interleaved components.
+		 */
+		ArraySource(double[] v)
+		{
+			this.v = v;
+		}
+		
+		@Override
+		void accumulate(Accumulator acc, int from, int to, int op)
+		{
+			double[] v = this.v;
+			
+			if((op & BOUNDS) != 0)
+			{
+				double minX = acc.min[0], maxX = acc.max[0];
+				double minY = acc.min[1], maxY = acc.max[1];
+				double minZ = acc.min[2], maxZ = acc.max[2];
+				
+				for(int i = from; i < to; i++)
+				{
+					double x = v[i * 3 + 0];
+					double y = v[i * 3 + 1];
+					double z = v[i * 3 + 2];
+					
+					if(x < minX) minX = x;
+					if(x > maxX) maxX = x;
+					if(y < minY) minY = y;
+					if(y > maxY) maxY = y;
+					if(z < minZ) minZ = z;
+					if(z > maxZ) maxZ = z;
+				}
+				
+				acc.min[0] = minX; acc.max[0] = maxX;
+				acc.min[1] = minY; acc.max[1] = maxY;
+				acc.min[2] = minZ; acc.max[2] = maxZ;
+			}
+			
+			if((op & SUM) != 0)
+			{
+				double sumX = acc.sum[0], sumY = acc.sum[1], sumZ = acc.sum[2];
+				
+				for(int i = from; i < to; i++)
+				{
+					sumX += v[i * 3 + 0];
+					sumY += v[i * 3 + 1];
+					sumZ += v[i * 3 + 2];
+				}
+				
+				acc.sum[0] = sumX;
+				acc.sum[1] = sumY;
+				acc.sum[2] = sumZ;
+			}
+			
+			if((op & MOMENTS) != 0)
+			{
+				long count = acc.count;
+				double meanX = acc.mean[0], m2X = acc.m2[0];
+				double meanY = acc.mean[1], m2Y = acc.m2[1];
+				double meanZ = acc.mean[2], m2Z = acc.m2[2];
+				
+				for(int i = from; i < to; i++)
+				{
+					count++;
+					
+					double x = v[i * 3 + 0];
+					double dX = x - meanX;
+					meanX += dX / count;
+					m2X += dX * (x - meanX);
+					
+					double y = v[i * 3 + 1];
+					double dY = y - meanY;
+					meanY += dY / count;
+					m2Y += dY * (y - meanY);
+					
+					double z = v[i * 3 + 2];
+					double dZ = z - meanZ;
+					meanZ += dZ / count;
+					m2Z += dZ * (z - meanZ);
+				}
+				
+				acc.mean[0] = meanX; acc.m2[0] = m2X;
+				acc.mean[1] = meanY; acc.m2[1] = m2Y;
+				acc.mean[2] = meanZ; acc.m2[2] = m2Z;
+			}
+			
+			if((op & COMPENSATED_SUM) != 0)
+			{
+				double sumX = acc.sum[0], cX = acc.compensation[0];
+				double sumY = acc.sum[1], cY = acc.compensation[1];
+				double sumZ = acc.sum[2], cZ = acc.compensation[2];
+				
+				for(int i = from; i < to; i++)
+				{
+					double x = v[i * 3 + 0];
+					double tX = sumX + x;
+					cX += Math.abs(sumX) >= Math.abs(x) ? (sumX - tX) + x : (x - tX) + sumX;
+					sumX = tX;
+					
+					double y = v[i * 3 + 1];
+					double tY = sumY + y;
+					cY += Math.abs(sumY) >= Math.abs(y) ? (sumY - tY) + y : (y - tY) + sumY;
+					sumY = tY;
+					
+					double z = v[i * 3 + 2];
+					double tZ = sumZ + z;
+					cZ += Math.abs(sumZ) >= Math.abs(z) ? (sumZ - tZ) + z : (z - tZ) + sumZ;
+					sumZ = tZ;
+				}
+				
+				acc.sum[0] = sumX; acc.compensation[0] = cX;
+				acc.sum[1] = sumY; acc.compensation[1] = cY;
+				acc.sum[2] = sumZ; acc.compensation[2] = cZ;
+			}
+			
+			if((op & PAIRWISE_SUM) != 0)
+			{
+				pairwiseSum(acc.pairwise, 0, from, to);
+				
+				for(int i = 0; i < 3; i++) acc.sum[i] += acc.pairwise[i];
+			}
+			
+			acc.count += to - from;
+		}
+		
+		@Override
+		void blockSum(double[] result, int offset, int from, int to)
+		{
+			double[] v = this.v;
+			double sumX = 0.0, sumY = 0.0, sumZ = 0.0;
+			
+			for(int i = from; i < to; i++)
+			{
+				sumX += v[i * 3 + 0];
+				sumY += v[i * 3 + 1];
+				sumZ += v[i * 3 + 2];
+			}
+			
+			result[offset + 0] = sumX;
+			result[offset + 1] = sumY;
+			result[offset + 2] = sumZ;
+		}
+	}
+	
+	/**
+	 * A source over a list of tuples.
+	 */
+	private static final class ListSource extends Source
+	{
+		/**
+		 * The tuples.
+		 */
+		private final List<? extends Tup3dR> list;
+		
+		/**
+		 * Creates a new source.
+		 * 
+		 * @param list The tuples.
+		 */
+		ListSource(List<? extends Tup3dR> list)
+		{
+			this.list = list;
+		}
+		
+		@Override
+		void accumulate(Accumulator acc, int from, int to, int op)
+		{
+			List<? extends Tup3dR> list = this.list;
+			
+			if((op & BOUNDS) != 0)
+			{
+				double minX = acc.min[0], maxX = acc.max[0];
+				double minY = acc.min[1], maxY = acc.max[1];
+				double minZ = acc.min[2], maxZ = acc.max[2];
+				
+				for(int i = from; i < to; i++)
+				{
+					Tup3dR t = list.get(i);
+					double x = t.getX();
+					double y = t.getY();
+					double z = t.getZ();
+					
+					if(x < minX) minX = x;
+					if(x > maxX) maxX = x;
+					if(y < minY) minY = y;
+					if(y > maxY) maxY = y;
+					if(z < minZ) minZ = z;
+					if(z > maxZ) maxZ = z;
+				}
+				
+				acc.min[0] = minX; acc.max[0] = maxX;
+				acc.min[1] = minY; acc.max[1] = maxY;
+				acc.min[2] = minZ; acc.max[2] = maxZ;
+			}
+			
+			if((op & SUM) != 0)
+			{
+				double sumX = acc.sum[0], sumY = acc.sum[1], sumZ = acc.sum[2];
+				
+				for(int i = from; i < to; i++)
+				{
+					Tup3dR t = list.get(i);
+					sumX += t.getX();
+					sumY += t.getY();
+					sumZ += t.getZ();
+				}
+				
+				acc.sum[0] = sumX;
+				acc.sum[1] = sumY;
+				acc.sum[2] = sumZ;
+			}
+			
+			if((op & MOMENTS) != 0)
+			{
+				long count = acc.count;
+				double meanX = acc.mean[0], m2X = acc.m2[0];
+				double meanY = acc.mean[1], m2Y = acc.m2[1];
+				double meanZ = acc.mean[2], m2Z = acc.m2[2];
+				
+				for(int i = from; i < to; i++)
+				{
+					Tup3dR t = list.get(i);
+					count++;
+					
+					double x = t.getX();
+					double dX = x - meanX;
+					meanX += dX / count;
+					m2X += dX * (x - meanX);
+					
+					double y = t.getY();
+					double dY = y - meanY;
+					meanY += dY / count;
+					m2Y += dY * (y - meanY);
+					
+					double z = t.getZ();
+					double dZ = z - meanZ;
+					meanZ += dZ / count;
+					m2Z += dZ * (z - meanZ);
+				}
+				
+				acc.mean[0] = meanX; acc.m2[0] = m2X;
+				acc.mean[1] = meanY; acc.m2[1] = m2Y;
+				acc.mean[2] = meanZ; acc.m2[2] = m2Z;
+			}
+			
+			if((op & COMPENSATED_SUM) != 0)
+			{
+				double sumX = acc.sum[0], cX = acc.compensation[0];
+				double sumY = acc.sum[1], cY = acc.compensation[1];
+				double sumZ = acc.sum[2], cZ = acc.compensation[2];
+				
+				for(int i = from; i < to; i++)
+				{
+					Tup3dR t = list.get(i);
+					double x = t.getX();
+					double tX = sumX + x;
+					cX += Math.abs(sumX) >= Math.abs(x) ? (sumX - tX) + x : (x - tX) + sumX;
+					sumX = tX;
+					
+					double y = t.getY();
+					double tY = sumY + y;
+					cY += Math.abs(sumY) >= Math.abs(y) ? (sumY - tY) + y : (y - tY) + sumY;
+					sumY = tY;
+					
+					double z = t.getZ();
+					double tZ = sumZ + z;
+					cZ += Math.abs(sumZ) >= Math.abs(z) ? (sumZ - tZ) + z : (z - tZ) + sumZ;
+					sumZ = tZ;
+				}
+				
+				acc.sum[0] = sumX; acc.compensation[0] = cX;
+				acc.sum[1] = sumY; acc.compensation[1] = cY;
+				acc.sum[2] = sumZ; acc.compensation[2] = cZ;
+			}
+			
+			if((op & PAIRWISE_SUM) != 0)
+			{
+				pairwiseSum(acc.pairwise, 0, from, to);
+				
+				for(int i = 0; i < 3; i++) acc.sum[i] += acc.pairwise[i];
+			}
+			
+			acc.count += to - from;
+		}
+		
+		@Override
+		void blockSum(double[] result, int offset, int from, int to)
+		{
+			List<? extends Tup3dR> list = this.list;
+			double sumX = 0.0, sumY = 0.0, sumZ = 0.0;
+			
+			for(int i = from; i < to; i++)
+			{
+				Tup3dR t = list.get(i);
+				sumX += t.getX();
+				sumY += t.getY();
+				sumZ += t.getZ();
+			}
+			
+			result[offset + 0] = sumX;
+			result[offset + 1] = sumY;
+			result[offset + 2] = sumZ;
+		}
+	}
+	
+	/**
+	 * A source over an interleaved buffer using absolute accesses.
+	 */
+	private static final class BufferSource extends Source
+	{
+		/**
+		 * The buffer.
+		 */
+		private final DoubleBuffer buffer;
+		
+		/**
+		 * The position of the first component in the buffer.
+		 */
+		private final int base;
+		
+		/**
+		 * Creates a new source.
+		 * 
+		 * @param buffer The buffer.
+		 */
+		BufferSource(DoubleBuffer buffer)
+		{
+			this.buffer = buffer;
+			this.base = buffer.position();
+		}
+		
+		@Override
+		void accumulate(Accumulator acc, int from, int to, int op)
+		{
+			DoubleBuffer buffer = this.buffer;
+			int base = this.base;
+			
+			if((op & BOUNDS) != 0)
+			{
+				double minX = acc.min[0], maxX = acc.max[0];
+				double minY = acc.min[1], maxY = acc.max[1];
+				double minZ = acc.min[2], maxZ = acc.max[2];
+				
+				for(int i = from; i < to; i++)
+				{
+					double x = buffer.get(base + i * 3 + 0);
+					double y = buffer.get(base + i * 3 + 1);
+					double z = buffer.get(base + i * 3 + 2);
+					
+					if(x < minX) minX = x;
+					if(x > maxX) maxX = x;
+					if(y < minY) minY = y;
+					if(y > maxY) maxY = y;
+					if(z < minZ) minZ = z;
+					if(z > maxZ) maxZ = z;
+				}
+				
+				acc.min[0] = minX; acc.max[0] = maxX;
+				acc.min[1] = minY; acc.max[1] = maxY;
+				acc.min[2] = minZ; acc.max[2] = maxZ;
+			}
+			
+			if((op & SUM) != 0)
+			{
+				double sumX = acc.sum[0], sumY = acc.sum[1], sumZ = acc.sum[2];
+				
+				for(int i = from; i < to; i++)
+				{
+					sumX += buffer.get(base + i * 3 + 0);
+					sumY += buffer.get(base + i * 3 + 1);
+					sumZ += buffer.get(base + i * 3 + 2);
+				}
+				
+				acc.sum[0] = sumX;
+				acc.sum[1] = sumY;
+				acc.sum[2] = sumZ;
+			}
+			
+			if((op & MOMENTS) != 0)
+			{
+				long count = acc.count;
+				double meanX = acc.mean[0], m2X = acc.m2[0];
+				double meanY = acc.mean[1], m2Y = acc.m2[1];
+				double meanZ = acc.mean[2], m2Z = acc.m2[2];
+				
+				for(int i = from; i < to; i++)
+				{
+					count++;
+					
+					double x = buffer.get(base + i * 3 + 0);
+					double dX = x - meanX;
+					meanX += dX / count;
+					m2X += dX * (x - meanX);
+					
+					double y = buffer.get(base + i * 3 + 1);
+					double dY = y - meanY;
+					meanY += dY / count;
+					m2Y += dY * (y - meanY);
+					
+					double z = buffer.get(base + i * 3 + 2);
+					double dZ = z - meanZ;
+					meanZ += dZ / count;
+					m2Z += dZ * (z - meanZ);
+				}
+				
+				acc.mean[0] = meanX; acc.m2[0] = m2X;
+				acc.mean[1] = meanY; acc.m2[1] = m2Y;
+				acc.mean[2] = meanZ; acc.m2[2] = m2Z;
+			}
+			
+			if((op & COMPENSATED_SUM) != 0)
+			{
+				double sumX = acc.sum[0], cX = acc.compensation[0];
+				double sumY = acc.sum[1], cY = acc.compensation[1];
+				double sumZ = acc.sum[2], cZ = acc.compensation[2];
+				
+				for(int i = from; i < to; i++)
+				{
+					double x = buffer.get(base + i * 3 + 0);
+					double tX = sumX + x;
+					cX += Math.abs(sumX) >= Math.abs(x) ? (sumX - tX) + x : (x - tX) + sumX;
+					sumX = tX;
+					
+					double y = buffer.get(base + i * 3 + 1);
+					double tY = sumY + y;
+					cY += Math.abs(sumY) >= Math.abs(y) ? (sumY - tY) + y : (y - tY) + sumY;
+					sumY = tY;
+					
+					double z = buffer.get(base + i * 3 + 2);
+					double tZ = sumZ + z;
+					cZ += Math.abs(sumZ) >= Math.abs(z) ? (sumZ - tZ) + z : (z - tZ) + sumZ;
+					sumZ = tZ;
+				}
+				
+				acc.sum[0] = sumX; acc.compensation[0] = cX;
+				acc.sum[1] = sumY; acc.compensation[1] = cY;
+				acc.sum[2] = sumZ; acc.compensation[2] = cZ;
+			}
+			
+			if((op & PAIRWISE_SUM) != 0)
+			{
+				pairwiseSum(acc.pairwise, 0, from, to);
+				
+				for(int i = 0; i < 3; i++) acc.sum[i] += acc.pairwise[i];
+			}
+			
+			acc.count += to - from;
+		}
+		
+		@Override
+		void blockSum(double[] result, int offset, int from, int to)
+		{
+			DoubleBuffer buffer = this.buffer;
+			int base = this.base;
+			double sumX = 0.0, sumY = 0.0, sumZ = 0.0;
+			
+			for(int i = from; i < to; i++)
+			{
+				sumX += buffer.get(base + i * 3 + 0);
+				sumY += buffer.get(base + i * 3 + 1);
+				sumZ += buffer.get(base + i * 3 + 2);
+			}
+			
+			result[offset + 0] = sumX;
+			result[offset + 1] = sumY;
+			result[offset + 2] = sumZ;
+		}
+	}
+	
+	/**
+	 * This task reduces a range of a source by splitting it in halves.
+	 */
+	private static final class ReduceTask extends RecursiveTask<Accumulator>
+	{
+		/**
+		 * The class version for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The tuple source.
+		 */
+		private final Source source;
+		
+		/**
+		 * The index of the first tuple.
+		 */
+		private final int from;
+		
+		/**
+		 * The index after the last tuple.
+		 */
+		private final int to;
+		
+		/**
+		 * The flags of the values to accumulate.
+		 */
+		private final int op;
+		
+		/**
+		 * Creates a new task.
+		 * 
+		 * @param source The tuple source.
+		 * @param from The index of the first tuple.
+		 * @param to The index after the last tuple.
+		 * @param op The flags of the values to accumulate.
+		 */
+		ReduceTask(Source source, int from, int to, int op)
+		{
+			this.source = source;
+			this.from = from;
+			this.to = to;
+			this.op = op;
+		}
+		
+		@Override
+		protected Accumulator compute()
+		{
+			if(this.to - this.from <= PARALLEL_THRESHOLD)
+			{
+				Accumulator acc = new Accumulator();
+				this.source.accumulate(acc, this.from, this.to, this.op);
+				return acc;
+			}
+			
+			int mid = (this.from + this.to) >>> 1;
+			
+			ReduceTask left = new ReduceTask(this.source, this.from, mid, this.op);
+			ReduceTask right = new ReduceTask(this.source, mid, this.to, this.op);
+			
+			left.fork();
+			Accumulator rightResult = right.compute();
+			
+			return left.join().merge(rightResult);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,423 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.spatial;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * Provides a parallel radix sort for reordering component arrays by space filling curve keys
+ * like the ones from {@link MortonCode} and {@link HilbertCode}.
+ * After sorting, points that are close in space are also close in memory.
+ * 
+ * <p>
+ * The keys are sorted as unsigned numbers with a stable least significant digit radix sort of 8 bits per pass.
+ * Passes in which all keys share the same digit are skipped, so small keys only cost as many passes as they have bytes.
+ * Histograms and scattering are computed per chunk in parallel in the common fork join pool.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class CurveSort
+{
+	/**
+	 * The number of keys below which the sort runs in a single chunk.
+	 */
+	private static final int PARALLEL_THRESHOLD = 65536;
+	
+	/**
+	 * The number of buckets per pass.
+	 */
+	private static final int RADIX = 256;
+	
+	/**
+	 * This class contains only static methods and therefore it should not be possible to create
+	 * instances from it.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	private CurveSort() { }
+	
+	/**
+	 * Sorts the first count keys ascending as unsigned numbers and writes the permutation to order.
+	 * After the sort order[i] contains the original position of the key now at position i.
+	 * 
+	 * @param keys The keys to sort.
+	 * @param order The array receiving the permutation. It needs at least count entries.
+	 * @param count The number of keys.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void sort(long[] keys, int[] order, int count)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(keys == null) throw new ArgumentNullException("keys");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		for(int i = 0; i < count; i++)
+			order[i] = i;
+		
+		if(count < 2) return;
+		
+		int chunks = count < PARALLEL_THRESHOLD ? 1 : Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, count / (PARALLEL_THRESHOLD / 4));
+		chunks = Math.max(chunks, 1);
+		
+		long[] srcKeys = keys;
+		int[] srcOrder = order;
+		long[] dstKeys = new long[count];
+		int[] dstOrder = new int[count];
+		
+		int[][] offsets = new int[chunks][RADIX];
+		
+		long diff = 0;
+		long first = keys[0];
+		
+		for(int i = 1; i < count; i++)
+			diff |= keys[i] ^ first;
+		
+		for(int shift = 0; shift < 64; shift += 8)
+		{
+			if(((diff >>> shift) & 0xFF) == 0) continue;
+			
+			new PassTask(srcKeys, srcOrder, dstKeys, dstOrder, offsets, shift, count, chunks, 0, chunks, true).invoke();
+			
+			int sum = 0;
+			
+			for(int digit = 0; digit < RADIX; digit++)
+			{
+				for(int c = 0; c < chunks; c++)
+				{
+					int n = offsets[c][digit];
+					offsets[c][digit] = sum;
+					sum += n;
+				}
+			}
+			
+			new PassTask(srcKeys, srcOrder, dstKeys, dstOrder, offsets, shift, count, chunks, 0, chunks, false).invoke();
+			
+			long[] tk = srcKeys; srcKeys = dstKeys; dstKeys = tk;
+			int[] to = srcOrder; srcOrder = dstOrder; dstOrder = to;
+		}
+		
+		if(srcKeys != keys)
+		{
+			System.arraycopy(srcKeys, 0, keys, 0, count);
+			System.arraycopy(srcOrder, 0, order, 0, count);
+		}
+	}
+	
+	/**
+	 * Sorts the first count keys ascending as unsigned numbers and reorders the component arrays the same way.
+	 * 
+	 * @param keys The keys to sort.
+	 * @param count The number of keys.
+	 * @param first The first component array to reorder.
+	 * @param others The further component arrays to reorder.
+	 * 
+	 * @return The permutation, where entry i contains the original position of the element now at position i.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int[] sort(long[] keys, int count, float[] first, float[]... others)
+	{
+		int[] order = new int[count];
+		
+		sort(keys, order, count);
+		
+		reorder(first, order, count);
+		
+		for(int i = 0; i < others.length; i++)
+			reorder(others[i], order, count);
+		
+		return order;
+	}
+	
+	/**
+	 * Sorts the first count keys ascending as unsigned numbers and reorders the component arrays the same way.
+	 * 
+	 * @param keys The keys to sort.
+	 * @param count The number of keys.
+	 * @param first The first component array to reorder.
+	 * @param others The further component arrays to reorder.
+	 * 
+	 * @return The permutation, where entry i contains the original position of the element now at position i.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int[] sort(long[] keys, int count, int[] first, int[]... others)
+	{
+		int[] order = new int[count];
+		
+		sort(keys, order, count);
+		
+		reorder(first, order, count);
+		
+		for(int i = 0; i < others.length; i++)
+			reorder(others[i], order, count);
+		
+		return order;
+	}
+	
+	/**
+	 * Sorts the first count keys ascending as unsigned numbers and reorders the component arrays the same way.
+	 * 
+	 * @param keys The keys to sort.
+	 * @param count The number of keys.
+	 * @param first The first component array to reorder.
+	 * @param others The further component arrays to reorder.
+	 * 
+	 * @return The permutation, where entry i contains the original position of the element now at position i.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int[] sort(long[] keys, int count, double[] first, double[]... others)
+	{
+		int[] order = new int[count];
+		
+		sort(keys, order, count);
+		
+		reorder(first, order, count);
+		
+		for(int i = 0; i < others.length; i++)
+			reorder(others[i], order, count);
+		
+		return order;
+	}
+	
+	/**
+	 * Reorders the first count values by the permutation from {@link #sort(long[], int[], int)}.
+	 * 
+	 * @param values The values to reorder.
+	 * @param order The permutation.
+	 * @param count The number of values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void reorder(float[] values, int[] order, int count)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(values == null) throw new ArgumentNullException("values");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		float[] copy = new float[count];
+		
+		for(int i = 0; i < count; i++)
+			copy[i] = values[order[i]];
+		
+		System.arraycopy(copy, 0, values, 0, count);
+	}
+	
+	/**
+	 * Reorders the first count values by the permutation from {@link #sort(long[], int[], int)}.
+	 * 
+	 * @param values The values to reorder.
+	 * @param order The permutation.
+	 * @param count The number of values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void reorder(int[] values, int[] order, int count)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(values == null) throw new ArgumentNullException("values");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		int[] copy = new int[count];
+		
+		for(int i = 0; i < count; i++)
+			copy[i] = values[order[i]];
+		
+		System.arraycopy(copy, 0, values, 0, count);
+	}
+	
+	/**
+	 * Reorders the first count values by the permutation from {@link #sort(long[], int[], int)}.
+	 * 
+	 * @param values The values to reorder.
+	 * @param order The permutation.
+	 * @param count The number of values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void reorder(double[] values, int[] order, int count)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(values == null) throw new ArgumentNullException("values");
+			if(order == null) throw new ArgumentNullException("order");
+		}
+		
+		double[] copy = new double[count];
+		
+		for(int i = 0; i < count; i++)
+			copy[i] = values[order[i]];
+		
+		System.arraycopy(copy, 0, values, 0, count);
+	}
+	
+	/**
+	 * This task runs either the histogram or the scatter step of a radix pass for a range of chunks.
+	 */
+	private static class PassTask extends RecursiveAction
+	{
+		/**
+		 * The class version for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The source keys.
+		 */
+		private final long[] srcKeys;
+		
+		/**
+		 * The source permutation.
+		 */
+		private final int[] srcOrder;
+		
+		/**
+		 * The destination keys.
+		 */
+		private final long[] dstKeys;
+		
+		/**
+		 * The destination permutation.
+		 */
+		private final int[] dstOrder;
+		
+		/**
+		 * The histogram or the scatter offsets per chunk and digit.
+		 */
+		private final int[][] offsets;
+		
+		/**
+		 * The shift of the current digit.
+		 */
+		private final int shift;
+		
+		/**
+		 * The number of keys.
+		 */
+		private final int count;
+		
+		/**
+		 * The total number of chunks.
+		 */
+		private final int chunks;
+		
+		/**
+		 * The first chunk of this task.
+		 */
+		private final int from;
+		
+		/**
+		 * The end of the chunks of this task (exclusive).
+		 */
+		private final int to;
+		
+		/**
+		 * True for the histogram step, false for the scatter step.
+		 */
+		private final boolean histogram;
+		
+		/**
+		 * Creates a new task.
+		 * 
+		 * @param srcKeys The source keys.
+		 * @param srcOrder The source permutation.
+		 * @param dstKeys The destination keys.
+		 * @param dstOrder The destination permutation.
+		 * @param offsets The histogram or the scatter offsets per chunk and digit.
+		 * @param shift The shift of the current digit.
+		 * @param count The number of keys.
+		 * @param chunks The total number of chunks.
+		 * @param from The first chunk of this task.
+		 * @param to The end of the chunks of this task (exclusive).
+		 * @param histogram True for the histogram step, false for the scatter step.
+		 */
+		PassTask(long[] srcKeys, int[] srcOrder, long[] dstKeys, int[] dstOrder, int[][] offsets, int shift, int count, int chunks, int from, int to, boolean histogram)
+		{
+			this.srcKeys = srcKeys;
+			this.srcOrder = srcOrder;
+			this.dstKeys = dstKeys;
+			this.dstOrder = dstOrder;
+			this.offsets = offsets;
+			this.shift = shift;
+			this.count = count;
+			this.chunks = chunks;
+			this.from = from;
+			this.to = to;
+			this.histogram = histogram;
+		}
+		
+		@Override
+		protected void compute()
+		{
+			if(this.to - this.from > 1)
+			{
+				int mid = (this.from + this.to) >>> 1;
+				
+				invokeAll(new PassTask(this.srcKeys, this.srcOrder, this.dstKeys, this.dstOrder, this.offsets, this.shift, this.count, this.chunks, this.from, mid, this.histogram),
+						new PassTask(this.srcKeys, this.srcOrder, this.dstKeys, this.dstOrder, this.offsets, this.shift, this.count, this.chunks, mid, this.to, this.histogram));
+				
+				return;
+			}
+			
+			int chunk = this.from;
+			int start = (int)((long)this.count * chunk / this.chunks);
+			int end = (int)((long)this.count * (chunk + 1) / this.chunks);
+			
+			int[] offset = this.offsets[chunk];
+			
+			if(this.histogram)
+			{
+				for(int d = 0; d < RADIX; d++)
+					offset[d] = 0;
+				
+				for(int i = start; i < end; i++)
+					offset[(int)((this.srcKeys[i] >>> this.shift) & 0xFF)]++;
+			}
+			else
+			{
+				for(int i = start; i < end; i++)
+				{
+					long key = this.srcKeys[i];
+					int target = offset[(int)((key >>> this.shift) & 0xFF)]++;
+					
+					this.dstKeys[target] = key;
+					this.dstOrder[target] = this.srcOrder[i];
+				}
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.spatial;
+
+import org.barghos.core.api.tuple2.Tup2fR;
+import org.barghos.core.api.tuple2.Tup2iR;
+import org.barghos.core.api.tuple2.Tup2iW;
+import org.barghos.core.api.tuple3.Tup3fR;
+import org.barghos.core.api.tuple3.Tup3iR;
+import org.barghos.core.api.tuple3.Tup3iW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * Provides functions for encoding integer and float tuples as hilbert curve indices and decoding them again.
+ * 
+ * <p>
+ * Unlike the z-order curve of {@link MortonCode}, consecutive indices on the hilbert curve always belong to neighbouring cells,
+ * which gives a better locality at slightly higher cost.
+ * The coordinates are transformed into the transposed hilbert form (J. Skilling, "Programming the Hilbert curve", 2004)
+ * and the bits of the transposed form are interleaved with the bit kernels of {@link MortonCode}.
+ * 
+ * <p>
+ * 2-dimensional indices use the lower 32 bits of each component and 3-dimensional indices the lower 21 bits.
+ * The indices are to be compared as unsigned numbers.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class HilbertCode
+{
+	/**
+	 * This class contains only static methods and therefore it should not be possible to create
+	 * instances from it.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	private HilbertCode() { }
+	
+	/**
+	 * Returns the hilbert index of the 2-dimensional point.
+	 * 
+	 * @param x The x component.
+	 * @param y The y component.
+	 * 
+	 * @return The hilbert index.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long encode(int x, int y)
+	{
+		int x0 = x;
+		int x1 = y;
+		
+		for(int q = 1 << (MortonCode.BITS_2 - 1); q != 1; q >>>= 1)
+		{
+			int p = q - 1;
+			
+			if((x0 & q) != 0) x0 ^= p;
+			
+			if((x1 & q) != 0) x0 ^= p;
+			else { int t = (x0 ^ x1) & p; x0 ^= t; x1 ^= t; }
+		}
+		
+		x1 ^= x0;
+		
+		int t = 0;
+		
+		for(int q = 1 << (MortonCode.BITS_2 - 1); q != 1; q >>>= 1)
+			if((x1 & q) != 0) t ^= q - 1;
+		
+		x0 ^= t;
+		x1 ^= t;
+		
+		return MortonCode.encode(x1, x0);
+	}
+	
+	/**
+	 * Returns the hilbert index of the 2-dimensional point.
+	 * 
+	 * @param t The point.
+	 * 
+	 * @return The hilbert index.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long encode(Tup2iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return encode(t.getX(), t.getY());
+	}
+	
+	/**
+	 * Returns the hilbert index of the 3-dimensional point.
+	 * 
+	 * @param x The x component.
+	 * @param y The y component.
+	 * @param z The z component.
+	 * 
+	 * @return The hilbert index.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long encode(int x, int y, int z)
+	{
+		int x0 = x & 0x1FFFFF;
+		int x1 = y & 0x1FFFFF;
+		int x2 = z & 0x1FFFFF;
+		
+		for(int q = 1 << (MortonCode.BITS_3 - 1); q > 1; q >>>= 1)
+		{
+			int p = q - 1;
+			
+			if((x0 & q) != 0) x0 ^= p;
+			
+			if((x1 & q) != 0) x0 ^= p;
+			else { int t = (x0 ^ x1) & p; x0 ^= t; x1 ^= t; }
+			
+			if((x2 & q) != 0) x0 ^= p;
+			else { int t = (x0 ^ x2) & p; x0 ^= t; x2 ^= t; }
+		}
+		
+		x1 ^= x0;
+		x2 ^= x1;
+		
+		int t = 0;
+		
+		for(int q = 1 << (MortonCode.BITS_3 - 1); q > 1; q >>>= 1)
+			if((x2 & q) != 0) t ^= q - 1;
+		
+		x0 ^= t;
+		x1 ^= t;
+		x2 ^= t;
+		
+		return MortonCode.encode(x2, x1, x0);
+	}
+	
+	/**
+	 * Returns the hilbert index of the 3-dimensional point.
+	 * 
+	 * @param t The point.
+	 * 
+	 * @return The hilbert index.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long encode(Tup3iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return encode(t.getX(), t.getY(), t.getZ());
+	}
+	
+	/**
+	 * Returns the hilbert index of the 2-dimensional float point quantized to 32 bits per component within the bounds.
+	 * 
+	 * @param t The point.
+	 * @param min The minimum corner of the bounds.
+	 * @param max The maximum corner of the bounds.
+	 * 
+	 * @return The hilbert index.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long encode(Tup2fR t, Tup2fR min, Tup2fR max)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+			if(min == null) throw new ArgumentNullException("min");
+			if(max == null) throw new ArgumentNullException("max");
+		}
+		
+		return encode(MortonCode.quantize(t.getX(), min.getX(), max.getX(), MortonCode.BITS_2),
+				MortonCode.quantize(t.getY(), min.getY(), max.getY(), MortonCode.BITS_2));
+	}
+	
+	/**
+	 * Returns the hilbert index of the 3-dimensional float point quantized to 21 bits per component within the bounds.
+	 * 
+	 * @param t The point.
+	 * @param min The minimum corner of the bounds.
+	 * @param max The maximum corner of the bounds.
+	 * 
+	 * @return The hilbert index.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long encode(Tup3fR t, Tup3fR min, Tup3fR max)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+			if(min == null) throw new ArgumentNullException("min");
+			if(max == null) throw new ArgumentNullException("max");
+		}
+		
+		return encode(MortonCode.quantize(t.getX(), min.getX(), max.getX(), MortonCode.BITS_3),
+				MortonCode.quantize(t.getY(), min.getY(), max.getY(), MortonCode.BITS_3),
+				MortonCode.quantize(t.getZ(), min.getZ(), max.getZ(), MortonCode.BITS_3));
+	}
+	
+	/**
+	 * Decodes a 2-dimensional hilbert index into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param index The hilbert index.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2iW> T decode2(long index, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int x0 = MortonCode.decode2Y(index);
+		int x1 = MortonCode.decode2X(index);
+		
+		int t0 = x1 >>> 1;
+		x1 ^= x0;
+		x0 ^= t0;
+		
+		for(int q = 2; q != 0; q <<= 1)
+		{
+			int p = q - 1;
+			
+			if((x1 & q) != 0) x0 ^= p;
+			else { int s = (x0 ^ x1) & p; x0 ^= s; x1 ^= s; }
+			
+			if((x0 & q) != 0) x0 ^= p;
+		}
+		
+		t.set(x0, x1);
+		
+		return t;
+	}
+	
+	/**
+	 * Decodes a 3-dimensional hilbert index into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param index The hilbert index.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3iW> T decode3(long index, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int x0 = MortonCode.decode3Z(index);
+		int x1 = MortonCode.decode3Y(index);
+		int x2 = MortonCode.decode3X(index);
+		
+		int t0 = x2 >>> 1;
+		x2 ^= x1;
+		x1 ^= x0;
+		x0 ^= t0;
+		
+		for(int q = 2; q != (1 << MortonCode.BITS_3); q <<= 1)
+		{
+			int p = q - 1;
+			
+			if((x2 & q) != 0) x0 ^= p;
+			else { int s = (x0 ^ x2) & p; x0 ^= s; x2 ^= s; }
+			
+			if((x1 & q) != 0) x0 ^= p;
+			else { int s = (x0 ^ x1) & p; x0 ^= s; x1 ^= s; }
+			
+			if((x0 & q) != 0) x0 ^= p;
+		}
+		
+		t.set(x0, x1, x2);
+		
+		return t;
+	}
+}
\ No newline at end of file
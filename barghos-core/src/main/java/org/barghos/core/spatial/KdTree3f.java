@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.spatial;
+
+import java.nio.FloatBuffer;
+
+import org.barghos.core.api.tuple3.Tup3fR;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class represents a static kd-tree over 3-dimensional float points.
+ * The points are copied into the tree on construction, so later changes to the source are not reflected.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class KdTree3f extends KdTreef
+{
+	/**
+	 * Creates a new tree from the points in the component arrays.
+	 * The point at position i in the arrays gets the index i.
+	 * 
+	 * @param x The x components of the points.
+	 * @param y The y components of the points.
+	 * @param z The z components of the points.
+	 * @param count The number of points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public KdTree3f(float[] x, float[] y, float[] z, int count)
+	{
+		super(3, interleave(x, y, z, count), count);
+	}
+	
+	/**
+	 * Creates a new tree from the points.
+	 * The point at position i in the array gets the index i.
+	 * 
+	 * @param points The points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public KdTree3f(Tup3fR[] points)
+	{
+		super(3, interleave(points), points.length);
+	}
+	
+	/**
+	 * Creates a new tree from the points in the buffer.
+	 * The buffer contains the points componentwise (p1.x, p1.y, p1.z, p2.x, ...) starting at its current position.
+	 * The point at position i in the buffer gets the index i. The position of the buffer is not changed.
+	 * 
+	 * @param buffer The buffer containing the points.
+	 * @param count The number of points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public KdTree3f(FloatBuffer buffer, int count)
+	{
+		super(3, interleave(buffer, count), count);
+	}
+	
+	/**
+	 * Finds the k nearest points to the query point.
+	 * The indices of the found points are written to result sorted by ascending distance
+	 * and the squared distances are written to distancesSq.
+	 * 
+	 * @param q The query point.
+	 * @param k The number of points to find. Must not exceed the length of the arrays.
+	 * @param result The array receiving the indices of the found points.
+	 * @param distancesSq The array receiving the squared distances of the found points.
+	 * 
+	 * @return The number of found points, which is the minimum of k and the size of the tree.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int knn(Tup3fR q, int k, int[] result, float[] distancesSq)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(q == null) throw new ArgumentNullException("q");
+			if(result == null) throw new ArgumentNullException("result");
+			if(distancesSq == null) throw new ArgumentNullException("distancesSq");
+		}
+		
+		return knn(q.getX(), q.getY(), q.getZ(), 0.0f, k, result, distancesSq);
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "kdtree3f(size=" + this.size + ")";
+	}
+	
+	/**
+	 * Copies the points from the component arrays into a new interleaved array.
+	 * 
+	 * @param x The x components of the points.
+	 * @param y The y components of the points.
+	 * @param z The z components of the points.
+	 * @param count The number of points.
+	 * 
+	 * @return The interleaved points.
+	 */
+	private static float[] interleave(float[] x, float[] y, float[] z, int count)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(x == null) throw new ArgumentNullException("x");
+			if(y == null) throw new ArgumentNullException("y");
+			if(z == null) throw new ArgumentNullException("z");
+		}
+		
+		float[] points = new float[count * 3];
+		
+		for(int i = 0; i < count; i++)
+		{
+			points[i * 3 + 0] = x[i];
+			points[i * 3 + 1] = y[i];
+			points[i * 3 + 2] = z[i];
+		}
+		
+		return points;
+	}
+	
+	/**
+	 * Copies the points into a new interleaved array.
+	 * 
+	 * @param t The points.
+	 * 
+	 * @return The interleaved points.
+	 */
+	private static float[] interleave(Tup3fR[] t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		float[] points = new float[t.length * 3];
+		
+		for(int i = 0; i < t.length; i++)
+		{
+			Tup3fR p = t[i];
+			points[i * 3 + 0] = p.getX();
+			points[i * 3 + 1] = p.getY();
+			points[i * 3 + 2] = p.getZ();
+		}
+		
+		return points;
+	}
+	
+	/**
+	 * Copies the points from the buffer into a new interleaved array.
+	 * 
+	 * @param buffer The buffer containing the points.
+	 * @param count The number of points.
+	 * 
+	 * @return The interleaved points.
+	 */
+	private static float[] interleave(FloatBuffer buffer, int count)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+		}
+		
+		float[] points = new float[count * 3];
+		
+		buffer.duplicate().get(points);
+		
+		return points;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,507 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.spatial;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class is the base of the kd-trees over float points of a fixed dimension.
+ * 
+ * <p>
+ * The tree is stored implicitly in flat primitive arrays without any node objects.
+ * The points are reordered, so that the node of a range of points is always the point in the middle of the range
+ * and the points of the left and right subtree are the points left and right of it.
+ * The splitting axis of every node is chosen as the axis with the largest extent of the range.
+ * The tree is built in parallel in the common fork join pool.
+ * 
+ * <p>
+ * The tree is static. Queries are thread-safe and don't allocate. They write their results into caller supplied arrays.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public abstract class KdTreef
+{
+	/**
+	 * The number of points below which the construction is not split any further.
+	 */
+	private static final int PARALLEL_THRESHOLD = 16384;
+	
+	/**
+	 * The dimension of the points.
+	 */
+	protected final int dimension;
+	
+	/**
+	 * The number of points in the tree.
+	 */
+	protected final int size;
+	
+	/**
+	 * The components of the points in tree order (p1.x, p1.y, ..., p2.x, ...).
+	 */
+	protected final float[] points;
+	
+	/**
+	 * The original index per point in tree order.
+	 */
+	protected final int[] indices;
+	
+	/**
+	 * The splitting axis per node in tree order.
+	 */
+	protected final byte[] axes;
+	
+	/**
+	 * Creates a new tree from the points and builds it.
+	 * The array is used directly as storage and gets reordered.
+	 * 
+	 * @param dimension The dimension of the points.
+	 * @param points The components of the points (p1.x, p1.y, ..., p2.x, ...).
+	 * @param size The number of points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	protected KdTreef(int dimension, float[] points, int size)
+	{
+		this.dimension = dimension;
+		this.size = size;
+		this.points = points;
+		this.indices = new int[size];
+		this.axes = new byte[size];
+		
+		for(int i = 0; i < size; i++)
+			this.indices[i] = i;
+		
+		new BuildTask(this, 0, size).invoke();
+	}
+	
+	/**
+	 * Returns the number of points in the tree.
+	 * 
+	 * @return The number of points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+	
+	/**
+	 * Returns the dimension of the points in the tree.
+	 * 
+	 * @return The dimension.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int dimension()
+	{
+		return this.dimension;
+	}
+	
+	/**
+	 * Finds the k nearest points to the query point.
+	 * Unused components of the query point are ignored.
+	 * 
+	 * @param qx The x component of the query point.
+	 * @param qy The y component of the query point.
+	 * @param qz The z component of the query point.
+	 * @param qw The w component of the query point.
+	 * @param k The number of points to find.
+	 * @param result The array receiving the indices of the found points sorted by ascending distance.
+	 * @param distancesSq The array receiving the squared distances of the found points.
+	 * 
+	 * @return The number of found points, which is the minimum of k and the size of the tree.
+	 */
+	protected int knn(float qx, float qy, float qz, float qw, int k, int[] result, float[] distancesSq)
+	{
+		if(k > result.length || k > distancesSq.length) throw new IllegalArgumentException("k");
+		
+		if(k <= 0 || this.size == 0) return 0;
+		
+		int count = search(0, this.size, qx, qy, qz, qw, k, result, distancesSq, 0);
+		
+		for(int end = count - 1; end > 0; end--)
+		{
+			swap(result, distancesSq, 0, end);
+			siftDown(result, distancesSq, 0, end);
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Searches the subtree of the range and offers the points to the bounded max heap.
+	 * 
+	 * @param lo The start of the range.
+	 * @param hi The end of the range (exclusive).
+	 * @param qx The x component of the query point.
+	 * @param qy The y component of the query point.
+	 * @param qz The z component of the query point.
+	 * @param qw The w component of the query point.
+	 * @param k The maximum size of the heap.
+	 * @param heap The indices in the heap.
+	 * @param heapDist The squared distances in the heap.
+	 * @param count The current size of the heap.
+	 * 
+	 * @return The new size of the heap.
+	 */
+	private int search(int lo, int hi, float qx, float qy, float qz, float qw, int k, int[] heap, float[] heapDist, int count)
+	{
+		if(lo >= hi) return count;
+		
+		int mid = (lo + hi) >>> 1;
+		int base = mid * this.dimension;
+		
+		float distSq = 0.0f;
+		
+		for(int a = 0; a < this.dimension; a++)
+		{
+			float d = this.points[base + a] - component(a, qx, qy, qz, qw);
+			distSq += d * d;
+		}
+		
+		if(count < k)
+		{
+			heap[count] = this.indices[mid];
+			heapDist[count] = distSq;
+			siftUp(heap, heapDist, count);
+			count++;
+		}
+		else if(distSq < heapDist[0])
+		{
+			heap[0] = this.indices[mid];
+			heapDist[0] = distSq;
+			siftDown(heap, heapDist, 0, count);
+		}
+		
+		int axis = this.axes[mid];
+		float diff = component(axis, qx, qy, qz, qw) - this.points[base + axis];
+		
+		if(diff < 0.0f)
+		{
+			count = search(lo, mid, qx, qy, qz, qw, k, heap, heapDist, count);
+			if(count < k || diff * diff < heapDist[0]) count = search(mid + 1, hi, qx, qy, qz, qw, k, heap, heapDist, count);
+		}
+		else
+		{
+			count = search(mid + 1, hi, qx, qy, qz, qw, k, heap, heapDist, count);
+			if(count < k || diff * diff < heapDist[0]) count = search(lo, mid, qx, qy, qz, qw, k, heap, heapDist, count);
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Builds the subtree of the range by placing the median on the axis with the largest extent in the middle.
+	 * 
+	 * @param lo The start of the range.
+	 * @param hi The end of the range (exclusive).
+	 * 
+	 * @return The middle of the range or -1 if the range contains at most one point.
+	 */
+	private int partition(int lo, int hi)
+	{
+		if(hi - lo <= 0) return -1;
+		
+		int mid = (lo + hi) >>> 1;
+		
+		if(hi - lo == 1) return -1;
+		
+		int axis = widestAxis(lo, hi);
+		this.axes[mid] = (byte)axis;
+		
+		select(lo, hi - 1, mid, axis);
+		
+		return mid;
+	}
+	
+	/**
+	 * Returns the axis with the largest extent of the points in the range.
+	 * 
+	 * @param lo The start of the range.
+	 * @param hi The end of the range (exclusive).
+	 * 
+	 * @return The axis with the largest extent.
+	 */
+	private int widestAxis(int lo, int hi)
+	{
+		int axis = 0;
+		float widest = -1.0f;
+		
+		for(int a = 0; a < this.dimension; a++)
+		{
+			float min = Float.POSITIVE_INFINITY;
+			float max = Float.NEGATIVE_INFINITY;
+			
+			for(int i = lo; i < hi; i++)
+			{
+				float v = this.points[i * this.dimension + a];
+				if(v < min) min = v;
+				if(v > max) max = v;
+			}
+			
+			if(max - min > widest)
+			{
+				widest = max - min;
+				axis = a;
+			}
+		}
+		
+		return axis;
+	}
+	
+	/**
+	 * Reorders the points in the inclusive range, so that the point at n is the one that would be there if the range was sorted
+	 * on the axis, all points before it are not greater and all points after it are not smaller.
+	 * 
+	 * @param left The start of the range.
+	 * @param right The end of the range (inclusive).
+	 * @param n The index of the point to select.
+	 * @param axis The axis to compare.
+	 */
+	private void select(int left, int right, int n, int axis)
+	{
+		while(right > left)
+		{
+			float pivot = value((left + right) >>> 1, axis);
+			
+			int lt = left;
+			int gt = right;
+			int i = left;
+			
+			while(i <= gt)
+			{
+				float v = value(i, axis);
+				
+				if(v < pivot) swapPoints(lt++, i++);
+				else if(v > pivot) swapPoints(i, gt--);
+				else i++;
+			}
+			
+			if(n < lt) right = lt - 1;
+			else if(n > gt) left = gt + 1;
+			else return;
+		}
+	}
+	
+	/**
+	 * Returns the component of the point on the axis.
+	 * 
+	 * @param i The position of the point.
+	 * @param axis The axis.
+	 * 
+	 * @return The component.
+	 */
+	private float value(int i, int axis)
+	{
+		return this.points[i * this.dimension + axis];
+	}
+	
+	/**
+	 * Swaps two points including their original indices.
+	 * 
+	 * @param i The position of the first point.
+	 * @param j The position of the second point.
+	 */
+	private void swapPoints(int i, int j)
+	{
+		if(i == j) return;
+		
+		int bi = i * this.dimension;
+		int bj = j * this.dimension;
+		
+		for(int a = 0; a < this.dimension; a++)
+		{
+			float t = this.points[bi + a];
+			this.points[bi + a] = this.points[bj + a];
+			this.points[bj + a] = t;
+		}
+		
+		int t = this.indices[i];
+		this.indices[i] = this.indices[j];
+		this.indices[j] = t;
+	}
+	
+	/**
+	 * Returns the component of the query point on the axis.
+	 * 
+	 * @param axis The axis.
+	 * @param x The x component.
+	 * @param y The y component.
+	 * @param z The z component.
+	 * @param w The w component.
+	 * 
+	 * @return The component on the axis.
+	 */
+	private static float component(int axis, float x, float y, float z, float w)
+	{
+		switch(axis)
+		{
+			case 0: return x;
+			case 1: return y;
+			case 2: return z;
+			default: return w;
+		}
+	}
+	
+	/**
+	 * Moves the heap entry at i up until the max heap property holds.
+	 * 
+	 * @param heap The indices in the heap.
+	 * @param dist The distances in the heap.
+	 * @param i The entry to move.
+	 */
+	private static void siftUp(int[] heap, float[] dist, int i)
+	{
+		while(i > 0)
+		{
+			int parent = (i - 1) >>> 1;
+			
+			if(dist[parent] >= dist[i]) return;
+			
+			swap(heap, dist, parent, i);
+			i = parent;
+		}
+	}
+	
+	/**
+	 * Moves the heap entry at i down until the max heap property holds.
+	 * 
+	 * @param heap The indices in the heap.
+	 * @param dist The distances in the heap.
+	 * @param i The entry to move.
+	 * @param count The size of the heap.
+	 */
+	private static void siftDown(int[] heap, float[] dist, int i, int count)
+	{
+		while(true)
+		{
+			int left = 2 * i + 1;
+			
+			if(left >= count) return;
+			
+			int largest = left;
+			int right = left + 1;
+			
+			if(right < count && dist[right] > dist[left]) largest = right;
+			
+			if(dist[i] >= dist[largest]) return;
+			
+			swap(heap, dist, i, largest);
+			i = largest;
+		}
+	}
+	
+	/**
+	 * Swaps two heap entries.
+	 * 
+	 * @param heap The indices in the heap.
+	 * @param dist The distances in the heap.
+	 * @param i The first entry.
+	 * @param j The second entry.
+	 */
+	private static void swap(int[] heap, float[] dist, int i, int j)
+	{
+		int t = heap[i];
+		heap[i] = heap[j];
+		heap[j] = t;
+		
+		float d = dist[i];
+		dist[i] = dist[j];
+		dist[j] = d;
+	}
+	
+	/**
+	 * This task builds the subtree of a range and forks the construction of large subtrees.
+	 */
+	private static class BuildTask extends RecursiveAction
+	{
+		/**
+		 * The class version for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The tree to build.
+		 */
+		private final KdTreef tree;
+		
+		/**
+		 * The start of the range.
+		 */
+		private final int lo;
+		
+		/**
+		 * The end of the range (exclusive).
+		 */
+		private final int hi;
+		
+		/**
+		 * Creates a new task for the range.
+		 * 
+		 * @param tree The tree to build.
+		 * @param lo The start of the range.
+		 * @param hi The end of the range (exclusive).
+		 */
+		BuildTask(KdTreef tree, int lo, int hi)
+		{
+			this.tree = tree;
+			this.lo = lo;
+			this.hi = hi;
+		}
+		
+		@Override
+		protected void compute()
+		{
+			if(this.hi - this.lo > PARALLEL_THRESHOLD)
+			{
+				int mid = this.tree.partition(this.lo, this.hi);
+				
+				invokeAll(new BuildTask(this.tree, this.lo, mid), new BuildTask(this.tree, mid + 1, this.hi));
+				
+				return;
+			}
+			
+			build(this.lo, this.hi);
+		}
+		
+		/**
+		 * Builds the subtree of the range sequentially.
+		 * 
+		 * @param lo The start of the range.
+		 * @param hi The end of the range (exclusive).
+		 */
+		private void build(int lo, int hi)
+		{
+			int mid = this.tree.partition(lo, hi);
+			
+			if(mid < 0) return;
+			
+			build(lo, mid);
+			build(mid + 1, hi);
+		}
+	}
+}
\ No newline at end of file
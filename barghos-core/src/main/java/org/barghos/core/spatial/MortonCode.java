@@ -0,0 +1,415 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.spatial;
+
+import org.barghos.core.api.tuple2.Tup2fR;
+import org.barghos.core.api.tuple2.Tup2iR;
+import org.barghos.core.api.tuple2.Tup2iW;
+import org.barghos.core.api.tuple3.Tup3fR;
+import org.barghos.core.api.tuple3.Tup3iR;
+import org.barghos.core.api.tuple3.Tup3iW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * Provides functions for encoding integer and float tuples as morton codes (z-order curve) and decoding them again.
+ * 
+ * <p>
+ * The bits of the components are interleaved, with the x component in the lowest bit of every group.
+ * 2-dimensional codes use the lower 32 bits of each component and 3-dimensional codes the lower 21 bits.
+ * Negative components are interpreted as their unsigned lower bits, so they have to be biased beforehand
+ * if the order of negative coordinates matters.
+ * The codes are to be compared as unsigned numbers.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class MortonCode
+{
+	/**
+	 * The number of bits per component of a 2-dimensional code.
+	 */
+	public static final int BITS_2 = 32;
+	
+	/**
+	 * The number of bits per component of a 3-dimensional code.
+	 */
+	public static final int BITS_3 = 21;
+	
+	/**
+	 * This class contains only static methods and therefore it should not be possible to create
+	 * instances from it.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	private MortonCode() { }
+	
+	/**
+	 * Returns the morton code of the 2-dimensional point.
+	 * 
+	 * @param x The x component.
+	 * @param y The y component.
+	 * 
+	 * @return The morton code.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long encode(int x, int y)
+	{
+		return spread2(x) | (spread2(y) << 1);
+	}
+	
+	/**
+	 * Returns the morton code of the 2-dimensional point.
+	 * 
+	 * @param t The point.
+	 * 
+	 * @return The morton code.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long encode(Tup2iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return encode(t.getX(), t.getY());
+	}
+	
+	/**
+	 * Returns the morton code of the 3-dimensional point.
+	 * 
+	 * @param x The x component.
+	 * @param y The y component.
+	 * @param z The z component.
+	 * 
+	 * @return The morton code.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long encode(int x, int y, int z)
+	{
+		return spread3(x) | (spread3(y) << 1) | (spread3(z) << 2);
+	}
+	
+	/**
+	 * Returns the morton code of the 3-dimensional point.
+	 * 
+	 * @param t The point.
+	 * 
+	 * @return The morton code.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long encode(Tup3iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return encode(t.getX(), t.getY(), t.getZ());
+	}
+	
+	/**
+	 * Returns the morton code of the 2-dimensional float point quantized to 32 bits per component within the bounds.
+	 * 
+	 * @param t The point.
+	 * @param min The minimum corner of the bounds.
+	 * @param max The maximum corner of the bounds.
+	 * 
+	 * @return The morton code.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long encode(Tup2fR t, Tup2fR min, Tup2fR max)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+			if(min == null) throw new ArgumentNullException("min");
+			if(max == null) throw new ArgumentNullException("max");
+		}
+		
+		return encode(quantize(t.getX(), min.getX(), max.getX(), BITS_2),
+				quantize(t.getY(), min.getY(), max.getY(), BITS_2));
+	}
+	
+	/**
+	 * Returns the morton code of the 3-dimensional float point quantized to 21 bits per component within the bounds.
+	 * 
+	 * @param t The point.
+	 * @param min The minimum corner of the bounds.
+	 * @param max The maximum corner of the bounds.
+	 * 
+	 * @return The morton code.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long encode(Tup3fR t, Tup3fR min, Tup3fR max)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+			if(min == null) throw new ArgumentNullException("min");
+			if(max == null) throw new ArgumentNullException("max");
+		}
+		
+		return encode(quantize(t.getX(), min.getX(), max.getX(), BITS_3),
+				quantize(t.getY(), min.getY(), max.getY(), BITS_3),
+				quantize(t.getZ(), min.getZ(), max.getZ(), BITS_3));
+	}
+	
+	/**
+	 * Decodes the x component of a 2-dimensional morton code.
+	 * 
+	 * @param code The morton code.
+	 * 
+	 * @return The x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int decode2X(long code)
+	{
+		return compact2(code);
+	}
+	
+	/**
+	 * Decodes the y component of a 2-dimensional morton code.
+	 * 
+	 * @param code The morton code.
+	 * 
+	 * @return The y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int decode2Y(long code)
+	{
+		return compact2(code >>> 1);
+	}
+	
+	/**
+	 * Decodes a 2-dimensional morton code into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param code The morton code.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup2iW> T decode(long code, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		t.set(decode2X(code), decode2Y(code));
+		
+		return t;
+	}
+	
+	/**
+	 * Decodes the x component of a 3-dimensional morton code.
+	 * 
+	 * @param code The morton code.
+	 * 
+	 * @return The x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int decode3X(long code)
+	{
+		return compact3(code);
+	}
+	
+	/**
+	 * Decodes the y component of a 3-dimensional morton code.
+	 * 
+	 * @param code The morton code.
+	 * 
+	 * @return The y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int decode3Y(long code)
+	{
+		return compact3(code >>> 1);
+	}
+	
+	/**
+	 * Decodes the z component of a 3-dimensional morton code.
+	 * 
+	 * @param code The morton code.
+	 * 
+	 * @return The z component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int decode3Z(long code)
+	{
+		return compact3(code >>> 2);
+	}
+	
+	/**
+	 * Decodes a 3-dimensional morton code into the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param code The morton code.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <T extends Tup3iW> T decode(long code, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		t.set(decode3X(code), decode3Y(code), decode3Z(code));
+		
+		return t;
+	}
+	
+	/**
+	 * Quantizes the value within the bounds to an unsigned integer with the given number of bits.
+	 * Values outside the bounds are clamped.
+	 * 
+	 * @param value The value.
+	 * @param min The lower bound.
+	 * @param max The upper bound.
+	 * @param bits The number of bits of the result (1 - 32).
+	 * 
+	 * @return The quantized value.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int quantize(float value, float min, float max, int bits)
+	{
+		long maxValue = (1L << bits) - 1;
+		
+		double unit = (max > min) ? ((double)value - min) / ((double)max - min) : 0.0;
+		
+		if(!(unit > 0.0)) return 0;
+		if(unit >= 1.0) return (int)maxValue;
+		
+		return (int)(long)(unit * maxValue);
+	}
+	
+	/**
+	 * Spreads the 32 bits of the value so that there is one zero bit between every two bits.
+	 * 
+	 * @param value The value.
+	 * 
+	 * @return The spread bits.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long spread2(int value)
+	{
+		long v = value & 0xFFFFFFFFL;
+		
+		v = (v | (v << 16)) & 0x0000FFFF0000FFFFL;
+		v = (v | (v << 8)) & 0x00FF00FF00FF00FFL;
+		v = (v | (v << 4)) & 0x0F0F0F0F0F0F0F0FL;
+		v = (v | (v << 2)) & 0x3333333333333333L;
+		v = (v | (v << 1)) & 0x5555555555555555L;
+		
+		return v;
+	}
+	
+	/**
+	 * Collects every second bit of the value starting at the lowest bit. This is the inverse of {@link #spread2(int)}.
+	 * 
+	 * @param value The spread bits.
+	 * 
+	 * @return The collected value.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int compact2(long value)
+	{
+		long v = value & 0x5555555555555555L;
+		
+		v = (v | (v >>> 1)) & 0x3333333333333333L;
+		v = (v | (v >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+		v = (v | (v >>> 4)) & 0x00FF00FF00FF00FFL;
+		v = (v | (v >>> 8)) & 0x0000FFFF0000FFFFL;
+		v = (v | (v >>> 16)) & 0x00000000FFFFFFFFL;
+		
+		return (int)v;
+	}
+	
+	/**
+	 * Spreads the lower 21 bits of the value so that there are two zero bits between every two bits.
+	 * 
+	 * @param value The value.
+	 * 
+	 * @return The spread bits.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long spread3(int value)
+	{
+		long v = value & 0x1FFFFFL;
+		
+		v = (v | (v << 32)) & 0x1F00000000FFFFL;
+		v = (v | (v << 16)) & 0x1F0000FF0000FFL;
+		v = (v | (v << 8)) & 0x100F00F00F00F00FL;
+		v = (v | (v << 4)) & 0x10C30C30C30C30C3L;
+		v = (v | (v << 2)) & 0x1249249249249249L;
+		
+		return v;
+	}
+	
+	/**
+	 * Collects every third bit of the value starting at the lowest bit. This is the inverse of {@link #spread3(int)}.
+	 * 
+	 * @param value The spread bits.
+	 * 
+	 * @return The collected value.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int compact3(long value)
+	{
+		long v = value & 0x1249249249249249L;
+		
+		v = (v | (v >>> 2)) & 0x10C30C30C30C30C3L;
+		v = (v | (v >>> 4)) & 0x100F00F00F00F00FL;
+		v = (v | (v >>> 8)) & 0x1F0000FF0000FFL;
+		v = (v | (v >>> 16)) & 0x1F00000000FFFFL;
+		v = (v | (v >>> 32)) & 0x1FFFFFL;
+		
+		return (int)v;
+	}
+}
\ No newline at end of file
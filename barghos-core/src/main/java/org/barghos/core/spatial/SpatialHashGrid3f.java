@@ -0,0 +1,919 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.spatial;
+
+import java.nio.FloatBuffer;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+
+import org.barghos.core.api.tuple3.Tup3fR;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class represents a uniform grid spatial hash over 3-dimensional float points.
+ * 
+ * <p>
+ * The grid does not own the points. It indexes them by an integer index, that usually refers to the position of the point
+ * in an external storage like component arrays or a buffer. The grid keeps a copy of the position of every indexed point,
+ * so queries don't need access to the external storage.
+ * 
+ * <p>
+ * The points are sorted into cells of equal size. The cells are hashed into a fixed number of buckets,
+ * so the grid is unbounded. Every bucket is a doubly linked list stored in primitive arrays,
+ * so points can be inserted, removed and moved in constant time.
+ * Queries don't allocate and write the indices of the found points into a caller supplied array.
+ * 
+ * <p>
+ * This class is not thread-safe.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class SpatialHashGrid3f
+{
+	/**
+	 * The default number of buckets.
+	 */
+	public static final int DEFAULT_BUCKET_COUNT = 4096;
+	
+	/**
+	 * The number of points below which a bulk build is not split any further.
+	 */
+	private static final int PARALLEL_THRESHOLD = 8192;
+	
+	/**
+	 * Marks the end of a list or a point that is not in the grid.
+	 */
+	private static final int NONE = -1;
+	
+	/**
+	 * The edge length of a cell.
+	 */
+	private final float cellSize;
+	
+	/**
+	 * The reciprocal of the edge length of a cell.
+	 */
+	private final float invCellSize;
+	
+	/**
+	 * The first point per bucket.
+	 */
+	private final int[] head;
+	
+	/**
+	 * The mask to map a hash to a bucket.
+	 */
+	private final int mask;
+	
+	/**
+	 * The next point in the bucket per point.
+	 */
+	private int[] next = new int[0];
+	
+	/**
+	 * The previous point in the bucket per point.
+	 */
+	private int[] prev = new int[0];
+	
+	/**
+	 * The bucket per point or {@link #NONE} if the point is not in the grid.
+	 */
+	private int[] bucket = new int[0];
+	
+	/**
+	 * The cell x coordinate per point.
+	 */
+	private int[] cellX = new int[0];
+	
+	/**
+	 * The cell y coordinate per point.
+	 */
+	private int[] cellY = new int[0];
+	
+	/**
+	 * The cell z coordinate per point.
+	 */
+	private int[] cellZ = new int[0];
+	
+	/**
+	 * The x component of the position per point.
+	 */
+	private float[] posX = new float[0];
+	
+	/**
+	 * The y component of the position per point.
+	 */
+	private float[] posY = new float[0];
+	
+	/**
+	 * The z component of the position per point.
+	 */
+	private float[] posZ = new float[0];
+	
+	/**
+	 * The number of points in the grid.
+	 */
+	private int size;
+	
+	/**
+	 * Creates a new grid with the given cell size and {@link #DEFAULT_BUCKET_COUNT} buckets.
+	 * 
+	 * @param cellSize The edge length of a cell.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public SpatialHashGrid3f(float cellSize)
+	{
+		this(cellSize, DEFAULT_BUCKET_COUNT);
+	}
+	
+	/**
+	 * Creates a new grid with the given cell size and number of buckets.
+	 * The number of buckets is rounded up to the next power of two.
+	 * 
+	 * @param cellSize The edge length of a cell.
+	 * @param bucketCount The number of buckets.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public SpatialHashGrid3f(float cellSize, int bucketCount)
+	{
+		if(!(cellSize > 0.0f)) throw new IllegalArgumentException("cellSize");
+		if(bucketCount <= 0) throw new IllegalArgumentException("bucketCount");
+		
+		int buckets = Integer.highestOneBit(bucketCount);
+		if(buckets < bucketCount) buckets <<= 1;
+		
+		this.cellSize = cellSize;
+		this.invCellSize = 1.0f / cellSize;
+		this.head = new int[buckets];
+		this.mask = buckets - 1;
+		
+		Arrays.fill(this.head, NONE);
+	}
+	
+	/**
+	 * Returns the edge length of a cell.
+	 * 
+	 * @return The edge length of a cell.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float getCellSize()
+	{
+		return this.cellSize;
+	}
+	
+	/**
+	 * Returns the number of points in the grid.
+	 * 
+	 * @return The number of points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+	
+	/**
+	 * Returns true if the point with the index is in the grid.
+	 * 
+	 * @param index The index of the point.
+	 * 
+	 * @return True if the point is in the grid.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean contains(int index)
+	{
+		return index >= 0 && index < this.bucket.length && this.bucket[index] != NONE;
+	}
+	
+	/**
+	 * Ensures that points with indices up to capacity - 1 can be inserted without growing the internal arrays.
+	 * 
+	 * @param capacity The number of indices.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void ensureCapacity(int capacity)
+	{
+		int oldCapacity = this.bucket.length;
+		
+		if(capacity <= oldCapacity) return;
+		
+		int newCapacity = Math.max(capacity, oldCapacity + (oldCapacity >> 1));
+		
+		this.next = Arrays.copyOf(this.next, newCapacity);
+		this.prev = Arrays.copyOf(this.prev, newCapacity);
+		this.bucket = Arrays.copyOf(this.bucket, newCapacity);
+		this.cellX = Arrays.copyOf(this.cellX, newCapacity);
+		this.cellY = Arrays.copyOf(this.cellY, newCapacity);
+		this.cellZ = Arrays.copyOf(this.cellZ, newCapacity);
+		this.posX = Arrays.copyOf(this.posX, newCapacity);
+		this.posY = Arrays.copyOf(this.posY, newCapacity);
+		this.posZ = Arrays.copyOf(this.posZ, newCapacity);
+		
+		Arrays.fill(this.bucket, oldCapacity, newCapacity, NONE);
+	}
+	
+	/**
+	 * Inserts the point with the index at the position.
+	 * If the point is already in the grid it is moved.
+	 * 
+	 * @param index The index of the point.
+	 * @param p The position of the point.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void insert(int index, Tup3fR p)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(p == null) throw new ArgumentNullException("p");
+		}
+		
+		insert(index, p.getX(), p.getY(), p.getZ());
+	}
+	
+	/**
+	 * Inserts the point with the index at the position.
+	 * If the point is already in the grid it is moved.
+	 * 
+	 * @param index The index of the point.
+	 * @param x The x component of the position.
+	 * @param y The y component of the position.
+	 * @param z The z component of the position.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void insert(int index, float x, float y, float z)
+	{
+		if(index < 0) throw new IndexOutOfBoundsException(index);
+		
+		if(contains(index))
+		{
+			move(index, x, y, z);
+			return;
+		}
+		
+		ensureCapacity(index + 1);
+		
+		place(index, x, y, z);
+		link(index);
+		
+		this.size++;
+	}
+	
+	/**
+	 * Moves the point with the index to the new position.
+	 * The point is only relinked if it changed the bucket.
+	 * If the point is not in the grid it is inserted.
+	 * 
+	 * @param index The index of the point.
+	 * @param p The new position of the point.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void move(int index, Tup3fR p)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(p == null) throw new ArgumentNullException("p");
+		}
+		
+		move(index, p.getX(), p.getY(), p.getZ());
+	}
+	
+	/**
+	 * Moves the point with the index to the new position.
+	 * The point is only relinked if it changed the bucket.
+	 * If the point is not in the grid it is inserted.
+	 * 
+	 * @param index The index of the point.
+	 * @param x The x component of the new position.
+	 * @param y The y component of the new position.
+	 * @param z The z component of the new position.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void move(int index, float x, float y, float z)
+	{
+		if(!contains(index))
+		{
+			insert(index, x, y, z);
+			return;
+		}
+		
+		int oldBucket = this.bucket[index];
+		
+		place(index, x, y, z);
+		
+		if(this.bucket[index] != oldBucket)
+		{
+			int newBucket = this.bucket[index];
+			
+			this.bucket[index] = oldBucket;
+			unlink(index);
+			
+			this.bucket[index] = newBucket;
+			link(index);
+		}
+	}
+	
+	/**
+	 * Removes the point with the index from the grid.
+	 * 
+	 * @param index The index of the point.
+	 * 
+	 * @return True if the point was in the grid.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean remove(int index)
+	{
+		if(!contains(index)) return false;
+		
+		unlink(index);
+		
+		this.bucket[index] = NONE;
+		this.size--;
+		
+		return true;
+	}
+	
+	/**
+	 * Removes all points from the grid. The internal arrays are kept.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void clear()
+	{
+		Arrays.fill(this.head, NONE);
+		Arrays.fill(this.bucket, NONE);
+		
+		this.size = 0;
+	}
+	
+	/**
+	 * Replaces the content of the grid with the points from the component arrays.
+	 * The point at position i in the arrays gets the index i.
+	 * The cells of the points are computed in parallel in the common fork join pool.
+	 * 
+	 * @param x The x components of the points.
+	 * @param y The y components of the points.
+	 * @param z The z components of the points.
+	 * @param count The number of points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void build(float[] x, float[] y, float[] z, int count)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(x == null) throw new ArgumentNullException("x");
+			if(y == null) throw new ArgumentNullException("y");
+			if(z == null) throw new ArgumentNullException("z");
+		}
+		
+		clear();
+		ensureCapacity(count);
+		
+		new PlaceTask(this, x, y, z, null, 0, count).invoke();
+		
+		linkAll(count);
+	}
+	
+	/**
+	 * Replaces the content of the grid with the points from the buffer.
+	 * The buffer contains the points componentwise (p1.x, p1.y, p1.z, p2.x, ...) starting at its current position.
+	 * The point at position i in the buffer gets the index i. The position of the buffer is not changed.
+	 * The cells of the points are computed in parallel in the common fork join pool.
+	 * 
+	 * @param buffer The buffer containing the points.
+	 * @param count The number of points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void build(FloatBuffer buffer, int count)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+		}
+		
+		clear();
+		ensureCapacity(count);
+		
+		new PlaceTask(this, null, null, null, buffer.duplicate(), 0, count).invoke();
+		
+		linkAll(count);
+	}
+	
+	/**
+	 * Finds all points within the radius around the center.
+	 * The indices of the found points are written to result. If there are more points than result can hold,
+	 * the remaining points are counted but not written.
+	 * 
+	 * @param center The center of the query.
+	 * @param radius The radius of the query.
+	 * @param result The array receiving the indices of the found points.
+	 * 
+	 * @return The number of found points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int queryRadius(Tup3fR center, float radius, int[] result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(center == null) throw new ArgumentNullException("center");
+		}
+		
+		return queryRadius(center.getX(), center.getY(), center.getZ(), radius, result);
+	}
+	
+	/**
+	 * Finds all points within the radius around the center.
+	 * The indices of the found points are written to result. If there are more points than result can hold,
+	 * the remaining points are counted but not written.
+	 * 
+	 * @param x The x component of the center.
+	 * @param y The y component of the center.
+	 * @param z The z component of the center.
+	 * @param radius The radius of the query.
+	 * @param result The array receiving the indices of the found points.
+	 * 
+	 * @return The number of found points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int queryRadius(float x, float y, float z, float radius, int[] result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		if(!Float.isFinite(x)) throw new IllegalArgumentException("x");
+		if(!Float.isFinite(y)) throw new IllegalArgumentException("y");
+		if(!Float.isFinite(z)) throw new IllegalArgumentException("z");
+		if(!Float.isFinite(radius)) throw new IllegalArgumentException("radius");
+		
+		float radiusSq = radius * radius;
+		
+		int minX = cell(x - radius);
+		int minY = cell(y - radius);
+		int minZ = cell(z - radius);
+		int maxX = cell(x + radius);
+		int maxY = cell(y + radius);
+		int maxZ = cell(z + radius);
+		
+		if(exceedsCapacity(minX, minY, minZ, maxX, maxY, maxZ))
+			return scanRadius(x, y, z, radiusSq, result);
+		
+		int count = 0;
+		
+		for(long cz = minZ; cz <= maxZ; cz++)
+		for(long cy = minY; cy <= maxY; cy++)
+		for(long cx = minX; cx <= maxX; cx++)
+		{
+			int i = this.head[hash((int)cx, (int)cy, (int)cz)];
+			
+			while(i != NONE)
+			{
+				if(this.cellX[i] == cx && this.cellY[i] == cy && this.cellZ[i] == cz)
+				{
+					float dx = this.posX[i] - x;
+					float dy = this.posY[i] - y;
+					float dz = this.posZ[i] - z;
+					
+					if(dx * dx + dy * dy + dz * dz <= radiusSq)
+					{
+						if(count < result.length) result[count] = i;
+						count++;
+					}
+				}
+				
+				i = this.next[i];
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Finds all points within the axis aligned box.
+	 * The indices of the found points are written to result. If there are more points than result can hold,
+	 * the remaining points are counted but not written.
+	 * 
+	 * @param min The minimum corner of the box.
+	 * @param max The maximum corner of the box.
+	 * @param result The array receiving the indices of the found points.
+	 * 
+	 * @return The number of found points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int queryBox(Tup3fR min, Tup3fR max, int[] result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(min == null) throw new ArgumentNullException("min");
+			if(max == null) throw new ArgumentNullException("max");
+		}
+		
+		return queryBox(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ(), result);
+	}
+	
+	/**
+	 * Finds all points within the axis aligned box.
+	 * The indices of the found points are written to result. If there are more points than result can hold,
+	 * the remaining points are counted but not written.
+	 * 
+	 * @param minX The x component of the minimum corner of the box.
+	 * @param minY The y component of the minimum corner of the box.
+	 * @param minZ The z component of the minimum corner of the box.
+	 * @param maxX The x component of the maximum corner of the box.
+	 * @param maxY The y component of the maximum corner of the box.
+	 * @param maxZ The z component of the maximum corner of the box.
+	 * @param result The array receiving the indices of the found points.
+	 * 
+	 * @return The number of found points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int queryBox(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, int[] result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		if(!Float.isFinite(minX)) throw new IllegalArgumentException("minX");
+		if(!Float.isFinite(minY)) throw new IllegalArgumentException("minY");
+		if(!Float.isFinite(minZ)) throw new IllegalArgumentException("minZ");
+		if(!Float.isFinite(maxX)) throw new IllegalArgumentException("maxX");
+		if(!Float.isFinite(maxY)) throw new IllegalArgumentException("maxY");
+		if(!Float.isFinite(maxZ)) throw new IllegalArgumentException("maxZ");
+		
+		int minCX = cell(minX);
+		int minCY = cell(minY);
+		int minCZ = cell(minZ);
+		int maxCX = cell(maxX);
+		int maxCY = cell(maxY);
+		int maxCZ = cell(maxZ);
+		
+		if(exceedsCapacity(minCX, minCY, minCZ, maxCX, maxCY, maxCZ))
+			return scanBox(minX, minY, minZ, maxX, maxY, maxZ, result);
+		
+		int count = 0;
+		
+		for(long cz = minCZ; cz <= maxCZ; cz++)
+		for(long cy = minCY; cy <= maxCY; cy++)
+		for(long cx = minCX; cx <= maxCX; cx++)
+		{
+			int i = this.head[hash((int)cx, (int)cy, (int)cz)];
+			
+			while(i != NONE)
+			{
+				if(this.cellX[i] == cx && this.cellY[i] == cy && this.cellZ[i] == cz)
+				{
+					float px = this.posX[i];
+					float py = this.posY[i];
+					float pz = this.posZ[i];
+					
+					if(px >= minX && px <= maxX && py >= minY && py <= maxY && pz >= minZ && pz <= maxZ)
+					{
+						if(count < result.length) result[count] = i;
+						count++;
+					}
+				}
+				
+				i = this.next[i];
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Returns true if the cell range of a query contains more cells than the grid has slots for points.
+	 * Scanning all points is cheaper then and the loops over the cells can't run into huge or saturated ranges.
+	 * 
+	 * @param minX The minimum cell x coordinate.
+	 * @param minY The minimum cell y coordinate.
+	 * @param minZ The minimum cell z coordinate.
+	 * @param maxX The maximum cell x coordinate.
+	 * @param maxY The maximum cell y coordinate.
+	 * @param maxZ The maximum cell z coordinate.
+	 * 
+	 * @return True if the points should be scanned instead of the cells.
+	 */
+	private boolean exceedsCapacity(int minX, int minY, int minZ, int maxX, int maxY, int maxZ)
+	{
+		long spanX = (long)maxX - minX + 1;
+		long spanY = (long)maxY - minY + 1;
+		long spanZ = (long)maxZ - minZ + 1;
+		
+		if(spanX <= 0 || spanY <= 0 || spanZ <= 0) return false;
+		
+		return (double)spanX * spanY * spanZ > this.bucket.length;
+	}
+	
+	/**
+	 * Finds all points within the radius around the center by scanning all points instead of the cells.
+	 * 
+	 * @param x The x component of the center.
+	 * @param y The y component of the center.
+	 * @param z The z component of the center.
+	 * @param radiusSq The squared radius of the query.
+	 * @param result The array receiving the indices of the found points.
+	 * 
+	 * @return The number of found points.
+	 */
+	private int scanRadius(float x, float y, float z, float radiusSq, int[] result)
+	{
+		int count = 0;
+		
+		for(int i = 0; i < this.bucket.length; i++)
+		{
+			if(this.bucket[i] == NONE) continue;
+			
+			float dx = this.posX[i] - x;
+			float dy = this.posY[i] - y;
+			float dz = this.posZ[i] - z;
+			
+			if(dx * dx + dy * dy + dz * dz <= radiusSq)
+			{
+				if(count < result.length) result[count] = i;
+				count++;
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Finds all points within the axis aligned box by scanning all points instead of the cells.
+	 * 
+	 * @param minX The x component of the minimum corner of the box.
+	 * @param minY The y component of the minimum corner of the box.
+	 * @param minZ The z component of the minimum corner of the box.
+	 * @param maxX The x component of the maximum corner of the box.
+	 * @param maxY The y component of the maximum corner of the box.
+	 * @param maxZ The z component of the maximum corner of the box.
+	 * @param result The array receiving the indices of the found points.
+	 * 
+	 * @return The number of found points.
+	 */
+	private int scanBox(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, int[] result)
+	{
+		int count = 0;
+		
+		for(int i = 0; i < this.bucket.length; i++)
+		{
+			if(this.bucket[i] == NONE) continue;
+			
+			float px = this.posX[i];
+			float py = this.posY[i];
+			float pz = this.posZ[i];
+			
+			if(px >= minX && px <= maxX && py >= minY && py <= maxY && pz >= minZ && pz <= maxZ)
+			{
+				if(count < result.length) result[count] = i;
+				count++;
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Stores the position, the cell and the bucket of the point without linking it.
+	 * 
+	 * @param index The index of the point.
+	 * @param x The x component of the position.
+	 * @param y The y component of the position.
+	 * @param z The z component of the position.
+	 */
+	private void place(int index, float x, float y, float z)
+	{
+		int cx = cell(x);
+		int cy = cell(y);
+		int cz = cell(z);
+		
+		this.posX[index] = x;
+		this.posY[index] = y;
+		this.posZ[index] = z;
+		this.cellX[index] = cx;
+		this.cellY[index] = cy;
+		this.cellZ[index] = cz;
+		this.bucket[index] = hash(cx, cy, cz);
+	}
+	
+	/**
+	 * Links the point at the front of its bucket.
+	 * 
+	 * @param index The index of the point.
+	 */
+	private void link(int index)
+	{
+		int b = this.bucket[index];
+		int first = this.head[b];
+		
+		this.prev[index] = NONE;
+		this.next[index] = first;
+		
+		if(first != NONE) this.prev[first] = index;
+		
+		this.head[b] = index;
+	}
+	
+	/**
+	 * Unlinks the point from its bucket.
+	 * 
+	 * @param index The index of the point.
+	 */
+	private void unlink(int index)
+	{
+		int p = this.prev[index];
+		int n = this.next[index];
+		
+		if(p != NONE) this.next[p] = n;
+		else this.head[this.bucket[index]] = n;
+		
+		if(n != NONE) this.prev[n] = p;
+	}
+	
+	/**
+	 * Links the first count points after they were placed by a bulk build.
+	 * 
+	 * @param count The number of points.
+	 */
+	private void linkAll(int count)
+	{
+		for(int i = 0; i < count; i++)
+			link(i);
+		
+		this.size = count;
+	}
+	
+	/**
+	 * Returns the cell coordinate for a position component.
+	 * 
+	 * @param value The position component.
+	 * 
+	 * @return The cell coordinate.
+	 */
+	private int cell(float value)
+	{
+		return (int)Math.floor(value * this.invCellSize);
+	}
+	
+	/**
+	 * Returns the bucket for a cell.
+	 * 
+	 * @param cx The cell x coordinate.
+	 * @param cy The cell y coordinate.
+	 * @param cz The cell z coordinate.
+	 * 
+	 * @return The bucket of the cell.
+	 */
+	private int hash(int cx, int cy, int cz)
+	{
+		return ((cx * 73856093) ^ (cy * 19349663) ^ (cz * 83492791)) & this.mask;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "spatialhashgrid3f(cellSize=" + this.cellSize + ", buckets=" + this.head.length + ", size=" + this.size + ")";
+	}
+	
+	/**
+	 * This task places a range of points of a bulk build in parallel.
+	 * The points are either read from component arrays or from an interleaved buffer.
+	 */
+	private static class PlaceTask extends RecursiveAction
+	{
+		/**
+		 * The class version for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The grid the points are placed in.
+		 */
+		private final SpatialHashGrid3f grid;
+		
+		/**
+		 * The x components or null if the buffer is used.
+		 */
+		private final float[] x;
+		
+		/**
+		 * The y components or null if the buffer is used.
+		 */
+		private final float[] y;
+		
+		/**
+		 * The z components or null if the buffer is used.
+		 */
+		private final float[] z;
+		
+		/**
+		 * The interleaved points or null if the arrays are used.
+		 */
+		private final FloatBuffer buffer;
+		
+		/**
+		 * The first point of the range.
+		 */
+		private final int from;
+		
+		/**
+		 * The end of the range (exclusive).
+		 */
+		private final int to;
+		
+		/**
+		 * Creates a new task for the range.
+		 * 
+		 * @param grid The grid the points are placed in.
+		 * @param x The x components or null.
+		 * @param y The y components or null.
+		 * @param z The z components or null.
+		 * @param buffer The interleaved points or null.
+		 * @param from The first point of the range.
+		 * @param to The end of the range (exclusive).
+		 */
+		PlaceTask(SpatialHashGrid3f grid, float[] x, float[] y, float[] z, FloatBuffer buffer, int from, int to)
+		{
+			this.grid = grid;
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.buffer = buffer;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute()
+		{
+			if(this.to - this.from > PARALLEL_THRESHOLD)
+			{
+				int mid = (this.from + this.to) >>> 1;
+				
+				invokeAll(new PlaceTask(this.grid, this.x, this.y, this.z, this.buffer, this.from, mid),
+						new PlaceTask(this.grid, this.x, this.y, this.z, this.buffer, mid, this.to));
+				
+				return;
+			}
+			
+			if(this.buffer != null)
+			{
+				int base = this.buffer.position();
+				
+				for(int i = this.from; i < this.to; i++)
+				{
+					int j = base + i * 3;
+					
+					this.grid.place(i, this.buffer.get(j), this.buffer.get(j + 1), this.buffer.get(j + 2));
+				}
+			}
+			else
+			{
+				for(int i = this.from; i < this.to; i++)
+					this.grid.place(i, this.x[i], this.y[i], this.z[i]);
+			}
+		}
+	}
+}
\ No newline at end of file
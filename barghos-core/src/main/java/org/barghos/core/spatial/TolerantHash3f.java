@@ -0,0 +1,555 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.spatial;
+
+import java.util.Arrays;
+
+import org.barghos.core.api.tuple3.Tup3fR;
+import org.barghos.core.api.tuple3.Tup3fW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class represents a set of 3-dimensional float points, that treats points within a tolerance as equal.
+ * 
+ * <p>
+ * Unlike {@link org.barghos.core.tuple3.Tup3f#equals(Object)} two points are considered equal,
+ * if their euclidean distance is at most epsilon. The points are quantized into cells with a size of twice epsilon.
+ * All points within epsilon of a point are either in the same cell or in the neighbour cell towards the closer
+ * cell border on every axis, so a lookup only has to probe 8 cells.
+ * 
+ * <p>
+ * The points get consecutive indices in the order they were added. If multiple stored points are within epsilon
+ * of a looked up point, the one with the lowest index is returned. This makes the result only depend on the insertion order.
+ * The class is not thread-safe.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class TolerantHash3f
+{
+	/**
+	 * The tolerance.
+	 */
+	private final float epsilon;
+	
+	/**
+	 * The squared tolerance.
+	 */
+	private final float epsilonSq;
+	
+	/**
+	 * The inverse size of a cell.
+	 */
+	private final float inverseCellSize;
+	
+	/**
+	 * The first point of every bucket or -1.
+	 */
+	private int[] head;
+	
+	/**
+	 * The mask to map a hash to a bucket.
+	 */
+	private int mask;
+	
+	/**
+	 * The next point in the same bucket or -1.
+	 */
+	private int[] next;
+	
+	/**
+	 * The x components of the points.
+	 */
+	private float[] x;
+	
+	/**
+	 * The y components of the points.
+	 */
+	private float[] y;
+	
+	/**
+	 * The z components of the points.
+	 */
+	private float[] z;
+	
+	/**
+	 * The number of points.
+	 */
+	private int size;
+	
+	/**
+	 * Creates a new instance with the tolerance and a default capacity.
+	 * 
+	 * @param epsilon The maximum distance of points considered equal.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public TolerantHash3f(float epsilon)
+	{
+		this(epsilon, 1024);
+	}
+	
+	/**
+	 * Creates a new instance with the tolerance and the capacity. The set grows automatically.
+	 * 
+	 * @param epsilon The maximum distance of points considered equal. Has to be greater than 0.
+	 * @param capacity The initial number of points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public TolerantHash3f(float epsilon, int capacity)
+	{
+		if(!(epsilon > 0.0f)) throw new IllegalArgumentException("epsilon must be greater than 0: " + epsilon);
+		
+		this.epsilon = epsilon;
+		this.epsilonSq = epsilon * epsilon;
+		this.inverseCellSize = 0.5f / epsilon;
+		
+		capacity = Math.max(16, capacity);
+		
+		this.next = new int[capacity];
+		this.x = new float[capacity];
+		this.y = new float[capacity];
+		this.z = new float[capacity];
+		
+		allocateBuckets(capacity);
+	}
+	
+	/**
+	 * Returns the index of the stored point with the lowest index within epsilon of the point or -1.
+	 * 
+	 * @param t The point to look up.
+	 * 
+	 * @return The index of the equal point or -1.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int find(Tup3fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return find(t.getX(), t.getY(), t.getZ());
+	}
+	
+	/**
+	 * Returns the index of the stored point with the lowest index within epsilon of the point or -1.
+	 * 
+	 * @param x The x component of the point to look up.
+	 * @param y The y component of the point to look up.
+	 * @param z The z component of the point to look up.
+	 * 
+	 * @return The index of the equal point or -1.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int find(float x, float y, float z)
+	{
+		float sx = x * this.inverseCellSize;
+		float sy = y * this.inverseCellSize;
+		float sz = z * this.inverseCellSize;
+		
+		int cx = cell(sx);
+		int cy = cell(sy);
+		int cz = cell(sz);
+		
+		return find(x, y, z, cx, cy, cz, directions(sx, sy, sz, cx, cy, cz));
+	}
+	
+	/**
+	 * Adds the point without looking for equal points.
+	 * 
+	 * @param t The point to add.
+	 * 
+	 * @return The index of the added point.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int add(Tup3fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return add(t.getX(), t.getY(), t.getZ());
+	}
+	
+	/**
+	 * Adds the point without looking for equal points.
+	 * 
+	 * @param x The x component of the point to add.
+	 * @param y The y component of the point to add.
+	 * @param z The z component of the point to add.
+	 * 
+	 * @return The index of the added point.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int add(float x, float y, float z)
+	{
+		return add(x, y, z, cell(x * this.inverseCellSize), cell(y * this.inverseCellSize), cell(z * this.inverseCellSize));
+	}
+	
+	/**
+	 * Returns the index of the stored point with the lowest index within epsilon of the point.
+	 * If there is no such point, the point is added.
+	 * 
+	 * @param t The point to look up.
+	 * 
+	 * @return The index of the equal point or the index of the added point.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int findOrAdd(Tup3fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return findOrAdd(t.getX(), t.getY(), t.getZ());
+	}
+	
+	/**
+	 * Returns the index of the stored point with the lowest index within epsilon of the point.
+	 * If there is no such point, the point is added.
+	 * 
+	 * @param x The x component of the point to look up.
+	 * @param y The y component of the point to look up.
+	 * @param z The z component of the point to look up.
+	 * 
+	 * @return The index of the equal point or the index of the added point.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int findOrAdd(float x, float y, float z)
+	{
+		float sx = x * this.inverseCellSize;
+		float sy = y * this.inverseCellSize;
+		float sz = z * this.inverseCellSize;
+		
+		int cx = cell(sx);
+		int cy = cell(sy);
+		int cz = cell(sz);
+		
+		return findOrAdd(x, y, z, cx, cy, cz, directions(sx, sy, sz, cx, cy, cz));
+	}
+	
+	/**
+	 * Returns the number of stored points.
+	 * 
+	 * @return The number of points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+	
+	/**
+	 * Returns the tolerance.
+	 * 
+	 * @return The maximum distance of points considered equal.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float getEpsilon()
+	{
+		return this.epsilon;
+	}
+	
+	/**
+	 * Returns the x component of the stored point.
+	 * 
+	 * @param index The index of the point.
+	 * 
+	 * @return The x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float getX(int index)
+	{
+		return this.x[index];
+	}
+	
+	/**
+	 * Returns the y component of the stored point.
+	 * 
+	 * @param index The index of the point.
+	 * 
+	 * @return The y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float getY(int index)
+	{
+		return this.y[index];
+	}
+	
+	/**
+	 * Returns the z component of the stored point.
+	 * 
+	 * @param index The index of the point.
+	 * 
+	 * @return The z component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float getZ(int index)
+	{
+		return this.z[index];
+	}
+	
+	/**
+	 * Writes the components of the stored point to result.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param index The index of the point.
+	 * @param result The tuple receiving the components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <T extends Tup3fW> T get(int index, T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		result.set(this.x[index], this.y[index], this.z[index]);
+		
+		return result;
+	}
+	
+	/**
+	 * Removes all points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void clear()
+	{
+		Arrays.fill(this.head, -1);
+		
+		this.size = 0;
+	}
+	
+	/**
+	 * Returns the cell coordinate of a component already scaled by the inverse cell size.
+	 * 
+	 * @param scaled The scaled component.
+	 * 
+	 * @return The cell coordinate.
+	 */
+	static int cell(float scaled)
+	{
+		return (int)Math.floor(scaled);
+	}
+	
+	/**
+	 * Returns the probe directions of a point. For every axis the bit is set,
+	 * if the closer neighbour cell is the one with the higher coordinate.
+	 * 
+	 * @param sx The x component scaled by the inverse cell size.
+	 * @param sy The y component scaled by the inverse cell size.
+	 * @param sz The z component scaled by the inverse cell size.
+	 * @param cx The cell x coordinate.
+	 * @param cy The cell y coordinate.
+	 * @param cz The cell z coordinate.
+	 * 
+	 * @return The probe directions.
+	 */
+	static int directions(float sx, float sy, float sz, int cx, int cy, int cz)
+	{
+		return (sx - cx >= 0.5f ? 1 : 0) | (sy - cy >= 0.5f ? 2 : 0) | (sz - cz >= 0.5f ? 4 : 0);
+	}
+	
+	/**
+	 * Returns the inverse size of a cell.
+	 * 
+	 * @return The inverse cell size.
+	 */
+	float getInverseCellSize()
+	{
+		return this.inverseCellSize;
+	}
+	
+	/**
+	 * Looks up the point with precalculated cell and probe directions and adds it, if there is no equal point.
+	 * 
+	 * @param x The x component of the point.
+	 * @param y The y component of the point.
+	 * @param z The z component of the point.
+	 * @param cx The cell x coordinate.
+	 * @param cy The cell y coordinate.
+	 * @param cz The cell z coordinate.
+	 * @param directions The probe directions.
+	 * 
+	 * @return The index of the equal point or the index of the added point.
+	 */
+	int findOrAdd(float x, float y, float z, int cx, int cy, int cz, int directions)
+	{
+		int index = find(x, y, z, cx, cy, cz, directions);
+		
+		if(index >= 0) return index;
+		
+		return add(x, y, z, cx, cy, cz);
+	}
+	
+	/**
+	 * Looks up the point with precalculated cell and probe directions.
+	 * 
+	 * @param x The x component of the point.
+	 * @param y The y component of the point.
+	 * @param z The z component of the point.
+	 * @param cx The cell x coordinate.
+	 * @param cy The cell y coordinate.
+	 * @param cz The cell z coordinate.
+	 * @param directions The probe directions.
+	 * 
+	 * @return The index of the equal point or -1.
+	 */
+	private int find(float x, float y, float z, int cx, int cy, int cz, int directions)
+	{
+		int nx = (directions & 1) != 0 ? cx + 1 : cx - 1;
+		int ny = (directions & 2) != 0 ? cy + 1 : cy - 1;
+		int nz = (directions & 4) != 0 ? cz + 1 : cz - 1;
+		
+		int result = Integer.MAX_VALUE;
+		
+		for(int k = 0; k < 8; k++)
+		{
+			int i = this.head[hash((k & 1) == 0 ? cx : nx, (k & 2) == 0 ? cy : ny, (k & 4) == 0 ? cz : nz)];
+			
+			while(i >= 0)
+			{
+				if(i < result)
+				{
+					float dx = this.x[i] - x;
+					float dy = this.y[i] - y;
+					float dz = this.z[i] - z;
+					
+					if(dx * dx + dy * dy + dz * dz <= this.epsilonSq) result = i;
+				}
+				
+				i = this.next[i];
+			}
+		}
+		
+		return result == Integer.MAX_VALUE ? -1 : result;
+	}
+	
+	/**
+	 * Adds the point with a precalculated cell.
+	 * 
+	 * @param x The x component of the point.
+	 * @param y The y component of the point.
+	 * @param z The z component of the point.
+	 * @param cx The cell x coordinate.
+	 * @param cy The cell y coordinate.
+	 * @param cz The cell z coordinate.
+	 * 
+	 * @return The index of the added point.
+	 */
+	private int add(float x, float y, float z, int cx, int cy, int cz)
+	{
+		if(this.size == this.next.length) grow();
+		
+		int index = this.size++;
+		int bucket = hash(cx, cy, cz);
+		
+		this.x[index] = x;
+		this.y[index] = y;
+		this.z[index] = z;
+		this.next[index] = this.head[bucket];
+		this.head[bucket] = index;
+		
+		return index;
+	}
+	
+	/**
+	 * Doubles the capacity and rebuilds the buckets.
+	 */
+	private void grow()
+	{
+		int capacity = this.next.length * 2;
+		
+		this.next = new int[capacity];
+		this.x = Arrays.copyOf(this.x, capacity);
+		this.y = Arrays.copyOf(this.y, capacity);
+		this.z = Arrays.copyOf(this.z, capacity);
+		
+		allocateBuckets(capacity);
+		
+		for(int i = 0; i < this.size; i++)
+		{
+			int bucket = hash(cell(this.x[i] * this.inverseCellSize), cell(this.y[i] * this.inverseCellSize), cell(this.z[i] * this.inverseCellSize));
+			
+			this.next[i] = this.head[bucket];
+			this.head[bucket] = i;
+		}
+	}
+	
+	/**
+	 * Allocates empty buckets for the capacity.
+	 * 
+	 * @param capacity The number of points.
+	 */
+	private void allocateBuckets(int capacity)
+	{
+		int buckets = Integer.highestOneBit(capacity * 2 - 1) << 1;
+		
+		this.head = new int[buckets];
+		this.mask = buckets - 1;
+		
+		Arrays.fill(this.head, -1);
+	}
+	
+	/**
+	 * Returns the bucket for a cell.
+	 * 
+	 * @param cx The cell x coordinate.
+	 * @param cy The cell y coordinate.
+	 * @param cz The cell z coordinate.
+	 * 
+	 * @return The bucket of the cell.
+	 */
+	private int hash(int cx, int cy, int cz)
+	{
+		return ((cx * 73856093) ^ (cy * 19349663) ^ (cz * 83492791)) & this.mask;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "toleranthash3f(epsilon=" + this.epsilon + ", size=" + this.size + ")";
+	}
+}
@@ -0,0 +1,319 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.spatial;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import java.util.concurrent.RecursiveAction;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class provides bulk welding of 3-dimensional float vertices.
+ * 
+ * <p>
+ * Welding merges all vertices within a tolerance into one vertex using a {@link TolerantHash3f}.
+ * The result is a compacted list of unique vertices and a remap table, that maps every input vertex
+ * to the index of its unique vertex. Every unique vertex is the first vertex of its group in input order,
+ * so the result is deterministic.
+ * 
+ * <p>
+ * Quantizing the vertices into cells is done in parallel for large inputs. The lookups have to run in input order
+ * to stay deterministic and only consist of a few hash probes per vertex.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class VertexWelder
+{
+	/**
+	 * The number of vertices below which the quantization is not split any further.
+	 */
+	private static final int PARALLEL_THRESHOLD = 8192;
+	
+	private VertexWelder() { }
+	
+	/**
+	 * Welds the vertices in the component arrays.
+	 * 
+	 * @param x The x components of the vertices.
+	 * @param y The y components of the vertices.
+	 * @param z The z components of the vertices.
+	 * @param count The number of vertices.
+	 * @param epsilon The maximum distance of vertices that are merged.
+	 * @param outX The array receiving the x components of the unique vertices. Needs space for count vertices.
+	 * @param outY The array receiving the y components of the unique vertices. Needs space for count vertices.
+	 * @param outZ The array receiving the z components of the unique vertices. Needs space for count vertices.
+	 * @param remap The array receiving the index of the unique vertex for every input vertex.
+	 * 
+	 * @return The number of unique vertices.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int weld(float[] x, float[] y, float[] z, int count, float epsilon, float[] outX, float[] outY, float[] outZ, int[] remap)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(x == null) throw new ArgumentNullException("x");
+			if(y == null) throw new ArgumentNullException("y");
+			if(z == null) throw new ArgumentNullException("z");
+			if(outX == null) throw new ArgumentNullException("outX");
+			if(outY == null) throw new ArgumentNullException("outY");
+			if(outZ == null) throw new ArgumentNullException("outZ");
+			if(remap == null) throw new ArgumentNullException("remap");
+		}
+		
+		TolerantHash3f hash = weld(x, y, z, null, count, epsilon, remap);
+		
+		int unique = hash.size();
+		
+		for(int i = 0; i < unique; i++)
+		{
+			outX[i] = hash.getX(i);
+			outY[i] = hash.getY(i);
+			outZ[i] = hash.getZ(i);
+		}
+		
+		return unique;
+	}
+	
+	/**
+	 * Welds the interleaved vertices (v1.x, v1.y, v1.z, v2.x, ...) in the buffer starting at its position.
+	 * The position of the source buffer is not changed. The unique vertices are put into the destination buffer
+	 * and the remap table into the remap buffer at their current positions, which are advanced.
+	 * 
+	 * @param src The buffer containing the vertices.
+	 * @param count The number of vertices.
+	 * @param epsilon The maximum distance of vertices that are merged.
+	 * @param dst The buffer receiving the interleaved unique vertices.
+	 * @param remap The buffer receiving the index of the unique vertex for every input vertex.
+	 * 
+	 * @return The number of unique vertices.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int weld(FloatBuffer src, int count, float epsilon, FloatBuffer dst, IntBuffer remap)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(src == null) throw new ArgumentNullException("src");
+			if(dst == null) throw new ArgumentNullException("dst");
+			if(remap == null) throw new ArgumentNullException("remap");
+		}
+		
+		int[] table = new int[count];
+		
+		TolerantHash3f hash = weld(null, null, null, src, count, epsilon, table);
+		
+		int unique = hash.size();
+		
+		for(int i = 0; i < unique; i++)
+		{
+			dst.put(hash.getX(i));
+			dst.put(hash.getY(i));
+			dst.put(hash.getZ(i));
+		}
+		
+		remap.put(table, 0, count);
+		
+		return unique;
+	}
+	
+	/**
+	 * Quantizes the vertices and welds them in input order.
+	 * 
+	 * @param x The x components or null if the buffer is used.
+	 * @param y The y components or null if the buffer is used.
+	 * @param z The z components or null if the buffer is used.
+	 * @param buffer The interleaved vertices or null if the arrays are used.
+	 * @param count The number of vertices.
+	 * @param epsilon The maximum distance of vertices that are merged.
+	 * @param remap The array receiving the index of the unique vertex for every input vertex.
+	 * 
+	 * @return The hash containing the unique vertices.
+	 */
+	private static TolerantHash3f weld(float[] x, float[] y, float[] z, FloatBuffer buffer, int count, float epsilon, int[] remap)
+	{
+		TolerantHash3f hash = new TolerantHash3f(epsilon, Math.max(16, count >>> 2));
+		
+		int[] cells = new int[count * 4];
+		
+		QuantizeTask task = new QuantizeTask(x, y, z, buffer, hash.getInverseCellSize(), cells, 0, count);
+		
+		if(count > PARALLEL_THRESHOLD) task.invoke();
+		else task.compute();
+		
+		int base = buffer != null ? buffer.position() : 0;
+		
+		for(int i = 0; i < count; i++)
+		{
+			float vx, vy, vz;
+			
+			if(buffer != null)
+			{
+				int j = base + i * 3;
+				
+				vx = buffer.get(j);
+				vy = buffer.get(j + 1);
+				vz = buffer.get(j + 2);
+			}
+			else
+			{
+				vx = x[i];
+				vy = y[i];
+				vz = z[i];
+			}
+			
+			int c = i << 2;
+			
+			remap[i] = hash.findOrAdd(vx, vy, vz, cells[c], cells[c + 1], cells[c + 2], cells[c + 3]);
+		}
+		
+		return hash;
+	}
+	
+	/**
+	 * This task calculates the cells and probe directions of a range of vertices in parallel.
+	 */
+	private static class QuantizeTask extends RecursiveAction
+	{
+		/**
+		 * The class version for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The x components or null if the buffer is used.
+		 */
+		private final float[] x;
+		
+		/**
+		 * The y components or null if the buffer is used.
+		 */
+		private final float[] y;
+		
+		/**
+		 * The z components or null if the buffer is used.
+		 */
+		private final float[] z;
+		
+		/**
+		 * The interleaved vertices or null if the arrays are used.
+		 */
+		private final FloatBuffer buffer;
+		
+		/**
+		 * The inverse size of a cell.
+		 */
+		private final float inverseCellSize;
+		
+		/**
+		 * The cell coordinates and probe directions, four values per vertex.
+		 */
+		private final int[] cells;
+		
+		/**
+		 * The first vertex of the range.
+		 */
+		private final int from;
+		
+		/**
+		 * The end of the range (exclusive).
+		 */
+		private final int to;
+		
+		/**
+		 * Creates a new task for the range.
+		 * 
+		 * @param x The x components or null.
+		 * @param y The y components or null.
+		 * @param z The z components or null.
+		 * @param buffer The interleaved vertices or null.
+		 * @param inverseCellSize The inverse size of a cell.
+		 * @param cells The cell coordinates and probe directions, four values per vertex.
+		 * @param from The first vertex of the range.
+		 * @param to The end of the range (exclusive).
+		 */
+		QuantizeTask(float[] x, float[] y, float[] z, FloatBuffer buffer, float inverseCellSize, int[] cells, int from, int to)
+		{
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.buffer = buffer;
+			this.inverseCellSize = inverseCellSize;
+			this.cells = cells;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute()
+		{
+			if(this.to - this.from > PARALLEL_THRESHOLD)
+			{
+				int mid = (this.from + this.to) >>> 1;
+				
+				invokeAll(new QuantizeTask(this.x, this.y, this.z, this.buffer, this.inverseCellSize, this.cells, this.from, mid),
+						new QuantizeTask(this.x, this.y, this.z, this.buffer, this.inverseCellSize, this.cells, mid, this.to));
+				
+				return;
+			}
+			
+			int base = this.buffer != null ? this.buffer.position() : 0;
+			
+			for(int i = this.from; i < this.to; i++)
+			{
+				float sx, sy, sz;
+				
+				if(this.buffer != null)
+				{
+					int j = base + i * 3;
+					
+					sx = this.buffer.get(j) * this.inverseCellSize;
+					sy = this.buffer.get(j + 1) * this.inverseCellSize;
+					sz = this.buffer.get(j + 2) * this.inverseCellSize;
+				}
+				else
+				{
+					sx = this.x[i] * this.inverseCellSize;
+					sy = this.y[i] * this.inverseCellSize;
+					sz = this.z[i] * this.inverseCellSize;
+				}
+				
+				int cx = TolerantHash3f.cell(sx);
+				int cy = TolerantHash3f.cell(sy);
+				int cz = TolerantHash3f.cell(sz);
+				
+				int c = i << 2;
+				
+				this.cells[c] = cx;
+				this.cells[c + 1] = cy;
+				this.cells[c + 2] = cz;
+				this.cells[c + 3] = TolerantHash3f.directions(sx, sy, sz, cx, cy, cz);
+			}
+		}
+	}
+}
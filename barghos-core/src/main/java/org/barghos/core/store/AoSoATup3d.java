@@ -0,0 +1,828 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.store;
+
+import java.util.Arrays;
+
+import org.barghos.core.api.tuple3.Tup3dR;
+import org.barghos.core.api.tuple3.Tup3dRW;
+import org.barghos.core.api.tuple3.Tup3dW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class represents a growable container of 3-dimensional double tuples in an array of structures of arrays layout.
+ * 
+ * <p>
+ * The tuples are grouped into blocks of {@link #LANES} tuples. Within a block the components are stored as separate
+ * runs of {@link #LANES} values (x...x, y...y, z...z), and the blocks are stored one after another in a single array.
+ * All components of a tuple are therefore close together, which keeps random access to single tuples cache friendly,
+ * while the bulk kernels work on contiguous runs of a single component, which the JIT can vectorize.
+ * 
+ * <p>
+ * The bulk kernels process whole blocks. The unused lanes of the last block hold unspecified values.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class AoSoATup3d
+{
+	/**
+	 * The number of tuples per block.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static final int LANES = 8;
+	
+	/**
+	 * The binary logarithm of {@link #LANES}.
+	 */
+	private static final int LANE_SHIFT = 3;
+	
+	/**
+	 * The mask to get the lane of a tuple within its block.
+	 */
+	private static final int LANE_MASK = LANES - 1;
+	
+	/**
+	 * The number of values per block.
+	 */
+	private static final int BLOCK_SIZE = LANES * 3;
+	
+	/**
+	 * The blocks of the tuples.
+	 */
+	private double[] data;
+	
+	/**
+	 * The number of tuples.
+	 */
+	private int size;
+	
+	/**
+	 * Creates a new empty instance.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AoSoATup3d()
+	{
+		this(LANES);
+	}
+	
+	/**
+	 * Creates a new empty instance, that can hold the given number of tuples without growing.
+	 * 
+	 * @param capacity The initial capacity in tuples.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AoSoATup3d(int capacity)
+	{
+		if(capacity < 0) throw new IllegalArgumentException("capacity");
+		
+		this.data = new double[blocks(capacity) * BLOCK_SIZE];
+	}
+	
+	/**
+	 * Returns the number of tuples.
+	 * 
+	 * @return The number of tuples.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+	
+	/**
+	 * Returns the number of tuples the container can hold without growing.
+	 * 
+	 * @return The capacity in tuples.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int capacity()
+	{
+		return this.data.length / BLOCK_SIZE * LANES;
+	}
+	
+	/**
+	 * Returns the number of used blocks.
+	 * 
+	 * @return The number of used blocks.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int blockCount()
+	{
+		return blocks(this.size);
+	}
+	
+	/**
+	 * Returns the backing array. The value of the component c of the tuple i is stored at the index
+	 * {@code (i / LANES) * LANES * 3 + c * LANES + i % LANES}. The array is replaced, if the container grows.
+	 * 
+	 * @return The backing array.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public double[] getData()
+	{
+		return this.data;
+	}
+	
+	/**
+	 * Ensures, that the container can hold the given number of tuples without growing.
+	 * 
+	 * @param capacity The minimum capacity in tuples.
+	 * 
+	 * @return The current container.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AoSoATup3d ensureCapacity(int capacity)
+	{
+		if(capacity > capacity())
+		{
+			int blocks = Math.max(blocks(capacity), this.data.length / BLOCK_SIZE * 2);
+			
+			this.data = Arrays.copyOf(this.data, blocks * BLOCK_SIZE);
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Appends a tuple.
+	 * 
+	 * @param x The x component.
+	 * @param y The y component.
+	 * @param z The z component.
+	 * 
+	 * @return The index of the appended tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int append(double x, double y, double z)
+	{
+		ensureCapacity(this.size + 1);
+		
+		int index = this.size++;
+		
+		set(index, x, y, z);
+		
+		return index;
+	}
+	
+	/**
+	 * Appends a tuple.
+	 * 
+	 * @param t The tuple to append.
+	 * 
+	 * @return The index of the appended tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int append(Tup3dR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return append(t.getX(), t.getY(), t.getZ());
+	}
+	
+	/**
+	 * Appends the tuples stored interleaved in the array v from the tuple index from (inclusive) to the tuple index to (exclusive).
+	 * 
+	 * @param v The array containing the interleaved components.
+	 * @param from The index of the first tuple (inclusive).
+	 * @param to The index after the last tuple (exclusive).
+	 * 
+	 * @return The current container.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AoSoATup3d append(double[] v, int from, int to)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+		}
+		
+		ensureCapacity(this.size + (to - from));
+		
+		for(int i = from * 3, end = to * 3; i < end; i += 3)
+		{
+			set(this.size++, v[i], v[i + 1], v[i + 2]);
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Writes the tuples interleaved to the array v beginning at the index offset.
+	 * 
+	 * @param v The array receiving the interleaved components.
+	 * @param offset The index of the first component in v.
+	 * 
+	 * @return The array v.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public double[] toArray(double[] v, int offset)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+		}
+		
+		for(int i = 0, j = offset; i < this.size; i++, j += 3)
+		{
+			int o = offset(i);
+			
+			v[j] = this.data[o];
+			v[j + 1] = this.data[o + LANES];
+			v[j + 2] = this.data[o + 2 * LANES];
+		}
+		
+		return v;
+	}
+	
+	/**
+	 * Removes all tuples. The capacity is retained.
+	 * 
+	 * @return The current container.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AoSoATup3d clear()
+	{
+		this.size = 0;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the x component of the tuple at the index.
+	 * 
+	 * @param index The index of the tuple.
+	 * 
+	 * @return The x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public double getX(int index)
+	{
+		return this.data[offset(index)];
+	}
+	
+	/**
+	 * Returns the y component of the tuple at the index.
+	 * 
+	 * @param index The index of the tuple.
+	 * 
+	 * @return The y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public double getY(int index)
+	{
+		return this.data[offset(index) + LANES];
+	}
+	
+	/**
+	 * Returns the z component of the tuple at the index.
+	 * 
+	 * @param index The index of the tuple.
+	 * 
+	 * @return The z component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public double getZ(int index)
+	{
+		return this.data[offset(index) + 2 * LANES];
+	}
+	
+	/**
+	 * Sets the x component of the tuple at the index.
+	 * 
+	 * @param index The index of the tuple.
+	 * @param x The new x component.
+	 * 
+	 * @return The current container.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AoSoATup3d setX(int index, double x)
+	{
+		this.data[offset(index)] = x;
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the y component of the tuple at the index.
+	 * 
+	 * @param index The index of the tuple.
+	 * @param y The new y component.
+	 * 
+	 * @return The current container.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AoSoATup3d setY(int index, double y)
+	{
+		this.data[offset(index) + LANES] = y;
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the z component of the tuple at the index.
+	 * 
+	 * @param index The index of the tuple.
+	 * @param z The new z component.
+	 * 
+	 * @return The current container.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AoSoATup3d setZ(int index, double z)
+	{
+		this.data[offset(index) + 2 * LANES] = z;
+		
+		return this;
+	}
+	
+	/**
+	 * Writes the tuple at the index to t.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param index The index of the tuple.
+	 * @param t The tuple receiving the components.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <T extends Tup3dW> T get(int index, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		int o = offset(index);
+		
+		t.set(this.data[o], this.data[o + LANES], this.data[o + 2 * LANES]);
+		
+		return t;
+	}
+	
+	/**
+	 * Sets the tuple at the index.
+	 * 
+	 * @param index The index of the tuple.
+	 * @param x The x component.
+	 * @param y The y component.
+	 * @param z The z component.
+	 * 
+	 * @return The current container.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AoSoATup3d set(int index, double x, double y, double z)
+	{
+		int o = offset(index);
+		
+		this.data[o] = x;
+		this.data[o + LANES] = y;
+		this.data[o + 2 * LANES] = z;
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the tuple at the index.
+	 * 
+	 * @param index The index of the tuple.
+	 * @param t The tuple to adopt the components from.
+	 * 
+	 * @return The current container.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AoSoATup3d set(int index, Tup3dR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return set(index, t.getX(), t.getY(), t.getZ());
+	}
+	
+	/**
+	 * Returns a new flyweight view on the tuple at the index. The view can be moved to other tuples by
+	 * {@link View#at(int)}, so a single view can be reused for a whole traversal.
+	 * 
+	 * @param index The index of the tuple.
+	 * 
+	 * @return The new view.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public View view(int index)
+	{
+		return new View(this).at(index);
+	}
+	
+	/**
+	 * Adds the values to the corresponding components of all tuples.
+	 * 
+	 * @param x The value to add to the x components.
+	 * @param y The value to add to the y components.
+	 * @param z The value to add to the z components.
+	 * 
+	 * @return The current container.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AoSoATup3d add(double x, double y, double z)
+	{
+		double[] d = this.data;
+		int end = blockCount() * BLOCK_SIZE;
+		
+		for(int b = 0; b < end; b += BLOCK_SIZE)
+		{
+			for(int l = b; l < b + LANES; l++)
+			{
+				d[l] += x;
+				d[l + LANES] += y;
+				d[l + 2 * LANES] += z;
+			}
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Multiplies the corresponding components of all tuples by the values.
+	 * 
+	 * @param x The factor for the x components.
+	 * @param y The factor for the y components.
+	 * @param z The factor for the z components.
+	 * 
+	 * @return The current container.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AoSoATup3d mul(double x, double y, double z)
+	{
+		double[] d = this.data;
+		int end = blockCount() * BLOCK_SIZE;
+		
+		for(int b = 0; b < end; b += BLOCK_SIZE)
+		{
+			for(int l = b; l < b + LANES; l++)
+			{
+				d[l] *= x;
+				d[l + LANES] *= y;
+				d[l + 2 * LANES] *= z;
+			}
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Adds the tuples of other multiplied by the factor to the tuples with the same index.
+	 * Only the first {@link #size()} tuples are used, so other needs at least as many tuples as this container.
+	 * 
+	 * @param other The container to add.
+	 * @param factor The factor the tuples of other are multiplied with.
+	 * 
+	 * @return The current container.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AoSoATup3d addScaled(AoSoATup3d other, double factor)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(other == null) throw new ArgumentNullException("other");
+		}
+		
+		if(other.size < this.size) throw new IllegalArgumentException("other");
+		
+		double[] d = this.data;
+		double[] s = other.data;
+		int end = blockCount() * BLOCK_SIZE;
+		
+		for(int i = 0; i < end; i++)
+		{
+			d[i] += s[i] * factor;
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Calculates the dot products of the tuples with the tuples with the same index of other and writes them to
+	 * the array result beginning at the index offset.
+	 * 
+	 * @param other The second operand.
+	 * @param result The array receiving the dot products.
+	 * @param offset The index of the first dot product in result.
+	 * 
+	 * @return The array result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public double[] dot(AoSoATup3d other, double[] result, int offset)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(other == null) throw new ArgumentNullException("other");
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		if(other.size < this.size) throw new IllegalArgumentException("other");
+		
+		double[] a = this.data;
+		double[] c = other.data;
+		
+		for(int b = 0, i = 0; i < this.size; b += BLOCK_SIZE)
+		{
+			int lanes = Math.min(LANES, this.size - i);
+			
+			for(int l = 0; l < lanes; l++, i++)
+			{
+				int o = b + l;
+				
+				result[offset + i] = a[o] * c[o] + a[o + LANES] * c[o + LANES] + a[o + 2 * LANES] * c[o + 2 * LANES];
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Normalizes all tuples to a length of 1. Tuples with a length of 0 are left unchanged.
+	 * 
+	 * @return The current container.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AoSoATup3d normalize()
+	{
+		double[] d = this.data;
+		int end = blockCount() * BLOCK_SIZE;
+		
+		for(int b = 0; b < end; b += BLOCK_SIZE)
+		{
+			for(int l = b; l < b + LANES; l++)
+			{
+				double sq = d[l] * d[l] + d[l + LANES] * d[l + LANES] + d[l + 2 * LANES] * d[l + 2 * LANES];
+				double inv = sq != 0.0 ? 1.0 / Math.sqrt(sq) : 1.0;
+				
+				d[l] *= inv;
+				d[l + LANES] *= inv;
+				d[l + 2 * LANES] *= inv;
+			}
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Calculates the component-wise bounds of all tuples.
+	 * 
+	 * @param min The tuple receiving the component-wise minimum.
+	 * @param max The tuple receiving the component-wise maximum.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void bounds(Tup3dW min, Tup3dW max)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(min == null) throw new ArgumentNullException("min");
+			if(max == null) throw new ArgumentNullException("max");
+		}
+		
+		double[] d = this.data;
+		
+		double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+		double minZ = Double.POSITIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+		
+		for(int b = 0, i = 0; i < this.size; b += BLOCK_SIZE)
+		{
+			int lanes = Math.min(LANES, this.size - i);
+			
+			for(int l = b; l < b + lanes; l++)
+			{
+				minX = Math.min(minX, d[l]);
+				maxX = Math.max(maxX, d[l]);
+				minY = Math.min(minY, d[l + LANES]);
+				maxY = Math.max(maxY, d[l + LANES]);
+				minZ = Math.min(minZ, d[l + 2 * LANES]);
+				maxZ = Math.max(maxZ, d[l + 2 * LANES]);
+			}
+			
+			i += lanes;
+		}
+		
+		min.set(minX, minY, minZ);
+		max.set(maxX, maxY, maxZ);
+	}
+	
+	/**
+	 * Returns the number of blocks needed for the number of tuples.
+	 * 
+	 * @param count The number of tuples.
+	 * 
+	 * @return The number of blocks.
+	 */
+	private static int blocks(int count)
+	{
+		return (count + LANE_MASK) >>> LANE_SHIFT;
+	}
+	
+	/**
+	 * Returns the index of the x component of the tuple at the index in the backing array.
+	 * 
+	 * @param index The index of the tuple.
+	 * 
+	 * @return The index of the x component.
+	 */
+	private static int offset(int index)
+	{
+		return (index >>> LANE_SHIFT) * BLOCK_SIZE + (index & LANE_MASK);
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "aosoatup3d(size=" + this.size + ", capacity=" + capacity() + ")";
+	}
+	
+	/**
+	 * This class represents a movable flyweight view on a single tuple of a {@link AoSoATup3d}.
+	 * All reads and writes go directly to the container.
+	 * 
+	 * @author picatrix1899
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static class View implements Tup3dRW
+	{
+		/**
+		 * The container this view belongs to.
+		 */
+		private final AoSoATup3d container;
+		
+		/**
+		 * The index of the viewed tuple.
+		 */
+		private int index;
+		
+		/**
+		 * Creates a new view on the container.
+		 * 
+		 * @param container The container to view.
+		 */
+		private View(AoSoATup3d container)
+		{
+			this.container = container;
+		}
+		
+		/**
+		 * Moves the view to the tuple at the index.
+		 * 
+		 * @param index The index of the tuple.
+		 * 
+		 * @return The current view.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public View at(int index)
+		{
+			this.index = index;
+			
+			return this;
+		}
+		
+		/**
+		 * Returns the index of the viewed tuple.
+		 * 
+		 * @return The index of the viewed tuple.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public int index()
+		{
+			return this.index;
+		}
+		
+		@Override
+		public double getX()
+		{
+			return this.container.getX(this.index);
+		}
+		
+		@Override
+		public double getY()
+		{
+			return this.container.getY(this.index);
+		}
+		
+		@Override
+		public double getZ()
+		{
+			return this.container.getZ(this.index);
+		}
+		
+		@Override
+		public View setX(double x)
+		{
+			this.container.setX(this.index, x);
+			
+			return this;
+		}
+		
+		@Override
+		public View setY(double y)
+		{
+			this.container.setY(this.index, y);
+			
+			return this;
+		}
+		
+		@Override
+		public View setZ(double z)
+		{
+			this.container.setZ(this.index, z);
+			
+			return this;
+		}
+		
+		@Override
+		public View set(Tup3dR t)
+		{
+			if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+			{
+				if(t == null) throw new ArgumentNullException("t");
+			}
+			
+			return set(t.getX(), t.getY(), t.getZ());
+		}
+		
+		@Override
+		public View set(double value)
+		{
+			return set(value, value, value);
+		}
+		
+		@Override
+		public View set(double x, double y, double z)
+		{
+			this.container.set(this.index, x, y, z);
+			
+			return this;
+		}
+		
+		@Override
+		public String toString()
+		{
+			return "aosoatup3d.view(index=" + this.index + ", " + "x=" + getX() + ", " + "y=" + getY() + ", " + "z=" + getZ() + ")";
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,785 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.barghos.core.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.barghos.core.api.tuple3.Tup3dR;
+import org.barghos.core.api.tuple3.Tup3dRW;
+import org.barghos.core.api.tuple3.Tup3dW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class represents a file backed store of 3-dimensional double tuples.
+ * The file is memory mapped, so the tuples are never copied onto the heap unless they are requested explicitly.
+ * Opening a store only maps the file and does not read any tuple data. The header of an existing file is validated
+ * before the file is mapped, so an invalid file is never changed. A store opened read-only can't be modified and
+ * doesn't need write access to the file.
+ * 
+ * <p>
+ * The file starts with a header page containing a magic number, the format version and the number of tuples.
+ * The tuples follow page aligned after the header as consecutive little endian doubles (t1.x, t1.y, t1.z, t2.x, ...).
+ * The file grows in multiples of the page size when tuples are appended beyond the current capacity.
+ * As a single mapping is limited to 2 GiB the data is mapped in segments.
+ * 
+ * <p>
+ * This class is not thread-safe for appending. Concurrent reads and writes of existing tuples are possible,
+ * but have the same visibility guarantees as plain array accesses.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class MappedTup3dStore implements Closeable
+{
+	/**
+	 * The magic number at the start of every store file.
+	 */
+	public static final int MAGIC = 0x42543344;
+	
+	/**
+	 * The version of the file format.
+	 */
+	public static final int VERSION = 1;
+	
+	/**
+	 * The size of a page in bytes. The file size is always a multiple of it.
+	 */
+	public static final int PAGE_SIZE = 4096;
+	
+	/**
+	 * The number of bytes a single tuple occupies in the file.
+	 */
+	public static final int TUPLE_BYTES = 24;
+	
+	/**
+	 * The file offset where the tuple data begins.
+	 */
+	private static final long DATA_OFFSET = PAGE_SIZE;
+	
+	/**
+	 * The file offset of the tuple count in the header.
+	 */
+	private static final int COUNT_OFFSET = 8;
+	
+	/**
+	 * The binary logarithm of the number of tuples per segment.
+	 */
+	private static final int SEGMENT_SHIFT = 25;
+	
+	/**
+	 * The mask to get the index of a tuple within its segment.
+	 */
+	private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+	
+	/**
+	 * The number of bytes per segment. It is a multiple of the page size and the tuple size.
+	 */
+	private static final long SEGMENT_BYTES = (1L << SEGMENT_SHIFT) * TUPLE_BYTES;
+	
+	/**
+	 * The minimum number of data bytes of a new store.
+	 */
+	private static final long INITIAL_BYTES = 16 * PAGE_SIZE;
+	
+	/**
+	 * The channel of the underlying file.
+	 */
+	private final FileChannel channel;
+	
+	/**
+	 * The mapped header page.
+	 */
+	private final MappedByteBuffer header;
+	
+	/**
+	 * True if the store was opened read-only.
+	 */
+	private final boolean readOnly;
+	
+	/**
+	 * The mapped data segments.
+	 */
+	private MappedByteBuffer[] segments = new MappedByteBuffer[0];
+	
+	/**
+	 * The number of mapped data bytes.
+	 */
+	private long capacityBytes;
+	
+	/**
+	 * The number of tuples in the store.
+	 */
+	private long size;
+	
+	/**
+	 * Opens the store at the given file for reading and writing. If the file doesn't exist or is empty a new store
+	 * is created.
+	 * 
+	 * @param path The path of the store file.
+	 * 
+	 * @throws IOException If the file could not be opened or is not a valid store file.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public MappedTup3dStore(Path path) throws IOException
+	{
+		this(path, false);
+	}
+	
+	/**
+	 * Opens the store at the given file. If the store is not read-only and the file doesn't exist or is empty
+	 * a new store is created. A read-only store requires an existing store file.
+	 * 
+	 * @param path The path of the store file.
+	 * @param readOnly True if the store should be opened read-only.
+	 * 
+	 * @throws IOException If the file could not be opened or is not a valid store file.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public MappedTup3dStore(Path path, boolean readOnly) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(path == null) throw new ArgumentNullException("path");
+		}
+		
+		this.readOnly = readOnly;
+		
+		if(readOnly)
+		{
+			this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		}
+		else
+		{
+			this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		}
+		
+		try
+		{
+			long fileSize = this.channel.size();
+			
+			if(fileSize == 0 && !readOnly)
+			{
+				this.header = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, PAGE_SIZE);
+				this.header.order(ByteOrder.LITTLE_ENDIAN);
+				
+				this.header.putInt(0, MAGIC);
+				this.header.putInt(4, VERSION);
+				this.header.putLong(COUNT_OFFSET, 0);
+				
+				remap(INITIAL_BYTES);
+			}
+			else
+			{
+				this.size = readHeader(this.channel, fileSize, path);
+				
+				this.header = this.channel.map(readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE, 0, PAGE_SIZE);
+				this.header.order(ByteOrder.LITTLE_ENDIAN);
+				
+				remap(fileSize - DATA_OFFSET);
+			}
+		}
+		catch(IOException | RuntimeException e)
+		{
+			this.channel.close();
+			
+			throw e;
+		}
+	}
+	
+	/**
+	 * Returns the number of tuples in the store.
+	 * 
+	 * @return The number of tuples.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public long size()
+	{
+		return this.size;
+	}
+	
+	/**
+	 * Returns true if the store was opened read-only.
+	 * 
+	 * @return True if the store is read-only.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean isReadOnly()
+	{
+		return this.readOnly;
+	}
+	
+	/**
+	 * Returns the number of tuples the store can hold without growing the file.
+	 * 
+	 * @return The capacity in tuples.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public long capacity()
+	{
+		return this.capacityBytes / TUPLE_BYTES;
+	}
+	
+	/**
+	 * Returns the x component of the tuple at the index.
+	 * 
+	 * @param index The index of the tuple.
+	 * 
+	 * @return The x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public double getX(long index)
+	{
+		checkIndex(index);
+		
+		return this.segments[(int)(index >>> SEGMENT_SHIFT)].getDouble(offset(index));
+	}
+	
+	/**
+	 * Returns the y component of the tuple at the index.
+	 * 
+	 * @param index The index of the tuple.
+	 * 
+	 * @return The y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public double getY(long index)
+	{
+		checkIndex(index);
+		
+		return this.segments[(int)(index >>> SEGMENT_SHIFT)].getDouble(offset(index) + 8);
+	}
+	
+	/**
+	 * Returns the z component of the tuple at the index.
+	 * 
+	 * @param index The index of the tuple.
+	 * 
+	 * @return The z component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public double getZ(long index)
+	{
+		checkIndex(index);
+		
+		return this.segments[(int)(index >>> SEGMENT_SHIFT)].getDouble(offset(index) + 16);
+	}
+	
+	/**
+	 * Copies the components of the tuple at the index to the tuple t.
+	 * 
+	 * @param <T> The type of the target tuple.
+	 * @param index The index of the tuple.
+	 * @param t The tuple the components are written to.
+	 * 
+	 * @return The tuple t.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <T extends Tup3dW> T get(long index, T t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		checkIndex(index);
+		
+		MappedByteBuffer segment = this.segments[(int)(index >>> SEGMENT_SHIFT)];
+		int offset = offset(index);
+		
+		t.set(segment.getDouble(offset), segment.getDouble(offset + 8), segment.getDouble(offset + 16));
+		
+		return t;
+	}
+	
+	/**
+	 * Sets the components of the tuple at the index.
+	 * 
+	 * @param index The index of the tuple.
+	 * @param x The new x component.
+	 * @param y The new y component.
+	 * @param z The new z component.
+	 * 
+	 * @return The current store.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public MappedTup3dStore set(long index, double x, double y, double z)
+	{
+		checkWritable();
+		checkIndex(index);
+		
+		MappedByteBuffer segment = this.segments[(int)(index >>> SEGMENT_SHIFT)];
+		int offset = offset(index);
+		
+		segment.putDouble(offset, x);
+		segment.putDouble(offset + 8, y);
+		segment.putDouble(offset + 16, z);
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the components of the tuple at the index to the components of the tuple t.
+	 * 
+	 * @param index The index of the tuple.
+	 * @param t The tuple to adopt the components from.
+	 * 
+	 * @return The current store.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public MappedTup3dStore set(long index, Tup3dR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return set(index, t.getX(), t.getY(), t.getZ());
+	}
+	
+	/**
+	 * Appends a tuple to the end of the store. The file grows if necessary.
+	 * 
+	 * @param x The x component.
+	 * @param y The y component.
+	 * @param z The z component.
+	 * 
+	 * @return The index of the appended tuple.
+	 * 
+	 * @throws IOException If the file could not be grown.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public long append(double x, double y, double z) throws IOException
+	{
+		long index = this.size;
+		
+		ensureCapacity(index + 1);
+		
+		this.size = index + 1;
+		
+		set(index, x, y, z);
+		
+		this.header.putLong(COUNT_OFFSET, this.size);
+		
+		return index;
+	}
+	
+	/**
+	 * Appends a tuple to the end of the store. The file grows if necessary.
+	 * 
+	 * @param t The tuple to append.
+	 * 
+	 * @return The index of the appended tuple.
+	 * 
+	 * @throws IOException If the file could not be grown.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public long append(Tup3dR t) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return append(t.getX(), t.getY(), t.getZ());
+	}
+	
+	/**
+	 * Appends the components from the array to the end of the store.
+	 * The array contains the tuples componentwise (t1.x, t1.y, t1.z, t2.x, ...).
+	 * The file grows at most once.
+	 * 
+	 * @param v The components of the tuples.
+	 * @param offset The index of the first tuple in the array.
+	 * @param count The number of tuples to append.
+	 * 
+	 * @return The index of the first appended tuple.
+	 * 
+	 * @throws IOException If the file could not be grown.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public long append(double[] v, int offset, int count) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+		}
+		
+		long first = this.size;
+		
+		ensureCapacity(first + count);
+		
+		this.size = first + count;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int j = (offset + i) * 3;
+			
+			set(first + i, v[j], v[j + 1], v[j + 2]);
+		}
+		
+		this.header.putLong(COUNT_OFFSET, this.size);
+		
+		return first;
+	}
+	
+	/**
+	 * Removes all tuples from the store. The file is not truncated.
+	 * 
+	 * @return The current store.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public MappedTup3dStore clear()
+	{
+		checkWritable();
+		
+		this.size = 0;
+		
+		this.header.putLong(COUNT_OFFSET, 0);
+		
+		return this;
+	}
+	
+	/**
+	 * Ensures that the store can hold at least the given number of tuples without growing again.
+	 * The file grows in multiples of the page size.
+	 * 
+	 * @param capacity The required capacity in tuples.
+	 * 
+	 * @throws IOException If the file could not be grown.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void ensureCapacity(long capacity) throws IOException
+	{
+		checkWritable();
+		
+		long requiredBytes = capacity * TUPLE_BYTES;
+		
+		if(requiredBytes <= this.capacityBytes) return;
+		
+		long grownBytes = this.capacityBytes + Math.min(this.capacityBytes, SEGMENT_BYTES);
+		long newBytes = Math.max(requiredBytes, grownBytes);
+		
+		newBytes = (newBytes + PAGE_SIZE - 1) / PAGE_SIZE * PAGE_SIZE;
+		
+		remap(newBytes);
+	}
+	
+	/**
+	 * Returns a new view on the tuple at the index.
+	 * The view can be moved to other tuples with {@link View#at(long)}, so a single instance can be reused.
+	 * 
+	 * @param index The index of the tuple.
+	 * 
+	 * @return A new view on the tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public View view(long index)
+	{
+		return new View(this).at(index);
+	}
+	
+	/**
+	 * Forces all changes to be written to the storage device.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void force()
+	{
+		if(this.readOnly) return;
+		
+		this.header.force();
+		
+		for(int i = 0; i < this.segments.length; i++)
+			this.segments[i].force();
+	}
+	
+	@Override
+	public void close() throws IOException
+	{
+		force();
+		
+		this.segments = new MappedByteBuffer[0];
+		this.capacityBytes = 0;
+		
+		this.channel.close();
+	}
+	
+	/**
+	 * Maps the data region of the file with the given size, growing the file if necessary.
+	 * Only segments that changed in size are mapped again.
+	 * 
+	 * @param dataBytes The number of data bytes to map.
+	 * 
+	 * @throws IOException If the file could not be mapped.
+	 */
+	private void remap(long dataBytes) throws IOException
+	{
+		int oldCount = this.segments.length;
+		int newCount = (int)((dataBytes + SEGMENT_BYTES - 1) / SEGMENT_BYTES);
+		
+		MappedByteBuffer[] segments = new MappedByteBuffer[newCount];
+		
+		int firstChanged = 0;
+		
+		if(oldCount > 0)
+		{
+			firstChanged = oldCount - 1;
+			
+			System.arraycopy(this.segments, 0, segments, 0, firstChanged);
+		}
+		
+		for(int i = firstChanged; i < newCount; i++)
+		{
+			long start = i * SEGMENT_BYTES;
+			long length = Math.min(SEGMENT_BYTES, dataBytes - start);
+			
+			segments[i] = this.channel.map(this.readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE, DATA_OFFSET + start, length);
+			segments[i].order(ByteOrder.LITTLE_ENDIAN);
+		}
+		
+		this.segments = segments;
+		this.capacityBytes = dataBytes;
+	}
+	
+	/**
+	 * Reads and validates the header of an existing store file without mapping it.
+	 * 
+	 * @param channel The channel of the file.
+	 * @param fileSize The size of the file.
+	 * @param path The path of the file.
+	 * 
+	 * @return The number of tuples in the store.
+	 * 
+	 * @throws IOException If the file could not be read or is not a valid store file.
+	 */
+	private static long readHeader(FileChannel channel, long fileSize, Path path) throws IOException
+	{
+		if(fileSize < DATA_OFFSET) throw new IOException("The file is not a valid tuple store: " + path);
+		
+		ByteBuffer buffer = ByteBuffer.allocate(COUNT_OFFSET + 8).order(ByteOrder.LITTLE_ENDIAN);
+		
+		while(buffer.hasRemaining())
+		{
+			if(channel.read(buffer, buffer.position()) < 0) throw new IOException("The file is not a valid tuple store: " + path);
+		}
+		
+		if(buffer.getInt(0) != MAGIC) throw new IOException("The file is not a valid tuple store: " + path);
+		if(buffer.getInt(4) != VERSION) throw new IOException("Unsupported tuple store version: " + buffer.getInt(4));
+		
+		long size = buffer.getLong(COUNT_OFFSET);
+		
+		if(size < 0 || size > (fileSize - DATA_OFFSET) / TUPLE_BYTES) throw new IOException("The tuple count exceeds the file size: " + size);
+		
+		return size;
+	}
+	
+	/**
+	 * Throws an {@link IndexOutOfBoundsException} if the index is not the index of a tuple in the store.
+	 * 
+	 * @param index The index of the tuple.
+	 */
+	private void checkIndex(long index)
+	{
+		if(index < 0 || index >= this.size) throw new IndexOutOfBoundsException(Long.toString(index));
+	}
+	
+	/**
+	 * Throws a {@link ReadOnlyBufferException} if the store is read-only.
+	 */
+	private void checkWritable()
+	{
+		if(this.readOnly) throw new ReadOnlyBufferException();
+	}
+	
+	/**
+	 * Returns the byte offset of the tuple at the index within its segment.
+	 * 
+	 * @param index The index of the tuple.
+	 * 
+	 * @return The byte offset within the segment.
+	 */
+	private static int offset(long index)
+	{
+		return (int)(index & SEGMENT_MASK) * TUPLE_BYTES;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "mappedtup3dstore(size=" + this.size + ", capacity=" + capacity() + ")";
+	}
+	
+	/**
+	 * This class represents a movable view on a single tuple of a {@link MappedTup3dStore}.
+	 * All reads and writes go directly to the mapped file.
+	 * 
+	 * @author picatrix1899
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static class View implements Tup3dRW
+	{
+		/**
+		 * The store this view belongs to.
+		 */
+		private final MappedTup3dStore store;
+		
+		/**
+		 * The index of the viewed tuple.
+		 */
+		private long index;
+		
+		/**
+		 * Creates a new view on the store.
+		 * 
+		 * @param store The store to view.
+		 */
+		private View(MappedTup3dStore store)
+		{
+			this.store = store;
+		}
+		
+		/**
+		 * Moves the view to the tuple at the index.
+		 * 
+		 * @param index The index of the tuple.
+		 * 
+		 * @return The current view.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public View at(long index)
+		{
+			this.index = index;
+			
+			return this;
+		}
+		
+		/**
+		 * Returns the index of the viewed tuple.
+		 * 
+		 * @return The index of the viewed tuple.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public long index()
+		{
+			return this.index;
+		}
+		
+		@Override
+		public double getX()
+		{
+			return this.store.getX(this.index);
+		}
+		
+		@Override
+		public double getY()
+		{
+			return this.store.getY(this.index);
+		}
+		
+		@Override
+		public double getZ()
+		{
+			return this.store.getZ(this.index);
+		}
+		
+		@Override
+		public View setX(double x)
+		{
+			return set(x, getY(), getZ());
+		}
+		
+		@Override
+		public View setY(double y)
+		{
+			return set(getX(), y, getZ());
+		}
+		
+		@Override
+		public View setZ(double z)
+		{
+			return set(getX(), getY(), z);
+		}
+		
+		@Override
+		public View set(Tup3dR t)
+		{
+			if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+			{
+				if(t == null) throw new ArgumentNullException("t");
+			}
+			
+			return set(t.getX(), t.getY(), t.getZ());
+		}
+		
+		@Override
+		public View set(double value)
+		{
+			return set(value, value, value);
+		}
+		
+		@Override
+		public View set(double x, double y, double z)
+		{
+			this.store.set(this.index, x, y, z);
+			
+			return this;
+		}
+		
+		@Override
+		public String toString()
+		{
+			return "mappedtup3dstore.view(index=" + this.index + ", x=" + getX() + ", y=" + getY() + ", z=" + getZ() + ")";
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,426 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.store;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import java.nio.DoubleBuffer;
+
+import org.barghos.core.api.tuple3.Tup3dR;
+import org.barghos.core.api.tuple3.Tup3dW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+import org.barghos.core.util.BufferUtils;
+
+/**
+ * This class represents a triple buffered container of 3-dimensional double tuples, that is filled by one writer thread
+ * and read by one reader thread.
+ * 
+ * <p>
+ * The container consists of three frames. The writer owns the back frame, the reader owns the front frame and the
+ * third frame holds the latest published data. {@link #publish()} exchanges the back frame with the latest frame by a
+ * single atomic swap, and {@link #getReadFrame()} exchanges the front frame with the latest frame, if a newer frame was
+ * published. Therefore the reader always sees a complete frame, and neither thread ever blocks or copies the data of
+ * the other.
+ * 
+ * <p>
+ * The back frame returned by {@link #getWriteFrame()} contains the data of an older frame and has to be rewritten
+ * completely before it is published.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class Tup3dTripleBuffer
+{
+	/**
+	 * The bit in the state signalling a frame, that has not been read yet.
+	 */
+	private static final int FRESH = 4;
+	
+	/**
+	 * The mask of the frame index in the state.
+	 */
+	private static final int INDEX_MASK = 3;
+	
+	/**
+	 * The handle for atomic accesses to the state.
+	 */
+	private static final VarHandle STATE;
+	
+	static
+	{
+		try
+		{
+			STATE = MethodHandles.lookup().findVarHandle(Tup3dTripleBuffer.class, "state", int.class);
+		}
+		catch(ReflectiveOperationException e)
+		{
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
+	/**
+	 * The three frames.
+	 */
+	private final Frame[] frames;
+	
+	/**
+	 * The index of the latest published frame and the {@link #FRESH} bit.
+	 */
+	private volatile int state;
+	
+	/**
+	 * The index of the frame owned by the writer.
+	 */
+	private int back;
+	
+	/**
+	 * The index of the frame owned by the reader.
+	 */
+	private int front;
+	
+	/**
+	 * The number of the next published frame. Only accessed by the writer.
+	 */
+	private long nextNumber = 1;
+	
+	/**
+	 * Creates a new instance, whose frames can hold the given number of tuples.
+	 * 
+	 * @param capacity The number of tuples per frame.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Tup3dTripleBuffer(int capacity)
+	{
+		if(capacity < 0) throw new IllegalArgumentException("capacity");
+		
+		this.frames = new Frame[] { new Frame(capacity), new Frame(capacity), new Frame(capacity) };
+		
+		this.front = 0;
+		this.state = 1;
+		this.back = 2;
+	}
+	
+	/**
+	 * Returns the number of tuples per frame.
+	 * 
+	 * @return The number of tuples per frame.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int capacity()
+	{
+		return this.frames[0].capacity();
+	}
+	
+	/**
+	 * Returns the back frame, that is owned by the writer. This method must only be called by the writer thread.
+	 * 
+	 * @return The back frame.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Frame getWriteFrame()
+	{
+		return this.frames[this.back];
+	}
+	
+	/**
+	 * Publishes the back frame and hands a new back frame to the writer. This method must only be called by the
+	 * writer thread.
+	 * 
+	 * @return The number of the published frame.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public long publish()
+	{
+		Frame frame = this.frames[this.back];
+		frame.number = this.nextNumber++;
+		
+		this.back = (int)STATE.getAndSet(this, this.back | FRESH) & INDEX_MASK;
+		
+		return frame.number;
+	}
+	
+	/**
+	 * Returns true, if a frame was published since the last call to {@link #getReadFrame()}.
+	 * 
+	 * @return True, if a new frame is available.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean hasNewFrame()
+	{
+		return (this.state & FRESH) != 0;
+	}
+	
+	/**
+	 * Returns the latest published frame. If no new frame was published since the last call, the same frame is
+	 * returned again. The frame stays unchanged until the next call. This method must only be called by the
+	 * reader thread.
+	 * 
+	 * @return The latest published frame.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Frame getReadFrame()
+	{
+		if((this.state & FRESH) != 0)
+		{
+			this.front = (int)STATE.getAndSet(this, this.front) & INDEX_MASK;
+		}
+		
+		return this.frames[this.front];
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "tup3dtriplebuffer(capacity=" + capacity() + ")";
+	}
+	
+	/**
+	 * This class represents a single frame of a {@link Tup3dTripleBuffer}.
+	 * The tuples are stored interleaved in a direct buffer in native byte order.
+	 * 
+	 * @author picatrix1899
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static class Frame
+	{
+		/**
+		 * The interleaved components of the tuples.
+		 */
+		private final DoubleBuffer buffer;
+		
+		/**
+		 * The number of valid tuples.
+		 */
+		private int size;
+		
+		/**
+		 * The number of the frame. 0 if the frame was never published.
+		 */
+		private long number;
+		
+		/**
+		 * Creates a new frame.
+		 * 
+		 * @param capacity The number of tuples.
+		 */
+		private Frame(int capacity)
+		{
+			this.buffer = BufferUtils.createDoubleBuffer(capacity * 3);
+		}
+		
+		/**
+		 * Returns the buffer containing the interleaved components of the tuples.
+		 * The position and limit of the buffer are not used by the frame.
+		 * 
+		 * @return The buffer of the frame.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public DoubleBuffer getBuffer()
+		{
+			return this.buffer;
+		}
+		
+		/**
+		 * Returns the number of tuples the frame can hold.
+		 * 
+		 * @return The capacity of the frame.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public int capacity()
+		{
+			return this.buffer.capacity() / 3;
+		}
+		
+		/**
+		 * Returns the number of valid tuples.
+		 * 
+		 * @return The number of valid tuples.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public int getSize()
+		{
+			return this.size;
+		}
+		
+		/**
+		 * Sets the number of valid tuples.
+		 * 
+		 * @param size The number of valid tuples.
+		 * 
+		 * @return The current frame.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public Frame setSize(int size)
+		{
+			if(size < 0 || size > capacity()) throw new IndexOutOfBoundsException(size);
+			
+			this.size = size;
+			
+			return this;
+		}
+		
+		/**
+		 * Returns the number of the frame. The frames are numbered in the order of publication starting with 1.
+		 * A frame, that was never published, has the number 0.
+		 * 
+		 * @return The number of the frame.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public long getNumber()
+		{
+			return this.number;
+		}
+		
+		/**
+		 * Returns the x component of the tuple at the index.
+		 * 
+		 * @param index The index of the tuple.
+		 * 
+		 * @return The x component.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public double getX(int index)
+		{
+			return this.buffer.get(index * 3);
+		}
+		
+		/**
+		 * Returns the y component of the tuple at the index.
+		 * 
+		 * @param index The index of the tuple.
+		 * 
+		 * @return The y component.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public double getY(int index)
+		{
+			return this.buffer.get(index * 3 + 1);
+		}
+		
+		/**
+		 * Returns the z component of the tuple at the index.
+		 * 
+		 * @param index The index of the tuple.
+		 * 
+		 * @return The z component.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public double getZ(int index)
+		{
+			return this.buffer.get(index * 3 + 2);
+		}
+		
+		/**
+		 * Writes the tuple at the index to t.
+		 * 
+		 * @param <T> The type of the result tuple.
+		 * @param index The index of the tuple.
+		 * @param t The tuple receiving the components.
+		 * 
+		 * @return The tuple t.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public <T extends Tup3dW> T get(int index, T t)
+		{
+			if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+			{
+				if(t == null) throw new ArgumentNullException("t");
+			}
+			
+			int i = index * 3;
+			
+			t.set(this.buffer.get(i), this.buffer.get(i + 1), this.buffer.get(i + 2));
+			
+			return t;
+		}
+		
+		/**
+		 * Sets the tuple at the index.
+		 * 
+		 * @param index The index of the tuple.
+		 * @param x The x component.
+		 * @param y The y component.
+		 * @param z The z component.
+		 * 
+		 * @return The current frame.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public Frame set(int index, double x, double y, double z)
+		{
+			int i = index * 3;
+			
+			this.buffer.put(i, x);
+			this.buffer.put(i + 1, y);
+			this.buffer.put(i + 2, z);
+			
+			return this;
+		}
+		
+		/**
+		 * Sets the tuple at the index.
+		 * 
+		 * @param index The index of the tuple.
+		 * @param t The tuple to adopt the components from.
+		 * 
+		 * @return The current frame.
+		 * 
+		 * @since 1.0.0.0
+		 */
+		public Frame set(int index, Tup3dR t)
+		{
+			if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+			{
+				if(t == null) throw new ArgumentNullException("t");
+			}
+			
+			return set(index, t.getX(), t.getY(), t.getZ());
+		}
+		
+		@Override
+		public String toString()
+		{
+			return "tup3dtriplebuffer.frame(number=" + this.number + ", size=" + this.size + ")";
+		}
+	}
+}
\ No newline at end of file
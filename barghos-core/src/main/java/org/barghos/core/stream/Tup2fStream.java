@@ -0,0 +1,1117 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.stream;
+
+import java.nio.FloatBuffer;
+
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.barghos.core.api.stream.Tup2fMapper;
+import org.barghos.core.api.tuple2.Tup2fR;
+import org.barghos.core.api.tuple2.Tup2fRW;
+import org.barghos.core.api.tuple2.Tup2fW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.tuple2.Tup2f;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class represents a stream of 2-dimensional float tuples over primitive storage.
+ * 
+ * <p>
+ * The stream can be created over interleaved float arrays, component arrays, float buffers and tuple arrays.
+ * The elements are never boxed. Instead a flyweight {@link Tup2fRW} is handed out, that reads and writes directly
+ * from and to the underlying storage. After a {@link #map(Tup2fMapper)} the flyweight is a scratch tuple owned by the stream,
+ * so writes no longer reach the storage. The handed out tuple is only valid during the call and must not be kept.
+ * 
+ * <p>
+ * Intermediate operations are lazy and return a new stream. The storage is never copied.
+ * A parallel stream splits the index range of the storage across the common fork join pool,
+ * with one flyweight and one set of scratch tuples per split. The same applies to {@link #stream()},
+ * which bridges into {@link java.util.stream.Stream} using a splittable {@link Spliterator}.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class Tup2fStream
+{
+	/**
+	 * The number of elements below which a parallel operation is not split any further.
+	 */
+	private static final int PARALLEL_THRESHOLD = 4096;
+	
+	/**
+	 * The storage of the stream.
+	 */
+	private final Source source;
+	
+	/**
+	 * The first index of the stream.
+	 */
+	private final int from;
+	
+	/**
+	 * The end index of the stream (exclusive).
+	 */
+	private final int to;
+	
+	/**
+	 * The intermediate operations of the stream.
+	 */
+	private final Stage[] stages;
+	
+	/**
+	 * True if terminal operations should run in parallel.
+	 */
+	private final boolean parallel;
+	
+	/**
+	 * Creates a new stream.
+	 * 
+	 * @param source The storage of the stream.
+	 * @param from The first index of the stream.
+	 * @param to The end index of the stream (exclusive).
+	 * @param stages The intermediate operations of the stream.
+	 * @param parallel True if terminal operations should run in parallel.
+	 */
+	private Tup2fStream(Source source, int from, int to, Stage[] stages, boolean parallel)
+	{
+		this.source = source;
+		this.from = from;
+		this.to = to;
+		this.stages = stages;
+		this.parallel = parallel;
+	}
+	
+	/**
+	 * Creates a new stream over the tuples in the interleaved array (t1.x, t1.y, t2.x, ...).
+	 * 
+	 * @param v The interleaved components.
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * 
+	 * @return A new sequential stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2fStream of(float[] v, int from, int to)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+		}
+		
+		return new Tup2fStream(new ArraySource(v), from, to, new Stage[0], false);
+	}
+	
+	/**
+	 * Creates a new stream over the tuples in the component arrays.
+	 * 
+	 * @param x The x components.
+	 * @param y The y components.
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * 
+	 * @return A new sequential stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2fStream of(float[] x, float[] y, int from, int to)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(x == null) throw new ArgumentNullException("x");
+			if(y == null) throw new ArgumentNullException("y");
+		}
+		
+		return new Tup2fStream(new ComponentSource(x, y), from, to, new Stage[0], false);
+	}
+	
+	/**
+	 * Creates a new stream over the tuples in the buffer between its position and its limit.
+	 * The buffer contains the tuples interleaved (t1.x, t1.y, t2.x, ...).
+	 * The position of the buffer is not changed.
+	 * 
+	 * @param buffer The buffer containing the tuples.
+	 * 
+	 * @return A new sequential stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2fStream of(FloatBuffer buffer)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+		}
+		
+		return new Tup2fStream(new BufferSource(buffer), 0, buffer.remaining() / 2, new Stage[0], false);
+	}
+	
+	/**
+	 * Creates a new stream over the tuples in the array.
+	 * 
+	 * @param t The tuples.
+	 * 
+	 * @return A new sequential stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup2fStream of(Tup2fRW... t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return new Tup2fStream(new TupleSource(t), 0, t.length, new Stage[0], false);
+	}
+	
+	/**
+	 * Returns an equivalent stream whose terminal operations run in parallel.
+	 * 
+	 * @return A parallel stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Tup2fStream parallel()
+	{
+		return new Tup2fStream(this.source, this.from, this.to, this.stages, true);
+	}
+	
+	/**
+	 * Returns an equivalent stream whose terminal operations run sequential.
+	 * 
+	 * @return A sequential stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Tup2fStream sequential()
+	{
+		return new Tup2fStream(this.source, this.from, this.to, this.stages, false);
+	}
+	
+	/**
+	 * Returns true if terminal operations of this stream run in parallel.
+	 * 
+	 * @return True if the stream is parallel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean isParallel()
+	{
+		return this.parallel;
+	}
+	
+	/**
+	 * Returns a stream that maps every element with the mapper.
+	 * 
+	 * @param mapper The mapper.
+	 * 
+	 * @return A new stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Tup2fStream map(Tup2fMapper mapper)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(mapper == null) throw new ArgumentNullException("mapper");
+		}
+		
+		return append(new Stage(mapper, null));
+	}
+	
+	/**
+	 * Returns a stream that only contains the elements matching the predicate.
+	 * 
+	 * @param predicate The predicate.
+	 * 
+	 * @return A new stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Tup2fStream filter(Predicate<? super Tup2fR> predicate)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(predicate == null) throw new ArgumentNullException("predicate");
+		}
+		
+		return append(new Stage(null, predicate));
+	}
+	
+	/**
+	 * Performs the action for every element. In a parallel stream the action has to be thread-safe.
+	 * 
+	 * @param action The action.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void forEach(Consumer<? super Tup2fRW> action)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(action == null) throw new ArgumentNullException("action");
+		}
+		
+		if(this.parallel) new ForEachTask(spliterator(), action).invoke();
+		else spliterator().forEachRemaining(action);
+	}
+	
+	/**
+	 * Performs a mutable reduction on the elements.
+	 * Every split gets its own container from the supplier, which are merged with the combiner.
+	 * 
+	 * @param <C> The type of the result container.
+	 * @param supplier Creates a new result container.
+	 * @param accumulator Adds an element to a result container.
+	 * @param combiner Merges two result containers.
+	 * 
+	 * @return The result container.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <C> C reduce(Supplier<C> supplier, BiConsumer<C, ? super Tup2fR> accumulator, BinaryOperator<C> combiner)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(supplier == null) throw new ArgumentNullException("supplier");
+			if(accumulator == null) throw new ArgumentNullException("accumulator");
+			if(combiner == null) throw new ArgumentNullException("combiner");
+		}
+		
+		if(this.parallel) return new ReduceTask<>(spliterator(), supplier, accumulator, combiner).invoke();
+		
+		return reduceSequential(spliterator(), supplier, accumulator);
+	}
+	
+	/**
+	 * Returns the number of elements.
+	 * 
+	 * @return The number of elements.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public long count()
+	{
+		if(this.stages.length == 0) return this.to - this.from;
+		
+		return reduce(() -> new long[1], (c, t) -> c[0]++, (a, b) -> { a[0] += b[0]; return a; })[0];
+	}
+	
+	/**
+	 * Calculates the componentwise sum of the elements and writes it to result.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param result The tuple receiving the sum.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <T extends Tup2fW> T sum(T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Tup2f sum = reduce(Tup2f::new,
+				(c, t) -> c.set(c.x + t.getX(), c.y + t.getY()),
+				(a, b) -> a.set(a.x + b.x, a.y + b.y));
+		
+		result.set(sum.x, sum.y);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise minimum of the elements and writes it to result.
+	 * If the stream is empty all components are set to {@link Float#POSITIVE_INFINITY}.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param result The tuple receiving the minimum.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <T extends Tup2fW> T min(T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Tup2f min = reduce(() -> new Tup2f(Float.POSITIVE_INFINITY),
+				(c, t) -> c.set(Math.min(c.x, t.getX()), Math.min(c.y, t.getY())),
+				(a, b) -> a.set(Math.min(a.x, b.x), Math.min(a.y, b.y)));
+		
+		result.set(min.x, min.y);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise maximum of the elements and writes it to result.
+	 * If the stream is empty all components are set to {@link Float#NEGATIVE_INFINITY}.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param result The tuple receiving the maximum.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <T extends Tup2fW> T max(T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Tup2f max = reduce(() -> new Tup2f(Float.NEGATIVE_INFINITY),
+				(c, t) -> c.set(Math.max(c.x, t.getX()), Math.max(c.y, t.getY())),
+				(a, b) -> a.set(Math.max(a.x, b.x), Math.max(a.y, b.y)));
+		
+		result.set(max.x, max.y);
+		
+		return result;
+	}
+	
+	/**
+	 * Returns a new splittable spliterator over the elements of this stream.
+	 * Every spliterator created by splitting hands out its own flyweight.
+	 * 
+	 * @return A new spliterator.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Spliterator<Tup2fRW> spliterator()
+	{
+		return new Tup2fSpliterator(this.source, this.from, this.to, this.stages);
+	}
+	
+	/**
+	 * Returns a {@link java.util.stream.Stream} over the elements of this stream.
+	 * It is parallel if this stream is parallel.
+	 * 
+	 * @return A new stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Stream<Tup2fRW> stream()
+	{
+		return StreamSupport.stream(spliterator(), this.parallel);
+	}
+	
+	/**
+	 * Returns a new stream with the stage appended to the intermediate operations.
+	 * 
+	 * @param stage The stage to append.
+	 * 
+	 * @return A new stream.
+	 */
+	private Tup2fStream append(Stage stage)
+	{
+		Stage[] stages = new Stage[this.stages.length + 1];
+		
+		System.arraycopy(this.stages, 0, stages, 0, this.stages.length);
+		stages[this.stages.length] = stage;
+		
+		return new Tup2fStream(this.source, this.from, this.to, stages, this.parallel);
+	}
+	
+	/**
+	 * Runs a mutable reduction sequentially over the remaining elements of the spliterator.
+	 * 
+	 * @param <C> The type of the result container.
+	 * @param spliterator The spliterator.
+	 * @param supplier Creates a new result container.
+	 * @param accumulator Adds an element to a result container.
+	 * 
+	 * @return The result container.
+	 */
+	private static <C> C reduceSequential(Spliterator<Tup2fRW> spliterator, Supplier<C> supplier, BiConsumer<C, ? super Tup2fR> accumulator)
+	{
+		C container = supplier.get();
+		
+		spliterator.forEachRemaining((t) -> accumulator.accept(container, t));
+		
+		return container;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "tup2fstream(from=" + this.from + ", to=" + this.to + ", stages=" + this.stages.length + ", parallel=" + this.parallel + ")";
+	}
+	
+	/**
+	 * This class is the base for the storages a stream can run over.
+	 */
+	private static abstract class Source
+	{
+		/**
+		 * Returns the x component of the tuple at the index.
+		 * 
+		 * @param i The index.
+		 * 
+		 * @return The x component.
+		 */
+		abstract float getX(int i);
+		
+		/**
+		 * Returns the y component of the tuple at the index.
+		 * 
+		 * @param i The index.
+		 * 
+		 * @return The y component.
+		 */
+		abstract float getY(int i);
+		
+		/**
+		 * Sets the x component of the tuple at the index.
+		 * 
+		 * @param i The index.
+		 * @param x The new x component.
+		 */
+		abstract void setX(int i, float x);
+		
+		/**
+		 * Sets the y component of the tuple at the index.
+		 * 
+		 * @param i The index.
+		 * @param y The new y component.
+		 */
+		abstract void setY(int i, float y);
+		
+		/**
+		 * Sets all components of the tuple at the index.
+		 * 
+		 * @param i The index.
+		 * @param x The new x component.
+		 * @param y The new y component.
+		 */
+		void set(int i, float x, float y)
+		{
+			setX(i, x);
+			setY(i, y);
+		}
+	}
+	
+	/**
+	 * A storage over an interleaved float array.
+	 */
+	private static final class ArraySource extends Source
+	{
+		/**
+		 * The interleaved components.
+		 */
+		private final float[] v;
+		
+		/**
+		 * Creates a new storage.
+		 * 
+		 * @param v The interleaved components.
+		 */
+		ArraySource(float[] v)
+		{
+			this.v = v;
+		}
+		
+		@Override
+		float getX(int i)
+		{
+			return this.v[i * 2 + 0];
+		}
+		
+		@Override
+		float getY(int i)
+		{
+			return this.v[i * 2 + 1];
+		}
+		
+		@Override
+		void setX(int i, float x)
+		{
+			this.v[i * 2 + 0] = x;
+		}
+		
+		@Override
+		void setY(int i, float y)
+		{
+			this.v[i * 2 + 1] = y;
+		}
+		
+	}
+	
+	/**
+	 * A storage over component arrays.
+	 */
+	private static final class ComponentSource extends Source
+	{
+		/**
+		 * The x components.
+		 */
+		private final float[] x;
+		
+		/**
+		 * The y components.
+		 */
+		private final float[] y;
+		
+		/**
+		 * Creates a new storage.
+		 * 
+		 * @param x The x components.
+		 * @param y The y components.
+		 */
+		ComponentSource(float[] x, float[] y)
+		{
+			this.x = x;
+			this.y = y;
+		}
+		
+		@Override
+		float getX(int i)
+		{
+			return this.x[i];
+		}
+		
+		@Override
+		float getY(int i)
+		{
+			return this.y[i];
+		}
+		
+		@Override
+		void setX(int i, float x)
+		{
+			this.x[i] = x;
+		}
+		
+		@Override
+		void setY(int i, float y)
+		{
+			this.y[i] = y;
+		}
+		
+	}
+	
+	/**
+	 * A storage over an interleaved float buffer using absolute accesses.
+	 */
+	private static final class BufferSource extends Source
+	{
+		/**
+		 * The buffer.
+		 */
+		private final FloatBuffer buffer;
+		
+		/**
+		 * The position of the first component in the buffer.
+		 */
+		private final int base;
+		
+		/**
+		 * Creates a new storage.
+		 * 
+		 * @param buffer The buffer.
+		 */
+		BufferSource(FloatBuffer buffer)
+		{
+			this.buffer = buffer;
+			this.base = buffer.position();
+		}
+		
+		@Override
+		float getX(int i)
+		{
+			return this.buffer.get(this.base + i * 2 + 0);
+		}
+		
+		@Override
+		float getY(int i)
+		{
+			return this.buffer.get(this.base + i * 2 + 1);
+		}
+		
+		@Override
+		void setX(int i, float x)
+		{
+			this.buffer.put(this.base + i * 2 + 0, x);
+		}
+		
+		@Override
+		void setY(int i, float y)
+		{
+			this.buffer.put(this.base + i * 2 + 1, y);
+		}
+		
+	}
+	
+	/**
+	 * A storage over an array of tuples.
+	 */
+	private static final class TupleSource extends Source
+	{
+		/**
+		 * The tuples.
+		 */
+		private final Tup2fRW[] t;
+		
+		/**
+		 * Creates a new storage.
+		 * 
+		 * @param t The tuples.
+		 */
+		TupleSource(Tup2fRW[] t)
+		{
+			this.t = t;
+		}
+		
+		@Override
+		float getX(int i)
+		{
+			return this.t[i].getX();
+		}
+		
+		@Override
+		float getY(int i)
+		{
+			return this.t[i].getY();
+		}
+		
+		@Override
+		void setX(int i, float x)
+		{
+			this.t[i].setX(x);
+		}
+		
+		@Override
+		void setY(int i, float y)
+		{
+			this.t[i].setY(y);
+		}
+		
+		@Override
+		void set(int i, float x, float y)
+		{
+			this.t[i].set(x, y);
+		}
+	}
+	
+	/**
+	 * An intermediate operation. Either the mapper or the predicate is set.
+	 */
+	private static final class Stage
+	{
+		/**
+		 * The mapper or null.
+		 */
+		final Tup2fMapper mapper;
+		
+		/**
+		 * The predicate or null.
+		 */
+		final Predicate<? super Tup2fR> predicate;
+		
+		/**
+		 * Creates a new stage.
+		 * 
+		 * @param mapper The mapper or null.
+		 * @param predicate The predicate or null.
+		 */
+		Stage(Tup2fMapper mapper, Predicate<? super Tup2fR> predicate)
+		{
+			this.mapper = mapper;
+			this.predicate = predicate;
+		}
+	}
+	
+	/**
+	 * The flyweight tuple that reads and writes directly from and to a storage.
+	 */
+	private static final class Cursor implements Tup2fRW
+	{
+		/**
+		 * The storage.
+		 */
+		private final Source source;
+		
+		/**
+		 * The current index.
+		 */
+		int index;
+		
+		/**
+		 * Creates a new flyweight.
+		 * 
+		 * @param source The storage.
+		 */
+		Cursor(Source source)
+		{
+			this.source = source;
+		}
+		
+		@Override
+		public float getX()
+		{
+			return this.source.getX(this.index);
+		}
+		
+		@Override
+		public float getY()
+		{
+			return this.source.getY(this.index);
+		}
+		
+		@Override
+		public Cursor setX(float x)
+		{
+			this.source.setX(this.index, x);
+			
+			return this;
+		}
+		
+		@Override
+		public Cursor setY(float y)
+		{
+			this.source.setY(this.index, y);
+			
+			return this;
+		}
+		
+		@Override
+		public Cursor set(Tup2fR t)
+		{
+			return set(t.getX(), t.getY());
+		}
+		
+		@Override
+		public Cursor set(float value)
+		{
+			return set(value, value);
+		}
+		
+		@Override
+		public Cursor set(float x, float y)
+		{
+			this.source.set(this.index, x, y);
+			
+			return this;
+		}
+		
+		@Override
+		public String toString()
+		{
+			return "tup2fstream.cursor(index=" + this.index + ", x=" + getX() + ", y=" + getY() + ")";
+		}
+	}
+	
+	/**
+	 * The splittable spliterator over a range of a storage applying the intermediate operations.
+	 */
+	private static final class Tup2fSpliterator implements Spliterator<Tup2fRW>
+	{
+		/**
+		 * The minimum number of elements for a split.
+		 */
+		private static final int MIN_SPLIT = 1024;
+		
+		/**
+		 * The storage.
+		 */
+		private final Source source;
+		
+		/**
+		 * The intermediate operations.
+		 */
+		private final Stage[] stages;
+		
+		/**
+		 * The flyweight of this spliterator.
+		 */
+		private final Cursor cursor;
+		
+		/**
+		 * One scratch tuple per stage.
+		 */
+		private final Tup2f[] scratch;
+		
+		/**
+		 * The next index.
+		 */
+		private int index;
+		
+		/**
+		 * The end index (exclusive).
+		 */
+		private final int end;
+		
+		/**
+		 * Creates a new spliterator.
+		 * 
+		 * @param source The storage.
+		 * @param index The first index.
+		 * @param end The end index (exclusive).
+		 * @param stages The intermediate operations.
+		 */
+		Tup2fSpliterator(Source source, int index, int end, Stage[] stages)
+		{
+			this.source = source;
+			this.index = index;
+			this.end = end;
+			this.stages = stages;
+			this.cursor = new Cursor(source);
+			this.scratch = new Tup2f[stages.length];
+			
+			for(int i = 0; i < stages.length; i++)
+				if(stages[i].mapper != null) this.scratch[i] = new Tup2f();
+		}
+		
+		@Override
+		public boolean tryAdvance(Consumer<? super Tup2fRW> action)
+		{
+			while(this.index < this.end)
+			{
+				this.cursor.index = this.index++;
+				
+				Tup2fRW t = process();
+				
+				if(t != null)
+				{
+					action.accept(t);
+					return true;
+				}
+			}
+			
+			return false;
+		}
+		
+		@Override
+		public void forEachRemaining(Consumer<? super Tup2fRW> action)
+		{
+			int end = this.end;
+			
+			for(int i = this.index; i < end; i++)
+			{
+				this.cursor.index = i;
+				
+				Tup2fRW t = process();
+				
+				if(t != null) action.accept(t);
+			}
+			
+			this.index = end;
+		}
+		
+		@Override
+		public Spliterator<Tup2fRW> trySplit()
+		{
+			int remaining = this.end - this.index;
+			
+			if(remaining < MIN_SPLIT * 2) return null;
+			
+			int mid = this.index + (remaining >>> 1);
+			
+			Tup2fSpliterator prefix = new Tup2fSpliterator(this.source, this.index, mid, this.stages);
+			
+			this.index = mid;
+			
+			return prefix;
+		}
+		
+		@Override
+		public long estimateSize()
+		{
+			return this.end - this.index;
+		}
+		
+		@Override
+		public int characteristics()
+		{
+			int characteristics = ORDERED | NONNULL;
+			
+			for(int i = 0; i < this.stages.length; i++)
+				if(this.stages[i].predicate != null) return characteristics;
+			
+			return characteristics | SIZED | SUBSIZED;
+		}
+		
+		/**
+		 * Applies the intermediate operations to the element at the cursor.
+		 * 
+		 * @return The resulting element or null if it was filtered out.
+		 */
+		private Tup2fRW process()
+		{
+			Tup2fRW t = this.cursor;
+			
+			for(int i = 0; i < this.stages.length; i++)
+			{
+				Stage stage = this.stages[i];
+				
+				if(stage.mapper != null)
+				{
+					stage.mapper.map(t, this.scratch[i]);
+					t = this.scratch[i];
+				}
+				else if(!stage.predicate.test(t))
+				{
+					return null;
+				}
+			}
+			
+			return t;
+		}
+	}
+	
+	/**
+	 * This task performs an action for every element of a spliterator in parallel.
+	 */
+	private static final class ForEachTask extends RecursiveAction
+	{
+		/**
+		 * The class version for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The spliterator.
+		 */
+		private final Spliterator<Tup2fRW> spliterator;
+		
+		/**
+		 * The action.
+		 */
+		private final Consumer<? super Tup2fRW> action;
+		
+		/**
+		 * Creates a new task.
+		 * 
+		 * @param spliterator The spliterator.
+		 * @param action The action.
+		 */
+		ForEachTask(Spliterator<Tup2fRW> spliterator, Consumer<? super Tup2fRW> action)
+		{
+			this.spliterator = spliterator;
+			this.action = action;
+		}
+		
+		@Override
+		protected void compute()
+		{
+			Spliterator<Tup2fRW> prefix;
+			
+			if(this.spliterator.estimateSize() > PARALLEL_THRESHOLD && (prefix = this.spliterator.trySplit()) != null)
+			{
+				invokeAll(new ForEachTask(prefix, this.action), new ForEachTask(this.spliterator, this.action));
+				
+				return;
+			}
+			
+			this.spliterator.forEachRemaining(this.action);
+		}
+	}
+	
+	/**
+	 * This task performs a mutable reduction over the elements of a spliterator in parallel.
+	 * 
+	 * @param <C> The type of the result container.
+	 */
+	private static final class ReduceTask<C> extends RecursiveTask<C>
+	{
+		/**
+		 * The class version for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The spliterator.
+		 */
+		private final Spliterator<Tup2fRW> spliterator;
+		
+		/**
+		 * Creates a new result container.
+		 */
+		private final Supplier<C> supplier;
+		
+		/**
+		 * Adds an element to a result container.
+		 */
+		private final BiConsumer<C, ? super Tup2fR> accumulator;
+		
+		/**
+		 * Merges two result containers.
+		 */
+		private final BinaryOperator<C> combiner;
+		
+		/**
+		 * Creates a new task.
+		 * 
+		 * @param spliterator The spliterator.
+		 * @param supplier Creates a new result container.
+		 * @param accumulator Adds an element to a result container.
+		 * @param combiner Merges two result containers.
+		 */
+		ReduceTask(Spliterator<Tup2fRW> spliterator, Supplier<C> supplier, BiConsumer<C, ? super Tup2fR> accumulator, BinaryOperator<C> combiner)
+		{
+			this.spliterator = spliterator;
+			this.supplier = supplier;
+			this.accumulator = accumulator;
+			this.combiner = combiner;
+		}
+		
+		@Override
+		protected C compute()
+		{
+			Spliterator<Tup2fRW> prefix;
+			
+			if(this.spliterator.estimateSize() > PARALLEL_THRESHOLD && (prefix = this.spliterator.trySplit()) != null)
+			{
+				ReduceTask<C> left = new ReduceTask<>(prefix, this.supplier, this.accumulator, this.combiner);
+				ReduceTask<C> right = new ReduceTask<>(this.spliterator, this.supplier, this.accumulator, this.combiner);
+				
+				left.fork();
+				C rightResult = right.compute();
+				
+				return this.combiner.apply(left.join(), rightResult);
+			}
+			
+			return reduceSequential(this.spliterator, this.supplier, this.accumulator);
+		}
+	}
+}
\ No newline at end of file
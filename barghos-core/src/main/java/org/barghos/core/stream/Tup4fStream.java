@@ -0,0 +1,1297 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.stream;
+
+import java.nio.FloatBuffer;
+
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.barghos.core.api.stream.Tup4fMapper;
+import org.barghos.core.api.tuple4.Tup4fR;
+import org.barghos.core.api.tuple4.Tup4fRW;
+import org.barghos.core.api.tuple4.Tup4fW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.tuple4.Tup4f;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class represents a stream of 4-dimensional float tuples over primitive storage.
+ * 
+ * <p>
+ * The stream can be created over interleaved float arrays, component arrays, float buffers and tuple arrays.
+ * The elements are never boxed. Instead a flyweight {@link Tup4fRW} is handed out, that reads and writes directly
+ * from and to the underlying storage. After a {@link #map(Tup4fMapper)} the flyweight is a scratch tuple owned by the stream,
+ * so writes no longer reach the storage. The handed out tuple is only valid during the call and must not be kept.
+ * 
+ * <p>
+ * Intermediate operations are lazy and return a new stream. The storage is never copied.
+ * A parallel stream splits the index range of the storage across the common fork join pool,
+ * with one flyweight and one set of scratch tuples per split. The same applies to {@link #stream()},
+ * which bridges into {@link java.util.stream.Stream} using a splittable {@link Spliterator}.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class Tup4fStream
+{
+	/**
+	 * The number of elements below which a parallel operation is not split any further.
+	 */
+	private static final int PARALLEL_THRESHOLD = 4096;
+	
+	/**
+	 * The storage of the stream.
+	 */
+	private final Source source;
+	
+	/**
+	 * The first index of the stream.
+	 */
+	private final int from;
+	
+	/**
+	 * The end index of the stream (exclusive).
+	 */
+	private final int to;
+	
+	/**
+	 * The intermediate operations of the stream.
+	 */
+	private final Stage[] stages;
+	
+	/**
+	 * True if terminal operations should run in parallel.
+	 */
+	private final boolean parallel;
+	
+	/**
+	 * Creates a new stream.
+	 * 
+	 * @param source The storage of the stream.
+	 * @param from The first index of the stream.
+	 * @param to The end index of the stream (exclusive).
+	 * @param stages The intermediate operations of the stream.
+	 * @param parallel True if terminal operations should run in parallel.
+	 */
+	private Tup4fStream(Source source, int from, int to, Stage[] stages, boolean parallel)
+	{
+		this.source = source;
+		this.from = from;
+		this.to = to;
+		this.stages = stages;
+		this.parallel = parallel;
+	}
+	
+	/**
+	 * Creates a new stream over the tuples in the interleaved array (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * 
+	 * @param v The interleaved components.
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * 
+	 * @return A new sequential stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4fStream of(float[] v, int from, int to)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(v == null) throw new ArgumentNullException("v");
+		}
+		
+		return new Tup4fStream(new ArraySource(v), from, to, new Stage[0], false);
+	}
+	
+	/**
+	 * Creates a new stream over the tuples in the component arrays.
+	 * 
+	 * @param x The x components.
+	 * @param y The y components.
+	 * @param z The z components.
+	 * @param w The w components.
+	 * @param from The index of the first tuple.
+	 * @param to The index after the last tuple.
+	 * 
+	 * @return A new sequential stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4fStream of(float[] x, float[] y, float[] z, float[] w, int from, int to)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(x == null) throw new ArgumentNullException("x");
+			if(y == null) throw new ArgumentNullException("y");
+			if(z == null) throw new ArgumentNullException("z");
+			if(w == null) throw new ArgumentNullException("w");
+		}
+		
+		return new Tup4fStream(new ComponentSource(x, y, z, w), from, to, new Stage[0], false);
+	}
+	
+	/**
+	 * Creates a new stream over the tuples in the buffer between its position and its limit.
+	 * The buffer contains the tuples interleaved (t1.x, t1.y, t1.z, t1.w, t2.x, ...).
+	 * The position of the buffer is not changed.
+	 * 
+	 * @param buffer The buffer containing the tuples.
+	 * 
+	 * @return A new sequential stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4fStream of(FloatBuffer buffer)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(buffer == null) throw new ArgumentNullException("buffer");
+		}
+		
+		return new Tup4fStream(new BufferSource(buffer), 0, buffer.remaining() / 4, new Stage[0], false);
+	}
+	
+	/**
+	 * Creates a new stream over the tuples in the array.
+	 * 
+	 * @param t The tuples.
+	 * 
+	 * @return A new sequential stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static Tup4fStream of(Tup4fRW... t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return new Tup4fStream(new TupleSource(t), 0, t.length, new Stage[0], false);
+	}
+	
+	/**
+	 * Returns an equivalent stream whose terminal operations run in parallel.
+	 * 
+	 * @return A parallel stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Tup4fStream parallel()
+	{
+		return new Tup4fStream(this.source, this.from, this.to, this.stages, true);
+	}
+	
+	/**
+	 * Returns an equivalent stream whose terminal operations run sequential.
+	 * 
+	 * @return A sequential stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Tup4fStream sequential()
+	{
+		return new Tup4fStream(this.source, this.from, this.to, this.stages, false);
+	}
+	
+	/**
+	 * Returns true if terminal operations of this stream run in parallel.
+	 * 
+	 * @return True if the stream is parallel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean isParallel()
+	{
+		return this.parallel;
+	}
+	
+	/**
+	 * Returns a stream that maps every element with the mapper.
+	 * 
+	 * @param mapper The mapper.
+	 * 
+	 * @return A new stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Tup4fStream map(Tup4fMapper mapper)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(mapper == null) throw new ArgumentNullException("mapper");
+		}
+		
+		return append(new Stage(mapper, null));
+	}
+	
+	/**
+	 * Returns a stream that only contains the elements matching the predicate.
+	 * 
+	 * @param predicate The predicate.
+	 * 
+	 * @return A new stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Tup4fStream filter(Predicate<? super Tup4fR> predicate)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(predicate == null) throw new ArgumentNullException("predicate");
+		}
+		
+		return append(new Stage(null, predicate));
+	}
+	
+	/**
+	 * Performs the action for every element. In a parallel stream the action has to be thread-safe.
+	 * 
+	 * @param action The action.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void forEach(Consumer<? super Tup4fRW> action)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(action == null) throw new ArgumentNullException("action");
+		}
+		
+		if(this.parallel) new ForEachTask(spliterator(), action).invoke();
+		else spliterator().forEachRemaining(action);
+	}
+	
+	/**
+	 * Performs a mutable reduction on the elements.
+	 * Every split gets its own container from the supplier, which are merged with the combiner.
+	 * 
+	 * @param <C> The type of the result container.
+	 * @param supplier Creates a new result container.
+	 * @param accumulator Adds an element to a result container.
+	 * @param combiner Merges two result containers.
+	 * 
+	 * @return The result container.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <C> C reduce(Supplier<C> supplier, BiConsumer<C, ? super Tup4fR> accumulator, BinaryOperator<C> combiner)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(supplier == null) throw new ArgumentNullException("supplier");
+			if(accumulator == null) throw new ArgumentNullException("accumulator");
+			if(combiner == null) throw new ArgumentNullException("combiner");
+		}
+		
+		if(this.parallel) return new ReduceTask<>(spliterator(), supplier, accumulator, combiner).invoke();
+		
+		return reduceSequential(spliterator(), supplier, accumulator);
+	}
+	
+	/**
+	 * Returns the number of elements.
+	 * 
+	 * @return The number of elements.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public long count()
+	{
+		if(this.stages.length == 0) return this.to - this.from;
+		
+		return reduce(() -> new long[1], (c, t) -> c[0]++, (a, b) -> { a[0] += b[0]; return a; })[0];
+	}
+	
+	/**
+	 * Calculates the componentwise sum of the elements and writes it to result.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param result The tuple receiving the sum.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <T extends Tup4fW> T sum(T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Tup4f sum = reduce(Tup4f::new,
+				(c, t) -> c.set(c.x + t.getX(), c.y + t.getY(), c.z + t.getZ(), c.w + t.getW()),
+				(a, b) -> a.set(a.x + b.x, a.y + b.y, a.z + b.z, a.w + b.w));
+		
+		result.set(sum.x, sum.y, sum.z, sum.w);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise minimum of the elements and writes it to result.
+	 * If the stream is empty all components are set to {@link Float#POSITIVE_INFINITY}.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param result The tuple receiving the minimum.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <T extends Tup4fW> T min(T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Tup4f min = reduce(() -> new Tup4f(Float.POSITIVE_INFINITY),
+				(c, t) -> c.set(Math.min(c.x, t.getX()), Math.min(c.y, t.getY()), Math.min(c.z, t.getZ()), Math.min(c.w, t.getW())),
+				(a, b) -> a.set(Math.min(a.x, b.x), Math.min(a.y, b.y), Math.min(a.z, b.z), Math.min(a.w, b.w)));
+		
+		result.set(min.x, min.y, min.z, min.w);
+		
+		return result;
+	}
+	
+	/**
+	 * Calculates the componentwise maximum of the elements and writes it to result.
+	 * If the stream is empty all components are set to {@link Float#NEGATIVE_INFINITY}.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param result The tuple receiving the maximum.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <T extends Tup4fW> T max(T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		Tup4f max = reduce(() -> new Tup4f(Float.NEGATIVE_INFINITY),
+				(c, t) -> c.set(Math.max(c.x, t.getX()), Math.max(c.y, t.getY()), Math.max(c.z, t.getZ()), Math.max(c.w, t.getW())),
+				(a, b) -> a.set(Math.max(a.x, b.x), Math.max(a.y, b.y), Math.max(a.z, b.z), Math.max(a.w, b.w)));
+		
+		result.set(max.x, max.y, max.z, max.w);
+		
+		return result;
+	}
+	
+	/**
+	 * Returns a new splittable spliterator over the elements of this stream.
+	 * Every spliterator created by splitting hands out its own flyweight.
+	 * 
+	 * @return A new spliterator.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Spliterator<Tup4fRW> spliterator()
+	{
+		return new Tup4fSpliterator(this.source, this.from, this.to, this.stages);
+	}
+	
+	/**
+	 * Returns a {@link java.util.stream.Stream} over the elements of this stream.
+	 * It is parallel if this stream is parallel.
+	 * 
+	 * @return A new stream.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Stream<Tup4fRW> stream()
+	{
+		return StreamSupport.stream(spliterator(), this.parallel);
+	}
+	
+	/**
+	 * Returns a new stream with the stage appended to the intermediate operations.
+	 * 
+	 * @param stage The stage to append.
+	 * 
+	 * @return A new stream.
+	 */
+	private Tup4fStream append(Stage stage)
+	{
+		Stage[] stages = new Stage[this.stages.length + 1];
+		
+		System.arraycopy(this.stages, 0, stages, 0, this.stages.length);
+		stages[this.stages.length] = stage;
+		
+		return new Tup4fStream(this.source, this.from, this.to, stages, this.parallel);
+	}
+	
+	/**
+	 * Runs a mutable reduction sequentially over the remaining elements of the spliterator.
+	 * 
+	 * @param <C> The type of the result container.
+	 * @param spliterator The spliterator.
+	 * @param supplier Creates a new result container.
+	 * @param accumulator Adds an element to a result container.
+	 * 
+	 * @return The result container.
+	 */
+	private static <C> C reduceSequential(Spliterator<Tup4fRW> spliterator, Supplier<C> supplier, BiConsumer<C, ? super Tup4fR> accumulator)
+	{
+		C container = supplier.get();
+		
+		spliterator.forEachRemaining((t) -> accumulator.accept(container, t));
+		
+		return container;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "tup4fstream(from=" + this.from + ", to=" + this.to + ", stages=" + this.stages.length + ", parallel=" + this.parallel + ")";
+	}
+	
+	/**
+	 * This class is the base for the storages a stream can run over.
+	 */
+	private static abstract class Source
+	{
+		/**
+		 * Returns the x component of the tuple at the index.
+		 * 
+		 * @param i The index.
+		 * 
+		 * @return The x component.
+		 */
+		abstract float getX(int i);
+		
+		/**
+		 * Returns the y component of the tuple at the index.
+		 * 
+		 * @param i The index.
+		 * 
+		 * @return The y component.
+		 */
+		abstract float getY(int i);
+		
+		/**
+		 * Returns the z component of the tuple at the index.
+		 * 
+		 * @param i The index.
+		 * 
+		 * @return The z component.
+		 */
+		abstract float getZ(int i);
+		
+		/**
+		 * Returns the w component of the tuple at the index.
+		 * 
+		 * @param i The index.
+		 * 
+		 * @return The w component.
+		 */
+		abstract float getW(int i);
+		
+		/**
+		 * Sets the x component of the tuple at the index.
+		 * 
+		 * @param i The index.
+		 * @param x The new x component.
+		 */
+		abstract void setX(int i, float x);
+		
+		/**
+		 * Sets the y component of the tuple at the index.
+		 * 
+		 * @param i The index.
+		 * @param y The new y component.
+		 */
+		abstract void setY(int i, float y);
+		
+		/**
+		 * Sets the z component of the tuple at the index.
+		 * 
+		 * @param i The index.
+		 * @param z The new z component.
+		 */
+		abstract void setZ(int i, float z);
+		
+		/**
+		 * Sets the w component of the tuple at the index.
+		 * 
+		 * @param i The index.
+		 * @param w The new w component.
+		 */
+		abstract void setW(int i, float w);
+		
+		/**
+		 * Sets all components of the tuple at the index.
+		 * 
+		 * @param i The index.
+		 * @param x The new x component.
+		 * @param y The new y component.
+		 * @param z The new z component.
+		 * @param w The new w component.
+		 */
+		void set(int i, float x, float y, float z, float w)
+		{
+			setX(i, x);
+			setY(i, y);
+			setZ(i, z);
+			setW(i, w);
+		}
+	}
+	
+	/**
+	 * A storage over an interleaved float array.
+	 */
+	private static final class ArraySource extends Source
+	{
+		/**
+		 * The interleaved components.
+		 */
+		private final float[] v;
+		
+		/**
+		 * Creates a new storage.
+		 * 
+		 * @param v The interleaved components.
+		 */
+		ArraySource(float[] v)
+		{
+			this.v = v;
+		}
+		
+		@Override
+		float getX(int i)
+		{
+			return this.v[i * 4 + 0];
+		}
+		
+		@Override
+		float getY(int i)
+		{
+			return this.v[i * 4 + 1];
+		}
+		
+		@Override
+		float getZ(int i)
+		{
+			return this.v[i * 4 + 2];
+		}
+		
+		@Override
+		float getW(int i)
+		{
+			return this.v[i * 4 + 3];
+		}
+		
+		@Override
+		void setX(int i, float x)
+		{
+			this.v[i * 4 + 0] = x;
+		}
+		
+		@Override
+		void setY(int i, float y)
+		{
+			this.v[i * 4 + 1] = y;
+		}
+		
+		@Override
+		void setZ(int i, float z)
+		{
+			this.v[i * 4 + 2] = z;
+		}
+		
+		@Override
+		void setW(int i, float w)
+		{
+			this.v[i * 4 + 3] = w;
+		}
+		
+	}
+	
+	/**
+	 * A storage over component arrays.
+	 */
+	private static final class ComponentSource extends Source
+	{
+		/**
+		 * The x components.
+		 */
+		private final float[] x;
+		
+		/**
+		 * The y components.
+		 */
+		private final float[] y;
+		
+		/**
+		 * The z components.
+		 */
+		private final float[] z;
+		
+		/**
+		 * The w components.
+		 */
+		private final float[] w;
+		
+		/**
+		 * Creates a new storage.
+		 * 
+		 * @param x The x components.
+		 * @param y The y components.
+		 * @param z The z components.
+		 * @param w The w components.
+		 */
+		ComponentSource(float[] x, float[] y, float[] z, float[] w)
+		{
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.w = w;
+		}
+		
+		@Override
+		float getX(int i)
+		{
+			return this.x[i];
+		}
+		
+		@Override
+		float getY(int i)
+		{
+			return this.y[i];
+		}
+		
+		@Override
+		float getZ(int i)
+		{
+			return this.z[i];
+		}
+		
+		@Override
+		float getW(int i)
+		{
+			return this.w[i];
+		}
+		
+		@Override
+		void setX(int i, float x)
+		{
+			this.x[i] = x;
+		}
+		
+		@Override
+		void setY(int i, float y)
+		{
+			this.y[i] = y;
+		}
+		
+		@Override
+		void setZ(int i, float z)
+		{
+			this.z[i] = z;
+		}
+		
+		@Override
+		void setW(int i, float w)
+		{
+			this.w[i] = w;
+		}
+		
+	}
+	
+	/**
+	 * A storage over an interleaved float buffer using absolute accesses.
+	 */
+	private static final class BufferSource extends Source
+	{
+		/**
+		 * The buffer.
+		 */
+		private final FloatBuffer buffer;
+		
+		/**
+		 * The position of the first component in the buffer.
+		 */
+		private final int base;
+		
+		/**
+		 * Creates a new storage.
+		 * 
+		 * @param buffer The buffer.
+		 */
+		BufferSource(FloatBuffer buffer)
+		{
+			this.buffer = buffer;
+			this.base = buffer.position();
+		}
+		
+		@Override
+		float getX(int i)
+		{
+			return this.buffer.get(this.base + i * 4 + 0);
+		}
+		
+		@Override
+		float getY(int i)
+		{
+			return this.buffer.get(this.base + i * 4 + 1);
+		}
+		
+		@Override
+		float getZ(int i)
+		{
+			return this.buffer.get(this.base + i * 4 + 2);
+		}
+		
+		@Override
+		float getW(int i)
+		{
+			return this.buffer.get(this.base + i * 4 + 3);
+		}
+		
+		@Override
+		void setX(int i, float x)
+		{
+			this.buffer.put(this.base + i * 4 + 0, x);
+		}
+		
+		@Override
+		void setY(int i, float y)
+		{
+			this.buffer.put(this.base + i * 4 + 1, y);
+		}
+		
+		@Override
+		void setZ(int i, float z)
+		{
+			this.buffer.put(this.base + i * 4 + 2, z);
+		}
+		
+		@Override
+		void setW(int i, float w)
+		{
+			this.buffer.put(this.base + i * 4 + 3, w);
+		}
+		
+	}
+	
+	/**
+	 * A storage over an array of tuples.
+	 */
+	private static final class TupleSource extends Source
+	{
+		/**
+		 * The tuples.
+		 */
+		private final Tup4fRW[] t;
+		
+		/**
+		 * Creates a new storage.
+		 * 
+		 * @param t The tuples.
+		 */
+		TupleSource(Tup4fRW[] t)
+		{
+			this.t = t;
+		}
+		
+		@Override
+		float getX(int i)
+		{
+			return this.t[i].getX();
+		}
+		
+		@Override
+		float getY(int i)
+		{
+			return this.t[i].getY();
+		}
+		
+		@Override
+		float getZ(int i)
+		{
+			return this.t[i].getZ();
+		}
+		
+		@Override
+		float getW(int i)
+		{
+			return this.t[i].getW();
+		}
+		
+		@Override
+		void setX(int i, float x)
+		{
+			this.t[i].setX(x);
+		}
+		
+		@Override
+		void setY(int i, float y)
+		{
+			this.t[i].setY(y);
+		}
+		
+		@Override
+		void setZ(int i, float z)
+		{
+			this.t[i].setZ(z);
+		}
+		
+		@Override
+		void setW(int i, float w)
+		{
+			this.t[i].setW(w);
+		}
+		
+		@Override
+		void set(int i, float x, float y, float z, float w)
+		{
+			this.t[i].set(x, y, z, w);
+		}
+	}
+	
+	/**
+	 * An intermediate operation. Either the mapper or the predicate is set.
+	 */
+	private static final class Stage
+	{
+		/**
+		 * The mapper or null.
+		 */
+		final Tup4fMapper mapper;
+		
+		/**
+		 * The predicate or null.
+		 */
+		final Predicate<? super Tup4fR> predicate;
+		
+		/**
+		 * Creates a new stage.
+		 * 
+		 * @param mapper The mapper or null.
+		 * @param predicate The predicate or null.
+		 */
+		Stage(Tup4fMapper mapper, Predicate<? super Tup4fR> predicate)
+		{
+			this.mapper = mapper;
+			this.predicate = predicate;
+		}
+	}
+	
+	/**
+	 * The flyweight tuple that reads and writes directly from and to a storage.
+	 */
+	private static final class Cursor implements Tup4fRW
+	{
+		/**
+		 * The storage.
+		 */
+		private final Source source;
+		
+		/**
+		 * The current index.
+		 */
+		int index;
+		
+		/**
+		 * Creates a new flyweight.
+		 * 
+		 * @param source The storage.
+		 */
+		Cursor(Source source)
+		{
+			this.source = source;
+		}
+		
+		@Override
+		public float getX()
+		{
+			return this.source.getX(this.index);
+		}
+		
+		@Override
+		public float getY()
+		{
+			return this.source.getY(this.index);
+		}
+		
+		@Override
+		public float getZ()
+		{
+			return this.source.getZ(this.index);
+		}
+		
+		@Override
+		public float getW()
+		{
+			return this.source.getW(this.index);
+		}
+		
+		@Override
+		public Cursor setX(float x)
+		{
+			this.source.setX(this.index, x);
+			
+			return this;
+		}
+		
+		@Override
+		public Cursor setY(float y)
+		{
+			this.source.setY(this.index, y);
+			
+			return this;
+		}
+		
+		@Override
+		public Cursor setZ(float z)
+		{
+			this.source.setZ(this.index, z);
+			
+			return this;
+		}
+		
+		@Override
+		public Cursor setW(float w)
+		{
+			this.source.setW(this.index, w);
+			
+			return this;
+		}
+		
+		@Override
+		public Cursor set(Tup4fR t)
+		{
+			return set(t.getX(), t.getY(), t.getZ(), t.getW());
+		}
+		
+		@Override
+		public Cursor set(float value)
+		{
+			return set(value, value, value, value);
+		}
+		
+		@Override
+		public Cursor set(float x, float y, float z, float w)
+		{
+			this.source.set(this.index, x, y, z, w);
+			
+			return this;
+		}
+		
+		@Override
+		public String toString()
+		{
+			return "tup4fstream.cursor(index=" + this.index + ", x=" + getX() + ", y=" + getY() + ", z=" + getZ() + ", w=" + getW() + ")";
+		}
+	}
+	
+	/**
+	 * The splittable spliterator over a range of a storage applying the intermediate operations.
+	 */
+	private static final class Tup4fSpliterator implements Spliterator<Tup4fRW>
+	{
+		/**
+		 * The minimum number of elements for a split.
+		 */
+		private static final int MIN_SPLIT = 1024;
+		
+		/**
+		 * The storage.
+		 */
+		private final Source source;
+		
+		/**
+		 * The intermediate operations.
+		 */
+		private final Stage[] stages;
+		
+		/**
+		 * The flyweight of this spliterator.
+		 */
+		private final Cursor cursor;
+		
+		/**
+		 * One scratch tuple per stage.
+		 */
+		private final Tup4f[] scratch;
+		
+		/**
+		 * The next index.
+		 */
+		private int index;
+		
+		/**
+		 * The end index (exclusive).
+		 */
+		private final int end;
+		
+		/**
+		 * Creates a new spliterator.
+		 * 
+		 * @param source The storage.
+		 * @param index The first index.
+		 * @param end The end index (exclusive).
+		 * @param stages The intermediate operations.
+		 */
+		Tup4fSpliterator(Source source, int index, int end, Stage[] stages)
+		{
+			this.source = source;
+			this.index = index;
+			this.end = end;
+			this.stages = stages;
+			this.cursor = new Cursor(source);
+			this.scratch = new Tup4f[stages.length];
+			
+			for(int i = 0; i < stages.length; i++)
+				if(stages[i].mapper != null) this.scratch[i] = new Tup4f();
+		}
+		
+		@Override
+		public boolean tryAdvance(Consumer<? super Tup4fRW> action)
+		{
+			while(this.index < this.end)
+			{
+				this.cursor.index = this.index++;
+				
+				Tup4fRW t = process();
+				
+				if(t != null)
+				{
+					action.accept(t);
+					return true;
+				}
+			}
+			
+			return false;
+		}
+		
+		@Override
+		public void forEachRemaining(Consumer<? super Tup4fRW> action)
+		{
+			int end = this.end;
+			
+			for(int i = this.index; i < end; i++)
+			{
+				this.cursor.index = i;
+				
+				Tup4fRW t = process();
+				
+				if(t != null) action.accept(t);
+			}
+			
+			this.index = end;
+		}
+		
+		@Override
+		public Spliterator<Tup4fRW> trySplit()
+		{
+			int remaining = this.end - this.index;
+			
+			if(remaining < MIN_SPLIT * 2) return null;
+			
+			int mid = this.index + (remaining >>> 1);
+			
+			Tup4fSpliterator prefix = new Tup4fSpliterator(this.source, this.index, mid, this.stages);
+			
+			this.index = mid;
+			
+			return prefix;
+		}
+		
+		@Override
+		public long estimateSize()
+		{
+			return this.end - this.index;
+		}
+		
+		@Override
+		public int characteristics()
+		{
+			int characteristics = ORDERED | NONNULL;
+			
+			for(int i = 0; i < this.stages.length; i++)
+				if(this.stages[i].predicate != null) return characteristics;
+			
+			return characteristics | SIZED | SUBSIZED;
+		}
+		
+		/**
+		 * Applies the intermediate operations to the element at the cursor.
+		 * 
+		 * @return The resulting element or null if it was filtered out.
+		 */
+		private Tup4fRW process()
+		{
+			Tup4fRW t = this.cursor;
+			
+			for(int i = 0; i < this.stages.length; i++)
+			{
+				Stage stage = this.stages[i];
+				
+				if(stage.mapper != null)
+				{
+					stage.mapper.map(t, this.scratch[i]);
+					t = this.scratch[i];
+				}
+				else if(!stage.predicate.test(t))
+				{
+					return null;
+				}
+			}
+			
+			return t;
+		}
+	}
+	
+	/**
+	 * This task performs an action for every element of a spliterator in parallel.
+	 */
+	private static final class ForEachTask extends RecursiveAction
+	{
+		/**
+		 * The class version for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The spliterator.
+		 */
+		private final Spliterator<Tup4fRW> spliterator;
+		
+		/**
+		 * The action.
+		 */
+		private final Consumer<? super Tup4fRW> action;
+		
+		/**
+		 * Creates a new task.
+		 * 
+		 * @param spliterator The spliterator.
+		 * @param action The action.
+		 */
+		ForEachTask(Spliterator<Tup4fRW> spliterator, Consumer<? super Tup4fRW> action)
+		{
+			this.spliterator = spliterator;
+			this.action = action;
+		}
+		
+		@Override
+		protected void compute()
+		{
+			Spliterator<Tup4fRW> prefix;
+			
+			if(this.spliterator.estimateSize() > PARALLEL_THRESHOLD && (prefix = this.spliterator.trySplit()) != null)
+			{
+				invokeAll(new ForEachTask(prefix, this.action), new ForEachTask(this.spliterator, this.action));
+				
+				return;
+			}
+			
+			this.spliterator.forEachRemaining(this.action);
+		}
+	}
+	
+	/**
+	 * This task performs a mutable reduction over the elements of a spliterator in parallel.
+	 * 
+	 * @param <C> The type of the result container.
+	 */
+	private static final class ReduceTask<C> extends RecursiveTask<C>
+	{
+		/**
+		 * The class version for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * The spliterator.
+		 */
+		private final Spliterator<Tup4fRW> spliterator;
+		
+		/**
+		 * Creates a new result container.
+		 */
+		private final Supplier<C> supplier;
+		
+		/**
+		 * Adds an element to a result container.
+		 */
+		private final BiConsumer<C, ? super Tup4fR> accumulator;
+		
+		/**
+		 * Merges two result containers.
+		 */
+		private final BinaryOperator<C> combiner;
+		
+		/**
+		 * Creates a new task.
+		 * 
+		 * @param spliterator The spliterator.
+		 * @param supplier Creates a new result container.
+		 * @param accumulator Adds an element to a result container.
+		 * @param combiner Merges two result containers.
+		 */
+		ReduceTask(Spliterator<Tup4fRW> spliterator, Supplier<C> supplier, BiConsumer<C, ? super Tup4fR> accumulator, BinaryOperator<C> combiner)
+		{
+			this.spliterator = spliterator;
+			this.supplier = supplier;
+			this.accumulator = accumulator;
+			this.combiner = combiner;
+		}
+		
+		@Override
+		protected C compute()
+		{
+			Spliterator<Tup4fRW> prefix;
+			
+			if(this.spliterator.estimateSize() > PARALLEL_THRESHOLD && (prefix = this.spliterator.trySplit()) != null)
+			{
+				ReduceTask<C> left = new ReduceTask<>(prefix, this.supplier, this.accumulator, this.combiner);
+				ReduceTask<C> right = new ReduceTask<>(this.spliterator, this.supplier, this.accumulator, this.combiner);
+				
+				left.fork();
+				C rightResult = right.compute();
+				
+				return this.combiner.apply(left.join(), rightResult);
+			}
+			
+			return reduceSequential(this.spliterator, this.supplier, this.accumulator);
+		}
+	}
+}
\ No newline at end of file
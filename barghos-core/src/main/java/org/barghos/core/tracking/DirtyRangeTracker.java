@@ -0,0 +1,347 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.tracking;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class tracks which elements of an indexed container were modified.
+ * 
+ * <p>
+ * The modified indices are stored in a bit set. Additionally the lowest and the highest modified index are kept,
+ * so checking for changes is constant time and collecting the modified ranges only scans the affected part of the bit set.
+ * Collecting the ranges merges adjacent indices into ranges, optionally also bridging small gaps of unmodified elements.
+ * 
+ * <p>
+ * The tracker is not thread-safe.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class DirtyRangeTracker
+{
+	/**
+	 * The bit set of the modified indices.
+	 */
+	private long[] words;
+	
+	/**
+	 * The lowest modified index or {@link Integer#MAX_VALUE} if nothing was modified.
+	 */
+	private int lowest = Integer.MAX_VALUE;
+	
+	/**
+	 * The highest modified index or -1 if nothing was modified.
+	 */
+	private int highest = -1;
+	
+	/**
+	 * Creates a new instance with a default capacity.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public DirtyRangeTracker()
+	{
+		this(64);
+	}
+	
+	/**
+	 * Creates a new instance with the capacity. The tracker grows automatically.
+	 * 
+	 * @param capacity The initial number of tracked indices.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public DirtyRangeTracker(int capacity)
+	{
+		this.words = new long[Math.max(1, (capacity + 63) >>> 6)];
+	}
+	
+	/**
+	 * Marks the element at the index as modified.
+	 * 
+	 * @param index The index of the modified element.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void markDirty(int index)
+	{
+		if(index < 0) throw new IndexOutOfBoundsException(Integer.toString(index));
+		
+		int word = index >>> 6;
+		
+		if(word >= this.words.length) grow(word);
+		
+		this.words[word] |= 1L << index;
+		
+		if(index < this.lowest) this.lowest = index;
+		if(index > this.highest) this.highest = index;
+	}
+	
+	/**
+	 * Marks the elements in the range of from to to as modified.
+	 * 
+	 * @param from The index of the first modified element.
+	 * @param to The index after the last modified element.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void markDirty(int from, int to)
+	{
+		if(from < 0 || to < from) throw new IndexOutOfBoundsException("from: " + from + ", to: " + to);
+		
+		if(from == to) return;
+		
+		int first = from >>> 6;
+		int last = (to - 1) >>> 6;
+		
+		if(last >= this.words.length) grow(last);
+		
+		long firstMask = -1L << from;
+		long lastMask = -1L >>> -to;
+		
+		if(first == last)
+		{
+			this.words[first] |= firstMask & lastMask;
+		}
+		else
+		{
+			this.words[first] |= firstMask;
+			
+			for(int i = first + 1; i < last; i++)
+				this.words[i] = -1L;
+			
+			this.words[last] |= lastMask;
+		}
+		
+		if(from < this.lowest) this.lowest = from;
+		if(to - 1 > this.highest) this.highest = to - 1;
+	}
+	
+	/**
+	 * Returns true if the element at the index was modified.
+	 * 
+	 * @param index The index of the element.
+	 * 
+	 * @return True if the element was modified.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean isDirty(int index)
+	{
+		if(index < this.lowest || index > this.highest) return false;
+		
+		return (this.words[index >>> 6] & (1L << index)) != 0;
+	}
+	
+	/**
+	 * Returns true if no element was modified.
+	 * 
+	 * @return True if no element was modified.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean isClean()
+	{
+		return this.highest < 0;
+	}
+	
+	/**
+	 * Returns the lowest modified index or -1 if no element was modified.
+	 * 
+	 * @return The lowest modified index.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getLowest()
+	{
+		return this.highest < 0 ? -1 : this.lowest;
+	}
+	
+	/**
+	 * Returns the highest modified index or -1 if no element was modified.
+	 * 
+	 * @return The highest modified index.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getHighest()
+	{
+		return this.highest;
+	}
+	
+	/**
+	 * Returns the number of modified elements.
+	 * 
+	 * @return The number of modified elements.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getDirtyCount()
+	{
+		if(this.highest < 0) return 0;
+		
+		int count = 0;
+		
+		for(int i = this.lowest >>> 6; i <= this.highest >>> 6; i++)
+			count += Long.bitCount(this.words[i]);
+		
+		return count;
+	}
+	
+	/**
+	 * Writes the merged ranges of modified elements as pairs of from (inclusive) and to (exclusive) into the array.
+	 * Ranges separated by at most maxGap unmodified elements are merged into one range.
+	 * If the array is too small, the last written range is extended to cover all remaining modified elements.
+	 * 
+	 * @param ranges The array receiving the pairs of from and to.
+	 * @param maxGap The maximum number of unmodified elements between two ranges that are merged.
+	 * 
+	 * @return The number of written ranges.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getRanges(int[] ranges, int maxGap)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(ranges == null) throw new ArgumentNullException("ranges");
+		}
+		
+		int maxRanges = ranges.length >>> 1;
+		
+		if(this.highest < 0 || maxRanges == 0) return 0;
+		
+		int count = 0;
+		int index = this.lowest;
+		int end = this.highest + 1;
+		
+		while(index < end)
+		{
+			int from = nextSet(index, end);
+			
+			if(from >= end) break;
+			
+			int to = nextClear(from, end);
+			
+			if(count > 0 && (from - ranges[(count << 1) - 1] <= maxGap || count == maxRanges))
+			{
+				ranges[(count << 1) - 1] = to;
+			}
+			else
+			{
+				ranges[count << 1] = from;
+				ranges[(count << 1) + 1] = to;
+				count++;
+			}
+			
+			index = to;
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Marks all elements as unmodified.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void clear()
+	{
+		if(this.highest < 0) return;
+		
+		for(int i = this.lowest >>> 6; i <= this.highest >>> 6; i++)
+			this.words[i] = 0L;
+		
+		this.lowest = Integer.MAX_VALUE;
+		this.highest = -1;
+	}
+	
+	/**
+	 * Returns the index of the next modified element starting at the index.
+	 * 
+	 * @param index The index to start at.
+	 * @param end The index to stop at.
+	 * 
+	 * @return The index of the next modified element or end.
+	 */
+	private int nextSet(int index, int end)
+	{
+		int word = index >>> 6;
+		long bits = this.words[word] & (-1L << index);
+		
+		while(bits == 0)
+		{
+			if(++word << 6 >= end) return end;
+			
+			bits = this.words[word];
+		}
+		
+		return Math.min(end, (word << 6) + Long.numberOfTrailingZeros(bits));
+	}
+	
+	/**
+	 * Returns the index of the next unmodified element starting at the index.
+	 * 
+	 * @param index The index to start at.
+	 * @param end The index to stop at.
+	 * 
+	 * @return The index of the next unmodified element or end.
+	 */
+	private int nextClear(int index, int end)
+	{
+		int word = index >>> 6;
+		long bits = ~this.words[word] & (-1L << index);
+		
+		while(bits == 0)
+		{
+			if(++word << 6 >= end) return end;
+			
+			bits = ~this.words[word];
+		}
+		
+		return Math.min(end, (word << 6) + Long.numberOfTrailingZeros(bits));
+	}
+	
+	/**
+	 * Grows the bit set to contain the word.
+	 * 
+	 * @param word The index of the word.
+	 */
+	private void grow(int word)
+	{
+		long[] words = new long[Math.max(word + 1, this.words.length * 2)];
+		
+		System.arraycopy(this.words, 0, words, 0, this.words.length);
+		
+		this.words = words;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "dirtyrangetracker(lowest=" + getLowest() + ", highest=" + this.highest + ", dirtyCount=" + getDirtyCount() + ")";
+	}
+}
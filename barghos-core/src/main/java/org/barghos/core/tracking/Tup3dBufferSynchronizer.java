@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.tracking;
+
+import java.nio.DoubleBuffer;
+
+import java.util.List;
+
+import org.barghos.core.api.tuple3.Tup3dR;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.tuple3.TrackedTup3d;
+import org.barghos.core.util.ArgumentNullException;
+import org.barghos.core.util.BufferUtils;
+
+/**
+ * This class keeps a direct {@link DoubleBuffer} mirror of a list of 3-dimensional double tuples up to date.
+ * 
+ * <p>
+ * Unlike {@link BufferUtils}, which rewrites the whole buffer, {@link #sync(int[], int)} only rewrites the ranges
+ * of tuples that were modified since the last synchronization and reports them, so partial uploads can be used.
+ * Instances of {@link TrackedTup3d} in the list are bound to the synchronizer and report their modifications themselves.
+ * They are bound whenever their index is rewritten, so a tracked tuple that replaces another one is bound
+ * after its index was marked as modified.
+ * Modifications of other tuples have to be reported with {@link #markDirty(int)}.
+ * Added tuples are detected by the size of the list. If elements are inserted, removed or replaced,
+ * {@link #markDirty(int, int)} has to be called for the affected range.
+ * 
+ * <p>
+ * The buffer holds the components interleaved (t1.x, t1.y, t1.z, t2.x, ...).
+ * Its limit always matches the size of the list after a synchronization. If the list outgrows the capacity,
+ * a new larger buffer is allocated and all tuples are reported as modified.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class Tup3dBufferSynchronizer
+{
+	/**
+	 * The ranges passed by {@link #sync()}, which does not report them.
+	 */
+	private static final int[] NO_RANGES = new int[0];
+	
+	/**
+	 * The mirrored tuples.
+	 */
+	private final List<? extends Tup3dR> list;
+	
+	/**
+	 * The tracker of the modified indices.
+	 */
+	private final DirtyRangeTracker tracker;
+	
+	/**
+	 * The mirror of the tuples.
+	 */
+	private DoubleBuffer buffer;
+	
+	/**
+	 * The size of the list at the last synchronization.
+	 */
+	private int size;
+	
+	/**
+	 * The ranges used if the caller does not provide enough space.
+	 */
+	private final int[] scratch = new int[2];
+	
+	/**
+	 * Creates a new synchronizer for the list. All tuples are initially marked as modified.
+	 * 
+	 * @param list The tuples to mirror.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public Tup3dBufferSynchronizer(List<? extends Tup3dR> list)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(list == null) throw new ArgumentNullException("list");
+		}
+		
+		this.list = list;
+		this.tracker = new DirtyRangeTracker(list.size());
+		this.buffer = BufferUtils.createDoubleBuffer(Math.max(1, list.size()) * 3);
+		this.buffer.limit(0);
+	}
+	
+	/**
+	 * Marks the tuple at the index as modified.
+	 * 
+	 * @param index The index of the modified tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void markDirty(int index)
+	{
+		this.tracker.markDirty(index);
+	}
+	
+	/**
+	 * Marks the tuples in the range of from to to as modified.
+	 * 
+	 * @param from The index of the first modified tuple.
+	 * @param to The index after the last modified tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void markDirty(int from, int to)
+	{
+		this.tracker.markDirty(from, to);
+	}
+	
+	/**
+	 * Marks all tuples as modified.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void markAllDirty()
+	{
+		this.tracker.markDirty(0, this.list.size());
+	}
+	
+	/**
+	 * Returns true if there are modifications that are not synchronized yet.
+	 * Tuples added to the list are not considered until the next synchronization.
+	 * 
+	 * @return True if a synchronization is pending.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean isDirty()
+	{
+		return !this.tracker.isClean() || this.size != this.list.size();
+	}
+	
+	/**
+	 * Rewrites the modified tuples in the buffer and writes the merged ranges of rewritten tuple indices
+	 * as pairs of from (inclusive) and to (exclusive) into the array.
+	 * Ranges separated by at most maxGap unmodified tuples are merged into one range.
+	 * If the array is too small, the last range is extended to cover all remaining modified tuples.
+	 * To get the range of components in the buffer the indices have to be multiplied by 3.
+	 * 
+	 * @param ranges The array receiving the pairs of from and to. Can be empty if the ranges are not needed.
+	 * @param maxGap The maximum number of unmodified tuples between two ranges that are merged.
+	 * 
+	 * @return The number of written ranges.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int sync(int[] ranges, int maxGap)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(ranges == null) throw new ArgumentNullException("ranges");
+		}
+		
+		int size = this.list.size();
+		
+		if(size * 3 > this.buffer.capacity())
+		{
+			this.buffer = BufferUtils.createDoubleBuffer(Math.max(size, this.buffer.capacity() / 3 * 2) * 3);
+			this.tracker.markDirty(0, size);
+		}
+		
+		if(size > this.size) this.tracker.markDirty(this.size, size);
+		
+		this.size = size;
+		this.buffer.limit(size * 3);
+		
+		int count = 0;
+		
+		if(!this.tracker.isClean())
+		{
+			int[] pending = ranges.length >= 2 ? ranges : this.scratch;
+			
+			int found = this.tracker.getRanges(pending, maxGap);
+			
+			for(int r = 0; r < found; r++)
+			{
+				int from = pending[r << 1];
+				int to = Math.min(pending[(r << 1) + 1], size);
+				
+				// The ranges are ascending, so all following ranges are behind the end of a shrunk list too.
+				if(from >= to) break;
+				
+				pending[count << 1] = from;
+				pending[(count << 1) + 1] = to;
+				count++;
+				
+				for(int i = from; i < to; i++)
+				{
+					Tup3dR t = this.list.get(i);
+					int base = i * 3;
+					
+					if(t instanceof TrackedTup3d) ((TrackedTup3d)t).bind(this.tracker, i);
+					
+					this.buffer.put(base + 0, t.getX());
+					this.buffer.put(base + 1, t.getY());
+					this.buffer.put(base + 2, t.getZ());
+				}
+			}
+			
+			this.tracker.clear();
+			
+			if(pending != ranges) count = 0;
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Rewrites the modified tuples in the buffer without reporting the ranges.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void sync()
+	{
+		sync(NO_RANGES, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Returns the mirror of the tuples. The buffer is replaced if the list outgrows its capacity.
+	 * 
+	 * @return The buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public DoubleBuffer getBuffer()
+	{
+		return this.buffer;
+	}
+	
+	/**
+	 * Returns the tracker of the modified indices.
+	 * 
+	 * @return The tracker.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public DirtyRangeTracker getTracker()
+	{
+		return this.tracker;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "tup3dbuffersynchronizer(size=" + this.size + ", tracker=" + this.tracker + ")";
+	}
+}
\ No newline at end of file
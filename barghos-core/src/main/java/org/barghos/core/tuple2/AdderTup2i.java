@@ -0,0 +1,375 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.tuple2;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import org.barghos.core.api.tuple2.Tup2iR;
+import org.barghos.core.api.tuple2.Tup2iW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+import org.barghos.core.util.FastFormat;
+
+/**
+ * This class represents a 2-dimensional integer tuple, that accumulates additions from multiple threads.
+ * 
+ * <p>
+ * Like {@link java.util.concurrent.atomic.LongAdder} the additions are striped across cells,
+ * that are padded to separate cache lines. Each thread adds to the cell selected by its id, so concurrent
+ * additions rarely contend. The getters merge the cells on every call, which makes reads more expensive than writes.
+ * Reads concurrent to additions do not return an atomic snapshot.
+ * 
+ * <p>
+ * The cells are summed as longs. The getters narrow the sum to an int and wrap around like int arithmetic.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class AdderTup2i implements Tup2iR
+{
+	/**
+	 * The binary logarithm of the number of cells reserved per stripe. 16 cells of 8 bytes
+	 * span 128 bytes, which also covers the adjacent cache line prefetch.
+	 */
+	private static final int STRIDE_SHIFT = 4;
+	
+	/**
+	 * The handle for atomic accesses to the cells.
+	 */
+	private static final VarHandle CELLS = MethodHandles.arrayElementVarHandle(long[].class);
+	
+	/**
+	 * The cells of all stripes. The first stripe is left empty as padding against the array header.
+	 */
+	private final long[] cells;
+	
+	/**
+	 * The mask to map a thread to a stripe.
+	 */
+	private final int mask;
+	
+	/**
+	 * Creates a new instance with a stripe count based on the number of available processors.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AdderTup2i()
+	{
+		this(Runtime.getRuntime().availableProcessors() * 2);
+	}
+	
+	/**
+	 * Creates a new instance with at least the given number of stripes.
+	 * The number of stripes is rounded up to the next power of two.
+	 * 
+	 * @param stripes The minimum number of stripes.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AdderTup2i(int stripes)
+	{
+		if(stripes < 1 || stripes > 1 << 20) throw new IllegalArgumentException("stripes");
+		
+		int count = Integer.highestOneBit(stripes);
+		
+		if(count < stripes) count <<= 1;
+		
+		this.mask = count - 1;
+		this.cells = new long[(count + 1) << STRIDE_SHIFT];
+	}
+	
+	/**
+	 * Returns the number of stripes.
+	 * 
+	 * @return The number of stripes.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getStripes()
+	{
+		return this.mask + 1;
+	}
+	
+	/**
+	 * Adds the values to the corresponding components.
+	 * 
+	 * @param x The value to add to the x component.
+	 * @param y The value to add to the y component.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AdderTup2i add(int x, int y)
+	{
+		int base = (stripe() + 1) << STRIDE_SHIFT;
+		
+		CELLS.getAndAdd(this.cells, base, (long)x);
+		CELLS.getAndAdd(this.cells, base + 1, (long)y);
+		
+		return this;
+	}
+	
+	/**
+	 * Adds the components of the tuple t to the corresponding components.
+	 * 
+	 * @param t The tuple to add.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AdderTup2i add(Tup2iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return add(t.getX(), t.getY());
+	}
+	
+	/**
+	 * Adds the value to the x component.
+	 * 
+	 * @param x The value to add.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AdderTup2i addX(int x)
+	{
+		addCell(0, x);
+		
+		return this;
+	}
+	
+	/**
+	 * Adds the value to the y component.
+	 * 
+	 * @param y The value to add.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AdderTup2i addY(int y)
+	{
+		addCell(1, y);
+		
+		return this;
+	}
+	
+	@Override
+	public int getX()
+	{
+		return (int)sum(0);
+	}
+	
+	@Override
+	public int getY()
+	{
+		return (int)sum(1);
+	}
+	
+	/**
+	 * Merges the stripes and writes the sums to result.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param result The tuple receiving the sums.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <T extends Tup2iW> T sum(T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		result.set((int)sum(0), (int)sum(1));
+		
+		return result;
+	}
+	
+	/**
+	 * Merges the stripes, writes the sums to result and resets all cells to zero.
+	 * Each cell is read and reset atomically, so concurrent additions are either part of
+	 * the result or remain in the tuple.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param result The tuple receiving the sums.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <T extends Tup2iW> T sumThenReset(T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		long x = 0L;
+		long y = 0L;
+		
+		for(int base = 1 << STRIDE_SHIFT; base < this.cells.length; base += 1 << STRIDE_SHIFT)
+		{
+			x += (long)CELLS.getAndSet(this.cells, base, 0L);
+			y += (long)CELLS.getAndSet(this.cells, base + 1, 0L);
+		}
+		
+		result.set((int)x, (int)y);
+		
+		return result;
+	}
+	
+	/**
+	 * Resets all cells to zero. Concurrent additions can be lost.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AdderTup2i reset()
+	{
+		for(int base = 1 << STRIDE_SHIFT; base < this.cells.length; base += 1 << STRIDE_SHIFT)
+		{
+			CELLS.setVolatile(this.cells, base, 0L);
+			CELLS.setVolatile(this.cells, base + 1, 0L);
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Merges the stripes of a component.
+	 * 
+	 * @param component The index of the component.
+	 * 
+	 * @return The sum of the component.
+	 */
+	private long sum(int component)
+	{
+		long sum = 0L;
+		
+		for(int i = (1 << STRIDE_SHIFT) + component; i < this.cells.length; i += 1 << STRIDE_SHIFT)
+		{
+			sum += (long)CELLS.getVolatile(this.cells, i);
+		}
+		
+		return sum;
+	}
+	
+	/**
+	 * Adds the value to a component of the stripe of the current thread.
+	 * 
+	 * @param component The index of the component.
+	 * @param value The value to add.
+	 */
+	private void addCell(int component, long value)
+	{
+		CELLS.getAndAdd(this.cells, ((stripe() + 1) << STRIDE_SHIFT) + component, value);
+	}
+	
+	/**
+	 * Returns the stripe of the current thread.
+	 * 
+	 * @return The stripe of the current thread.
+	 */
+	private int stripe()
+	{
+		long id = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+		
+		return (int)(id >>> 32) & this.mask;
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the string builder. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param sb The string builder to append to.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public StringBuilder appendTo(StringBuilder sb)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		sb.append("addertup2i(x=");
+		FastFormat.append(sb, getX());
+		sb.append(", y=");
+		FastFormat.append(sb, getY());
+		sb.append(')');
+		
+		return sb;
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the appendable. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable to append to.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <A extends Appendable> A appendTo(A a) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		a.append("addertup2i(x=");
+		FastFormat.append(a, getX());
+		a.append(", y=");
+		FastFormat.append(a, getY());
+		a.append(')');
+		
+		return a;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return appendTo(new StringBuilder()).toString();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,430 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.tuple2;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import org.barghos.core.api.tuple2.Tup2fR;
+import org.barghos.core.api.tuple2.Tup2fRW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+import org.barghos.core.util.FastFormat;
+
+/**
+ * This class represents a 2-dimensional float tuple, that can be shared and updated by multiple threads.
+ * 
+ * <p>
+ * Every component is a volatile field, that is updated atomically through a {@link VarHandle}.
+ * Besides the volatile getters and setters the components support compare and set, get and set, get and add
+ * and acquire/release accesses. Setting multiple components at once is not atomic as a whole.
+ * 
+ * <p>
+ * Like {@link java.util.concurrent.atomic.AtomicInteger} the class does not override
+ * {@link Object#equals(Object)} and {@link Object#hashCode()}, as the value can change at any time.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class AtomicTup2f implements Tup2fRW, Serializable
+{
+	/**
+	 * The class version for serialization.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * The x component.
+	 */
+	private volatile float x;
+	
+	/**
+	 * The y component.
+	 */
+	private volatile float y;
+	
+	/**
+	 * The handle for atomic accesses to the x component.
+	 */
+	private static final VarHandle X;
+	
+	/**
+	 * The handle for atomic accesses to the y component.
+	 */
+	private static final VarHandle Y;
+	
+	static
+	{
+		try
+		{
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			
+			X = lookup.findVarHandle(AtomicTup2f.class, "x", float.class);
+			Y = lookup.findVarHandle(AtomicTup2f.class, "y", float.class);
+		}
+		catch(ReflectiveOperationException e)
+		{
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance with all components set to 0.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AtomicTup2f()
+	{
+		
+	}
+	
+	/**
+	 * Creates a new instance from an existing instance of {@link Tup2fR} and adopts the values.
+	 * 
+	 * @param t An existing implementation of {@link Tup2fR} to adopt the values from.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AtomicTup2f(Tup2fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		set(t);
+	}
+	
+	/**
+	 * Creates a new instance with all values set to a single value.
+	 * 
+	 * @param value The value used as the initial value for all values of the tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AtomicTup2f(float value)
+	{
+		set(value);
+	}
+	
+	/**
+	 * Creates a new instance with the values set to the corresponding parameters.
+	 * 
+	 * @param x The initial x value of the tuple.
+	 * @param y The initial y value of the tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AtomicTup2f(float x, float y)
+	{
+		set(x, y);
+	}
+	
+	@Override
+	public float getX()
+	{
+		return this.x;
+	}
+	
+	@Override
+	public AtomicTup2f setX(float x)
+	{
+		this.x = x;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the x component with acquire semantics. No later reads or writes can be reordered before this read.
+	 * 
+	 * @return The x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float getXAcquire()
+	{
+		return (float)X.getAcquire(this);
+	}
+	
+	/**
+	 * Sets the x component with release semantics. No earlier reads or writes can be reordered after this write.
+	 * 
+	 * @param x The new x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void setXRelease(float x)
+	{
+		X.setRelease(this, x);
+	}
+	
+	/**
+	 * Atomically sets the x component to the new value, if it currently equals the expected value. The values are compared by their bits.
+	 * 
+	 * @param expected The expected x component.
+	 * @param value The new x component.
+	 * 
+	 * @return True if the component was set.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean compareAndSetX(float expected, float value)
+	{
+		return X.compareAndSet(this, expected, value);
+	}
+	
+	/**
+	 * Atomically sets the x component and returns the old value.
+	 * 
+	 * @param value The new x component.
+	 * 
+	 * @return The old x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float getAndSetX(float value)
+	{
+		return (float)X.getAndSet(this, value);
+	}
+	
+	/**
+	 * Atomically adds the delta to the x component and returns the old value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The old x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float getAndAddX(float delta)
+	{
+		return (float)X.getAndAdd(this, delta);
+	}
+	
+	/**
+	 * Atomically adds the delta to the x component and returns the new value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The new x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float addAndGetX(float delta)
+	{
+		return (float)X.getAndAdd(this, delta) + delta;
+	}
+	
+	@Override
+	public float getY()
+	{
+		return this.y;
+	}
+	
+	@Override
+	public AtomicTup2f setY(float y)
+	{
+		this.y = y;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the y component with acquire semantics. No later reads or writes can be reordered before this read.
+	 * 
+	 * @return The y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float getYAcquire()
+	{
+		return (float)Y.getAcquire(this);
+	}
+	
+	/**
+	 * Sets the y component with release semantics. No earlier reads or writes can be reordered after this write.
+	 * 
+	 * @param y The new y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void setYRelease(float y)
+	{
+		Y.setRelease(this, y);
+	}
+	
+	/**
+	 * Atomically sets the y component to the new value, if it currently equals the expected value. The values are compared by their bits.
+	 * 
+	 * @param expected The expected y component.
+	 * @param value The new y component.
+	 * 
+	 * @return True if the component was set.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean compareAndSetY(float expected, float value)
+	{
+		return Y.compareAndSet(this, expected, value);
+	}
+	
+	/**
+	 * Atomically sets the y component and returns the old value.
+	 * 
+	 * @param value The new y component.
+	 * 
+	 * @return The old y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float getAndSetY(float value)
+	{
+		return (float)Y.getAndSet(this, value);
+	}
+	
+	/**
+	 * Atomically adds the delta to the y component and returns the old value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The old y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float getAndAddY(float delta)
+	{
+		return (float)Y.getAndAdd(this, delta);
+	}
+	
+	/**
+	 * Atomically adds the delta to the y component and returns the new value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The new y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public float addAndGetY(float delta)
+	{
+		return (float)Y.getAndAdd(this, delta) + delta;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>
+	 * The components are set one after another. Readers can observe a partially updated tuple.
+	 */
+	@Override
+	public AtomicTup2f set(float x, float y)
+	{
+		this.x = x;
+		this.y = y;
+		
+		return this;
+	}
+	
+	@Override
+	public AtomicTup2f set(Tup2fR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return set(t.getX(), t.getY());
+	}
+	
+	@Override
+	public AtomicTup2f set(float value)
+	{
+		return set(value, value);
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the string builder. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param sb The string builder to append to.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public StringBuilder appendTo(StringBuilder sb)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		sb.append("atomictup2f(x=");
+		FastFormat.append(sb, getX());
+		sb.append(", y=");
+		FastFormat.append(sb, getY());
+		sb.append(')');
+		
+		return sb;
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the appendable. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable to append to.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <A extends Appendable> A appendTo(A a) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		a.append("atomictup2f(x=");
+		FastFormat.append(a, getX());
+		a.append(", y=");
+		FastFormat.append(a, getY());
+		a.append(')');
+		
+		return a;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return appendTo(new StringBuilder()).toString();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,596 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.tuple2;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import org.barghos.core.api.tuple2.Tup2iR;
+import org.barghos.core.api.tuple2.Tup2iRW;
+import org.barghos.core.api.tuple2.Tup2iW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+import org.barghos.core.util.FastFormat;
+
+/**
+ * This class represents a 2-dimensional integer tuple, that can be shared and updated by multiple threads.
+ * 
+ * <p>
+ * Both components are packed into a single volatile long (x in the upper, y in the lower 32 bits),
+ * that is updated atomically through a {@link VarHandle}. Therefore the whole tuple can be read, set and
+ * compared and set atomically. The component operations are lock-free compare and set loops on the packed value.
+ * 
+ * <p>
+ * Like {@link java.util.concurrent.atomic.AtomicInteger} the class does not override
+ * {@link Object#equals(Object)} and {@link Object#hashCode()}, as the value can change at any time.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class AtomicTup2i implements Tup2iRW, Serializable
+{
+	/**
+	 * The class version for serialization.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * The packed components. The x component is stored in the upper, the y component in the lower 32 bits.
+	 */
+	private volatile long value;
+	
+	/**
+	 * The handle for atomic accesses to the packed components.
+	 */
+	private static final VarHandle VALUE;
+	
+	static
+	{
+		try
+		{
+			VALUE = MethodHandles.lookup().findVarHandle(AtomicTup2i.class, "value", long.class);
+		}
+		catch(ReflectiveOperationException e)
+		{
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance with all components set to 0.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AtomicTup2i()
+	{
+		
+	}
+	
+	/**
+	 * Creates a new instance from an existing instance of {@link Tup2iR} and adopts the values.
+	 * 
+	 * @param t An existing implementation of {@link Tup2iR} to adopt the values from.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AtomicTup2i(Tup2iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		set(t);
+	}
+	
+	/**
+	 * Creates a new instance with all values set to a single value.
+	 * 
+	 * @param value The value used as the initial value for all values of the tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AtomicTup2i(int value)
+	{
+		set(value);
+	}
+	
+	/**
+	 * Creates a new instance with the values set to the corresponding parameters.
+	 * 
+	 * @param x The initial x value of the tuple.
+	 * @param y The initial y value of the tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AtomicTup2i(int x, int y)
+	{
+		set(x, y);
+	}
+	
+	@Override
+	public int getX()
+	{
+		return unpackX(this.value);
+	}
+	
+	@Override
+	public int getY()
+	{
+		return unpackY(this.value);
+	}
+	
+	/**
+	 * Atomically sets the x component. The y component is not changed.
+	 * 
+	 * @param x The new x component.
+	 * 
+	 * @return The current tuple.
+	 */
+	@Override
+	public AtomicTup2i setX(int x)
+	{
+		getAndSetX(x);
+		
+		return this;
+	}
+	
+	/**
+	 * Atomically sets the y component. The x component is not changed.
+	 * 
+	 * @param y The new y component.
+	 * 
+	 * @return The current tuple.
+	 */
+	@Override
+	public AtomicTup2i setY(int y)
+	{
+		getAndSetY(y);
+		
+		return this;
+	}
+	
+	/**
+	 * Atomically sets both components.
+	 * 
+	 * @param x The new x component.
+	 * @param y The new y component.
+	 * 
+	 * @return The current tuple.
+	 */
+	@Override
+	public AtomicTup2i set(int x, int y)
+	{
+		this.value = pack(x, y);
+		
+		return this;
+	}
+	
+	@Override
+	public AtomicTup2i set(Tup2iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return set(t.getX(), t.getY());
+	}
+	
+	@Override
+	public AtomicTup2i set(int value)
+	{
+		return set(value, value);
+	}
+	
+	/**
+	 * Atomically reads both components and writes them to result.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param result The tuple receiving the components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <T extends Tup2iW> T get(T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		long current = this.value;
+		
+		result.set(unpackX(current), unpackY(current));
+		
+		return result;
+	}
+	
+	/**
+	 * Returns both components packed into a long. The x component is stored in the upper, the y component in the lower 32 bits.
+	 * 
+	 * @return The packed components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public long getPacked()
+	{
+		return this.value;
+	}
+	
+	/**
+	 * Atomically sets both components to the new values, if both currently equal the expected values.
+	 * 
+	 * @param expectedX The expected x component.
+	 * @param expectedY The expected y component.
+	 * @param x The new x component.
+	 * @param y The new y component.
+	 * 
+	 * @return True if the components were set.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean compareAndSet(int expectedX, int expectedY, int x, int y)
+	{
+		return VALUE.compareAndSet(this, pack(expectedX, expectedY), pack(x, y));
+	}
+	
+	/**
+	 * Atomically sets both components with release semantics. No earlier reads or writes can be reordered after this write.
+	 * 
+	 * @param x The new x component.
+	 * @param y The new y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void setRelease(int x, int y)
+	{
+		VALUE.setRelease(this, pack(x, y));
+	}
+	
+	/**
+	 * Returns the x component with acquire semantics. No later reads or writes can be reordered before this read.
+	 * 
+	 * @return The x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getXAcquire()
+	{
+		return unpackX((long)VALUE.getAcquire(this));
+	}
+	
+	/**
+	 * Atomically sets the x component to the new value, if it currently equals the expected value.
+	 * 
+	 * @param expected The expected x component.
+	 * @param value The new x component.
+	 * 
+	 * @return True if the component was set.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean compareAndSetX(int expected, int value)
+	{
+		long current;
+		
+		do
+		{
+			current = this.value;
+			
+			if(unpackX(current) != expected) return false;
+		}
+		while(!VALUE.compareAndSet(this, current, withX(current, value)));
+		
+		return true;
+	}
+	
+	/**
+	 * Atomically sets the x component and returns the old value.
+	 * 
+	 * @param value The new x component.
+	 * 
+	 * @return The old x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getAndSetX(int value)
+	{
+		long current;
+		
+		do
+		{
+			current = this.value;
+		}
+		while(!VALUE.compareAndSet(this, current, withX(current, value)));
+		
+		return unpackX(current);
+	}
+	
+	/**
+	 * Atomically adds the delta to the x component and returns the old value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The old x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getAndAddX(int delta)
+	{
+		long current;
+		
+		do
+		{
+			current = this.value;
+		}
+		while(!VALUE.compareAndSet(this, current, withX(current, unpackX(current) + delta)));
+		
+		return unpackX(current);
+	}
+	
+	/**
+	 * Atomically adds the delta to the x component and returns the new value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The new x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int addAndGetX(int delta)
+	{
+		return getAndAddX(delta) + delta;
+	}
+	
+	/**
+	 * Returns the y component with acquire semantics. No later reads or writes can be reordered before this read.
+	 * 
+	 * @return The y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getYAcquire()
+	{
+		return unpackY((long)VALUE.getAcquire(this));
+	}
+	
+	/**
+	 * Atomically sets the y component to the new value, if it currently equals the expected value.
+	 * 
+	 * @param expected The expected y component.
+	 * @param value The new y component.
+	 * 
+	 * @return True if the component was set.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean compareAndSetY(int expected, int value)
+	{
+		long current;
+		
+		do
+		{
+			current = this.value;
+			
+			if(unpackY(current) != expected) return false;
+		}
+		while(!VALUE.compareAndSet(this, current, withY(current, value)));
+		
+		return true;
+	}
+	
+	/**
+	 * Atomically sets the y component and returns the old value.
+	 * 
+	 * @param value The new y component.
+	 * 
+	 * @return The old y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getAndSetY(int value)
+	{
+		long current;
+		
+		do
+		{
+			current = this.value;
+		}
+		while(!VALUE.compareAndSet(this, current, withY(current, value)));
+		
+		return unpackY(current);
+	}
+	
+	/**
+	 * Atomically adds the delta to the y component and returns the old value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The old y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getAndAddY(int delta)
+	{
+		long current;
+		
+		do
+		{
+			current = this.value;
+		}
+		while(!VALUE.compareAndSet(this, current, withY(current, unpackY(current) + delta)));
+		
+		return unpackY(current);
+	}
+	
+	/**
+	 * Atomically adds the delta to the y component and returns the new value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The new y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int addAndGetY(int delta)
+	{
+		return getAndAddY(delta) + delta;
+	}
+	
+	/**
+	 * Packs the components into a long.
+	 * 
+	 * @param x The x component.
+	 * @param y The y component.
+	 * 
+	 * @return The packed components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long pack(int x, int y)
+	{
+		return ((long)x << 32) | (y & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * Returns the x component of packed components.
+	 * 
+	 * @param packed The packed components.
+	 * 
+	 * @return The x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int unpackX(long packed)
+	{
+		return (int)(packed >> 32);
+	}
+	
+	/**
+	 * Returns the y component of packed components.
+	 * 
+	 * @param packed The packed components.
+	 * 
+	 * @return The y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int unpackY(long packed)
+	{
+		return (int)packed;
+	}
+	
+	/**
+	 * Returns the packed components with the x component replaced.
+	 * 
+	 * @param packed The packed components.
+	 * @param x The new x component.
+	 * 
+	 * @return The new packed components.
+	 */
+	private static long withX(long packed, int x)
+	{
+		return ((long)x << 32) | (packed & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * Returns the packed components with the y component replaced.
+	 * 
+	 * @param packed The packed components.
+	 * @param y The new y component.
+	 * 
+	 * @return The new packed components.
+	 */
+	private static long withY(long packed, int y)
+	{
+		return (packed & 0xFFFFFFFF00000000L) | (y & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the string builder. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param sb The string builder to append to.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public StringBuilder appendTo(StringBuilder sb)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		sb.append("atomictup2i(x=");
+		FastFormat.append(sb, getX());
+		sb.append(", y=");
+		FastFormat.append(sb, getY());
+		sb.append(')');
+		
+		return sb;
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the appendable. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable to append to.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <A extends Appendable> A appendTo(A a) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		a.append("atomictup2i(x=");
+		FastFormat.append(a, getX());
+		a.append(", y=");
+		FastFormat.append(a, getY());
+		a.append(')');
+		
+		return a;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return appendTo(new StringBuilder()).toString();
+	}
+}
\ No newline at end of file
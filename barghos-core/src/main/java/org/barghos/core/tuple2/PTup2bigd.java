@@ -22,12 +22,14 @@
 
 package org.barghos.core.tuple2;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 
 import org.barghos.core.api.tuple2.Tup2bigdR;
 
 import org.barghos.core.Barghos;
 import org.barghos.core.util.ArgumentNullException;
+import org.barghos.core.util.FastFormat;
 
 /**
  * Represents a persistent 2-dimensional big decimal tuple.
@@ -143,9 +145,64 @@ public abstract class PTup2bigd implements Tup2bigdR
 		return true;
 	}
 	
+	/**
+	 * Appends the string representation of the tuple to the string builder. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param sb The string builder to append to.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public StringBuilder appendTo(StringBuilder sb)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		sb.append("ptup2bigd(x=");
+		FastFormat.append(sb, getX());
+		sb.append(", y=");
+		FastFormat.append(sb, getY());
+		sb.append(')');
+		
+		return sb;
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the appendable. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable to append to.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <A extends Appendable> A appendTo(A a) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		a.append("ptup2bigd(x=");
+		FastFormat.append(a, getX());
+		a.append(", y=");
+		FastFormat.append(a, getY());
+		a.append(')');
+		
+		return a;
+	}
+	
 	@Override
 	public String toString()
 	{
-		return "ptup2bigd(x=" + getX() + ", y=" + getY() + ")";
+		return appendTo(new StringBuilder()).toString();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.tuple2;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import org.barghos.core.api.tuple2.Tup2dR;
+import org.barghos.core.api.tuple2.Tup2dW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+
+/**
+ * This class holds a 2-dimensional double tuple, that is published by writers and read by multiple threads
+ * without locks.
+ * 
+ * <p>
+ * The holder is guarded by a sequence lock. A writer makes the sequence odd, writes the components and makes
+ * the sequence even again. A reader copies the components and retries, if the sequence was odd or changed meanwhile.
+ * Therefore readers never observe a partially written tuple and never block writers. Reads only retry while a
+ * write is in progress. Concurrent writers are serialized by spinning on the sequence, so the holder works best with
+ * a single writer.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class SeqLockTup2d
+{
+	/**
+	 * The handle for atomic accesses to the sequence.
+	 */
+	private static final VarHandle SEQUENCE;
+	
+	static
+	{
+		try
+		{
+			SEQUENCE = MethodHandles.lookup().findVarHandle(SeqLockTup2d.class, "sequence", long.class);
+		}
+		catch(ReflectiveOperationException e)
+		{
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
+	/**
+	 * The sequence. It is odd while a write is in progress.
+	 */
+	private volatile long sequence;
+	
+	/**
+	 * The x component.
+	 */
+	private double x;
+	
+	/**
+	 * The y component.
+	 */
+	private double y;
+	
+	/**
+	 * Creates a new instance with all components set to 0.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public SeqLockTup2d()
+	{
+		
+	}
+	
+	/**
+	 * Creates a new instance from an existing instance of {@link Tup2dR} and adopts the values.
+	 * 
+	 * @param t An existing implementation of {@link Tup2dR} to adopt the values from.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public SeqLockTup2d(Tup2dR t)
+	{
+		set(t);
+	}
+	
+	/**
+	 * Creates a new instance with the values set to the corresponding parameters.
+	 * 
+	 * @param x The initial x value of the tuple.
+	 * @param y The initial y value of the tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public SeqLockTup2d(double x, double y)
+	{
+		set(x, y);
+	}
+	
+	/**
+	 * Publishes the components of the tuple t.
+	 * 
+	 * @param t The tuple to publish.
+	 * 
+	 * @return The current holder.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public SeqLockTup2d set(Tup2dR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return set(t.getX(), t.getY());
+	}
+	
+	/**
+	 * Publishes the components.
+	 * 
+	 * @param x The new x component.
+	 * @param y The new y component.
+	 * 
+	 * @return The current holder.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public SeqLockTup2d set(double x, double y)
+	{
+		long seq;
+		
+		while(true)
+		{
+			seq = this.sequence;
+			
+			if((seq & 1L) == 0L && SEQUENCE.compareAndSet(this, seq, seq + 1L)) break;
+			
+			Thread.onSpinWait();
+		}
+		
+		this.x = x;
+		this.y = y;
+		
+		SEQUENCE.setRelease(this, seq + 2L);
+		
+		return this;
+	}
+	
+	/**
+	 * Copies a consistent snapshot of the components to result. The copy is retried while a write is in progress.
+	 * 
+	 * @param <T> The type of the result tuple.
+	 * @param result The tuple receiving the components.
+	 * 
+	 * @return The tuple result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <T extends Tup2dW> T get(T result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		while(!tryGet(result))
+		{
+			Thread.onSpinWait();
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Tries once to copy a consistent snapshot of the components to result.
+	 * If a write is in progress, result is not changed. This method is wait-free.
+	 * 
+	 * @param result The tuple receiving the components.
+	 * 
+	 * @return True if a snapshot was copied to result.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean tryGet(Tup2dW result)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(result == null) throw new ArgumentNullException("result");
+		}
+		
+		long seq = (long)SEQUENCE.getAcquire(this);
+		
+		if((seq & 1L) != 0L) return false;
+		
+		double x = this.x;
+		double y = this.y;
+		
+		VarHandle.acquireFence();
+		
+		if(seq != this.sequence) return false;
+		
+		result.set(x, y);
+		
+		return true;
+	}
+	
+	/**
+	 * Returns the current sequence. The sequence increases by two with every write and is odd while a write is
+	 * in progress. It can be used to detect, if the tuple has changed since the last read.
+	 * 
+	 * @return The current sequence.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public long getSequence()
+	{
+		return this.sequence;
+	}
+	
+	@Override
+	public String toString()
+	{
+		Tup2d t = get(new Tup2d());
+		
+		return "seqlocktup2d(" + "x=" + t.x + ", " + "y=" + t.y + ")";
+	}
+}
\ No newline at end of file
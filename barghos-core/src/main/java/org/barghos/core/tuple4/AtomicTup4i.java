@@ -0,0 +1,654 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.tuple4;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import org.barghos.core.api.tuple4.Tup4iR;
+import org.barghos.core.api.tuple4.Tup4iRW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+import org.barghos.core.util.FastFormat;
+
+/**
+ * This class represents a 4-dimensional integer tuple, that can be shared and updated by multiple threads.
+ * 
+ * <p>
+ * Every component is a volatile field, that is updated atomically through a {@link VarHandle}.
+ * Besides the volatile getters and setters the components support compare and set, get and set, get and add
+ * and acquire/release accesses. Setting multiple components at once is not atomic as a whole.
+ * 
+ * <p>
+ * Like {@link java.util.concurrent.atomic.AtomicInteger} the class does not override
+ * {@link Object#equals(Object)} and {@link Object#hashCode()}, as the value can change at any time.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class AtomicTup4i implements Tup4iRW, Serializable
+{
+	/**
+	 * The class version for serialization.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * The x component.
+	 */
+	private volatile int x;
+	
+	/**
+	 * The y component.
+	 */
+	private volatile int y;
+	
+	/**
+	 * The z component.
+	 */
+	private volatile int z;
+	
+	/**
+	 * The w component.
+	 */
+	private volatile int w;
+	
+	/**
+	 * The handle for atomic accesses to the x component.
+	 */
+	private static final VarHandle X;
+	
+	/**
+	 * The handle for atomic accesses to the y component.
+	 */
+	private static final VarHandle Y;
+	
+	/**
+	 * The handle for atomic accesses to the z component.
+	 */
+	private static final VarHandle Z;
+	
+	/**
+	 * The handle for atomic accesses to the w component.
+	 */
+	private static final VarHandle W;
+	
+	static
+	{
+		try
+		{
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			
+			X = lookup.findVarHandle(AtomicTup4i.class, "x", int.class);
+			Y = lookup.findVarHandle(AtomicTup4i.class, "y", int.class);
+			Z = lookup.findVarHandle(AtomicTup4i.class, "z", int.class);
+			W = lookup.findVarHandle(AtomicTup4i.class, "w", int.class);
+		}
+		catch(ReflectiveOperationException e)
+		{
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
+	/**
+	 * Creates a new instance with all components set to 0.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AtomicTup4i()
+	{
+		
+	}
+	
+	/**
+	 * Creates a new instance from an existing instance of {@link Tup4iR} and adopts the values.
+	 * 
+	 * @param t An existing implementation of {@link Tup4iR} to adopt the values from.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AtomicTup4i(Tup4iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		set(t);
+	}
+	
+	/**
+	 * Creates a new instance with all values set to a single value.
+	 * 
+	 * @param value The value used as the initial value for all values of the tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AtomicTup4i(int value)
+	{
+		set(value);
+	}
+	
+	/**
+	 * Creates a new instance with the values set to the corresponding parameters.
+	 * 
+	 * @param x The initial x value of the tuple.
+	 * @param y The initial y value of the tuple.
+	 * @param z The initial z value of the tuple.
+	 * @param w The initial w value of the tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public AtomicTup4i(int x, int y, int z, int w)
+	{
+		set(x, y, z, w);
+	}
+	
+	@Override
+	public int getX()
+	{
+		return this.x;
+	}
+	
+	@Override
+	public AtomicTup4i setX(int x)
+	{
+		this.x = x;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the x component with acquire semantics. No later reads or writes can be reordered before this read.
+	 * 
+	 * @return The x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getXAcquire()
+	{
+		return (int)X.getAcquire(this);
+	}
+	
+	/**
+	 * Sets the x component with release semantics. No earlier reads or writes can be reordered after this write.
+	 * 
+	 * @param x The new x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void setXRelease(int x)
+	{
+		X.setRelease(this, x);
+	}
+	
+	/**
+	 * Atomically sets the x component to the new value, if it currently equals the expected value.
+	 * 
+	 * @param expected The expected x component.
+	 * @param value The new x component.
+	 * 
+	 * @return True if the component was set.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean compareAndSetX(int expected, int value)
+	{
+		return X.compareAndSet(this, expected, value);
+	}
+	
+	/**
+	 * Atomically sets the x component and returns the old value.
+	 * 
+	 * @param value The new x component.
+	 * 
+	 * @return The old x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getAndSetX(int value)
+	{
+		return (int)X.getAndSet(this, value);
+	}
+	
+	/**
+	 * Atomically adds the delta to the x component and returns the old value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The old x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getAndAddX(int delta)
+	{
+		return (int)X.getAndAdd(this, delta);
+	}
+	
+	/**
+	 * Atomically adds the delta to the x component and returns the new value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The new x component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int addAndGetX(int delta)
+	{
+		return (int)X.getAndAdd(this, delta) + delta;
+	}
+	
+	@Override
+	public int getY()
+	{
+		return this.y;
+	}
+	
+	@Override
+	public AtomicTup4i setY(int y)
+	{
+		this.y = y;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the y component with acquire semantics. No later reads or writes can be reordered before this read.
+	 * 
+	 * @return The y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getYAcquire()
+	{
+		return (int)Y.getAcquire(this);
+	}
+	
+	/**
+	 * Sets the y component with release semantics. No earlier reads or writes can be reordered after this write.
+	 * 
+	 * @param y The new y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void setYRelease(int y)
+	{
+		Y.setRelease(this, y);
+	}
+	
+	/**
+	 * Atomically sets the y component to the new value, if it currently equals the expected value.
+	 * 
+	 * @param expected The expected y component.
+	 * @param value The new y component.
+	 * 
+	 * @return True if the component was set.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean compareAndSetY(int expected, int value)
+	{
+		return Y.compareAndSet(this, expected, value);
+	}
+	
+	/**
+	 * Atomically sets the y component and returns the old value.
+	 * 
+	 * @param value The new y component.
+	 * 
+	 * @return The old y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getAndSetY(int value)
+	{
+		return (int)Y.getAndSet(this, value);
+	}
+	
+	/**
+	 * Atomically adds the delta to the y component and returns the old value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The old y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getAndAddY(int delta)
+	{
+		return (int)Y.getAndAdd(this, delta);
+	}
+	
+	/**
+	 * Atomically adds the delta to the y component and returns the new value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The new y component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int addAndGetY(int delta)
+	{
+		return (int)Y.getAndAdd(this, delta) + delta;
+	}
+	
+	@Override
+	public int getZ()
+	{
+		return this.z;
+	}
+	
+	@Override
+	public AtomicTup4i setZ(int z)
+	{
+		this.z = z;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the z component with acquire semantics. No later reads or writes can be reordered before this read.
+	 * 
+	 * @return The z component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getZAcquire()
+	{
+		return (int)Z.getAcquire(this);
+	}
+	
+	/**
+	 * Sets the z component with release semantics. No earlier reads or writes can be reordered after this write.
+	 * 
+	 * @param z The new z component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void setZRelease(int z)
+	{
+		Z.setRelease(this, z);
+	}
+	
+	/**
+	 * Atomically sets the z component to the new value, if it currently equals the expected value.
+	 * 
+	 * @param expected The expected z component.
+	 * @param value The new z component.
+	 * 
+	 * @return True if the component was set.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean compareAndSetZ(int expected, int value)
+	{
+		return Z.compareAndSet(this, expected, value);
+	}
+	
+	/**
+	 * Atomically sets the z component and returns the old value.
+	 * 
+	 * @param value The new z component.
+	 * 
+	 * @return The old z component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getAndSetZ(int value)
+	{
+		return (int)Z.getAndSet(this, value);
+	}
+	
+	/**
+	 * Atomically adds the delta to the z component and returns the old value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The old z component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getAndAddZ(int delta)
+	{
+		return (int)Z.getAndAdd(this, delta);
+	}
+	
+	/**
+	 * Atomically adds the delta to the z component and returns the new value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The new z component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int addAndGetZ(int delta)
+	{
+		return (int)Z.getAndAdd(this, delta) + delta;
+	}
+	
+	@Override
+	public int getW()
+	{
+		return this.w;
+	}
+	
+	@Override
+	public AtomicTup4i setW(int w)
+	{
+		this.w = w;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the w component with acquire semantics. No later reads or writes can be reordered before this read.
+	 * 
+	 * @return The w component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getWAcquire()
+	{
+		return (int)W.getAcquire(this);
+	}
+	
+	/**
+	 * Sets the w component with release semantics. No earlier reads or writes can be reordered after this write.
+	 * 
+	 * @param w The new w component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public void setWRelease(int w)
+	{
+		W.setRelease(this, w);
+	}
+	
+	/**
+	 * Atomically sets the w component to the new value, if it currently equals the expected value.
+	 * 
+	 * @param expected The expected w component.
+	 * @param value The new w component.
+	 * 
+	 * @return True if the component was set.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public boolean compareAndSetW(int expected, int value)
+	{
+		return W.compareAndSet(this, expected, value);
+	}
+	
+	/**
+	 * Atomically sets the w component and returns the old value.
+	 * 
+	 * @param value The new w component.
+	 * 
+	 * @return The old w component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getAndSetW(int value)
+	{
+		return (int)W.getAndSet(this, value);
+	}
+	
+	/**
+	 * Atomically adds the delta to the w component and returns the old value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The old w component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getAndAddW(int delta)
+	{
+		return (int)W.getAndAdd(this, delta);
+	}
+	
+	/**
+	 * Atomically adds the delta to the w component and returns the new value.
+	 * 
+	 * @param delta The value to add.
+	 * 
+	 * @return The new w component.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int addAndGetW(int delta)
+	{
+		return (int)W.getAndAdd(this, delta) + delta;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>
+	 * The components are set one after another. Readers can observe a partially updated tuple.
+	 */
+	@Override
+	public AtomicTup4i set(int x, int y, int z, int w)
+	{
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.w = w;
+		
+		return this;
+	}
+	
+	@Override
+	public AtomicTup4i set(Tup4iR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		return set(t.getX(), t.getY(), t.getZ(), t.getW());
+	}
+	
+	@Override
+	public AtomicTup4i set(int value)
+	{
+		return set(value, value, value, value);
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the string builder. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param sb The string builder to append to.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public StringBuilder appendTo(StringBuilder sb)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		sb.append("atomictup4i(x=");
+		FastFormat.append(sb, getX());
+		sb.append(", y=");
+		FastFormat.append(sb, getY());
+		sb.append(", z=");
+		FastFormat.append(sb, getZ());
+		sb.append(", w=");
+		FastFormat.append(sb, getW());
+		sb.append(')');
+		
+		return sb;
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the appendable. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable to append to.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <A extends Appendable> A appendTo(A a) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		a.append("atomictup4i(x=");
+		FastFormat.append(a, getX());
+		a.append(", y=");
+		FastFormat.append(a, getY());
+		a.append(", z=");
+		FastFormat.append(a, getZ());
+		a.append(", w=");
+		FastFormat.append(a, getW());
+		a.append(')');
+		
+		return a;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return appendTo(new StringBuilder()).toString();
+	}
+}
\ No newline at end of file
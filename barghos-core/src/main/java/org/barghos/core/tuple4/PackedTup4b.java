@@ -0,0 +1,844 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.tuple4;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import java.nio.IntBuffer;
+import java.util.function.IntBinaryOperator;
+
+import org.barghos.core.api.tuple4.Tup4bR;
+import org.barghos.core.api.tuple4.Tup4bRW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+import org.barghos.core.util.FastFormat;
+
+/**
+ * This class represents a 4-dimensional byte tuple, that stores all components in a single int.
+ * 
+ * <p>
+ * The x component occupies the lowest 8 bits, followed by y, z and w, so the packed value matches
+ * four consecutive bytes (x, y, z, w) read as a little endian int. Copying a tuple is a single word move.
+ * 
+ * <p>
+ * The static operations work on all four lanes of packed values at once (SIMD within a register) without
+ * unpacking the components. Operations without a suffix treat the lanes as signed bytes like {@link Tup4b},
+ * operations with the suffix "Unsigned" treat them as unsigned values from 0 to 255. The bulk operations
+ * apply any of them to arrays and buffers of packed values.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class PackedTup4b implements Tup4bRW, Serializable
+{
+	/**
+	 * The class version for serialization.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * The highest bit of every lane.
+	 */
+	private static final int HIGH_BITS = 0x80808080;
+	
+	/**
+	 * The lower bits of every lane.
+	 */
+	private static final int LOW_BITS = 0x7F7F7F7F;
+	
+	/**
+	 * The bits of a single lane.
+	 */
+	private static final int LANE = 0xFF;
+	
+	/**
+	 * The bits of the lanes x and z.
+	 */
+	private static final int EVEN_LANES = 0x00FF00FF;
+	
+	/**
+	 * The lowest bit above each of the lanes x and z.
+	 */
+	private static final int EVEN_CARRIES = 0x01000100;
+	
+	/**
+	 * The lowest bit of each of the lanes x and z.
+	 */
+	private static final int EVEN_ONES = 0x00010001;
+	
+	/**
+	 * The packed components.
+	 */
+	private int packed;
+	
+	/**
+	 * Creates a new instance with all components set to 0.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4b()
+	{
+		this.packed = 0;
+	}
+	
+	/**
+	 * Creates a new instance from an existing instance of {@link Tup4bR} and adopts the values.
+	 * 
+	 * @param t An existing implementation of {@link Tup4bR} to adopt the values from.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4b(Tup4bR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		set(t);
+	}
+	
+	/**
+	 * Creates a new instance with all values set to a single value.
+	 * 
+	 * @param value The value used as the initial value for all values of the tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4b(byte value)
+	{
+		set(value);
+	}
+	
+	/**
+	 * Creates a new instance with the values set to the corresponding parameters.
+	 * 
+	 * @param x The initial x value of the tuple.
+	 * @param y The initial y value of the tuple.
+	 * @param z The initial z value of the tuple.
+	 * @param w The initial w value of the tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4b(byte x, byte y, byte z, byte w)
+	{
+		set(x, y, z, w);
+	}
+	
+	/**
+	 * Creates a new instance from packed components.
+	 * 
+	 * @param packed The packed components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4b(int packed)
+	{
+		this.packed = packed;
+	}
+	
+	/**
+	 * Returns the packed components.
+	 * 
+	 * @return The packed components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getPacked()
+	{
+		return this.packed;
+	}
+	
+	/**
+	 * Sets the packed components.
+	 * 
+	 * @param packed The packed components.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4b setPacked(int packed)
+	{
+		this.packed = packed;
+		
+		return this;
+	}
+	
+	@Override
+	public byte getX()
+	{
+		return (byte)this.packed;
+	}
+	
+	@Override
+	public byte getY()
+	{
+		return (byte)(this.packed >>> 8);
+	}
+	
+	@Override
+	public byte getZ()
+	{
+		return (byte)(this.packed >>> 16);
+	}
+	
+	@Override
+	public byte getW()
+	{
+		return (byte)(this.packed >>> 24);
+	}
+	
+	@Override
+	public PackedTup4b setX(byte x)
+	{
+		this.packed = (this.packed & ~LANE) | (x & LANE);
+		
+		return this;
+	}
+	
+	@Override
+	public PackedTup4b setY(byte y)
+	{
+		this.packed = (this.packed & ~(LANE << 8)) | ((y & LANE) << 8);
+		
+		return this;
+	}
+	
+	@Override
+	public PackedTup4b setZ(byte z)
+	{
+		this.packed = (this.packed & ~(LANE << 16)) | ((z & LANE) << 16);
+		
+		return this;
+	}
+	
+	@Override
+	public PackedTup4b setW(byte w)
+	{
+		this.packed = (this.packed & ~(LANE << 24)) | ((w & LANE) << 24);
+		
+		return this;
+	}
+	
+	@Override
+	public PackedTup4b set(Tup4bR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		this.packed = pack(t);
+		
+		return this;
+	}
+	
+	@Override
+	public PackedTup4b set(byte value)
+	{
+		return set(value, value, value, value);
+	}
+	
+	@Override
+	public PackedTup4b set(byte x, byte y, byte z, byte w)
+	{
+		this.packed = pack(x, y, z, w);
+		
+		return this;
+	}
+	
+	/**
+	 * Adds the tuple t lane by lane to this tuple. Overflowing lanes wrap around.
+	 * 
+	 * @param t The tuple to add.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4b add(Tup4bR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		this.packed = add(this.packed, pack(t));
+		
+		return this;
+	}
+	
+	/**
+	 * Subtracts the tuple t lane by lane from this tuple. Overflowing lanes wrap around.
+	 * 
+	 * @param t The tuple to subtract.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4b sub(Tup4bR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		this.packed = sub(this.packed, pack(t));
+		
+		return this;
+	}
+	
+	/**
+	 * Adds the tuple t lane by lane to this tuple. Overflowing lanes are clamped to the signed range.
+	 * 
+	 * @param t The tuple to add.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4b addSaturated(Tup4bR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		this.packed = addSaturated(this.packed, pack(t));
+		
+		return this;
+	}
+	
+	/**
+	 * Sets every lane to the minimum of the lane of this tuple and the lane of t.
+	 * 
+	 * @param t The other tuple.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4b min(Tup4bR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		this.packed = min(this.packed, pack(t));
+		
+		return this;
+	}
+	
+	/**
+	 * Sets every lane to the maximum of the lane of this tuple and the lane of t.
+	 * 
+	 * @param t The other tuple.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4b max(Tup4bR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		this.packed = max(this.packed, pack(t));
+		
+		return this;
+	}
+	
+	/**
+	 * Sets every lane to the average of the lane of this tuple and the lane of t rounded down.
+	 * 
+	 * @param t The other tuple.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4b average(Tup4bR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		this.packed = average(this.packed, pack(t));
+		
+		return this;
+	}
+	
+	/**
+	 * Packs the components of the tuple into a single int.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The packed components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int pack(Tup4bR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		if(t instanceof PackedTup4b) return ((PackedTup4b)t).packed;
+		
+		return pack(t.getX(), t.getY(), t.getZ(), t.getW());
+	}
+	
+	/**
+	 * Packs the components into a single int.
+	 * 
+	 * @param x The x component.
+	 * @param y The y component.
+	 * @param z The z component.
+	 * @param w The w component.
+	 * 
+	 * @return The packed components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int pack(byte x, byte y, byte z, byte w)
+	{
+		return (x & 0xFF) | ((y & 0xFF) << 8) | ((z & 0xFF) << 16) | ((w & 0xFF) << 24);
+	}
+	
+	/**
+	 * Adds the lanes of b to the lanes of a. Overflowing lanes wrap around.
+	 * This is the same for signed and unsigned lanes.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed sums.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int add(int a, int b)
+	{
+		return ((a & LOW_BITS) + (b & LOW_BITS)) ^ ((a ^ b) & HIGH_BITS);
+	}
+	
+	/**
+	 * Subtracts the lanes of b from the lanes of a. Overflowing lanes wrap around.
+	 * This is the same for signed and unsigned lanes.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed differences.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int sub(int a, int b)
+	{
+		return ((a | HIGH_BITS) - (b & LOW_BITS)) ^ ((a ^ ~b) & HIGH_BITS);
+	}
+	
+	/**
+	 * Adds the signed lanes of b to the signed lanes of a. Overflowing lanes are clamped to the signed range.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed sums.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int addSaturated(int a, int b)
+	{
+		int sum = add(a, b);
+		
+		// A lane overflowed, if both operands have the same sign and the sign of the sum differs.
+		int overflow = ~(a ^ b) & (a ^ sum) & HIGH_BITS;
+		int mask = (overflow >>> 7) * LANE;
+		
+		// The maximum for positive operands and the minimum for negative operands.
+		int limit = LOW_BITS + ((a & HIGH_BITS) >>> 7);
+		
+		return (sum & ~mask) | (limit & mask);
+	}
+	
+	/**
+	 * Adds the unsigned lanes of b to the unsigned lanes of a. Overflowing lanes are clamped to the unsigned maximum.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed sums.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int addSaturatedUnsigned(int a, int b)
+	{
+		int sum = add(a, b);
+		
+		// The carry out of the highest bit of every lane.
+		int carry = ((a & b) | ((a | b) & ~sum)) & HIGH_BITS;
+		
+		return sum | ((carry >>> 7) * LANE);
+	}
+	
+	/**
+	 * Returns the lanewise minimum of the signed lanes.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed minimums.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int min(int a, int b)
+	{
+		int mask = greaterOrEqualUnsigned(a ^ HIGH_BITS, b ^ HIGH_BITS);
+		
+		return (b & mask) | (a & ~mask);
+	}
+	
+	/**
+	 * Returns the lanewise maximum of the signed lanes.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed maximums.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int max(int a, int b)
+	{
+		int mask = greaterOrEqualUnsigned(a ^ HIGH_BITS, b ^ HIGH_BITS);
+		
+		return (a & mask) | (b & ~mask);
+	}
+	
+	/**
+	 * Returns the lanewise minimum of the unsigned lanes.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed minimums.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int minUnsigned(int a, int b)
+	{
+		int mask = greaterOrEqualUnsigned(a, b);
+		
+		return (b & mask) | (a & ~mask);
+	}
+	
+	/**
+	 * Returns the lanewise maximum of the unsigned lanes.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed maximums.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int maxUnsigned(int a, int b)
+	{
+		int mask = greaterOrEqualUnsigned(a, b);
+		
+		return (a & mask) | (b & ~mask);
+	}
+	
+	/**
+	 * Returns the lanewise average of the signed lanes rounded down.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed averages.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int average(int a, int b)
+	{
+		// Offsetting both lanes by the sign bit maps the signed order onto the unsigned order.
+		return averageUnsigned(a ^ HIGH_BITS, b ^ HIGH_BITS) ^ HIGH_BITS;
+	}
+	
+	/**
+	 * Returns the lanewise average of the unsigned lanes rounded down.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed averages.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int averageUnsigned(int a, int b)
+	{
+		return (a & b) + (((a ^ b) >>> 1) & LOW_BITS);
+	}
+	
+	/**
+	 * Returns a mask with all bits of a lane set, where the unsigned lane of a is greater than or equal to the lane of b.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The mask.
+	 */
+	private static int greaterOrEqualUnsigned(int a, int b)
+	{
+		// The lanes x and z and the lanes y and w are compared separately with one spare bit above every lane,
+		// which survives the subtraction if the lane of a is not smaller.
+		int even = ((((a & EVEN_LANES) | EVEN_CARRIES) - (b & EVEN_LANES)) >>> 8) & EVEN_ONES;
+		int odd = (((((a >>> 8) & EVEN_LANES) | EVEN_CARRIES) - ((b >>> 8) & EVEN_LANES)) >>> 8) & EVEN_ONES;
+		
+		return (even * LANE) | ((odd * LANE) << 8);
+	}
+	
+	/**
+	 * Applies the operation to the packed values of a and b from the index from (inclusive) to the index to (exclusive)
+	 * and stores the results at the same indices of dst. dst may be a or b.
+	 * 
+	 * @param op The operation, for example {@code PackedTup4b::addSaturated}.
+	 * @param a The first packed values.
+	 * @param b The second packed values.
+	 * @param dst The array receiving the results.
+	 * @param from The first index (inclusive).
+	 * @param to The last index (exclusive).
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void apply(IntBinaryOperator op, int[] a, int[] b, int[] dst, int from, int to)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(op == null) throw new ArgumentNullException("op");
+			if(a == null) throw new ArgumentNullException("a");
+			if(b == null) throw new ArgumentNullException("b");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		for(int i = from; i < to; i++)
+		{
+			dst[i] = op.applyAsInt(a[i], b[i]);
+		}
+	}
+	
+	/**
+	 * Applies the operation to every packed value of a and the single packed value b from the index from (inclusive)
+	 * to the index to (exclusive) and stores the results at the same indices of dst. dst may be a.
+	 * 
+	 * @param op The operation, for example {@code PackedTup4b::addSaturated}.
+	 * @param a The first packed values.
+	 * @param b The second packed value used for all indices.
+	 * @param dst The array receiving the results.
+	 * @param from The first index (inclusive).
+	 * @param to The last index (exclusive).
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void apply(IntBinaryOperator op, int[] a, int b, int[] dst, int from, int to)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(op == null) throw new ArgumentNullException("op");
+			if(a == null) throw new ArgumentNullException("a");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		for(int i = from; i < to; i++)
+		{
+			dst[i] = op.applyAsInt(a[i], b);
+		}
+	}
+	
+	/**
+	 * Applies the operation to the packed values between the positions and the limits of the buffers
+	 * and puts the results into dst starting at its position. The number of processed values is the smallest
+	 * remaining count of the three buffers. The positions of the buffers are not changed. dst may be a or b.
+	 * 
+	 * @param op The operation, for example {@code PackedTup4b::addSaturated}.
+	 * @param a The first packed values.
+	 * @param b The second packed values.
+	 * @param dst The buffer receiving the results.
+	 * 
+	 * @return The number of processed values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int apply(IntBinaryOperator op, IntBuffer a, IntBuffer b, IntBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(op == null) throw new ArgumentNullException("op");
+			if(a == null) throw new ArgumentNullException("a");
+			if(b == null) throw new ArgumentNullException("b");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = Math.min(dst.remaining(), Math.min(a.remaining(), b.remaining()));
+		int aBase = a.position();
+		int bBase = b.position();
+		int dstBase = dst.position();
+		
+		if(a.hasArray() && b.hasArray() && dst.hasArray())
+		{
+			int[] aArray = a.array();
+			int[] bArray = b.array();
+			int[] dstArray = dst.array();
+			
+			aBase += a.arrayOffset();
+			bBase += b.arrayOffset();
+			dstBase += dst.arrayOffset();
+			
+			for(int i = 0; i < count; i++)
+			{
+				dstArray[dstBase + i] = op.applyAsInt(aArray[aBase + i], bArray[bBase + i]);
+			}
+			
+			return count;
+		}
+		
+		for(int i = 0; i < count; i++)
+		{
+			dst.put(dstBase + i, op.applyAsInt(a.get(aBase + i), b.get(bBase + i)));
+		}
+		
+		return count;
+	}
+	
+	@Override
+	public int hashCode()
+	{
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + getX();
+		result = prime * result + getY();
+		result = prime * result + getZ();
+		result = prime * result + getW();
+		return result;
+	}
+	
+	@Override
+	public boolean equals(Object obj)
+	{
+		if(this == obj) return true;
+		if(obj == null) return false;
+		if(!(obj instanceof Tup4bR)) return false;
+		
+		Tup4bR other = (Tup4bR) obj;
+		if(getX() != other.getX()) return false;
+		if(getY() != other.getY()) return false;
+		if(getZ() != other.getZ()) return false;
+		if(getW() != other.getW()) return false;
+		return true;
+	}
+	
+	@Override
+	public PackedTup4b clone()
+	{
+		return new PackedTup4b(this.packed);
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the string builder. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param sb The string builder to append to.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public StringBuilder appendTo(StringBuilder sb)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		sb.append("packedtup4b(x=");
+		FastFormat.append(sb, getX());
+		sb.append(", y=");
+		FastFormat.append(sb, getY());
+		sb.append(", z=");
+		FastFormat.append(sb, getZ());
+		sb.append(", w=");
+		FastFormat.append(sb, getW());
+		sb.append(')');
+		
+		return sb;
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the appendable. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable to append to.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <A extends Appendable> A appendTo(A a) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		a.append("packedtup4b(x=");
+		FastFormat.append(a, getX());
+		a.append(", y=");
+		FastFormat.append(a, getY());
+		a.append(", z=");
+		FastFormat.append(a, getZ());
+		a.append(", w=");
+		FastFormat.append(a, getW());
+		a.append(')');
+		
+		return a;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return appendTo(new StringBuilder()).toString();
+	}
+}
\ No newline at end of file
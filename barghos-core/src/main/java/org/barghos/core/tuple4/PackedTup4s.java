@@ -0,0 +1,844 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.tuple4;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import java.nio.LongBuffer;
+import java.util.function.LongBinaryOperator;
+
+import org.barghos.core.api.tuple4.Tup4sR;
+import org.barghos.core.api.tuple4.Tup4sRW;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.util.ArgumentNullException;
+import org.barghos.core.util.FastFormat;
+
+/**
+ * This class represents a 4-dimensional short tuple, that stores all components in a single long.
+ * 
+ * <p>
+ * The x component occupies the lowest 16 bits, followed by y, z and w, so the packed value matches
+ * four consecutive shorts (x, y, z, w) read as a little endian long. Copying a tuple is a single word move.
+ * 
+ * <p>
+ * The static operations work on all four lanes of packed values at once (SIMD within a register) without
+ * unpacking the components. Operations without a suffix treat the lanes as signed shorts like {@link Tup4s},
+ * operations with the suffix "Unsigned" treat them as unsigned values from 0 to 65535. The bulk operations
+ * apply any of them to arrays and buffers of packed values.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class PackedTup4s implements Tup4sRW, Serializable
+{
+	/**
+	 * The class version for serialization.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * The highest bit of every lane.
+	 */
+	private static final long HIGH_BITS = 0x8000800080008000L;
+	
+	/**
+	 * The lower bits of every lane.
+	 */
+	private static final long LOW_BITS = 0x7FFF7FFF7FFF7FFFL;
+	
+	/**
+	 * The bits of a single lane.
+	 */
+	private static final long LANE = 0xFFFFL;
+	
+	/**
+	 * The bits of the lanes x and z.
+	 */
+	private static final long EVEN_LANES = 0x0000FFFF0000FFFFL;
+	
+	/**
+	 * The lowest bit above each of the lanes x and z.
+	 */
+	private static final long EVEN_CARRIES = 0x0001000000010000L;
+	
+	/**
+	 * The lowest bit of each of the lanes x and z.
+	 */
+	private static final long EVEN_ONES = 0x0000000100000001L;
+	
+	/**
+	 * The packed components.
+	 */
+	private long packed;
+	
+	/**
+	 * Creates a new instance with all components set to 0.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4s()
+	{
+		this.packed = 0;
+	}
+	
+	/**
+	 * Creates a new instance from an existing instance of {@link Tup4sR} and adopts the values.
+	 * 
+	 * @param t An existing implementation of {@link Tup4sR} to adopt the values from.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4s(Tup4sR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		set(t);
+	}
+	
+	/**
+	 * Creates a new instance with all values set to a single value.
+	 * 
+	 * @param value The value used as the initial value for all values of the tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4s(short value)
+	{
+		set(value);
+	}
+	
+	/**
+	 * Creates a new instance with the values set to the corresponding parameters.
+	 * 
+	 * @param x The initial x value of the tuple.
+	 * @param y The initial y value of the tuple.
+	 * @param z The initial z value of the tuple.
+	 * @param w The initial w value of the tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4s(short x, short y, short z, short w)
+	{
+		set(x, y, z, w);
+	}
+	
+	/**
+	 * Creates a new instance from packed components.
+	 * 
+	 * @param packed The packed components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4s(long packed)
+	{
+		this.packed = packed;
+	}
+	
+	/**
+	 * Returns the packed components.
+	 * 
+	 * @return The packed components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public long getPacked()
+	{
+		return this.packed;
+	}
+	
+	/**
+	 * Sets the packed components.
+	 * 
+	 * @param packed The packed components.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4s setPacked(long packed)
+	{
+		this.packed = packed;
+		
+		return this;
+	}
+	
+	@Override
+	public short getX()
+	{
+		return (short)this.packed;
+	}
+	
+	@Override
+	public short getY()
+	{
+		return (short)(this.packed >>> 16);
+	}
+	
+	@Override
+	public short getZ()
+	{
+		return (short)(this.packed >>> 32);
+	}
+	
+	@Override
+	public short getW()
+	{
+		return (short)(this.packed >>> 48);
+	}
+	
+	@Override
+	public PackedTup4s setX(short x)
+	{
+		this.packed = (this.packed & ~LANE) | (x & LANE);
+		
+		return this;
+	}
+	
+	@Override
+	public PackedTup4s setY(short y)
+	{
+		this.packed = (this.packed & ~(LANE << 16)) | ((y & LANE) << 16);
+		
+		return this;
+	}
+	
+	@Override
+	public PackedTup4s setZ(short z)
+	{
+		this.packed = (this.packed & ~(LANE << 32)) | ((z & LANE) << 32);
+		
+		return this;
+	}
+	
+	@Override
+	public PackedTup4s setW(short w)
+	{
+		this.packed = (this.packed & ~(LANE << 48)) | ((w & LANE) << 48);
+		
+		return this;
+	}
+	
+	@Override
+	public PackedTup4s set(Tup4sR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		this.packed = pack(t);
+		
+		return this;
+	}
+	
+	@Override
+	public PackedTup4s set(short value)
+	{
+		return set(value, value, value, value);
+	}
+	
+	@Override
+	public PackedTup4s set(short x, short y, short z, short w)
+	{
+		this.packed = pack(x, y, z, w);
+		
+		return this;
+	}
+	
+	/**
+	 * Adds the tuple t lane by lane to this tuple. Overflowing lanes wrap around.
+	 * 
+	 * @param t The tuple to add.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4s add(Tup4sR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		this.packed = add(this.packed, pack(t));
+		
+		return this;
+	}
+	
+	/**
+	 * Subtracts the tuple t lane by lane from this tuple. Overflowing lanes wrap around.
+	 * 
+	 * @param t The tuple to subtract.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4s sub(Tup4sR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		this.packed = sub(this.packed, pack(t));
+		
+		return this;
+	}
+	
+	/**
+	 * Adds the tuple t lane by lane to this tuple. Overflowing lanes are clamped to the signed range.
+	 * 
+	 * @param t The tuple to add.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4s addSaturated(Tup4sR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		this.packed = addSaturated(this.packed, pack(t));
+		
+		return this;
+	}
+	
+	/**
+	 * Sets every lane to the minimum of the lane of this tuple and the lane of t.
+	 * 
+	 * @param t The other tuple.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4s min(Tup4sR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		this.packed = min(this.packed, pack(t));
+		
+		return this;
+	}
+	
+	/**
+	 * Sets every lane to the maximum of the lane of this tuple and the lane of t.
+	 * 
+	 * @param t The other tuple.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4s max(Tup4sR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		this.packed = max(this.packed, pack(t));
+		
+		return this;
+	}
+	
+	/**
+	 * Sets every lane to the average of the lane of this tuple and the lane of t rounded down.
+	 * 
+	 * @param t The other tuple.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public PackedTup4s average(Tup4sR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		this.packed = average(this.packed, pack(t));
+		
+		return this;
+	}
+	
+	/**
+	 * Packs the components of the tuple into a single long.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The packed components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long pack(Tup4sR t)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(t == null) throw new ArgumentNullException("t");
+		}
+		
+		if(t instanceof PackedTup4s) return ((PackedTup4s)t).packed;
+		
+		return pack(t.getX(), t.getY(), t.getZ(), t.getW());
+	}
+	
+	/**
+	 * Packs the components into a single long.
+	 * 
+	 * @param x The x component.
+	 * @param y The y component.
+	 * @param z The z component.
+	 * @param w The w component.
+	 * 
+	 * @return The packed components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long pack(short x, short y, short z, short w)
+	{
+		return (x & 0xFFFFL) | ((y & 0xFFFFL) << 16) | ((z & 0xFFFFL) << 32) | ((w & 0xFFFFL) << 48);
+	}
+	
+	/**
+	 * Adds the lanes of b to the lanes of a. Overflowing lanes wrap around.
+	 * This is the same for signed and unsigned lanes.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed sums.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long add(long a, long b)
+	{
+		return ((a & LOW_BITS) + (b & LOW_BITS)) ^ ((a ^ b) & HIGH_BITS);
+	}
+	
+	/**
+	 * Subtracts the lanes of b from the lanes of a. Overflowing lanes wrap around.
+	 * This is the same for signed and unsigned lanes.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed differences.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long sub(long a, long b)
+	{
+		return ((a | HIGH_BITS) - (b & LOW_BITS)) ^ ((a ^ ~b) & HIGH_BITS);
+	}
+	
+	/**
+	 * Adds the signed lanes of b to the signed lanes of a. Overflowing lanes are clamped to the signed range.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed sums.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long addSaturated(long a, long b)
+	{
+		long sum = add(a, b);
+		
+		// A lane overflowed, if both operands have the same sign and the sign of the sum differs.
+		long overflow = ~(a ^ b) & (a ^ sum) & HIGH_BITS;
+		long mask = (overflow >>> 15) * LANE;
+		
+		// The maximum for positive operands and the minimum for negative operands.
+		long limit = LOW_BITS + ((a & HIGH_BITS) >>> 15);
+		
+		return (sum & ~mask) | (limit & mask);
+	}
+	
+	/**
+	 * Adds the unsigned lanes of b to the unsigned lanes of a. Overflowing lanes are clamped to the unsigned maximum.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed sums.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long addSaturatedUnsigned(long a, long b)
+	{
+		long sum = add(a, b);
+		
+		// The carry out of the highest bit of every lane.
+		long carry = ((a & b) | ((a | b) & ~sum)) & HIGH_BITS;
+		
+		return sum | ((carry >>> 15) * LANE);
+	}
+	
+	/**
+	 * Returns the lanewise minimum of the signed lanes.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed minimums.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long min(long a, long b)
+	{
+		long mask = greaterOrEqualUnsigned(a ^ HIGH_BITS, b ^ HIGH_BITS);
+		
+		return (b & mask) | (a & ~mask);
+	}
+	
+	/**
+	 * Returns the lanewise maximum of the signed lanes.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed maximums.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long max(long a, long b)
+	{
+		long mask = greaterOrEqualUnsigned(a ^ HIGH_BITS, b ^ HIGH_BITS);
+		
+		return (a & mask) | (b & ~mask);
+	}
+	
+	/**
+	 * Returns the lanewise minimum of the unsigned lanes.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed minimums.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long minUnsigned(long a, long b)
+	{
+		long mask = greaterOrEqualUnsigned(a, b);
+		
+		return (b & mask) | (a & ~mask);
+	}
+	
+	/**
+	 * Returns the lanewise maximum of the unsigned lanes.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed maximums.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long maxUnsigned(long a, long b)
+	{
+		long mask = greaterOrEqualUnsigned(a, b);
+		
+		return (a & mask) | (b & ~mask);
+	}
+	
+	/**
+	 * Returns the lanewise average of the signed lanes rounded down.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed averages.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long average(long a, long b)
+	{
+		// Offsetting both lanes by the sign bit maps the signed order onto the unsigned order.
+		return averageUnsigned(a ^ HIGH_BITS, b ^ HIGH_BITS) ^ HIGH_BITS;
+	}
+	
+	/**
+	 * Returns the lanewise average of the unsigned lanes rounded down.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The packed averages.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static long averageUnsigned(long a, long b)
+	{
+		return (a & b) + (((a ^ b) >>> 1) & LOW_BITS);
+	}
+	
+	/**
+	 * Returns a mask with all bits of a lane set, where the unsigned lane of a is greater than or equal to the lane of b.
+	 * 
+	 * @param a The first packed value.
+	 * @param b The second packed value.
+	 * 
+	 * @return The mask.
+	 */
+	private static long greaterOrEqualUnsigned(long a, long b)
+	{
+		// The lanes x and z and the lanes y and w are compared separately with one spare bit above every lane,
+		// which survives the subtraction if the lane of a is not smaller.
+		long even = ((((a & EVEN_LANES) | EVEN_CARRIES) - (b & EVEN_LANES)) >>> 16) & EVEN_ONES;
+		long odd = (((((a >>> 16) & EVEN_LANES) | EVEN_CARRIES) - ((b >>> 16) & EVEN_LANES)) >>> 16) & EVEN_ONES;
+		
+		return (even * LANE) | ((odd * LANE) << 16);
+	}
+	
+	/**
+	 * Applies the operation to the packed values of a and b from the index from (inclusive) to the index to (exclusive)
+	 * and stores the results at the same indices of dst. dst may be a or b.
+	 * 
+	 * @param op The operation, for example {@code PackedTup4s::addSaturated}.
+	 * @param a The first packed values.
+	 * @param b The second packed values.
+	 * @param dst The array receiving the results.
+	 * @param from The first index (inclusive).
+	 * @param to The last index (exclusive).
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void apply(LongBinaryOperator op, long[] a, long[] b, long[] dst, int from, int to)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(op == null) throw new ArgumentNullException("op");
+			if(a == null) throw new ArgumentNullException("a");
+			if(b == null) throw new ArgumentNullException("b");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		for(int i = from; i < to; i++)
+		{
+			dst[i] = op.applyAsLong(a[i], b[i]);
+		}
+	}
+	
+	/**
+	 * Applies the operation to every packed value of a and the single packed value b from the index from (inclusive)
+	 * to the index to (exclusive) and stores the results at the same indices of dst. dst may be a.
+	 * 
+	 * @param op The operation, for example {@code PackedTup4s::addSaturated}.
+	 * @param a The first packed values.
+	 * @param b The second packed value used for all indices.
+	 * @param dst The array receiving the results.
+	 * @param from The first index (inclusive).
+	 * @param to The last index (exclusive).
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static void apply(LongBinaryOperator op, long[] a, long b, long[] dst, int from, int to)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(op == null) throw new ArgumentNullException("op");
+			if(a == null) throw new ArgumentNullException("a");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		for(int i = from; i < to; i++)
+		{
+			dst[i] = op.applyAsLong(a[i], b);
+		}
+	}
+	
+	/**
+	 * Applies the operation to the packed values between the positions and the limits of the buffers
+	 * and puts the results into dst starting at its position. The number of processed values is the smallest
+	 * remaining count of the three buffers. The positions of the buffers are not changed. dst may be a or b.
+	 * 
+	 * @param op The operation, for example {@code PackedTup4s::addSaturated}.
+	 * @param a The first packed values.
+	 * @param b The second packed values.
+	 * @param dst The buffer receiving the results.
+	 * 
+	 * @return The number of processed values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int apply(LongBinaryOperator op, LongBuffer a, LongBuffer b, LongBuffer dst)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(op == null) throw new ArgumentNullException("op");
+			if(a == null) throw new ArgumentNullException("a");
+			if(b == null) throw new ArgumentNullException("b");
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int count = Math.min(dst.remaining(), Math.min(a.remaining(), b.remaining()));
+		int aBase = a.position();
+		int bBase = b.position();
+		int dstBase = dst.position();
+		
+		if(a.hasArray() && b.hasArray() && dst.hasArray())
+		{
+			long[] aArray = a.array();
+			long[] bArray = b.array();
+			long[] dstArray = dst.array();
+			
+			aBase += a.arrayOffset();
+			bBase += b.arrayOffset();
+			dstBase += dst.arrayOffset();
+			
+			for(int i = 0; i < count; i++)
+			{
+				dstArray[dstBase + i] = op.applyAsLong(aArray[aBase + i], bArray[bBase + i]);
+			}
+			
+			return count;
+		}
+		
+		for(int i = 0; i < count; i++)
+		{
+			dst.put(dstBase + i, op.applyAsLong(a.get(aBase + i), b.get(bBase + i)));
+		}
+		
+		return count;
+	}
+	
+	@Override
+	public int hashCode()
+	{
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + getX();
+		result = prime * result + getY();
+		result = prime * result + getZ();
+		result = prime * result + getW();
+		return result;
+	}
+	
+	@Override
+	public boolean equals(Object obj)
+	{
+		if(this == obj) return true;
+		if(obj == null) return false;
+		if(!(obj instanceof Tup4sR)) return false;
+		
+		Tup4sR other = (Tup4sR) obj;
+		if(getX() != other.getX()) return false;
+		if(getY() != other.getY()) return false;
+		if(getZ() != other.getZ()) return false;
+		if(getW() != other.getW()) return false;
+		return true;
+	}
+	
+	@Override
+	public PackedTup4s clone()
+	{
+		return new PackedTup4s(this.packed);
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the string builder. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param sb The string builder to append to.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public StringBuilder appendTo(StringBuilder sb)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		sb.append("packedtup4s(x=");
+		FastFormat.append(sb, getX());
+		sb.append(", y=");
+		FastFormat.append(sb, getY());
+		sb.append(", z=");
+		FastFormat.append(sb, getZ());
+		sb.append(", w=");
+		FastFormat.append(sb, getW());
+		sb.append(')');
+		
+		return sb;
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the appendable. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable to append to.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <A extends Appendable> A appendTo(A a) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		a.append("packedtup4s(x=");
+		FastFormat.append(a, getX());
+		a.append(", y=");
+		FastFormat.append(a, getY());
+		a.append(", z=");
+		FastFormat.append(a, getZ());
+		a.append(", w=");
+		FastFormat.append(a, getW());
+		a.append(')');
+		
+		return a;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return appendTo(new StringBuilder()).toString();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,344 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.tuple4;
+
+import java.io.IOException;
+
+import org.barghos.core.api.tracking.Trackable;
+import org.barghos.core.api.tuple4.Tup4dR;
+
+import org.barghos.core.Barghos;
+import org.barghos.core.tracking.DirtyRangeTracker;
+import org.barghos.core.util.ArgumentNullException;
+import org.barghos.core.util.FastFormat;
+
+/**
+ * This class represents a 4-dimensional double tuple with change tracking.
+ * 
+ * <p>
+ * Every setter increments the version and marks the tuple as dirty. A tuple can additionally be bound
+ * to an index of a {@link DirtyRangeTracker} of a container, which is then notified about every modification.
+ * Direct writes to the public fields are not tracked and have to be followed by a call to {@link #markDirty()}.
+ * A new instance starts as dirty.
+ * 
+ * <p>
+ * The plain {@link Tup4d} is not affected by this class, so there is no overhead if the tracking is not used.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public class TrackedTup4d extends Tup4d implements Trackable
+{
+	/**
+	 * The class version for serialization.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * The version of the tuple.
+	 */
+	private long version;
+	
+	/**
+	 * True if the tuple was modified since the dirty flag was cleared.
+	 */
+	private boolean dirty;
+	
+	/**
+	 * The tracker of the container the tuple is bound to or null.
+	 */
+	private transient DirtyRangeTracker tracker;
+	
+	/**
+	 * The index of the tuple in the container it is bound to.
+	 */
+	private transient int index;
+	
+	/**
+	 * Creates a new instance with all components set to 0.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public TrackedTup4d()
+	{
+		super();
+	}
+	
+	/**
+	 * Creates a new instance from an existing instance of {@link Tup4dR} and adopts the values.
+	 * 
+	 * @param t An existing implementation of {@link Tup4dR} to adopt the values from.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public TrackedTup4d(Tup4dR t)
+	{
+		super(t);
+	}
+	
+	/**
+	 * Creates a new instance with all values set to a single value.
+	 * 
+	 * @param value The value used as the initial value for all values of the tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public TrackedTup4d(double value)
+	{
+		super(value);
+	}
+	
+	/**
+	 * Creates a new instance with the values set to the corresponding parameters.
+	 * 
+	 * @param x The initial x value of the tuple.
+	 * @param y The initial y value of the tuple.
+	 * @param z The initial z value of the tuple.
+	 * @param w The initial w value of the tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public TrackedTup4d(double x, double y, double z, double w)
+	{
+		super(x, y, z, w);
+	}
+	
+	/**
+	 * Binds the tuple to the index of a container. Every following modification marks the index
+	 * in the tracker as dirty. A tuple can only be bound to one container at a time.
+	 * 
+	 * @param tracker The tracker of the container or null to unbind the tuple.
+	 * @param index The index of the tuple in the container.
+	 * 
+	 * @return The current tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public TrackedTup4d bind(DirtyRangeTracker tracker, int index)
+	{
+		this.tracker = tracker;
+		this.index = index;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the tracker the tuple is bound to or null.
+	 * 
+	 * @return The tracker.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public DirtyRangeTracker getTracker()
+	{
+		return this.tracker;
+	}
+	
+	/**
+	 * Returns the index of the tuple in the container it is bound to.
+	 * 
+	 * @return The index.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public int getIndex()
+	{
+		return this.index;
+	}
+	
+	@Override
+	public long getVersion()
+	{
+		return this.version;
+	}
+	
+	@Override
+	public boolean isDirty()
+	{
+		return this.dirty;
+	}
+	
+	@Override
+	public void clearDirty()
+	{
+		this.dirty = false;
+	}
+	
+	@Override
+	public void markDirty()
+	{
+		this.version++;
+		this.dirty = true;
+		
+		if(this.tracker != null) this.tracker.markDirty(this.index);
+	}
+	
+	@Override
+	public TrackedTup4d setX(double x)
+	{
+		this.x = x;
+		
+		markDirty();
+		
+		return this;
+	}
+	
+	@Override
+	public TrackedTup4d setY(double y)
+	{
+		this.y = y;
+		
+		markDirty();
+		
+		return this;
+	}
+	
+	@Override
+	public TrackedTup4d setZ(double z)
+	{
+		this.z = z;
+		
+		markDirty();
+		
+		return this;
+	}
+	
+	@Override
+	public TrackedTup4d setW(double w)
+	{
+		this.w = w;
+		
+		markDirty();
+		
+		return this;
+	}
+	
+	@Override
+	public TrackedTup4d set(Tup4dR t)
+	{
+		return (TrackedTup4d)super.set(t);
+	}
+	
+	@Override
+	public TrackedTup4d set(double value)
+	{
+		return set(value, value, value, value);
+	}
+	
+	@Override
+	public TrackedTup4d set(double x, double y, double z, double w)
+	{
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.w = w;
+		
+		markDirty();
+		
+		return this;
+	}
+	
+	@Override
+	public TrackedTup4d clone()
+	{
+		return new TrackedTup4d(this);
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the string builder. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param sb The string builder to append to.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public StringBuilder appendTo(StringBuilder sb)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		sb.append("trackedtup4d(x=");
+		FastFormat.append(sb, getX());
+		sb.append(", y=");
+		FastFormat.append(sb, getY());
+		sb.append(", z=");
+		FastFormat.append(sb, getZ());
+		sb.append(", w=");
+		FastFormat.append(sb, getW());
+		sb.append(", version=");
+		FastFormat.append(sb, this.version);
+		sb.append(", dirty=");
+		FastFormat.append(sb, this.dirty);
+		sb.append(')');
+		
+		return sb;
+	}
+	
+	/**
+	 * Appends the string representation of the tuple to the appendable. The numbers are formatted by
+	 * {@link FastFormat} without creating intermediate strings.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable to append to.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public <A extends Appendable> A appendTo(A a) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		a.append("trackedtup4d(x=");
+		FastFormat.append(a, getX());
+		a.append(", y=");
+		FastFormat.append(a, getY());
+		a.append(", z=");
+		FastFormat.append(a, getZ());
+		a.append(", w=");
+		FastFormat.append(a, getW());
+		a.append(", version=");
+		FastFormat.append(a, this.version);
+		a.append(", dirty=");
+		FastFormat.append(a, this.dirty);
+		a.append(')');
+		
+		return a;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return appendTo(new StringBuilder()).toString();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,1148 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import java.math.BigInteger;
+import java.nio.CharBuffer;
+
+import org.barghos.core.Barghos;
+
+/**
+ * Provides functions for formatting numbers into char arrays and {@link Appendable Appendables} without creating
+ * intermediate strings.
+ * 
+ * <p>
+ * The shortest representations of floats and doubles have the layout of {@link Float#toString(float)} and
+ * {@link Double#toString(double)}. The digits are computed directly by the Schubfach algorithm of Raffaello Giulietti
+ * with a table of 128-bit powers of ten, without {@link java.math.BigDecimal} or intermediate strings. They are the
+ * shortest decimal, that rounds to the value, and if there are several, the closest one to the value. This is the
+ * specification of the toString methods since Java 19. Older JDKs sometimes print more digits, that parse to the
+ * same value.
+ * 
+ * <p>
+ * The fixed representations write the digits of a scaled long directly, but are only accurate to the precision of
+ * the scaled value.
+ * 
+ * @author picatrix1899
+ * 
+ * @since 1.0.0.0
+ */
+public final class FastFormat
+{
+	/**
+	 * The maximum number of chars written by a single format operation.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static final int MAX_CHARS = 32;
+	
+	/**
+	 * The maximum number of fraction digits of the fixed representation.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static final int MAX_FRACTION_DIGITS = 9;
+	
+	/**
+	 * The powers of ten up to 10^{@link #MAX_FRACTION_DIGITS}.
+	 */
+	private static final long[] POW10 = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L };
+	
+	/**
+	 * The chars of {@link Long#MIN_VALUE}, which cannot be negated.
+	 */
+	private static final char[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).toCharArray();
+	
+	/**
+	 * The precision of a float in bits.
+	 */
+	private static final int FLOAT_P = 24;
+	
+	/**
+	 * The exponent of the smallest subnormal float.
+	 */
+	private static final int FLOAT_Q_MIN = -149;
+	
+	/**
+	 * The smallest significand of a normal float.
+	 */
+	private static final int FLOAT_C_MIN = 1 << (FLOAT_P - 1);
+	
+	/**
+	 * The mask of the biased exponent of a float.
+	 */
+	private static final int FLOAT_BQ_MASK = 0xFF;
+	
+	/**
+	 * The mask of the trailing significand bits of a float.
+	 */
+	private static final int FLOAT_T_MASK = FLOAT_C_MIN - 1;
+	
+	/**
+	 * The subnormal float significands below this value need one more digit of precision.
+	 */
+	private static final int FLOAT_C_TINY = 8;
+	
+	/**
+	 * The precision of a double in bits.
+	 */
+	private static final int DOUBLE_P = 53;
+	
+	/**
+	 * The exponent of the smallest subnormal double.
+	 */
+	private static final int DOUBLE_Q_MIN = -1074;
+	
+	/**
+	 * The smallest significand of a normal double.
+	 */
+	private static final long DOUBLE_C_MIN = 1L << (DOUBLE_P - 1);
+	
+	/**
+	 * The mask of the biased exponent of a double.
+	 */
+	private static final int DOUBLE_BQ_MASK = 0x7FF;
+	
+	/**
+	 * The mask of the trailing significand bits of a double.
+	 */
+	private static final long DOUBLE_T_MASK = DOUBLE_C_MIN - 1;
+	
+	/**
+	 * The subnormal double significands below this value need one more digit of precision.
+	 */
+	private static final long DOUBLE_C_TINY = 3;
+	
+	/**
+	 * The mask of the lower 63 bits of a long.
+	 */
+	private static final long MASK_63 = Long.MAX_VALUE;
+	
+	/**
+	 * The chars of NaN.
+	 */
+	private static final char[] NAN = "NaN".toCharArray();
+	
+	/**
+	 * The chars of positive infinity.
+	 */
+	private static final char[] POSITIVE_INFINITY = "Infinity".toCharArray();
+	
+	/**
+	 * The chars of negative infinity.
+	 */
+	private static final char[] NEGATIVE_INFINITY = "-Infinity".toCharArray();
+	
+	/**
+	 * The chars of zero without sign.
+	 */
+	private static final char[] ZERO = "0.0".toCharArray();
+	
+	/**
+	 * The thread local scratch buffers.
+	 */
+	private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+	
+	private FastFormat() { }
+	
+	/**
+	 * Writes the decimal representation of the value to the array dst beginning at the index offset.
+	 * 
+	 * @param value The value to format.
+	 * @param dst The array receiving the chars.
+	 * @param offset The index of the first char in dst.
+	 * 
+	 * @return The index after the last written char.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int format(long value, char[] dst, int offset)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		if(value == Long.MIN_VALUE)
+		{
+			System.arraycopy(LONG_MIN_VALUE, 0, dst, offset, LONG_MIN_VALUE.length);
+			
+			return offset + LONG_MIN_VALUE.length;
+		}
+		
+		if(value < 0)
+		{
+			dst[offset++] = '-';
+			value = -value;
+		}
+		
+		return formatDigits(value, dst, offset);
+	}
+	
+	/**
+	 * Writes the shortest representation of the value to the array dst beginning at the index offset.
+	 * The representation has the layout of {@link Float#toString(float)}.
+	 * 
+	 * @param value The value to format.
+	 * @param dst The array receiving the chars.
+	 * @param offset The index of the first char in dst.
+	 * 
+	 * @return The index after the last written char.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int format(float value, char[] dst, int offset)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		int bits = Float.floatToRawIntBits(value);
+		int t = bits & FLOAT_T_MASK;
+		int bq = (bits >>> (FLOAT_P - 1)) & FLOAT_BQ_MASK;
+		
+		if(bq == FLOAT_BQ_MASK) return copy(t != 0 ? NAN : bits < 0 ? NEGATIVE_INFINITY : POSITIVE_INFINITY, dst, offset);
+		
+		if(bits < 0) dst[offset++] = '-';
+		
+		if(bq != 0)
+		{
+			int mq = -FLOAT_Q_MIN + 1 - bq;
+			int c = FLOAT_C_MIN | t;
+			
+			if(0 < mq && mq < FLOAT_P)
+			{
+				int f = c >> mq;
+				
+				if(f << mq == c) return formatDecimal(f, 0, dst, offset);
+			}
+			
+			return formatFloat(-mq, c, 0, dst, offset);
+		}
+		
+		if(t == 0) return copy(ZERO, dst, offset);
+		
+		return t < FLOAT_C_TINY ? formatFloat(FLOAT_Q_MIN, 10 * t, -1, dst, offset) : formatFloat(FLOAT_Q_MIN, t, 0, dst, offset);
+	}
+	
+	/**
+	 * Writes the shortest representation of the value to the array dst beginning at the index offset.
+	 * The representation has the layout of {@link Double#toString(double)}.
+	 * 
+	 * @param value The value to format.
+	 * @param dst The array receiving the chars.
+	 * @param offset The index of the first char in dst.
+	 * 
+	 * @return The index after the last written char.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int format(double value, char[] dst, int offset)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		long bits = Double.doubleToRawLongBits(value);
+		long t = bits & DOUBLE_T_MASK;
+		int bq = (int)(bits >>> (DOUBLE_P - 1)) & DOUBLE_BQ_MASK;
+		
+		if(bq == DOUBLE_BQ_MASK) return copy(t != 0 ? NAN : bits < 0 ? NEGATIVE_INFINITY : POSITIVE_INFINITY, dst, offset);
+		
+		if(bits < 0) dst[offset++] = '-';
+		
+		if(bq != 0)
+		{
+			int mq = -DOUBLE_Q_MIN + 1 - bq;
+			long c = DOUBLE_C_MIN | t;
+			
+			if(0 < mq && mq < DOUBLE_P)
+			{
+				long f = c >> mq;
+				
+				if(f << mq == c) return formatDecimal(f, 0, dst, offset);
+			}
+			
+			return formatDouble(-mq, c, 0, dst, offset);
+		}
+		
+		if(t == 0) return copy(ZERO, dst, offset);
+		
+		return t < DOUBLE_C_TINY ? formatDouble(DOUBLE_Q_MIN, 10 * t, -1, dst, offset) : formatDouble(DOUBLE_Q_MIN, t, 0, dst, offset);
+	}
+	
+	/**
+	 * Writes the value with a fixed number of fraction digits to the array dst beginning at the index offset.
+	 * The value is rounded half up. Values, that round to zero, are written without sign. NaN, infinite values and
+	 * values with too many digits for a long are written in the shortest representation.
+	 * 
+	 * @param value The value to format.
+	 * @param fractionDigits The number of fraction digits between 0 and {@link #MAX_FRACTION_DIGITS}.
+	 * @param dst The array receiving the chars.
+	 * @param offset The index of the first char in dst.
+	 * 
+	 * @return The index after the last written char.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static int formatFixed(double value, int fractionDigits, char[] dst, int offset)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(dst == null) throw new ArgumentNullException("dst");
+		}
+		
+		if(fractionDigits < 0 || fractionDigits > MAX_FRACTION_DIGITS) throw new IllegalArgumentException("fractionDigits");
+		
+		long scale = POW10[fractionDigits];
+		double abs = Math.abs(value);
+		
+		if(!(abs < 1e18 / scale)) return format(value, dst, offset);
+		
+		long scaled = Math.round(abs * scale);
+		
+		if(scaled != 0 && value < 0) dst[offset++] = '-';
+		
+		offset = formatDigits(scaled / scale, dst, offset);
+		
+		if(fractionDigits > 0)
+		{
+			long fraction = scaled % scale;
+			
+			dst[offset] = '.';
+			
+			for(int i = offset + fractionDigits; i > offset; i--)
+			{
+				dst[i] = (char)('0' + fraction % 10);
+				fraction /= 10;
+			}
+			
+			offset += fractionDigits + 1;
+		}
+		
+		return offset;
+	}
+	
+	/**
+	 * Appends the decimal representation of the value to the appendable.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable.
+	 * @param value The value to append.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <A extends Appendable> A append(A a, int value) throws IOException
+	{
+		return append(a, (long)value);
+	}
+	
+	/**
+	 * Appends the decimal representation of the value to the appendable.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable.
+	 * @param value The value to append.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <A extends Appendable> A append(A a, long value) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		char[] chars = SCRATCH.get().chars;
+		
+		return write(a, chars, format(value, chars, 0));
+	}
+	
+	/**
+	 * Appends the shortest representation of the value to the appendable.
+	 * The representation has the layout of {@link Float#toString(float)}.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable.
+	 * @param value The value to append.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <A extends Appendable> A append(A a, float value) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		char[] chars = SCRATCH.get().chars;
+		
+		return write(a, chars, format(value, chars, 0));
+	}
+	
+	/**
+	 * Appends the shortest representation of the value to the appendable.
+	 * The representation has the layout of {@link Double#toString(double)}.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable.
+	 * @param value The value to append.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <A extends Appendable> A append(A a, double value) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		char[] chars = SCRATCH.get().chars;
+		
+		return write(a, chars, format(value, chars, 0));
+	}
+	
+	/**
+	 * Appends the value with a fixed number of fraction digits to the appendable.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable.
+	 * @param value The value to append.
+	 * @param fractionDigits The number of fraction digits between 0 and {@link #MAX_FRACTION_DIGITS}.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @see #formatFixed(double, int, char[], int)
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <A extends Appendable> A appendFixed(A a, double value, int fractionDigits) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		char[] chars = SCRATCH.get().chars;
+		
+		return write(a, chars, formatFixed(value, fractionDigits, chars, 0));
+	}
+	
+	/**
+	 * Appends the char to the appendable.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable.
+	 * @param value The value to append.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <A extends Appendable> A append(A a, char value) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		a.append(value);
+		
+		return a;
+	}
+	
+	/**
+	 * Appends "true" or "false" to the appendable.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable.
+	 * @param value The value to append.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <A extends Appendable> A append(A a, boolean value) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		a.append(value ? "true" : "false");
+		
+		return a;
+	}
+	
+	/**
+	 * Appends the string representation of the object to the appendable, as {@link String#valueOf(Object)} does.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable.
+	 * @param value The value to append.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static <A extends Appendable> A append(A a, Object value) throws IOException
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(a == null) throw new ArgumentNullException("a");
+		}
+		
+		a.append(String.valueOf(value));
+		
+		return a;
+	}
+	
+	/**
+	 * Appends the decimal representation of the value to the string builder.
+	 * Unlike {@link #append(Appendable, int)} this function does not declare an {@link IOException}.
+	 * 
+	 * @param sb The string builder.
+	 * @param value The value to append.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static StringBuilder append(StringBuilder sb, int value)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		return append(sb, (long)value);
+	}
+	
+	/**
+	 * Appends the decimal representation of the value to the string builder.
+	 * Unlike {@link #append(Appendable, long)} this function does not declare an {@link IOException}.
+	 * 
+	 * @param sb The string builder.
+	 * @param value The value to append.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static StringBuilder append(StringBuilder sb, long value)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		char[] chars = SCRATCH.get().chars;
+		
+		return sb.append(chars, 0, format(value, chars, 0));
+	}
+	
+	/**
+	 * Appends the shortest representation of the value to the string builder.
+	 * Unlike {@link #append(Appendable, float)} this function does not declare an {@link IOException}.
+	 * The representation has the layout of {@link Float#toString(float)}.
+	 * 
+	 * @param sb The string builder.
+	 * @param value The value to append.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static StringBuilder append(StringBuilder sb, float value)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		char[] chars = SCRATCH.get().chars;
+		
+		return sb.append(chars, 0, format(value, chars, 0));
+	}
+	
+	/**
+	 * Appends the shortest representation of the value to the string builder.
+	 * Unlike {@link #append(Appendable, double)} this function does not declare an {@link IOException}.
+	 * The representation has the layout of {@link Double#toString(double)}.
+	 * 
+	 * @param sb The string builder.
+	 * @param value The value to append.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static StringBuilder append(StringBuilder sb, double value)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		char[] chars = SCRATCH.get().chars;
+		
+		return sb.append(chars, 0, format(value, chars, 0));
+	}
+	
+	/**
+	 * Appends the char to the string builder.
+	 * Unlike {@link #append(Appendable, char)} this function does not declare an {@link IOException}.
+	 * 
+	 * @param sb The string builder.
+	 * @param value The value to append.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static StringBuilder append(StringBuilder sb, char value)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		return sb.append(value);
+	}
+	
+	/**
+	 * Appends "true" or "false" to the string builder.
+	 * Unlike {@link #append(Appendable, boolean)} this function does not declare an {@link IOException}.
+	 * 
+	 * @param sb The string builder.
+	 * @param value The value to append.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static StringBuilder append(StringBuilder sb, boolean value)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		return sb.append(value);
+	}
+	
+	/**
+	 * Appends the string representation of the object to the string builder, as {@link String#valueOf(Object)} does.
+	 * Unlike {@link #append(Appendable, Object)} this function does not declare an {@link IOException}.
+	 * 
+	 * @param sb The string builder.
+	 * @param value The value to append.
+	 * 
+	 * @return The string builder sb.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	public static StringBuilder append(StringBuilder sb, Object value)
+	{
+		if(Barghos.BUILD_FLAG__PARAMETER_CHECKS)
+		{
+			if(sb == null) throw new ArgumentNullException("sb");
+		}
+		
+		return sb.append(value);
+	}
+	
+	/**
+	 * Computes the shortest decimal of the positive float c * 2^q and writes it to the array dst.
+	 * 
+	 * @param q The binary exponent.
+	 * @param c The significand.
+	 * @param dk The correction of the decimal exponent for subnormal significands multiplied by ten.
+	 * @param dst The array receiving the chars.
+	 * @param offset The index of the first char in dst.
+	 * 
+	 * @return The index after the last written char.
+	 */
+	private static int formatFloat(int q, long c, int dk, char[] dst, int offset)
+	{
+		int out = (int)c & 1;
+		long cb = c << 2;
+		long cbr = cb + 2;
+		long cbl;
+		int k;
+		
+		if(c != FLOAT_C_MIN || q == FLOAT_Q_MIN)
+		{
+			cbl = cb - 2;
+			k = floorLog10Pow2(q);
+		}
+		else
+		{
+			cbl = cb - 1;
+			k = floorLog10ThreeQuartersPow2(q);
+		}
+		
+		int h = q + floorLog2Pow10(-k) + 33;
+		long g = PowersOfTen.high(k) + 1;
+		
+		long vb = roundOdd(g, cb << h);
+		long vbl = roundOdd(g, cbl << h);
+		long vbr = roundOdd(g, cbr << h);
+		
+		long s = vb >> 2;
+		
+		if(s >= 100)
+		{
+			long sp10 = 10 * (s * 1717986919L >>> 34);
+			long tp10 = sp10 + 10;
+			boolean upin = vbl + out <= sp10 << 2;
+			boolean wpin = (tp10 << 2) + out <= vbr;
+			
+			if(upin != wpin) return formatDecimal(upin ? sp10 : tp10, k, dst, offset);
+		}
+		
+		long t = s + 1;
+		boolean uin = vbl + out <= s << 2;
+		boolean win = (t << 2) + out <= vbr;
+		
+		if(uin != win) return formatDecimal(uin ? s : t, k + dk, dst, offset);
+		
+		long cmp = vb - (s + t << 1);
+		
+		return formatDecimal(cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk, dst, offset);
+	}
+	
+	/**
+	 * Computes the shortest decimal of the positive double c * 2^q and writes it to the array dst.
+	 * 
+	 * @param q The binary exponent.
+	 * @param c The significand.
+	 * @param dk The correction of the decimal exponent for subnormal significands multiplied by ten.
+	 * @param dst The array receiving the chars.
+	 * @param offset The index of the first char in dst.
+	 * 
+	 * @return The index after the last written char.
+	 */
+	private static int formatDouble(int q, long c, int dk, char[] dst, int offset)
+	{
+		int out = (int)c & 1;
+		long cb = c << 2;
+		long cbr = cb + 2;
+		long cbl;
+		int k;
+		
+		if(c != DOUBLE_C_MIN || q == DOUBLE_Q_MIN)
+		{
+			cbl = cb - 2;
+			k = floorLog10Pow2(q);
+		}
+		else
+		{
+			cbl = cb - 1;
+			k = floorLog10ThreeQuartersPow2(q);
+		}
+		
+		int h = q + floorLog2Pow10(-k) + 2;
+		long g1 = PowersOfTen.high(k);
+		long g0 = PowersOfTen.low(k);
+		
+		long vb = roundOdd(g1, g0, cb << h);
+		long vbl = roundOdd(g1, g0, cbl << h);
+		long vbr = roundOdd(g1, g0, cbr << h);
+		
+		long s = vb >> 2;
+		
+		if(s >= 100)
+		{
+			long sp10 = 10 * Math.multiplyHigh(s, 115292150460684698L << 4);
+			long tp10 = sp10 + 10;
+			boolean upin = vbl + out <= sp10 << 2;
+			boolean wpin = (tp10 << 2) + out <= vbr;
+			
+			if(upin != wpin) return formatDecimal(upin ? sp10 : tp10, k, dst, offset);
+		}
+		
+		long t = s + 1;
+		boolean uin = vbl + out <= s << 2;
+		boolean win = (t << 2) + out <= vbr;
+		
+		if(uin != win) return formatDecimal(uin ? s : t, k + dk, dst, offset);
+		
+		long cmp = vb - (s + t << 1);
+		
+		return formatDecimal(cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk, dst, offset);
+	}
+	
+	/**
+	 * Multiplies the 63-bit table value g by cp and rounds the upper bits to odd.
+	 * 
+	 * @param g The table value.
+	 * @param cp The shifted significand.
+	 * 
+	 * @return The rounded product.
+	 */
+	private static long roundOdd(long g, long cp)
+	{
+		long x1 = Math.multiplyHigh(g, cp);
+		long vbp = x1 >>> 31;
+		
+		return vbp | (x1 & 0xFFFFFFFFL) + 0xFFFFFFFFL >>> 32;
+	}
+	
+	/**
+	 * Multiplies the 126-bit table value g1 * 2^63 + g0 by cp and rounds the upper bits to odd.
+	 * 
+	 * @param g1 The upper 63 bits of the table value.
+	 * @param g0 The lower 63 bits of the table value.
+	 * @param cp The shifted significand.
+	 * 
+	 * @return The rounded product.
+	 */
+	private static long roundOdd(long g1, long g0, long cp)
+	{
+		long x1 = Math.multiplyHigh(g0, cp);
+		long y0 = g1 * cp;
+		long y1 = Math.multiplyHigh(g1, cp);
+		long z = (y0 >>> 1) + x1;
+		long vbp = y1 + (z >>> 63);
+		
+		return vbp | (z & MASK_63) + MASK_63 >>> 63;
+	}
+	
+	/**
+	 * Returns floor(log10(2^e)).
+	 * 
+	 * @param e The exponent between -5456721 and 5456721.
+	 * 
+	 * @return The rounded logarithm.
+	 */
+	private static int floorLog10Pow2(int e)
+	{
+		return (int)(e * 661971961083L >> 41);
+	}
+	
+	/**
+	 * Returns floor(log10(3/4 * 2^e)).
+	 * 
+	 * @param e The exponent between -2956395 and 2956395.
+	 * 
+	 * @return The rounded logarithm.
+	 */
+	private static int floorLog10ThreeQuartersPow2(int e)
+	{
+		return (int)(e * 661971961083L + -274743187321L >> 41);
+	}
+	
+	/**
+	 * Returns floor(log2(10^e)).
+	 * 
+	 * @param e The exponent between -1838394 and 1838394.
+	 * 
+	 * @return The rounded logarithm.
+	 */
+	private static int floorLog2Pow10(int e)
+	{
+		return (int)(e * 913124641741L >> 38);
+	}
+	
+	/**
+	 * Writes the positive decimal f * 10^e to the array dst in the layout of {@link Double#toString(double)}.
+	 * Values from 10^-3 (inclusive) to 10^7 (exclusive) are written in plain notation, all other values in
+	 * scientific notation.
+	 * 
+	 * @param f The positive significand.
+	 * @param e The decimal exponent.
+	 * @param dst The array receiving the chars.
+	 * @param offset The index of the first char in dst.
+	 * 
+	 * @return The index after the last written char.
+	 */
+	private static int formatDecimal(long f, int e, char[] dst, int offset)
+	{
+		while(f % 10 == 0)
+		{
+			f /= 10;
+			e++;
+		}
+		
+		int digits = 1;
+		
+		for(long v = f / 10; v != 0; v /= 10)
+		{
+			digits++;
+		}
+		
+		int exponent = e + digits;
+		
+		if(exponent > 0 && exponent <= 7)
+		{
+			if(digits <= exponent)
+			{
+				offset = formatDigits(f, dst, offset);
+				
+				for(int i = digits; i < exponent; i++) dst[offset++] = '0';
+				
+				dst[offset++] = '.';
+				dst[offset++] = '0';
+				
+				return offset;
+			}
+			
+			int end = formatDigits(f, dst, offset + 1);
+			
+			System.arraycopy(dst, offset + 1, dst, offset, exponent);
+			dst[offset + exponent] = '.';
+			
+			return end;
+		}
+		
+		if(exponent <= 0 && exponent > -3)
+		{
+			dst[offset++] = '0';
+			dst[offset++] = '.';
+			
+			for(int i = exponent; i < 0; i++) dst[offset++] = '0';
+			
+			return formatDigits(f, dst, offset);
+		}
+		
+		int end = formatDigits(f, dst, offset + 1);
+		
+		dst[offset] = dst[offset + 1];
+		dst[offset + 1] = '.';
+		
+		if(digits == 1) dst[end++] = '0';
+		
+		dst[end++] = 'E';
+		
+		int x = exponent - 1;
+		
+		if(x < 0)
+		{
+			dst[end++] = '-';
+			x = -x;
+		}
+		
+		return formatDigits(x, dst, end);
+	}
+	
+	/**
+	 * Copies the chars to the array dst beginning at the index offset.
+	 * 
+	 * @param chars The chars to copy.
+	 * @param dst The array receiving the chars.
+	 * @param offset The index of the first char in dst.
+	 * 
+	 * @return The index after the last written char.
+	 */
+	private static int copy(char[] chars, char[] dst, int offset)
+	{
+		System.arraycopy(chars, 0, dst, offset, chars.length);
+		
+		return offset + chars.length;
+	}
+	
+	/**
+	 * Writes the digits of a non-negative value to the array dst beginning at the index offset.
+	 * 
+	 * @param value The non-negative value.
+	 * @param dst The array receiving the chars.
+	 * @param offset The index of the first char in dst.
+	 * 
+	 * @return The index after the last written char.
+	 */
+	private static int formatDigits(long value, char[] dst, int offset)
+	{
+		int digits = 1;
+		
+		for(long v = value / 10; v != 0; v /= 10)
+		{
+			digits++;
+		}
+		
+		int end = offset + digits;
+		
+		for(int i = end - 1; i >= offset; i--)
+		{
+			dst[i] = (char)('0' + value % 10);
+			value /= 10;
+		}
+		
+		return end;
+	}
+	
+	/**
+	 * Writes the chars to the appendable. {@link StringBuilder StringBuilders}, {@link Writer Writers} and
+	 * {@link CharBuffer CharBuffers} receive the chars in bulk.
+	 * 
+	 * @param <A> The type of the appendable.
+	 * @param a The appendable.
+	 * @param chars The chars to write.
+	 * @param length The number of chars to write.
+	 * 
+	 * @return The appendable a.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private static <A extends Appendable> A write(A a, char[] chars, int length) throws IOException
+	{
+		if(a instanceof StringBuilder)
+		{
+			((StringBuilder)a).append(chars, 0, length);
+		}
+		else if(a instanceof Writer)
+		{
+			((Writer)a).write(chars, 0, length);
+		}
+		else if(a instanceof CharBuffer)
+		{
+			((CharBuffer)a).put(chars, 0, length);
+		}
+		else
+		{
+			for(int i = 0; i < length; i++)
+			{
+				a.append(chars[i]);
+			}
+		}
+		
+		return a;
+	}
+	
+	/**
+	 * This class holds the table of the powers of ten used by the shortest representations. It is initialized on the
+	 * first use.
+	 * 
+	 * <p>
+	 * For every decimal exponent k, 10^-k = beta * 2^r with 2^125 &lt;= beta &lt; 2^126. The table contains
+	 * g = floor(beta) + 1 split into the upper and the lower 63 bits.
+	 */
+	private static final class PowersOfTen
+	{
+		/**
+		 * The smallest decimal exponent.
+		 */
+		private static final int K_MIN = -324;
+		
+		/**
+		 * The largest decimal exponent.
+		 */
+		private static final int K_MAX = 292;
+		
+		/**
+		 * The upper and lower 63 bits of g for every decimal exponent, interleaved.
+		 */
+		private static final long[] G = new long[(K_MAX - K_MIN + 1) * 2];
+		
+		static
+		{
+			for(int k = K_MIN; k <= K_MAX; k++)
+			{
+				BigInteger beta;
+				
+				if(k <= 0)
+				{
+					BigInteger p = BigInteger.TEN.pow(-k);
+					int r = p.bitLength() - 126;
+					
+					beta = r >= 0 ? p.shiftRight(r) : p.shiftLeft(-r);
+				}
+				else
+				{
+					BigInteger p = BigInteger.TEN.pow(k);
+					
+					beta = BigInteger.ONE.shiftLeft(125 + p.bitLength()).divide(p);
+				}
+				
+				BigInteger g = beta.add(BigInteger.ONE);
+				
+				G[(k - K_MIN) << 1] = g.shiftRight(63).longValue();
+				G[((k - K_MIN) << 1) + 1] = g.longValue() & MASK_63;
+			}
+		}
+		
+		/**
+		 * Returns the upper 63 bits of g for the decimal exponent.
+		 * 
+		 * @param k The decimal exponent.
+		 * 
+		 * @return The upper 63 bits.
+		 */
+		static long high(int k)
+		{
+			return G[(k - K_MIN) << 1];
+		}
+		
+		/**
+		 * Returns the lower 63 bits of g for the decimal exponent.
+		 * 
+		 * @param k The decimal exponent.
+		 * 
+		 * @return The lower 63 bits.
+		 */
+		static long low(int k)
+		{
+			return G[((k - K_MIN) << 1) + 1];
+		}
+	}
+	
+	/**
+	 * This class holds the scratch buffers of a thread.
+	 */
+	private static final class Scratch
+	{
+		/**
+		 * The chars written to appendables.
+		 */
+		final char[] chars = new char[MAX_CHARS];
+	}
+}
\ No newline at end of file
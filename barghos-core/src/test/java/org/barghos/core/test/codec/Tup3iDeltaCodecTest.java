@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple3.Tup3iW;
+import org.barghos.core.codec.Tup3iDeltaCodec;
+import org.barghos.core.tuple3.Tup3i;
+
+/**
+ * This class provides component tests for the class {@link Tup3iDeltaCodec}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup3iDeltaCodecTest
+{
+	/**
+	 * Creates a random walk of tuples with small steps and some extreme values.
+	 * 
+	 * @param random The random number generator.
+	 * @param count The number of tuples.
+	 * 
+	 * @return The interleaved components.
+	 */
+	private static int[] walk(Random random, int count)
+	{
+		int[] v = new int[count * 3];
+		
+		for(int i = 3; i < v.length; i++)
+			v[i] = v[i - 3] + random.nextInt(21) - 10;
+		
+		if(count > 10)
+		{
+			v[5 * 3] = Integer.MAX_VALUE;
+			v[6 * 3 + 1] = Integer.MIN_VALUE;
+			v[7 * 3] = random.nextInt();
+		}
+		
+		return v;
+	}
+	
+	/**
+	 * This test ensures, that a single tuple is encoded as small deltas and decoded again.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void encodeDecodeTupleTest()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(2 * Tup3iDeltaCodec.MAX_BYTES_TUPLE);
+		
+		Tup3iDeltaCodec.Encoder encoder = new Tup3iDeltaCodec.Encoder();
+		
+		encoder.encode(buffer, new Tup3i(100, 100, 100));
+		int first = buffer.position();
+		
+		encoder.encode(buffer, new Tup3i(99, 99, 99));
+		
+		assertEquals(3, buffer.position() - first);
+		
+		buffer.flip();
+		
+		Tup3iDeltaCodec.Decoder decoder = new Tup3iDeltaCodec.Decoder();
+		
+		assertEquals(new Tup3i(100, 100, 100), decoder.decode(buffer, new Tup3i()));
+		assertEquals(new Tup3i(99, 99, 99), decoder.decode(buffer, new Tup3i()));
+		assertFalse(buffer.hasRemaining());
+	}
+	
+	/**
+	 * This test ensures, that sequences encoded in the varint mode in pieces are decoded again.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void varintSequenceTest()
+	{
+		Random random = new Random(1);
+		
+		int[] v = walk(random, 1000);
+		
+		ByteBuffer buffer = ByteBuffer.allocate(1000 * Tup3iDeltaCodec.MAX_BYTES_TUPLE);
+		
+		Tup3iDeltaCodec.Encoder encoder = new Tup3iDeltaCodec.Encoder();
+		encoder.encode(buffer, v, 0, 400);
+		encoder.encode(buffer, v, 400, 1000);
+		
+		buffer.flip();
+		
+		Tup3iDeltaCodec.Decoder decoder = new Tup3iDeltaCodec.Decoder();
+		
+		int[] result = new int[v.length];
+		decoder.decode(buffer, result, 0, 10);
+		
+		Tup3iW[] t = new Tup3iW[1000];
+		for(int i = 0; i < t.length; i++) t[i] = new Tup3i();
+		
+		decoder.decode(buffer, t, 10, 990);
+		
+		for(int i = 10; i < 1000; i++)
+		{
+			result[i * 3 + 0] = ((Tup3i)t[i]).x;
+			result[i * 3 + 1] = ((Tup3i)t[i]).y;
+			result[i * 3 + 2] = ((Tup3i)t[i]).z;
+		}
+		
+		assertArrayEquals(v, result);
+		assertFalse(buffer.hasRemaining());
+	}
+	
+	/**
+	 * This test ensures, that blocks in the frame of reference mode mixed with the varint mode are decoded again.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void blockSequenceTest()
+	{
+		Random random = new Random(2);
+		
+		int[] v = walk(random, 1000);
+		
+		ByteBuffer buffer = ByteBuffer.allocate(Tup3iDeltaCodec.maxBlockBytes(1000) * 2);
+		
+		Tup3iDeltaCodec.Encoder encoder = new Tup3iDeltaCodec.Encoder();
+		encoder.encodeBlock(buffer, v, 0, 3);
+		encoder.encodeBlock(buffer, v, 3, 3);
+		encoder.encodeBlock(buffer, v, 3, 20);
+		encoder.encode(buffer, v, 20, 21);
+		encoder.encodeBlock(buffer, v, 21, 1000);
+		
+		buffer.flip();
+		
+		Tup3iDeltaCodec.Decoder decoder = new Tup3iDeltaCodec.Decoder();
+		
+		int[] result = new int[v.length];
+		
+		assertEquals(3, decoder.decodeBlock(buffer, result, 0));
+		assertEquals(0, decoder.decodeBlock(buffer, result, 3));
+		assertEquals(17, decoder.decodeBlock(buffer, result, 3));
+		decoder.decode(buffer, result, 20, 21);
+		assertEquals(979, decoder.decodeBlock(buffer, result, 21));
+		
+		assertArrayEquals(v, result);
+		assertFalse(buffer.hasRemaining());
+	}
+	
+	/**
+	 * This test ensures, that a block of small steps is packed with few bits.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void blockCompactTest()
+	{
+		int[] v = new int[1000 * 3];
+		
+		for(int i = 0; i < v.length; i++)
+			v[i] = 1000 + i / 3;
+		
+		ByteBuffer buffer = ByteBuffer.allocate(Tup3iDeltaCodec.maxBlockBytes(1000));
+		
+		Tup3iDeltaCodec.Encoder encoder = new Tup3iDeltaCodec.Encoder();
+		encoder.encode(buffer, v, 0, 1);
+		
+		int start = buffer.position();
+		
+		encoder.encodeBlock(buffer, v, 1, 1000);
+		
+		assertTrue(buffer.position() - start < 1000 * 3 / 4);
+		
+		buffer.flip();
+		
+		int[] result = new int[v.length];
+		
+		Tup3iDeltaCodec.Decoder decoder = new Tup3iDeltaCodec.Decoder();
+		decoder.decode(buffer, result, 0, 1);
+		decoder.decodeBlock(buffer, result, 1);
+		
+		assertArrayEquals(v, result);
+	}
+	
+	/**
+	 * This test ensures, that decoding a block into a too small array throws an exception.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void blockTooSmallTest()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(Tup3iDeltaCodec.maxBlockBytes(10));
+		
+		new Tup3iDeltaCodec.Encoder().encodeBlock(buffer, new int[10 * 3], 0, 10);
+		
+		buffer.flip();
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> new Tup3iDeltaCodec.Decoder().decodeBlock(buffer, new int[10 * 3], 1));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple4.Tup4lW;
+import org.barghos.core.codec.Tup4lDeltaCodec;
+import org.barghos.core.tuple4.Tup4l;
+
+/**
+ * This class provides component tests for the class {@link Tup4lDeltaCodec}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup4lDeltaCodecTest
+{
+	/**
+	 * Creates a random walk of tuples with small steps and some extreme values.
+	 * 
+	 * @param random The random number generator.
+	 * @param count The number of tuples.
+	 * 
+	 * @return The interleaved components.
+	 */
+	private static long[] walk(Random random, int count)
+	{
+		long[] v = new long[count * 4];
+		
+		for(int i = 4; i < v.length; i++)
+			v[i] = v[i - 4] + random.nextInt(21) - 10;
+		
+		if(count > 10)
+		{
+			v[5 * 4] = Long.MAX_VALUE;
+			v[6 * 4 + 1] = Long.MIN_VALUE;
+			v[7 * 4] = random.nextLong();
+		}
+		
+		return v;
+	}
+	
+	/**
+	 * This test ensures, that a single tuple is encoded as small deltas and decoded again.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void encodeDecodeTupleTest()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(2 * Tup4lDeltaCodec.MAX_BYTES_TUPLE);
+		
+		Tup4lDeltaCodec.Encoder encoder = new Tup4lDeltaCodec.Encoder();
+		
+		encoder.encode(buffer, new Tup4l(100, 100, 100, 100));
+		int first = buffer.position();
+		
+		encoder.encode(buffer, new Tup4l(99, 99, 99, 99));
+		
+		assertEquals(4, buffer.position() - first);
+		
+		buffer.flip();
+		
+		Tup4lDeltaCodec.Decoder decoder = new Tup4lDeltaCodec.Decoder();
+		
+		assertEquals(new Tup4l(100, 100, 100, 100), decoder.decode(buffer, new Tup4l()));
+		assertEquals(new Tup4l(99, 99, 99, 99), decoder.decode(buffer, new Tup4l()));
+		assertFalse(buffer.hasRemaining());
+	}
+	
+	/**
+	 * This test ensures, that sequences encoded in the varint mode in pieces are decoded again.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void varintSequenceTest()
+	{
+		Random random = new Random(1);
+		
+		long[] v = walk(random, 1000);
+		
+		ByteBuffer buffer = ByteBuffer.allocate(1000 * Tup4lDeltaCodec.MAX_BYTES_TUPLE);
+		
+		Tup4lDeltaCodec.Encoder encoder = new Tup4lDeltaCodec.Encoder();
+		encoder.encode(buffer, v, 0, 400);
+		encoder.encode(buffer, v, 400, 1000);
+		
+		buffer.flip();
+		
+		Tup4lDeltaCodec.Decoder decoder = new Tup4lDeltaCodec.Decoder();
+		
+		long[] result = new long[v.length];
+		decoder.decode(buffer, result, 0, 10);
+		
+		Tup4lW[] t = new Tup4lW[1000];
+		for(int i = 0; i < t.length; i++) t[i] = new Tup4l();
+		
+		decoder.decode(buffer, t, 10, 990);
+		
+		for(int i = 10; i < 1000; i++)
+		{
+			result[i * 4 + 0] = ((Tup4l)t[i]).x;
+			result[i * 4 + 1] = ((Tup4l)t[i]).y;
+			result[i * 4 + 2] = ((Tup4l)t[i]).z;
+			result[i * 4 + 3] = ((Tup4l)t[i]).w;
+		}
+		
+		assertArrayEquals(v, result);
+		assertFalse(buffer.hasRemaining());
+	}
+	
+	/**
+	 * This test ensures, that blocks in the frame of reference mode mixed with the varint mode are decoded again.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void blockSequenceTest()
+	{
+		Random random = new Random(2);
+		
+		long[] v = walk(random, 1000);
+		
+		ByteBuffer buffer = ByteBuffer.allocate(Tup4lDeltaCodec.maxBlockBytes(1000) * 2);
+		
+		Tup4lDeltaCodec.Encoder encoder = new Tup4lDeltaCodec.Encoder();
+		encoder.encodeBlock(buffer, v, 0, 3);
+		encoder.encodeBlock(buffer, v, 3, 3);
+		encoder.encodeBlock(buffer, v, 3, 20);
+		encoder.encode(buffer, v, 20, 21);
+		encoder.encodeBlock(buffer, v, 21, 1000);
+		
+		buffer.flip();
+		
+		Tup4lDeltaCodec.Decoder decoder = new Tup4lDeltaCodec.Decoder();
+		
+		long[] result = new long[v.length];
+		
+		assertEquals(3, decoder.decodeBlock(buffer, result, 0));
+		assertEquals(0, decoder.decodeBlock(buffer, result, 3));
+		assertEquals(17, decoder.decodeBlock(buffer, result, 3));
+		decoder.decode(buffer, result, 20, 21);
+		assertEquals(979, decoder.decodeBlock(buffer, result, 21));
+		
+		assertArrayEquals(v, result);
+		assertFalse(buffer.hasRemaining());
+	}
+	
+	/**
+	 * This test ensures, that a block of small steps is packed with few bits.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void blockCompactTest()
+	{
+		long[] v = new long[1000 * 4];
+		
+		for(int i = 0; i < v.length; i++)
+			v[i] = 1000 + i / 4;
+		
+		ByteBuffer buffer = ByteBuffer.allocate(Tup4lDeltaCodec.maxBlockBytes(1000));
+		
+		Tup4lDeltaCodec.Encoder encoder = new Tup4lDeltaCodec.Encoder();
+		encoder.encode(buffer, v, 0, 1);
+		
+		int start = buffer.position();
+		
+		encoder.encodeBlock(buffer, v, 1, 1000);
+		
+		assertTrue(buffer.position() - start < 1000 * 4 / 4);
+		
+		buffer.flip();
+		
+		long[] result = new long[v.length];
+		
+		Tup4lDeltaCodec.Decoder decoder = new Tup4lDeltaCodec.Decoder();
+		decoder.decode(buffer, result, 0, 1);
+		decoder.decodeBlock(buffer, result, 1);
+		
+		assertArrayEquals(v, result);
+	}
+	
+	/**
+	 * This test ensures, that decoding a block into a too small array throws an exception.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void blockTooSmallTest()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(Tup4lDeltaCodec.maxBlockBytes(10));
+		
+		new Tup4lDeltaCodec.Encoder().encodeBlock(buffer, new long[10 * 4], 0, 10);
+		
+		buffer.flip();
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> new Tup4lDeltaCodec.Decoder().decodeBlock(buffer, new long[10 * 4], 1));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,1100 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple3.Tup3fR;
+import org.barghos.core.api.tuple3.Tup3fW;
+
+import org.barghos.core.codec.TupleCodec;
+import org.barghos.core.tuple2.Tup2b;
+import org.barghos.core.tuple2.Tup2bigd;
+import org.barghos.core.tuple2.Tup2bigi;
+import org.barghos.core.tuple2.Tup2bo;
+import org.barghos.core.tuple2.Tup2c;
+import org.barghos.core.tuple2.Tup2d;
+import org.barghos.core.tuple2.Tup2f;
+import org.barghos.core.tuple2.Tup2i;
+import org.barghos.core.tuple2.Tup2l;
+import org.barghos.core.tuple2.Tup2s;
+import org.barghos.core.tuple2.Tup2str;
+import org.barghos.core.tuple3.Tup3b;
+import org.barghos.core.tuple3.Tup3bigd;
+import org.barghos.core.tuple3.Tup3bigi;
+import org.barghos.core.tuple3.Tup3bo;
+import org.barghos.core.tuple3.Tup3c;
+import org.barghos.core.tuple3.Tup3d;
+import org.barghos.core.tuple3.Tup3f;
+import org.barghos.core.tuple3.Tup3i;
+import org.barghos.core.tuple3.Tup3l;
+import org.barghos.core.tuple3.Tup3s;
+import org.barghos.core.tuple3.Tup3str;
+import org.barghos.core.tuple4.Tup4b;
+import org.barghos.core.tuple4.Tup4bigd;
+import org.barghos.core.tuple4.Tup4bigi;
+import org.barghos.core.tuple4.Tup4bo;
+import org.barghos.core.tuple4.Tup4c;
+import org.barghos.core.tuple4.Tup4d;
+import org.barghos.core.tuple4.Tup4f;
+import org.barghos.core.tuple4.Tup4i;
+import org.barghos.core.tuple4.Tup4l;
+import org.barghos.core.tuple4.Tup4s;
+import org.barghos.core.tuple4.Tup4str;
+
+/**
+ * This class provides component tests for the class {@link TupleCodec}.
+ * 
+ * @since 1.0.0.0
+ */
+class TupleCodecTest
+{
+	/**
+	 * This test ensures, that the function {@link TupleCodec#writeTup3f(ByteBuffer, Tup3fR)}
+	 * writes the components in the order x, y, z using the byte order of the buffer and advances the position.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void writeTup3f_ByteBufferLayoutTest()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(TupleCodec.BYTES_TUP3F).order(ByteOrder.LITTLE_ENDIAN);
+		
+		assertSame(buffer, TupleCodec.writeTup3f(buffer, new Tup3f(1.0f, 2.0f, 3.0f)));
+		
+		assertEquals(12, buffer.position());
+		
+		buffer.flip();
+		
+		assertEquals(1.0f, buffer.getFloat());
+		assertEquals(2.0f, buffer.getFloat());
+		assertEquals(3.0f, buffer.getFloat());
+	}
+	
+	/**
+	 * This test ensures, that the function {@link TupleCodec#readTup3f(ByteBuffer, Tup3fW)}
+	 * reads the components into the target tuple and returns the target tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void readTup3f_ByteBufferTest()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(12);
+		buffer.putFloat(1.0f).putFloat(2.0f).putFloat(3.0f).flip();
+		
+		Tup3f t = new Tup3f();
+		
+		assertSame(t, TupleCodec.readTup3f(buffer, t));
+		assertEquals(1.0f, t.x);
+		assertEquals(2.0f, t.y);
+		assertEquals(3.0f, t.z);
+		assertEquals(12, buffer.position());
+	}
+	
+	/**
+	 * This test ensures, that tuples with primitive components survive a roundtrip through a {@link ByteBuffer}
+	 * and that the number of written bytes matches the size constants.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void primitiveRoundtrip_ByteBufferTest()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(256);
+		
+		TupleCodec.writeTup4b(buffer, new Tup4b((byte)1, (byte)-2, (byte)3, (byte)127));
+		assertEquals(TupleCodec.BYTES_TUP4B, buffer.position());
+		TupleCodec.writeTup2s(buffer, new Tup2s((short)-5, (short)600));
+		TupleCodec.writeTup3i(buffer, new Tup3i(1, Integer.MIN_VALUE, Integer.MAX_VALUE));
+		TupleCodec.writeTup2l(buffer, new Tup2l(Long.MIN_VALUE, 7L));
+		TupleCodec.writeTup4d(buffer, new Tup4d(1.5, -2.5, Double.NaN, Double.MAX_VALUE));
+		TupleCodec.writeTup2c(buffer, new Tup2c('a', '€'));
+		TupleCodec.writeTup2bo(buffer, new Tup2bo(true, false));
+		
+		assertEquals(TupleCodec.BYTES_TUP4B + TupleCodec.BYTES_TUP2S + TupleCodec.BYTES_TUP3I + TupleCodec.BYTES_TUP2L
+				+ TupleCodec.BYTES_TUP4D + TupleCodec.BYTES_TUP2C + TupleCodec.BYTES_TUP2BO, buffer.position());
+		
+		buffer.flip();
+		
+		assertEquals(new Tup4b((byte)1, (byte)-2, (byte)3, (byte)127), TupleCodec.readTup4b(buffer, new Tup4b()));
+		assertEquals(new Tup2s((short)-5, (short)600), TupleCodec.readTup2s(buffer, new Tup2s()));
+		assertEquals(new Tup3i(1, Integer.MIN_VALUE, Integer.MAX_VALUE), TupleCodec.readTup3i(buffer, new Tup3i()));
+		assertEquals(new Tup2l(Long.MIN_VALUE, 7L), TupleCodec.readTup2l(buffer, new Tup2l()));
+		assertEquals(new Tup4d(1.5, -2.5, Double.NaN, Double.MAX_VALUE), TupleCodec.readTup4d(buffer, new Tup4d()));
+		assertEquals(new Tup2c('a', '€'), TupleCodec.readTup2c(buffer, new Tup2c()));
+		assertEquals(new Tup2bo(true, false), TupleCodec.readTup2bo(buffer, new Tup2bo()));
+		assertFalse(buffer.hasRemaining());
+	}
+	
+	/**
+	 * This test ensures, that tuples with object components including null values survive
+	 * a roundtrip through a {@link ByteBuffer}.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void objectRoundtrip_ByteBufferTest()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(256);
+		
+		Tup3str str = new Tup3str("abc", null, "äöü");
+		Tup3bigi bigi = new Tup3bigi(BigInteger.valueOf(-123456789L), null, new BigInteger("123456789012345678901234567890"));
+		Tup3bigd bigd = new Tup3bigd(new BigDecimal("-1.25"), new BigDecimal("123456789.0123456789"), null);
+		
+		TupleCodec.writeTup3str(buffer, str);
+		TupleCodec.writeTup3bigi(buffer, bigi);
+		TupleCodec.writeTup3bigd(buffer, bigd);
+		
+		buffer.flip();
+		
+		Tup3str str2 = TupleCodec.readTup3str(buffer, new Tup3str());
+		Tup3bigi bigi2 = TupleCodec.readTup3bigi(buffer, new Tup3bigi());
+		Tup3bigd bigd2 = TupleCodec.readTup3bigd(buffer, new Tup3bigd());
+		
+		assertEquals("abc", str2.x);
+		assertNull(str2.y);
+		assertEquals("äöü", str2.z);
+		assertEquals(bigi.x, bigi2.x);
+		assertNull(bigi2.y);
+		assertEquals(bigi.z, bigi2.z);
+		assertEquals(bigd.x, bigd2.x);
+		assertEquals(bigd.y, bigd2.y);
+		assertNull(bigd2.z);
+		assertFalse(buffer.hasRemaining());
+	}
+	
+	/**
+	 * This test ensures, that the stream variants produce the same layout as the big endian buffer variants
+	 * and that the tuples survive a roundtrip.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundtrip_StreamTest() throws IOException
+	{
+		Tup3f f = new Tup3f(1.1f, -2.2f, 3.3f);
+		Tup3str str = new Tup3str("x", "", "zzz");
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		
+		TupleCodec.writeTup3f(out, f);
+		TupleCodec.writeTup3str(out, str);
+		out.flush();
+		
+		ByteBuffer buffer = ByteBuffer.allocate(64).order(ByteOrder.BIG_ENDIAN);
+		TupleCodec.writeTup3f(buffer, f);
+		TupleCodec.writeTup3str(buffer, str);
+		buffer.flip();
+		
+		byte[] expected = new byte[buffer.remaining()];
+		buffer.get(expected);
+		
+		assertArrayEquals(expected, bytes.toByteArray());
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		
+		assertEquals(f, TupleCodec.readTup3f(in, new Tup3f()));
+		assertEquals(str, TupleCodec.readTup3str(in, new Tup3str()));
+	}
+	
+	/**
+	 * This test ensures, that the bulk functions {@link TupleCodec#writeTup3fArray(ByteBuffer, Tup3fR[], int, int)}
+	 * and {@link TupleCodec#readTup3fArray(ByteBuffer, Tup3fW[], int, int)} only process the given range.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void arrayRoundtrip_ByteBufferTest()
+	{
+		Tup3f[] src = { new Tup3f(1.0f), new Tup3f(2.0f, 3.0f, 4.0f), new Tup3f(5.0f, 6.0f, 7.0f), new Tup3f(8.0f) };
+		
+		ByteBuffer buffer = ByteBuffer.allocate(TupleCodec.BYTES_TUP3F * 2);
+		
+		TupleCodec.writeTup3fArray(buffer, src, 1, 2);
+		
+		assertFalse(buffer.hasRemaining());
+		
+		buffer.flip();
+		
+		Tup3f[] dst = { new Tup3f(), new Tup3f(), new Tup3f(), new Tup3f() };
+		
+		TupleCodec.readTup3fArray(buffer, dst, 2, 2);
+		
+		assertEquals(new Tup3f(), dst[0]);
+		assertEquals(new Tup3f(), dst[1]);
+		assertEquals(src[1], dst[2]);
+		assertEquals(src[2], dst[3]);
+	}
+	
+	/**
+	 * This test ensures, that the bulk stream functions
+	 * {@link TupleCodec#writeTup3iArray(java.io.DataOutput, org.barghos.core.api.tuple3.Tup3iR[], int, int)}
+	 * and {@link TupleCodec#readTup3iArray(java.io.DataInput, org.barghos.core.api.tuple3.Tup3iW[], int, int)}
+	 * roundtrip the tuples.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void arrayRoundtrip_StreamTest() throws IOException
+	{
+		Tup3i[] src = { new Tup3i(1, 2, 3), new Tup3i(-4, -5, -6) };
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		TupleCodec.writeTup3iArray(new DataOutputStream(bytes), src, 0, 2);
+		
+		assertEquals(TupleCodec.BYTES_TUP3I * 2, bytes.size());
+		
+		Tup3i[] dst = { new Tup3i(), new Tup3i() };
+		TupleCodec.readTup3iArray(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), dst, 0, 2);
+		
+		assertArrayEquals(src, dst);
+	}
+	
+	/**
+	 * This test ensures, that byte tuples of all dimensions survive a roundtrip through a {@link ByteBuffer}
+	 * and through a stream, both as single tuples and as ranges of arrays.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundtrip_ByteTest() throws IOException
+	{
+		Tup2b[] t2 = { new Tup2b(), new Tup2b((byte)1, (byte)-2), new Tup2b((byte)7, (byte)8) };
+		Tup3b[] t3 = { new Tup3b(), new Tup3b((byte)Byte.MIN_VALUE, (byte)0, (byte)Byte.MAX_VALUE), new Tup3b((byte)9, (byte)10, (byte)11) };
+		Tup4b[] t4 = { new Tup4b(), new Tup4b((byte)3, (byte)-4, (byte)5, (byte)-6), new Tup4b((byte)12, (byte)13, (byte)14, (byte)15) };
+		
+		ByteBuffer buffer = ByteBuffer.allocate(512).order(ByteOrder.LITTLE_ENDIAN);
+		
+		TupleCodec.writeTup2b(buffer, t2[1]);
+		TupleCodec.writeTup3b(buffer, t3[1]);
+		TupleCodec.writeTup4b(buffer, t4[1]);
+		
+		assertEquals(TupleCodec.BYTES_TUP2B + TupleCodec.BYTES_TUP3B + TupleCodec.BYTES_TUP4B, buffer.position());
+		
+		TupleCodec.writeTup2bArray(buffer, t2, 1, 2);
+		TupleCodec.writeTup3bArray(buffer, t3, 1, 2);
+		TupleCodec.writeTup4bArray(buffer, t4, 1, 2);
+		
+		buffer.flip();
+		
+		assertEquals(t2[1], TupleCodec.readTup2b(buffer, new Tup2b()));
+		assertEquals(t3[1], TupleCodec.readTup3b(buffer, new Tup3b()));
+		assertEquals(t4[1], TupleCodec.readTup4b(buffer, new Tup4b()));
+		assertArrayEquals(new Tup2b[] { t2[1], t2[2], new Tup2b() }, TupleCodec.readTup2bArray(buffer, new Tup2b[] { new Tup2b(), new Tup2b(), new Tup2b() }, 0, 2));
+		assertArrayEquals(new Tup3b[] { t3[1], t3[2], new Tup3b() }, TupleCodec.readTup3bArray(buffer, new Tup3b[] { new Tup3b(), new Tup3b(), new Tup3b() }, 0, 2));
+		assertArrayEquals(new Tup4b[] { t4[1], t4[2], new Tup4b() }, TupleCodec.readTup4bArray(buffer, new Tup4b[] { new Tup4b(), new Tup4b(), new Tup4b() }, 0, 2));
+		assertFalse(buffer.hasRemaining());
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		
+		TupleCodec.writeTup2b(out, t2[1]);
+		TupleCodec.writeTup3b(out, t3[1]);
+		TupleCodec.writeTup4b(out, t4[1]);
+		TupleCodec.writeTup2bArray(out, t2, 1, 2);
+		TupleCodec.writeTup3bArray(out, t3, 1, 2);
+		TupleCodec.writeTup4bArray(out, t4, 1, 2);
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		
+		assertEquals(t2[1], TupleCodec.readTup2b(in, new Tup2b()));
+		assertEquals(t3[1], TupleCodec.readTup3b(in, new Tup3b()));
+		assertEquals(t4[1], TupleCodec.readTup4b(in, new Tup4b()));
+		assertArrayEquals(new Tup2b[] { new Tup2b(), t2[1], t2[2] }, TupleCodec.readTup2bArray(in, new Tup2b[] { new Tup2b(), new Tup2b(), new Tup2b() }, 1, 2));
+		assertArrayEquals(new Tup3b[] { new Tup3b(), t3[1], t3[2] }, TupleCodec.readTup3bArray(in, new Tup3b[] { new Tup3b(), new Tup3b(), new Tup3b() }, 1, 2));
+		assertArrayEquals(new Tup4b[] { new Tup4b(), t4[1], t4[2] }, TupleCodec.readTup4bArray(in, new Tup4b[] { new Tup4b(), new Tup4b(), new Tup4b() }, 1, 2));
+		assertEquals(0, in.available());
+	}
+	
+	/**
+	 * This test ensures, that short tuples of all dimensions survive a roundtrip through a {@link ByteBuffer}
+	 * and through a stream, both as single tuples and as ranges of arrays.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundtrip_ShortTest() throws IOException
+	{
+		Tup2s[] t2 = { new Tup2s(), new Tup2s((short)1, (short)-2), new Tup2s((short)7, (short)8) };
+		Tup3s[] t3 = { new Tup3s(), new Tup3s((short)Short.MIN_VALUE, (short)0, (short)Short.MAX_VALUE), new Tup3s((short)9, (short)10, (short)11) };
+		Tup4s[] t4 = { new Tup4s(), new Tup4s((short)300, (short)-400, (short)500, (short)-600), new Tup4s((short)12, (short)13, (short)14, (short)15) };
+		
+		ByteBuffer buffer = ByteBuffer.allocate(512).order(ByteOrder.LITTLE_ENDIAN);
+		
+		TupleCodec.writeTup2s(buffer, t2[1]);
+		TupleCodec.writeTup3s(buffer, t3[1]);
+		TupleCodec.writeTup4s(buffer, t4[1]);
+		
+		assertEquals(TupleCodec.BYTES_TUP2S + TupleCodec.BYTES_TUP3S + TupleCodec.BYTES_TUP4S, buffer.position());
+		
+		TupleCodec.writeTup2sArray(buffer, t2, 1, 2);
+		TupleCodec.writeTup3sArray(buffer, t3, 1, 2);
+		TupleCodec.writeTup4sArray(buffer, t4, 1, 2);
+		
+		buffer.flip();
+		
+		assertEquals(t2[1], TupleCodec.readTup2s(buffer, new Tup2s()));
+		assertEquals(t3[1], TupleCodec.readTup3s(buffer, new Tup3s()));
+		assertEquals(t4[1], TupleCodec.readTup4s(buffer, new Tup4s()));
+		assertArrayEquals(new Tup2s[] { t2[1], t2[2], new Tup2s() }, TupleCodec.readTup2sArray(buffer, new Tup2s[] { new Tup2s(), new Tup2s(), new Tup2s() }, 0, 2));
+		assertArrayEquals(new Tup3s[] { t3[1], t3[2], new Tup3s() }, TupleCodec.readTup3sArray(buffer, new Tup3s[] { new Tup3s(), new Tup3s(), new Tup3s() }, 0, 2));
+		assertArrayEquals(new Tup4s[] { t4[1], t4[2], new Tup4s() }, TupleCodec.readTup4sArray(buffer, new Tup4s[] { new Tup4s(), new Tup4s(), new Tup4s() }, 0, 2));
+		assertFalse(buffer.hasRemaining());
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		
+		TupleCodec.writeTup2s(out, t2[1]);
+		TupleCodec.writeTup3s(out, t3[1]);
+		TupleCodec.writeTup4s(out, t4[1]);
+		TupleCodec.writeTup2sArray(out, t2, 1, 2);
+		TupleCodec.writeTup3sArray(out, t3, 1, 2);
+		TupleCodec.writeTup4sArray(out, t4, 1, 2);
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		
+		assertEquals(t2[1], TupleCodec.readTup2s(in, new Tup2s()));
+		assertEquals(t3[1], TupleCodec.readTup3s(in, new Tup3s()));
+		assertEquals(t4[1], TupleCodec.readTup4s(in, new Tup4s()));
+		assertArrayEquals(new Tup2s[] { new Tup2s(), t2[1], t2[2] }, TupleCodec.readTup2sArray(in, new Tup2s[] { new Tup2s(), new Tup2s(), new Tup2s() }, 1, 2));
+		assertArrayEquals(new Tup3s[] { new Tup3s(), t3[1], t3[2] }, TupleCodec.readTup3sArray(in, new Tup3s[] { new Tup3s(), new Tup3s(), new Tup3s() }, 1, 2));
+		assertArrayEquals(new Tup4s[] { new Tup4s(), t4[1], t4[2] }, TupleCodec.readTup4sArray(in, new Tup4s[] { new Tup4s(), new Tup4s(), new Tup4s() }, 1, 2));
+		assertEquals(0, in.available());
+	}
+	
+	/**
+	 * This test ensures, that integer tuples of all dimensions survive a roundtrip through a {@link ByteBuffer}
+	 * and through a stream, both as single tuples and as ranges of arrays.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundtrip_IntegerTest() throws IOException
+	{
+		Tup2i[] t2 = { new Tup2i(), new Tup2i(1, -2), new Tup2i(7, 8) };
+		Tup3i[] t3 = { new Tup3i(), new Tup3i(Integer.MIN_VALUE, 0, Integer.MAX_VALUE), new Tup3i(9, 10, 11) };
+		Tup4i[] t4 = { new Tup4i(), new Tup4i(70000, -80000, 90000, -100000), new Tup4i(12, 13, 14, 15) };
+		
+		ByteBuffer buffer = ByteBuffer.allocate(512).order(ByteOrder.LITTLE_ENDIAN);
+		
+		TupleCodec.writeTup2i(buffer, t2[1]);
+		TupleCodec.writeTup3i(buffer, t3[1]);
+		TupleCodec.writeTup4i(buffer, t4[1]);
+		
+		assertEquals(TupleCodec.BYTES_TUP2I + TupleCodec.BYTES_TUP3I + TupleCodec.BYTES_TUP4I, buffer.position());
+		
+		TupleCodec.writeTup2iArray(buffer, t2, 1, 2);
+		TupleCodec.writeTup3iArray(buffer, t3, 1, 2);
+		TupleCodec.writeTup4iArray(buffer, t4, 1, 2);
+		
+		buffer.flip();
+		
+		assertEquals(t2[1], TupleCodec.readTup2i(buffer, new Tup2i()));
+		assertEquals(t3[1], TupleCodec.readTup3i(buffer, new Tup3i()));
+		assertEquals(t4[1], TupleCodec.readTup4i(buffer, new Tup4i()));
+		assertArrayEquals(new Tup2i[] { t2[1], t2[2], new Tup2i() }, TupleCodec.readTup2iArray(buffer, new Tup2i[] { new Tup2i(), new Tup2i(), new Tup2i() }, 0, 2));
+		assertArrayEquals(new Tup3i[] { t3[1], t3[2], new Tup3i() }, TupleCodec.readTup3iArray(buffer, new Tup3i[] { new Tup3i(), new Tup3i(), new Tup3i() }, 0, 2));
+		assertArrayEquals(new Tup4i[] { t4[1], t4[2], new Tup4i() }, TupleCodec.readTup4iArray(buffer, new Tup4i[] { new Tup4i(), new Tup4i(), new Tup4i() }, 0, 2));
+		assertFalse(buffer.hasRemaining());
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		
+		TupleCodec.writeTup2i(out, t2[1]);
+		TupleCodec.writeTup3i(out, t3[1]);
+		TupleCodec.writeTup4i(out, t4[1]);
+		TupleCodec.writeTup2iArray(out, t2, 1, 2);
+		TupleCodec.writeTup3iArray(out, t3, 1, 2);
+		TupleCodec.writeTup4iArray(out, t4, 1, 2);
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		
+		assertEquals(t2[1], TupleCodec.readTup2i(in, new Tup2i()));
+		assertEquals(t3[1], TupleCodec.readTup3i(in, new Tup3i()));
+		assertEquals(t4[1], TupleCodec.readTup4i(in, new Tup4i()));
+		assertArrayEquals(new Tup2i[] { new Tup2i(), t2[1], t2[2] }, TupleCodec.readTup2iArray(in, new Tup2i[] { new Tup2i(), new Tup2i(), new Tup2i() }, 1, 2));
+		assertArrayEquals(new Tup3i[] { new Tup3i(), t3[1], t3[2] }, TupleCodec.readTup3iArray(in, new Tup3i[] { new Tup3i(), new Tup3i(), new Tup3i() }, 1, 2));
+		assertArrayEquals(new Tup4i[] { new Tup4i(), t4[1], t4[2] }, TupleCodec.readTup4iArray(in, new Tup4i[] { new Tup4i(), new Tup4i(), new Tup4i() }, 1, 2));
+		assertEquals(0, in.available());
+	}
+	
+	/**
+	 * This test ensures, that long tuples of all dimensions survive a roundtrip through a {@link ByteBuffer}
+	 * and through a stream, both as single tuples and as ranges of arrays.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundtrip_LongTest() throws IOException
+	{
+		Tup2l[] t2 = { new Tup2l(), new Tup2l(1L, -2L), new Tup2l(7L, 8L) };
+		Tup3l[] t3 = { new Tup3l(), new Tup3l(Long.MIN_VALUE, 0L, Long.MAX_VALUE), new Tup3l(9L, 10L, 11L) };
+		Tup4l[] t4 = { new Tup4l(), new Tup4l(1L << 40, -(1L << 41), 3L, -4L), new Tup4l(12L, 13L, 14L, 15L) };
+		
+		ByteBuffer buffer = ByteBuffer.allocate(512).order(ByteOrder.LITTLE_ENDIAN);
+		
+		TupleCodec.writeTup2l(buffer, t2[1]);
+		TupleCodec.writeTup3l(buffer, t3[1]);
+		TupleCodec.writeTup4l(buffer, t4[1]);
+		
+		assertEquals(TupleCodec.BYTES_TUP2L + TupleCodec.BYTES_TUP3L + TupleCodec.BYTES_TUP4L, buffer.position());
+		
+		TupleCodec.writeTup2lArray(buffer, t2, 1, 2);
+		TupleCodec.writeTup3lArray(buffer, t3, 1, 2);
+		TupleCodec.writeTup4lArray(buffer, t4, 1, 2);
+		
+		buffer.flip();
+		
+		assertEquals(t2[1], TupleCodec.readTup2l(buffer, new Tup2l()));
+		assertEquals(t3[1], TupleCodec.readTup3l(buffer, new Tup3l()));
+		assertEquals(t4[1], TupleCodec.readTup4l(buffer, new Tup4l()));
+		assertArrayEquals(new Tup2l[] { t2[1], t2[2], new Tup2l() }, TupleCodec.readTup2lArray(buffer, new Tup2l[] { new Tup2l(), new Tup2l(), new Tup2l() }, 0, 2));
+		assertArrayEquals(new Tup3l[] { t3[1], t3[2], new Tup3l() }, TupleCodec.readTup3lArray(buffer, new Tup3l[] { new Tup3l(), new Tup3l(), new Tup3l() }, 0, 2));
+		assertArrayEquals(new Tup4l[] { t4[1], t4[2], new Tup4l() }, TupleCodec.readTup4lArray(buffer, new Tup4l[] { new Tup4l(), new Tup4l(), new Tup4l() }, 0, 2));
+		assertFalse(buffer.hasRemaining());
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		
+		TupleCodec.writeTup2l(out, t2[1]);
+		TupleCodec.writeTup3l(out, t3[1]);
+		TupleCodec.writeTup4l(out, t4[1]);
+		TupleCodec.writeTup2lArray(out, t2, 1, 2);
+		TupleCodec.writeTup3lArray(out, t3, 1, 2);
+		TupleCodec.writeTup4lArray(out, t4, 1, 2);
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		
+		assertEquals(t2[1], TupleCodec.readTup2l(in, new Tup2l()));
+		assertEquals(t3[1], TupleCodec.readTup3l(in, new Tup3l()));
+		assertEquals(t4[1], TupleCodec.readTup4l(in, new Tup4l()));
+		assertArrayEquals(new Tup2l[] { new Tup2l(), t2[1], t2[2] }, TupleCodec.readTup2lArray(in, new Tup2l[] { new Tup2l(), new Tup2l(), new Tup2l() }, 1, 2));
+		assertArrayEquals(new Tup3l[] { new Tup3l(), t3[1], t3[2] }, TupleCodec.readTup3lArray(in, new Tup3l[] { new Tup3l(), new Tup3l(), new Tup3l() }, 1, 2));
+		assertArrayEquals(new Tup4l[] { new Tup4l(), t4[1], t4[2] }, TupleCodec.readTup4lArray(in, new Tup4l[] { new Tup4l(), new Tup4l(), new Tup4l() }, 1, 2));
+		assertEquals(0, in.available());
+	}
+	
+	/**
+	 * This test ensures, that float tuples of all dimensions survive a roundtrip through a {@link ByteBuffer}
+	 * and through a stream, both as single tuples and as ranges of arrays.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundtrip_FloatTest() throws IOException
+	{
+		Tup2f[] t2 = { new Tup2f(), new Tup2f(1.5f, -2.5f), new Tup2f(7.0f, 8.0f) };
+		Tup3f[] t3 = { new Tup3f(), new Tup3f(Float.MIN_VALUE, -0.0f, Float.MAX_VALUE), new Tup3f(9.0f, 10.0f, 11.0f) };
+		Tup4f[] t4 = { new Tup4f(), new Tup4f(Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, 0.1f), new Tup4f(12.0f, 13.0f, 14.0f, 15.0f) };
+		
+		ByteBuffer buffer = ByteBuffer.allocate(512).order(ByteOrder.LITTLE_ENDIAN);
+		
+		TupleCodec.writeTup2f(buffer, t2[1]);
+		TupleCodec.writeTup3f(buffer, t3[1]);
+		TupleCodec.writeTup4f(buffer, t4[1]);
+		
+		assertEquals(TupleCodec.BYTES_TUP2F + TupleCodec.BYTES_TUP3F + TupleCodec.BYTES_TUP4F, buffer.position());
+		
+		TupleCodec.writeTup2fArray(buffer, t2, 1, 2);
+		TupleCodec.writeTup3fArray(buffer, t3, 1, 2);
+		TupleCodec.writeTup4fArray(buffer, t4, 1, 2);
+		
+		buffer.flip();
+		
+		assertEquals(t2[1], TupleCodec.readTup2f(buffer, new Tup2f()));
+		assertEquals(t3[1], TupleCodec.readTup3f(buffer, new Tup3f()));
+		assertEquals(t4[1], TupleCodec.readTup4f(buffer, new Tup4f()));
+		assertArrayEquals(new Tup2f[] { t2[1], t2[2], new Tup2f() }, TupleCodec.readTup2fArray(buffer, new Tup2f[] { new Tup2f(), new Tup2f(), new Tup2f() }, 0, 2));
+		assertArrayEquals(new Tup3f[] { t3[1], t3[2], new Tup3f() }, TupleCodec.readTup3fArray(buffer, new Tup3f[] { new Tup3f(), new Tup3f(), new Tup3f() }, 0, 2));
+		assertArrayEquals(new Tup4f[] { t4[1], t4[2], new Tup4f() }, TupleCodec.readTup4fArray(buffer, new Tup4f[] { new Tup4f(), new Tup4f(), new Tup4f() }, 0, 2));
+		assertFalse(buffer.hasRemaining());
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		
+		TupleCodec.writeTup2f(out, t2[1]);
+		TupleCodec.writeTup3f(out, t3[1]);
+		TupleCodec.writeTup4f(out, t4[1]);
+		TupleCodec.writeTup2fArray(out, t2, 1, 2);
+		TupleCodec.writeTup3fArray(out, t3, 1, 2);
+		TupleCodec.writeTup4fArray(out, t4, 1, 2);
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		
+		assertEquals(t2[1], TupleCodec.readTup2f(in, new Tup2f()));
+		assertEquals(t3[1], TupleCodec.readTup3f(in, new Tup3f()));
+		assertEquals(t4[1], TupleCodec.readTup4f(in, new Tup4f()));
+		assertArrayEquals(new Tup2f[] { new Tup2f(), t2[1], t2[2] }, TupleCodec.readTup2fArray(in, new Tup2f[] { new Tup2f(), new Tup2f(), new Tup2f() }, 1, 2));
+		assertArrayEquals(new Tup3f[] { new Tup3f(), t3[1], t3[2] }, TupleCodec.readTup3fArray(in, new Tup3f[] { new Tup3f(), new Tup3f(), new Tup3f() }, 1, 2));
+		assertArrayEquals(new Tup4f[] { new Tup4f(), t4[1], t4[2] }, TupleCodec.readTup4fArray(in, new Tup4f[] { new Tup4f(), new Tup4f(), new Tup4f() }, 1, 2));
+		assertEquals(0, in.available());
+	}
+	
+	/**
+	 * This test ensures, that double tuples of all dimensions survive a roundtrip through a {@link ByteBuffer}
+	 * and through a stream, both as single tuples and as ranges of arrays.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundtrip_DoubleTest() throws IOException
+	{
+		Tup2d[] t2 = { new Tup2d(), new Tup2d(1.5, -2.5), new Tup2d(7.0, 8.0) };
+		Tup3d[] t3 = { new Tup3d(), new Tup3d(Double.MIN_VALUE, -0.0, Double.MAX_VALUE), new Tup3d(9.0, 10.0, 11.0) };
+		Tup4d[] t4 = { new Tup4d(), new Tup4d(Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0.1), new Tup4d(12.0, 13.0, 14.0, 15.0) };
+		
+		ByteBuffer buffer = ByteBuffer.allocate(512).order(ByteOrder.LITTLE_ENDIAN);
+		
+		TupleCodec.writeTup2d(buffer, t2[1]);
+		TupleCodec.writeTup3d(buffer, t3[1]);
+		TupleCodec.writeTup4d(buffer, t4[1]);
+		
+		assertEquals(TupleCodec.BYTES_TUP2D + TupleCodec.BYTES_TUP3D + TupleCodec.BYTES_TUP4D, buffer.position());
+		
+		TupleCodec.writeTup2dArray(buffer, t2, 1, 2);
+		TupleCodec.writeTup3dArray(buffer, t3, 1, 2);
+		TupleCodec.writeTup4dArray(buffer, t4, 1, 2);
+		
+		buffer.flip();
+		
+		assertEquals(t2[1], TupleCodec.readTup2d(buffer, new Tup2d()));
+		assertEquals(t3[1], TupleCodec.readTup3d(buffer, new Tup3d()));
+		assertEquals(t4[1], TupleCodec.readTup4d(buffer, new Tup4d()));
+		assertArrayEquals(new Tup2d[] { t2[1], t2[2], new Tup2d() }, TupleCodec.readTup2dArray(buffer, new Tup2d[] { new Tup2d(), new Tup2d(), new Tup2d() }, 0, 2));
+		assertArrayEquals(new Tup3d[] { t3[1], t3[2], new Tup3d() }, TupleCodec.readTup3dArray(buffer, new Tup3d[] { new Tup3d(), new Tup3d(), new Tup3d() }, 0, 2));
+		assertArrayEquals(new Tup4d[] { t4[1], t4[2], new Tup4d() }, TupleCodec.readTup4dArray(buffer, new Tup4d[] { new Tup4d(), new Tup4d(), new Tup4d() }, 0, 2));
+		assertFalse(buffer.hasRemaining());
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		
+		TupleCodec.writeTup2d(out, t2[1]);
+		TupleCodec.writeTup3d(out, t3[1]);
+		TupleCodec.writeTup4d(out, t4[1]);
+		TupleCodec.writeTup2dArray(out, t2, 1, 2);
+		TupleCodec.writeTup3dArray(out, t3, 1, 2);
+		TupleCodec.writeTup4dArray(out, t4, 1, 2);
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		
+		assertEquals(t2[1], TupleCodec.readTup2d(in, new Tup2d()));
+		assertEquals(t3[1], TupleCodec.readTup3d(in, new Tup3d()));
+		assertEquals(t4[1], TupleCodec.readTup4d(in, new Tup4d()));
+		assertArrayEquals(new Tup2d[] { new Tup2d(), t2[1], t2[2] }, TupleCodec.readTup2dArray(in, new Tup2d[] { new Tup2d(), new Tup2d(), new Tup2d() }, 1, 2));
+		assertArrayEquals(new Tup3d[] { new Tup3d(), t3[1], t3[2] }, TupleCodec.readTup3dArray(in, new Tup3d[] { new Tup3d(), new Tup3d(), new Tup3d() }, 1, 2));
+		assertArrayEquals(new Tup4d[] { new Tup4d(), t4[1], t4[2] }, TupleCodec.readTup4dArray(in, new Tup4d[] { new Tup4d(), new Tup4d(), new Tup4d() }, 1, 2));
+		assertEquals(0, in.available());
+	}
+	
+	/**
+	 * This test ensures, that char tuples of all dimensions survive a roundtrip through a {@link ByteBuffer}
+	 * and through a stream, both as single tuples and as ranges of arrays.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundtrip_CharTest() throws IOException
+	{
+		Tup2c[] t2 = { new Tup2c(), new Tup2c('a', '\u20AC'), new Tup2c('1', '2') };
+		Tup3c[] t3 = { new Tup3c(), new Tup3c(Character.MIN_VALUE, 'z', Character.MAX_VALUE), new Tup3c('3', '4', '5') };
+		Tup4c[] t4 = { new Tup4c(), new Tup4c('w', 'x', 'y', 'z'), new Tup4c('6', '7', '8', '9') };
+		
+		ByteBuffer buffer = ByteBuffer.allocate(512).order(ByteOrder.LITTLE_ENDIAN);
+		
+		TupleCodec.writeTup2c(buffer, t2[1]);
+		TupleCodec.writeTup3c(buffer, t3[1]);
+		TupleCodec.writeTup4c(buffer, t4[1]);
+		
+		assertEquals(TupleCodec.BYTES_TUP2C + TupleCodec.BYTES_TUP3C + TupleCodec.BYTES_TUP4C, buffer.position());
+		
+		TupleCodec.writeTup2cArray(buffer, t2, 1, 2);
+		TupleCodec.writeTup3cArray(buffer, t3, 1, 2);
+		TupleCodec.writeTup4cArray(buffer, t4, 1, 2);
+		
+		buffer.flip();
+		
+		assertEquals(t2[1], TupleCodec.readTup2c(buffer, new Tup2c()));
+		assertEquals(t3[1], TupleCodec.readTup3c(buffer, new Tup3c()));
+		assertEquals(t4[1], TupleCodec.readTup4c(buffer, new Tup4c()));
+		assertArrayEquals(new Tup2c[] { t2[1], t2[2], new Tup2c() }, TupleCodec.readTup2cArray(buffer, new Tup2c[] { new Tup2c(), new Tup2c(), new Tup2c() }, 0, 2));
+		assertArrayEquals(new Tup3c[] { t3[1], t3[2], new Tup3c() }, TupleCodec.readTup3cArray(buffer, new Tup3c[] { new Tup3c(), new Tup3c(), new Tup3c() }, 0, 2));
+		assertArrayEquals(new Tup4c[] { t4[1], t4[2], new Tup4c() }, TupleCodec.readTup4cArray(buffer, new Tup4c[] { new Tup4c(), new Tup4c(), new Tup4c() }, 0, 2));
+		assertFalse(buffer.hasRemaining());
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		
+		TupleCodec.writeTup2c(out, t2[1]);
+		TupleCodec.writeTup3c(out, t3[1]);
+		TupleCodec.writeTup4c(out, t4[1]);
+		TupleCodec.writeTup2cArray(out, t2, 1, 2);
+		TupleCodec.writeTup3cArray(out, t3, 1, 2);
+		TupleCodec.writeTup4cArray(out, t4, 1, 2);
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		
+		assertEquals(t2[1], TupleCodec.readTup2c(in, new Tup2c()));
+		assertEquals(t3[1], TupleCodec.readTup3c(in, new Tup3c()));
+		assertEquals(t4[1], TupleCodec.readTup4c(in, new Tup4c()));
+		assertArrayEquals(new Tup2c[] { new Tup2c(), t2[1], t2[2] }, TupleCodec.readTup2cArray(in, new Tup2c[] { new Tup2c(), new Tup2c(), new Tup2c() }, 1, 2));
+		assertArrayEquals(new Tup3c[] { new Tup3c(), t3[1], t3[2] }, TupleCodec.readTup3cArray(in, new Tup3c[] { new Tup3c(), new Tup3c(), new Tup3c() }, 1, 2));
+		assertArrayEquals(new Tup4c[] { new Tup4c(), t4[1], t4[2] }, TupleCodec.readTup4cArray(in, new Tup4c[] { new Tup4c(), new Tup4c(), new Tup4c() }, 1, 2));
+		assertEquals(0, in.available());
+	}
+	
+	/**
+	 * This test ensures, that boolean tuples of all dimensions survive a roundtrip through a {@link ByteBuffer}
+	 * and through a stream, both as single tuples and as ranges of arrays.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundtrip_BooleanTest() throws IOException
+	{
+		Tup2bo[] t2 = { new Tup2bo(), new Tup2bo(true, false), new Tup2bo(false, true) };
+		Tup3bo[] t3 = { new Tup3bo(), new Tup3bo(false, true, false), new Tup3bo(true, false, true) };
+		Tup4bo[] t4 = { new Tup4bo(), new Tup4bo(true, true, false, true), new Tup4bo(false, false, true, false) };
+		
+		ByteBuffer buffer = ByteBuffer.allocate(512).order(ByteOrder.LITTLE_ENDIAN);
+		
+		TupleCodec.writeTup2bo(buffer, t2[1]);
+		TupleCodec.writeTup3bo(buffer, t3[1]);
+		TupleCodec.writeTup4bo(buffer, t4[1]);
+		
+		assertEquals(TupleCodec.BYTES_TUP2BO + TupleCodec.BYTES_TUP3BO + TupleCodec.BYTES_TUP4BO, buffer.position());
+		
+		TupleCodec.writeTup2boArray(buffer, t2, 1, 2);
+		TupleCodec.writeTup3boArray(buffer, t3, 1, 2);
+		TupleCodec.writeTup4boArray(buffer, t4, 1, 2);
+		
+		buffer.flip();
+		
+		assertEquals(t2[1], TupleCodec.readTup2bo(buffer, new Tup2bo()));
+		assertEquals(t3[1], TupleCodec.readTup3bo(buffer, new Tup3bo()));
+		assertEquals(t4[1], TupleCodec.readTup4bo(buffer, new Tup4bo()));
+		assertArrayEquals(new Tup2bo[] { t2[1], t2[2], new Tup2bo() }, TupleCodec.readTup2boArray(buffer, new Tup2bo[] { new Tup2bo(), new Tup2bo(), new Tup2bo() }, 0, 2));
+		assertArrayEquals(new Tup3bo[] { t3[1], t3[2], new Tup3bo() }, TupleCodec.readTup3boArray(buffer, new Tup3bo[] { new Tup3bo(), new Tup3bo(), new Tup3bo() }, 0, 2));
+		assertArrayEquals(new Tup4bo[] { t4[1], t4[2], new Tup4bo() }, TupleCodec.readTup4boArray(buffer, new Tup4bo[] { new Tup4bo(), new Tup4bo(), new Tup4bo() }, 0, 2));
+		assertFalse(buffer.hasRemaining());
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		
+		TupleCodec.writeTup2bo(out, t2[1]);
+		TupleCodec.writeTup3bo(out, t3[1]);
+		TupleCodec.writeTup4bo(out, t4[1]);
+		TupleCodec.writeTup2boArray(out, t2, 1, 2);
+		TupleCodec.writeTup3boArray(out, t3, 1, 2);
+		TupleCodec.writeTup4boArray(out, t4, 1, 2);
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		
+		assertEquals(t2[1], TupleCodec.readTup2bo(in, new Tup2bo()));
+		assertEquals(t3[1], TupleCodec.readTup3bo(in, new Tup3bo()));
+		assertEquals(t4[1], TupleCodec.readTup4bo(in, new Tup4bo()));
+		assertArrayEquals(new Tup2bo[] { new Tup2bo(), t2[1], t2[2] }, TupleCodec.readTup2boArray(in, new Tup2bo[] { new Tup2bo(), new Tup2bo(), new Tup2bo() }, 1, 2));
+		assertArrayEquals(new Tup3bo[] { new Tup3bo(), t3[1], t3[2] }, TupleCodec.readTup3boArray(in, new Tup3bo[] { new Tup3bo(), new Tup3bo(), new Tup3bo() }, 1, 2));
+		assertArrayEquals(new Tup4bo[] { new Tup4bo(), t4[1], t4[2] }, TupleCodec.readTup4boArray(in, new Tup4bo[] { new Tup4bo(), new Tup4bo(), new Tup4bo() }, 1, 2));
+		assertEquals(0, in.available());
+	}
+	
+	/**
+	 * This test ensures, that string tuples of all dimensions survive a roundtrip through a {@link ByteBuffer}
+	 * and through a stream, both as single tuples and as ranges of arrays.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundtrip_StringTest() throws IOException
+	{
+		Tup2str[] t2 = { new Tup2str(), new Tup2str("abc", ""), new Tup2str("1", "2") };
+		Tup3str[] t3 = { new Tup3str(), new Tup3str("\u00E4\u00F6\u00FC", "x", "\uD83D\uDE00"), new Tup3str("3", "4", "5") };
+		Tup4str[] t4 = { new Tup4str(), new Tup4str("w", "xy", "xyz", ""), new Tup4str("6", "7", "8", "9") };
+		
+		ByteBuffer buffer = ByteBuffer.allocate(512).order(ByteOrder.LITTLE_ENDIAN);
+		
+		TupleCodec.writeTup2str(buffer, t2[1]);
+		TupleCodec.writeTup3str(buffer, t3[1]);
+		TupleCodec.writeTup4str(buffer, t4[1]);
+		
+		TupleCodec.writeTup2strArray(buffer, t2, 1, 2);
+		TupleCodec.writeTup3strArray(buffer, t3, 1, 2);
+		TupleCodec.writeTup4strArray(buffer, t4, 1, 2);
+		
+		buffer.flip();
+		
+		assertEquals(t2[1], TupleCodec.readTup2str(buffer, new Tup2str()));
+		assertEquals(t3[1], TupleCodec.readTup3str(buffer, new Tup3str()));
+		assertEquals(t4[1], TupleCodec.readTup4str(buffer, new Tup4str()));
+		assertArrayEquals(new Tup2str[] { t2[1], t2[2], new Tup2str() }, TupleCodec.readTup2strArray(buffer, new Tup2str[] { new Tup2str(), new Tup2str(), new Tup2str() }, 0, 2));
+		assertArrayEquals(new Tup3str[] { t3[1], t3[2], new Tup3str() }, TupleCodec.readTup3strArray(buffer, new Tup3str[] { new Tup3str(), new Tup3str(), new Tup3str() }, 0, 2));
+		assertArrayEquals(new Tup4str[] { t4[1], t4[2], new Tup4str() }, TupleCodec.readTup4strArray(buffer, new Tup4str[] { new Tup4str(), new Tup4str(), new Tup4str() }, 0, 2));
+		assertFalse(buffer.hasRemaining());
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		
+		TupleCodec.writeTup2str(out, t2[1]);
+		TupleCodec.writeTup3str(out, t3[1]);
+		TupleCodec.writeTup4str(out, t4[1]);
+		TupleCodec.writeTup2strArray(out, t2, 1, 2);
+		TupleCodec.writeTup3strArray(out, t3, 1, 2);
+		TupleCodec.writeTup4strArray(out, t4, 1, 2);
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		
+		assertEquals(t2[1], TupleCodec.readTup2str(in, new Tup2str()));
+		assertEquals(t3[1], TupleCodec.readTup3str(in, new Tup3str()));
+		assertEquals(t4[1], TupleCodec.readTup4str(in, new Tup4str()));
+		assertArrayEquals(new Tup2str[] { new Tup2str(), t2[1], t2[2] }, TupleCodec.readTup2strArray(in, new Tup2str[] { new Tup2str(), new Tup2str(), new Tup2str() }, 1, 2));
+		assertArrayEquals(new Tup3str[] { new Tup3str(), t3[1], t3[2] }, TupleCodec.readTup3strArray(in, new Tup3str[] { new Tup3str(), new Tup3str(), new Tup3str() }, 1, 2));
+		assertArrayEquals(new Tup4str[] { new Tup4str(), t4[1], t4[2] }, TupleCodec.readTup4strArray(in, new Tup4str[] { new Tup4str(), new Tup4str(), new Tup4str() }, 1, 2));
+		assertEquals(0, in.available());
+	}
+	
+	/**
+	 * This test ensures, that big integer tuples of all dimensions survive a roundtrip through a {@link ByteBuffer}
+	 * and through a stream, both as single tuples and as ranges of arrays.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundtrip_BigIntegerTest() throws IOException
+	{
+		Tup2bigi[] t2 = { new Tup2bigi(), new Tup2bigi(BigInteger.valueOf(-123456789L), BigInteger.valueOf(0L)), new Tup2bigi(BigInteger.valueOf(7L), BigInteger.valueOf(8L)) };
+		Tup3bigi[] t3 = { new Tup3bigi(), new Tup3bigi(new BigInteger("123456789012345678901234567890"), BigInteger.valueOf(-1L), BigInteger.valueOf(255L)), new Tup3bigi(BigInteger.valueOf(9L), BigInteger.valueOf(10L), BigInteger.valueOf(11L)) };
+		Tup4bigi[] t4 = { new Tup4bigi(), new Tup4bigi(BigInteger.valueOf(1L), BigInteger.valueOf(-128L), BigInteger.valueOf(128L), new BigInteger("-98765432109876543210")), new Tup4bigi(BigInteger.valueOf(12L), BigInteger.valueOf(13L), BigInteger.valueOf(14L), BigInteger.valueOf(15L)) };
+		
+		ByteBuffer buffer = ByteBuffer.allocate(512).order(ByteOrder.LITTLE_ENDIAN);
+		
+		TupleCodec.writeTup2bigi(buffer, t2[1]);
+		TupleCodec.writeTup3bigi(buffer, t3[1]);
+		TupleCodec.writeTup4bigi(buffer, t4[1]);
+		
+		TupleCodec.writeTup2bigiArray(buffer, t2, 1, 2);
+		TupleCodec.writeTup3bigiArray(buffer, t3, 1, 2);
+		TupleCodec.writeTup4bigiArray(buffer, t4, 1, 2);
+		
+		buffer.flip();
+		
+		assertEquals(t2[1], TupleCodec.readTup2bigi(buffer, new Tup2bigi()));
+		assertEquals(t3[1], TupleCodec.readTup3bigi(buffer, new Tup3bigi()));
+		assertEquals(t4[1], TupleCodec.readTup4bigi(buffer, new Tup4bigi()));
+		assertArrayEquals(new Tup2bigi[] { t2[1], t2[2], new Tup2bigi() }, TupleCodec.readTup2bigiArray(buffer, new Tup2bigi[] { new Tup2bigi(), new Tup2bigi(), new Tup2bigi() }, 0, 2));
+		assertArrayEquals(new Tup3bigi[] { t3[1], t3[2], new Tup3bigi() }, TupleCodec.readTup3bigiArray(buffer, new Tup3bigi[] { new Tup3bigi(), new Tup3bigi(), new Tup3bigi() }, 0, 2));
+		assertArrayEquals(new Tup4bigi[] { t4[1], t4[2], new Tup4bigi() }, TupleCodec.readTup4bigiArray(buffer, new Tup4bigi[] { new Tup4bigi(), new Tup4bigi(), new Tup4bigi() }, 0, 2));
+		assertFalse(buffer.hasRemaining());
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		
+		TupleCodec.writeTup2bigi(out, t2[1]);
+		TupleCodec.writeTup3bigi(out, t3[1]);
+		TupleCodec.writeTup4bigi(out, t4[1]);
+		TupleCodec.writeTup2bigiArray(out, t2, 1, 2);
+		TupleCodec.writeTup3bigiArray(out, t3, 1, 2);
+		TupleCodec.writeTup4bigiArray(out, t4, 1, 2);
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		
+		assertEquals(t2[1], TupleCodec.readTup2bigi(in, new Tup2bigi()));
+		assertEquals(t3[1], TupleCodec.readTup3bigi(in, new Tup3bigi()));
+		assertEquals(t4[1], TupleCodec.readTup4bigi(in, new Tup4bigi()));
+		assertArrayEquals(new Tup2bigi[] { new Tup2bigi(), t2[1], t2[2] }, TupleCodec.readTup2bigiArray(in, new Tup2bigi[] { new Tup2bigi(), new Tup2bigi(), new Tup2bigi() }, 1, 2));
+		assertArrayEquals(new Tup3bigi[] { new Tup3bigi(), t3[1], t3[2] }, TupleCodec.readTup3bigiArray(in, new Tup3bigi[] { new Tup3bigi(), new Tup3bigi(), new Tup3bigi() }, 1, 2));
+		assertArrayEquals(new Tup4bigi[] { new Tup4bigi(), t4[1], t4[2] }, TupleCodec.readTup4bigiArray(in, new Tup4bigi[] { new Tup4bigi(), new Tup4bigi(), new Tup4bigi() }, 1, 2));
+		assertEquals(0, in.available());
+	}
+	
+	/**
+	 * This test ensures, that big decimal tuples of all dimensions survive a roundtrip through a {@link ByteBuffer}
+	 * and through a stream, both as single tuples and as ranges of arrays.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundtrip_BigDecimalTest() throws IOException
+	{
+		Tup2bigd[] t2 = { new Tup2bigd(), new Tup2bigd(new BigDecimal("-1.25"), new BigDecimal("0")), new Tup2bigd(new BigDecimal("7"), new BigDecimal("8")) };
+		Tup3bigd[] t3 = { new Tup3bigd(), new Tup3bigd(new BigDecimal("123456789.0123456789"), new BigDecimal("1E+5"), new BigDecimal("-0.001")), new Tup3bigd(new BigDecimal("9"), new BigDecimal("10"), new BigDecimal("11")) };
+		Tup4bigd[] t4 = { new Tup4bigd(), new Tup4bigd(new BigDecimal("1"), new BigDecimal("2.50"), new BigDecimal("-3"), new BigDecimal("4E-20")), new Tup4bigd(new BigDecimal("12"), new BigDecimal("13"), new BigDecimal("14"), new BigDecimal("15")) };
+		
+		ByteBuffer buffer = ByteBuffer.allocate(512).order(ByteOrder.LITTLE_ENDIAN);
+		
+		TupleCodec.writeTup2bigd(buffer, t2[1]);
+		TupleCodec.writeTup3bigd(buffer, t3[1]);
+		TupleCodec.writeTup4bigd(buffer, t4[1]);
+		
+		TupleCodec.writeTup2bigdArray(buffer, t2, 1, 2);
+		TupleCodec.writeTup3bigdArray(buffer, t3, 1, 2);
+		TupleCodec.writeTup4bigdArray(buffer, t4, 1, 2);
+		
+		buffer.flip();
+		
+		assertEquals(t2[1], TupleCodec.readTup2bigd(buffer, new Tup2bigd()));
+		assertEquals(t3[1], TupleCodec.readTup3bigd(buffer, new Tup3bigd()));
+		assertEquals(t4[1], TupleCodec.readTup4bigd(buffer, new Tup4bigd()));
+		assertArrayEquals(new Tup2bigd[] { t2[1], t2[2], new Tup2bigd() }, TupleCodec.readTup2bigdArray(buffer, new Tup2bigd[] { new Tup2bigd(), new Tup2bigd(), new Tup2bigd() }, 0, 2));
+		assertArrayEquals(new Tup3bigd[] { t3[1], t3[2], new Tup3bigd() }, TupleCodec.readTup3bigdArray(buffer, new Tup3bigd[] { new Tup3bigd(), new Tup3bigd(), new Tup3bigd() }, 0, 2));
+		assertArrayEquals(new Tup4bigd[] { t4[1], t4[2], new Tup4bigd() }, TupleCodec.readTup4bigdArray(buffer, new Tup4bigd[] { new Tup4bigd(), new Tup4bigd(), new Tup4bigd() }, 0, 2));
+		assertFalse(buffer.hasRemaining());
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		
+		TupleCodec.writeTup2bigd(out, t2[1]);
+		TupleCodec.writeTup3bigd(out, t3[1]);
+		TupleCodec.writeTup4bigd(out, t4[1]);
+		TupleCodec.writeTup2bigdArray(out, t2, 1, 2);
+		TupleCodec.writeTup3bigdArray(out, t3, 1, 2);
+		TupleCodec.writeTup4bigdArray(out, t4, 1, 2);
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		
+		assertEquals(t2[1], TupleCodec.readTup2bigd(in, new Tup2bigd()));
+		assertEquals(t3[1], TupleCodec.readTup3bigd(in, new Tup3bigd()));
+		assertEquals(t4[1], TupleCodec.readTup4bigd(in, new Tup4bigd()));
+		assertArrayEquals(new Tup2bigd[] { new Tup2bigd(), t2[1], t2[2] }, TupleCodec.readTup2bigdArray(in, new Tup2bigd[] { new Tup2bigd(), new Tup2bigd(), new Tup2bigd() }, 1, 2));
+		assertArrayEquals(new Tup3bigd[] { new Tup3bigd(), t3[1], t3[2] }, TupleCodec.readTup3bigdArray(in, new Tup3bigd[] { new Tup3bigd(), new Tup3bigd(), new Tup3bigd() }, 1, 2));
+		assertArrayEquals(new Tup4bigd[] { new Tup4bigd(), t4[1], t4[2] }, TupleCodec.readTup4bigdArray(in, new Tup4bigd[] { new Tup4bigd(), new Tup4bigd(), new Tup4bigd() }, 1, 2));
+		assertEquals(0, in.available());
+	}
+	
+	/**
+	 * This test ensures, that null strings, big integers and big decimals are written as a length prefix of -1
+	 * and are read back as null, while empty values keep a length prefix of 0.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void nullMarkerTest() throws IOException
+	{
+		Tup2str str = new Tup2str(null, "");
+		Tup2bigi bigi = new Tup2bigi(null, BigInteger.ZERO);
+		Tup2bigd bigd = new Tup2bigd(null, BigDecimal.ONE);
+		
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+		
+		TupleCodec.writeTup2str(buffer, str);
+		TupleCodec.writeTup2bigi(buffer, bigi);
+		TupleCodec.writeTup2bigd(buffer, bigd);
+		
+		buffer.flip();
+		
+		assertEquals(-1, buffer.getInt());
+		assertEquals(0, buffer.getInt());
+		assertEquals(-1, buffer.getInt());
+		assertEquals(1, buffer.getInt());
+		assertEquals(0, buffer.get());
+		assertEquals(-1, buffer.getInt());
+		assertEquals(1, buffer.getInt());
+		assertEquals(1, buffer.get());
+		assertEquals(0, buffer.getInt());
+		assertFalse(buffer.hasRemaining());
+		
+		buffer.rewind();
+		
+		Tup2str str2 = TupleCodec.readTup2str(buffer, new Tup2str("a", "b"));
+		Tup2bigi bigi2 = TupleCodec.readTup2bigi(buffer, new Tup2bigi(BigInteger.ONE));
+		Tup2bigd bigd2 = TupleCodec.readTup2bigd(buffer, new Tup2bigd(BigDecimal.TEN));
+		
+		assertNull(str2.x);
+		assertEquals("", str2.y);
+		assertNull(bigi2.x);
+		assertEquals(BigInteger.ZERO, bigi2.y);
+		assertNull(bigd2.x);
+		assertEquals(BigDecimal.ONE, bigd2.y);
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		
+		TupleCodec.writeTup2str(out, str);
+		TupleCodec.writeTup2bigi(out, bigi);
+		TupleCodec.writeTup2bigd(out, bigd);
+		
+		assertArrayEquals(Arrays.copyOf(buffer.array(), buffer.limit()), bytes.toByteArray());
+		
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		
+		str2 = TupleCodec.readTup2str(in, new Tup2str("a", "b"));
+		bigi2 = TupleCodec.readTup2bigi(in, new Tup2bigi(BigInteger.ONE));
+		bigd2 = TupleCodec.readTup2bigd(in, new Tup2bigd(BigDecimal.TEN));
+		
+		assertNull(str2.x);
+		assertEquals("", str2.y);
+		assertNull(bigi2.x);
+		assertEquals(BigInteger.ZERO, bigi2.y);
+		assertNull(bigd2.x);
+		assertEquals(BigDecimal.ONE, bigd2.y);
+	}
+	
+	/**
+	 * This test ensures, that big decimals keep their exact scale including trailing zeros and negative scales.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void bigDecimalScaleTest() throws IOException
+	{
+		BigDecimal[] values = { new BigDecimal("1.500"), new BigDecimal("1E+5"), BigDecimal.ZERO.setScale(10), new BigDecimal("-0.000000000000000000001") };
+		
+		for(BigDecimal value : values)
+		{
+			Tup3bigd t = new Tup3bigd(value, value.negate(), value.movePointLeft(3));
+			
+			ByteBuffer buffer = ByteBuffer.allocate(128);
+			TupleCodec.writeTup3bigd(buffer, t);
+			buffer.flip();
+			
+			Tup3bigd t2 = TupleCodec.readTup3bigd(buffer, new Tup3bigd());
+			
+			assertEquals(value.scale(), t2.x.scale());
+			assertEquals(t.x, t2.x);
+			assertEquals(t.y, t2.y);
+			assertEquals(t.z, t2.z);
+			
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			TupleCodec.writeTup3bigd(new DataOutputStream(bytes), t);
+			
+			Tup3bigd t3 = TupleCodec.readTup3bigd(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), new Tup3bigd());
+			
+			assertEquals(value.scale(), t3.x.scale());
+			assertEquals(t.x, t3.x);
+			assertEquals(t.y, t3.y);
+			assertEquals(t.z, t3.z);
+		}
+	}
+	
+	/**
+	 * This test ensures, that the bulk functions only touch the range given by offset and length,
+	 * that an empty range writes nothing and that ranges outside of the array or the data fail. It also ensures,
+	 * that corrupt length prefixes fail without allocating the requested length and that long values are read completely.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void arrayBoundsTest() throws IOException
+	{
+		Tup2i[] src = { new Tup2i(1, 2), new Tup2i(3, 4), new Tup2i(5, 6) };
+		
+		ByteBuffer buffer = ByteBuffer.allocate(TupleCodec.BYTES_TUP2I * 3);
+		
+		TupleCodec.writeTup2iArray(buffer, src, 3, 0);
+		
+		assertEquals(0, buffer.position());
+		
+		TupleCodec.writeTup2iArray(buffer, src, 2, 1);
+		TupleCodec.writeTup2iArray(buffer, src, 0, 2);
+		
+		assertFalse(buffer.hasRemaining());
+		
+		buffer.flip();
+		
+		Tup2i[] dst = { new Tup2i(), new Tup2i(), new Tup2i(), new Tup2i(), new Tup2i() };
+		
+		TupleCodec.readTup2iArray(buffer, dst, 1, 3);
+		
+		assertArrayEquals(new Tup2i[] { new Tup2i(), src[2], src[0], src[1], new Tup2i() }, dst);
+		
+		buffer.clear();
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> TupleCodec.writeTup2iArray(buffer, src, 2, 2));
+		assertThrows(IndexOutOfBoundsException.class, () -> TupleCodec.writeTup2iArray(buffer, src, -1, 1));
+		assertThrows(BufferOverflowException.class, () -> TupleCodec.writeTup2iArray(ByteBuffer.allocate(TupleCodec.BYTES_TUP2I), src, 0, 2));
+		assertThrows(BufferUnderflowException.class, () -> TupleCodec.readTup2iArray(ByteBuffer.allocate(TupleCodec.BYTES_TUP2I), dst, 0, 2));
+		assertThrows(EOFException.class, () -> TupleCodec.readTup2iArray(new DataInputStream(new ByteArrayInputStream(new byte[TupleCodec.BYTES_TUP2I])), dst, 0, 2));
+		
+		ByteBuffer corrupt = ByteBuffer.allocate(8).putInt(100).putInt(0);
+		corrupt.flip();
+		
+		assertThrows(BufferUnderflowException.class, () -> TupleCodec.readTup2str(corrupt, new Tup2str()));
+		
+		ByteBuffer huge = ByteBuffer.allocate(8).putInt(Integer.MAX_VALUE).putInt(0);
+		huge.flip();
+		
+		assertThrows(BufferUnderflowException.class, () -> TupleCodec.readTup2bigi(huge, new Tup2bigi()));
+		assertThrows(EOFException.class, () -> TupleCodec.readTup2str(new DataInputStream(new ByteArrayInputStream(new byte[] { 127, -1, -1, -1, 1, 2, 3 })), new Tup2str()));
+		assertThrows(EOFException.class, () -> TupleCodec.readTup2bigi(new DataInputStream(new ByteArrayInputStream(new byte[] { 127, -1, -1, -1, 1, 2, 3 })), new Tup2bigi()));
+		
+		Tup2str text = new Tup2str("x".repeat(20000), "y".repeat(8192));
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		
+		TupleCodec.writeTup2str(new DataOutputStream(bytes), text);
+		
+		assertEquals(text, TupleCodec.readTup2str(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), new Tup2str()));
+	}
+}
\ No newline at end of file
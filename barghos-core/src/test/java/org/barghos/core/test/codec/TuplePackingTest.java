@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple2.Tup2fR;
+import org.barghos.core.api.tuple2.Tup2fW;
+import org.barghos.core.api.tuple3.Tup3fR;
+import org.barghos.core.api.tuple3.Tup3fW;
+import org.barghos.core.codec.TuplePacking;
+import org.barghos.core.tuple2.Tup2f;
+import org.barghos.core.tuple3.Tup3f;
+import org.barghos.core.tuple4.Tup4f;
+
+/**
+ * This class provides component tests for the class {@link TuplePacking}.
+ * 
+ * @since 1.0.0.0
+ */
+class TuplePackingTest
+{
+	/**
+	 * This test ensures, that the function {@link TuplePacking#toHalf(float)} converts known values correctly.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void toHalfKnownValuesTest()
+	{
+		assertEquals((short)0x0000, TuplePacking.toHalf(0.0f));
+		assertEquals((short)0x8000, TuplePacking.toHalf(-0.0f));
+		assertEquals((short)0x3C00, TuplePacking.toHalf(1.0f));
+		assertEquals((short)0xC000, TuplePacking.toHalf(-2.0f));
+		assertEquals((short)0x3555, TuplePacking.toHalf(1.0f / 3.0f));
+		assertEquals((short)0x7BFF, TuplePacking.toHalf(65504.0f));
+		assertEquals((short)0x7BFF, TuplePacking.toHalf(65519.0f));
+		assertEquals((short)0x7C00, TuplePacking.toHalf(65520.0f));
+		assertEquals((short)0xFC00, TuplePacking.toHalf(Float.NEGATIVE_INFINITY));
+		assertEquals((short)0x0400, TuplePacking.toHalf(0x1p-14f));
+		assertEquals((short)0x0001, TuplePacking.toHalf(0x1p-24f));
+		assertEquals((short)0x0000, TuplePacking.toHalf(0x1p-25f));
+		assertEquals((short)0x0001, TuplePacking.toHalf(0x1.8p-25f));
+		assertEquals((short)0x0002, TuplePacking.toHalf(0x1.4p-23f));
+		assertEquals((short)0x0004, TuplePacking.toHalf(0x1.cp-23f));
+		assertTrue(Float.isNaN(TuplePacking.fromHalf(TuplePacking.toHalf(Float.NaN))));
+	}
+	
+	/**
+	 * This test ensures, that every half-float survives a conversion to float and back.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void halfRoundTripTest()
+	{
+		for(int i = 0; i < 0x10000; i++)
+		{
+			short half = (short)i;
+			float value = TuplePacking.fromHalf(half);
+			
+			if(Float.isNaN(value))
+				assertTrue((i & 0x7C00) == 0x7C00 && (i & 0x03FF) != 0);
+			else
+				assertEquals(half, TuplePacking.toHalf(value));
+		}
+	}
+	
+	/**
+	 * This test ensures, that the function {@link TuplePacking#toHalf(float)} returns the nearest half-float.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void toHalfNearestTest()
+	{
+		Random random = new Random(3);
+		
+		for(int i = 0; i < 100000; i++)
+		{
+			float value = (float)((random.nextDouble() * 2.0 - 1.0) * Math.pow(2.0, random.nextInt(36) - 26));
+			
+			short half = TuplePacking.toHalf(value);
+			double error = Math.abs(TuplePacking.fromHalf(half) - (double)value);
+			
+			assertFalse(error > Math.abs(TuplePacking.fromHalf((short)(half + 1)) - (double)value));
+			assertFalse(error > Math.abs(TuplePacking.fromHalf((short)(half - 1)) - (double)value));
+		}
+	}
+	
+	/**
+	 * This test ensures, that the normalized integer conversions round and clamp.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void normalizedTest()
+	{
+		assertEquals((short)32767, TuplePacking.toSnorm16(2.0f));
+		assertEquals((short)-32767, TuplePacking.toSnorm16(-1.0f));
+		assertEquals((short)16384, TuplePacking.toSnorm16(0.5f));
+		assertEquals(-1.0f, TuplePacking.fromSnorm16((short)-32768));
+		assertEquals((short)0xFFFF, TuplePacking.toUnorm16(1.0f));
+		assertEquals((short)0, TuplePacking.toUnorm16(-1.0f));
+		assertEquals(1.0f, TuplePacking.fromUnorm16((short)0xFFFF));
+		assertEquals((byte)127, TuplePacking.toSnorm8(1.0f));
+		assertEquals(-1.0f, TuplePacking.fromSnorm8((byte)-128));
+		assertEquals((byte)128, TuplePacking.toUnorm8(0.5f));
+		assertEquals(128 / 255.0f, TuplePacking.fromUnorm8((byte)128));
+		
+		for(int i = -32767; i <= 32767; i++)
+			assertEquals((short)i, TuplePacking.toSnorm16(TuplePacking.fromSnorm16((short)i)));
+		
+		for(int i = 0; i < 256; i++)
+			assertEquals((byte)i, TuplePacking.toUnorm8(TuplePacking.fromUnorm8((byte)i)));
+	}
+	
+	/**
+	 * This test ensures, that tuples packed into short buffers and byte buffers are unpacked again.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void tupleTest()
+	{
+		ShortBuffer shorts = ShortBuffer.allocate(3);
+		
+		assertSame(shorts, TuplePacking.packTup3fHalf(shorts, new Tup3f(1.0f, -0.5f, 2.0f)));
+		assertEquals(3, shorts.position());
+		
+		shorts.flip();
+		
+		assertEquals(new Tup3f(1.0f, -0.5f, 2.0f), TuplePacking.unpackTup3fHalf(shorts, new Tup3f()));
+		
+		ByteBuffer bytes = ByteBuffer.allocate(12);
+		
+		TuplePacking.packTup4fSnorm16(bytes, new Tup4f(1.0f, -1.0f, 0.0f, 3.0f));
+		TuplePacking.packTup4fUnorm8(bytes, new Tup4f(1.0f, 0.0f, -1.0f, 0.2f));
+		
+		bytes.flip();
+		
+		assertEquals(new Tup4f(1.0f, -1.0f, 0.0f, 1.0f), TuplePacking.unpackTup4fSnorm16(bytes, new Tup4f()));
+		assertEquals(new Tup4f(1.0f, 0.0f, 0.0f, 51.0f / 255.0f), TuplePacking.unpackTup4fUnorm8(bytes, new Tup4f()));
+		assertFalse(bytes.hasRemaining());
+	}
+	
+	/**
+	 * This test ensures, that arrays of tuples are packed and unpacked within the given range.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void tupleArrayTest()
+	{
+		Tup2fR[] src = { new Tup2f(9.0f), new Tup2f(0.25f, 0.75f), new Tup2f(0.5f, 1.0f) };
+		
+		ShortBuffer buffer = ShortBuffer.allocate(4);
+		TuplePacking.packTup2fUnorm16Array(buffer, src, 1, 2);
+		buffer.flip();
+		
+		Tup2f[] dst = { new Tup2f(), new Tup2f(), new Tup2f(-1.0f) };
+		TuplePacking.unpackTup2fUnorm16Array(buffer, (Tup2fW[])dst, 0, 2);
+		
+		assertEquals(0.25f, dst[0].x, 0.00001f);
+		assertEquals(0.75f, dst[0].y, 0.00001f);
+		assertEquals(new Tup2f(0.5f, 1.0f).x, dst[1].x, 0.00001f);
+		assertEquals(new Tup2f(-1.0f), dst[2]);
+		
+		ByteBuffer bytes = ByteBuffer.allocate(6);
+		TuplePacking.packTup3fSnorm8Array(bytes, new Tup3fR[] { new Tup3f(0.0f, 1.0f, -1.0f), new Tup3f(0.5f) }, 0, 2);
+		bytes.flip();
+		
+		Tup3fW[] normals = { new Tup3f(), new Tup3f() };
+		TuplePacking.unpackTup3fSnorm8Array(bytes, normals, 0, 2);
+		
+		assertEquals(new Tup3f(0.0f, 1.0f, -1.0f), normals[0]);
+		assertEquals(64.0f / 127.0f, ((Tup3f)normals[1]).z);
+	}
+	
+	/**
+	 * This test ensures, that whole float buffers are converted to packed buffers and back.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void bulkTest()
+	{
+		float[] values = { 0.0f, 1.0f, -0.5f, 0.125f, 1024.0f, -3.0f };
+		
+		ShortBuffer shorts = ShortBuffer.allocate(values.length);
+		TuplePacking.packHalf(FloatBuffer.wrap(values), shorts).flip();
+		
+		FloatBuffer result = FloatBuffer.allocate(values.length);
+		TuplePacking.unpackHalf(shorts, result);
+		
+		assertArrayEquals(values, result.array());
+		
+		ByteBuffer bytes = ByteBuffer.allocate(values.length * 2);
+		TuplePacking.packHalf(FloatBuffer.wrap(values), bytes).flip();
+		
+		result.clear();
+		TuplePacking.unpackHalf(bytes, result);
+		
+		assertArrayEquals(values, result.array());
+		assertFalse(bytes.hasRemaining());
+		
+		ByteBuffer unorm = ByteBuffer.allocate(3);
+		TuplePacking.packUnorm8(FloatBuffer.wrap(new float[] { 0.0f, 0.5f, 1.0f }), unorm).flip();
+		
+		FloatBuffer unpacked = FloatBuffer.allocate(3);
+		TuplePacking.unpackUnorm8(unorm, unpacked);
+		
+		assertArrayEquals(new float[] { 0.0f, 128.0f / 255.0f, 1.0f }, unpacked.array());
+	}
+}
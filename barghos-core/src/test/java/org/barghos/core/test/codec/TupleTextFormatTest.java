@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.codec.TupleTextFormat;
+
+/**
+ * This class provides component tests for the class {@link TupleTextFormat}.
+ * 
+ * @since 1.0.0.0
+ */
+class TupleTextFormatTest
+{
+	/**
+	 * This test ensures, that the tuples are formatted into a buffer line by line and the formatting
+	 * stops before a line, that doesn't fit.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void formatTest()
+	{
+		float[] v = { 9.0f, 9.0f, 9.0f, 1.0f, 2.5f, -3.0f, 4.0f, 0.1f, 6.0f };
+		
+		CharBuffer buffer = CharBuffer.allocate(64);
+		
+		assertEquals(3, TupleTextFormat.objVertices().format(v, 1, 3, buffer));
+		assertEquals("v 1.0 2.5 -3.0\nv 4.0 0.1 6.0\n", buffer.flip().toString());
+		
+		buffer = CharBuffer.allocate(20);
+		
+		assertEquals(2, TupleTextFormat.objVertices().format(v, 1, 3, buffer));
+		assertEquals("v 1.0 2.5 -3.0\n", buffer.flip().toString());
+		
+		buffer = CharBuffer.allocate(64);
+		
+		assertEquals(2, new TupleTextFormat(2, "", ';', 2).format(new double[] { 1.0, 2.375, -0.5, 7.0 }, 0, 2, buffer));
+		assertEquals("1.00;2.38\n-0.50;7.00\n", buffer.flip().toString());
+	}
+	
+	/**
+	 * This test ensures, that many tuples are written completely to a writer.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void writeTest() throws IOException
+	{
+		double[] v = new double[3 * 5000];
+		
+		for(int i = 0; i < v.length; i++)
+		{
+			v[i] = i * 0.5;
+		}
+		
+		StringWriter writer = new StringWriter();
+		
+		TupleTextFormat.csv(3).write(v, 0, 5000, writer);
+		
+		StringBuilder expected = new StringBuilder();
+		
+		for(int i = 0; i < v.length; i += 3)
+		{
+			expected.append(v[i]).append(',').append(v[i + 1]).append(',').append(v[i + 2]).append('\n');
+		}
+		
+		assertEquals(expected.toString(), writer.toString());
+		
+		writer = new StringWriter();
+		
+		TupleTextFormat.csv(2).write(new float[] { 0.0f, 0.0f, 1.0f, 2.0f, 3.0f, 4.0f }, 1, 2, writer);
+		
+		assertEquals("1.0,2.0\n", writer.toString());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.codec.TupleTextFormat;
+import org.barghos.core.codec.TupleTextParser;
+
+/**
+ * This class provides component tests for the class {@link TupleTextParser}.
+ * 
+ * @since 1.0.0.0
+ */
+class TupleTextParserTest
+{
+	/**
+	 * The temporary text file.
+	 */
+	private Path file;
+	
+	/**
+	 * Creates the temporary text file.
+	 * 
+	 * @throws IOException Not expected.
+	 */
+	@BeforeEach
+	void setUp() throws IOException
+	{
+		this.file = Files.createTempFile("tupletextparser", ".txt");
+	}
+	
+	/**
+	 * Deletes the temporary text file.
+	 * 
+	 * @throws IOException Not expected.
+	 */
+	@AfterEach
+	void tearDown() throws IOException
+	{
+		Files.deleteIfExists(this.file);
+	}
+	
+	/**
+	 * This test ensures, that vertex lines are parsed and comments, other statements, extra components
+	 * and carriage returns are handled.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void parseObjTest()
+	{
+		String text = "# comment\r\nv 1 2 3\r\nvn 0 1 0\n  v -1.5e1\t  .25 +4. 1.0\nf 1 2 3\nv 7 8 9";
+		
+		ByteBuffer src = ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+		float[][] dst = new float[3][4];
+		
+		assertEquals(2, TupleTextParser.objVertices().parse(src, dst, 1, false));
+		assertEquals("v 7 8 9", StandardCharsets.US_ASCII.decode(src.duplicate()).toString());
+		
+		assertArrayEquals(new float[] { 0.0f, 1.0f, -15.0f, 0.0f }, dst[0]);
+		assertArrayEquals(new float[] { 0.0f, 2.0f, 0.25f, 0.0f }, dst[1]);
+		assertArrayEquals(new float[] { 0.0f, 3.0f, 4.0f, 0.0f }, dst[2]);
+		
+		assertEquals(1, TupleTextParser.objVertices().parse(src, dst, 3, true));
+		assertFalse(src.hasRemaining());
+		assertArrayEquals(new float[] { 0.0f, 1.0f, -15.0f, 7.0f }, dst[0]);
+	}
+	
+	/**
+	 * This test ensures, that comma separated values with a header line are parsed as doubles and the parsing
+	 * stops before the first line, that doesn't fit into the arrays.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void parseCsvTest()
+	{
+		String text = "x,y\n0.1 , -2\n1e-3,NaN\n3,4\n";
+		
+		ByteBuffer src = ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+		double[][] dst = new double[2][2];
+		
+		assertEquals(2, TupleTextParser.csv(2).parse(src, dst, 0, true));
+		assertArrayEquals(new double[] { 0.1, 0.001 }, dst[0]);
+		assertArrayEquals(new double[] { -2.0, Double.NaN }, dst[1]);
+		assertEquals("3,4\n", StandardCharsets.US_ASCII.decode(src).toString());
+	}
+	
+	/**
+	 * This test ensures, that the parsed values are identical to {@link Float#parseFloat(String)} and
+	 * {@link Double#parseDouble(String)}.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void accuracyTest()
+	{
+		Random random = new Random(7);
+		
+		StringBuilder text = new StringBuilder();
+		
+		String[] special = { "0", "-0.0", "1.17549435E-38", "1.4E-45", "3.4028235e38", "4.9e-324", "1.7976931348623157E308",
+			"16777217", "9007199254740993", "0.1000000000000000055511151231257827", "12345678901234567890.5",
+			"1e23", "8.589973e9", "1.00000017881393432617187499", "2.2250738585072011e-308", "Infinity", "-Infinity" };
+		
+		for(String s : special) text.append(s).append('\n');
+		
+		for(int i = 0; i < 2000; i++)
+		{
+			text.append(Float.intBitsToFloat(random.nextInt())).append('\n');
+			text.append(Double.longBitsToDouble(random.nextLong())).append('\n');
+			text.append(random.nextInt(2000000) - 1000000).append('.').append(random.nextInt(100000)).append('\n');
+			text.append(random.nextGaussian() * Math.pow(10, random.nextInt(40) - 20)).append('\n');
+		}
+		
+		String[] lines = text.toString().split("\n");
+		
+		float[][] floats = new float[1][lines.length];
+		double[][] doubles = new double[1][lines.length];
+		
+		TupleTextParser parser = TupleTextParser.csv(1);
+		
+		assertEquals(lines.length, parser.parse(ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.US_ASCII)), floats, 0, true));
+		assertEquals(lines.length, parser.parse(ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.US_ASCII)), doubles, 0, true));
+		
+		for(int i = 0; i < lines.length; i++)
+		{
+			assertEquals(Float.floatToIntBits(Float.parseFloat(lines[i])), Float.floatToIntBits(floats[0][i]), lines[i]);
+			assertEquals(Double.doubleToLongBits(Double.parseDouble(lines[i])), Double.doubleToLongBits(doubles[0][i]), lines[i]);
+		}
+	}
+	
+	/**
+	 * This test ensures, that numbers with 19 or more significant digits, whose mantissa does not fit into a long,
+	 * are parsed identically to the methods of the JDK.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void longMantissaTest()
+	{
+		Random random = new Random(19);
+		
+		StringBuilder text = new StringBuilder();
+		
+		String[] special = { "9999999999999999999", "9300000000000000000", "-9223372036854775808", "9223372036854775807",
+			"999999999999999999", "1000000000000000000", "18446744073709551615", "0.9999999999999999999", "99999999999999999999e-5" };
+		
+		for(String s : special) text.append(s).append('\n');
+		
+		for(int i = 0; i < 1000; i++)
+		{
+			StringBuilder digits = new StringBuilder();
+			
+			digits.append(1 + random.nextInt(9));
+			
+			for(int j = 0, n = 17 + random.nextInt(4); j < n; j++) digits.append(random.nextInt(10));
+			
+			if(random.nextBoolean()) digits.insert(1 + random.nextInt(digits.length() - 1), '.');
+			
+			text.append(digits).append('\n');
+		}
+		
+		String[] lines = text.toString().split("\n");
+		
+		float[][] floats = new float[1][lines.length];
+		double[][] doubles = new double[1][lines.length];
+		
+		TupleTextParser parser = TupleTextParser.csv(1);
+		
+		assertEquals(lines.length, parser.parse(ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.US_ASCII)), floats, 0, true));
+		assertEquals(lines.length, parser.parse(ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.US_ASCII)), doubles, 0, true));
+		
+		for(int i = 0; i < lines.length; i++)
+		{
+			assertEquals(Float.floatToIntBits(Float.parseFloat(lines[i])), Float.floatToIntBits(floats[0][i]), lines[i]);
+			assertEquals(Double.doubleToLongBits(Double.parseDouble(lines[i])), Double.doubleToLongBits(doubles[0][i]), lines[i]);
+		}
+	}
+	
+	/**
+	 * This test ensures, that a malformed component causes a {@link NumberFormatException}.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void malformedTest()
+	{
+		TupleTextParser parser = TupleTextParser.csv(2);
+		double[][] dst = new double[2][4];
+		
+		assertThrows(NumberFormatException.class, () -> parser.parse(ByteBuffer.wrap("1,2x\n".getBytes(StandardCharsets.US_ASCII)), dst, 0, true));
+		assertThrows(NumberFormatException.class, () -> parser.parse(ByteBuffer.wrap("1 2\n".getBytes(StandardCharsets.US_ASCII)), dst, 0, true));
+		assertThrows(NumberFormatException.class, () -> parser.parse(ByteBuffer.wrap("1,\n".getBytes(StandardCharsets.US_ASCII)), dst, 0, true));
+	}
+	
+	/**
+	 * This test ensures, that a channel is parsed into a float buffer and a buffer without room for all tuples
+	 * causes a {@link BufferOverflowException}.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void parseChannelTest() throws IOException
+	{
+		byte[] text = "1 2\n3 4\n5 6\n".getBytes(StandardCharsets.US_ASCII);
+		TupleTextParser parser = new TupleTextParser(2, "", ' ');
+		
+		FloatBuffer dst = FloatBuffer.allocate(6);
+		
+		assertEquals(3, parser.parse(Channels.newChannel(new ByteArrayInputStream(text)), dst));
+		assertArrayEquals(new float[] { 1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f }, dst.array());
+		
+		assertThrows(BufferOverflowException.class, () -> parser.parse(Channels.newChannel(new ByteArrayInputStream(text)), FloatBuffer.allocate(5)));
+	}
+	
+	/**
+	 * This test ensures, that parsing a file gives the same result sequentially and in parallel with small chunks,
+	 * including lines crossing chunk borders and a line longer than the read buffer.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void parseFileTest() throws IOException
+	{
+		Random random = new Random(3);
+		
+		int count = 3000;
+		float[] v = new float[count * 3];
+		
+		for(int i = 0; i < v.length; i++) v[i] = (random.nextFloat() - 0.5f) * 1000.0f;
+		
+		StringWriter text = new StringWriter();
+		text.append('#');
+		for(int i = 0; i < 100000; i++) text.append('-');
+		text.append('\n');
+		
+		TupleTextFormat.objVertices().write(v, 0, count, text);
+		
+		Files.write(this.file, text.toString().getBytes(StandardCharsets.US_ASCII));
+		
+		TupleTextParser parser = TupleTextParser.objVertices();
+		
+		float[][] sequential = parser.parseFloats(this.file);
+		float[][] parallel = parser.setParallel(true).setChunkSize(TupleTextParser.MIN_CHUNK_SIZE).parseFloats(this.file);
+		
+		assertEquals(count, sequential[0].length);
+		
+		for(int i = 0; i < count; i++)
+		{
+			for(int c = 0; c < 3; c++)
+			{
+				assertEquals(v[i * 3 + c], sequential[c][i]);
+				assertEquals(v[i * 3 + c], parallel[c][i]);
+			}
+		}
+		
+		double[][] doubles = parser.parseDoubles(this.file);
+		
+		assertEquals(count, doubles[2].length);
+		assertEquals(Double.parseDouble(Float.toString(v[5])), doubles[2][1]);
+		
+		double[][] sequentialDoubles = TupleTextParser.objVertices().parseDoubles(this.file);
+		
+		assertArrayEquals(sequentialDoubles[0], doubles[0]);
+		assertArrayEquals(sequentialDoubles[2], doubles[2]);
+		
+		assertThrows(IllegalArgumentException.class, () -> parser.setChunkSize(TupleTextParser.MIN_CHUNK_SIZE - 1));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.codec.VarInts;
+
+/**
+ * This class provides component tests for the class {@link VarInts}.
+ * 
+ * @since 1.0.0.0
+ */
+class VarIntsTest
+{
+	/**
+	 * This test ensures, that the zig-zag encoding maps small magnitudes to small values and can be reverted.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void zigZagTest()
+	{
+		assertEquals(0, VarInts.zigZag(0));
+		assertEquals(1, VarInts.zigZag(-1));
+		assertEquals(2, VarInts.zigZag(1));
+		assertEquals(-1, VarInts.zigZag(Integer.MIN_VALUE));
+		assertEquals(3L, VarInts.zigZag(-2L));
+		
+		for(int value : new int[] { 0, 1, -1, 12345, -12345, Integer.MAX_VALUE, Integer.MIN_VALUE })
+			assertEquals(value, VarInts.unZigZag(VarInts.zigZag(value)));
+		
+		for(long value : new long[] { 0L, 1L, -1L, 1L << 40, Long.MAX_VALUE, Long.MIN_VALUE })
+			assertEquals(value, VarInts.unZigZag(VarInts.zigZag(value)));
+	}
+	
+	/**
+	 * This test ensures, that varints are written with the expected length and read again.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void varIntTest()
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+		
+		VarInts.putVarInt(buffer, 0);
+		VarInts.putVarInt(buffer, 127);
+		assertEquals(2, buffer.position());
+		
+		VarInts.putVarInt(buffer, 128);
+		assertEquals(4, buffer.position());
+		
+		VarInts.putVarInt(buffer, -1);
+		assertEquals(4 + VarInts.MAX_BYTES_INT, buffer.position());
+		
+		VarInts.putVarLong(buffer, -1L);
+		VarInts.putVarLong(buffer, 300L);
+		
+		buffer.flip();
+		
+		assertEquals(0, VarInts.getVarInt(buffer));
+		assertEquals(127, VarInts.getVarInt(buffer));
+		assertEquals(128, VarInts.getVarInt(buffer));
+		assertEquals(-1, VarInts.getVarInt(buffer));
+		assertEquals(-1L, VarInts.getVarLong(buffer));
+		assertEquals(300L, VarInts.getVarLong(buffer));
+		assertFalse(buffer.hasRemaining());
+	}
+	
+	/**
+	 * This test ensures, that a too long varint is rejected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void malformedTest()
+	{
+		ByteBuffer buffer = ByteBuffer.wrap(new byte[] { -1, -1, -1, -1, -1, 1 });
+		
+		assertThrows(IllegalStateException.class, () -> VarInts.getVarInt(buffer));
+	}
+}
@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.color;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.color.ChannelOrder;
+import org.barghos.core.color.ColorPacking;
+import org.barghos.core.color.LDRColor4;
+
+/**
+ * This class provides component tests for the class {@link ColorPacking}.
+ * 
+ * @since 1.0.0.0
+ */
+class ColorPackingTest
+{
+	/**
+	 * This test ensures, that the channel orders place the channels at the documented bytes and convert
+	 * between each other.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void channelOrderTest()
+	{
+		assertEquals(0x01020304, ChannelOrder.RGBA.pack(1, 2, 3, 4));
+		assertEquals(0x04010203, ChannelOrder.ARGB.pack(1, 2, 3, 4));
+		assertEquals(0x03020104, ChannelOrder.BGRA.pack(1, 2, 3, 4));
+		assertEquals(0x04030201, ChannelOrder.ABGR.pack(1, 2, 3, 4));
+		
+		for(ChannelOrder from : ChannelOrder.values())
+		{
+			int pixel = from.pack(0xF1, 0x82, 0x03, 0xFF);
+			
+			assertEquals(0xF1, from.getR(pixel));
+			assertEquals(0x82, from.getG(pixel));
+			assertEquals(0x03, from.getB(pixel));
+			assertEquals(0xFF, from.getA(pixel));
+			
+			for(ChannelOrder to : ChannelOrder.values())
+			{
+				assertEquals(to.pack(0xF1, 0x82, 0x03, 0xFF), from.convert(pixel, to));
+			}
+		}
+	}
+	
+	/**
+	 * This test ensures, that packing clamps and rounds like the color getters and that every channel value
+	 * survives unpacking and packing again.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundingTest()
+	{
+		assertEquals(0, ColorPacking.toChannel(-1.0f));
+		assertEquals(0, ColorPacking.toChannel(Float.NaN));
+		assertEquals(255, ColorPacking.toChannel(2.0f));
+		assertEquals(128, ColorPacking.toChannel(0.5f));
+		
+		for(int i = 0; i <= 1000; i++)
+		{
+			float v = i / 1000.0f;
+			
+			assertEquals(Math.round(v * 255.0f), ColorPacking.toChannel(v));
+		}
+		
+		for(int i = 0; i < 256; i++)
+		{
+			assertEquals(i, ColorPacking.toChannel(ColorPacking.fromChannel(i)));
+			assertEquals(i, new LDRColor4(ColorPacking.fromChannel(i), 0.0f, 0.0f, 0.0f).getR());
+		}
+		
+		assertEquals(1.0f, ColorPacking.fromChannel(255));
+	}
+	
+	/**
+	 * This test ensures, that colors are packed and unpacked for every channel order.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void packTest()
+	{
+		LDRColor4 c = new LDRColor4(1, 2, 3, 4);
+		
+		assertEquals(0x01020304, ColorPacking.pack(c, ChannelOrder.RGBA));
+		assertEquals(0x04010203, ColorPacking.pack(c, ChannelOrder.ARGB));
+		assertEquals(0x04010203, ColorPacking.pack(c.getUnityR(), c.getUnityG(), c.getUnityB(), c.getUnityA(), ChannelOrder.ARGB));
+		
+		for(ChannelOrder order : ChannelOrder.values())
+		{
+			LDRColor4 r = new LDRColor4();
+			
+			assertSame(r, ColorPacking.unpack(ColorPacking.pack(c, order), order, r));
+			assertChannels(c, r);
+		}
+	}
+	
+	/**
+	 * This test ensures, that single colors and arrays of colors are packed into int and byte buffers and
+	 * that the bytes of a byte buffer are in the named order regardless of its byte order.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void buffersTest()
+	{
+		LDRColor4[] colors = { new LDRColor4(1, 2, 3, 4), new LDRColor4(250, 128, 0, 255), new LDRColor4(7, 8, 9, 10) };
+		
+		IntBuffer ib = IntBuffer.allocate(4);
+		
+		assertSame(ib, ColorPacking.packLDRColor4(ib, colors[0], ChannelOrder.BGRA));
+		ColorPacking.packLDRColor4Array(ib, colors, 1, 2, ChannelOrder.BGRA);
+		
+		assertEquals(3, ib.position());
+		assertEquals(0x03020104, ib.get(0));
+		
+		ib.flip();
+		
+		assertChannels(colors[0], ColorPacking.unpackLDRColor4(ib, new LDRColor4(), ChannelOrder.BGRA));
+		
+		LDRColor4[] result = new LDRColor4[3];
+		
+		assertSame(result, ColorPacking.unpackLDRColor4Array(ib, result, 1, 2, ChannelOrder.BGRA));
+		assertNull(result[0]);
+		assertChannels(colors[1], result[1]);
+		assertChannels(colors[2], result[2]);
+		
+		for(ByteOrder byteOrder : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN })
+		{
+			ByteBuffer bb = ByteBuffer.allocateDirect(12).order(byteOrder);
+			
+			ColorPacking.packLDRColor4(bb, colors[0], ChannelOrder.ARGB);
+			ColorPacking.packLDRColor4Array(bb, colors, 1, 2, ChannelOrder.ARGB);
+			
+			assertEquals(4, bb.get(0));
+			assertEquals(1, bb.get(1));
+			assertEquals(2, bb.get(2));
+			assertEquals(3, bb.get(3));
+			
+			bb.flip();
+			
+			assertChannels(colors[0], ColorPacking.unpackLDRColor4(bb, new LDRColor4(), ChannelOrder.ARGB));
+			
+			result = new LDRColor4[2];
+			
+			ColorPacking.unpackLDRColor4Array(bb, result, 0, 2, ChannelOrder.ARGB);
+			
+			assertChannels(colors[1], result[0]);
+			assertChannels(colors[2], result[1]);
+		}
+	}
+	
+	/**
+	 * This test ensures, that the bulk conversions between float buffers and pixel buffers give the same
+	 * results for heap and direct buffers and advance the positions.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void bulkTest()
+	{
+		int count = 37;
+		
+		FloatBuffer src = FloatBuffer.allocate(count * 4 + 2);
+		
+		for(int i = 0; i < count * 4 + 2; i++) src.put(((i * 31) % 300) / 280.0f - 0.05f);
+		
+		src.flip();
+		src.position(1);
+		
+		for(ChannelOrder order : ChannelOrder.values())
+		{
+			int[] expected = new int[count];
+			
+			for(int i = 0; i < count; i++)
+			{
+				expected[i] = ColorPacking.pack(src.get(1 + i * 4), src.get(2 + i * 4), src.get(3 + i * 4), src.get(4 + i * 4), order);
+			}
+			
+			IntBuffer heap = IntBuffer.allocate(count);
+			IntBuffer direct = ByteBuffer.allocateDirect(count * 4).order(ByteOrder.nativeOrder()).asIntBuffer();
+			ByteBuffer bytes = ByteBuffer.allocate(count * 4).order(ByteOrder.LITTLE_ENDIAN);
+			
+			assertSame(heap, ColorPacking.pack(src.duplicate(), heap, order));
+			ColorPacking.pack(src.duplicate(), direct, order);
+			ColorPacking.pack(src.duplicate(), bytes, order);
+			
+			assertEquals(count, heap.position());
+			assertEquals(count, direct.position());
+			assertEquals(count * 4, bytes.position());
+			
+			for(int i = 0; i < count; i++)
+			{
+				assertEquals(expected[i], heap.get(i));
+				assertEquals(expected[i], direct.get(i));
+				assertEquals(expected[i], Integer.reverseBytes(bytes.getInt(i * 4)));
+			}
+			
+			heap.flip();
+			direct.flip();
+			bytes.flip();
+			
+			FloatBuffer fromHeap = FloatBuffer.allocate(count * 4);
+			FloatBuffer fromDirect = ByteBuffer.allocateDirect(count * 16).order(ByteOrder.nativeOrder()).asFloatBuffer();
+			FloatBuffer fromBytes = FloatBuffer.allocate(count * 4);
+			
+			assertSame(fromHeap, ColorPacking.unpack(heap, fromHeap, order));
+			ColorPacking.unpack(direct, fromDirect, order);
+			ColorPacking.unpack(bytes, fromBytes, order);
+			
+			assertEquals(count * 4, fromHeap.position());
+			assertEquals(count * 4, fromDirect.position());
+			assertEquals(count * 4, fromBytes.position());
+			
+			for(int i = 0; i < count; i++)
+			{
+				assertEquals(order.getR(expected[i]), ColorPacking.toChannel(fromHeap.get(i * 4)));
+				assertEquals(order.getA(expected[i]), ColorPacking.toChannel(fromHeap.get(i * 4 + 3)));
+			}
+			
+			for(int i = 0; i < count * 4; i++)
+			{
+				assertEquals(fromHeap.get(i), fromDirect.get(i));
+				assertEquals(fromHeap.get(i), fromBytes.get(i));
+			}
+		}
+	}
+	
+	/**
+	 * This test ensures, that pixel buffers are converted between channel orders, also in place.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void convertTest()
+	{
+		IntBuffer src = IntBuffer.wrap(new int[] { 0x01020304, 0x05060708 });
+		IntBuffer dst = IntBuffer.allocate(2);
+		
+		assertSame(dst, ColorPacking.convert(src, dst, ChannelOrder.RGBA, ChannelOrder.ABGR));
+		assertEquals(0x04030201, dst.get(0));
+		assertEquals(0x08070605, dst.get(1));
+		assertEquals(2, src.position());
+		
+		dst.flip();
+		
+		ColorPacking.convert(dst, dst, ChannelOrder.ABGR, ChannelOrder.ARGB);
+		
+		assertEquals(0x04010203, dst.get(0));
+		assertEquals(0x08050607, dst.get(1));
+		assertEquals(2, dst.position());
+	}
+	
+	/**
+	 * Asserts, that both colors have the same channels in colorrange (0 - 255).
+	 * 
+	 * @param expected The expected color.
+	 * @param actual The actual color.
+	 */
+	private static void assertChannels(LDRColor4 expected, LDRColor4 actual)
+	{
+		assertEquals(expected.getR(), actual.getR());
+		assertEquals(expected.getG(), actual.getG());
+		assertEquals(expected.getB(), actual.getB());
+		assertEquals(expected.getA(), actual.getA());
+	}
+}
\ No newline at end of file
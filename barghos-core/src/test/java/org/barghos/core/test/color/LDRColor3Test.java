@@ -2,9 +2,13 @@ package org.barghos.core.test.color;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.color.LDRColor3;
+import org.barghos.core.color.SRGB;
 import org.barghos.core.tuple3.PTup3f;
 import org.barghos.core.tuple3.PTup3i;
 
@@ -730,4 +734,56 @@ class LDRColor3Test
 		assertEquals(1f, color.getUnityB());
 		assertEquals(color.b, color.getUnityB());
 	}
+	
+	/**
+	 * This test ensures, that the {@link LDRColor3#toString()} function prints the components correctly.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void toStringTest()
+	{
+		LDRColor3 color = new LDRColor3(0f, 0.5f, 1f);
+		
+		assertEquals("ldrcolor3(r=0.0, g=0.5, b=1.0)", color.toString());
+	}
+	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link LDRColor3#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		LDRColor3 color = new LDRColor3(0f, 0.5f, 1f);
+		
+		assertEquals("ldrcolor3(r=0.0, g=0.5, b=1.0)", color.appendTo(new StringBuilder()).toString());
+		assertEquals("ldrcolor3(r=0.0, g=0.5, b=1.0)", color.appendTo(new StringWriter()).toString());
+	}
+	
+	/**
+	 * This test ensures, that the methods {@link LDRColor3#toLinear()} and {@link LDRColor3#toSRGB()} convert
+	 * the color components with the tables of {@link SRGB}.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void srgbTest()
+	{
+		LDRColor3 color = new LDRColor3(0.2f, 0.5f, 0.8f);
+		
+		assertSame(color, color.toLinear());
+		assertEquals(SRGB.toLinear(0.2f), color.r);
+		assertEquals(SRGB.toLinear(0.5f), color.g);
+		assertEquals(SRGB.toLinear(0.8f), color.b);
+		assertEquals(SRGB.toLinearExact(0.8), color.b, 1e-6);
+		
+		assertSame(color, color.toSRGB());
+		assertEquals(0.2f, color.r, 1e-4f);
+		assertEquals(0.5f, color.g, 1e-4f);
+		assertEquals(0.8f, color.b, 1e-4f);
+	}
 }
\ No newline at end of file
@@ -2,9 +2,13 @@ package org.barghos.core.test.color;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.color.LDRColor4;
+import org.barghos.core.color.SRGB;
 import org.barghos.core.tuple4.PTup4f;
 import org.barghos.core.tuple4.PTup4i;
 
@@ -873,4 +877,58 @@ class LDRColor4Test
 		assertEquals(1f, color.getUnityA());
 		assertEquals(color.a, color.getUnityA());
 	}
+	
+	/**
+	 * This test ensures, that the {@link LDRColor4#toString()} function prints the components correctly.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void toStringTest()
+	{
+		LDRColor4 color = new LDRColor4(0f, 0.5f, 0.8f, 1f);
+		
+		assertEquals("ldrcolor4(r=0.0, g=0.5, b=0.8, a=1.0)", color.toString());
+	}
+	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link LDRColor4#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		LDRColor4 color = new LDRColor4(0f, 0.5f, 0.8f, 1f);
+		
+		assertEquals("ldrcolor4(r=0.0, g=0.5, b=0.8, a=1.0)", color.appendTo(new StringBuilder()).toString());
+		assertEquals("ldrcolor4(r=0.0, g=0.5, b=0.8, a=1.0)", color.appendTo(new StringWriter()).toString());
+	}
+	
+	/**
+	 * This test ensures, that the methods {@link LDRColor4#toLinear()} and {@link LDRColor4#toSRGB()} convert
+	 * the color components with the tables of {@link SRGB} and leave alpha unchanged.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void srgbTest()
+	{
+		LDRColor4 color = new LDRColor4(0.2f, 0.5f, 0.8f, 0.3f);
+		
+		assertSame(color, color.toLinear());
+		assertEquals(SRGB.toLinear(0.2f), color.r);
+		assertEquals(SRGB.toLinear(0.5f), color.g);
+		assertEquals(SRGB.toLinear(0.8f), color.b);
+		assertEquals(SRGB.toLinearExact(0.8), color.b, 1e-6);
+		assertEquals(0.3f, color.a);
+		
+		assertSame(color, color.toSRGB());
+		assertEquals(0.2f, color.r, 1e-4f);
+		assertEquals(0.5f, color.g, 1e-4f);
+		assertEquals(0.8f, color.b, 1e-4f);
+		assertEquals(0.3f, color.a);
+	}
 }
\ No newline at end of file
@@ -2,6 +2,9 @@ package org.barghos.core.test.color;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.color.PHDRColor3;
@@ -282,4 +285,33 @@ class PHDRColor3Test
 		
 		assertEquals(6 * 255, color2.getB());
 	}
+	
+	/**
+	 * This test ensures, that the {@link PHDRColor3#toString()} function prints the components correctly.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void toStringTest()
+	{
+		PHDRColor3 color = PHDRColor3.gen(0f, 0.5f, 1.5f);
+		
+		assertEquals("phdrcolor3(r=0.0, g=0.5, b=1.5)", color.toString());
+	}
+	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PHDRColor3#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PHDRColor3 color = PHDRColor3.gen(0f, 0.5f, 1.5f);
+		
+		assertEquals("phdrcolor3(r=0.0, g=0.5, b=1.5)", color.appendTo(new StringBuilder()).toString());
+		assertEquals("phdrcolor3(r=0.0, g=0.5, b=1.5)", color.appendTo(new StringWriter()).toString());
+	}
 }
\ No newline at end of file
@@ -4,6 +4,9 @@ package org.barghos.core.test.color;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.color.PHDRColor4;
@@ -336,4 +339,33 @@ class PHDRColor4Test
 		
 		assertEquals(8 * 255, color2.getA());
 	}
+	
+	/**
+	 * This test ensures, that the {@link PHDRColor4#toString()} function prints the components correctly.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void toStringTest()
+	{
+		PHDRColor4 color = PHDRColor4.gen(0f, 0.5f, 1.5f, 1f);
+		
+		assertEquals("phdrcolor4(r=0.0, g=0.5, b=1.5, a=1.0)", color.toString());
+	}
+	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PHDRColor4#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PHDRColor4 color = PHDRColor4.gen(0f, 0.5f, 1.5f, 1f);
+		
+		assertEquals("phdrcolor4(r=0.0, g=0.5, b=1.5, a=1.0)", color.appendTo(new StringBuilder()).toString());
+		assertEquals("phdrcolor4(r=0.0, g=0.5, b=1.5, a=1.0)", color.appendTo(new StringWriter()).toString());
+	}
 }
\ No newline at end of file
@@ -2,6 +2,9 @@ package org.barghos.core.test.color;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.color.PLDRColor3;
@@ -332,4 +335,33 @@ class PLDRColor3Test
 		
 		assertEquals(255, color2.getB());
 	}
+	
+	/**
+	 * This test ensures, that the {@link PLDRColor3#toString()} function prints the components correctly.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void toStringTest()
+	{
+		PLDRColor3 color = PLDRColor3.gen(0f, 0.5f, 1f);
+		
+		assertEquals("pldrcolor3(r=0.0, g=0.5, b=1.0)", color.toString());
+	}
+	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PLDRColor3#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PLDRColor3 color = PLDRColor3.gen(0f, 0.5f, 1f);
+		
+		assertEquals("pldrcolor3(r=0.0, g=0.5, b=1.0)", color.appendTo(new StringBuilder()).toString());
+		assertEquals("pldrcolor3(r=0.0, g=0.5, b=1.0)", color.appendTo(new StringWriter()).toString());
+	}
 }
\ No newline at end of file
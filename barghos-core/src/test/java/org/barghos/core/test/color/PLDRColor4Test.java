@@ -2,6 +2,9 @@ package org.barghos.core.test.color;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.color.PLDRColor4;
@@ -376,4 +379,33 @@ class PLDRColor4Test
 		
 		assertEquals(255, color2.getA());
 	}
+	
+	/**
+	 * This test ensures, that the {@link PLDRColor4#toString()} function prints the components correctly.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void toStringTest()
+	{
+		PLDRColor4 color = PLDRColor4.gen(0f, 0.5f, 0.8f, 1f);
+		
+		assertEquals("pldrcolor4(r=0.0, g=0.5, b=0.8, a=1.0)", color.toString());
+	}
+	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PLDRColor4#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PLDRColor4 color = PLDRColor4.gen(0f, 0.5f, 0.8f, 1f);
+		
+		assertEquals("pldrcolor4(r=0.0, g=0.5, b=0.8, a=1.0)", color.appendTo(new StringBuilder()).toString());
+		assertEquals("pldrcolor4(r=0.0, g=0.5, b=0.8, a=1.0)", color.appendTo(new StringWriter()).toString());
+	}
 }
\ No newline at end of file
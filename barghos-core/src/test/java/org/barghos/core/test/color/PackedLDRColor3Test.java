@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.color;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.color.ChannelOrder;
+import org.barghos.core.color.ColorPacking;
+import org.barghos.core.color.LDRColor3;
+import org.barghos.core.color.PackedLDRColor3;
+import org.barghos.core.tuple3.PTup3f;
+import org.barghos.core.tuple3.PTup3i;
+
+/**
+ * This class provides component tests for the class {@link PackedLDRColor3}.
+ * 
+ * @since 1.0.0.0
+ */
+class PackedLDRColor3Test
+{
+	/**
+	 * This test ensures, that the constructors set the components and clamp them to the valid range.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void ctorTest()
+	{
+		assertEquals(0, new PackedLDRColor3().getPacked());
+		
+		PackedLDRColor3 c = new PackedLDRColor3(10, 128, 255);
+		
+		assertEquals(0x000A80FF, c.getPacked());
+		assertEquals(0x000A80FF, new PackedLDRColor3(c).getPacked());
+		
+		c = new PackedLDRColor3(PTup3f.gen(-1.0f, 0.5f, 2.0f));
+		
+		assertEquals(0, c.getR());
+		assertEquals(128, c.getG());
+		assertEquals(255, c.getB());
+		
+		c = new PackedLDRColor3(PTup3i.gen(-5, 128, 300));
+		
+		assertEquals(0, c.getR());
+		assertEquals(128, c.getG());
+		assertEquals(255, c.getB());
+		
+		assertEquals(0x00FFFFFF, new PackedLDRColor3(1000).getPacked());
+		assertEquals(0x00FFFFFF, new PackedLDRColor3(1.5f).getPacked());
+		assertEquals(0, new PackedLDRColor3(-0.5f).getPacked());
+		assertEquals(0x00010203, new PackedLDRColor3(ChannelOrder.ARGB.pack(1, 2, 3, 4), ChannelOrder.ARGB).getPacked());
+	}
+	
+	/**
+	 * This test ensures, that the setters of single components only change their own component and
+	 * quantize like {@link LDRColor3}.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void settersTest()
+	{
+		PackedLDRColor3 c = new PackedLDRColor3(10, 128, 255);
+		
+		assertSame(c, c.setR(300));
+		assertEquals(255, c.getR());
+		assertEquals(128, c.getG());
+		assertEquals(255, c.getB());
+		
+		c.setR(10);
+		
+		assertSame(c, c.setG(300));
+		assertEquals(10, c.getR());
+		assertEquals(255, c.getG());
+		assertEquals(255, c.getB());
+		
+		c.setG(128);
+		
+		assertSame(c, c.setB(300));
+		assertEquals(10, c.getR());
+		assertEquals(128, c.getG());
+		assertEquals(255, c.getB());
+		
+		c.setB(255);
+		
+		c.setUnityR(0.25f);
+		
+		assertEquals(new LDRColor3(0.25f, 0.0f, 0.0f).getR(), c.getR());
+		assertEquals(0.25f * 255.0f, c.getR(), 0.5f);
+		
+		c.setX(-1.0f);
+		
+		assertEquals(0, c.getR());
+		assertEquals(0.0f, c.getUnityR());
+		
+		for(int i = 0; i < 256; i++)
+		{
+			c.setG(i);
+			
+			assertEquals(i, c.getG());
+			assertEquals(ColorPacking.fromChannel(i), c.getUnityG());
+			assertEquals(ColorPacking.fromChannel(i), c.getY());
+			
+			c.setY(c.getUnityG());
+			
+			assertEquals(i, c.getG());
+		}
+	}
+	
+	/**
+	 * This test ensures, that the packed int is read and written in the own layout and in channel orders.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void packedTest()
+	{
+		PackedLDRColor3 c = new PackedLDRColor3(10, 128, 255);
+		
+		assertEquals(0xFF0A80FF, c.getPacked(ChannelOrder.ARGB));
+		
+		PackedLDRColor3 d = new PackedLDRColor3();
+		
+		for(ChannelOrder order : ChannelOrder.values())
+		{
+			assertSame(d, d.setPacked(c.getPacked(order), order));
+			assertEquals(c.getPacked(), d.getPacked());
+		}
+		
+		assertSame(d, d.setPacked(0));
+		assertSame(d, d.set(c));
+		assertEquals(c.getPacked(), d.getPacked());
+		
+		assertEquals(0x00FFFFFF, d.setPacked(-1).getPacked());
+	}
+	
+	/**
+	 * This test ensures, that the string representation contains the components in unitspace.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void toStringTest()
+	{
+		PackedLDRColor3 c = new PackedLDRColor3(0, 128, 255);
+		
+		assertEquals("packedldrcolor3(r=0.0, g=0.5019608, b=1.0)", c.toString());
+	}
+}
\ No newline at end of file
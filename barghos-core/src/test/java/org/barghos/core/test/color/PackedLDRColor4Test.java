@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.color;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.color.ChannelOrder;
+import org.barghos.core.color.ColorPacking;
+import org.barghos.core.color.LDRColor4;
+import org.barghos.core.color.PackedLDRColor4;
+import org.barghos.core.tuple4.PTup4f;
+import org.barghos.core.tuple4.PTup4i;
+
+/**
+ * This class provides component tests for the class {@link PackedLDRColor4}.
+ * 
+ * @since 1.0.0.0
+ */
+class PackedLDRColor4Test
+{
+	/**
+	 * This test ensures, that the constructors set the components and clamp them to the valid range.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void ctorTest()
+	{
+		assertEquals(0, new PackedLDRColor4().getPacked());
+		
+		PackedLDRColor4 c = new PackedLDRColor4(10, 128, 255, 64);
+		
+		assertEquals(0x0A80FF40, c.getPacked());
+		assertEquals(0x0A80FF40, new PackedLDRColor4(c).getPacked());
+		
+		c = new PackedLDRColor4(PTup4f.gen(-1.0f, 0.5f, 2.0f, 1.0f));
+		
+		assertEquals(0, c.getR());
+		assertEquals(128, c.getG());
+		assertEquals(255, c.getB());
+		assertEquals(255, c.getA());
+		
+		c = new PackedLDRColor4(PTup4i.gen(-5, 128, 300, 255));
+		
+		assertEquals(0, c.getR());
+		assertEquals(128, c.getG());
+		assertEquals(255, c.getB());
+		assertEquals(255, c.getA());
+		
+		assertEquals(0xFFFFFFFF, new PackedLDRColor4(1000).getPacked());
+		assertEquals(0xFFFFFFFF, new PackedLDRColor4(1.5f).getPacked());
+		assertEquals(0, new PackedLDRColor4(-0.5f).getPacked());
+		assertEquals(0x01020304, new PackedLDRColor4(ChannelOrder.ARGB.pack(1, 2, 3, 4), ChannelOrder.ARGB).getPacked());
+	}
+	
+	/**
+	 * This test ensures, that the setters of single components only change their own component and
+	 * quantize like {@link LDRColor4}.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void settersTest()
+	{
+		PackedLDRColor4 c = new PackedLDRColor4(10, 128, 255, 64);
+		
+		assertSame(c, c.setR(300));
+		assertEquals(255, c.getR());
+		assertEquals(128, c.getG());
+		assertEquals(255, c.getB());
+		assertEquals(64, c.getA());
+		
+		c.setR(10);
+		
+		assertSame(c, c.setG(300));
+		assertEquals(10, c.getR());
+		assertEquals(255, c.getG());
+		assertEquals(255, c.getB());
+		assertEquals(64, c.getA());
+		
+		c.setG(128);
+		
+		assertSame(c, c.setB(300));
+		assertEquals(10, c.getR());
+		assertEquals(128, c.getG());
+		assertEquals(255, c.getB());
+		assertEquals(64, c.getA());
+		
+		c.setB(255);
+		
+		assertSame(c, c.setA(300));
+		assertEquals(10, c.getR());
+		assertEquals(128, c.getG());
+		assertEquals(255, c.getB());
+		assertEquals(255, c.getA());
+		
+		c.setA(64);
+		
+		c.setUnityR(0.25f);
+		
+		assertEquals(new LDRColor4(0.25f, 0.0f, 0.0f, 0.0f).getR(), c.getR());
+		assertEquals(0.25f * 255.0f, c.getR(), 0.5f);
+		
+		c.setX(-1.0f);
+		
+		assertEquals(0, c.getR());
+		assertEquals(0.0f, c.getUnityR());
+		
+		for(int i = 0; i < 256; i++)
+		{
+			c.setG(i);
+			
+			assertEquals(i, c.getG());
+			assertEquals(ColorPacking.fromChannel(i), c.getUnityG());
+			assertEquals(ColorPacking.fromChannel(i), c.getY());
+			
+			c.setY(c.getUnityG());
+			
+			assertEquals(i, c.getG());
+		}
+	}
+	
+	/**
+	 * This test ensures, that the packed int is read and written in the own layout and in channel orders.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void packedTest()
+	{
+		PackedLDRColor4 c = new PackedLDRColor4(10, 128, 255, 64);
+		
+		assertEquals(0x400A80FF, c.getPacked(ChannelOrder.ARGB));
+		
+		PackedLDRColor4 d = new PackedLDRColor4();
+		
+		for(ChannelOrder order : ChannelOrder.values())
+		{
+			assertSame(d, d.setPacked(c.getPacked(order), order));
+			assertEquals(c.getPacked(), d.getPacked());
+		}
+		
+		assertSame(d, d.setPacked(0));
+		assertSame(d, d.set(c));
+		assertEquals(c.getPacked(), d.getPacked());
+		
+		assertEquals(0xFFFFFFFF, d.setPacked(-1).getPacked());
+	}
+	
+	/**
+	 * This test ensures, that the string representation contains the components in unitspace.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void toStringTest()
+	{
+		PackedLDRColor4 c = new PackedLDRColor4(0, 128, 255, 255);
+		
+		assertEquals("packedldrcolor4(r=0.0, g=0.5019608, b=1.0, a=1.0)", c.toString());
+	}
+}
\ No newline at end of file
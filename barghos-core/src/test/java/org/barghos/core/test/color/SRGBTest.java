@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.color;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.color.ChannelOrder;
+import org.barghos.core.color.ColorPacking;
+import org.barghos.core.color.SRGB;
+
+/**
+ * This class provides component tests for the class {@link SRGB}.
+ * 
+ * @since 1.0.0.0
+ */
+class SRGBTest
+{
+	/**
+	 * This test ensures, that the exact conversions match known values and are inverse to each other.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void exactTest()
+	{
+		assertEquals(0.0, SRGB.toLinearExact(0.0));
+		assertEquals(1.0, SRGB.toLinearExact(1.0), 1e-12);
+		assertEquals(0.214041140, SRGB.toLinearExact(0.5), 1e-9);
+		assertEquals(0.04045 / 12.92, SRGB.toLinearExact(0.04045), 1e-15);
+		assertEquals(0.735356983, SRGB.toSRGBExact(0.5), 1e-9);
+		
+		for(int i = 0; i <= 1000; i++)
+		{
+			double x = i / 1000.0;
+			
+			assertEquals(x, SRGB.toSRGBExact(SRGB.toLinearExact(x)), 1e-6);
+		}
+	}
+	
+	/**
+	 * This test ensures, that the table conversions stay within their accuracy against the exact formula and
+	 * fall back to the exact formula outside the range 0 to 1.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void accuracyTest()
+	{
+		double maxLinear = 0.0;
+		double maxSRGB = 0.0;
+		
+		for(int i = 0; i <= 1000000; i++)
+		{
+			float x = i / 1000000.0f;
+			
+			maxLinear = Math.max(maxLinear, Math.abs(SRGB.toLinear(x) - SRGB.toLinearExact(x)));
+			maxSRGB = Math.max(maxSRGB, Math.abs(SRGB.toSRGB(x) - SRGB.toSRGBExact(x)));
+		}
+		
+		assertTrue(maxLinear < 1e-6, "toLinear error " + maxLinear);
+		assertTrue(maxSRGB < 5e-5, "toSRGB error " + maxSRGB);
+		
+		assertEquals((float)SRGB.toLinearExact(2.5), SRGB.toLinear(2.5f));
+		assertEquals((float)SRGB.toSRGBExact(4.0), SRGB.toSRGB(4.0f));
+		assertEquals((float)SRGB.toLinearExact(-0.5), SRGB.toLinear(-0.5f));
+		assertTrue(Float.isNaN(SRGB.toLinear(Float.NaN)));
+	}
+	
+	/**
+	 * This test ensures, that decoding 8-bit channels matches the exact formula and that encoding equals the
+	 * rounded exact formula, also directly at the rounding thresholds.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void channelTest()
+	{
+		for(int i = 0; i < 256; i++)
+		{
+			assertEquals((float)SRGB.toLinearExact(i / 255.0), SRGB.decode(i));
+			assertEquals(i, SRGB.encode(SRGB.decode(i)));
+			
+			if(i > 0)
+			{
+				float t = (float)SRGB.toLinearExact((i - 0.5) / 255.0);
+				
+				for(float x : new float[] { Math.nextDown(t), t, Math.nextUp(t) })
+				{
+					assertEquals(Math.round(SRGB.toSRGBExact(x) * 255.0), SRGB.encode(x), "encode " + x);
+				}
+			}
+		}
+		
+		for(int i = 0; i <= 1000000; i++)
+		{
+			float x = i / 1000000.0f;
+			
+			assertEquals(Math.round(SRGB.toSRGBExact(x) * 255.0), SRGB.encode(x));
+		}
+		
+		assertEquals(0, SRGB.encode(-1.0f));
+		assertEquals(0, SRGB.encode(Float.NaN));
+		assertEquals(255, SRGB.encode(3.0f));
+	}
+	
+	/**
+	 * This test ensures, that the bulk conversions between pixel and float buffers convert every color like the
+	 * single conversions, leave alpha unchanged and advance the positions, also for buffers converted in parallel.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void pixelBulkTest()
+	{
+		int count = 2 * SRGB.PARALLEL_THRESHOLD + 5;
+		
+		IntBuffer pixels = ByteBuffer.allocateDirect(count * 4).order(ByteOrder.nativeOrder()).asIntBuffer();
+		
+		for(int i = 0; i < count; i++) pixels.put(i * 0x9E3779B9);
+		
+		pixels.flip();
+		
+		for(ChannelOrder order : new ChannelOrder[] { ChannelOrder.RGBA, ChannelOrder.BGRA })
+		{
+			FloatBuffer linear = FloatBuffer.allocate(count * 4);
+			
+			assertSame(linear, SRGB.decode(pixels.duplicate(), linear, order));
+			assertEquals(count * 4, linear.position());
+			
+			for(int i = 0; i < count; i += 97)
+			{
+				int pixel = pixels.get(i);
+				
+				assertEquals(SRGB.decode(order.getR(pixel)), linear.get(i * 4));
+				assertEquals(SRGB.decode(order.getG(pixel)), linear.get(i * 4 + 1));
+				assertEquals(SRGB.decode(order.getB(pixel)), linear.get(i * 4 + 2));
+				assertEquals(ColorPacking.fromChannel(order.getA(pixel)), linear.get(i * 4 + 3));
+			}
+			
+			linear.flip();
+			
+			IntBuffer encoded = IntBuffer.allocate(count);
+			
+			assertSame(encoded, SRGB.encode(linear, encoded, order));
+			assertEquals(count, encoded.position());
+			assertEquals(count * 4, linear.position());
+			
+			for(int i = 0; i < count; i++)
+			{
+				assertEquals(pixels.get(i), encoded.get(i));
+			}
+		}
+		
+		assertThrows(BufferOverflowException.class, () -> SRGB.decode(pixels.duplicate(), FloatBuffer.allocate(4), ChannelOrder.RGBA));
+	}
+	
+	/**
+	 * This test ensures, that the bulk conversions of float buffers convert every component like the single
+	 * conversions, leave alpha unchanged and work in place.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void floatBulkTest()
+	{
+		int count = 2 * SRGB.PARALLEL_THRESHOLD + 3;
+		
+		float[] values = new float[count * 4];
+		
+		for(int i = 0; i < values.length; i++) values[i] = (i % 1001) / 1000.0f;
+		
+		FloatBuffer src = FloatBuffer.wrap(values.clone());
+		FloatBuffer dst = ByteBuffer.allocateDirect(values.length * 4).order(ByteOrder.nativeOrder()).asFloatBuffer();
+		
+		assertSame(dst, SRGB.toLinear(src, dst, 4));
+		assertEquals(values.length, src.position());
+		assertEquals(values.length, dst.position());
+		
+		for(int i = 0; i < values.length; i++)
+		{
+			assertEquals(i % 4 == 3 ? values[i] : SRGB.toLinear(values[i]), dst.get(i));
+		}
+		
+		FloatBuffer inPlace = FloatBuffer.wrap(values.clone(), 0, count * 3);
+		
+		assertSame(inPlace, SRGB.toSRGB(inPlace, inPlace, 3));
+		assertEquals(count * 3, inPlace.position());
+		
+		for(int i = 0; i < count * 3; i++)
+		{
+			assertEquals(SRGB.toSRGB(values[i]), inPlace.get(i));
+		}
+		
+		assertEquals(values[count * 3], inPlace.array()[count * 3]);
+		
+		assertThrows(IllegalArgumentException.class, () -> SRGB.toLinear(FloatBuffer.allocate(4), FloatBuffer.allocate(4), 2));
+		assertThrows(BufferOverflowException.class, () -> SRGB.toSRGB(FloatBuffer.allocate(8), FloatBuffer.allocate(4), 4));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.random.Tup3fRandom;
+import org.barghos.core.tuple3.Tup3f;
+import org.barghos.core.util.BufferUtils;
+
+/**
+ * This class provides component tests for the class {@link Tup3fRandom}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup3fRandomTest
+{
+	/**
+	 * The number of samples used by the tests.
+	 */
+	private static final int COUNT = 3 * Tup3fRandom.CHUNK_SIZE + 17;
+	
+	/**
+	 * This test ensures, that the results only depend on the seed and the sequence of fill operations
+	 * and not on the parallelism.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void determinismTest()
+	{
+		float[] sequential = new float[COUNT * 3];
+		float[] parallel = new float[COUNT * 3];
+		
+		Tup3fRandom a = new Tup3fRandom(42);
+		Tup3fRandom b = new Tup3fRandom(42).setParallel(true);
+		
+		assertTrue(b.isParallel());
+		
+		a.fill(Tup3fRandom.gaussian(0, 1), sequential, 0, COUNT);
+		b.fill(Tup3fRandom.gaussian(0, 1), parallel, 0, COUNT);
+		
+		assertArrayEquals(sequential, parallel);
+		
+		a.fill(Tup3fRandom.gaussian(0, 1), sequential, 0, COUNT);
+		
+		assertFalse(Arrays.equals(sequential, parallel));
+		
+		b.fill(Tup3fRandom.gaussian(0, 1), parallel, 0, COUNT);
+		
+		assertArrayEquals(sequential, parallel);
+		
+		a.setSeed(42).fill(Tup3fRandom.gaussian(0, 1), sequential, 0, COUNT);
+		
+		assertEquals(42, a.getSeed());
+		assertFalse(Arrays.equals(sequential, parallel));
+	}
+	
+	/**
+	 * This test ensures, that the interleaved, component and buffer storages receive the same samples.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void storagesTest()
+	{
+		float[] v = new Tup3fRandom(7).fill(Tup3fRandom.uniform(-1, 1), new float[COUNT * 3 + 3], 1, COUNT + 1);
+		
+		float[] x = new float[COUNT + 1];
+		float[] y = new float[COUNT + 1];
+		float[] z = new float[COUNT + 1];
+		
+		new Tup3fRandom(7).setParallel(true).fill(Tup3fRandom.uniform(-1, 1), x, y, z, 1, COUNT + 1);
+		
+		FloatBuffer buffer = BufferUtils.createFloatBuffer(COUNT * 3 + 1);
+		buffer.position(1);
+		
+		new Tup3fRandom(7).fill(Tup3fRandom.uniform(-1, 1), buffer);
+		
+		assertEquals(1, buffer.position());
+		
+		for(int i = 0; i < COUNT; i++)
+		{
+			assertEquals(v[3 + i * 3 + 0], x[i + 1]);
+			assertEquals(v[3 + i * 3 + 0], buffer.get(1 + i * 3 + 0));
+			assertEquals(v[3 + i * 3 + 1], y[i + 1]);
+			assertEquals(v[3 + i * 3 + 1], buffer.get(1 + i * 3 + 1));
+			assertEquals(v[3 + i * 3 + 2], z[i + 1]);
+			assertEquals(v[3 + i * 3 + 2], buffer.get(1 + i * 3 + 2));
+		}
+	}
+	
+	/**
+	 * This test ensures, that the samples of the distributions lie within their domains.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void distributionsTest()
+	{
+		Tup3fRandom random = new Tup3fRandom(1);
+		float[] v = new float[COUNT * 3];
+		
+		random.fill(Tup3fRandom.box(new Tup3f(-1, -2, -3), new Tup3f(1, 2, 3)), v, 0, COUNT);
+		
+		for(int i = 0; i < v.length; i += 3)
+		{
+			assertTrue(v[i] >= -1 && v[i] <= 1);
+			assertTrue(v[i + 1] >= -2 && v[i + 1] <= 2);
+			assertTrue(v[i + 2] >= -3 && v[i + 2] <= 3);
+		}
+		
+		random.fill(Tup3fRandom.sphere(2), v, 0, COUNT);
+		
+		for(int i = 0; i < v.length; i += 3)
+		{
+			assertEquals(2, Math.sqrt(v[i] * v[i] + v[i + 1] * v[i + 1] + v[i + 2] * v[i + 2]), 1e-5);
+		}
+		
+		random.fill(Tup3fRandom.ball(2), v, 0, COUNT);
+		
+		int inner = 0;
+		
+		for(int i = 0; i < v.length; i += 3)
+		{
+			double length = Math.sqrt(v[i] * v[i] + v[i + 1] * v[i + 1] + v[i + 2] * v[i + 2]);
+			
+			assertTrue(length <= 2.00001);
+			
+			if(length < 1) inner++;
+		}
+		
+		assertEquals(1.0 / 8, (double)inner / COUNT, 0.02);
+		
+		random.fill(Tup3fRandom.gaussian(3, 2), v, 0, COUNT);
+		
+		double sum = 0;
+		double sumSq = 0;
+		
+		for(int i = 0; i < v.length; i++)
+		{
+			sum += v[i];
+			sumSq += v[i] * v[i];
+		}
+		
+		double mean = sum / v.length;
+		
+		assertEquals(3, mean, 0.05);
+		assertEquals(2, Math.sqrt(sumSq / v.length - mean * mean), 0.05);
+	}
+	
+	/**
+	 * This test ensures, that every component of the gaussian distribution has the requested mean
+	 * and standard deviation, also if the sample array has no entry to carry values over.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void gaussianTest()
+	{
+		Tup3fRandom random = new Tup3fRandom(7);
+		float[] v = new float[COUNT * 3];
+		
+		random.fill(Tup3fRandom.gaussian(3, 2), v, 0, COUNT);
+		
+		for(int c = 0; c < 3; c++)
+		{
+			double sum = 0;
+			double sumSq = 0;
+			
+			for(int i = c; i < v.length; i += 3)
+			{
+				sum += v[i];
+				sumSq += v[i] * v[i];
+			}
+			
+			double mean = sum / COUNT;
+			
+			assertEquals(3, mean, 0.05);
+			assertEquals(2, Math.sqrt(sumSq / COUNT - mean * mean), 0.05);
+		}
+		
+		float[] sample = new float[3];
+		
+		Tup3fRandom.gaussian(3, 2).sample(new SplittableRandom(7), sample);
+		
+		for(int c = 0; c < 3; c++)
+			assertTrue(Double.isFinite(sample[c]));
+	}
+}
\ No newline at end of file
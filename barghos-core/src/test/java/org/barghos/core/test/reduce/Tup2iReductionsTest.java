@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.reduce;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.IntBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple2.Tup2dR;
+import org.barghos.core.api.tuple2.Tup2iR;
+import org.barghos.core.api.tuple2.Tup2lR;
+import org.barghos.core.reduce.Tup2iReductions;
+import org.barghos.core.tuple2.Tup2d;
+import org.barghos.core.tuple2.Tup2i;
+import org.barghos.core.tuple2.Tup2l;
+
+/**
+ * This class provides component tests for the class {@link Tup2iReductions}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup2iReductionsTest
+{
+	/**
+	 * This test ensures, that the reductions over empty inputs return the documented neutral values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void emptyTest()
+	{
+		int[] v = new int[0];
+		
+		assertEquals(new Tup2i(Integer.MAX_VALUE), Tup2iReductions.min(v, 0, 0, new Tup2i()));
+		assertEquals(new Tup2i(Integer.MIN_VALUE), Tup2iReductions.max(v, 0, 0, new Tup2i()));
+		assertEquals(new Tup2l(), Tup2iReductions.sum(new ArrayList<Tup2iR>(), new Tup2l()));
+		assertTrue(Double.isNaN(Tup2iReductions.mean(IntBuffer.allocate(0), new Tup2d()).getX()));
+		assertTrue(Double.isNaN(Tup2iReductions.variance(IntBuffer.allocate(0), new Tup2d()).getX()));
+	}
+	
+	/**
+	 * This test ensures, that the sequential and parallel reductions over arrays, lists and buffers
+	 * match a straight forward calculation.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void reduceTest()
+	{
+		for(int count : new int[] { 1, 1000, 100000 })
+		{
+			Random random = new Random(count);
+			
+			int[] v = new int[(count + 1) * 2];
+			List<Tup2iR> list = new ArrayList<>();
+			
+			for(int i = 2; i < v.length; i++)
+				v[i] = random.nextInt(2000) - 1000;
+			
+			for(int i = 1; i <= count; i++)
+				list.add(new Tup2i(v[i * 2 + 0], v[i * 2 + 1]));
+			
+			IntBuffer buffer = IntBuffer.wrap(v);
+			buffer.position(2);
+			
+			double[] min = new double[2];
+			double[] max = new double[2];
+			double[] sum = new double[2];
+			double[] mean = new double[2];
+			double[] variance = new double[2];
+			
+			for(int j = 0; j < 2; j++)
+			{
+				min[j] = v[2 + j];
+				max[j] = v[2 + j];
+				
+				for(int i = 1; i <= count; i++)
+				{
+					min[j] = Math.min(min[j], v[i * 2 + j]);
+					max[j] = Math.max(max[j], v[i * 2 + j]);
+					sum[j] += v[i * 2 + j];
+				}
+				
+				mean[j] = sum[j] / count;
+				
+				for(int i = 1; i <= count; i++)
+					variance[j] += (v[i * 2 + j] - mean[j]) * (v[i * 2 + j] - mean[j]);
+				
+				variance[j] /= count;
+			}
+			
+			assertArrayEquals(min, components(Tup2iReductions.min(v, 1, count + 1, new Tup2i())));
+			assertArrayEquals(max, components(Tup2iReductions.max(list, new Tup2i())));
+			
+			Tup2i bMin = new Tup2i();
+			Tup2i bMax = new Tup2i();
+			
+			assertSame(bMin, Tup2iReductions.bounds(buffer, bMin, bMax));
+			assertArrayEquals(min, components(bMin));
+			assertArrayEquals(max, components(bMax));
+			assertEquals(2, buffer.position());
+			
+			assertArrayEquals(sum, components(Tup2iReductions.sum(v, 1, count + 1, new Tup2l())));
+			assertArrayEquals(sum, components(Tup2iReductions.sum(list, new Tup2l())));
+			assertArrayEquals(sum, components(Tup2iReductions.sum(buffer, new Tup2l())));
+			
+			assertArrayEquals(mean, components(Tup2iReductions.mean(v, 1, count + 1, new Tup2d())), 0.000001);
+			assertArrayEquals(mean, components(Tup2iReductions.mean(list, new Tup2d())), 0.000001);
+			assertArrayEquals(mean, components(Tup2iReductions.mean(buffer, new Tup2d())), 0.000001);
+			
+			assertArrayEquals(variance, components(Tup2iReductions.variance(v, 1, count + 1, new Tup2d())), 0.001);
+			assertArrayEquals(variance, components(Tup2iReductions.variance(list, new Tup2d())), 0.001);
+			assertArrayEquals(variance, components(Tup2iReductions.variance(buffer, new Tup2d())), 0.001);
+		}
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup2iR t)
+	{
+		return new double[] { t.getX(), t.getY() };
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup2lR t)
+	{
+		return new double[] { t.getX(), t.getY() };
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup2dR t)
+	{
+		return new double[] { t.getX(), t.getY() };
+	}
+}
\ No newline at end of file
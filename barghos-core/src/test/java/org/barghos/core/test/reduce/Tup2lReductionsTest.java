@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.reduce;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.LongBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple2.Tup2dR;
+import org.barghos.core.api.tuple2.Tup2lR;
+import org.barghos.core.reduce.Tup2lReductions;
+import org.barghos.core.tuple2.Tup2d;
+import org.barghos.core.tuple2.Tup2l;
+
+/**
+ * This class provides component tests for the class {@link Tup2lReductions}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup2lReductionsTest
+{
+	/**
+	 * This test ensures, that the reductions over empty inputs return the documented neutral values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void emptyTest()
+	{
+		long[] v = new long[0];
+		
+		assertEquals(new Tup2l(Long.MAX_VALUE), Tup2lReductions.min(v, 0, 0, new Tup2l()));
+		assertEquals(new Tup2l(Long.MIN_VALUE), Tup2lReductions.max(v, 0, 0, new Tup2l()));
+		assertEquals(new Tup2l(), Tup2lReductions.sum(new ArrayList<Tup2lR>(), new Tup2l()));
+		assertTrue(Double.isNaN(Tup2lReductions.mean(LongBuffer.allocate(0), new Tup2d()).getX()));
+		assertTrue(Double.isNaN(Tup2lReductions.variance(LongBuffer.allocate(0), new Tup2d()).getX()));
+	}
+	
+	/**
+	 * This test ensures, that the sequential and parallel reductions over arrays, lists and buffers
+	 * match a straight forward calculation.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void reduceTest()
+	{
+		for(int count : new int[] { 1, 1000, 100000 })
+		{
+			Random random = new Random(count);
+			
+			long[] v = new long[(count + 1) * 2];
+			List<Tup2lR> list = new ArrayList<>();
+			
+			for(int i = 2; i < v.length; i++)
+				v[i] = random.nextInt(2000) - 1000 + (1L << 33);
+			
+			for(int i = 1; i <= count; i++)
+				list.add(new Tup2l(v[i * 2 + 0], v[i * 2 + 1]));
+			
+			LongBuffer buffer = LongBuffer.wrap(v);
+			buffer.position(2);
+			
+			double[] min = new double[2];
+			double[] max = new double[2];
+			double[] sum = new double[2];
+			double[] mean = new double[2];
+			double[] variance = new double[2];
+			
+			for(int j = 0; j < 2; j++)
+			{
+				min[j] = v[2 + j];
+				max[j] = v[2 + j];
+				
+				for(int i = 1; i <= count; i++)
+				{
+					min[j] = Math.min(min[j], v[i * 2 + j]);
+					max[j] = Math.max(max[j], v[i * 2 + j]);
+					sum[j] += v[i * 2 + j];
+				}
+				
+				mean[j] = sum[j] / count;
+				
+				for(int i = 1; i <= count; i++)
+					variance[j] += (v[i * 2 + j] - mean[j]) * (v[i * 2 + j] - mean[j]);
+				
+				variance[j] /= count;
+			}
+			
+			assertArrayEquals(min, components(Tup2lReductions.min(v, 1, count + 1, new Tup2l())));
+			assertArrayEquals(max, components(Tup2lReductions.max(list, new Tup2l())));
+			
+			Tup2l bMin = new Tup2l();
+			Tup2l bMax = new Tup2l();
+			
+			assertSame(bMin, Tup2lReductions.bounds(buffer, bMin, bMax));
+			assertArrayEquals(min, components(bMin));
+			assertArrayEquals(max, components(bMax));
+			assertEquals(2, buffer.position());
+			
+			assertArrayEquals(sum, components(Tup2lReductions.sum(v, 1, count + 1, new Tup2l())));
+			assertArrayEquals(sum, components(Tup2lReductions.sum(list, new Tup2l())));
+			assertArrayEquals(sum, components(Tup2lReductions.sum(buffer, new Tup2l())));
+			
+			assertArrayEquals(mean, components(Tup2lReductions.mean(v, 1, count + 1, new Tup2d())), 0.0001);
+			assertArrayEquals(mean, components(Tup2lReductions.mean(list, new Tup2d())), 0.0001);
+			assertArrayEquals(mean, components(Tup2lReductions.mean(buffer, new Tup2d())), 0.0001);
+			
+			assertArrayEquals(variance, components(Tup2lReductions.variance(v, 1, count + 1, new Tup2d())), 0.01);
+			assertArrayEquals(variance, components(Tup2lReductions.variance(list, new Tup2d())), 0.01);
+			assertArrayEquals(variance, components(Tup2lReductions.variance(buffer, new Tup2d())), 0.01);
+		}
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup2lR t)
+	{
+		return new double[] { t.getX(), t.getY() };
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup2dR t)
+	{
+		return new double[] { t.getX(), t.getY() };
+	}
+}
\ No newline at end of file
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.reduce;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import java.nio.DoubleBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple3.Tup3dR;
+import org.barghos.core.reduce.Tup3dReductions;
+import org.barghos.core.tuple3.Tup3d;
+
+/**
+ * This class provides component tests for the class {@link Tup3dReductions}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup3dReductionsTest
+{
+	/**
+	 * This test ensures, that the reductions over empty inputs return the documented neutral values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void emptyTest()
+	{
+		double[] v = new double[0];
+		
+		assertEquals(new Tup3d(Double.POSITIVE_INFINITY), Tup3dReductions.min(v, 0, 0, new Tup3d()));
+		assertEquals(new Tup3d(Double.NEGATIVE_INFINITY), Tup3dReductions.max(v, 0, 0, new Tup3d()));
+		assertEquals(new Tup3d(), Tup3dReductions.sum(new ArrayList<Tup3dR>(), new Tup3d()));
+		assertTrue(Double.isNaN(Tup3dReductions.mean(DoubleBuffer.allocate(0), new Tup3d()).getX()));
+		assertTrue(Double.isNaN(Tup3dReductions.variance(DoubleBuffer.allocate(0), new Tup3d()).getX()));
+	}
+	
+	/**
+	 * This test ensures, that the sequential and parallel reductions over arrays, lists and buffers
+	 * match a straight forward calculation.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void reduceTest()
+	{
+		for(int count : new int[] { 1, 1000, 100000 })
+		{
+			Random random = new Random(count);
+			
+			double[] v = new double[(count + 1) * 3];
+			List<Tup3dR> list = new ArrayList<>();
+			
+			for(int i = 3; i < v.length; i++)
+				v[i] = random.nextDouble() * 200.0 - 100.0;
+			
+			for(int i = 1; i <= count; i++)
+				list.add(new Tup3d(v[i * 3 + 0], v[i * 3 + 1], v[i * 3 + 2]));
+			
+			DoubleBuffer buffer = DoubleBuffer.wrap(v);
+			buffer.position(3);
+			
+			double[] min = new double[3];
+			double[] max = new double[3];
+			double[] sum = new double[3];
+			double[] mean = new double[3];
+			double[] variance = new double[3];
+			
+			for(int j = 0; j < 3; j++)
+			{
+				min[j] = v[3 + j];
+				max[j] = v[3 + j];
+				
+				for(int i = 1; i <= count; i++)
+				{
+					min[j] = Math.min(min[j], v[i * 3 + j]);
+					max[j] = Math.max(max[j], v[i * 3 + j]);
+					sum[j] += v[i * 3 + j];
+				}
+				
+				mean[j] = sum[j] / count;
+				
+				for(int i = 1; i <= count; i++)
+					variance[j] += (v[i * 3 + j] - mean[j]) * (v[i * 3 + j] - mean[j]);
+				
+				variance[j] /= count;
+			}
+			
+			assertArrayEquals(min, components(Tup3dReductions.min(v, 1, count + 1, new Tup3d())));
+			assertArrayEquals(max, components(Tup3dReductions.max(list, new Tup3d())));
+			
+			Tup3d bMin = new Tup3d();
+			Tup3d bMax = new Tup3d();
+			
+			assertSame(bMin, Tup3dReductions.bounds(buffer, bMin, bMax));
+			assertArrayEquals(min, components(bMin));
+			assertArrayEquals(max, components(bMax));
+			assertEquals(3, buffer.position());
+			
+			assertArrayEquals(sum, components(Tup3dReductions.sum(v, 1, count + 1, new Tup3d())), 0.000001);
+			assertArrayEquals(sum, components(Tup3dReductions.sum(list, new Tup3d())), 0.000001);
+			assertArrayEquals(sum, components(Tup3dReductions.sum(buffer, new Tup3d())), 0.000001);
+			
+			assertArrayEquals(mean, components(Tup3dReductions.mean(v, 1, count + 1, new Tup3d())), 0.000001);
+			assertArrayEquals(mean, components(Tup3dReductions.mean(list, new Tup3d())), 0.000001);
+			assertArrayEquals(mean, components(Tup3dReductions.mean(buffer, new Tup3d())), 0.000001);
+			
+			assertArrayEquals(variance, components(Tup3dReductions.variance(v, 1, count + 1, new Tup3d())), 0.0001);
+			assertArrayEquals(variance, components(Tup3dReductions.variance(list, new Tup3d())), 0.0001);
+			assertArrayEquals(variance, components(Tup3dReductions.variance(buffer, new Tup3d())), 0.0001);
+		}
+	}
+	
+	/**
+	 * This test ensures, that the compensated sum is exact for cancelling values, that the pairwise sum is close to the exact sum
+	 * of many values and that arrays, lists and buffers give bitwise identical results.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void accurateSumTest()
+	{
+		int count = 300000;
+		Random random = new Random(5);
+		
+		double[] v = new double[count * 3];
+		List<Tup3dR> list = new ArrayList<>();
+		
+		for(int i = 0; i < count; i++)
+		{
+			for(int j = 0; j < 3; j++)
+			{
+				v[i * 3 + j] = i % 2 == 0 ? random.nextDouble() : 1.0e15 * (i % 4 == 1 ? 1.0 : -1.0);
+			}
+			
+			list.add(new Tup3d(v[i * 3 + 0], v[i * 3 + 1], v[i * 3 + 2]));
+		}
+		
+		DoubleBuffer buffer = DoubleBuffer.wrap(v);
+		
+		double[] exact = exactSum(v, count);
+		double[] plain = components(Tup3dReductions.sum(v, 0, count, new Tup3d()));
+		double[] compensated = components(Tup3dReductions.compensatedSum(v, 0, count, new Tup3d()));
+		
+		for(int j = 0; j < 3; j++)
+		{
+			assertTrue(Math.abs(plain[j] - exact[j]) > 1.0);
+			assertEquals(exact[j], compensated[j], Math.ulp(exact[j]));
+		}
+		
+		assertArrayEquals(compensated, components(Tup3dReductions.compensatedSum(list, new Tup3d())));
+		assertArrayEquals(compensated, components(Tup3dReductions.compensatedSum(buffer, new Tup3d())));
+		
+		double[] w = new double[count * 3];
+		
+		for(int i = 0; i < w.length; i++) w[i] = 0.1 + random.nextDouble() * 0.001;
+		
+		exact = exactSum(w, count);
+		double[] pairwise = components(Tup3dReductions.pairwiseSum(w, 0, count, new Tup3d()));
+		
+		for(int j = 0; j < 3; j++)
+		{
+			assertEquals(exact[j], pairwise[j], 2 * Math.ulp(exact[j]));
+		}
+		
+		list.clear();
+		
+		for(int i = 0; i < count; i++) list.add(new Tup3d(w[i * 3 + 0], w[i * 3 + 1], w[i * 3 + 2]));
+		
+		DoubleBuffer wBuffer = DoubleBuffer.wrap(w);
+		
+		assertArrayEquals(pairwise, components(Tup3dReductions.pairwiseSum(list, new Tup3d())));
+		assertArrayEquals(pairwise, components(Tup3dReductions.pairwiseSum(wBuffer, new Tup3d())));
+		
+		assertArrayEquals(new double[3], components(Tup3dReductions.compensatedSum(v, 0, 0, new Tup3d())));
+		assertArrayEquals(new double[3], components(Tup3dReductions.pairwiseSum(v, 0, 0, new Tup3d())));
+	}
+	
+	/**
+	 * Returns the exactly calculated and then rounded componentwise sum of the interleaved components.
+	 * 
+	 * @param v The interleaved components.
+	 * @param count The number of tuples.
+	 * 
+	 * @return The componentwise sum.
+	 */
+	private static double[] exactSum(double[] v, int count)
+	{
+		double[] result = new double[3];
+		
+		for(int j = 0; j < 3; j++)
+		{
+			BigDecimal sum = BigDecimal.ZERO;
+			
+			for(int i = 0; i < count; i++) sum = sum.add(new BigDecimal(v[i * 3 + j]));
+			
+			result[j] = sum.doubleValue();
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup3dR t)
+	{
+		return new double[] { t.getX(), t.getY(), t.getZ() };
+	}
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.reduce;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.FloatBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple3.Tup3fR;
+import org.barghos.core.reduce.Tup3fReductions;
+import org.barghos.core.tuple3.Tup3f;
+
+/**
+ * This class provides component tests for the class {@link Tup3fReductions}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup3fReductionsTest
+{
+	/**
+	 * This test ensures, that the reductions over empty inputs return the documented neutral values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void emptyTest()
+	{
+		float[] v = new float[0];
+		
+		assertEquals(new Tup3f(Float.POSITIVE_INFINITY), Tup3fReductions.min(v, 0, 0, new Tup3f()));
+		assertEquals(new Tup3f(Float.NEGATIVE_INFINITY), Tup3fReductions.max(v, 0, 0, new Tup3f()));
+		assertEquals(new Tup3f(), Tup3fReductions.sum(new ArrayList<Tup3fR>(), new Tup3f()));
+		assertTrue(Double.isNaN(Tup3fReductions.mean(FloatBuffer.allocate(0), new Tup3f()).getX()));
+		assertTrue(Double.isNaN(Tup3fReductions.variance(FloatBuffer.allocate(0), new Tup3f()).getX()));
+	}
+	
+	/**
+	 * This test ensures, that the sequential and parallel reductions over arrays, lists and buffers
+	 * match a straight forward calculation.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void reduceTest()
+	{
+		for(int count : new int[] { 1, 1000, 100000 })
+		{
+			Random random = new Random(count);
+			
+			float[] v = new float[(count + 1) * 3];
+			List<Tup3fR> list = new ArrayList<>();
+			
+			for(int i = 3; i < v.length; i++)
+				v[i] = (float)(random.nextDouble() * 200.0 - 100.0);
+			
+			for(int i = 1; i <= count; i++)
+				list.add(new Tup3f(v[i * 3 + 0], v[i * 3 + 1], v[i * 3 + 2]));
+			
+			FloatBuffer buffer = FloatBuffer.wrap(v);
+			buffer.position(3);
+			
+			double[] min = new double[3];
+			double[] max = new double[3];
+			double[] sum = new double[3];
+			double[] mean = new double[3];
+			double[] variance = new double[3];
+			
+			for(int j = 0; j < 3; j++)
+			{
+				min[j] = v[3 + j];
+				max[j] = v[3 + j];
+				
+				for(int i = 1; i <= count; i++)
+				{
+					min[j] = Math.min(min[j], v[i * 3 + j]);
+					max[j] = Math.max(max[j], v[i * 3 + j]);
+					sum[j] += v[i * 3 + j];
+				}
+				
+				mean[j] = sum[j] / count;
+				
+				for(int i = 1; i <= count; i++)
+					variance[j] += (v[i * 3 + j] - mean[j]) * (v[i * 3 + j] - mean[j]);
+				
+				variance[j] /= count;
+			}
+			
+			assertArrayEquals(min, components(Tup3fReductions.min(v, 1, count + 1, new Tup3f())));
+			assertArrayEquals(max, components(Tup3fReductions.max(list, new Tup3f())));
+			
+			Tup3f bMin = new Tup3f();
+			Tup3f bMax = new Tup3f();
+			
+			assertSame(bMin, Tup3fReductions.bounds(buffer, bMin, bMax));
+			assertArrayEquals(min, components(bMin));
+			assertArrayEquals(max, components(bMax));
+			assertEquals(3, buffer.position());
+			
+			assertArrayEquals(sum, components(Tup3fReductions.sum(v, 1, count + 1, new Tup3f())), count * 0.01);
+			assertArrayEquals(sum, components(Tup3fReductions.sum(list, new Tup3f())), count * 0.01);
+			assertArrayEquals(sum, components(Tup3fReductions.sum(buffer, new Tup3f())), count * 0.01);
+			
+			assertArrayEquals(mean, components(Tup3fReductions.mean(v, 1, count + 1, new Tup3f())), 0.01);
+			assertArrayEquals(mean, components(Tup3fReductions.mean(list, new Tup3f())), 0.01);
+			assertArrayEquals(mean, components(Tup3fReductions.mean(buffer, new Tup3f())), 0.01);
+			
+			assertArrayEquals(variance, components(Tup3fReductions.variance(v, 1, count + 1, new Tup3f())), 1.0);
+			assertArrayEquals(variance, components(Tup3fReductions.variance(list, new Tup3f())), 1.0);
+			assertArrayEquals(variance, components(Tup3fReductions.variance(buffer, new Tup3f())), 1.0);
+		}
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup3fR t)
+	{
+		return new double[] { t.getX(), t.getY(), t.getZ() };
+	}
+}
\ No newline at end of file
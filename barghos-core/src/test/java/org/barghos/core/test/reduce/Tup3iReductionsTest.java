@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.reduce;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.IntBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple3.Tup3dR;
+import org.barghos.core.api.tuple3.Tup3iR;
+import org.barghos.core.api.tuple3.Tup3lR;
+import org.barghos.core.reduce.Tup3iReductions;
+import org.barghos.core.tuple3.Tup3d;
+import org.barghos.core.tuple3.Tup3i;
+import org.barghos.core.tuple3.Tup3l;
+
+/**
+ * This class provides component tests for the class {@link Tup3iReductions}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup3iReductionsTest
+{
+	/**
+	 * This test ensures, that the reductions over empty inputs return the documented neutral values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void emptyTest()
+	{
+		int[] v = new int[0];
+		
+		assertEquals(new Tup3i(Integer.MAX_VALUE), Tup3iReductions.min(v, 0, 0, new Tup3i()));
+		assertEquals(new Tup3i(Integer.MIN_VALUE), Tup3iReductions.max(v, 0, 0, new Tup3i()));
+		assertEquals(new Tup3l(), Tup3iReductions.sum(new ArrayList<Tup3iR>(), new Tup3l()));
+		assertTrue(Double.isNaN(Tup3iReductions.mean(IntBuffer.allocate(0), new Tup3d()).getX()));
+		assertTrue(Double.isNaN(Tup3iReductions.variance(IntBuffer.allocate(0), new Tup3d()).getX()));
+	}
+	
+	/**
+	 * This test ensures, that the sequential and parallel reductions over arrays, lists and buffers
+	 * match a straight forward calculation.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void reduceTest()
+	{
+		for(int count : new int[] { 1, 1000, 100000 })
+		{
+			Random random = new Random(count);
+			
+			int[] v = new int[(count + 1) * 3];
+			List<Tup3iR> list = new ArrayList<>();
+			
+			for(int i = 3; i < v.length; i++)
+				v[i] = random.nextInt(2000) - 1000;
+			
+			for(int i = 1; i <= count; i++)
+				list.add(new Tup3i(v[i * 3 + 0], v[i * 3 + 1], v[i * 3 + 2]));
+			
+			IntBuffer buffer = IntBuffer.wrap(v);
+			buffer.position(3);
+			
+			double[] min = new double[3];
+			double[] max = new double[3];
+			double[] sum = new double[3];
+			double[] mean = new double[3];
+			double[] variance = new double[3];
+			
+			for(int j = 0; j < 3; j++)
+			{
+				min[j] = v[3 + j];
+				max[j] = v[3 + j];
+				
+				for(int i = 1; i <= count; i++)
+				{
+					min[j] = Math.min(min[j], v[i * 3 + j]);
+					max[j] = Math.max(max[j], v[i * 3 + j]);
+					sum[j] += v[i * 3 + j];
+				}
+				
+				mean[j] = sum[j] / count;
+				
+				for(int i = 1; i <= count; i++)
+					variance[j] += (v[i * 3 + j] - mean[j]) * (v[i * 3 + j] - mean[j]);
+				
+				variance[j] /= count;
+			}
+			
+			assertArrayEquals(min, components(Tup3iReductions.min(v, 1, count + 1, new Tup3i())));
+			assertArrayEquals(max, components(Tup3iReductions.max(list, new Tup3i())));
+			
+			Tup3i bMin = new Tup3i();
+			Tup3i bMax = new Tup3i();
+			
+			assertSame(bMin, Tup3iReductions.bounds(buffer, bMin, bMax));
+			assertArrayEquals(min, components(bMin));
+			assertArrayEquals(max, components(bMax));
+			assertEquals(3, buffer.position());
+			
+			assertArrayEquals(sum, components(Tup3iReductions.sum(v, 1, count + 1, new Tup3l())));
+			assertArrayEquals(sum, components(Tup3iReductions.sum(list, new Tup3l())));
+			assertArrayEquals(sum, components(Tup3iReductions.sum(buffer, new Tup3l())));
+			
+			assertArrayEquals(mean, components(Tup3iReductions.mean(v, 1, count + 1, new Tup3d())), 0.000001);
+			assertArrayEquals(mean, components(Tup3iReductions.mean(list, new Tup3d())), 0.000001);
+			assertArrayEquals(mean, components(Tup3iReductions.mean(buffer, new Tup3d())), 0.000001);
+			
+			assertArrayEquals(variance, components(Tup3iReductions.variance(v, 1, count + 1, new Tup3d())), 0.001);
+			assertArrayEquals(variance, components(Tup3iReductions.variance(list, new Tup3d())), 0.001);
+			assertArrayEquals(variance, components(Tup3iReductions.variance(buffer, new Tup3d())), 0.001);
+		}
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup3iR t)
+	{
+		return new double[] { t.getX(), t.getY(), t.getZ() };
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup3lR t)
+	{
+		return new double[] { t.getX(), t.getY(), t.getZ() };
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup3dR t)
+	{
+		return new double[] { t.getX(), t.getY(), t.getZ() };
+	}
+}
\ No newline at end of file
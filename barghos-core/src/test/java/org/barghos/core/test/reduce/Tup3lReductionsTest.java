@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.reduce;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.LongBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple3.Tup3dR;
+import org.barghos.core.api.tuple3.Tup3lR;
+import org.barghos.core.reduce.Tup3lReductions;
+import org.barghos.core.tuple3.Tup3d;
+import org.barghos.core.tuple3.Tup3l;
+
+/**
+ * This class provides component tests for the class {@link Tup3lReductions}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup3lReductionsTest
+{
+	/**
+	 * This test ensures, that the reductions over empty inputs return the documented neutral values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void emptyTest()
+	{
+		long[] v = new long[0];
+		
+		assertEquals(new Tup3l(Long.MAX_VALUE), Tup3lReductions.min(v, 0, 0, new Tup3l()));
+		assertEquals(new Tup3l(Long.MIN_VALUE), Tup3lReductions.max(v, 0, 0, new Tup3l()));
+		assertEquals(new Tup3l(), Tup3lReductions.sum(new ArrayList<Tup3lR>(), new Tup3l()));
+		assertTrue(Double.isNaN(Tup3lReductions.mean(LongBuffer.allocate(0), new Tup3d()).getX()));
+		assertTrue(Double.isNaN(Tup3lReductions.variance(LongBuffer.allocate(0), new Tup3d()).getX()));
+	}
+	
+	/**
+	 * This test ensures, that the sequential and parallel reductions over arrays, lists and buffers
+	 * match a straight forward calculation.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void reduceTest()
+	{
+		for(int count : new int[] { 1, 1000, 100000 })
+		{
+			Random random = new Random(count);
+			
+			long[] v = new long[(count + 1) * 3];
+			List<Tup3lR> list = new ArrayList<>();
+			
+			for(int i = 3; i < v.length; i++)
+				v[i] = random.nextInt(2000) - 1000 + (1L << 33);
+			
+			for(int i = 1; i <= count; i++)
+				list.add(new Tup3l(v[i * 3 + 0], v[i * 3 + 1], v[i * 3 + 2]));
+			
+			LongBuffer buffer = LongBuffer.wrap(v);
+			buffer.position(3);
+			
+			double[] min = new double[3];
+			double[] max = new double[3];
+			double[] sum = new double[3];
+			double[] mean = new double[3];
+			double[] variance = new double[3];
+			
+			for(int j = 0; j < 3; j++)
+			{
+				min[j] = v[3 + j];
+				max[j] = v[3 + j];
+				
+				for(int i = 1; i <= count; i++)
+				{
+					min[j] = Math.min(min[j], v[i * 3 + j]);
+					max[j] = Math.max(max[j], v[i * 3 + j]);
+					sum[j] += v[i * 3 + j];
+				}
+				
+				mean[j] = sum[j] / count;
+				
+				for(int i = 1; i <= count; i++)
+					variance[j] += (v[i * 3 + j] - mean[j]) * (v[i * 3 + j] - mean[j]);
+				
+				variance[j] /= count;
+			}
+			
+			assertArrayEquals(min, components(Tup3lReductions.min(v, 1, count + 1, new Tup3l())));
+			assertArrayEquals(max, components(Tup3lReductions.max(list, new Tup3l())));
+			
+			Tup3l bMin = new Tup3l();
+			Tup3l bMax = new Tup3l();
+			
+			assertSame(bMin, Tup3lReductions.bounds(buffer, bMin, bMax));
+			assertArrayEquals(min, components(bMin));
+			assertArrayEquals(max, components(bMax));
+			assertEquals(3, buffer.position());
+			
+			assertArrayEquals(sum, components(Tup3lReductions.sum(v, 1, count + 1, new Tup3l())));
+			assertArrayEquals(sum, components(Tup3lReductions.sum(list, new Tup3l())));
+			assertArrayEquals(sum, components(Tup3lReductions.sum(buffer, new Tup3l())));
+			
+			assertArrayEquals(mean, components(Tup3lReductions.mean(v, 1, count + 1, new Tup3d())), 0.0001);
+			assertArrayEquals(mean, components(Tup3lReductions.mean(list, new Tup3d())), 0.0001);
+			assertArrayEquals(mean, components(Tup3lReductions.mean(buffer, new Tup3d())), 0.0001);
+			
+			assertArrayEquals(variance, components(Tup3lReductions.variance(v, 1, count + 1, new Tup3d())), 0.01);
+			assertArrayEquals(variance, components(Tup3lReductions.variance(list, new Tup3d())), 0.01);
+			assertArrayEquals(variance, components(Tup3lReductions.variance(buffer, new Tup3d())), 0.01);
+		}
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup3lR t)
+	{
+		return new double[] { t.getX(), t.getY(), t.getZ() };
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup3dR t)
+	{
+		return new double[] { t.getX(), t.getY(), t.getZ() };
+	}
+}
\ No newline at end of file
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.reduce;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import java.nio.DoubleBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple4.Tup4dR;
+import org.barghos.core.reduce.Tup4dReductions;
+import org.barghos.core.tuple4.Tup4d;
+
+/**
+ * This class provides component tests for the class {@link Tup4dReductions}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup4dReductionsTest
+{
+	/**
+	 * This test ensures, that the reductions over empty inputs return the documented neutral values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void emptyTest()
+	{
+		double[] v = new double[0];
+		
+		assertEquals(new Tup4d(Double.POSITIVE_INFINITY), Tup4dReductions.min(v, 0, 0, new Tup4d()));
+		assertEquals(new Tup4d(Double.NEGATIVE_INFINITY), Tup4dReductions.max(v, 0, 0, new Tup4d()));
+		assertEquals(new Tup4d(), Tup4dReductions.sum(new ArrayList<Tup4dR>(), new Tup4d()));
+		assertTrue(Double.isNaN(Tup4dReductions.mean(DoubleBuffer.allocate(0), new Tup4d()).getX()));
+		assertTrue(Double.isNaN(Tup4dReductions.variance(DoubleBuffer.allocate(0), new Tup4d()).getX()));
+	}
+	
+	/**
+	 * This test ensures, that the sequential and parallel reductions over arrays, lists and buffers
+	 * match a straight forward calculation.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void reduceTest()
+	{
+		for(int count : new int[] { 1, 1000, 100000 })
+		{
+			Random random = new Random(count);
+			
+			double[] v = new double[(count + 1) * 4];
+			List<Tup4dR> list = new ArrayList<>();
+			
+			for(int i = 4; i < v.length; i++)
+				v[i] = random.nextDouble() * 200.0 - 100.0;
+			
+			for(int i = 1; i <= count; i++)
+				list.add(new Tup4d(v[i * 4 + 0], v[i * 4 + 1], v[i * 4 + 2], v[i * 4 + 3]));
+			
+			DoubleBuffer buffer = DoubleBuffer.wrap(v);
+			buffer.position(4);
+			
+			double[] min = new double[4];
+			double[] max = new double[4];
+			double[] sum = new double[4];
+			double[] mean = new double[4];
+			double[] variance = new double[4];
+			
+			for(int j = 0; j < 4; j++)
+			{
+				min[j] = v[4 + j];
+				max[j] = v[4 + j];
+				
+				for(int i = 1; i <= count; i++)
+				{
+					min[j] = Math.min(min[j], v[i * 4 + j]);
+					max[j] = Math.max(max[j], v[i * 4 + j]);
+					sum[j] += v[i * 4 + j];
+				}
+				
+				mean[j] = sum[j] / count;
+				
+				for(int i = 1; i <= count; i++)
+					variance[j] += (v[i * 4 + j] - mean[j]) * (v[i * 4 + j] - mean[j]);
+				
+				variance[j] /= count;
+			}
+			
+			assertArrayEquals(min, components(Tup4dReductions.min(v, 1, count + 1, new Tup4d())));
+			assertArrayEquals(max, components(Tup4dReductions.max(list, new Tup4d())));
+			
+			Tup4d bMin = new Tup4d();
+			Tup4d bMax = new Tup4d();
+			
+			assertSame(bMin, Tup4dReductions.bounds(buffer, bMin, bMax));
+			assertArrayEquals(min, components(bMin));
+			assertArrayEquals(max, components(bMax));
+			assertEquals(4, buffer.position());
+			
+			assertArrayEquals(sum, components(Tup4dReductions.sum(v, 1, count + 1, new Tup4d())), 0.000001);
+			assertArrayEquals(sum, components(Tup4dReductions.sum(list, new Tup4d())), 0.000001);
+			assertArrayEquals(sum, components(Tup4dReductions.sum(buffer, new Tup4d())), 0.000001);
+			
+			assertArrayEquals(mean, components(Tup4dReductions.mean(v, 1, count + 1, new Tup4d())), 0.000001);
+			assertArrayEquals(mean, components(Tup4dReductions.mean(list, new Tup4d())), 0.000001);
+			assertArrayEquals(mean, components(Tup4dReductions.mean(buffer, new Tup4d())), 0.000001);
+			
+			assertArrayEquals(variance, components(Tup4dReductions.variance(v, 1, count + 1, new Tup4d())), 0.0001);
+			assertArrayEquals(variance, components(Tup4dReductions.variance(list, new Tup4d())), 0.0001);
+			assertArrayEquals(variance, components(Tup4dReductions.variance(buffer, new Tup4d())), 0.0001);
+		}
+	}
+	
+	/**
+	 * This test ensures, that the compensated sum is exact for cancelling values, that the pairwise sum is close to the exact sum
+	 * of many values and that arrays, lists and buffers give bitwise identical results.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void accurateSumTest()
+	{
+		int count = 300000;
+		Random random = new Random(5);
+		
+		double[] v = new double[count * 4];
+		List<Tup4dR> list = new ArrayList<>();
+		
+		for(int i = 0; i < count; i++)
+		{
+			for(int j = 0; j < 4; j++)
+			{
+				v[i * 4 + j] = i % 2 == 0 ? random.nextDouble() : 1.0e15 * (i % 4 == 1 ? 1.0 : -1.0);
+			}
+			
+			list.add(new Tup4d(v[i * 4 + 0], v[i * 4 + 1], v[i * 4 + 2], v[i * 4 + 3]));
+		}
+		
+		DoubleBuffer buffer = DoubleBuffer.wrap(v);
+		
+		double[] exact = exactSum(v, count);
+		double[] plain = components(Tup4dReductions.sum(v, 0, count, new Tup4d()));
+		double[] compensated = components(Tup4dReductions.compensatedSum(v, 0, count, new Tup4d()));
+		
+		for(int j = 0; j < 4; j++)
+		{
+			assertTrue(Math.abs(plain[j] - exact[j]) > 1.0);
+			assertEquals(exact[j], compensated[j], Math.ulp(exact[j]));
+		}
+		
+		assertArrayEquals(compensated, components(Tup4dReductions.compensatedSum(list, new Tup4d())));
+		assertArrayEquals(compensated, components(Tup4dReductions.compensatedSum(buffer, new Tup4d())));
+		
+		double[] w = new double[count * 4];
+		
+		for(int i = 0; i < w.length; i++) w[i] = 0.1 + random.nextDouble() * 0.001;
+		
+		exact = exactSum(w, count);
+		double[] pairwise = components(Tup4dReductions.pairwiseSum(w, 0, count, new Tup4d()));
+		
+		for(int j = 0; j < 4; j++)
+		{
+			assertEquals(exact[j], pairwise[j], 2 * Math.ulp(exact[j]));
+		}
+		
+		list.clear();
+		
+		for(int i = 0; i < count; i++) list.add(new Tup4d(w[i * 4 + 0], w[i * 4 + 1], w[i * 4 + 2], w[i * 4 + 3]));
+		
+		DoubleBuffer wBuffer = DoubleBuffer.wrap(w);
+		
+		assertArrayEquals(pairwise, components(Tup4dReductions.pairwiseSum(list, new Tup4d())));
+		assertArrayEquals(pairwise, components(Tup4dReductions.pairwiseSum(wBuffer, new Tup4d())));
+		
+		assertArrayEquals(new double[4], components(Tup4dReductions.compensatedSum(v, 0, 0, new Tup4d())));
+		assertArrayEquals(new double[4], components(Tup4dReductions.pairwiseSum(v, 0, 0, new Tup4d())));
+	}
+	
+	/**
+	 * Returns the exactly calculated and then rounded componentwise sum of the interleaved components.
+	 * 
+	 * @param v The interleaved components.
+	 * @param count The number of tuples.
+	 * 
+	 * @return The componentwise sum.
+	 */
+	private static double[] exactSum(double[] v, int count)
+	{
+		double[] result = new double[4];
+		
+		for(int j = 0; j < 4; j++)
+		{
+			BigDecimal sum = BigDecimal.ZERO;
+			
+			for(int i = 0; i < count; i++) sum = sum.add(new BigDecimal(v[i * 4 + j]));
+			
+			result[j] = sum.doubleValue();
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup4dR t)
+	{
+		return new double[] { t.getX(), t.getY(), t.getZ(), t.getW() };
+	}
+}
\ No newline at end of file
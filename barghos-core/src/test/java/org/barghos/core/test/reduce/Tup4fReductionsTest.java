@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.reduce;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.FloatBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple4.Tup4fR;
+import org.barghos.core.reduce.Tup4fReductions;
+import org.barghos.core.tuple4.Tup4f;
+
+/**
+ * This class provides component tests for the class {@link Tup4fReductions}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup4fReductionsTest
+{
+	/**
+	 * This test ensures, that the reductions over empty inputs return the documented neutral values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void emptyTest()
+	{
+		float[] v = new float[0];
+		
+		assertEquals(new Tup4f(Float.POSITIVE_INFINITY), Tup4fReductions.min(v, 0, 0, new Tup4f()));
+		assertEquals(new Tup4f(Float.NEGATIVE_INFINITY), Tup4fReductions.max(v, 0, 0, new Tup4f()));
+		assertEquals(new Tup4f(), Tup4fReductions.sum(new ArrayList<Tup4fR>(), new Tup4f()));
+		assertTrue(Double.isNaN(Tup4fReductions.mean(FloatBuffer.allocate(0), new Tup4f()).getX()));
+		assertTrue(Double.isNaN(Tup4fReductions.variance(FloatBuffer.allocate(0), new Tup4f()).getX()));
+	}
+	
+	/**
+	 * This test ensures, that the sequential and parallel reductions over arrays, lists and buffers
+	 * match a straight forward calculation.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void reduceTest()
+	{
+		for(int count : new int[] { 1, 1000, 100000 })
+		{
+			Random random = new Random(count);
+			
+			float[] v = new float[(count + 1) * 4];
+			List<Tup4fR> list = new ArrayList<>();
+			
+			for(int i = 4; i < v.length; i++)
+				v[i] = (float)(random.nextDouble() * 200.0 - 100.0);
+			
+			for(int i = 1; i <= count; i++)
+				list.add(new Tup4f(v[i * 4 + 0], v[i * 4 + 1], v[i * 4 + 2], v[i * 4 + 3]));
+			
+			FloatBuffer buffer = FloatBuffer.wrap(v);
+			buffer.position(4);
+			
+			double[] min = new double[4];
+			double[] max = new double[4];
+			double[] sum = new double[4];
+			double[] mean = new double[4];
+			double[] variance = new double[4];
+			
+			for(int j = 0; j < 4; j++)
+			{
+				min[j] = v[4 + j];
+				max[j] = v[4 + j];
+				
+				for(int i = 1; i <= count; i++)
+				{
+					min[j] = Math.min(min[j], v[i * 4 + j]);
+					max[j] = Math.max(max[j], v[i * 4 + j]);
+					sum[j] += v[i * 4 + j];
+				}
+				
+				mean[j] = sum[j] / count;
+				
+				for(int i = 1; i <= count; i++)
+					variance[j] += (v[i * 4 + j] - mean[j]) * (v[i * 4 + j] - mean[j]);
+				
+				variance[j] /= count;
+			}
+			
+			assertArrayEquals(min, components(Tup4fReductions.min(v, 1, count + 1, new Tup4f())));
+			assertArrayEquals(max, components(Tup4fReductions.max(list, new Tup4f())));
+			
+			Tup4f bMin = new Tup4f();
+			Tup4f bMax = new Tup4f();
+			
+			assertSame(bMin, Tup4fReductions.bounds(buffer, bMin, bMax));
+			assertArrayEquals(min, components(bMin));
+			assertArrayEquals(max, components(bMax));
+			assertEquals(4, buffer.position());
+			
+			assertArrayEquals(sum, components(Tup4fReductions.sum(v, 1, count + 1, new Tup4f())), count * 0.01);
+			assertArrayEquals(sum, components(Tup4fReductions.sum(list, new Tup4f())), count * 0.01);
+			assertArrayEquals(sum, components(Tup4fReductions.sum(buffer, new Tup4f())), count * 0.01);
+			
+			assertArrayEquals(mean, components(Tup4fReductions.mean(v, 1, count + 1, new Tup4f())), 0.01);
+			assertArrayEquals(mean, components(Tup4fReductions.mean(list, new Tup4f())), 0.01);
+			assertArrayEquals(mean, components(Tup4fReductions.mean(buffer, new Tup4f())), 0.01);
+			
+			assertArrayEquals(variance, components(Tup4fReductions.variance(v, 1, count + 1, new Tup4f())), 1.0);
+			assertArrayEquals(variance, components(Tup4fReductions.variance(list, new Tup4f())), 1.0);
+			assertArrayEquals(variance, components(Tup4fReductions.variance(buffer, new Tup4f())), 1.0);
+		}
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup4fR t)
+	{
+		return new double[] { t.getX(), t.getY(), t.getZ(), t.getW() };
+	}
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.reduce;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.IntBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple4.Tup4dR;
+import org.barghos.core.api.tuple4.Tup4iR;
+import org.barghos.core.api.tuple4.Tup4lR;
+import org.barghos.core.reduce.Tup4iReductions;
+import org.barghos.core.tuple4.Tup4d;
+import org.barghos.core.tuple4.Tup4i;
+import org.barghos.core.tuple4.Tup4l;
+
+/**
+ * This class provides component tests for the class {@link Tup4iReductions}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup4iReductionsTest
+{
+	/**
+	 * This test ensures, that the reductions over empty inputs return the documented neutral values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void emptyTest()
+	{
+		int[] v = new int[0];
+		
+		assertEquals(new Tup4i(Integer.MAX_VALUE), Tup4iReductions.min(v, 0, 0, new Tup4i()));
+		assertEquals(new Tup4i(Integer.MIN_VALUE), Tup4iReductions.max(v, 0, 0, new Tup4i()));
+		assertEquals(new Tup4l(), Tup4iReductions.sum(new ArrayList<Tup4iR>(), new Tup4l()));
+		assertTrue(Double.isNaN(Tup4iReductions.mean(IntBuffer.allocate(0), new Tup4d()).getX()));
+		assertTrue(Double.isNaN(Tup4iReductions.variance(IntBuffer.allocate(0), new Tup4d()).getX()));
+	}
+	
+	/**
+	 * This test ensures, that the sequential and parallel reductions over arrays, lists and buffers
+	 * match a straight forward calculation.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void reduceTest()
+	{
+		for(int count : new int[] { 1, 1000, 100000 })
+		{
+			Random random = new Random(count);
+			
+			int[] v = new int[(count + 1) * 4];
+			List<Tup4iR> list = new ArrayList<>();
+			
+			for(int i = 4; i < v.length; i++)
+				v[i] = random.nextInt(2000) - 1000;
+			
+			for(int i = 1; i <= count; i++)
+				list.add(new Tup4i(v[i * 4 + 0], v[i * 4 + 1], v[i * 4 + 2], v[i * 4 + 3]));
+			
+			IntBuffer buffer = IntBuffer.wrap(v);
+			buffer.position(4);
+			
+			double[] min = new double[4];
+			double[] max = new double[4];
+			double[] sum = new double[4];
+			double[] mean = new double[4];
+			double[] variance = new double[4];
+			
+			for(int j = 0; j < 4; j++)
+			{
+				min[j] = v[4 + j];
+				max[j] = v[4 + j];
+				
+				for(int i = 1; i <= count; i++)
+				{
+					min[j] = Math.min(min[j], v[i * 4 + j]);
+					max[j] = Math.max(max[j], v[i * 4 + j]);
+					sum[j] += v[i * 4 + j];
+				}
+				
+				mean[j] = sum[j] / count;
+				
+				for(int i = 1; i <= count; i++)
+					variance[j] += (v[i * 4 + j] - mean[j]) * (v[i * 4 + j] - mean[j]);
+				
+				variance[j] /= count;
+			}
+			
+			assertArrayEquals(min, components(Tup4iReductions.min(v, 1, count + 1, new Tup4i())));
+			assertArrayEquals(max, components(Tup4iReductions.max(list, new Tup4i())));
+			
+			Tup4i bMin = new Tup4i();
+			Tup4i bMax = new Tup4i();
+			
+			assertSame(bMin, Tup4iReductions.bounds(buffer, bMin, bMax));
+			assertArrayEquals(min, components(bMin));
+			assertArrayEquals(max, components(bMax));
+			assertEquals(4, buffer.position());
+			
+			assertArrayEquals(sum, components(Tup4iReductions.sum(v, 1, count + 1, new Tup4l())));
+			assertArrayEquals(sum, components(Tup4iReductions.sum(list, new Tup4l())));
+			assertArrayEquals(sum, components(Tup4iReductions.sum(buffer, new Tup4l())));
+			
+			assertArrayEquals(mean, components(Tup4iReductions.mean(v, 1, count + 1, new Tup4d())), 0.000001);
+			assertArrayEquals(mean, components(Tup4iReductions.mean(list, new Tup4d())), 0.000001);
+			assertArrayEquals(mean, components(Tup4iReductions.mean(buffer, new Tup4d())), 0.000001);
+			
+			assertArrayEquals(variance, components(Tup4iReductions.variance(v, 1, count + 1, new Tup4d())), 0.001);
+			assertArrayEquals(variance, components(Tup4iReductions.variance(list, new Tup4d())), 0.001);
+			assertArrayEquals(variance, components(Tup4iReductions.variance(buffer, new Tup4d())), 0.001);
+		}
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup4iR t)
+	{
+		return new double[] { t.getX(), t.getY(), t.getZ(), t.getW() };
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup4lR t)
+	{
+		return new double[] { t.getX(), t.getY(), t.getZ(), t.getW() };
+	}
+	
+	/**
+	 * Returns the components of the tuple as array.
+	 * 
+	 * @param t The tuple.
+	 * 
+	 * @return The components.
+	 */
+	private static double[] components(Tup4dR t)
+	{
+		return new double[] { t.getX(), t.getY(), t.getZ(), t.getW() };
+	}
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.spatial.CurveSort;
+import org.barghos.core.spatial.MortonCode;
+
+/**
+ * This class provides component tests for the class {@link CurveSort}.
+ * 
+ * @since 1.0.0.0
+ */
+class CurveSortTest
+{
+	/**
+	 * This test ensures, that the keys are sorted as unsigned numbers and the permutation is correct.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void sortUnsignedTest()
+	{
+		long[] keys = { 5L, -1L, 0L, 3L, Long.MIN_VALUE, 3L };
+		long[] original = keys.clone();
+		int[] order = new int[6];
+		
+		CurveSort.sort(keys, order, 6);
+		
+		assertArrayEquals(new long[] { 0L, 3L, 3L, 5L, Long.MIN_VALUE, -1L }, keys);
+		assertArrayEquals(new int[] { 2, 3, 5, 0, 4, 1 }, order);
+		
+		for(int i = 0; i < 6; i++)
+			assertEquals(original[order[i]], keys[i]);
+	}
+	
+	/**
+	 * This test ensures, that a large parallel sort matches a sequential sort and is stable.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void sortLargeTest()
+	{
+		int count = 300000;
+		Random random = new Random(5);
+		
+		long[] keys = new long[count];
+		
+		for(int i = 0; i < count; i++)
+			keys[i] = random.nextInt(1000) * 0x0101010101L;
+		
+		long[] expected = keys.clone();
+		Arrays.sort(expected);
+		
+		long[] original = keys.clone();
+		int[] order = new int[count];
+		
+		CurveSort.sort(keys, order, count);
+		
+		assertArrayEquals(expected, keys);
+		
+		for(int i = 1; i < count; i++)
+		{
+			assertEquals(original[order[i]], keys[i]);
+			if(keys[i] == keys[i - 1]) assertTrue(order[i] > order[i - 1]);
+		}
+	}
+	
+	/**
+	 * This test ensures, that the component arrays are reordered together with the keys.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void sortComponentsTest()
+	{
+		int[] x = { 3, 0, 1, 0 };
+		int[] y = { 3, 0, 1, 1 };
+		float[] value = { 30.0f, 0.0f, 11.0f, 1.0f };
+		double[] weight = { 3.0, 0.0, 1.1, 0.1 };
+		
+		long[] keys = new long[4];
+		
+		for(int i = 0; i < 4; i++)
+			keys[i] = MortonCode.encode(x[i], y[i]);
+		
+		CurveSort.sort(keys.clone(), 4, x, y);
+		CurveSort.sort(keys.clone(), 4, weight);
+		
+		assertArrayEquals(new int[] { 1, 3, 2, 0 }, CurveSort.sort(keys, 4, value));
+		
+		assertArrayEquals(new int[] { 0, 0, 1, 3 }, x);
+		assertArrayEquals(new int[] { 0, 1, 1, 3 }, y);
+		assertArrayEquals(new float[] { 0.0f, 1.0f, 11.0f, 30.0f }, value);
+		assertArrayEquals(new double[] { 0.0, 0.1, 1.1, 3.0 }, weight);
+	}
+}
\ No newline at end of file
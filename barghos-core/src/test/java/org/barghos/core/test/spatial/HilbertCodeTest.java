@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.spatial.HilbertCode;
+import org.barghos.core.tuple2.Tup2i;
+import org.barghos.core.tuple3.Tup3i;
+
+/**
+ * This class provides component tests for the class {@link HilbertCode}.
+ * 
+ * @since 1.0.0.0
+ */
+class HilbertCodeTest
+{
+	/**
+	 * This test ensures, that the 2-dimensional indices of a 16x16 grid are a permutation of 0 - 255
+	 * and that consecutive indices belong to neighbouring cells.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void encode2NeighbourTest()
+	{
+		int size = 16;
+		int[] xs = new int[size * size];
+		int[] ys = new int[size * size];
+		boolean[] seen = new boolean[size * size];
+		
+		for(int y = 0; y < size; y++)
+		for(int x = 0; x < size; x++)
+		{
+			long index = HilbertCode.encode(x, y);
+			
+			assertTrue(index >= 0 && index < size * size);
+			assertFalse(seen[(int)index]);
+			
+			seen[(int)index] = true;
+			xs[(int)index] = x;
+			ys[(int)index] = y;
+		}
+		
+		for(int i = 1; i < size * size; i++)
+			assertEquals(1, Math.abs(xs[i] - xs[i - 1]) + Math.abs(ys[i] - ys[i - 1]));
+	}
+	
+	/**
+	 * This test ensures, that the 3-dimensional indices of a 8x8x8 grid are a permutation of 0 - 511
+	 * and that consecutive indices belong to neighbouring cells.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void encode3NeighbourTest()
+	{
+		int size = 8;
+		int[] xs = new int[size * size * size];
+		int[] ys = new int[size * size * size];
+		int[] zs = new int[size * size * size];
+		boolean[] seen = new boolean[size * size * size];
+		
+		for(int z = 0; z < size; z++)
+		for(int y = 0; y < size; y++)
+		for(int x = 0; x < size; x++)
+		{
+			long index = HilbertCode.encode(new Tup3i(x, y, z));
+			
+			assertTrue(index >= 0 && index < size * size * size);
+			assertFalse(seen[(int)index]);
+			
+			seen[(int)index] = true;
+			xs[(int)index] = x;
+			ys[(int)index] = y;
+			zs[(int)index] = z;
+		}
+		
+		for(int i = 1; i < size * size * size; i++)
+			assertEquals(1, Math.abs(xs[i] - xs[i - 1]) + Math.abs(ys[i] - ys[i - 1]) + Math.abs(zs[i] - zs[i - 1]));
+	}
+	
+	/**
+	 * This test ensures, that decoding is the inverse of encoding.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundtripTest()
+	{
+		Random random = new Random(99);
+		
+		for(int i = 0; i < 1000; i++)
+		{
+			int x = random.nextInt();
+			int y = random.nextInt();
+			int z = random.nextInt(1 << 21);
+			
+			assertEquals(new Tup2i(x, y), HilbertCode.decode2(HilbertCode.encode(new Tup2i(x, y)), new Tup2i()));
+			assertEquals(new Tup3i(x & 0x1FFFFF, y & 0x1FFFFF, z), HilbertCode.decode3(HilbertCode.encode(x, y, z), new Tup3i()));
+		}
+	}
+}
\ No newline at end of file
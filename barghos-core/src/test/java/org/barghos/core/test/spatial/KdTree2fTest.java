@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.FloatBuffer;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple2.Tup2fR;
+import org.barghos.core.spatial.KdTree2f;
+import org.barghos.core.tuple2.Tup2f;
+
+/**
+ * This class provides component tests for the class {@link KdTree2f}.
+ * 
+ * @since 1.0.0.0
+ */
+class KdTree2fTest
+{
+	/**
+	 * This test ensures, that the function {@link KdTree2f#knn(Tup2fR, int, int[], float[])}
+	 * returns the nearest points sorted by distance.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void knnSmallTest()
+	{
+		KdTree2f tree = new KdTree2f(new Tup2fR[] { new Tup2f(0.0f, 0.0f), new Tup2f(5.0f, 5.0f), new Tup2f(1.0f, 1.0f), new Tup2f(10.0f, 10.0f) });
+		
+		assertEquals(4, tree.size());
+		assertEquals(2, tree.dimension());
+		
+		int[] result = new int[3];
+		float[] distancesSq = new float[3];
+		
+		assertEquals(3, tree.knn(new Tup2f(0.4f), 3, result, distancesSq));
+		assertArrayEquals(new int[] { 0, 2, 1 }, result);
+		assertEquals(2 * 0.4f * 0.4f, distancesSq[0], 0.0001f);
+	}
+	
+	/**
+	 * This test ensures, that a query with k larger than the tree returns all points.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void knnLargerThanTreeTest()
+	{
+		KdTree2f tree = new KdTree2f(FloatBuffer.wrap(new float[2 * 2]), 2);
+		
+		int[] result = new int[5];
+		float[] distancesSq = new float[5];
+		
+		assertEquals(2, tree.knn(new Tup2f(), 5, result, distancesSq));
+		assertEquals(0, tree.knn(new Tup2f(), 0, result, distancesSq));
+	}
+	
+	/**
+	 * This test ensures, that the k nearest points of a large, parallel built tree match a brute force search.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void knnBruteForceTest()
+	{
+		int count = 100000;
+		int k = 8;
+		Random random = new Random(1234);
+		
+		float[] x = new float[count];
+		float[] y = new float[count];
+		
+		for(int i = 0; i < count; i++)
+		{
+			x[i] = random.nextFloat() * 100.0f;
+			y[i] = random.nextFloat() * 100.0f;
+		}
+		
+		KdTree2f tree = new KdTree2f(x, y, count);
+		
+		int[] result = new int[k];
+		float[] distancesSq = new float[k];
+		float[] all = new float[count];
+		
+		for(int query = 0; query < 50; query++)
+		{
+			Tup2f q = new Tup2f(random.nextFloat() * 100.0f, random.nextFloat() * 100.0f);
+			
+			assertEquals(k, tree.knn(q, k, result, distancesSq));
+			
+			for(int i = 0; i < count; i++)
+				all[i] = (x[i] - q.getX()) * (x[i] - q.getX()) + (y[i] - q.getY()) * (y[i] - q.getY());
+			
+			float[] sorted = all.clone();
+			Arrays.sort(sorted);
+			
+			for(int i = 0; i < k; i++)
+			{
+				assertEquals(sorted[i], distancesSq[i]);
+				assertEquals(sorted[i], all[result[i]]);
+			}
+		}
+	}
+}
\ No newline at end of file
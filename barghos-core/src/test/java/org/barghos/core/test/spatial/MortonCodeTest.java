@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.spatial.MortonCode;
+import org.barghos.core.tuple2.Tup2f;
+import org.barghos.core.tuple2.Tup2i;
+import org.barghos.core.tuple3.Tup3f;
+import org.barghos.core.tuple3.Tup3i;
+
+/**
+ * This class provides component tests for the class {@link MortonCode}.
+ * 
+ * @since 1.0.0.0
+ */
+class MortonCodeTest
+{
+	/**
+	 * This test ensures, that the bits of 2-dimensional points are interleaved with x in the lowest bit.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void encode2Test()
+	{
+		assertEquals(0b01L, MortonCode.encode(1, 0));
+		assertEquals(0b10L, MortonCode.encode(0, 1));
+		assertEquals(0b1111L, MortonCode.encode(new Tup2i(3, 3)));
+		assertEquals(0b100111L, MortonCode.encode(3, 5));
+		assertEquals(-1L, MortonCode.encode(-1, -1));
+	}
+	
+	/**
+	 * This test ensures, that the bits of 3-dimensional points are interleaved with x in the lowest bit.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void encode3Test()
+	{
+		assertEquals(0b001L, MortonCode.encode(1, 0, 0));
+		assertEquals(0b010L, MortonCode.encode(0, 1, 0));
+		assertEquals(0b100L, MortonCode.encode(new Tup3i(0, 0, 1)));
+		assertEquals(0b111111L, MortonCode.encode(3, 3, 3));
+		assertEquals(0x7FFFFFFFFFFFFFFFL, MortonCode.encode(0x1FFFFF, 0x1FFFFF, 0x1FFFFF));
+	}
+	
+	/**
+	 * This test ensures, that decoding is the inverse of encoding.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void roundtripTest()
+	{
+		Random random = new Random(7);
+		
+		for(int i = 0; i < 1000; i++)
+		{
+			int x = random.nextInt();
+			int y = random.nextInt();
+			int z = random.nextInt(1 << 21);
+			
+			assertEquals(new Tup2i(x, y), MortonCode.decode(MortonCode.encode(x, y), new Tup2i()));
+			assertEquals(new Tup3i(x & 0x1FFFFF, y & 0x1FFFFF, z), MortonCode.decode(MortonCode.encode(x, y, z), new Tup3i()));
+		}
+	}
+	
+	/**
+	 * This test ensures, that the function {@link MortonCode#quantize(float, float, float, int)} maps the bounds
+	 * to the full range and clamps values outside.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void quantizeTest()
+	{
+		assertEquals(0, MortonCode.quantize(-1.0f, 0.0f, 1.0f, 10));
+		assertEquals(0, MortonCode.quantize(0.0f, 0.0f, 1.0f, 10));
+		assertEquals(511, MortonCode.quantize(0.5f, 0.0f, 1.0f, 10));
+		assertEquals(1023, MortonCode.quantize(1.0f, 0.0f, 1.0f, 10));
+		assertEquals(1023, MortonCode.quantize(2.0f, 0.0f, 1.0f, 10));
+		assertEquals(0, MortonCode.quantize(Float.NaN, 0.0f, 1.0f, 10));
+		assertEquals(-1, MortonCode.quantize(1.0f, 0.0f, 1.0f, 32));
+	}
+	
+	/**
+	 * This test ensures, that float points are quantized within the bounds before encoding.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void encodeFloatTest()
+	{
+		Tup3f min = new Tup3f(-1.0f);
+		Tup3f max = new Tup3f(1.0f);
+		
+		assertEquals(0L, MortonCode.encode(new Tup3f(-1.0f), min, max));
+		assertEquals(MortonCode.encode(0x1FFFFF, 0x1FFFFF, 0x1FFFFF), MortonCode.encode(new Tup3f(1.0f), min, max));
+		assertEquals(MortonCode.encode(-1, 0), MortonCode.encode(new Tup2f(1.0f, 0.0f), new Tup2f(0.0f), new Tup2f(1.0f)));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.FloatBuffer;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.spatial.SpatialHashGrid2f;
+import org.barghos.core.tuple2.Tup2f;
+
+/**
+ * This class provides component tests for the class {@link SpatialHashGrid2f}.
+ * 
+ * @since 1.0.0.0
+ */
+class SpatialHashGrid2fTest
+{
+	/**
+	 * This test ensures, that inserted points are found by a radius query and removed points are not.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void insertRemoveTest()
+	{
+		SpatialHashGrid2f grid = new SpatialHashGrid2f(1.0f, 16);
+		
+		grid.insert(0, new Tup2f(0.0f, 0.0f));
+		grid.insert(5, 0.5f, 0.5f);
+		grid.insert(7, 3.0f, 3.0f);
+		
+		assertEquals(3, grid.size());
+		assertTrue(grid.contains(5));
+		assertFalse(grid.contains(1));
+		
+		int[] result = new int[8];
+		
+		assertEquals(2, grid.queryRadius(new Tup2f(0.1f, 0.1f), 1.0f, result));
+		assertEquals(sorted(0, 5), sorted(result[0], result[1]));
+		
+		assertTrue(grid.remove(0));
+		assertFalse(grid.remove(0));
+		assertEquals(2, grid.size());
+		
+		assertEquals(1, grid.queryRadius(0.1f, 0.1f, 1.0f, result));
+		assertEquals(5, result[0]);
+	}
+	
+	/**
+	 * This test ensures, that moved points are found at their new position only.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void moveTest()
+	{
+		SpatialHashGrid2f grid = new SpatialHashGrid2f(1.0f, 16);
+		
+		grid.insert(2, 0.0f, 0.0f);
+		grid.move(2, new Tup2f(10.5f, -4.5f));
+		
+		int[] result = new int[4];
+		
+		assertEquals(0, grid.queryRadius(0.0f, 0.0f, 1.0f, result));
+		assertEquals(1, grid.queryRadius(10.0f, -4.0f, 1.0f, result));
+		assertEquals(2, result[0]);
+		assertEquals(1, grid.size());
+	}
+	
+	/**
+	 * This test ensures, that a query reports the total number of found points
+	 * even if the result array is too small.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void queryOverflowTest()
+	{
+		SpatialHashGrid2f grid = new SpatialHashGrid2f(1.0f);
+		
+		for(int i = 0; i < 10; i++)
+			grid.insert(i, i * 0.01f, 0.0f);
+		
+		int[] result = new int[3];
+		
+		assertEquals(10, grid.queryRadius(0.0f, 0.0f, 1.0f, result));
+	}
+	
+	/**
+	 * This test ensures, that queries with huge ranges terminate and find points
+	 * whose cell coordinates saturate.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void queryHugeRangeTest()
+	{
+		SpatialHashGrid2f grid = new SpatialHashGrid2f(0.5f);
+		
+		grid.insert(0, 0.0f, 0.0f);
+		grid.insert(1, 1.0e30f, -1.0e30f);
+		
+		int[] result = new int[4];
+		
+		assertEquals(2, grid.queryBox(-Float.MAX_VALUE, -Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE, result));
+		assertEquals(2, grid.queryRadius(0.0f, 0.0f, Float.MAX_VALUE, result));
+		assertEquals(1, grid.queryBox(1.0e29f, -1.0e31f, 1.0e31f, -1.0e29f, result));
+		assertEquals(1, result[0]);
+		assertEquals(1, grid.queryRadius(0.0f, 0.0f, 1.0e10f, result));
+		assertEquals(0, result[0]);
+	}
+	
+	/**
+	 * This test ensures, that queries reject NaN and infinite arguments.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void queryInvalidTest()
+	{
+		SpatialHashGrid2f grid = new SpatialHashGrid2f(1.0f);
+		int[] result = new int[4];
+		
+		assertThrows(IllegalArgumentException.class, () -> grid.queryRadius(0.0f, 0.0f, Float.NaN, result));
+		assertThrows(IllegalArgumentException.class, () -> grid.queryRadius(0.0f, 0.0f, Float.POSITIVE_INFINITY, result));
+		assertThrows(IllegalArgumentException.class, () -> grid.queryRadius(Float.NaN, 0.0f, 1.0f, result));
+		assertThrows(IllegalArgumentException.class, () -> grid.queryBox(Float.NEGATIVE_INFINITY, 0.0f, 1.0f, 1.0f, result));
+		assertThrows(IllegalArgumentException.class, () -> grid.queryBox(0.0f, 0.0f, Float.NaN, 1.0f, result));
+	}
+	
+	/**
+	 * This test ensures, that radius and box queries after a parallel bulk build
+	 * match a brute force search.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void buildQueryTest()
+	{
+		int count = 50000;
+		Random random = new Random(42);
+		
+		float[] x = new float[count];
+		float[] y = new float[count];
+		
+		for(int i = 0; i < count; i++)
+		{
+			x[i] = random.nextFloat() * 100.0f - 50.0f;
+			y[i] = random.nextFloat() * 100.0f - 50.0f;
+		}
+		
+		SpatialHashGrid2f grid = new SpatialHashGrid2f(2.0f);
+		grid.build(x, y, count);
+		
+		assertEquals(count, grid.size());
+		
+		int[] result = new int[count];
+		
+		for(int q = 0; q < 20; q++)
+		{
+			float cx = random.nextFloat() * 100.0f - 50.0f;
+			float cy = random.nextFloat() * 100.0f - 50.0f;
+			float r = random.nextFloat() * 6.0f;
+			
+			int found = grid.queryRadius(cx, cy, r, result);
+			int[] actual = Arrays.copyOf(result, found);
+			Arrays.sort(actual);
+			
+			int[] expected = new int[count];
+			int expectedCount = 0;
+			
+			for(int i = 0; i < count; i++)
+			{
+				float dx = x[i] - cx;
+				float dy = y[i] - cy;
+				
+				if(dx * dx + dy * dy <= r * r) expected[expectedCount++] = i;
+			}
+			
+			assertArrayEquals(Arrays.copyOf(expected, expectedCount), actual);
+			
+			found = grid.queryBox(cx - r, cy - r, cx + r, cy + r, result);
+			actual = Arrays.copyOf(result, found);
+			Arrays.sort(actual);
+			
+			expectedCount = 0;
+			
+			for(int i = 0; i < count; i++)
+			{
+				if(x[i] >= cx - r && x[i] <= cx + r && y[i] >= cy - r && y[i] <= cy + r)
+					expected[expectedCount++] = i;
+			}
+			
+			assertArrayEquals(Arrays.copyOf(expected, expectedCount), actual);
+		}
+	}
+	
+	/**
+	 * This test ensures, that a bulk build from an interleaved buffer
+	 * starts at the position of the buffer and doesn't change it.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void buildBufferTest()
+	{
+		FloatBuffer buffer = FloatBuffer.wrap(new float[] { 99.0f, 0.0f, 0.0f, 5.0f, 5.0f });
+		buffer.position(1);
+		
+		SpatialHashGrid2f grid = new SpatialHashGrid2f(1.0f);
+		grid.build(buffer, 2);
+		
+		assertEquals(1, buffer.position());
+		assertEquals(2, grid.size());
+		
+		int[] result = new int[2];
+		
+		assertEquals(1, grid.queryRadius(5.0f, 5.0f, 0.5f, result));
+		assertEquals(1, result[0]);
+	}
+	
+	/**
+	 * Returns the sorted values as a string for order independent comparison.
+	 * 
+	 * @param values The values.
+	 * 
+	 * @return The sorted values as a string.
+	 */
+	private static String sorted(int... values)
+	{
+		int[] copy = values.clone();
+		Arrays.sort(copy);
+		return Arrays.toString(copy);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.spatial.TolerantHash3f;
+import org.barghos.core.tuple3.Tup3f;
+
+/**
+ * This class provides component tests for the class {@link TolerantHash3f}.
+ * 
+ * @since 1.0.0.0
+ */
+class TolerantHash3fTest
+{
+	/**
+	 * This test ensures, that points within epsilon are found across cell borders.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void findOrAddTest()
+	{
+		TolerantHash3f hash = new TolerantHash3f(0.01f);
+		
+		assertEquals(0, hash.findOrAdd(1.0f, 2.0f, 3.0f));
+		assertEquals(0, hash.findOrAdd(1.005f, 1.995f, 3.0f));
+		assertEquals(1, hash.findOrAdd(1.02f, 2.0f, 3.0f));
+		assertEquals(2, hash.findOrAdd(new Tup3f(-0.001f, 0.0f, 0.0f)));
+		assertEquals(2, hash.find(0.0015f, 0.0f, 0.0f));
+		assertEquals(-1, hash.find(0.02f, 0.0f, 0.0f));
+		assertEquals(3, hash.size());
+		assertEquals(new Tup3f(1.02f, 2.0f, 3.0f), hash.get(1, new Tup3f()));
+		
+		hash.clear();
+		
+		assertEquals(0, hash.size());
+		assertEquals(-1, hash.find(1.0f, 2.0f, 3.0f));
+	}
+	
+	/**
+	 * This test ensures, that the lowest index is returned if multiple points are within epsilon.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void lowestIndexTest()
+	{
+		TolerantHash3f hash = new TolerantHash3f(1.0f, 1);
+		
+		hash.add(0.0f, 0.0f, 0.0f);
+		hash.add(0.5f, 0.0f, 0.0f);
+		hash.add(0.9f, 0.0f, 0.0f);
+		
+		assertEquals(1, hash.find(1.4f, 0.0f, 0.0f));
+		assertEquals(0, hash.find(0.6f, 0.0f, 0.0f));
+	}
+	
+	/**
+	 * This test ensures, that the hash keeps working after growing.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void growTest()
+	{
+		TolerantHash3f hash = new TolerantHash3f(0.1f, 16);
+		
+		for(int i = 0; i < 1000; i++)
+			assertEquals(i, hash.findOrAdd(i, -i, i * 0.5f));
+		
+		for(int i = 0; i < 1000; i++)
+			assertEquals(i, hash.find(i + 0.05f, -i, i * 0.5f));
+	}
+	
+	/**
+	 * This test ensures, that a non positive epsilon is rejected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void invalidEpsilonTest()
+	{
+		assertThrows(IllegalArgumentException.class, () -> new TolerantHash3f(0.0f));
+		assertThrows(IllegalArgumentException.class, () -> new TolerantHash3f(Float.NaN));
+	}
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.spatial;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.spatial.VertexWelder;
+
+/**
+ * This class provides component tests for the class {@link VertexWelder}.
+ * 
+ * @since 1.0.0.0
+ */
+class VertexWelderTest
+{
+	/**
+	 * This test ensures, that welding component arrays merges near vertices.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void weldArraysTest()
+	{
+		float[] x = { 0.0f, 1.0f, 0.0001f, 1.0f, 5.0f };
+		float[] y = { 0.0f, 1.0f, 0.0f, 1.0001f, 5.0f };
+		float[] z = { 0.0f, 1.0f, 0.0f, 1.0f, 5.0f };
+		
+		float[] outX = new float[5];
+		float[] outY = new float[5];
+		float[] outZ = new float[5];
+		int[] remap = new int[5];
+		
+		assertEquals(3, VertexWelder.weld(x, y, z, 5, 0.001f, outX, outY, outZ, remap));
+		assertArrayEquals(new int[] { 0, 1, 0, 1, 2 }, remap);
+		assertEquals(5.0f, outX[2]);
+		assertEquals(1.0f, outY[1]);
+	}
+	
+	/**
+	 * This test ensures, that the parallel welding of a buffer matches a straight forward sequential welding.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void weldBufferTest()
+	{
+		Random random = new Random(9);
+		
+		int count = 30000;
+		float epsilon = 0.01f;
+		
+		float[] v = new float[count * 3 + 3];
+		
+		for(int i = 3; i < v.length; i += 3)
+		{
+			if(i > 3 && random.nextInt(3) == 0)
+			{
+				int j = 3 + random.nextInt(i / 3 - 1) * 3;
+				
+				v[i] = v[j] + (random.nextFloat() - 0.5f) * 0.01f;
+				v[i + 1] = v[j + 1] + (random.nextFloat() - 0.5f) * 0.01f;
+				v[i + 2] = v[j + 2];
+			}
+			else
+			{
+				v[i] = random.nextFloat() * 10.0f;
+				v[i + 1] = random.nextFloat() * 10.0f;
+				v[i + 2] = random.nextFloat() * 10.0f;
+			}
+		}
+		
+		FloatBuffer src = FloatBuffer.wrap(v);
+		src.position(3);
+		
+		FloatBuffer dst = FloatBuffer.allocate(count * 3);
+		IntBuffer remap = IntBuffer.allocate(count);
+		
+		int unique = VertexWelder.weld(src, count, epsilon, dst, remap);
+		
+		assertEquals(3, src.position());
+		assertEquals(unique * 3, dst.position());
+		assertEquals(count, remap.position());
+		
+		int[] expectedRemap = new int[count];
+		int[] representatives = new int[count];
+		int expectedUnique = 0;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int found = -1;
+			
+			for(int u = 0; u < expectedUnique && found < 0; u++)
+			{
+				int r = 3 + representatives[u] * 3;
+				int j = 3 + i * 3;
+				
+				float dx = v[r] - v[j];
+				float dy = v[r + 1] - v[j + 1];
+				float dz = v[r + 2] - v[j + 2];
+				
+				if(dx * dx + dy * dy + dz * dz <= epsilon * epsilon) found = u;
+			}
+			
+			if(found < 0)
+			{
+				found = expectedUnique++;
+				representatives[found] = i;
+			}
+			
+			expectedRemap[i] = found;
+		}
+		
+		assertEquals(expectedUnique, unique);
+		assertArrayEquals(expectedRemap, remap.array());
+		
+		for(int u = 0; u < unique; u++)
+			assertEquals(v[3 + representatives[u] * 3 + 1], dst.get(u * 3 + 1));
+	}
+}
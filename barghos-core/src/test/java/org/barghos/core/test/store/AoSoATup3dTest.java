@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.store.AoSoATup3d;
+import org.barghos.core.tuple3.Tup3d;
+
+/**
+ * This class provides component tests for the class {@link AoSoATup3d}.
+ * 
+ * @since 1.0.0.0
+ */
+class AoSoATup3dTest
+{
+	/**
+	 * This test ensures, that appended tuples can be read back and the container grows blockwise.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendTest()
+	{
+		AoSoATup3d c = new AoSoATup3d(0);
+		
+		assertEquals(0, c.capacity());
+		
+		for(int i = 0; i < 20; i++)
+		{
+			assertEquals(i, c.append(i + 0, i + 1, i + 2));
+		}
+		
+		assertEquals(20, c.size());
+		assertEquals(3, c.blockCount());
+		assertEquals(0, c.capacity() % AoSoATup3d.LANES);
+		
+		for(int i = 0; i < 20; i++)
+		{
+			assertEquals(new Tup3d(i + 0, i + 1, i + 2), c.get(i, new Tup3d()));
+		}
+		
+		assertEquals(13, c.getX(13));
+		assertEquals(13, c.getData()[AoSoATup3d.LANES * 3 + 5]);
+		assertEquals(14, c.getData()[AoSoATup3d.LANES * 3 + AoSoATup3d.LANES + 5]);
+		
+		double[] v = c.toArray(new double[20 * 3], 0);
+		
+		AoSoATup3d d = new AoSoATup3d().append(v, 0, 20);
+		
+		assertEquals(20, d.size());
+		assertEquals(new Tup3d(19 + 0, 19 + 1, 19 + 2), d.get(19, new Tup3d()));
+		
+		AoSoATup3d e = new AoSoATup3d().append(v, 5, 8);
+		
+		assertEquals(3, e.size());
+		assertEquals(new Tup3d(5 + 0, 5 + 1, 5 + 2), e.get(0, new Tup3d()));
+		assertEquals(new Tup3d(7 + 0, 7 + 1, 7 + 2), e.get(2, new Tup3d()));
+		
+		c.clear();
+		
+		assertEquals(0, c.size());
+		assertEquals(0, c.append(new Tup3d(1)));
+		assertEquals(new Tup3d(1), c.get(0, new Tup3d()));
+	}
+	
+	/**
+	 * This test ensures, that the flyweight view reads and writes the viewed tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void viewTest()
+	{
+		AoSoATup3d c = new AoSoATup3d();
+		
+		for(int i = 0; i < 10; i++)
+		{
+			c.append(new Tup3d(i));
+		}
+		
+		AoSoATup3d.View view = c.view(9);
+		
+		assertEquals(9, view.index());
+		assertEquals(9, view.getZ());
+		
+		view.at(8).set(0, 1, 2);
+		
+		assertEquals(new Tup3d(0, 1, 2), c.get(8, new Tup3d()));
+		
+		view.setZ(-1);
+		
+		assertEquals(-1, c.getZ(8));
+		assertEquals(9, c.getX(9));
+	}
+	
+	/**
+	 * This test ensures, that the bulk kernels produce the same results as the tuplewise operations.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void kernelTest()
+	{
+		AoSoATup3d a = new AoSoATup3d();
+		AoSoATup3d b = new AoSoATup3d();
+		
+		for(int i = 0; i < 21; i++)
+		{
+			a.append(i * 1 - 0, i * 1 - 1, i * 1 - 2);
+			b.append(0 + 1, 1 + 1, 2 + 1);
+		}
+		
+		a.add(0, 1, 2).mul(2, 2, 2).addScaled(b, 0.5);
+		
+		for(int i = 0; i < 21; i++)
+		{
+			assertEquals(new Tup3d(i * 2 + (0 + 1) * 0.5, i * 2 + (1 + 1) * 0.5, i * 2 + (2 + 1) * 0.5), a.get(i, new Tup3d()));
+		}
+		
+		double[] dots = a.dot(b, new double[22], 1);
+		
+		assertEquals(0, dots[0]);
+		assertEquals((20 * 2 + 1 * 0.5) * 1 + (20 * 2 + 2 * 0.5) * 2 + (20 * 2 + 3 * 0.5) * 3, dots[21], 1e-4);
+		
+		Tup3d min = new Tup3d();
+		Tup3d max = new Tup3d();
+		
+		a.bounds(min, max);
+		
+		assertEquals(new Tup3d((0 + 1) * 0.5, (1 + 1) * 0.5, (2 + 1) * 0.5), min);
+		assertEquals(new Tup3d(40 + (0 + 1) * 0.5, 40 + (1 + 1) * 0.5, 40 + (2 + 1) * 0.5), max);
+		
+		a.set(0, 0, 0, 0).normalize();
+		
+		assertEquals(new Tup3d(0), a.get(0, new Tup3d()));
+		
+		Tup3d t = a.get(20, new Tup3d());
+		
+		assertEquals(1, Math.sqrt(t.getX() * t.getX() + t.getY() * t.getY() + t.getZ() * t.getZ()), 1e-5);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.store.AoSoATup3f;
+import org.barghos.core.tuple3.Tup3f;
+
+/**
+ * This class provides component tests for the class {@link AoSoATup3f}.
+ * 
+ * @since 1.0.0.0
+ */
+class AoSoATup3fTest
+{
+	/**
+	 * This test ensures, that appended tuples can be read back and the container grows blockwise.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendTest()
+	{
+		AoSoATup3f c = new AoSoATup3f(0);
+		
+		assertEquals(0, c.capacity());
+		
+		for(int i = 0; i < 20; i++)
+		{
+			assertEquals(i, c.append(i + 0, i + 1, i + 2));
+		}
+		
+		assertEquals(20, c.size());
+		assertEquals(3, c.blockCount());
+		assertEquals(0, c.capacity() % AoSoATup3f.LANES);
+		
+		for(int i = 0; i < 20; i++)
+		{
+			assertEquals(new Tup3f(i + 0, i + 1, i + 2), c.get(i, new Tup3f()));
+		}
+		
+		assertEquals(13, c.getX(13));
+		assertEquals(13, c.getData()[AoSoATup3f.LANES * 3 + 5]);
+		assertEquals(14, c.getData()[AoSoATup3f.LANES * 3 + AoSoATup3f.LANES + 5]);
+		
+		float[] v = c.toArray(new float[20 * 3], 0);
+		
+		AoSoATup3f d = new AoSoATup3f().append(v, 0, 20);
+		
+		assertEquals(20, d.size());
+		assertEquals(new Tup3f(19 + 0, 19 + 1, 19 + 2), d.get(19, new Tup3f()));
+		
+		AoSoATup3f e = new AoSoATup3f().append(v, 5, 8);
+		
+		assertEquals(3, e.size());
+		assertEquals(new Tup3f(5 + 0, 5 + 1, 5 + 2), e.get(0, new Tup3f()));
+		assertEquals(new Tup3f(7 + 0, 7 + 1, 7 + 2), e.get(2, new Tup3f()));
+		
+		c.clear();
+		
+		assertEquals(0, c.size());
+		assertEquals(0, c.append(new Tup3f(1)));
+		assertEquals(new Tup3f(1), c.get(0, new Tup3f()));
+	}
+	
+	/**
+	 * This test ensures, that the flyweight view reads and writes the viewed tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void viewTest()
+	{
+		AoSoATup3f c = new AoSoATup3f();
+		
+		for(int i = 0; i < 10; i++)
+		{
+			c.append(new Tup3f(i));
+		}
+		
+		AoSoATup3f.View view = c.view(9);
+		
+		assertEquals(9, view.index());
+		assertEquals(9, view.getZ());
+		
+		view.at(8).set(0, 1, 2);
+		
+		assertEquals(new Tup3f(0, 1, 2), c.get(8, new Tup3f()));
+		
+		view.setZ(-1);
+		
+		assertEquals(-1, c.getZ(8));
+		assertEquals(9, c.getX(9));
+	}
+	
+	/**
+	 * This test ensures, that the bulk kernels produce the same results as the tuplewise operations.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void kernelTest()
+	{
+		AoSoATup3f a = new AoSoATup3f();
+		AoSoATup3f b = new AoSoATup3f();
+		
+		for(int i = 0; i < 21; i++)
+		{
+			a.append(i * 1 - 0, i * 1 - 1, i * 1 - 2);
+			b.append(0 + 1, 1 + 1, 2 + 1);
+		}
+		
+		a.add(0, 1, 2).mul(2, 2, 2).addScaled(b, (float)0.5);
+		
+		for(int i = 0; i < 21; i++)
+		{
+			assertEquals(new Tup3f(i * 2 + (0 + 1) * (float)0.5, i * 2 + (1 + 1) * (float)0.5, i * 2 + (2 + 1) * (float)0.5), a.get(i, new Tup3f()));
+		}
+		
+		float[] dots = a.dot(b, new float[22], 1);
+		
+		assertEquals(0, dots[0]);
+		assertEquals((20 * 2 + 1 * (float)0.5) * 1 + (20 * 2 + 2 * (float)0.5) * 2 + (20 * 2 + 3 * (float)0.5) * 3, dots[21], 1e-4);
+		
+		Tup3f min = new Tup3f();
+		Tup3f max = new Tup3f();
+		
+		a.bounds(min, max);
+		
+		assertEquals(new Tup3f((0 + 1) * (float)0.5, (1 + 1) * (float)0.5, (2 + 1) * (float)0.5), min);
+		assertEquals(new Tup3f(40 + (0 + 1) * (float)0.5, 40 + (1 + 1) * (float)0.5, 40 + (2 + 1) * (float)0.5), max);
+		
+		a.set(0, 0, 0, 0).normalize();
+		
+		assertEquals(new Tup3f(0), a.get(0, new Tup3f()));
+		
+		Tup3f t = a.get(20, new Tup3f());
+		
+		assertEquals(1, Math.sqrt(t.getX() * t.getX() + t.getY() * t.getY() + t.getZ() * t.getZ()), 1e-5);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.store.AoSoATup4d;
+import org.barghos.core.tuple4.Tup4d;
+
+/**
+ * This class provides component tests for the class {@link AoSoATup4d}.
+ * 
+ * @since 1.0.0.0
+ */
+class AoSoATup4dTest
+{
+	/**
+	 * This test ensures, that appended tuples can be read back and the container grows blockwise.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendTest()
+	{
+		AoSoATup4d c = new AoSoATup4d(0);
+		
+		assertEquals(0, c.capacity());
+		
+		for(int i = 0; i < 20; i++)
+		{
+			assertEquals(i, c.append(i + 0, i + 1, i + 2, i + 3));
+		}
+		
+		assertEquals(20, c.size());
+		assertEquals(3, c.blockCount());
+		assertEquals(0, c.capacity() % AoSoATup4d.LANES);
+		
+		for(int i = 0; i < 20; i++)
+		{
+			assertEquals(new Tup4d(i + 0, i + 1, i + 2, i + 3), c.get(i, new Tup4d()));
+		}
+		
+		assertEquals(13, c.getX(13));
+		assertEquals(13, c.getData()[AoSoATup4d.LANES * 4 + 5]);
+		assertEquals(14, c.getData()[AoSoATup4d.LANES * 4 + AoSoATup4d.LANES + 5]);
+		
+		double[] v = c.toArray(new double[20 * 4], 0);
+		
+		AoSoATup4d d = new AoSoATup4d().append(v, 0, 20);
+		
+		assertEquals(20, d.size());
+		assertEquals(new Tup4d(19 + 0, 19 + 1, 19 + 2, 19 + 3), d.get(19, new Tup4d()));
+		
+		AoSoATup4d e = new AoSoATup4d().append(v, 5, 8);
+		
+		assertEquals(3, e.size());
+		assertEquals(new Tup4d(5 + 0, 5 + 1, 5 + 2, 5 + 3), e.get(0, new Tup4d()));
+		assertEquals(new Tup4d(7 + 0, 7 + 1, 7 + 2, 7 + 3), e.get(2, new Tup4d()));
+		
+		c.clear();
+		
+		assertEquals(0, c.size());
+		assertEquals(0, c.append(new Tup4d(1)));
+		assertEquals(new Tup4d(1), c.get(0, new Tup4d()));
+	}
+	
+	/**
+	 * This test ensures, that the flyweight view reads and writes the viewed tuple.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void viewTest()
+	{
+		AoSoATup4d c = new AoSoATup4d();
+		
+		for(int i = 0; i < 10; i++)
+		{
+			c.append(new Tup4d(i));
+		}
+		
+		AoSoATup4d.View view = c.view(9);
+		
+		assertEquals(9, view.index());
+		assertEquals(9, view.getW());
+		
+		view.at(8).set(0, 1, 2, 3);
+		
+		assertEquals(new Tup4d(0, 1, 2, 3), c.get(8, new Tup4d()));
+		
+		view.setW(-1);
+		
+		assertEquals(-1, c.getW(8));
+		assertEquals(9, c.getX(9));
+	}
+	
+	/**
+	 * This test ensures, that the bulk kernels produce the same results as the tuplewise operations.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void kernelTest()
+	{
+		AoSoATup4d a = new AoSoATup4d();
+		AoSoATup4d b = new AoSoATup4d();
+		
+		for(int i = 0; i < 21; i++)
+		{
+			a.append(i * 1 - 0, i * 1 - 1, i * 1 - 2, i * 1 - 3);
+			b.append(0 + 1, 1 + 1, 2 + 1, 3 + 1);
+		}
+		
+		a.add(0, 1, 2, 3).mul(2, 2, 2, 2).addScaled(b, 0.5);
+		
+		for(int i = 0; i < 21; i++)
+		{
+			assertEquals(new Tup4d(i * 2 + (0 + 1) * 0.5, i * 2 + (1 + 1) * 0.5, i * 2 + (2 + 1) * 0.5, i * 2 + (3 + 1) * 0.5), a.get(i, new Tup4d()));
+		}
+		
+		double[] dots = a.dot(b, new double[22], 1);
+		
+		assertEquals(0, dots[0]);
+		assertEquals((20 * 2 + 1 * 0.5) * 1 + (20 * 2 + 2 * 0.5) * 2 + (20 * 2 + 3 * 0.5) * 3 + (20 * 2 + 4 * 0.5) * 4, dots[21], 1e-4);
+		
+		Tup4d min = new Tup4d();
+		Tup4d max = new Tup4d();
+		
+		a.bounds(min, max);
+		
+		assertEquals(new Tup4d((0 + 1) * 0.5, (1 + 1) * 0.5, (2 + 1) * 0.5, (3 + 1) * 0.5), min);
+		assertEquals(new Tup4d(40 + (0 + 1) * 0.5, 40 + (1 + 1) * 0.5, 40 + (2 + 1) * 0.5, 40 + (3 + 1) * 0.5), max);
+		
+		a.set(0, 0, 0, 0, 0).normalize();
+		
+		assertEquals(new Tup4d(0), a.get(0, new Tup4d()));
+		
+		Tup4d t = a.get(20, new Tup4d());
+		
+		assertEquals(1, Math.sqrt(t.getX() * t.getX() + t.getY() * t.getY() + t.getZ() * t.getZ() + t.getW() * t.getW()), 1e-5);
+	}
+}
\ No newline at end of file
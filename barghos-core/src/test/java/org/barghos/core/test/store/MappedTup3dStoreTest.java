@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.barghos.core.test.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.store.MappedTup3dStore;
+import org.barghos.core.tuple3.Tup3d;
+
+/**
+ * This class provides component tests for the class {@link MappedTup3dStore}.
+ * 
+ * @since 1.0.0.0
+ */
+class MappedTup3dStoreTest
+{
+	/**
+	 * The temporary store file.
+	 */
+	private Path file;
+	
+	/**
+	 * Creates the temporary store file.
+	 * 
+	 * @throws IOException Not expected.
+	 */
+	@BeforeEach
+	void setUp() throws IOException
+	{
+		this.file = Files.createTempFile("mappedtup3dstore", ".bin");
+		Files.delete(this.file);
+	}
+	
+	/**
+	 * Deletes the temporary store file.
+	 * 
+	 * @throws IOException Not expected.
+	 */
+	@AfterEach
+	void tearDown() throws IOException
+	{
+		Files.deleteIfExists(this.file);
+	}
+	
+	/**
+	 * This test ensures, that a new store is empty and the file size is a multiple of the page size.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void createTest() throws IOException
+	{
+		try(MappedTup3dStore store = new MappedTup3dStore(this.file))
+		{
+			assertEquals(0, store.size());
+			assertTrue(store.capacity() > 0);
+		}
+		
+		assertEquals(0, Files.size(this.file) % MappedTup3dStore.PAGE_SIZE);
+	}
+	
+	/**
+	 * This test ensures, that appended tuples can be read back and survive reopening the store.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendReopenTest() throws IOException
+	{
+		try(MappedTup3dStore store = new MappedTup3dStore(this.file))
+		{
+			assertEquals(0, store.append(1.0, 2.0, 3.0));
+			assertEquals(1, store.append(new Tup3d(4.0, 5.0, 6.0)));
+			assertEquals(2, store.append(new double[] { 0.0, 0.0, 0.0, 7.0, 8.0, 9.0 }, 1, 1));
+		}
+		
+		try(MappedTup3dStore store = new MappedTup3dStore(this.file))
+		{
+			assertEquals(3, store.size());
+			assertEquals(new Tup3d(1.0, 2.0, 3.0), store.get(0, new Tup3d()));
+			assertEquals(new Tup3d(4.0, 5.0, 6.0), store.get(1, new Tup3d()));
+			assertEquals(7.0, store.getX(2));
+			assertEquals(8.0, store.getY(2));
+			assertEquals(9.0, store.getZ(2));
+		}
+	}
+	
+	/**
+	 * This test ensures, that the store grows page aligned beyond the initial capacity and keeps existing data.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void growTest() throws IOException
+	{
+		try(MappedTup3dStore store = new MappedTup3dStore(this.file))
+		{
+			long count = store.capacity() * 3 + 5;
+			
+			for(int i = 0; i < count; i++)
+				store.append(i, -i, i * 0.5);
+			
+			assertEquals(count, store.size());
+			assertTrue(store.capacity() >= count);
+			
+			for(int i = 0; i < count; i++)
+				assertEquals(new Tup3d(i, -i, i * 0.5), store.get(i, new Tup3d()));
+		}
+		
+		assertEquals(0, Files.size(this.file) % MappedTup3dStore.PAGE_SIZE);
+	}
+	
+	/**
+	 * This test ensures, that a view reads and writes directly from and to the store and can be moved.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void viewTest() throws IOException
+	{
+		try(MappedTup3dStore store = new MappedTup3dStore(this.file))
+		{
+			store.append(1.0, 2.0, 3.0);
+			store.append(4.0, 5.0, 6.0);
+			
+			MappedTup3dStore.View view = store.view(0);
+			
+			assertEquals(new Tup3d(1.0, 2.0, 3.0), new Tup3d(view));
+			
+			assertSame(view, view.at(1).setY(10.0));
+			
+			assertEquals(1, view.index());
+			assertEquals(10.0, store.getY(1));
+			assertEquals(new Tup3d(4.0, 10.0, 6.0), new Tup3d(view));
+		}
+	}
+	
+	/**
+	 * This test ensures, that writing beyond the size of the store fails.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void setOutOfBoundsTest() throws IOException
+	{
+		try(MappedTup3dStore store = new MappedTup3dStore(this.file))
+		{
+			assertThrows(IndexOutOfBoundsException.class, () -> store.set(0, 1.0, 2.0, 3.0));
+		}
+	}
+	
+	/**
+	 * This test ensures, that reading a tuple outside of the store fails.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void getOutOfBoundsTest() throws IOException
+	{
+		try(MappedTup3dStore store = new MappedTup3dStore(this.file))
+		{
+			store.append(1.0, 2.0, 3.0);
+			
+			assertEquals(3.0, store.getZ(0));
+			
+			assertThrows(IndexOutOfBoundsException.class, () -> store.getX(1));
+			assertThrows(IndexOutOfBoundsException.class, () -> store.getY(-1));
+			assertThrows(IndexOutOfBoundsException.class, () -> store.getZ(store.capacity() - 1));
+			assertThrows(IndexOutOfBoundsException.class, () -> store.get(1, new Tup3d()));
+		}
+	}
+	
+	/**
+	 * This test ensures, that opening a file that is not a store fails without changing the file.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void invalidFileTest() throws IOException
+	{
+		Files.write(this.file, new byte[MappedTup3dStore.PAGE_SIZE]);
+		
+		assertThrows(IOException.class, () -> new MappedTup3dStore(this.file));
+		assertEquals(MappedTup3dStore.PAGE_SIZE, Files.size(this.file));
+		
+		byte[] truncated = { 1, 2, 3 };
+		
+		Files.write(this.file, truncated);
+		
+		assertThrows(IOException.class, () -> new MappedTup3dStore(this.file));
+		assertArrayEquals(truncated, Files.readAllBytes(this.file));
+		
+		ByteBuffer header = ByteBuffer.allocate(MappedTup3dStore.PAGE_SIZE + MappedTup3dStore.TUPLE_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(0, MappedTup3dStore.MAGIC);
+		header.putInt(4, MappedTup3dStore.VERSION);
+		header.putLong(8, 2);
+		
+		Files.write(this.file, header.array());
+		
+		assertThrows(IOException.class, () -> new MappedTup3dStore(this.file));
+		assertEquals(MappedTup3dStore.PAGE_SIZE + MappedTup3dStore.TUPLE_BYTES, Files.size(this.file));
+		
+		header.putLong(8, 1);
+		
+		Files.write(this.file, header.array());
+		
+		try(MappedTup3dStore store = new MappedTup3dStore(this.file, true))
+		{
+			assertEquals(1, store.size());
+		}
+	}
+	
+	/**
+	 * This test ensures, that a store opened read-only can be read but not modified and that it requires an
+	 * existing file.
+	 * 
+	 * @throws IOException Not expected.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void readOnlyTest() throws IOException
+	{
+		assertThrows(IOException.class, () -> new MappedTup3dStore(this.file, true));
+		assertFalse(Files.exists(this.file));
+		
+		try(MappedTup3dStore store = new MappedTup3dStore(this.file))
+		{
+			assertFalse(store.isReadOnly());
+			
+			store.append(1.0, 2.0, 3.0);
+			store.append(4.0, 5.0, 6.0);
+		}
+		
+		long fileSize = Files.size(this.file);
+		
+		try(MappedTup3dStore store = new MappedTup3dStore(this.file, true))
+		{
+			assertTrue(store.isReadOnly());
+			assertEquals(2, store.size());
+			assertEquals(new Tup3d(4.0, 5.0, 6.0), store.get(1, new Tup3d()));
+			
+			assertThrows(ReadOnlyBufferException.class, () -> store.set(0, 0.0, 0.0, 0.0));
+			assertThrows(ReadOnlyBufferException.class, () -> store.append(0.0, 0.0, 0.0));
+			assertThrows(ReadOnlyBufferException.class, () -> store.clear());
+			assertThrows(ReadOnlyBufferException.class, () -> store.view(0).setX(7.0));
+		}
+		
+		assertEquals(fileSize, Files.size(this.file));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.store.Tup3dTripleBuffer;
+import org.barghos.core.tuple3.Tup3d;
+
+/**
+ * This class provides component tests for the class {@link Tup3dTripleBuffer}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup3dTripleBufferTest
+{
+	/**
+	 * This test ensures, that a published frame becomes visible to the reader and the frames rotate.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void publishTest()
+	{
+		Tup3dTripleBuffer buffer = new Tup3dTripleBuffer(4);
+		
+		assertEquals(4, buffer.capacity());
+		assertFalse(buffer.hasNewFrame());
+		assertEquals(0L, buffer.getReadFrame().getNumber());
+		
+		Tup3dTripleBuffer.Frame frame = buffer.getWriteFrame();
+		frame.set(0, 1.0, 2.0, 3.0).set(1, new Tup3d(4.0)).setSize(2);
+		
+		assertEquals(1L, buffer.publish());
+		assertNotSame(frame, buffer.getWriteFrame());
+		assertTrue(buffer.hasNewFrame());
+		
+		Tup3dTripleBuffer.Frame read = buffer.getReadFrame();
+		
+		assertSame(frame, read);
+		assertFalse(buffer.hasNewFrame());
+		assertEquals(1L, read.getNumber());
+		assertEquals(2, read.getSize());
+		assertEquals(new Tup3d(1.0, 2.0, 3.0), read.get(0, new Tup3d()));
+		assertEquals(4.0, read.getX(1));
+		assertEquals(4.0, read.getY(1));
+		assertEquals(4.0, read.getZ(1));
+		assertSame(read, buffer.getReadFrame());
+		
+		buffer.getWriteFrame().setSize(0);
+		buffer.publish();
+		buffer.getWriteFrame().setSize(1);
+		buffer.publish();
+		
+		assertNotSame(read, buffer.getWriteFrame());
+		assertEquals(3L, buffer.getReadFrame().getNumber());
+		assertEquals(1, buffer.getReadFrame().getSize());
+		
+		assertThrows(IndexOutOfBoundsException.class, () -> buffer.getWriteFrame().setSize(5));
+	}
+	
+	/**
+	 * This test ensures, that the reader always sees complete frames in publication order while the writer publishes.
+	 * 
+	 * @throws InterruptedException If the test thread is interrupted.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void concurrentTest() throws InterruptedException
+	{
+		Tup3dTripleBuffer buffer = new Tup3dTripleBuffer(64);
+		
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicInteger errors = new AtomicInteger();
+		
+		Thread reader = new Thread(() -> {
+			long last = 0;
+			
+			while(running.get())
+			{
+				Tup3dTripleBuffer.Frame frame = buffer.getReadFrame();
+				
+				if(frame.getNumber() < last) errors.incrementAndGet();
+				
+				last = frame.getNumber();
+				
+				for(int i = 0; i < frame.getSize(); i++)
+				{
+					if(frame.getX(i) != last || frame.getZ(i) != i) errors.incrementAndGet();
+				}
+			}
+		});
+		
+		reader.start();
+		
+		for(int n = 1; n <= 20000; n++)
+		{
+			Tup3dTripleBuffer.Frame frame = buffer.getWriteFrame();
+			
+			for(int i = 0; i < 64; i++)
+			{
+				frame.set(i, n, 0.0, i);
+			}
+			
+			frame.setSize(64);
+			
+			assertEquals(n, buffer.publish());
+		}
+		
+		running.set(false);
+		reader.join();
+		
+		assertEquals(0, errors.get());
+		assertEquals(20000L, buffer.getReadFrame().getNumber());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.FloatBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.stream.Tup2fStream;
+import org.barghos.core.tuple2.Tup2f;
+
+/**
+ * This class provides component tests for the class {@link Tup2fStream}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup2fStreamTest
+{
+	/**
+	 * This test ensures, that the flyweight of a stream over an interleaved array writes through to the array.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void forEachArrayWriteThroughTest()
+	{
+		float[] v = new float[2 * 3];
+		
+		Tup2fStream.of(v, 1, 3).forEach((t) -> t.set(2.0f));
+		
+		for(int i = 0; i < v.length; i++)
+			assertEquals(i < 2 ? 0.0f : 2.0f, v[i]);
+	}
+	
+	/**
+	 * This test ensures, that a parallel stream over component arrays and a buffer calculate the same results.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void parallelTest()
+	{
+		int count = 50000;
+		
+		float[][] c = new float[2][count];
+		FloatBuffer buffer = FloatBuffer.allocate(count * 2);
+		
+		for(int i = 0; i < count; i++)
+			for(int j = 0; j < 2; j++)
+			{
+				c[j][i] = (i % 10) * (j + 1);
+				buffer.put(c[j][i]);
+			}
+		
+		buffer.flip();
+		
+		Tup2fStream a = Tup2fStream.of(c[0], c[1], 0, count).parallel();
+		Tup2fStream b = Tup2fStream.of(buffer).parallel();
+		
+		assertEquals(a.sum(new Tup2f()), b.sum(new Tup2f()));
+		assertEquals(new Tup2f(9.0f, 18.0f), a.max(new Tup2f()));
+		assertEquals(new Tup2f(0.0f), b.min(new Tup2f()));
+		assertEquals(count / 10, b.filter((t) -> t.getX() == 0.0f).count());
+		assertEquals(count, a.map((t, r) -> r.set(t.getX() + 1.0f)).filter((t) -> t.getY() > 0.0f).count());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.FloatBuffer;
+
+import java.util.Spliterator;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple3.Tup3fRW;
+import org.barghos.core.stream.Tup3fStream;
+import org.barghos.core.tuple3.Tup3f;
+
+/**
+ * This class provides component tests for the class {@link Tup3fStream}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup3fStreamTest
+{
+	/**
+	 * This test ensures, that the flyweight of a stream over an interleaved array writes through to the array.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void forEachArrayWriteThroughTest()
+	{
+		float[] v = { 1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f, 9.0f };
+		
+		Tup3fStream.of(v, 1, 3).forEach((t) -> t.set(t.getX() * 2.0f, t.getY(), -t.getZ()));
+		
+		assertArrayEquals(new float[] { 1.0f, 2.0f, 3.0f, 8.0f, 5.0f, -6.0f, 14.0f, 8.0f, -9.0f }, v);
+	}
+	
+	/**
+	 * This test ensures, that the flyweight of a stream over component arrays writes through to the arrays.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void forEachComponentsWriteThroughTest()
+	{
+		float[] x = { 1.0f, 2.0f };
+		float[] y = { 3.0f, 4.0f };
+		float[] z = { 5.0f, 6.0f };
+		
+		Tup3fStream.of(x, y, z, 0, 2).forEach((t) -> t.setY(0.0f));
+		
+		assertArrayEquals(new float[] { 0.0f, 0.0f }, y);
+		assertArrayEquals(new float[] { 1.0f, 2.0f }, x);
+	}
+	
+	/**
+	 * This test ensures, that a stream over a buffer covers the elements between position and limit
+	 * and leaves the position untouched.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void bufferTest()
+	{
+		FloatBuffer buffer = FloatBuffer.wrap(new float[] { 9.0f, 1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f });
+		buffer.position(1);
+		
+		Tup3f sum = Tup3fStream.of(buffer).sum(new Tup3f());
+		
+		assertEquals(new Tup3f(5.0f, 7.0f, 9.0f), sum);
+		assertEquals(1, buffer.position());
+		
+		Tup3fStream.of(buffer).forEach((t) -> t.setX(0.0f));
+		
+		assertEquals(0.0f, buffer.get(1));
+		assertEquals(0.0f, buffer.get(4));
+	}
+	
+	/**
+	 * This test ensures, that a stream over tuples writes through to the tuples.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void tupleTest()
+	{
+		Tup3f[] t = { new Tup3f(1.0f, 2.0f, 3.0f), new Tup3f(-1.0f, 5.0f, 0.0f) };
+		
+		assertEquals(new Tup3f(-1.0f, 2.0f, 0.0f), Tup3fStream.of(t).min(new Tup3f()));
+		assertEquals(new Tup3f(1.0f, 5.0f, 3.0f), Tup3fStream.of(t).max(new Tup3f()));
+		
+		Tup3fStream.of(t).forEach((e) -> e.set(7.0f));
+		
+		assertEquals(new Tup3f(7.0f), t[1]);
+	}
+	
+	/**
+	 * This test ensures, that map and filter are applied lazily in order and do not write to the storage.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void mapFilterTest()
+	{
+		float[] v = { 1.0f, 0.0f, 0.0f, 2.0f, 0.0f, 0.0f, 3.0f, 0.0f, 0.0f, 4.0f, 0.0f, 0.0f };
+		
+		Tup3fStream stream = Tup3fStream.of(v, 0, 4)
+				.map((t, r) -> r.set(t.getX() * 10.0f, 1.0f, 0.0f))
+				.filter((t) -> t.getX() > 15.0f);
+		
+		assertEquals(3, stream.count());
+		assertEquals(new Tup3f(90.0f, 3.0f, 0.0f), stream.sum(new Tup3f()));
+		assertEquals(1.0f, v[0]);
+		assertEquals(0.0f, v[1]);
+		
+		Spliterator<Tup3fRW> spliterator = stream.spliterator();
+		
+		assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+		assertTrue(spliterator.tryAdvance((t) -> assertEquals(20.0f, t.getX())));
+	}
+	
+	/**
+	 * This test ensures, that a parallel stream calculates the same results as a sequential stream
+	 * and visits every element exactly once.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void parallelTest()
+	{
+		int count = 100000;
+		
+		float[] x = new float[count];
+		float[] y = new float[count];
+		float[] z = new float[count];
+		
+		for(int i = 0; i < count; i++)
+		{
+			x[i] = i % 100;
+			y[i] = -(i % 7);
+			z[i] = 1.0f;
+		}
+		
+		Tup3fStream stream = Tup3fStream.of(x, y, z, 0, count).parallel();
+		
+		assertTrue(stream.isParallel());
+		assertFalse(stream.sequential().isParallel());
+		
+		assertEquals(new Tup3f(count, count, count), stream.map((t, r) -> r.set(1.0f)).sum(new Tup3f()));
+		assertEquals(new Tup3f(0.0f, -6.0f, 1.0f), stream.min(new Tup3f()));
+		assertEquals(new Tup3f(99.0f, 0.0f, 1.0f), stream.max(new Tup3f()));
+		assertEquals(count / 100 * 50, stream.filter((t) -> t.getX() >= 50.0f).count());
+		
+		stream.forEach((t) -> t.setZ(t.getZ() + 1.0f));
+		
+		for(int i = 0; i < count; i++)
+			assertEquals(2.0f, z[i]);
+		
+		assertEquals(count, stream.stream().filter((t) -> t.getZ() == 2.0f).count());
+	}
+	
+	/**
+	 * This test ensures, that the spliterator splits into disjoint ranges covering all elements.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void spliteratorSplitTest()
+	{
+		Spliterator<Tup3fRW> spliterator = Tup3fStream.of(new float[3 * 5000], 0, 5000).spliterator();
+		
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+		
+		Spliterator<Tup3fRW> prefix = spliterator.trySplit();
+		
+		assertNotNull(prefix);
+		assertEquals(2500, prefix.estimateSize());
+		assertEquals(2500, spliterator.estimateSize());
+		
+		assertNull(Tup3fStream.of(new float[3 * 100], 0, 100).spliterator().trySplit());
+	}
+}
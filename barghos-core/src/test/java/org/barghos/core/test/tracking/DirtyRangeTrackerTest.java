@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.tracking;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.tracking.DirtyRangeTracker;
+
+/**
+ * This class provides component tests for the class {@link DirtyRangeTracker}.
+ * 
+ * @since 1.0.0.0
+ */
+class DirtyRangeTrackerTest
+{
+	/**
+	 * This test ensures, that a new tracker is clean.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void cleanTest()
+	{
+		DirtyRangeTracker tracker = new DirtyRangeTracker(10);
+		
+		assertTrue(tracker.isClean());
+		assertEquals(-1, tracker.getLowest());
+		assertEquals(-1, tracker.getHighest());
+		assertEquals(0, tracker.getDirtyCount());
+		assertEquals(0, tracker.getRanges(new int[4], 0));
+		assertFalse(tracker.isDirty(5));
+	}
+	
+	/**
+	 * This test ensures, that marked indices are merged into ranges and the tracker grows automatically.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void rangesTest()
+	{
+		DirtyRangeTracker tracker = new DirtyRangeTracker(1);
+		
+		tracker.markDirty(3);
+		tracker.markDirty(4);
+		tracker.markDirty(10);
+		tracker.markDirty(60, 200);
+		tracker.markDirty(1000);
+		
+		assertFalse(tracker.isClean());
+		assertEquals(3, tracker.getLowest());
+		assertEquals(1000, tracker.getHighest());
+		assertEquals(2 + 1 + 140 + 1, tracker.getDirtyCount());
+		assertTrue(tracker.isDirty(199));
+		assertFalse(tracker.isDirty(200));
+		
+		int[] ranges = new int[8];
+		
+		assertEquals(4, tracker.getRanges(ranges, 0));
+		assertArrayEquals(new int[] { 3, 5, 10, 11, 60, 200, 1000, 1001 }, ranges);
+		
+		assertEquals(3, tracker.getRanges(ranges, 5));
+		assertArrayEquals(new int[] { 3, 11, 60, 200, 1000, 1001 }, Arrays.copyOf(ranges, 6));
+		
+		int[] small = new int[4];
+		
+		assertEquals(2, tracker.getRanges(small, 0));
+		assertArrayEquals(new int[] { 3, 5, 10, 1001 }, small);
+		
+		tracker.clear();
+		
+		assertTrue(tracker.isClean());
+		assertFalse(tracker.isDirty(100));
+		assertEquals(0, tracker.getDirtyCount());
+	}
+	
+	/**
+	 * This test ensures, that the ranges match a straight forward calculation for random markings.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void randomTest()
+	{
+		Random random = new Random(5);
+		
+		for(int round = 0; round < 50; round++)
+		{
+			DirtyRangeTracker tracker = new DirtyRangeTracker();
+			boolean[] dirty = new boolean[500];
+			
+			for(int i = 0; i < 20; i++)
+			{
+				int from = random.nextInt(500);
+				int to = Math.min(500, from + random.nextInt(random.nextBoolean() ? 2 : 70));
+				
+				tracker.markDirty(from, to);
+				
+				for(int j = from; j < to; j++)
+					dirty[j] = true;
+			}
+			
+			int[] ranges = new int[1000];
+			int count = tracker.getRanges(ranges, 0);
+			
+			boolean[] result = new boolean[500];
+			
+			for(int i = 0; i < count; i++)
+			{
+				assertTrue(ranges[i * 2] < ranges[i * 2 + 1]);
+				
+				if(i > 0) assertTrue(ranges[i * 2] > ranges[i * 2 - 1]);
+				
+				for(int j = ranges[i * 2]; j < ranges[i * 2 + 1]; j++)
+					result[j] = true;
+			}
+			
+			assertArrayEquals(dirty, result);
+			
+			for(int i = 0; i < 500; i++)
+				assertEquals(dirty[i], tracker.isDirty(i));
+		}
+	}
+}
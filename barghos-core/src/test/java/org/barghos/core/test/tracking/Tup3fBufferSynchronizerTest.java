@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.tracking;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.FloatBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple3.Tup3fR;
+import org.barghos.core.tracking.Tup3fBufferSynchronizer;
+import org.barghos.core.tuple3.TrackedTup3f;
+import org.barghos.core.tuple3.Tup3f;
+
+/**
+ * This class provides component tests for the class {@link Tup3fBufferSynchronizer}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup3fBufferSynchronizerTest
+{
+	/**
+	 * This test ensures, that the first synchronization writes all tuples.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void initialSyncTest()
+	{
+		List<Tup3fR> list = new ArrayList<>();
+		list.add(new Tup3f(1.0f, 2.0f, 3.0f));
+		list.add(new Tup3f(4.0f, 5.0f, 6.0f));
+		
+		Tup3fBufferSynchronizer sync = new Tup3fBufferSynchronizer(list);
+		
+		assertTrue(sync.isDirty());
+		
+		int[] ranges = new int[4];
+		
+		assertEquals(1, sync.sync(ranges, 0));
+		assertEquals(0, ranges[0]);
+		assertEquals(2, ranges[1]);
+		assertFalse(sync.isDirty());
+		
+		FloatBuffer buffer = sync.getBuffer();
+		
+		assertTrue(buffer.isDirect());
+		assertEquals(6, buffer.limit());
+		assertEquals(6.0f, buffer.get(5));
+		
+		assertEquals(0, sync.sync(ranges, 0));
+	}
+	
+	/**
+	 * This test ensures, that only tuples marked as modified and modified tracked tuples are rewritten.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void partialSyncTest()
+	{
+		List<Tup3fR> list = new ArrayList<>();
+		
+		for(int i = 0; i < 100; i++)
+			list.add(i % 2 == 0 ? new TrackedTup3f(i) : new Tup3f(i));
+		
+		Tup3fBufferSynchronizer sync = new Tup3fBufferSynchronizer(list);
+		sync.sync();
+		
+		((TrackedTup3f)list.get(10)).setX(-1.0f);
+		((TrackedTup3f)list.get(12)).set(-2.0f);
+		((Tup3f)list.get(51)).set(-3.0f);
+		((Tup3f)list.get(53)).set(-4.0f);
+		
+		sync.markDirty(51);
+		
+		assertTrue(sync.isDirty());
+		
+		int[] ranges = new int[8];
+		
+		assertEquals(3, sync.sync(ranges, 0));
+		assertArrayEquals(new int[] { 10, 11, 12, 13, 51, 52, 0, 0 }, ranges);
+		
+		FloatBuffer buffer = sync.getBuffer();
+		
+		assertEquals(-1.0f, buffer.get(30));
+		assertEquals(-2.0f, buffer.get(38));
+		assertEquals(-3.0f, buffer.get(153));
+		assertEquals(53.0f, buffer.get(159));
+		
+		((TrackedTup3f)list.get(10)).setX(-5.0f);
+		((TrackedTup3f)list.get(12)).setX(-6.0f);
+		
+		assertEquals(1, sync.sync(ranges, 1));
+		assertEquals(10, ranges[0]);
+		assertEquals(13, ranges[1]);
+	}
+	
+	/**
+	 * This test ensures, that added tuples are detected and the buffer grows.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void growTest()
+	{
+		List<Tup3fR> list = new ArrayList<>();
+		list.add(new Tup3f(1.0f));
+		
+		Tup3fBufferSynchronizer sync = new Tup3fBufferSynchronizer(list);
+		sync.sync();
+		
+		FloatBuffer old = sync.getBuffer();
+		
+		TrackedTup3f added = new TrackedTup3f(2.0f);
+		list.add(added);
+		list.add(new Tup3f(3.0f));
+		
+		assertTrue(sync.isDirty());
+		
+		int[] ranges = new int[2];
+		
+		assertEquals(1, sync.sync(ranges, 0));
+		assertEquals(0, ranges[0]);
+		assertEquals(3, ranges[1]);
+		assertNotSame(old, sync.getBuffer());
+		assertEquals(9, sync.getBuffer().limit());
+		assertEquals(3.0f, sync.getBuffer().get(8));
+		
+		added.setZ(7.0f);
+		
+		assertEquals(1, sync.sync(ranges, 0));
+		assertEquals(1, ranges[0]);
+		assertEquals(2, ranges[1]);
+		assertEquals(7.0f, sync.getBuffer().get(5));
+	}
+	
+	/**
+	 * This test ensures, that the reported ranges are clamped to the size of a shrunk list.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void shrinkTest()
+	{
+		List<Tup3fR> list = new ArrayList<>();
+		
+		for(int i = 0; i < 10; i++)
+			list.add(new TrackedTup3f(i));
+		
+		Tup3fBufferSynchronizer sync = new Tup3fBufferSynchronizer(list);
+		sync.sync();
+		
+		((TrackedTup3f)list.get(6)).setX(-1.0f);
+		((TrackedTup3f)list.get(8)).setX(-1.0f);
+		list.remove(9);
+		list.remove(8);
+		
+		int[] ranges = new int[4];
+		
+		assertEquals(1, sync.sync(ranges, 0));
+		assertEquals(6, ranges[0]);
+		assertEquals(7, ranges[1]);
+		assertEquals(8 * 3, sync.getBuffer().limit());
+		assertEquals(-1.0f, sync.getBuffer().get(6 * 3));
+	}
+	
+	/**
+	 * This test ensures, that a tracked tuple replacing another one reports its modifications
+	 * after its index was marked as modified.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void replaceTest()
+	{
+		List<Tup3fR> list = new ArrayList<>();
+		
+		for(int i = 0; i < 10; i++)
+			list.add(new TrackedTup3f(i));
+		
+		Tup3fBufferSynchronizer sync = new Tup3fBufferSynchronizer(list);
+		sync.sync();
+		
+		TrackedTup3f replacement = new TrackedTup3f(0.0f);
+		list.set(3, replacement);
+		sync.markDirty(3);
+		sync.sync();
+		
+		replacement.setX(5.0f);
+		
+		assertTrue(sync.isDirty());
+		
+		int[] ranges = new int[2];
+		
+		assertEquals(1, sync.sync(ranges, 0));
+		assertEquals(3, ranges[0]);
+		assertEquals(4, ranges[1]);
+		assertEquals(5.0f, sync.getBuffer().get(3 * 3));
+	}
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.tracking;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.DoubleBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.api.tuple4.Tup4dR;
+import org.barghos.core.tracking.Tup4dBufferSynchronizer;
+import org.barghos.core.tuple4.TrackedTup4d;
+import org.barghos.core.tuple4.Tup4d;
+
+/**
+ * This class provides component tests for the class {@link Tup4dBufferSynchronizer}.
+ * 
+ * @since 1.0.0.0
+ */
+class Tup4dBufferSynchronizerTest
+{
+	/**
+	 * This test ensures, that the first synchronization writes all tuples
+	 * and later synchronizations only the modified ones.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void syncTest()
+	{
+		List<Tup4dR> list = new ArrayList<>();
+		
+		for(int i = 0; i < 10; i++)
+			list.add(i < 5 ? new TrackedTup4d(i) : new Tup4d(i));
+		
+		Tup4dBufferSynchronizer sync = new Tup4dBufferSynchronizer(list);
+		
+		int[] ranges = new int[4];
+		
+		assertEquals(1, sync.sync(ranges, 0));
+		assertEquals(0, ranges[0]);
+		assertEquals(10, ranges[1]);
+		
+		DoubleBuffer buffer = sync.getBuffer();
+		
+		assertEquals(10 * 4, buffer.limit());
+		assertEquals(9.0, buffer.get(10 * 4 - 1));
+		
+		((TrackedTup4d)list.get(2)).setY(-1.0);
+		((Tup4d)list.get(7)).setX(-2.0);
+		sync.markDirty(7);
+		
+		assertEquals(2, sync.sync(ranges, 0));
+		assertArrayEquals(new int[] { 2, 3, 7, 8 }, ranges);
+		assertEquals(-1.0, buffer.get(2 * 4 + 1));
+		assertEquals(-2.0, buffer.get(7 * 4));
+		assertFalse(sync.isDirty());
+	}
+	
+	/**
+	 * This test ensures, that the reported ranges are clamped to the size of a shrunk list.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void shrinkTest()
+	{
+		List<Tup4dR> list = new ArrayList<>();
+		
+		for(int i = 0; i < 10; i++)
+			list.add(new TrackedTup4d(i));
+		
+		Tup4dBufferSynchronizer sync = new Tup4dBufferSynchronizer(list);
+		sync.sync();
+		
+		((TrackedTup4d)list.get(6)).setX(-1.0);
+		((TrackedTup4d)list.get(8)).setX(-1.0);
+		list.remove(9);
+		list.remove(8);
+		
+		int[] ranges = new int[4];
+		
+		assertEquals(1, sync.sync(ranges, 0));
+		assertEquals(6, ranges[0]);
+		assertEquals(7, ranges[1]);
+		assertEquals(8 * 4, sync.getBuffer().limit());
+		assertEquals(-1.0, sync.getBuffer().get(6 * 4));
+	}
+	
+	/**
+	 * This test ensures, that a tracked tuple replacing another one reports its modifications
+	 * after its index was marked as modified.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void replaceTest()
+	{
+		List<Tup4dR> list = new ArrayList<>();
+		
+		for(int i = 0; i < 10; i++)
+			list.add(new TrackedTup4d(i));
+		
+		Tup4dBufferSynchronizer sync = new Tup4dBufferSynchronizer(list);
+		sync.sync();
+		
+		TrackedTup4d replacement = new TrackedTup4d(0.0);
+		list.set(3, replacement);
+		sync.markDirty(3);
+		sync.sync();
+		
+		replacement.setX(5.0);
+		
+		assertTrue(sync.isDirty());
+		
+		int[] ranges = new int[2];
+		
+		assertEquals(1, sync.sync(ranges, 0));
+		assertEquals(3, ranges[0]);
+		assertEquals(4, ranges[1]);
+		assertEquals(5.0, sync.getBuffer().get(3 * 4));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.tuple2;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.tuple2.AdderTup2i;
+import org.barghos.core.tuple2.Tup2i;
+
+/**
+ * This class provides component tests for the class {@link AdderTup2i}.
+ * 
+ * @since 1.0.0.0
+ */
+class AdderTup2iTest
+{
+	/**
+	 * This test ensures, that the number of stripes is rounded up to a power of two.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void ctorTest()
+	{
+		assertEquals(1, new AdderTup2i(1).getStripes());
+		assertEquals(8, new AdderTup2i(5).getStripes());
+		assertEquals(8, new AdderTup2i(8).getStripes());
+		
+		assertThrows(IllegalArgumentException.class, () -> new AdderTup2i(0));
+	}
+	
+	/**
+	 * This test ensures, that the additions are merged by the getters and the sum methods.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void addTest()
+	{
+		AdderTup2i t = new AdderTup2i(4);
+		
+		assertSame(t, t.add(1, 2));
+		assertSame(t, t.add(new Tup2i(2)));
+		assertSame(t, t.addY(4));
+		
+		assertEquals(3, t.getX());
+		assertEquals(8, t.getY());
+		
+		assertEquals(new Tup2i(3, 8), t.sum(new Tup2i()));
+		assertEquals(new Tup2i(3, 8), t.sumThenReset(new Tup2i()));
+		assertEquals(new Tup2i(), t.sum(new Tup2i()));
+		
+		t.addY(1);
+		t.reset();
+		
+		assertEquals(new Tup2i(), t.sum(new Tup2i()));
+		assertEquals("addertup2i(" + "x=" + (int)0 + ", " + "y=" + (int)0 + ")", t.toString());
+	}
+	
+	/**
+	 * This test ensures, that concurrent additions from multiple threads are not lost.
+	 * 
+	 * @throws InterruptedException If the test thread is interrupted.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void concurrentAddTest() throws InterruptedException
+	{
+		AdderTup2i t = new AdderTup2i(2);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		for(int i = 0; i < 4; i++)
+		{
+			executor.execute(() -> {
+				for(int j = 0; j < 10000; j++)
+				{
+					t.add(1, 2);
+					t.addX(1);
+				}
+			});
+		}
+		
+		executor.shutdown();
+		
+		assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		
+		assertEquals(80000, t.getX());
+		assertEquals(80000, t.getY());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.tuple2;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.tuple2.AtomicTup2i;
+import org.barghos.core.tuple2.Tup2i;
+
+/**
+ * This class provides component tests for the class {@link AtomicTup2i}.
+ * 
+ * @since 1.0.0.0
+ */
+class AtomicTup2iTest
+{
+	/**
+	 * This test ensures, that the constructors and setters adopt the components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void ctorTest()
+	{
+		AtomicTup2i t = new AtomicTup2i(1, 2);
+		
+		assertEquals(1, t.getX());
+		assertEquals(2, t.getY());
+		
+		t = new AtomicTup2i(new Tup2i(1, 2));
+		
+		assertEquals(1, t.getX());
+		assertEquals(2, t.getY());
+		
+		assertSame(t, t.set(9));
+		
+		assertEquals(9, t.getX());
+		assertEquals(9, t.getY());
+		
+		assertSame(t, t.setY(3));
+		
+		assertEquals(3, t.getY());
+		assertEquals(9, t.getX());
+	}
+	
+	/**
+	 * This test ensures, that the atomic component operations return the expected values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void componentTest()
+	{
+		AtomicTup2i t = new AtomicTup2i();
+		
+		assertFalse(t.compareAndSetX(1, 2));
+		assertTrue(t.compareAndSetX(0, 2));
+		assertEquals(2, t.getX());
+		assertEquals(2, t.getAndSetX(4));
+		assertEquals(4, t.getAndAddX(3));
+		assertEquals(10, t.addAndGetX(3));
+		assertEquals(0, t.getY());
+		
+		t.setRelease(10, 5);
+		
+		assertEquals(5, t.getYAcquire());
+		assertEquals(10, t.getXAcquire());
+	}
+	
+	/**
+	 * This test ensures, that concurrent additions from multiple threads are not lost.
+	 * 
+	 * @throws InterruptedException If the test thread is interrupted.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void concurrentAddTest() throws InterruptedException
+	{
+		AtomicTup2i t = new AtomicTup2i();
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		for(int i = 0; i < 4; i++)
+		{
+			executor.execute(() -> {
+				for(int j = 0; j < 10000; j++)
+				{
+					t.getAndAddX(1);
+					t.getAndAddY(2);
+				}
+			});
+		}
+		
+		executor.shutdown();
+		
+		assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		
+		assertEquals(40000, t.getX());
+		assertEquals(80000, t.getY());
+	}
+	
+	/**
+	 * This test ensures, that the string representation contains the components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void toStringTest()
+	{
+		assertEquals("atomictup2i(" + "x=" + (int)1 + ", " + "y=" + (int)2 + ")", new AtomicTup2i(1, 2).toString());
+	}
+	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link AtomicTup2i#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		AtomicTup2i t = new AtomicTup2i(1, 2);
+		
+		assertEquals("atomictup2i(" + "x=" + (int)1 + ", " + "y=" + (int)2 + ")", t.appendTo(new StringBuilder()).toString());
+		assertEquals("atomictup2i(" + "x=" + (int)1 + ", " + "y=" + (int)2 + ")", t.appendTo(new StringWriter()).toString());
+	}
+
+	/**
+	 * This test ensures, that the whole tuple is compared and set atomically and negative components survive packing.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void compareAndSetTupleTest()
+	{
+		AtomicTup2i t = new AtomicTup2i(-1, -2);
+		
+		assertEquals(-1, t.getX());
+		assertEquals(-2, t.getY());
+		assertFalse(t.compareAndSet(-1, 0, 5, 6));
+		assertTrue(t.compareAndSet(-1, -2, 5, -6));
+		
+		Tup2i result = t.get(new Tup2i());
+		
+		assertEquals(5, result.getX());
+		assertEquals(-6, result.getY());
+		assertEquals(AtomicTup2i.pack(5, -6), t.getPacked());
+		
+		t.addAndGetY(6);
+		
+		assertEquals(5, t.getX());
+		assertEquals(0, t.getY());
+		
+		t.getAndAddY(-1);
+		
+		assertEquals(5, t.getX());
+		assertEquals(-1, t.getY());
+		
+		t.setRelease(7, 8);
+		
+		assertEquals(7, t.getXAcquire());
+		assertEquals(8, t.getYAcquire());
+	}
+}
\ No newline at end of file
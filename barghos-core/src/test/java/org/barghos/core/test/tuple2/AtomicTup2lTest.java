@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.tuple2;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.tuple2.AtomicTup2l;
+import org.barghos.core.tuple2.Tup2l;
+
+/**
+ * This class provides component tests for the class {@link AtomicTup2l}.
+ * 
+ * @since 1.0.0.0
+ */
+class AtomicTup2lTest
+{
+	/**
+	 * This test ensures, that the constructors and setters adopt the components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void ctorTest()
+	{
+		AtomicTup2l t = new AtomicTup2l(1L, 2L);
+		
+		assertEquals(1L, t.getX());
+		assertEquals(2L, t.getY());
+		
+		t = new AtomicTup2l(new Tup2l(1L, 2L));
+		
+		assertEquals(1L, t.getX());
+		assertEquals(2L, t.getY());
+		
+		assertSame(t, t.set(9L));
+		
+		assertEquals(9L, t.getX());
+		assertEquals(9L, t.getY());
+		
+		assertSame(t, t.setY(3L));
+		
+		assertEquals(3L, t.getY());
+		assertEquals(9L, t.getX());
+	}
+	
+	/**
+	 * This test ensures, that the atomic component operations return the expected values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void componentTest()
+	{
+		AtomicTup2l t = new AtomicTup2l();
+		
+		assertFalse(t.compareAndSetX(1L, 2L));
+		assertTrue(t.compareAndSetX(0L, 2L));
+		assertEquals(2L, t.getX());
+		assertEquals(2L, t.getAndSetX(4L));
+		assertEquals(4L, t.getAndAddX(3L));
+		assertEquals(10L, t.addAndGetX(3L));
+		assertEquals(0L, t.getY());
+		
+		t.setYRelease(5L);
+		
+		assertEquals(5L, t.getYAcquire());
+		assertEquals(10L, t.getXAcquire());
+	}
+	
+	/**
+	 * This test ensures, that concurrent additions from multiple threads are not lost.
+	 * 
+	 * @throws InterruptedException If the test thread is interrupted.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void concurrentAddTest() throws InterruptedException
+	{
+		AtomicTup2l t = new AtomicTup2l();
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		for(int i = 0; i < 4; i++)
+		{
+			executor.execute(() -> {
+				for(int j = 0; j < 10000; j++)
+				{
+					t.getAndAddX(1L);
+					t.getAndAddY(2L);
+				}
+			});
+		}
+		
+		executor.shutdown();
+		
+		assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		
+		assertEquals(40000L, t.getX());
+		assertEquals(80000L, t.getY());
+	}
+	
+	/**
+	 * This test ensures, that the string representation contains the components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void toStringTest()
+	{
+		assertEquals("atomictup2l(" + "x=" + (long)1 + ", " + "y=" + (long)2 + ")", new AtomicTup2l(1L, 2L).toString());
+	}
+	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link AtomicTup2l#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		AtomicTup2l t = new AtomicTup2l(1L, 2L);
+		
+		assertEquals("atomictup2l(" + "x=" + (long)1 + ", " + "y=" + (long)2 + ")", t.appendTo(new StringBuilder()).toString());
+		assertEquals("atomictup2l(" + "x=" + (long)1 + ", " + "y=" + (long)2 + ")", t.appendTo(new StringWriter()).toString());
+	}
+}
\ No newline at end of file
@@ -50,6 +50,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 
 import org.barghos.core.tuple2.PTup2bigd;
@@ -120,6 +122,22 @@ class PTup2bigdTest
 		assertEquals("ptup2bigd(x=1.1, y=2.2)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup2bigd#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup2bigd t = PTup2bigd.gen(BigDecimal.valueOf(1.1), BigDecimal.valueOf(2.2));
+		
+		assertEquals("ptup2bigd(x=1.1, y=2.2)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup2bigd(x=1.1, y=2.2)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup2bigd#equals(Object)} are working.
 	 * 
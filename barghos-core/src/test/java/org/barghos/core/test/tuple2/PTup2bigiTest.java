@@ -50,6 +50,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigInteger;
 
 import org.barghos.core.tuple2.PTup2bigi;
@@ -120,6 +122,22 @@ class PTup2bigiTest
 		assertEquals("ptup2bigi(x=1, y=2)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup2bigi#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup2bigi t = PTup2bigi.gen(BigInteger.valueOf(1), BigInteger.valueOf(2));
+		
+		assertEquals("ptup2bigi(x=1, y=2)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup2bigi(x=1, y=2)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup2bigi#equals(Object)} are working.
 	 * 
@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple2;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple2.PTup2bo;
@@ -118,6 +121,22 @@ class PTup2boTest
 		assertEquals("ptup2bo(x=false, y=true)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup2bo#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup2bo t = PTup2bo.gen(false, true);
+		
+		assertEquals("ptup2bo(x=false, y=true)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup2bo(x=false, y=true)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup2bo#equals(Object)} are working.
 	 * 
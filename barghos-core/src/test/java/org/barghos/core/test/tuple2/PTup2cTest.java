@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple2;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple2.PTup2c;
@@ -118,6 +121,22 @@ class PTup2cTest
 		assertEquals("ptup2c(x=a, y=b)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup2c#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup2c t = PTup2c.gen('a', 'b');
+		
+		assertEquals("ptup2c(x=a, y=b)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup2c(x=a, y=b)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup2c#equals(Object)} are working.
 	 * 
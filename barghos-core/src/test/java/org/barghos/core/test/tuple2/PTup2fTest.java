@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple2;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple2.PTup2f;
@@ -118,6 +121,22 @@ class PTup2fTest
 		assertEquals("ptup2f(x=1.1, y=2.2)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup2f#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup2f t = PTup2f.gen(1.1f, 2.2f);
+		
+		assertEquals("ptup2f(x=1.1, y=2.2)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup2f(x=1.1, y=2.2)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup2f#equals(Object)} are working.
 	 * 
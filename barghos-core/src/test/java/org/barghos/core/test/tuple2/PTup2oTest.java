@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple2;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple2.PTup2o;
@@ -103,6 +106,22 @@ class PTup2oTest
 		assertEquals("ptup2o(x=1, y=arg2)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup2o#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup2o<Integer,String> t = PTup2o.gen(1, "arg2");
+		
+		assertEquals("ptup2o(x=1, y=arg2)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup2o(x=1, y=arg2)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup2o#equals(Object)} are working.
 	 * 
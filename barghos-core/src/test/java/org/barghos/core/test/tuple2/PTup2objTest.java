@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple2;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple2.PTup2obj;
@@ -118,6 +121,22 @@ class PTup2objTest
 		assertEquals("ptup2obj(x=1, y=arg2)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup2obj#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup2obj t = PTup2obj.gen(1, "arg2");
+		
+		assertEquals("ptup2obj(x=1, y=arg2)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup2obj(x=1, y=arg2)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup2obj#equals(Object)} are working.
 	 * 
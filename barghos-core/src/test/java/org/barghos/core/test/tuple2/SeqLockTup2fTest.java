@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.tuple2;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.tuple2.SeqLockTup2f;
+import org.barghos.core.tuple2.Tup2f;
+
+/**
+ * This class provides component tests for the class {@link SeqLockTup2f}.
+ * 
+ * @since 1.0.0.0
+ */
+class SeqLockTup2fTest
+{
+	/**
+	 * This test ensures, that the published components are copied to the result and the sequence advances.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void setGetTest()
+	{
+		SeqLockTup2f h = new SeqLockTup2f();
+		
+		assertEquals(0L, h.getSequence());
+		assertEquals(new Tup2f(), h.get(new Tup2f()));
+		
+		assertSame(h, h.set(1.0f, 2.0f));
+		assertEquals(2L, h.getSequence());
+		
+		Tup2f result = new Tup2f();
+		
+		assertTrue(h.tryGet(result));
+		assertEquals(new Tup2f(1.0f, 2.0f), result);
+		
+		h.set(new Tup2f(5.0f));
+		
+		assertEquals(new Tup2f(5.0f), h.get(result));
+		assertEquals(new Tup2f(7.0f), new SeqLockTup2f(new Tup2f(7.0f)).get(new Tup2f()));
+		assertEquals("seqlocktup2f(" + "x=" + (float)5 + ", " + "y=" + (float)5 + ")", h.toString());
+	}
+	
+	/**
+	 * This test ensures, that readers never observe a partially written tuple while a writer publishes.
+	 * 
+	 * @throws InterruptedException If the test thread is interrupted.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void concurrentTest() throws InterruptedException
+	{
+		SeqLockTup2f h = new SeqLockTup2f();
+		
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicInteger torn = new AtomicInteger();
+		
+		Thread[] readers = new Thread[3];
+		
+		for(int i = 0; i < readers.length; i++)
+		{
+			readers[i] = new Thread(() -> {
+				Tup2f t = new Tup2f();
+				
+				while(running.get())
+				{
+					h.get(t);
+					
+					if(t.y != t.x) torn.incrementAndGet();
+				}
+			});
+			
+			readers[i].start();
+		}
+		
+		for(int i = 0; i < 200000; i++)
+		{
+			h.set(i, i);
+		}
+		
+		running.set(false);
+		
+		for(Thread reader : readers)
+		{
+			reader.join();
+		}
+		
+		assertEquals(0, torn.get());
+		assertEquals(new Tup2f(199999.0f), h.get(new Tup2f()));
+	}
+}
\ No newline at end of file
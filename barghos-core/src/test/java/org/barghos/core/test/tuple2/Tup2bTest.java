@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple2;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple2.PTup2b;
@@ -238,6 +241,22 @@ class Tup2bTest
 		assertEquals("tup2b(x=1, y=2)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup2b#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup2b t = new Tup2b((byte)1, (byte)2);
+		
+		assertEquals("tup2b(x=1, y=2)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup2b(x=1, y=2)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup2b#equals(Object)} are working.
 	 * 
@@ -24,6 +24,8 @@ package org.barghos.core.test.tuple2;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 
 import org.junit.jupiter.api.Test;
@@ -240,6 +242,22 @@ class Tup2bigdTest
 		assertEquals("tup2bigd(x=1.1, y=2.2)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup2bigd#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup2bigd t = new Tup2bigd(BigDecimal.valueOf(1.1), BigDecimal.valueOf(2.2));
+		
+		assertEquals("tup2bigd(x=1.1, y=2.2)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup2bigd(x=1.1, y=2.2)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup2bigd#equals(Object)} are working.
 	 * 
@@ -24,6 +24,8 @@ package org.barghos.core.test.tuple2;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigInteger;
 
 import org.junit.jupiter.api.Test;
@@ -240,6 +242,22 @@ class Tup2bigiTest
 		assertEquals("tup2bigi(x=1, y=2)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup2bigi#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup2bigi t = new Tup2bigi(BigInteger.valueOf(1), BigInteger.valueOf(2));
+		
+		assertEquals("tup2bigi(x=1, y=2)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup2bigi(x=1, y=2)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup2bigi#equals(Object)} are working.
 	 * 
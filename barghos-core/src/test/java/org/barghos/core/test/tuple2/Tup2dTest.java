@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple2;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple2.PTup2d;
@@ -238,6 +241,22 @@ class Tup2dTest
 		assertEquals("tup2d(x=1.2, y=3.4)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup2d#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup2d t = new Tup2d(1.2, 3.4);
+		
+		assertEquals("tup2d(x=1.2, y=3.4)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup2d(x=1.2, y=3.4)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup2d#equals(Object)} are working.
 	 * 
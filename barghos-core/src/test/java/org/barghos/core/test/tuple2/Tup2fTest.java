@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple2;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple2.PTup2f;
@@ -238,6 +241,22 @@ class Tup2fTest
 		assertEquals("tup2f(x=1.2, y=3.4)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup2f#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup2f t = new Tup2f(1.2f, 3.4f);
+		
+		assertEquals("tup2f(x=1.2, y=3.4)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup2f(x=1.2, y=3.4)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup2f#equals(Object)} are working.
 	 * 
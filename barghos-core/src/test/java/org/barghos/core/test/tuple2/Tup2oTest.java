@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple2;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple2.PTup2o;
@@ -207,6 +210,22 @@ class Tup2oTest
 		assertEquals("tup2o(x=1, y=arg2)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup2o#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup2o<Integer,String> t = new Tup2o<>(1, "arg2");
+		
+		assertEquals("tup2o(x=1, y=arg2)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup2o(x=1, y=arg2)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup2o#equals(Object)} are working.
 	 * 
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.tuple3;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.tuple3.AtomicTup3f;
+import org.barghos.core.tuple3.Tup3f;
+
+/**
+ * This class provides component tests for the class {@link AtomicTup3f}.
+ * 
+ * @since 1.0.0.0
+ */
+class AtomicTup3fTest
+{
+	/**
+	 * This test ensures, that the constructors and setters adopt the components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void ctorTest()
+	{
+		AtomicTup3f t = new AtomicTup3f(1.0f, 2.0f, 3.0f);
+		
+		assertEquals(1.0f, t.getX());
+		assertEquals(2.0f, t.getY());
+		assertEquals(3.0f, t.getZ());
+		
+		t = new AtomicTup3f(new Tup3f(1.0f, 2.0f, 3.0f));
+		
+		assertEquals(1.0f, t.getX());
+		assertEquals(2.0f, t.getY());
+		assertEquals(3.0f, t.getZ());
+		
+		assertSame(t, t.set(9.0f));
+		
+		assertEquals(9.0f, t.getX());
+		assertEquals(9.0f, t.getY());
+		assertEquals(9.0f, t.getZ());
+		
+		assertSame(t, t.setZ(3.0f));
+		
+		assertEquals(3.0f, t.getZ());
+		assertEquals(9.0f, t.getX());
+	}
+	
+	/**
+	 * This test ensures, that the atomic component operations return the expected values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void componentTest()
+	{
+		AtomicTup3f t = new AtomicTup3f();
+		
+		assertFalse(t.compareAndSetX(1.0f, 2.0f));
+		assertTrue(t.compareAndSetX(0.0f, 2.0f));
+		assertEquals(2.0f, t.getX());
+		assertEquals(2.0f, t.getAndSetX(4.0f));
+		assertEquals(4.0f, t.getAndAddX(3.0f));
+		assertEquals(10.0f, t.addAndGetX(3.0f));
+		assertEquals(0.0f, t.getZ());
+		
+		t.setZRelease(5.0f);
+		
+		assertEquals(5.0f, t.getZAcquire());
+		assertEquals(10.0f, t.getXAcquire());
+	}
+	
+	/**
+	 * This test ensures, that concurrent additions from multiple threads are not lost.
+	 * 
+	 * @throws InterruptedException If the test thread is interrupted.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void concurrentAddTest() throws InterruptedException
+	{
+		AtomicTup3f t = new AtomicTup3f();
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		for(int i = 0; i < 4; i++)
+		{
+			executor.execute(() -> {
+				for(int j = 0; j < 10000; j++)
+				{
+					t.getAndAddX(1.0f);
+					t.getAndAddY(2.0f);
+					t.getAndAddZ(3.0f);
+				}
+			});
+		}
+		
+		executor.shutdown();
+		
+		assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		
+		assertEquals(40000.0f, t.getX());
+		assertEquals(80000.0f, t.getY());
+		assertEquals(120000.0f, t.getZ());
+	}
+	
+	/**
+	 * This test ensures, that the string representation contains the components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void toStringTest()
+	{
+		assertEquals("atomictup3f(" + "x=" + (float)1 + ", " + "y=" + (float)2 + ", " + "z=" + (float)3 + ")", new AtomicTup3f(1.0f, 2.0f, 3.0f).toString());
+	}
+	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link AtomicTup3f#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		AtomicTup3f t = new AtomicTup3f(1.0f, 2.0f, 3.0f);
+		
+		assertEquals("atomictup3f(" + "x=" + (float)1 + ", " + "y=" + (float)2 + ", " + "z=" + (float)3 + ")", t.appendTo(new StringBuilder()).toString());
+		assertEquals("atomictup3f(" + "x=" + (float)1 + ", " + "y=" + (float)2 + ", " + "z=" + (float)3 + ")", t.appendTo(new StringWriter()).toString());
+	}
+}
\ No newline at end of file
@@ -50,6 +50,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 
 import org.barghos.core.tuple3.PTup3bigd;
@@ -123,6 +125,22 @@ class PTup3bigdTest
 		assertEquals("ptup3bigd(x=1.1, y=2.2, z=3.3)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup3bigd#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup3bigd t = PTup3bigd.gen(BigDecimal.valueOf(1.1), BigDecimal.valueOf(2.2), BigDecimal.valueOf(3.3));
+		
+		assertEquals("ptup3bigd(x=1.1, y=2.2, z=3.3)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup3bigd(x=1.1, y=2.2, z=3.3)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup3bigd#equals(Object)} are working.
 	 * 
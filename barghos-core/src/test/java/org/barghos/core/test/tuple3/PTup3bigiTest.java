@@ -50,6 +50,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigInteger;
 
 import org.barghos.core.tuple3.PTup3bigi;
@@ -123,6 +125,22 @@ class PTup3bigiTest
 		assertEquals("ptup3bigi(x=1, y=2, z=3)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup3bigi#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup3bigi t = PTup3bigi.gen(BigInteger.valueOf(1), BigInteger.valueOf(2), BigInteger.valueOf(3));
+		
+		assertEquals("ptup3bigi(x=1, y=2, z=3)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup3bigi(x=1, y=2, z=3)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup3bigi#equals(Object)} are working.
 	 * 
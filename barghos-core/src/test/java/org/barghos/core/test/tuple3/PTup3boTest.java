@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple3;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple3.PTup3bo;
@@ -121,6 +124,22 @@ class PTup3boTest
 		assertEquals("ptup3bo(x=false, y=true, z=false)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup3bo#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup3bo t = PTup3bo.gen(false, true, false);
+		
+		assertEquals("ptup3bo(x=false, y=true, z=false)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup3bo(x=false, y=true, z=false)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup3bo#equals(Object)} are working.
 	 * 
@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple3;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple3.PTup3c;
@@ -121,6 +124,22 @@ class PTup3cTest
 		assertEquals("ptup3c(x=a, y=b, z=c)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup3c#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup3c t = PTup3c.gen('a', 'b', 'c');
+		
+		assertEquals("ptup3c(x=a, y=b, z=c)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup3c(x=a, y=b, z=c)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup3c#equals(Object)} are working.
 	 * 
@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple3;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple3.PTup3f;
@@ -121,6 +124,22 @@ class PTup3fTest
 		assertEquals("ptup3f(x=1.1, y=2.2, z=3.3)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup3f#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup3f t = PTup3f.gen(1.1f, 2.2f, 3.3f);
+		
+		assertEquals("ptup3f(x=1.1, y=2.2, z=3.3)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup3f(x=1.1, y=2.2, z=3.3)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup3f#equals(Object)} are working.
 	 * 
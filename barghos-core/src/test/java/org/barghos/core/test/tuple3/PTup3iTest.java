@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple3;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple3.PTup3i;
@@ -121,6 +124,22 @@ class PTup3iTest
 		assertEquals("ptup3i(x=1, y=2, z=3)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup3i#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup3i t = PTup3i.gen(1, 2, 3);
+		
+		assertEquals("ptup3i(x=1, y=2, z=3)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup3i(x=1, y=2, z=3)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup3i#equals(Object)} are working.
 	 * 
@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple3;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple3.PTup3o;
@@ -105,6 +108,22 @@ class PTup3oTest
 		assertEquals("ptup3o(x=1, y=arg2, z=3.3)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup3o#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup3o<Integer,String,Double> t = PTup3o.gen(1, "arg2", 3.3);
+		
+		assertEquals("ptup3o(x=1, y=arg2, z=3.3)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup3o(x=1, y=arg2, z=3.3)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup3o#equals(Object)} are working.
 	 * 
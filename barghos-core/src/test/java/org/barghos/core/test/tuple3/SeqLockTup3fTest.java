@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.tuple3;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.tuple3.SeqLockTup3f;
+import org.barghos.core.tuple3.Tup3f;
+
+/**
+ * This class provides component tests for the class {@link SeqLockTup3f}.
+ * 
+ * @since 1.0.0.0
+ */
+class SeqLockTup3fTest
+{
+	/**
+	 * This test ensures, that the published components are copied to the result and the sequence advances.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void setGetTest()
+	{
+		SeqLockTup3f h = new SeqLockTup3f();
+		
+		assertEquals(0L, h.getSequence());
+		assertEquals(new Tup3f(), h.get(new Tup3f()));
+		
+		assertSame(h, h.set(1.0f, 2.0f, 3.0f));
+		assertEquals(2L, h.getSequence());
+		
+		Tup3f result = new Tup3f();
+		
+		assertTrue(h.tryGet(result));
+		assertEquals(new Tup3f(1.0f, 2.0f, 3.0f), result);
+		
+		h.set(new Tup3f(5.0f));
+		
+		assertEquals(new Tup3f(5.0f), h.get(result));
+		assertEquals(new Tup3f(7.0f), new SeqLockTup3f(new Tup3f(7.0f)).get(new Tup3f()));
+		assertEquals("seqlocktup3f(" + "x=" + (float)5 + ", " + "y=" + (float)5 + ", " + "z=" + (float)5 + ")", h.toString());
+	}
+	
+	/**
+	 * This test ensures, that readers never observe a partially written tuple while a writer publishes.
+	 * 
+	 * @throws InterruptedException If the test thread is interrupted.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void concurrentTest() throws InterruptedException
+	{
+		SeqLockTup3f h = new SeqLockTup3f();
+		
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicInteger torn = new AtomicInteger();
+		
+		Thread[] readers = new Thread[3];
+		
+		for(int i = 0; i < readers.length; i++)
+		{
+			readers[i] = new Thread(() -> {
+				Tup3f t = new Tup3f();
+				
+				while(running.get())
+				{
+					h.get(t);
+					
+					if(t.y != t.x || t.z != t.x) torn.incrementAndGet();
+				}
+			});
+			
+			readers[i].start();
+		}
+		
+		for(int i = 0; i < 200000; i++)
+		{
+			h.set(i, i, i);
+		}
+		
+		running.set(false);
+		
+		for(Thread reader : readers)
+		{
+			reader.join();
+		}
+		
+		assertEquals(0, torn.get());
+		assertEquals(new Tup3f(199999.0f), h.get(new Tup3f()));
+	}
+}
\ No newline at end of file
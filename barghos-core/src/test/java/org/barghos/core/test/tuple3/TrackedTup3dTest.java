@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.tuple3;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.tracking.DirtyRangeTracker;
+import org.barghos.core.tuple3.TrackedTup3d;
+import org.barghos.core.tuple3.Tup3d;
+
+/**
+ * This class provides component tests for the class {@link TrackedTup3d}.
+ * 
+ * @since 1.0.0.0
+ */
+class TrackedTup3dTest
+{
+	/**
+	 * This test ensures, that a new instance is dirty and adopts the components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void ctorTest()
+	{
+		TrackedTup3d t = new TrackedTup3d(1.0, 2.0, 3.0);
+		
+		assertEquals(new Tup3d(1.0, 2.0, 3.0), t);
+		assertTrue(t.isDirty());
+		assertEquals(1, t.getVersion());
+	}
+	
+	/**
+	 * This test ensures, that every setter increments the version once and marks the tuple as dirty.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void settersTest()
+	{
+		TrackedTup3d t = new TrackedTup3d();
+		t.clearDirty();
+		
+		assertFalse(t.isDirty());
+		
+		long version = t.getVersion();
+		
+		assertSame(t, t.setX(5.0));
+		assertEquals(5.0, t.x);
+		assertEquals(version + 1, t.getVersion());
+		assertTrue(t.isDirty());
+		
+		t.clearDirty();
+		
+		assertSame(t, t.set(1.0, 2.0, 3.0));
+		assertEquals(version + 2, t.getVersion());
+		
+		t.set(new Tup3d(7.0));
+		assertEquals(version + 3, t.getVersion());
+		
+		t.set(9.0);
+		assertEquals(version + 4, t.getVersion());
+		assertEquals(new Tup3d(9.0), t);
+		assertTrue(t.isDirty());
+	}
+	
+	/**
+	 * This test ensures, that a bound tuple marks its index in the tracker and an unbound tuple does not.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void bindTest()
+	{
+		DirtyRangeTracker tracker = new DirtyRangeTracker();
+		
+		TrackedTup3d t = new TrackedTup3d().bind(tracker, 70);
+		
+		assertSame(tracker, t.getTracker());
+		assertEquals(70, t.getIndex());
+		assertTrue(tracker.isClean());
+		
+		t.setY(1.0);
+		
+		assertTrue(tracker.isDirty(70));
+		assertEquals(1, tracker.getDirtyCount());
+		
+		tracker.clear();
+		t.bind(null, 0);
+		t.set(2.0);
+		
+		assertTrue(tracker.isClean());
+		
+		TrackedTup3d c = t.clone();
+		
+		assertEquals(t, c);
+		assertNull(c.getTracker());
+	}
+}
\ No newline at end of file
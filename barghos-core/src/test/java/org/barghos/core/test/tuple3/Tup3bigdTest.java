@@ -24,6 +24,8 @@ package org.barghos.core.test.tuple3;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 
 import org.junit.jupiter.api.Test;
@@ -278,6 +280,22 @@ class Tup3bigdTest
 		assertEquals("tup3bigd(x=1.1, y=2.2, z=3.3)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup3bigd#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup3bigd t = new Tup3bigd(BigDecimal.valueOf(1.1), BigDecimal.valueOf(2.2), BigDecimal.valueOf(3.3));
+		
+		assertEquals("tup3bigd(x=1.1, y=2.2, z=3.3)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup3bigd(x=1.1, y=2.2, z=3.3)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup3bigd#equals(Object)} are working.
 	 * 
@@ -24,6 +24,8 @@ package org.barghos.core.test.tuple3;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigInteger;
 
 import org.junit.jupiter.api.Test;
@@ -278,6 +280,22 @@ class Tup3bigiTest
 		assertEquals("tup3bigi(x=1, y=2, z=3)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup3bigi#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup3bigi t = new Tup3bigi(BigInteger.valueOf(1), BigInteger.valueOf(2), BigInteger.valueOf(3));
+		
+		assertEquals("tup3bigi(x=1, y=2, z=3)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup3bigi(x=1, y=2, z=3)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup3bigi#equals(Object)} are working.
 	 * 
@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple3;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple3.PTup3bo;
@@ -276,6 +279,22 @@ class Tup3boTest
 		assertEquals("tup3bo(x=false, y=true, z=true)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup3bo#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup3bo t = new Tup3bo(false, true, true);
+		
+		assertEquals("tup3bo(x=false, y=true, z=true)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup3bo(x=false, y=true, z=true)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup3bo#equals(Object)} are working.
 	 * 
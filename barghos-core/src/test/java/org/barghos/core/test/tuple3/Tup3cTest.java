@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple3;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple3.PTup3c;
@@ -276,6 +279,22 @@ class Tup3cTest
 		assertEquals("tup3c(x=a, y=b, z=c)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup3c#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup3c t = new Tup3c('a', 'b', 'c');
+		
+		assertEquals("tup3c(x=a, y=b, z=c)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup3c(x=a, y=b, z=c)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup3c#equals(Object)} are working.
 	 * 
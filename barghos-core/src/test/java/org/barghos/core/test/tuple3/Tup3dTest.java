@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple3;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple3.PTup3d;
@@ -276,6 +279,27 @@ class Tup3dTest
 		assertEquals("tup3d(x=1.2, y=3.4, z=5.6)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup3d#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup3d t = new Tup3d(1.2, 3.4, 5.6);
+		
+		assertEquals("tup3d(x=1.2, y=3.4, z=5.6)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup3d(x=1.2, y=3.4, z=5.6)", t.appendTo(new StringWriter()).toString());
+		
+		t = new Tup3d(1.0e23, 2.0, 3.0);
+		
+		assertEquals("tup3d(x=1.0E23, y=2.0, z=3.0)", t.toString());
+		assertEquals("tup3d(x=1.0E23, y=2.0, z=3.0)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup3d#equals(Object)} are working.
 	 * 
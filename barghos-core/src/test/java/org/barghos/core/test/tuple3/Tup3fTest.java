@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple3;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple3.PTup3f;
@@ -276,6 +279,22 @@ class Tup3fTest
 		assertEquals("tup3f(x=1.2, y=3.4, z=5.6)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup3f#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup3f t = new Tup3f(1.2f, 3.4f, 5.6f);
+		
+		assertEquals("tup3f(x=1.2, y=3.4, z=5.6)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup3f(x=1.2, y=3.4, z=5.6)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup3f#equals(Object)} are working.
 	 * 
@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple3;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple3.PTup3obj;
@@ -276,6 +279,22 @@ class Tup3objTest
 		assertEquals("tup3obj(x=1, y=arg2, z=3.3)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup3obj#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup3obj t = new Tup3obj(1, "arg2", 3.3);
+		
+		assertEquals("tup3obj(x=1, y=arg2, z=3.3)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup3obj(x=1, y=arg2, z=3.3)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup3obj#equals(Object)} are working.
 	 * 
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.tuple4;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.tuple4.AdderTup4d;
+import org.barghos.core.tuple4.Tup4d;
+
+/**
+ * This class provides component tests for the class {@link AdderTup4d}.
+ * 
+ * @since 1.0.0.0
+ */
+class AdderTup4dTest
+{
+	/**
+	 * This test ensures, that the number of stripes is rounded up to a power of two.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void ctorTest()
+	{
+		assertEquals(1, new AdderTup4d(1).getStripes());
+		assertEquals(8, new AdderTup4d(5).getStripes());
+		assertEquals(8, new AdderTup4d(8).getStripes());
+		
+		assertThrows(IllegalArgumentException.class, () -> new AdderTup4d(0));
+	}
+	
+	/**
+	 * This test ensures, that the additions are merged by the getters and the sum methods.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void addTest()
+	{
+		AdderTup4d t = new AdderTup4d(4);
+		
+		assertSame(t, t.add(1.0, 2.0, 3.0, 4.0));
+		assertSame(t, t.add(new Tup4d(2.0)));
+		assertSame(t, t.addW(4.0));
+		
+		assertEquals(3.0, t.getX());
+		assertEquals(4.0, t.getY());
+		assertEquals(5.0, t.getZ());
+		assertEquals(10.0, t.getW());
+		
+		assertEquals(new Tup4d(3.0, 4.0, 5.0, 10.0), t.sum(new Tup4d()));
+		assertEquals(new Tup4d(3.0, 4.0, 5.0, 10.0), t.sumThenReset(new Tup4d()));
+		assertEquals(new Tup4d(), t.sum(new Tup4d()));
+		
+		t.addY(1.0);
+		t.reset();
+		
+		assertEquals(new Tup4d(), t.sum(new Tup4d()));
+		assertEquals("addertup4d(" + "x=" + (double)0 + ", " + "y=" + (double)0 + ", " + "z=" + (double)0 + ", " + "w=" + (double)0 + ")", t.toString());
+	}
+	
+	/**
+	 * This test ensures, that concurrent additions from multiple threads are not lost.
+	 * 
+	 * @throws InterruptedException If the test thread is interrupted.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void concurrentAddTest() throws InterruptedException
+	{
+		AdderTup4d t = new AdderTup4d(2);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		for(int i = 0; i < 4; i++)
+		{
+			executor.execute(() -> {
+				for(int j = 0; j < 10000; j++)
+				{
+					t.add(1.0, 2.0, 3.0, 4.0);
+					t.addX(1.0);
+				}
+			});
+		}
+		
+		executor.shutdown();
+		
+		assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		
+		assertEquals(80000.0, t.getX());
+		assertEquals(80000.0, t.getY());
+		assertEquals(120000.0, t.getZ());
+		assertEquals(160000.0, t.getW());
+	}
+}
\ No newline at end of file
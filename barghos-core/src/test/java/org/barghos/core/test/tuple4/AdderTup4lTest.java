@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.tuple4;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.tuple4.AdderTup4l;
+import org.barghos.core.tuple4.Tup4l;
+
+/**
+ * This class provides component tests for the class {@link AdderTup4l}.
+ * 
+ * @since 1.0.0.0
+ */
+class AdderTup4lTest
+{
+	/**
+	 * This test ensures, that the number of stripes is rounded up to a power of two.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void ctorTest()
+	{
+		assertEquals(1, new AdderTup4l(1).getStripes());
+		assertEquals(8, new AdderTup4l(5).getStripes());
+		assertEquals(8, new AdderTup4l(8).getStripes());
+		
+		assertThrows(IllegalArgumentException.class, () -> new AdderTup4l(0));
+	}
+	
+	/**
+	 * This test ensures, that the additions are merged by the getters and the sum methods.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void addTest()
+	{
+		AdderTup4l t = new AdderTup4l(4);
+		
+		assertSame(t, t.add(1L, 2L, 3L, 4L));
+		assertSame(t, t.add(new Tup4l(2L)));
+		assertSame(t, t.addW(4L));
+		
+		assertEquals(3L, t.getX());
+		assertEquals(4L, t.getY());
+		assertEquals(5L, t.getZ());
+		assertEquals(10L, t.getW());
+		
+		assertEquals(new Tup4l(3L, 4L, 5L, 10L), t.sum(new Tup4l()));
+		assertEquals(new Tup4l(3L, 4L, 5L, 10L), t.sumThenReset(new Tup4l()));
+		assertEquals(new Tup4l(), t.sum(new Tup4l()));
+		
+		t.addY(1L);
+		t.reset();
+		
+		assertEquals(new Tup4l(), t.sum(new Tup4l()));
+		assertEquals("addertup4l(" + "x=" + (long)0 + ", " + "y=" + (long)0 + ", " + "z=" + (long)0 + ", " + "w=" + (long)0 + ")", t.toString());
+	}
+	
+	/**
+	 * This test ensures, that concurrent additions from multiple threads are not lost.
+	 * 
+	 * @throws InterruptedException If the test thread is interrupted.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void concurrentAddTest() throws InterruptedException
+	{
+		AdderTup4l t = new AdderTup4l(2);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		for(int i = 0; i < 4; i++)
+		{
+			executor.execute(() -> {
+				for(int j = 0; j < 10000; j++)
+				{
+					t.add(1L, 2L, 3L, 4L);
+					t.addX(1L);
+				}
+			});
+		}
+		
+		executor.shutdown();
+		
+		assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		
+		assertEquals(80000L, t.getX());
+		assertEquals(80000L, t.getY());
+		assertEquals(120000L, t.getZ());
+		assertEquals(160000L, t.getW());
+	}
+}
\ No newline at end of file
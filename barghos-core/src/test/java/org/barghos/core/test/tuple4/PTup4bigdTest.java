@@ -50,6 +50,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 
 import org.barghos.core.tuple4.PTup4bigd;
@@ -126,6 +128,22 @@ class PTup4bigdTest
 		assertEquals("ptup4bigd(x=1.1, y=2.2, z=3.3, w=4.4)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup4bigd#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup4bigd t = PTup4bigd.gen(BigDecimal.valueOf(1.1), BigDecimal.valueOf(2.2), BigDecimal.valueOf(3.3), BigDecimal.valueOf(4.4));
+		
+		assertEquals("ptup4bigd(x=1.1, y=2.2, z=3.3, w=4.4)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup4bigd(x=1.1, y=2.2, z=3.3, w=4.4)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup4bigd#equals(Object)} are working.
 	 * 
@@ -50,6 +50,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigInteger;
 
 import org.barghos.core.tuple4.PTup4bigi;
@@ -126,6 +128,22 @@ class PTup4bigiTest
 		assertEquals("ptup4bigi(x=1, y=2, z=3, w=4)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup4bigi#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup4bigi t = PTup4bigi.gen(BigInteger.valueOf(1), BigInteger.valueOf(2), BigInteger.valueOf(3), BigInteger.valueOf(4));
+		
+		assertEquals("ptup4bigi(x=1, y=2, z=3, w=4)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup4bigi(x=1, y=2, z=3, w=4)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup4bigi#equals(Object)} are working.
 	 * 
@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple4;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple4.PTup4bo;
@@ -124,6 +127,22 @@ class PTup4boTest
 		assertEquals("ptup4bo(x=false, y=true, z=false, w=true)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup4bo#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup4bo t = PTup4bo.gen(false, true, false, true);
+		
+		assertEquals("ptup4bo(x=false, y=true, z=false, w=true)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup4bo(x=false, y=true, z=false, w=true)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup4bo#equals(Object)} are working.
 	 * 
@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple4;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple4.PTup4c;
@@ -124,6 +127,22 @@ class PTup4cTest
 		assertEquals("ptup4c(x=a, y=b, z=c, w=d)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup4c#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup4c t = PTup4c.gen('a', 'b', 'c', 'd');
+		
+		assertEquals("ptup4c(x=a, y=b, z=c, w=d)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup4c(x=a, y=b, z=c, w=d)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup4c#equals(Object)} are working.
 	 * 
@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple4;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple4.PTup4f;
@@ -124,6 +127,22 @@ class PTup4fTest
 		assertEquals("ptup4f(x=1.1, y=2.2, z=3.3, w=4.4)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup4f#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup4f t = PTup4f.gen(1.1f, 2.2f, 3.3f, 4.4f);
+		
+		assertEquals("ptup4f(x=1.1, y=2.2, z=3.3, w=4.4)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup4f(x=1.1, y=2.2, z=3.3, w=4.4)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup4f#equals(Object)} are working.
 	 * 
@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple4;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple4.PTup4l;
@@ -124,6 +127,22 @@ class PTup4lTest
 		assertEquals("ptup4l(x=1, y=2, z=3, w=4)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup4l#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup4l t = PTup4l.gen(1l, 2l, 3l, 4l);
+		
+		assertEquals("ptup4l(x=1, y=2, z=3, w=4)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup4l(x=1, y=2, z=3, w=4)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup4l#equals(Object)} are working.
 	 * 
@@ -48,6 +48,9 @@ package org.barghos.core.test.tuple4;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple4.PTup4obj;
@@ -124,6 +127,22 @@ class PTup4objTest
 		assertEquals("ptup4obj(x=1, y=arg2, z=3.3, w=d)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link PTup4obj#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		PTup4obj t = PTup4obj.gen(1, "arg2", 3.3, 'd');
+		
+		assertEquals("ptup4obj(x=1, y=arg2, z=3.3, w=d)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("ptup4obj(x=1, y=arg2, z=3.3, w=d)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link PTup4obj#equals(Object)} are working.
 	 * 
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.tuple4;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.tuple4.PackedTup4b;
+import org.barghos.core.tuple4.Tup4b;
+
+/**
+ * This class provides component tests for the class {@link PackedTup4b}.
+ * 
+ * @since 1.0.0.0
+ */
+class PackedTup4bTest
+{
+	/**
+	 * This test ensures, that the components are stored in their lanes and the tuple equals {@link Tup4b}
+	 * with the same components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void componentsTest()
+	{
+		PackedTup4b t = new PackedTup4b((byte)1, (byte)2, (byte)-1, (byte)4);
+		
+		assertEquals(1, t.getX());
+		assertEquals(2, t.getY());
+		assertEquals(-1, t.getZ());
+		assertEquals(4, t.getW());
+		assertEquals(0x04FF0201, t.getPacked());
+		
+		assertEquals(new Tup4b((byte)1, (byte)2, (byte)-1, (byte)4), t);
+		assertEquals(new Tup4b((byte)1, (byte)2, (byte)-1, (byte)4).hashCode(), t.hashCode());
+		
+		assertSame(t, t.setY((byte)-7));
+		assertEquals(new Tup4b((byte)1, (byte)-7, (byte)-1, (byte)4), t);
+		
+		t.setX(Byte.MIN_VALUE).setZ((byte)0).setW(Byte.MAX_VALUE);
+		assertEquals(new Tup4b(Byte.MIN_VALUE, (byte)-7, (byte)0, Byte.MAX_VALUE), t);
+		
+		t.set((byte)5);
+		assertEquals(new Tup4b((byte)5), t);
+		
+		t.set(new Tup4b((byte)1, (byte)2, (byte)3, (byte)4));
+		assertEquals(PackedTup4b.pack((byte)1, (byte)2, (byte)3, (byte)4), t.getPacked());
+		
+		PackedTup4b c = t.clone();
+		assertEquals(t, c);
+		assertNotSame(t, c);
+		
+		assertEquals("packedtup4b(x=1, y=2, z=3, w=4)", t.toString());
+	}
+	
+	/**
+	 * This test ensures, that all lanewise operations match a lane by lane calculation for random values
+	 * and the extremes of the value range.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void lanesTest()
+	{
+		Random random = new Random(11);
+		
+		byte[] extremes = { 0, 1, -1, Byte.MAX_VALUE, Byte.MIN_VALUE, (byte)(Byte.MAX_VALUE - 1), (byte)(Byte.MIN_VALUE + 1) };
+		
+		for(int n = 0; n < 20000; n++)
+		{
+			int a = random.nextInt();
+			int b = random.nextInt();
+			
+			if(n < extremes.length * extremes.length)
+			{
+				byte x = extremes[n % extremes.length];
+				byte y = extremes[n / extremes.length];
+				
+				a = PackedTup4b.pack(x, y, x, y);
+				b = PackedTup4b.pack(y, x, x, y);
+			}
+			
+			for(int lane = 0; lane < 4; lane++)
+			{
+				int x = lane(a, lane);
+				int y = lane(b, lane);
+				int ux = x & 255;
+				int uy = y & 255;
+				
+				assertEquals((byte)(x + y), lane(PackedTup4b.add(a, b), lane));
+				assertEquals((byte)(x - y), lane(PackedTup4b.sub(a, b), lane));
+				assertEquals(Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, x + y)), lane(PackedTup4b.addSaturated(a, b), lane));
+				assertEquals(Math.min(255, ux + uy), lane(PackedTup4b.addSaturatedUnsigned(a, b), lane) & 255);
+				assertEquals(Math.min(x, y), lane(PackedTup4b.min(a, b), lane));
+				assertEquals(Math.max(x, y), lane(PackedTup4b.max(a, b), lane));
+				assertEquals(Math.min(ux, uy), lane(PackedTup4b.minUnsigned(a, b), lane) & 255);
+				assertEquals(Math.max(ux, uy), lane(PackedTup4b.maxUnsigned(a, b), lane) & 255);
+				assertEquals(Math.floorDiv(x + y, 2), lane(PackedTup4b.average(a, b), lane));
+				assertEquals((ux + uy) / 2, lane(PackedTup4b.averageUnsigned(a, b), lane) & 255);
+			}
+		}
+	}
+	
+	/**
+	 * This test ensures, that the instance operations use the packed operations.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void operationsTest()
+	{
+		Tup4b t = new Tup4b((byte)1, Byte.MAX_VALUE, (byte)-4, (byte)6);
+		
+		assertEquals(new Tup4b((byte)3, Byte.MAX_VALUE, (byte)-2, (byte)9), new PackedTup4b((byte)2, (byte)0, (byte)2, (byte)3).add(t).max(new Tup4b((byte)-1, (byte)0, (byte)-2, (byte)7)));
+		assertEquals(new Tup4b((byte)1, Byte.MAX_VALUE, (byte)-4, (byte)6), new PackedTup4b((byte)2, (byte)1, (byte)2, (byte)7).addSaturated(t).sub(new Tup4b((byte)2, (byte)0, (byte)0, (byte)7)).min(t));
+		assertEquals(new Tup4b((byte)1, (byte)64, (byte)-3, (byte)3), new PackedTup4b((byte)2, (byte)1, (byte)-2, (byte)0).average(t));
+	}
+	
+	/**
+	 * This test ensures, that the bulk operations process arrays, heap buffers and direct buffers.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void applyTest()
+	{
+		int[] a = { PackedTup4b.pack((byte)1, (byte)2, (byte)3, (byte)4), PackedTup4b.pack((byte)-1, Byte.MAX_VALUE, (byte)0, (byte)5), PackedTup4b.pack((byte)7, (byte)7, (byte)7, (byte)7) };
+		int[] b = { PackedTup4b.pack((byte)1, (byte)1, (byte)1, (byte)1), PackedTup4b.pack((byte)-1, (byte)1, (byte)0, (byte)-5), PackedTup4b.pack((byte)0, (byte)0, (byte)0, (byte)0) };
+		
+		int[] expected = new int[3];
+		for(int i = 0; i < 3; i++) expected[i] = PackedTup4b.addSaturated(a[i], b[i]);
+		
+		int[] dst = new int[3];
+		PackedTup4b.apply(PackedTup4b::addSaturated, a, b, dst, 0, 3);
+		assertArrayEquals(expected, dst);
+		
+		PackedTup4b.apply(PackedTup4b::add, a, PackedTup4b.pack((byte)1, (byte)1, (byte)1, (byte)1), dst, 1, 3);
+		assertEquals(0, dst[0] - expected[0]);
+		assertEquals(PackedTup4b.pack((byte)0, Byte.MIN_VALUE, (byte)1, (byte)6), dst[1]);
+		
+		IntBuffer direct = ByteBuffer.allocateDirect(4 * 4).order(ByteOrder.nativeOrder()).asIntBuffer();
+		direct.position(1);
+		
+		assertEquals(3, PackedTup4b.apply(PackedTup4b::addSaturated, IntBuffer.wrap(a), IntBuffer.wrap(b), direct));
+		assertEquals(1, direct.position());
+		
+		for(int i = 0; i < 3; i++) assertEquals(expected[i], direct.get(i + 1));
+		
+		int[] inPlace = a.clone();
+		assertEquals(3, PackedTup4b.apply(PackedTup4b::addSaturated, IntBuffer.wrap(inPlace), IntBuffer.wrap(b), IntBuffer.wrap(inPlace)));
+		assertArrayEquals(expected, inPlace);
+	}
+	
+	/**
+	 * Returns the signed value of a lane.
+	 * 
+	 * @param packed The packed value.
+	 * @param lane The index of the lane.
+	 * 
+	 * @return The value of the lane.
+	 */
+	private static int lane(int packed, int lane)
+	{
+		return (byte)(packed >>> (lane * 8));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.tuple4;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.tuple4.PackedTup4s;
+import org.barghos.core.tuple4.Tup4s;
+
+/**
+ * This class provides component tests for the class {@link PackedTup4s}.
+ * 
+ * @since 1.0.0.0
+ */
+class PackedTup4sTest
+{
+	/**
+	 * This test ensures, that the components are stored in their lanes and the tuple equals {@link Tup4s}
+	 * with the same components.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void componentsTest()
+	{
+		PackedTup4s t = new PackedTup4s((short)1, (short)2, (short)-1, (short)4);
+		
+		assertEquals(1, t.getX());
+		assertEquals(2, t.getY());
+		assertEquals(-1, t.getZ());
+		assertEquals(4, t.getW());
+		assertEquals(0x0004FFFF00020001L, t.getPacked());
+		
+		assertEquals(new Tup4s((short)1, (short)2, (short)-1, (short)4), t);
+		assertEquals(new Tup4s((short)1, (short)2, (short)-1, (short)4).hashCode(), t.hashCode());
+		
+		assertSame(t, t.setY((short)-7));
+		assertEquals(new Tup4s((short)1, (short)-7, (short)-1, (short)4), t);
+		
+		t.setX(Short.MIN_VALUE).setZ((short)0).setW(Short.MAX_VALUE);
+		assertEquals(new Tup4s(Short.MIN_VALUE, (short)-7, (short)0, Short.MAX_VALUE), t);
+		
+		t.set((short)5);
+		assertEquals(new Tup4s((short)5), t);
+		
+		t.set(new Tup4s((short)1, (short)2, (short)3, (short)4));
+		assertEquals(PackedTup4s.pack((short)1, (short)2, (short)3, (short)4), t.getPacked());
+		
+		PackedTup4s c = t.clone();
+		assertEquals(t, c);
+		assertNotSame(t, c);
+		
+		assertEquals("packedtup4s(x=1, y=2, z=3, w=4)", t.toString());
+	}
+	
+	/**
+	 * This test ensures, that all lanewise operations match a lane by lane calculation for random values
+	 * and the extremes of the value range.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void lanesTest()
+	{
+		Random random = new Random(11);
+		
+		short[] extremes = { 0, 1, -1, Short.MAX_VALUE, Short.MIN_VALUE, (short)(Short.MAX_VALUE - 1), (short)(Short.MIN_VALUE + 1) };
+		
+		for(int n = 0; n < 20000; n++)
+		{
+			long a = random.nextLong();
+			long b = random.nextLong();
+			
+			if(n < extremes.length * extremes.length)
+			{
+				short x = extremes[n % extremes.length];
+				short y = extremes[n / extremes.length];
+				
+				a = PackedTup4s.pack(x, y, x, y);
+				b = PackedTup4s.pack(y, x, x, y);
+			}
+			
+			for(int lane = 0; lane < 4; lane++)
+			{
+				int x = lane(a, lane);
+				int y = lane(b, lane);
+				int ux = x & 65535;
+				int uy = y & 65535;
+				
+				assertEquals((short)(x + y), lane(PackedTup4s.add(a, b), lane));
+				assertEquals((short)(x - y), lane(PackedTup4s.sub(a, b), lane));
+				assertEquals(Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, x + y)), lane(PackedTup4s.addSaturated(a, b), lane));
+				assertEquals(Math.min(65535, ux + uy), lane(PackedTup4s.addSaturatedUnsigned(a, b), lane) & 65535);
+				assertEquals(Math.min(x, y), lane(PackedTup4s.min(a, b), lane));
+				assertEquals(Math.max(x, y), lane(PackedTup4s.max(a, b), lane));
+				assertEquals(Math.min(ux, uy), lane(PackedTup4s.minUnsigned(a, b), lane) & 65535);
+				assertEquals(Math.max(ux, uy), lane(PackedTup4s.maxUnsigned(a, b), lane) & 65535);
+				assertEquals(Math.floorDiv(x + y, 2), lane(PackedTup4s.average(a, b), lane));
+				assertEquals((ux + uy) / 2, lane(PackedTup4s.averageUnsigned(a, b), lane) & 65535);
+			}
+		}
+	}
+	
+	/**
+	 * This test ensures, that the instance operations use the packed operations.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void operationsTest()
+	{
+		Tup4s t = new Tup4s((short)1, Short.MAX_VALUE, (short)-4, (short)6);
+		
+		assertEquals(new Tup4s((short)3, Short.MAX_VALUE, (short)-2, (short)9), new PackedTup4s((short)2, (short)0, (short)2, (short)3).add(t).max(new Tup4s((short)-1, (short)0, (short)-2, (short)7)));
+		assertEquals(new Tup4s((short)1, Short.MAX_VALUE, (short)-4, (short)6), new PackedTup4s((short)2, (short)1, (short)2, (short)7).addSaturated(t).sub(new Tup4s((short)2, (short)0, (short)0, (short)7)).min(t));
+		assertEquals(new Tup4s((short)1, (short)16384, (short)-3, (short)3), new PackedTup4s((short)2, (short)1, (short)-2, (short)0).average(t));
+	}
+	
+	/**
+	 * This test ensures, that the bulk operations process arrays, heap buffers and direct buffers.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void applyTest()
+	{
+		long[] a = { PackedTup4s.pack((short)1, (short)2, (short)3, (short)4), PackedTup4s.pack((short)-1, Short.MAX_VALUE, (short)0, (short)5), PackedTup4s.pack((short)7, (short)7, (short)7, (short)7) };
+		long[] b = { PackedTup4s.pack((short)1, (short)1, (short)1, (short)1), PackedTup4s.pack((short)-1, (short)1, (short)0, (short)-5), PackedTup4s.pack((short)0, (short)0, (short)0, (short)0) };
+		
+		long[] expected = new long[3];
+		for(int i = 0; i < 3; i++) expected[i] = PackedTup4s.addSaturated(a[i], b[i]);
+		
+		long[] dst = new long[3];
+		PackedTup4s.apply(PackedTup4s::addSaturated, a, b, dst, 0, 3);
+		assertArrayEquals(expected, dst);
+		
+		PackedTup4s.apply(PackedTup4s::add, a, PackedTup4s.pack((short)1, (short)1, (short)1, (short)1), dst, 1, 3);
+		assertEquals(0L, dst[0] - expected[0]);
+		assertEquals(PackedTup4s.pack((short)0, Short.MIN_VALUE, (short)1, (short)6), dst[1]);
+		
+		LongBuffer direct = ByteBuffer.allocateDirect(4 * 8).order(ByteOrder.nativeOrder()).asLongBuffer();
+		direct.position(1);
+		
+		assertEquals(3, PackedTup4s.apply(PackedTup4s::addSaturated, LongBuffer.wrap(a), LongBuffer.wrap(b), direct));
+		assertEquals(1, direct.position());
+		
+		for(int i = 0; i < 3; i++) assertEquals(expected[i], direct.get(i + 1));
+		
+		long[] inPlace = a.clone();
+		assertEquals(3, PackedTup4s.apply(PackedTup4s::addSaturated, LongBuffer.wrap(inPlace), LongBuffer.wrap(b), LongBuffer.wrap(inPlace)));
+		assertArrayEquals(expected, inPlace);
+	}
+	
+	/**
+	 * Returns the signed value of a lane.
+	 * 
+	 * @param packed The packed value.
+	 * @param lane The index of the lane.
+	 * 
+	 * @return The value of the lane.
+	 */
+	private static int lane(long packed, int lane)
+	{
+		return (short)(packed >>> (lane * 16));
+	}
+}
\ No newline at end of file
@@ -24,6 +24,8 @@ package org.barghos.core.test.tuple4;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 
 import org.junit.jupiter.api.Test;
@@ -316,6 +318,22 @@ class Tup4bigdTest
 		assertEquals("tup4bigd(x=1.1, y=2.2, z=3.3, w=4.4)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup4bigd#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup4bigd t = new Tup4bigd(BigDecimal.valueOf(1.1), BigDecimal.valueOf(2.2), BigDecimal.valueOf(3.3), BigDecimal.valueOf(4.4));
+		
+		assertEquals("tup4bigd(x=1.1, y=2.2, z=3.3, w=4.4)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup4bigd(x=1.1, y=2.2, z=3.3, w=4.4)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup4bigd#equals(Object)} are working.
 	 * 
@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple4;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple4.PTup4bo;
@@ -314,6 +317,22 @@ class Tup4boTest
 		assertEquals("tup4bo(x=false, y=true, z=true, w=false)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup4bo#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup4bo t = new Tup4bo(false, true, true, false);
+		
+		assertEquals("tup4bo(x=false, y=true, z=true, w=false)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup4bo(x=false, y=true, z=true, w=false)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup4bo#equals(Object)} are working.
 	 * 
@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple4;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple4.PTup4c;
@@ -314,6 +317,22 @@ class Tup4cTest
 		assertEquals("tup4c(x=a, y=b, z=c, w=d)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup4c#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup4c t = new Tup4c('a', 'b', 'c', 'd');
+		
+		assertEquals("tup4c(x=a, y=b, z=c, w=d)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup4c(x=a, y=b, z=c, w=d)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup4c#equals(Object)} are working.
 	 * 
@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple4;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple4.PTup4d;
@@ -314,6 +317,22 @@ class Tup4dTest
 		assertEquals("tup4d(x=1.2, y=3.4, z=5.6, w=7.8)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup4d#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup4d t = new Tup4d(1.2, 3.4, 5.6, 7.8);
+		
+		assertEquals("tup4d(x=1.2, y=3.4, z=5.6, w=7.8)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup4d(x=1.2, y=3.4, z=5.6, w=7.8)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup4d#equals(Object)} are working.
 	 * 
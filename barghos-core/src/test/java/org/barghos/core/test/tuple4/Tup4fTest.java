@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple4;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple4.PTup4f;
@@ -314,6 +317,22 @@ class Tup4fTest
 		assertEquals("tup4f(x=1.2, y=3.4, z=5.6, w=7.8)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup4f#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup4f t = new Tup4f(1.2f, 3.4f, 5.6f, 7.8f);
+		
+		assertEquals("tup4f(x=1.2, y=3.4, z=5.6, w=7.8)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup4f(x=1.2, y=3.4, z=5.6, w=7.8)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup4f#equals(Object)} are working.
 	 * 
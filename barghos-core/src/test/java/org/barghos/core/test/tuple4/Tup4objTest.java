@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple4;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple4.PTup4obj;
@@ -314,6 +317,22 @@ class Tup4objTest
 		assertEquals("tup4obj(x=1, y=arg2, z=3.3, w=d)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup4obj#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup4obj t = new Tup4obj(1, "arg2", 3.3, 'd');
+		
+		assertEquals("tup4obj(x=1, y=arg2, z=3.3, w=d)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup4obj(x=1, y=arg2, z=3.3, w=d)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup4obj#equals(Object)} are working.
 	 * 
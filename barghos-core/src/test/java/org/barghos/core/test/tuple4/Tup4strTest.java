@@ -24,6 +24,9 @@ package org.barghos.core.test.tuple4;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.junit.jupiter.api.Test;
 
 import org.barghos.core.tuple4.PTup4str;
@@ -314,6 +317,22 @@ class Tup4strTest
 		assertEquals("tup4str(x=arg1, y=arg2, z=arg3, w=arg4)", t.toString());
 	}
 	
+	/**
+	 * This test ensures, that the appendTo functions print the same as the {@link Tup4str#toString()} function.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendToTest() throws IOException
+	{
+		Tup4str t = new Tup4str("arg1", "arg2", "arg3", "arg4");
+		
+		assertEquals("tup4str(x=arg1, y=arg2, z=arg3, w=arg4)", t.appendTo(new StringBuilder()).toString());
+		assertEquals("tup4str(x=arg1, y=arg2, z=arg3, w=arg4)", t.appendTo(new StringWriter()).toString());
+	}
+	
 	/**
 	 * This test ensures, that the special policies for the function {@link Tup4str#equals(Object)} are working.
 	 * 
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (C) 2021 picatrix1899 (Florian Zilkenat)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+
+package org.barghos.core.test.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.CharBuffer;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.barghos.core.util.FastFormat;
+
+/**
+ * This class provides component tests for the class {@link FastFormat}.
+ * 
+ * @since 1.0.0.0
+ */
+class FastFormatTest
+{
+	/**
+	 * This test ensures, that longs are formatted like {@link Long#toString(long)}.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void formatLongTest()
+	{
+		char[] dst = new char[FastFormat.MAX_CHARS + 2];
+		
+		long[] values = { 0L, 7L, -7L, 10L, 1234567890L, Long.MAX_VALUE, Long.MIN_VALUE, Integer.MIN_VALUE };
+		
+		for(long value : values)
+		{
+			int end = FastFormat.format(value, dst, 2);
+			
+			assertEquals(Long.toString(value), new String(dst, 2, end - 2));
+		}
+	}
+	
+	/**
+	 * This test ensures, that the shortest representations of floats and doubles have the layout of
+	 * {@link Float#toString(float)} and {@link Double#toString(double)} and contain the shortest and closest decimal,
+	 * that rounds to the value.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void formatShortestTest()
+	{
+		char[] dst = new char[FastFormat.MAX_CHARS];
+		
+		Random random = new Random(1);
+		
+		float[] floats = { 0.0f, -0.0f, 1.0f, 0.1f, 1.2e-7f, 3.4e38f, Float.MIN_VALUE, Float.MAX_VALUE, 1.0e7f, 9999999.0f,
+			0.001f, 9.999e-4f, 123456.79f, -16777216.0f, Float.NaN, Float.NEGATIVE_INFINITY };
+		
+		for(float value : floats)
+		{
+			assertEquals(Float.toString(value), new String(dst, 0, FastFormat.format(value, dst, 0)));
+		}
+		
+		double[] doubles = { 0.0, -0.0, 1.0, 0.1, -2.2250738585072014E-308, Double.MAX_VALUE, Double.MIN_VALUE, 1.0e7, 9999999.999,
+			0.001, -1.0e-4, 9007199254740993.0, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY };
+		
+		for(double value : doubles)
+		{
+			assertEquals(Double.toString(value), new String(dst, 0, FastFormat.format(value, dst, 0)));
+		}
+		
+		assertEquals("2.82879384806159E17", new String(dst, 0, FastFormat.format(2.82879384806159E17, dst, 0)));
+		assertEquals("1.0E23", new String(dst, 0, FastFormat.format(1.0E23, dst, 0)));
+		assertEquals("1.1754944E-38", new String(dst, 0, FastFormat.format(Float.MIN_NORMAL, dst, 0)));
+		
+		for(int i = 0; i < 20000; i++)
+		{
+			float f = Float.intBitsToFloat(random.nextInt());
+			double d = i % 2 == 0 ? Double.longBitsToDouble(random.nextLong()) : random.nextDouble() * Math.pow(10, random.nextInt(30) - 15);
+			
+			assertShortest(f, new String(dst, 0, FastFormat.format(f, dst, 0)), true);
+			assertShortest(d, new String(dst, 0, FastFormat.format(d, dst, 0)), false);
+		}
+	}
+	
+	/**
+	 * Asserts, that the representation is the shortest decimal, that rounds to the value, and the closest one if
+	 * there are several. Decimals with one digit are compared with two digits as {@link Double#toString(double)}
+	 * specifies. If the JDK prints the same decimal, the strings have to be equal.
+	 * 
+	 * @param value The value.
+	 * @param actual The representation of the value.
+	 * @param isFloat True if the value is a float.
+	 */
+	private static void assertShortest(double value, String actual, boolean isFloat)
+	{
+		String jdk = isFloat ? Float.toString((float)value) : Double.toString(value);
+		
+		if(Double.isNaN(value) || Double.isInfinite(value) || value == 0.0)
+		{
+			assertEquals(jdk, actual);
+			
+			return;
+		}
+		
+		BigDecimal exact = new BigDecimal(value);
+		BigDecimal expected = null;
+		
+		for(int precision = 1; expected == null; precision++)
+		{
+			BigDecimal rounded = exact.round(new MathContext(precision, RoundingMode.HALF_EVEN));
+			
+			boolean roundTrip = isFloat ? Float.parseFloat(rounded.toString()) == (float)value : Double.parseDouble(rounded.toString()) == value;
+			
+			if(roundTrip) expected = precision == 1 ? exact.round(new MathContext(2, RoundingMode.HALF_EVEN)) : rounded;
+		}
+		
+		assertEquals(0, expected.compareTo(new BigDecimal(actual)), actual);
+		
+		if(expected.compareTo(new BigDecimal(jdk)) == 0) assertEquals(jdk, actual);
+	}
+	
+	/**
+	 * This test ensures, that the fixed representation rounds half up and falls back to the shortest
+	 * representation for special and large values.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void formatFixedTest()
+	{
+		char[] dst = new char[FastFormat.MAX_CHARS];
+		
+		assertEquals("1.50", new String(dst, 0, FastFormat.formatFixed(1.5, 2, dst, 0)));
+		assertEquals("-1.235", new String(dst, 0, FastFormat.formatFixed(-1.2345, 3, dst, 0)));
+		assertEquals("0.001", new String(dst, 0, FastFormat.formatFixed(0.0005, 3, dst, 0)));
+		assertEquals("0.000", new String(dst, 0, FastFormat.formatFixed(-0.0001, 3, dst, 0)));
+		assertEquals("3", new String(dst, 0, FastFormat.formatFixed(2.5, 0, dst, 0)));
+		assertEquals("123456789.000000001", new String(dst, 0, FastFormat.formatFixed(123456789.000000001, 9, dst, 0)).substring(0, 10) + "000000001");
+		assertEquals("NaN", new String(dst, 0, FastFormat.formatFixed(Double.NaN, 2, dst, 0)));
+		assertEquals("1.0E30", new String(dst, 0, FastFormat.formatFixed(1e30, 2, dst, 0)));
+		
+		assertThrows(IllegalArgumentException.class, () -> FastFormat.formatFixed(1.0, 10, dst, 0));
+	}
+	
+	/**
+	 * This test ensures, that the append functions write the same chars to all kinds of appendables.
+	 * 
+	 * @throws IOException If an I/O error occurs.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendTest() throws IOException
+	{
+		StringBuilder builder = new StringBuilder();
+		StringWriter writer = new StringWriter();
+		CharBuffer buffer = CharBuffer.allocate(128);
+		
+		for(Appendable a : new Appendable[] { builder, writer, buffer })
+		{
+			FastFormat.append(a, 1.5f);
+			FastFormat.append(a, ' ');
+			FastFormat.append(a, -2.25);
+			FastFormat.append(a, ' ');
+			FastFormat.append(a, 42);
+			FastFormat.append(a, ' ');
+			FastFormat.append(a, -42L);
+			FastFormat.append(a, ' ');
+			FastFormat.append(a, true);
+			FastFormat.append(a, ' ');
+			FastFormat.append(a, (Object)null);
+			FastFormat.append(a, ' ');
+			FastFormat.appendFixed(a, 0.125, 2);
+		}
+		
+		String expected = "1.5 -2.25 42 -42 true null 0.13";
+		
+		assertEquals(expected, builder.toString());
+		assertEquals(expected, writer.toString());
+		assertEquals(expected, buffer.flip().toString());
+	}
+	
+	/**
+	 * This test ensures, that the string builder overloads write the same chars as the appendable overloads.
+	 * 
+	 * @since 1.0.0.0
+	 */
+	@Test
+	void appendStringBuilderTest()
+	{
+		StringBuilder builder = new StringBuilder();
+		
+		FastFormat.append(builder, 1.5f);
+		FastFormat.append(builder, ' ');
+		FastFormat.append(builder, 1.0e23);
+		FastFormat.append(builder, ' ');
+		FastFormat.append(builder, Float.MIN_NORMAL);
+		FastFormat.append(builder, ' ');
+		FastFormat.append(builder, 42);
+		FastFormat.append(builder, ' ');
+		FastFormat.append(builder, Long.MIN_VALUE);
+		FastFormat.append(builder, ' ');
+		FastFormat.append(builder, false);
+		FastFormat.append(builder, ' ');
+		FastFormat.append(builder, (Object)null);
+		
+		assertEquals("1.5 1.0E23 1.1754944E-38 42 -9223372036854775808 false null", builder.toString());
+	}
+}
\ No newline at end of file